@@ -0,0 +1,102 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cache.chm.AsyncReadCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page loads and releases of {@link AsyncReadCache} over a write cache which does no I/O. The cache holds {@link #CACHE_PAGES}
+ * pages, the accessed pages are uniformly distributed over {@link #pagesCount} pages, so smaller page counts measure hits only and
+ * bigger ones measure eviction too.
+ *
+ * @since 19.10.26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncReadCacheBenchmark {
+  private static final int PAGE_SIZE   = 4 * 1024;
+  private static final int CACHE_PAGES = 32 * 1024;
+  private static final int FILES       = 8;
+
+  @Param({ "16384", "131072" })
+  public int pagesCount;
+
+  private OByteBufferPool byteBufferPool;
+  private AsyncReadCache  readCache;
+  private OWriteCache     writeCache;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    byteBufferPool = new OByteBufferPool(PAGE_SIZE, new ODirectMemoryAllocator(), 256);
+    readCache = new AsyncReadCache(byteBufferPool, (long) CACHE_PAGES * PAGE_SIZE, PAGE_SIZE, true);
+    writeCache = new ONoDiskWriteCache(byteBufferPool);
+
+    for (int i = 0; i < Math.min(pagesCount, CACHE_PAGES); i++)
+      readCache.releaseFromRead(readCache.loadForRead(i % FILES, i / FILES, true, writeCache, 1, true), writeCache);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    readCache.clear();
+    byteBufferPool.clear();
+  }
+
+  @Benchmark
+  public OCacheEntry loadForRead() {
+    final int page = ThreadLocalRandom.current().nextInt(pagesCount);
+    final OCacheEntry cacheEntry = readCache.loadForRead(page % FILES, page / FILES, true, writeCache, 1, true);
+    readCache.releaseFromRead(cacheEntry, writeCache);
+    return cacheEntry;
+  }
+
+  @Benchmark
+  public OCacheEntry loadForWrite() {
+    final int page = ThreadLocalRandom.current().nextInt(pagesCount);
+    final OCacheEntry cacheEntry = readCache.loadForWrite(page % FILES, page / FILES, true, writeCache, 1, true, null);
+    readCache.releaseFromWrite(cacheEntry, writeCache);
+    return cacheEntry;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Entry point of the benchmarks jar. It accepts the usual JMH command line options, but unless <code>-t</code> is passed every
+ * selected benchmark is run once for each thread count listed in the <code>orientdb.benchmark.threads</code> system property
+ * (<code>1,4</code> by default). Results of all the runs are written into a single file, in JSON format and in
+ * <code>jmh-result.json</code> unless <code>-rf</code> and <code>-rff</code> say otherwise, so they can be compared between
+ * builds by tools.
+ * <p>
+ * Usage: <code>java -Dorientdb.benchmark.threads=1,8 -jar benchmarks/target/benchmarks.jar OCellBTreeSingleValueBenchmark</code>
+ *
+ * @since 19.10.26
+ */
+public final class OBenchmarkRunner {
+  public static final String THREADS_PROPERTY = "orientdb.benchmark.threads";
+
+  private OBenchmarkRunner() {
+  }
+
+  public static void main(final String[] args) throws RunnerException, CommandLineOptionException, IOException {
+    final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() || commandLineOptions.shouldListWithParams()
+        || commandLineOptions.shouldListProfilers() || commandLineOptions.shouldListResultFormats()) {
+      org.openjdk.jmh.Main.main(args);
+      return;
+    }
+
+    final ResultFormatType format = commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON);
+    final String resultFile = commandLineOptions.getResult().orElse("jmh-result." + format.toString().toLowerCase(Locale.ENGLISH));
+
+    final List<RunResult> results = new ArrayList<>();
+    for (int threads : threads(commandLineOptions)) {
+      final Options options = new OptionsBuilder().parent(commandLineOptions).threads(threads).resultFormat(format)
+          .result(resultFile).build();
+      results.addAll(new Runner(options).run());
+    }
+
+    // EVERY RUN OVERWRITES THE FILE, SO IT IS WRITTEN AGAIN WITH THE RESULTS OF ALL THE RUNS
+    ResultFormatFactory.getInstance(format, resultFile).writeOut(results);
+  }
+
+  private static int[] threads(final CommandLineOptions commandLineOptions) {
+    if (commandLineOptions.getThreads().hasValue())
+      return new int[] { commandLineOptions.getThreads().get() };
+
+    final String[] values = System.getProperty(THREADS_PROPERTY, "1,4").split(",");
+    final int[] threads = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      threads[i] = Integer.parseInt(values[i].trim());
+      if (threads[i] <= 0)
+        throw new IllegalArgumentException("Invalid thread count '" + values[i] + "' in " + THREADS_PROPERTY);
+    }
+    return threads;
+  }
+}
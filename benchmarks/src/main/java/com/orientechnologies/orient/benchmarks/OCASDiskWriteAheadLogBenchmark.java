@@ -0,0 +1,154 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAbstractWALRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OCASDiskWriteAheadLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends of records of {@link #recordSize} bytes to {@link OCASDiskWriteAheadLog}, configured as plocal storages configure it.
+ * Segments written during an iteration are removed after it, so the log does not fill the disk.
+ *
+ * @since 19.10.26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OCASDiskWriteAheadLogBenchmark {
+  private static final int SEGMENT_SIZE = 128 * 1024 * 1024;
+
+  @Param({ "32", "512", "4096" })
+  public int recordSize;
+
+  private File                  walDirectory;
+  private OCASDiskWriteAheadLog writeAheadLog;
+  private byte[]                data;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    walDirectory = Files.createTempDirectory("orientdb-benchmark").toFile();
+    writeAheadLog = new OCASDiskWriteAheadLog("walBenchmark", walDirectory.toPath(), walDirectory.toPath(),
+        OGlobalConfiguration.WAL_CACHE_SIZE.getValueAsInteger(), OGlobalConfiguration.WAL_BUFFER_SIZE.getValueAsInteger(),
+        OGlobalConfiguration.WAL_SEGMENTS_INTERVAL.getValueAsLong() * 60 * 1_000_000_000L, SEGMENT_SIZE, 10, true, Locale.US, -1,
+        -1, OGlobalConfiguration.WAL_COMMIT_TIMEOUT.getValueAsInteger(), OGlobalConfiguration.WAL_ALLOW_DIRECT_IO.getValueAsBoolean(),
+        OGlobalConfiguration.STORAGE_CALL_FSYNC.getValueAsBoolean(), false, 10);
+
+    data = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(data);
+  }
+
+  @TearDown(Level.Iteration)
+  public void cut() throws IOException {
+    writeAheadLog.flush();
+    writeAheadLog.cutTill(writeAheadLog.end());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    writeAheadLog.delete();
+    OFileUtils.deleteRecursively(walDirectory);
+  }
+
+  @Benchmark
+  public OLogSequenceNumber log() throws IOException {
+    return writeAheadLog.log(new BenchmarkRecord(data));
+  }
+
+  /**
+   * Record of opaque content, it is only written so it is not registered in the factory of WAL records.
+   */
+  private static final class BenchmarkRecord extends OAbstractWALRecord {
+    private byte[] data;
+
+    private BenchmarkRecord(final byte[] data) {
+      this.data = data;
+    }
+
+    @Override
+    public int toStream(final byte[] content, int offset) {
+      OIntegerSerializer.INSTANCE.serializeNative(data.length, content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      System.arraycopy(data, 0, content, offset, data.length);
+      return offset + data.length;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(data.length);
+      buffer.put(data);
+    }
+
+    @Override
+    public int fromStream(final byte[] content, int offset) {
+      final int length = OIntegerSerializer.INSTANCE.deserializeNative(content, offset);
+      offset += OIntegerSerializer.INT_SIZE;
+
+      data = new byte[length];
+      System.arraycopy(content, offset, data, 0, length);
+      return offset + length;
+    }
+
+    @Override
+    public int serializedSize() {
+      return data.length + OIntegerSerializer.INT_SIZE;
+    }
+
+    @Override
+    public boolean isUpdateMasterRecord() {
+      return false;
+    }
+
+    @Override
+    public byte getId() {
+      return (byte) 128;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OUTF8Serializer;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point lookups and inserts of {@link OCellBTreeSingleValue} on a plocal storage, for trees of {@link #keysCount} keys.
+ *
+ * @since 19.10.26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OCellBTreeSingleValueBenchmark {
+  private static final String DB_NAME = "cellBTreeBenchmark";
+
+  @Param({ "100000", "1000000" })
+  public int keysCount;
+
+  private File                          buildDirectory;
+  private OrientDB                      orientDB;
+  private ODatabaseSession              session;
+  private OCellBTreeSingleValue<String> tree;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    buildDirectory = Files.createTempDirectory("orientdb-benchmark").toFile();
+    orientDB = new OrientDB("plocal:" + buildDirectory.getAbsolutePath(), OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.PLOCAL);
+    session = orientDB.open(DB_NAME, "admin", "admin");
+
+    tree = new OCellBTreeSingleValue<>("benchmarkTree", ".sbt", ".nbt",
+        (OAbstractPaginatedStorage) ((ODatabaseInternal) session).getStorage());
+    tree.create(OUTF8Serializer.INSTANCE, null, 1, null);
+
+    for (int i = 0; i < keysCount; i++)
+      tree.put(Integer.toString(i), new ORecordId(i % 32000, i));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    session.activateOnCurrentThread();
+    session.close();
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+    OFileUtils.deleteRecursively(buildDirectory);
+  }
+
+  @Benchmark
+  public ORID get() {
+    return tree.get(Integer.toString(ThreadLocalRandom.current().nextInt(keysCount)));
+  }
+
+  /**
+   * Keys are drawn from twice the initial key range, so puts both update existing keys and insert new ones.
+   */
+  @Benchmark
+  public void put() throws IOException {
+    final int key = ThreadLocalRandom.current().nextInt(2 * keysCount);
+    tree.put(Integer.toString(key), new ORecordId(key % 32000, key));
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
+import com.orientechnologies.orient.core.storage.impl.local.OLowDiskSpaceListener;
+import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Write cache which does not store anything, pages are loaded as fresh zeroed buffers of the pool. It isolates the read cache
+ * from the disk in {@link AsyncReadCacheBenchmark}.
+ *
+ * @since 19.10.26
+ */
+final class ONoDiskWriteCache implements OWriteCache {
+  private final OByteBufferPool byteBufferPool;
+
+  ONoDiskWriteCache(final OByteBufferPool byteBufferPool) {
+    this.byteBufferPool = byteBufferPool;
+  }
+
+  @Override
+  public void addPageIsBrokenListener(final OPageIsBrokenListener listener) {
+  }
+
+  @Override
+  public void removePageIsBrokenListener(final OPageIsBrokenListener listener) {
+  }
+
+  @Override
+  public void addLowDiskSpaceListener(final OLowDiskSpaceListener listener) {
+  }
+
+  @Override
+  public void removeLowDiskSpaceListener(final OLowDiskSpaceListener listener) {
+  }
+
+  @Override
+  public long bookFileId(final String fileName) {
+    return 0;
+  }
+
+  @Override
+  public long loadFile(final String fileName) {
+    return 0;
+  }
+
+  @Override
+  public long addFile(final String fileName) {
+    return 0;
+  }
+
+  @Override
+  public long addFile(final String fileName, final long fileId) {
+    return 0;
+  }
+
+  @Override
+  public long fileIdByName(final String fileName) {
+    return 0;
+  }
+
+  @Override
+  public boolean checkLowDiskSpace() {
+    return false;
+  }
+
+  @Override
+  public void makeFuzzyCheckpoint(final long segmentId) {
+  }
+
+  @Override
+  public void flushTillSegment(final long segmentId) {
+  }
+
+  @Override
+  public boolean exists(final String fileName) {
+    return false;
+  }
+
+  @Override
+  public boolean exists(final long fileId) {
+    return false;
+  }
+
+  @Override
+  public void store(final long fileId, final long pageIndex, final OCachePointer dataPointer) {
+  }
+
+  @Override
+  public void checkCacheOverflow() {
+
+  }
+
+  @Override
+  public int allocateNewPage(final long fileId) {
+    return 0;
+  }
+
+  @Override
+  public OCachePointer[] load(final long fileId, final long startPageIndex, final int pageCount,
+      final OModifiableBoolean cacheHit, final boolean verifyChecksums) {
+    final OPointer pointer = byteBufferPool.acquireDirect(true);
+    final OCachePointer cachePointer = new OCachePointer(pointer, byteBufferPool, fileId, startPageIndex);
+    cachePointer.incrementReadersReferrer();
+    return new OCachePointer[] { cachePointer };
+  }
+
+  @Override
+  public void flush(final long fileId) {
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public long getFilledUpTo(final long fileId) {
+    return 0;
+  }
+
+  @Override
+  public long getExclusiveWriteCachePagesSize() {
+    return 0;
+  }
+
+  @Override
+  public void deleteFile(final long fileId) {
+  }
+
+  @Override
+  public void truncateFile(final long fileId) {
+  }
+
+  @Override
+  public void renameFile(final long fileId, final String newFileName) {
+  }
+
+  @Override
+  public void replaceFileContentWith(final long fileId, final Path newContentFile) {
+  }
+
+  @Override
+  public long[] close() {
+    return new long[0];
+  }
+
+  @Override
+  public void close(final long fileId, final boolean flush) {
+  }
+
+  @Override
+  public OPageDataVerificationError[] checkStoredPages(final OCommandOutputListener commandOutputListener) {
+    return new OPageDataVerificationError[0];
+  }
+
+  @Override
+  public long[] delete() {
+    return new long[0];
+  }
+
+  @Override
+  public String fileNameById(final long fileId) {
+    return null;
+  }
+
+  @Override
+  public String nativeFileNameById(final long fileId) {
+    return null;
+  }
+
+  @Override
+  public int getId() {
+    return 0;
+  }
+
+  @Override
+  public Map<String, Long> files() {
+    return null;
+  }
+
+  @Override
+  public int pageSize() {
+    return 0;
+  }
+
+  @Override
+  public boolean fileIdsAreEqual(final long firsId, final long secondId) {
+    return false;
+  }
+
+  @Override
+  public String restoreFileById(final long fileId) {
+    return null;
+  }
+
+  @Override
+  public void addBackgroundExceptionListener(final OBackgroundExceptionListener listener) {
+  }
+
+  @Override
+  public void removeBackgroundExceptionListener(final OBackgroundExceptionListener listener) {
+  }
+
+  @Override
+  public Path getRootDirectory() {
+    return null;
+  }
+
+  @Override
+  public int internalFileId(final long fileId) {
+    return 0;
+  }
+
+  @Override
+  public long externalFileId(final int fileId) {
+    return 0;
+  }
+
+  @Override
+  public Long getMinimalNotFlushedSegment() {
+    return null;
+  }
+
+  @Override
+  public void updateDirtyPagesTable(final OCachePointer pointer, final OLogSequenceNumber startLSN) {
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization of documents of {@link #fieldsCount} fields with {@link ORecordSerializerBinary}, in its
+ * current version ({@link com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinaryV1}).
+ * Fields are strings, integers, longs, doubles, dates and embedded lists in turn.
+ *
+ * @since 19.10.26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ORecordSerializerBinaryBenchmark {
+  private static final String DB_NAME = "serializerBenchmark";
+
+  @Param({ "10", "100" })
+  public int fieldsCount;
+
+  private OrientDB orientDB;
+
+  /**
+   * Documents are serialized in the context of a database, sessions are bound to the thread so every benchmark thread opens its
+   * own one.
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    private ODatabaseSession session;
+    private ODocument        document;
+    private byte[]           content;
+    private String           lastField;
+
+    @Setup(Level.Trial)
+    public void setup(final ORecordSerializerBinaryBenchmark benchmark) {
+      session = benchmark.orientDB.open(DB_NAME, "admin", "admin");
+
+      document = new ODocument();
+      for (int i = 0; i < benchmark.fieldsCount; i++)
+        document.field("field" + i, value(i));
+      content = ORecordSerializerBinary.INSTANCE.toStream(document, false);
+      lastField = "field" + (benchmark.fieldsCount - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      session.activateOnCurrentThread();
+      session.close();
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    orientDB = new OrientDB("memory:", OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.MEMORY);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+  }
+
+  @Benchmark
+  public byte[] serialize(final ThreadState state) {
+    return ORecordSerializerBinary.INSTANCE.toStream(state.document, false);
+  }
+
+  @Benchmark
+  public ODocument deserialize(final ThreadState state) {
+    final ODocument document = new ODocument();
+    ORecordSerializerBinary.INSTANCE.fromStream(state.content, document, null);
+    return document;
+  }
+
+  /**
+   * Deserializes only the last field, which is the worst case of the field lookup.
+   */
+  @Benchmark
+  public ODocument deserializePartial(final ThreadState state) {
+    final ODocument document = new ODocument();
+    ORecordSerializerBinary.INSTANCE.fromStream(state.content, document, new String[] { state.lastField });
+    return document;
+  }
+
+  @Benchmark
+  public Object deserializeField(final ThreadState state) {
+    return ORecordSerializerBinary.INSTANCE.deserializeFieldFromRoot(state.content, state.lastField);
+  }
+
+  private static Object value(final int i) {
+    switch (i % 6) {
+    case 0:
+      return "value of field " + i;
+    case 1:
+      return i;
+    case 2:
+      return (long) i << 32;
+    case 3:
+      return i / 3.0;
+    case 4:
+      return new Date(1_500_000_000_000L + i);
+    default:
+      final List<Object> list = new ArrayList<>();
+      for (int j = 0; j < 8; j++)
+        list.add("item " + j);
+      return list;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.benchmarks;
+
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import com.orientechnologies.orient.core.sql.parser.OrientSql;
+import com.orientechnologies.orient.core.sql.parser.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and planning of SELECT statements by {@link com.orientechnologies.orient.core.sql.executor.OSelectExecutionPlanner},
+ * without the statement and execution plan caches. Plans are built against a class of {@link #recordsCount} records, as the
+ * planner looks at index and class sizes.
+ *
+ * @since 19.10.26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OSelectExecutionPlannerBenchmark {
+  private static final String DB_NAME = "plannerBenchmark";
+
+  @Param({ "filter", "index", "orderBy", "groupBy" })
+  public String query;
+
+  @Param({ "1000" })
+  public int recordsCount;
+
+  private OrientDB orientDB;
+
+  /**
+   * Planning needs the database bound to the thread, so every benchmark thread opens its own session.
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    private ODatabaseSession session;
+    private byte[]           text;
+    private OSelectStatement statement;
+
+    @Setup(Level.Trial)
+    public void setup(final OSelectExecutionPlannerBenchmark benchmark) throws ParseException {
+      session = benchmark.orientDB.open(DB_NAME, "admin", "admin");
+      text = queryText(benchmark.query).getBytes(StandardCharsets.UTF_8);
+      statement = parse(text);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      session.activateOnCurrentThread();
+      session.close();
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    orientDB = new OrientDB("memory:", OrientDBConfig.defaultConfig());
+    orientDB.create(DB_NAME, ODatabaseType.MEMORY);
+
+    try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      final OClass person = session.createClass("Person");
+      person.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+      person.createProperty("surname", OType.STRING);
+      person.createProperty("age", OType.INTEGER);
+
+      for (int i = 0; i < recordsCount; i++)
+        session.command("INSERT INTO Person SET name = ?, surname = ?, age = ?", "name" + i, "surname" + i % 10, i % 100).close();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+  }
+
+  @Benchmark
+  public OSelectStatement parse(final ThreadState state) throws ParseException {
+    return parse(state.text);
+  }
+
+  @Benchmark
+  public OInternalExecutionPlan plan(final ThreadState state) {
+    final OBasicCommandContext context = new OBasicCommandContext();
+    context.setDatabase(state.session);
+    return state.statement.createExecutionPlanNoCache(context, false);
+  }
+
+  private static OSelectStatement parse(final byte[] text) throws ParseException {
+    return (OSelectStatement) new OrientSql(new ByteArrayInputStream(text)).parse();
+  }
+
+  private static String queryText(final String query) {
+    switch (query) {
+    case "filter":
+      return "SELECT FROM Person WHERE surname = 'surname1' AND age > 10";
+    case "index":
+      return "SELECT FROM Person WHERE name = 'name1'";
+    case "orderBy":
+      return "SELECT name, surname, age FROM Person WHERE age < 50 ORDER BY name DESC SKIP 10 LIMIT 20";
+    case "groupBy":
+      return "SELECT surname, count(*), max(age) FROM Person GROUP BY surname ORDER BY surname";
+    default:
+      throw new IllegalArgumentException("Unknown query '" + query + "'");
+    }
+  }
+}
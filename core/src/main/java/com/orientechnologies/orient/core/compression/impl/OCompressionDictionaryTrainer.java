@@ -0,0 +1,254 @@
+/*
+  *
+  *  *  Copyright 2014 Orient Technologies LTD (info(at)orientechnologies.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://www.orientechnologies.com
+  *
+  */
+
+package com.orientechnologies.orient.core.compression.impl;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordAbstract;
+import com.orientechnologies.orient.core.storage.OCluster;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Builds preset dictionaries for {@link ODictionaryCompression} from sampled records.
+ * <p>
+ * Samples are split on overlapping segments, every segment is scored by amount of samples which contain its 8 bytes long
+ * fragments. Segments with the highest score are greedily added to the dictionary, fragments which are already covered by the
+ * dictionary do not count anymore. Deflate encodes short distances more efficiently so the most valuable segments are placed at
+ * the end of the dictionary.
+ *
+ * @since 19.10.26
+ */
+public class OCompressionDictionaryTrainer {
+  /**
+   * Deflate can not reference data which are farther than 32 KB so bigger dictionaries are useless.
+   */
+  public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+  /**
+   * Default amount of records sampled by {@link #trainCluster(ODatabaseDocumentInternal, String, String)}.
+   */
+  public static final int DEFAULT_MAX_SAMPLES = 1000;
+
+  private static final int FRAGMENT_SIZE = 8;
+
+  private final int segmentSize;
+  private final int dictionarySize;
+
+  public OCompressionDictionaryTrainer() {
+    this(64, 16 * 1024);
+  }
+
+  public OCompressionDictionaryTrainer(final int segmentSize, final int dictionarySize) {
+    if (segmentSize < FRAGMENT_SIZE)
+      throw new IllegalArgumentException("Segment size should be at least " + FRAGMENT_SIZE + " bytes");
+    if (dictionarySize <= 0 || dictionarySize > MAX_DICTIONARY_SIZE)
+      throw new IllegalArgumentException("Dictionary size should be between 1 and " + MAX_DICTIONARY_SIZE + " bytes");
+
+    this.segmentSize = segmentSize;
+    this.dictionarySize = dictionarySize;
+  }
+
+  /**
+   * Trains dictionary on records sampled from one cluster and makes another cluster compress its records with it. Dictionary
+   * is stored in configuration of target cluster, so target cluster has to be empty, records compressed by other method or
+   * dictionary could not be read back otherwise. Typical usage is to train dictionary on existing cluster of a class and to
+   * apply it to a new cluster which is added to the same class.
+   * <p>
+   * Dictionary is set by ALTER CLUSTER command, so it is propagated to other nodes in distributed setup as any other change of
+   * cluster configuration.
+   *
+   * @param database          Database to read samples from
+   * @param sampleClusterName Name of cluster to sample
+   * @param clusterName       Name of empty cluster which will use trained dictionary
+   *
+   * @return Base64 encoded dictionary which was set on target cluster
+   */
+  public String trainCluster(final ODatabaseDocumentInternal database, final String sampleClusterName, final String clusterName) {
+    if (database.getClusterIdByName(clusterName) < 0)
+      throw new ODatabaseException("Cluster '" + clusterName + "' does not exist");
+
+    final byte[] dictionary = train(sampleCluster(database, sampleClusterName, DEFAULT_MAX_SAMPLES));
+    if (dictionary.length == 0)
+      throw new ODatabaseException("Records of cluster '" + sampleClusterName + "' do not have common content to build dictionary");
+
+    final String options = Base64.getEncoder().encodeToString(dictionary);
+    database.command("alter cluster `" + clusterName + "` " + OCluster.ATTRIBUTES.COMPRESSION_DICTIONARY + " ?", options).close();
+
+    return options;
+  }
+
+  /**
+   * Collects serialized content of randomly chosen records of cluster using reservoir sampling.
+   *
+   * @param database    Database to read records from
+   * @param clusterName Name of cluster to sample
+   * @param maxSamples  Maximum amount of records to return
+   *
+   * @return Serialized content of sampled records
+   */
+  public static List<byte[]> sampleCluster(final ODatabaseDocument database, final String clusterName, final int maxSamples) {
+    final List<byte[]> samples = new ArrayList<>(maxSamples);
+    final Random random = new Random();
+
+    long seen = 0;
+    for (final ORecord record : database.browseCluster(clusterName)) {
+      final byte[] content = ((ORecordAbstract) record).toStream();
+      if (content == null)
+        continue;
+
+      seen++;
+      if (samples.size() < maxSamples)
+        samples.add(content);
+      else {
+        final long index = (long) (random.nextDouble() * seen);
+        if (index < maxSamples)
+          samples.set((int) index, content);
+      }
+    }
+
+    return samples;
+  }
+
+  /**
+   * Trains dictionary on passed in samples.
+   *
+   * @param samples Content of typical records
+   *
+   * @return Dictionary which can be used in {@link ODictionaryCompression#setDictionary(byte[])}, or empty array if samples do
+   * not have anything in common
+   */
+  public byte[] train(final Collection<byte[]> samples) {
+    final Map<Long, Integer> frequencies = new HashMap<>();
+    final List<Segment> segments = new ArrayList<>();
+
+    for (final byte[] sample : samples) {
+      final Set<Long> sampleFragments = new HashSet<>();
+      for (int i = 0; i + FRAGMENT_SIZE <= sample.length; i++) {
+        sampleFragments.add(fragment(sample, i));
+      }
+
+      for (final Long fragment : sampleFragments) {
+        frequencies.merge(fragment, 1, Integer::sum);
+      }
+
+      final int step = segmentSize / 2;
+      for (int start = 0; start < sample.length; start += step) {
+        final int end = Math.min(sample.length, start + segmentSize);
+        if (end - start >= FRAGMENT_SIZE)
+          segments.add(new Segment(sample, start, end));
+
+        if (end == sample.length)
+          break;
+      }
+    }
+
+    final PriorityQueue<Segment> queue = new PriorityQueue<>(Math.max(1, segments.size()),
+        (first, second) -> Long.compare(second.score, first.score));
+    for (final Segment segment : segments) {
+      segment.score = score(segment, frequencies);
+      if (segment.score > 0)
+        queue.add(segment);
+    }
+
+    final List<Segment> chosen = new ArrayList<>();
+    int size = 0;
+
+    while (!queue.isEmpty() && size < dictionarySize) {
+      final Segment segment = queue.poll();
+
+      //score could be decreased by fragments which were added to the dictionary after it was calculated
+      final long score = score(segment, frequencies);
+      if (score <= 0)
+        continue;
+
+      if (score < segment.score && !queue.isEmpty() && score < queue.peek().score) {
+        segment.score = score;
+        queue.add(segment);
+        continue;
+      }
+
+      chosen.add(segment);
+      size += segment.end - segment.start;
+
+      for (int i = segment.start; i + FRAGMENT_SIZE <= segment.end; i++) {
+        frequencies.remove(fragment(segment.sample, i));
+      }
+    }
+
+    final byte[] dictionary = new byte[Math.min(size, dictionarySize)];
+    int position = dictionary.length;
+    for (final Segment segment : chosen) {
+      final int length = Math.min(segment.end - segment.start, position);
+      position -= length;
+      System.arraycopy(segment.sample, segment.start, dictionary, position, length);
+
+      if (position == 0)
+        break;
+    }
+
+    return dictionary;
+  }
+
+  private static long score(final Segment segment, final Map<Long, Integer> frequencies) {
+    long score = 0;
+    for (int i = segment.start; i + FRAGMENT_SIZE <= segment.end; i++) {
+      final Integer frequency = frequencies.get(fragment(segment.sample, i));
+      if (frequency != null && frequency > 1)
+        score += frequency;
+    }
+
+    return score;
+  }
+
+  private static long fragment(final byte[] sample, final int offset) {
+    long fragment = 0;
+    for (int i = 0; i < FRAGMENT_SIZE; i++) {
+      fragment = (fragment << 8) | (sample[offset + i] & 0xFF);
+    }
+
+    return fragment;
+  }
+
+  private static final class Segment {
+    private final byte[] sample;
+    private final int    start;
+    private final int    end;
+    private       long   score;
+
+    private Segment(final byte[] sample, final int start, final int end) {
+      this.sample = sample;
+      this.start = start;
+      this.end = end;
+    }
+  }
+}
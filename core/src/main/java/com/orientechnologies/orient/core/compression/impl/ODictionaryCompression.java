@@ -0,0 +1,150 @@
+/*
+  *
+  *  *  Copyright 2014 Orient Technologies LTD (info(at)orientechnologies.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://www.orientechnologies.com
+  *
+  */
+
+package com.orientechnologies.orient.core.compression.impl;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.compression.OCompression;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate based compression which uses preset dictionary. Small documents, like JSON-like records, share a lot of field names
+ * and values but are compressed poorly when each of them is compressed alone, preset dictionary contains such common content
+ * and is used as history by both compressor and uncompressor. Dictionary is passed as Base64 encoded string in compression
+ * options, it can be built from sampled records by {@link OCompressionDictionaryTrainer}. Uncompressed length is stored as
+ * first 4 bytes of compressed content.
+ * <p>
+ * This implementation is stateful, a new instance is created for each cluster. Dictionary of cluster is stored in its
+ * configuration and can be set on empty cluster only, see {@link OCompressionDictionaryTrainer#trainCluster}.
+ *
+ * @since 19.10.26
+ */
+public class ODictionaryCompression extends OAbstractCompression {
+  public static final String NAME = "dictionary";
+
+  private byte[] dictionary;
+  private int    dictionaryChecksum;
+
+  @Override
+  public OCompression configure(final String iOptions) {
+    if (iOptions == null || iOptions.isEmpty())
+      setDictionary(null);
+    else
+      setDictionary(Base64.getDecoder().decode(iOptions));
+
+    return this;
+  }
+
+  public void setDictionary(final byte[] dictionary) {
+    if (dictionary == null || dictionary.length == 0) {
+      this.dictionary = null;
+      this.dictionaryChecksum = 0;
+    } else {
+      final Adler32 adler32 = new Adler32();
+      adler32.update(dictionary);
+
+      this.dictionary = dictionary;
+      this.dictionaryChecksum = (int) adler32.getValue();
+    }
+  }
+
+  public byte[] getDictionary() {
+    return dictionary;
+  }
+
+  @Override
+  public byte[] compress(final byte[] content, final int offset, final int length) {
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      if (dictionary != null)
+        deflater.setDictionary(dictionary);
+
+      deflater.setInput(content, offset, length);
+      deflater.finish();
+
+      byte[] result = new byte[OIntegerSerializer.INT_SIZE + length + (length >> 3) + 64];
+      OIntegerSerializer.INSTANCE.serializeLiteral(length, result, 0);
+
+      int len = OIntegerSerializer.INT_SIZE;
+      while (!deflater.finished()) {
+        if (len == result.length)
+          result = Arrays.copyOf(result, result.length << 1);
+
+        len += deflater.deflate(result, len, result.length - len);
+      }
+
+      return Arrays.copyOf(result, len);
+    } finally {
+      deflater.end();
+    }
+  }
+
+  @Override
+  public byte[] uncompress(final byte[] content, final int offset, final int length) {
+    if (length < OIntegerSerializer.INT_SIZE)
+      throw new IllegalStateException("Exception during data uncompression, content is too short");
+
+    final int originalLength = OIntegerSerializer.INSTANCE.deserializeLiteral(content, offset);
+    final byte[] result = new byte[originalLength];
+    if (originalLength == 0)
+      return result;
+
+    final Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(content, offset + OIntegerSerializer.INT_SIZE, length - OIntegerSerializer.INT_SIZE);
+
+      int len = 0;
+      while (!inflater.finished()) {
+        final int read = inflater.inflate(result, len, originalLength - len);
+        len += read;
+
+        if (read == 0) {
+          if (inflater.needsDictionary()) {
+            if (dictionary == null || inflater.getAdler() != dictionaryChecksum)
+              throw new IllegalStateException("Exception during data uncompression, content was compressed with other dictionary");
+
+            inflater.setDictionary(dictionary);
+          } else if (inflater.needsInput() || len == originalLength && !inflater.finished())
+            throw new IllegalStateException("Exception during data uncompression, content is truncated");
+        }
+      }
+
+      if (len != originalLength)
+        throw new IllegalStateException("Exception during data uncompression, content is corrupted");
+
+      return result;
+    } catch (DataFormatException e) {
+      throw new IllegalStateException("Exception during data uncompression", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+  *
+  *  *  Copyright 2014 Orient Technologies LTD (info(at)orientechnologies.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://www.orientechnologies.com
+  *
+  */
+
+package com.orientechnologies.orient.core.compression.impl;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+
+import java.util.Arrays;
+
+/**
+ * Compression implementation based on LZ4 block format. It is several times faster than ZIP based implementations both on
+ * compression and uncompression, so it is suitable to be used on the record hot path. Uncompressed length is stored as first 4
+ * bytes of compressed content.
+ *
+ * @since 19.10.26
+ */
+public class OLZ4Compression extends OAbstractCompression {
+  public static final String          NAME     = "lz4";
+
+  public static final OLZ4Compression INSTANCE = new OLZ4Compression();
+
+  protected static final LZ4Factory factory = LZ4Factory.fastestInstance();
+
+  @Override
+  public byte[] compress(final byte[] content, final int offset, final int length) {
+    final LZ4Compressor compressor = getCompressor();
+    final int maxCompressedLength = compressor.maxCompressedLength(length);
+
+    final byte[] result = new byte[maxCompressedLength + OIntegerSerializer.INT_SIZE];
+    OIntegerSerializer.INSTANCE.serializeLiteral(length, result, 0);
+
+    final int compressedLength = compressor
+        .compress(content, offset, length, result, OIntegerSerializer.INT_SIZE, maxCompressedLength);
+    return Arrays.copyOf(result, compressedLength + OIntegerSerializer.INT_SIZE);
+  }
+
+  @Override
+  public byte[] uncompress(final byte[] content, final int offset, final int length) {
+    if (length < OIntegerSerializer.INT_SIZE)
+      throw new IllegalStateException("Exception during data uncompression, content is too short");
+
+    final int originalLength = OIntegerSerializer.INSTANCE.deserializeLiteral(content, offset);
+    final byte[] result = new byte[originalLength];
+
+    factory.safeDecompressor()
+        .decompress(content, offset + OIntegerSerializer.INT_SIZE, length - OIntegerSerializer.INT_SIZE, result, 0, originalLength);
+    return result;
+  }
+
+  protected LZ4Compressor getCompressor() {
+    return factory.fastCompressor();
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+}
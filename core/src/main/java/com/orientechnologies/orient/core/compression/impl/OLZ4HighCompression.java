@@ -0,0 +1,45 @@
+/*
+  *
+  *  *  Copyright 2014 Orient Technologies LTD (info(at)orientechnologies.com)
+  *  *
+  *  *  Licensed under the Apache License, Version 2.0 (the "License");
+  *  *  you may not use this file except in compliance with the License.
+  *  *  You may obtain a copy of the License at
+  *  *
+  *  *       http://www.apache.org/licenses/LICENSE-2.0
+  *  *
+  *  *  Unless required by applicable law or agreed to in writing, software
+  *  *  distributed under the License is distributed on an "AS IS" BASIS,
+  *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  *  *  See the License for the specific language governing permissions and
+  *  *  limitations under the License.
+  *  *
+  *  * For more information: http://www.orientechnologies.com
+  *
+  */
+
+package com.orientechnologies.orient.core.compression.impl;
+
+import net.jpountz.lz4.LZ4Compressor;
+
+/**
+ * LZ4 compression which uses high compression (HC) compressor. Compression is slower than in {@link OLZ4Compression} but
+ * compression ratio is better, uncompression speed and format are the same.
+ *
+ * @since 19.10.26
+ */
+public class OLZ4HighCompression extends OLZ4Compression {
+  public static final String              NAME     = "lz4-high";
+
+  public static final OLZ4HighCompression INSTANCE = new OLZ4HighCompression();
+
+  @Override
+  protected LZ4Compressor getCompressor() {
+    return factory.highCompressor();
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+}
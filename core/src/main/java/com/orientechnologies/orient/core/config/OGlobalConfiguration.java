@@ -200,7 +200,12 @@ public enum OGlobalConfiguration {// ENVIRONMENT
       "Indicates a force sync should be performed for each update on the storage configuration", Boolean.class, true),
 
   STORAGE_COMPRESSION_METHOD("storage.compressionMethod", "Record compression method used in storage"
-      + " Possible values : gzip, nothing. Default is 'nothing' that means no compression", String.class, "nothing"),
+      + " Possible values : gzip, lz4, lz4-high, nothing. Default is 'nothing' that means no compression", String.class, "nothing"),
+
+  STORAGE_PAGE_COMPRESSION_METHOD("storage.pageCompressionMethod",
+      "Compression method used to compress pages of newly created data and index files when they are flushed to the disk."
+          + " Files which already exist keep their format. Possible values : lz4, lz4-high, gzip, nothing."
+          + " Default is 'nothing' that means pages are stored as is", String.class, "nothing"),
 
   STORAGE_ENCRYPTION_METHOD("storage.encryptionMethod",
       "Record encryption method used in storage" + " Possible values : 'aes' and 'des'. Default is 'nothing' for no encryption",
@@ -283,6 +288,18 @@ public enum OGlobalConfiguration {// ENVIRONMENT
 
   WAL_COMMIT_TIMEOUT("storage.wal.commitTimeout", "Maximum interval between WAL commits (in ms.)", Integer.class, 1000),
 
+  WAL_DURABLE_COMMIT("storage.wal.durableCommit",
+      "Indicates whether commit of transaction waits till its WAL records are flushed to the disk. Concurrent commits share a "
+          + "single WAL flush (group commit), false by default", Boolean.class, false),
+
+  WAL_GROUP_COMMIT_MAX_LATENCY("storage.wal.groupCommit.maxLatency",
+      "Maximum time which the first committer of the group waits for other concurrent commits before it flushes WAL "
+          + "(in microseconds). Used only if storage.wal.durableCommit is enabled", Integer.class, 200),
+
+  WAL_GROUP_COMMIT_MAX_BATCH("storage.wal.groupCommit.maxBatch",
+      "Maximum amount of transactions which are made durable by a single WAL flush. Used only if storage.wal.durableCommit is "
+          + "enabled", Integer.class, 64),
+
   WAL_SHUTDOWN_TIMEOUT("storage.wal.shutdownTimeout", "Maximum wait interval between events, when the background flush thread"
       + "receives a shutdown command and when the background flush will be stopped (in ms.)", Integer.class, 10000),
 
@@ -720,10 +737,31 @@ public enum OGlobalConfiguration {// ENVIRONMENT
   QUERY_LIMIT_THRESHOLD_TIP("query.limitThresholdTip",
       "If the total number of returned records exceeds this value, then a warning is given. (Use 0 to disable)", Long.class, 10000),
 
+  QUERY_HASH_JOIN_ENABLED("query.hashJoin.enabled",
+      "Calculate correlated LET subqueries with an equality condition on a non indexed property as a hash join, executing the "
+          + "subquery only once", Boolean.class, true),
+
+  QUERY_HASH_JOIN_MAX_BUILD_SIZE("query.hashJoin.maxBuildSize",
+      "Maximum number of records kept in memory by a hash join. If the subquery returns more records, it is executed again for "
+          + "each upstream record", Integer.class, 100000),
+
+  QUERY_STATISTICS_SAMPLE_SIZE("query.statistics.sampleSize",
+      "Number of records, or index keys, kept by the ANALYZE statement to build the statistics used by the query planner. "
+          + "ANALYZE reads all the records of the class, or all the keys of the index, and keeps a uniform random sample of them",
+      Integer.class, 30000),
+
   QUERY_LIVE_SUPPORT("query.live.support", "Enable/Disable the support of live query. (Use false to disable)", Boolean.class, true),
 
   STATEMENT_CACHE_SIZE("statement.cacheSize", "Number of parsed SQL statements kept in cache", Integer.class, 100),
 
+  // VIEW
+  VIEW_REFRESH_THREADS("view.refresh.threads", "Maximum number of views of a database that are refreshed in parallel",
+      Integer.class, 2),
+
+  VIEW_REFRESH_QUEUE_SIZE("view.refresh.queueSize",
+      "Maximum number of view refreshes of a database waiting for a thread. When the queue is full, the refresh of the other "
+          + "views is postponed to the next check", Integer.class, 16),
+
   // GRAPH
   SQL_GRAPH_CONSISTENCY_MODE("sql.graphConsistencyMode",
       "Consistency mode for graphs. It can be 'tx' (default), 'notx_sync_repair' and 'notx_async_repair'. "
@@ -29,6 +29,11 @@ public class OStoragePaginatedClusterConfiguration implements OStorageClusterCon
   public              float                 recordOverflowGrowFactor = DEFAULT_GROW_FACTOR;
   public              float                 recordGrowFactor         = DEFAULT_GROW_FACTOR;
   public              String                compression;
+  /**
+   * Options passed to {@link com.orientechnologies.orient.core.compression.OCompression#configure(String)}, for example Base64
+   * encoded dictionary of {@link com.orientechnologies.orient.core.compression.impl.ODictionaryCompression}.
+   */
+  public              String                compressionOptions;
   public              String                encryption;
   public              String                encryptionKey;
   public transient    OStorageConfiguration root;
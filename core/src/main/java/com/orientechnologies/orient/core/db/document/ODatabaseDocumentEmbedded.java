@@ -761,7 +761,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
     assert microTransaction != null;
 
     try {
-      if (success)
+      if (success) {
         try {
           microTransaction.commit();
           OLiveQueryHook.notifyForTxChanges(this);
@@ -770,12 +770,19 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
           microTransaction.rollbackAfterFailedCommit();
           OLiveQueryHook.removePendingDatabaseOps(this);
           OLiveQueryHookV2.removePendingDatabaseOps(this);
+          ((OSharedContextEmbedded) getSharedContext()).getViewManager().removePendingChanges(this);
           throw e;
         }
-      else {
+        if (!microTransaction.isActive()) {
+          ((OSharedContextEmbedded) getSharedContext()).getViewManager().notifyForTxChanges(this);
+        }
+      } else {
         microTransaction.rollback();
         OLiveQueryHook.removePendingDatabaseOps(this);
         OLiveQueryHookV2.removePendingDatabaseOps(this);
+        if (!microTransaction.isActive()) {
+          ((OSharedContextEmbedded) getSharedContext()).getViewManager().removePendingChanges(this);
+        }
       }
     } finally {
       if (!microTransaction.isActive())
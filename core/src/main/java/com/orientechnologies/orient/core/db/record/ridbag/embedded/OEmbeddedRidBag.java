@@ -33,6 +33,7 @@ import com.orientechnologies.orient.core.db.record.OMultiValueChangeListener;
 import com.orientechnologies.orient.core.db.record.ridbag.ORidBagDelegate;
 import com.orientechnologies.orient.core.exception.OSerializationException;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
@@ -40,10 +41,28 @@ import com.orientechnologies.orient.core.storage.ridbag.sbtree.Change;
 
 import java.util.*;
 
+/**
+ * Ridbag that keeps the links in the owner record.
+ * <p>
+ * The persistent RIDs are packed in a <code>long</code> each, cluster id in the highest 16 bits and cluster position in the other
+ * 48 bits, and {@link ORecordId} instances are created only on iteration. Records and temporary RIDs are kept as objects, in an
+ * array that is allocated only when the bag contains any.
+ */
 public class OEmbeddedRidBag implements ORidBagDelegate {
+  private static final int  CLUSTER_SHIFT = 48;
+  private static final long POSITION_MASK = (1L << CLUSTER_SHIFT) - 1;
+  private static final long REMOVED       = -1L;
+
   private boolean contentWasChanged = false;
 
-  private Object[] entries       = OCommonConst.EMPTY_OBJECT_ARRAY;
+  /**
+   * packed RIDs, {@link #REMOVED} for removed entries; ignored where {@link #entries} contains an object
+   */
+  private long[]   packedEntries = OCommonConst.EMPTY_LONG_ARRAY;
+  /**
+   * records and RIDs that cannot be packed, null if there are none
+   */
+  private Object[] entries;
   private int      entriesLength = 0;
 
   private boolean convertToRecord = true;
@@ -58,12 +77,63 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
     this.size = size;
   }
 
-  private static enum Tombstone {
-    TOMBSTONE
+  /**
+   * @return the RID packed in a long, {@link #REMOVED} if the RID is not persistent or too big to be packed
+   */
+  private static long pack(final ORID rid) {
+    if (!rid.isPersistent() || rid.getClusterId() > Short.MAX_VALUE || rid.getClusterPosition() > POSITION_MASK)
+      return REMOVED;
+    return ((long) rid.getClusterId() << CLUSTER_SHIFT) | rid.getClusterPosition();
+  }
+
+  private boolean isEntry(final int index) {
+    return entries != null && entries[index] != null || packedEntries[index] != REMOVED;
+  }
+
+  /**
+   * @return the entry at given index, null if it was removed
+   */
+  private OIdentifiable getEntry(final int index) {
+    if (entries != null && entries[index] != null)
+      return (OIdentifiable) entries[index];
+
+    final long packed = packedEntries[index];
+    if (packed == REMOVED)
+      return null;
+    return new ORecordId((int) (packed >>> CLUSTER_SHIFT), packed & POSITION_MASK);
+  }
+
+  private boolean entryEquals(final int index, final OIdentifiable identifiable) {
+    if (entries != null && entries[index] != null)
+      return identifiable.equals(entries[index]);
+
+    final long packed = packedEntries[index];
+    return packed != REMOVED && packed == pack(identifiable.getIdentity());
   }
 
-  public Object[] getEntries() {
-    return entries;
+  /**
+   * Stores an entry, packing it if it is a persistent RID.
+   */
+  private void setEntry(final int index, final OIdentifiable identifiable) {
+    final long packed = identifiable instanceof ORecordId ? pack((ORID) identifiable) : REMOVED;
+    if (packed != REMOVED) {
+      packedEntries[index] = packed;
+      if (entries != null)
+        entries[index] = null;
+    } else
+      setObjectEntry(index, identifiable);
+  }
+
+  private void setObjectEntry(final int index, final OIdentifiable identifiable) {
+    if (entries == null)
+      entries = new Object[packedEntries.length];
+    entries[index] = identifiable;
+  }
+
+  private void removeEntryAt(final int index) {
+    packedEntries[index] = REMOVED;
+    if (entries != null)
+      entries[index] = null;
   }
 
   private final class EntriesIterator implements Iterator<OIdentifiable>, OResettable, OSizeable {
@@ -81,7 +151,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
     public boolean hasNext() {
       //we may remove items in ridbag during iteration so we need to be sure that pointed item is not removed.
       if (nextIndex > -1) {
-        if (entries[nextIndex] instanceof OIdentifiable)
+        if (isEntry(nextIndex))
           return true;
 
         nextIndex = nextIndex();
@@ -98,27 +168,27 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
       if (currentIndex == -1)
         throw new NoSuchElementException();
 
-      Object nextValue = entries[currentIndex];
+      OIdentifiable nextValue = getEntry(currentIndex);
 
       //we may remove items in ridbag during iteration so we need to be sure that pointed item is not removed.
-      if (!(nextValue instanceof OIdentifiable)) {
+      if (nextValue == null) {
         nextIndex = nextIndex();
 
         currentIndex = nextIndex;
         if (currentIndex == -1)
           throw new NoSuchElementException();
 
-        nextValue = entries[currentIndex];
+        nextValue = getEntry(currentIndex);
       }
 
-      if (!convertToRecord && nextValue != null) {
-        if (((OIdentifiable) nextValue).getIdentity().isPersistent())
-          entries[currentIndex] = ((OIdentifiable) nextValue).getIdentity();
+      if (!convertToRecord && !(nextValue instanceof ORecordId)) {
+        if (nextValue.getIdentity().isPersistent())
+          setEntry(currentIndex, nextValue.getIdentity());
       }
 
       nextIndex = nextIndex();
 
-      final OIdentifiable identifiable = (OIdentifiable) nextValue;
+      final OIdentifiable identifiable = nextValue;
       if (convertToRecord)
         return identifiable.getRecord();
 
@@ -135,8 +205,8 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
 
       currentRemoved = true;
 
-      final OIdentifiable nextValue = (OIdentifiable) entries[currentIndex];
-      entries[currentIndex] = Tombstone.TOMBSTONE;
+      final OIdentifiable nextValue = getEntry(currentIndex);
+      removeEntryAt(currentIndex);
 
       size--;
       contentWasChanged = true;
@@ -155,8 +225,8 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
       if (currentIndex == -1)
         throw new IllegalStateException("Next method was not called for given iterator");
 
-      final OIdentifiable oldValue = (OIdentifiable) entries[currentIndex];
-      entries[currentIndex] = newValue;
+      final OIdentifiable oldValue = getEntry(currentIndex);
+      setEntry(currentIndex, newValue);
 
       contentWasChanged = true;
 
@@ -180,8 +250,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
 
     private int nextIndex() {
       for (int i = currentIndex + 1; i < entriesLength; i++) {
-        Object entry = entries[i];
-        if (entry instanceof OIdentifiable)
+        if (isEntry(i))
           return i;
       }
 
@@ -200,7 +269,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
       return false;
 
     for (int i = 0; i < entriesLength; i++) {
-      if (identifiable.equals(entries[i]))
+      if (entryEquals(i, identifiable))
         return true;
     }
 
@@ -213,20 +282,21 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
       throw new IllegalStateException("This data structure is owned by document " + owner
           + " if you want to use it in other document create new rid bag instance and copy content of current one.");
     }
-    if (this.owner != null) {
+    // packed entries are persistent RIDs, only new records are tracked
+    if (this.owner != null && entries != null) {
       for (int i = 0; i < entriesLength; i++) {
         final Object entry = entries[i];
-        if (entry instanceof OIdentifiable) {
+        if (entry != null) {
           ORecordInternal.unTrack(this.owner, (OIdentifiable) entry);
         }
       }
     }
 
     this.owner = owner;
-    if (this.owner != null) {
+    if (this.owner != null && entries != null) {
       for (int i = 0; i < entriesLength; i++) {
         final Object entry = entries[i];
-        if (entry instanceof OIdentifiable) {
+        if (entry != null) {
           ORecordInternal.track(this.owner, (OIdentifiable) entry);
         }
       }
@@ -257,6 +327,7 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   public OEmbeddedRidBag copy() {
     final OEmbeddedRidBag copy = new OEmbeddedRidBag();
     copy.contentWasChanged = contentWasChanged;
+    copy.packedEntries = packedEntries;
     copy.entries = entries;
     copy.entriesLength = entriesLength;
     copy.convertToRecord = convertToRecord;
@@ -324,17 +395,16 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   @Override
   public void convertLinks2Records() {
     for (int i = 0; i < entriesLength; i++) {
-      final Object entry = entries[i];
+      final OIdentifiable identifiable = getEntry(i);
 
-      if (entry instanceof OIdentifiable) {
-        final OIdentifiable identifiable = (OIdentifiable) entry;
+      if (identifiable != null) {
         ORecord record = identifiable.getRecord();
         if (record != null) {
           if (this.owner != null) {
             ORecordInternal.unTrack(this.owner, identifiable);
             ORecordInternal.track(this.owner, record);
           }
-          entries[i] = record;
+          setObjectEntry(i, record);
         }
       }
     }
@@ -342,16 +412,16 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
 
   @Override
   public boolean convertRecords2Links() {
+    if (entries == null)
+      return true;
+
     for (int i = 0; i < entriesLength; i++) {
       final Object entry = entries[i];
 
-      if (entry instanceof OIdentifiable) {
-        final OIdentifiable identifiable = (OIdentifiable) entry;
-        if (identifiable instanceof ORecord) {
-          final ORecord record = (ORecord) identifiable;
+      if (entry instanceof ORecord) {
+        final ORecord record = (ORecord) entry;
 
-          entries[i] = record.getIdentity();
-        }
+        setEntry(i, record.getIdentity());
       }
     }
 
@@ -461,29 +531,60 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   public int serialize(byte[] stream, int offset, UUID ownerUuid) {
     OIntegerSerializer.INSTANCE.serializeLiteral(size, stream, offset);
     offset += OIntegerSerializer.INT_SIZE;
-    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
-    final int totEntries = entries.length;
-    for (int i = 0; i < totEntries; ++i) {
-      final Object entry = entries[i];
-      if (entry instanceof OIdentifiable) {
-        OIdentifiable link = (OIdentifiable) entry;
-        final ORID rid = link.getIdentity();
-        if (db != null && !db.isClosed() && db.getTransaction().isActive()) {
-          if (!link.getIdentity().isPersistent()) {
-            link = db.getTransaction().getRecord(link.getIdentity());
-          }
-        }
 
-        if (link == null)
-          throw new OSerializationException("Found null entry in ridbag with rid=" + rid);
+    final int[] clusterIds = new int[entriesLength];
+    final long[] clusterPositions = new long[entriesLength];
+    final int count = getIdentities(clusterIds, clusterPositions);
+    for (int i = 0; i < count; ++i) {
+      OLinkSerializer.INSTANCE.serialize(new ORecordId(clusterIds[i], clusterPositions[i]), stream, offset);
+      offset += OLinkSerializer.RID_SIZE;
+    }
+
+    return offset;
+  }
 
-        entries[i] = link.getIdentity();
-        OLinkSerializer.INSTANCE.serialize(link, stream, offset);
-        offset += OLinkSerializer.RID_SIZE;
+  /**
+   * Collects the identities of the entries to serialize them, replacing the records with their identity and resolving the RIDs
+   * of the records created in the current transaction.
+   *
+   * @param clusterIds       the array to fill with the cluster ids, as long as the number of entries at least
+   * @param clusterPositions the array to fill with the cluster positions, as long as the number of entries at least
+   *
+   * @return the number of entries
+   */
+  public int getIdentities(final int[] clusterIds, final long[] clusterPositions) {
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    final boolean txActive = db != null && !db.isClosed() && db.getTransaction().isActive();
+
+    int count = 0;
+    for (int i = 0; i < entriesLength; ++i) {
+      final Object entry = entries != null ? entries[i] : null;
+      if (entry == null) {
+        final long packed = packedEntries[i];
+        if (packed != REMOVED) {
+          clusterIds[count] = (int) (packed >>> CLUSTER_SHIFT);
+          clusterPositions[count] = packed & POSITION_MASK;
+          count++;
+        }
+        continue;
       }
+
+      OIdentifiable link = (OIdentifiable) entry;
+      final ORID rid = link.getIdentity();
+      if (txActive && !rid.isPersistent())
+        link = db.getTransaction().getRecord(rid);
+
+      if (link == null)
+        throw new OSerializationException("Found null entry in ridbag with rid=" + rid);
+
+      final ORID identity = link.getIdentity();
+      setEntry(i, identity);
+      clusterIds[count] = identity.getClusterId();
+      clusterPositions[count] = identity.getClusterPosition();
+      count++;
     }
 
-    return offset;
+    return count;
   }
 
   @Override
@@ -496,17 +597,10 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
       ORID rid = OLinkSerializer.INSTANCE.deserialize(stream, offset);
       offset += OLinkSerializer.RID_SIZE;
 
-      OIdentifiable identifiable = null;
-      if (rid.isTemporary())
-        identifiable = rid.getRecord();
-
-      if (identifiable == null)
-        identifiable = rid;
-
-      if (identifiable == null)
-        OLogManager.instance().warn(this, "Found null reference during ridbag deserialization (rid=%s)", rid);
+      if (rid == null)
+        OLogManager.instance().warn(this, "Found null reference during ridbag deserialization");
       else
-        addEntry(identifiable);
+        addEntry(rid.getClusterId(), rid.getClusterPosition());
     }
 
     return offset;
@@ -539,29 +633,56 @@ public class OEmbeddedRidBag implements ORidBagDelegate {
   }
 
   public void addEntry(final OIdentifiable identifiable) {
-    if (entries.length == entriesLength) {
-      if (entriesLength == 0) {
-        final int cfgValue = OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.getValueAsInteger();
-        entries = new Object[cfgValue > 0 ? Math.min(cfgValue, 40) : 40];
-      } else {
-        final Object[] oldEntries = entries;
-        entries = new Object[entries.length << 1];
-        System.arraycopy(oldEntries, 0, entries, 0, oldEntries.length);
-      }
-    }
+    ensureCapacity();
     if (this.owner != null)
       ORecordInternal.track(this.owner, identifiable);
 
-    entries[entriesLength] = identifiable;
+    setEntry(entriesLength, identifiable);
     entriesLength++;
   }
 
+  /**
+   * Adds a deserialized entry, without creating the {@link ORecordId} if the RID can be packed.
+   */
+  public void addEntry(final int clusterId, final long clusterPosition) {
+    if (clusterId >= 0 && clusterId <= Short.MAX_VALUE && clusterPosition >= 0 && clusterPosition <= POSITION_MASK) {
+      ensureCapacity();
+      packedEntries[entriesLength] = ((long) clusterId << CLUSTER_SHIFT) | clusterPosition;
+      entriesLength++;
+      return;
+    }
+
+    final ORID rid = new ORecordId(clusterId, clusterPosition);
+    OIdentifiable identifiable = null;
+    if (rid.isTemporary())
+      identifiable = rid.getRecord();
+
+    if (identifiable == null)
+      identifiable = rid;
+
+    addEntry(identifiable);
+  }
+
+  private void ensureCapacity() {
+    if (packedEntries.length == entriesLength) {
+      final int newLength;
+      if (entriesLength == 0) {
+        final int cfgValue = OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.getValueAsInteger();
+        newLength = cfgValue > 0 ? Math.min(cfgValue, 40) : 40;
+      } else
+        newLength = packedEntries.length << 1;
+
+      packedEntries = Arrays.copyOf(packedEntries, newLength);
+      if (entries != null)
+        entries = Arrays.copyOf(entries, newLength);
+    }
+  }
+
   private boolean removeEntry(OIdentifiable identifiable) {
     int i = 0;
     for (; i < entriesLength; i++) {
-      final Object entry = entries[i];
-      if (entry.equals(identifiable)) {
-        entries[i] = Tombstone.TOMBSTONE;
+      if (entryEquals(i, identifiable)) {
+        removeEntryAt(i);
         break;
       }
     }
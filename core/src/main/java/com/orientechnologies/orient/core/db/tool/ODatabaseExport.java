@@ -47,6 +47,8 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -57,8 +59,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.Deflater;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Export data from a database to a file.
@@ -73,7 +78,8 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
   protected int         compressionLevel  = Deflater.BEST_SPEED;
   protected int         compressionBuffer = 16384;              // 16Kb
 
-  private final String tempFileName;
+  private final String                     tempFileName;
+  private       OGZIPSegmentedOutputStream segmentedOutput;
 
   public ODatabaseExport(final ODatabaseDocumentInternal iDatabase, final String iFileName, final OCommandOutputListener iListener)
       throws IOException {
@@ -90,13 +96,8 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
     this.tempFileName = fileName + ".tmp";
     OFileUtils.prepareForFileCreationOrReplacement(Paths.get(tempFileName), this, "exporting");
 
-    final GZIPOutputStream gzipOS = new GZIPOutputStream(new FileOutputStream(tempFileName), compressionBuffer) {
-      {
-        def.setLevel(compressionLevel);
-      }
-    };
-
-    writer = new OJSONWriter(new OutputStreamWriter(gzipOS));
+    segmentedOutput = new OGZIPSegmentedOutputStream(new FileOutputStream(tempFileName), compressionLevel, compressionBuffer);
+    writer = new OJSONWriter(new OutputStreamWriter(segmentedOutput));
     writer.beginObject();
   }
 
@@ -181,16 +182,11 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
 
     final Set<ORID> brokenRids = new HashSet<>();
 
-    writer.beginCollection(level, true, "records");
-    int exportedClusters = 0;
+    final List<Integer> clusterIds = new ArrayList<>();
     int maxClusterId = getMaxClusterId();
-    for (int i = 0; exportedClusters <= maxClusterId; ++i) {
+    for (int i = 0; i <= maxClusterId; ++i) {
       String clusterName = database.getClusterNameById(i);
 
-      exportedClusters++;
-
-      long clusterExportedRecordsTot = 0;
-
       if (clusterName != null) {
         // CHECK IF THE CLUSTER IS INCLUDED
         if (includeClusters != null) {
@@ -203,65 +199,58 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
 
         if (excludeClusters != null && excludeClusters.contains(clusterName.toUpperCase(Locale.ENGLISH)))
           continue;
-
-        clusterExportedRecordsTot = database.countClusterElements(clusterName);
       } else if (includeClusters != null && !includeClusters.isEmpty())
         continue;
 
-      listener.onMessage("\n- Cluster " + (clusterName != null ? "'" + clusterName + "'" : "NULL") + " (id=" + i + ")...");
+      clusterIds.add(i);
+    }
 
-      long clusterExportedRecordsCurrent = 0;
-      if (clusterName != null) {
-        ORecord rec = null;
-        try {
-          ORecordIteratorCluster<ORecord> it = database.browseCluster(clusterName);
-
-          for (; it.hasNext(); ) {
-
-            rec = it.next();
-            if (rec instanceof ODocument) {
-              // CHECK IF THE CLASS OF THE DOCUMENT IS INCLUDED
-              ODocument doc = (ODocument) rec;
-              final String className = doc.getClassName() != null ? doc.getClassName().toUpperCase(Locale.ENGLISH) : null;
-              if (includeClasses != null) {
-                if (!includeClasses.contains(className))
-                  continue;
-              } else if (excludeClasses != null) {
-                if (excludeClasses.contains(className))
-                  continue;
-              }
-            } else if (includeClasses != null && !includeClasses.isEmpty())
-              continue;
+    // CLUSTERS ARE EXPORTED AND COMPRESSED IN PARALLEL, THEN APPENDED TO THE FILE IN THE ORIGINAL ORDER
+    ExecutorService executor = null;
+    final Map<Integer, Future<ClusterSegment>> segments = new HashMap<>();
+    if (parallel > 1 && segmentedOutput != null) {
+      executor = Executors.newFixedThreadPool(parallel);
+      for (final int clusterId : clusterIds) {
+        final String clusterName = database.getClusterNameById(clusterId);
+        if (clusterName != null)
+          segments.put(clusterId, executor.submit(() -> exportClusterSegment(clusterId, clusterName)));
+      }
+    }
 
-            if (exportRecord(clusterExportedRecordsTot, clusterExportedRecordsCurrent, rec, brokenRids))
-              clusterExportedRecordsCurrent++;
-          }
+    writer.beginCollection(level, true, "records");
+    try {
+      for (final int clusterId : clusterIds) {
+        final String clusterName = database.getClusterNameById(clusterId);
 
-          brokenRids.addAll(it.getBrokenRIDs());
-        } catch (IOException e) {
-          OLogManager.instance().error(this, "\nError on exporting record %s because of I/O problems", e, rec.getIdentity());
-          // RE-THROW THE EXCEPTION UP
-          throw e;
-        } catch (OIOException e) {
-          OLogManager.instance()
-              .error(this, "\nError on exporting record %s because of I/O problems", e, rec == null ? null : rec.getIdentity());
-          // RE-THROW THE EXCEPTION UP
-          throw e;
-        } catch (Exception t) {
-          if (rec != null) {
-            final byte[] buffer = rec.toStream();
-
-            OLogManager.instance().error(this,
-                "\nError on exporting record %s. It seems corrupted; size: %d bytes, raw content (as string):\n==========\n%s\n==========",
-                t, rec.getIdentity(), buffer.length, new String(buffer));
-          }
+        long clusterExportedRecordsTot = 0;
+        if (clusterName != null)
+          clusterExportedRecordsTot = database.countClusterElements(clusterName);
+
+        listener.onMessage("\n- Cluster " + (clusterName != null ? "'" + clusterName + "'" : "NULL") + " (id=" + clusterId + ")...");
+
+        long clusterExportedRecordsCurrent = 0;
+        if (clusterName != null) {
+          final Future<ClusterSegment> future = segments.get(clusterId);
+          if (future != null)
+            clusterExportedRecordsCurrent = appendClusterSegment(clusterName, future, brokenRids);
+          else
+            clusterExportedRecordsCurrent = exportClusterRecords(database, writer, clusterName, clusterExportedRecordsTot,
+                recordExported, brokenRids);
+
+          recordExported += clusterExportedRecordsCurrent;
         }
-      }
 
-      listener.onMessage("OK (records=" + clusterExportedRecordsCurrent + "/" + clusterExportedRecordsTot + ")");
+        listener.onMessage("OK (records=" + clusterExportedRecordsCurrent + "/" + clusterExportedRecordsTot + ")");
 
-      totalExportedRecords += clusterExportedRecordsCurrent;
-      totalFoundRecords += clusterExportedRecordsTot;
+        totalExportedRecords += clusterExportedRecordsCurrent;
+        totalFoundRecords += clusterExportedRecordsTot;
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+        for (final Integer clusterId : segments.keySet())
+          Files.deleteIfExists(getSegmentPath(clusterId));
+      }
     }
     writer.endCollection(level, true);
 
@@ -287,6 +276,118 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
     return totalExportedRecords;
   }
 
+  /**
+   * Exports records of the cluster to a temporary file compressed independently from the rest of the export, so it can be appended
+   * to the export file as is. Called by the threads of parallel export, each one uses own database instance.
+   */
+  private ClusterSegment exportClusterSegment(final int clusterId, final String clusterName) throws IOException {
+    final ODatabaseDocumentInternal db = database.copy();
+    db.activateOnCurrentThread();
+    try {
+      final OGZIPSegmentedOutputStream.Segment segment = new OGZIPSegmentedOutputStream.Segment(getSegmentPath(clusterId),
+          compressionLevel, compressionBuffer);
+
+      final Set<ORID> brokenRids = new HashSet<>();
+      final OJSONWriter segmentWriter = new OJSONWriter(new OutputStreamWriter(segment));
+      final long records;
+      try {
+        records = exportClusterRecords(db, segmentWriter, clusterName, 0, 0, brokenRids);
+      } finally {
+        segmentWriter.close();
+      }
+
+      return new ClusterSegment(segment, records, brokenRids);
+    } finally {
+      db.close();
+    }
+  }
+
+  private long appendClusterSegment(final String clusterName, final Future<ClusterSegment> future, final Set<ORID> brokenRids)
+      throws IOException {
+    final ClusterSegment segment;
+    try {
+      segment = future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ODatabaseExportException("Export of cluster '" + clusterName + "' was interrupted", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException)
+        throw (IOException) cause;
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+      throw new ODatabaseExportException("Error on exporting cluster '" + clusterName + "'", cause);
+    }
+
+    brokenRids.addAll(segment.brokenRids);
+    if (segment.records > 0) {
+      if (recordExported > 0)
+        writer.append(",");
+
+      writer.flush();
+      segmentedOutput.appendSegment(segment.segment);
+    }
+    Files.deleteIfExists(segment.segment.getPath());
+
+    return segment.records;
+  }
+
+  private Path getSegmentPath(final int clusterId) {
+    return Paths.get(tempFileName + "." + clusterId);
+  }
+
+  private long exportClusterRecords(final ODatabaseDocumentInternal db, final OJSONWriter writer, final String clusterName,
+      final long clusterExportedRecordsTot, final long exportedBefore, final Set<ORID> brokenRids) throws IOException {
+    long clusterExportedRecordsCurrent = 0;
+    ORecord rec = null;
+    try {
+      ORecordIteratorCluster<ORecord> it = db.browseCluster(clusterName);
+
+      for (; it.hasNext(); ) {
+
+        rec = it.next();
+        if (rec instanceof ODocument) {
+          // CHECK IF THE CLASS OF THE DOCUMENT IS INCLUDED
+          ODocument doc = (ODocument) rec;
+          final String className = doc.getClassName() != null ? doc.getClassName().toUpperCase(Locale.ENGLISH) : null;
+          if (includeClasses != null) {
+            if (!includeClasses.contains(className))
+              continue;
+          } else if (excludeClasses != null) {
+            if (excludeClasses.contains(className))
+              continue;
+          }
+        } else if (includeClasses != null && !includeClasses.isEmpty())
+          continue;
+
+        if (exportRecord(writer, exportedBefore + clusterExportedRecordsCurrent > 0, clusterExportedRecordsTot,
+            clusterExportedRecordsCurrent, rec, brokenRids))
+          clusterExportedRecordsCurrent++;
+      }
+
+      brokenRids.addAll(it.getBrokenRIDs());
+    } catch (IOException e) {
+      OLogManager.instance().error(this, "\nError on exporting record %s because of I/O problems", e, rec.getIdentity());
+      // RE-THROW THE EXCEPTION UP
+      throw e;
+    } catch (OIOException e) {
+      OLogManager.instance()
+          .error(this, "\nError on exporting record %s because of I/O problems", e, rec == null ? null : rec.getIdentity());
+      // RE-THROW THE EXCEPTION UP
+      throw e;
+    } catch (Exception t) {
+      if (rec != null) {
+        final byte[] buffer = rec.toStream();
+
+        OLogManager.instance().error(this,
+            "\nError on exporting record %s. It seems corrupted; size: %d bytes, raw content (as string):\n==========\n%s\n==========",
+            t, rec.getIdentity(), buffer.length, new String(buffer));
+      }
+    }
+
+    return clusterExportedRecordsCurrent;
+  }
+
   public void close() {
     database.declareIntent(null);
 
@@ -297,6 +398,7 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
       writer.endObject();
       writer.close();
       writer = null;
+      segmentedOutput = null;
     } catch (IOException e) {
       OLogManager.instance().error(this, "Error on exporting database '%s' to: %s", e, database.getName(), fileName);
       throw new ODatabaseExportException("Error on exporting database '" + database.getName() + "' to: " + fileName, e);
@@ -621,7 +723,8 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
     listener.onMessage("OK (" + s.getClasses().size() + " classes)");
   }
 
-  private boolean exportRecord(long recordTot, long recordNum, ORecord rec, Set<ORID> brokenRids) throws IOException {
+  private boolean exportRecord(OJSONWriter writer, boolean separator, long recordTot, long recordNum, ORecord rec,
+      Set<ORID> brokenRids) throws IOException {
     if (rec != null)
       try {
         if (rec.getIdentity().isValid())
@@ -630,12 +733,11 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
         if (useLineFeedForRecords)
           writer.append("\n");
 
-        if (recordExported > 0)
+        if (separator)
           writer.append(",");
 
         writer.append(rec.toJSON("rid,type,version,class,attribSameRow,keepTypes,alwaysFetchEmbedded,dateAsLong"));
 
-        recordExported++;
         recordNum++;
 
         if (recordTot > 10 && (recordNum + 1) % (recordTot / 10) == 0)
@@ -660,4 +762,16 @@ public class ODatabaseExport extends ODatabaseImpExpAbstract {
 
     return false;
   }
+
+  private static final class ClusterSegment {
+    private final OGZIPSegmentedOutputStream.Segment segment;
+    private final long                               records;
+    private final Set<ORID>                          brokenRids;
+
+    private ClusterSegment(final OGZIPSegmentedOutputStream.Segment segment, final long records, final Set<ORID> brokenRids) {
+      this.segment = segment;
+      this.records = records;
+      this.brokenRids = brokenRids;
+    }
+  }
 }
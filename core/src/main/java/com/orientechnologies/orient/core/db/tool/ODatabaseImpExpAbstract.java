@@ -49,6 +49,7 @@ public abstract class ODatabaseImpExpAbstract extends ODatabaseTool {
   protected boolean                   includeManualIndexes      = true;
   protected boolean                   useLineFeedForRecords     = false;
   protected boolean                   preserveRids              = false;
+  protected int                       parallel                  = 1;
   protected OCommandOutputListener    listener;
 
   public ODatabaseImpExpAbstract(final ODatabaseDocumentInternal iDatabase, final String iFileName,
@@ -190,10 +191,27 @@ public abstract class ODatabaseImpExpAbstract extends ODatabaseTool {
     return preserveRids;
   }
 
+  /**
+   * @param preserveRids if records are imported into the clusters they were exported from, instead of the default cluster of
+   *                     their class. Records are imported by a single thread in this case, whatever {@link #setParallel(int)}
+   *                     is, as their positions have to follow the order of the export file.
+   */
   public void setPreserveRids(boolean preserveRids) {
     this.preserveRids = preserveRids;
   }
 
+  public int getParallel() {
+    return parallel;
+  }
+
+  /**
+   * @param parallel amount of threads used to export or import records of different clusters at once, records are imported
+   *                 by a single thread if {@link #setPreserveRids(boolean)} is set
+   */
+  public void setParallel(final int parallel) {
+    this.parallel = Math.max(1, parallel);
+  }
+
   protected void parseSetting(final String option, final List<String> items) {
     if (option.equalsIgnoreCase("-excludeAll")) {
       includeInfo = false;
@@ -253,6 +271,9 @@ public abstract class ODatabaseImpExpAbstract extends ODatabaseTool {
     } else if (option.equalsIgnoreCase("-useLineFeedForRecords")) {
       useLineFeedForRecords = Boolean.parseBoolean(items.get(0));
 
+    } else if (option.equalsIgnoreCase("-parallel")) {
+      setParallel(Integer.parseInt(items.get(0)));
+
     }
   }
 }
@@ -32,6 +32,7 @@ import com.orientechnologies.orient.core.db.document.ODocumentFieldWalker;
 import com.orientechnologies.orient.core.db.record.OClassTrigger;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.tool.importer.OConverterData;
+import com.orientechnologies.orient.core.db.tool.importer.OImportRIDMap;
 import com.orientechnologies.orient.core.db.tool.importer.OLinksRewriter;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
@@ -41,9 +42,7 @@ import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
-import com.orientechnologies.orient.core.index.OIndexFactory;
 import com.orientechnologies.orient.core.index.OIndexManager;
-import com.orientechnologies.orient.core.index.OIndexes;
 import com.orientechnologies.orient.core.index.ORuntimeKeyIndexDefinition;
 import com.orientechnologies.orient.core.index.OSimpleKeyIndexDefinition;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
@@ -68,7 +67,6 @@ import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OL
 import com.orientechnologies.orient.core.serialization.serializer.record.string.ORecordSerializerJSON;
 import com.orientechnologies.orient.core.storage.OPhysicalPosition;
 import com.orientechnologies.orient.core.storage.OStorage;
-import com.orientechnologies.orient.core.storage.index.hashindex.local.OHashIndexFactory;
 import com.orientechnologies.orient.core.storage.index.hashindex.local.OMurmurHash3HashFunction;
 
 import java.io.BufferedInputStream;
@@ -91,6 +89,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -99,13 +106,13 @@ import java.util.zip.GZIPInputStream;
  * @author Luca Garulli (l.garulli--(at)--orientdb.com)
  */
 public class ODatabaseImport extends ODatabaseImpExpAbstract {
-  public static final String EXPORT_IMPORT_MAP_NAME          = "___exportImportRIDMap";
-  public static final int    IMPORT_RECORD_DUMP_LAP_EVERY_MS = 5000;
+  public static final  String EXPORT_IMPORT_MAP_NAME          = "___exportImportRIDMap";
+  public static final  int    IMPORT_RECORD_DUMP_LAP_EVERY_MS = 5000;
+  private static final int    IMPORT_RECORD_BATCH_SIZE        = 1000;
 
   private       Map<OPropertyImpl, String> linkedClasses   = new HashMap<>();
   private       Map<OClass, List<String>>  superClasses    = new HashMap<>();
   private final OJSONReader                jsonReader;
-  private       ORecord                    record;
   private       boolean                    schemaImported  = false;
   private       int                        exporterVersion = -1;
   private       ORID                       schemaRecordId;
@@ -114,6 +121,7 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
   private boolean deleteRIDMapping = true;
 
   protected OIndex<OIdentifiable> exportImportHashTable;
+  private   OImportRIDMap         ridMap;
 
   private boolean preserveClusterIDs = true;
   private boolean migrateLinks       = true;
@@ -322,6 +330,11 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
 
   public void close() {
     database.declareIntent(null);
+
+    if (ridMap != null) {
+      ridMap.close();
+      ridMap = null;
+    }
   }
 
   public boolean isMigrateLinks() {
@@ -539,8 +552,8 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
           final OIdentifiable oldRid = doc.field("rid");
           final OIdentifiable newRid;
           if (!doc.<Boolean>field("binary")) {
-            if (exportImportHashTable != null)
-              newRid = exportImportHashTable.get(oldRid);
+            if (ridMap != null)
+              newRid = ridMap.get(oldRid.getIdentity());
             else
               newRid = oldRid;
 
@@ -549,8 +562,8 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
             ORuntimeKeyIndexDefinition<?> runtimeKeyIndexDefinition = (ORuntimeKeyIndexDefinition<?>) index.getDefinition();
             OBinarySerializer<?> binarySerializer = runtimeKeyIndexDefinition.getSerializer();
 
-            if (exportImportHashTable != null)
-              newRid = exportImportHashTable.get(doc.<OIdentifiable>field("rid")).getIdentity();
+            if (ridMap != null)
+              newRid = ridMap.get(doc.<OIdentifiable>field("rid").getIdentity());
             else
               newRid = doc.field("rid");
 
@@ -1069,12 +1082,11 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
     long total = 0;
 
     database.getMetadata().getIndexManager().dropIndex(EXPORT_IMPORT_MAP_NAME);
-    OIndexFactory factory = OIndexes
-        .getFactory(OClass.INDEX_TYPE.DICTIONARY_HASH_INDEX.toString(), OHashIndexFactory.HASH_INDEX_ALGORITHM);
+    exportImportHashTable = null;
 
-    exportImportHashTable = (OIndex<OIdentifiable>) database.getMetadata().getIndexManager()
-        .createIndex(EXPORT_IMPORT_MAP_NAME, OClass.INDEX_TYPE.DICTIONARY_HASH_INDEX.toString(),
-            new OSimpleKeyIndexDefinition(OType.LINK), null, null, null);
+    if (ridMap != null)
+      ridMap.close();
+    ridMap = new OImportRIDMap();
 
     jsonReader.readNext(OJSONReader.BEGIN_COLLECTION);
 
@@ -1082,6 +1094,17 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
 
     listener.onMessage("\n\nImporting records...");
 
+    if (isParallelImport()) {
+      final long begin = System.currentTimeMillis();
+      totalRecords = importRecordsInParallel();
+
+      listener.onMessage(String.format("\n\nDone. Imported %,d records in %,.2f secs\n", totalRecords,
+          ((float) (System.currentTimeMillis() - begin)) / 1000));
+
+      finishRecordsImport();
+      return totalRecords;
+    }
+
     ORID rid;
     ORID lastRid = new ORecordId();
     final long begin = System.currentTimeMillis();
@@ -1116,24 +1139,158 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
         lastLapRecords = 0;
         involvedClusters.clear();
       }
-
-      record = null;
     }
 
+    listener.onMessage(String.format("\n\nDone. Imported %,d records in %,.2f secs\n", totalRecords,
+        ((float) (System.currentTimeMillis() - begin)) / 1000));
+
+    finishRecordsImport();
+    return total;
+  }
+
+  /**
+   * Records are imported in parallel unless their RIDs are preserved, positions of records follow the order of the export file
+   * only if they are imported by a single thread. Cluster ids do not depend on it, so -preserveClusterIDs does not matter.
+   */
+  boolean isParallelImport() {
+    return parallel > 1 && !preserveRids;
+  }
+
+  private void finishRecordsImport() throws IOException, ParseException {
     final Set<ORID> brokenRids = new HashSet<>();
     processBrokenRids(brokenRids);
 
-    listener.onMessage(String.format("\n\nDone. Imported %,d records in %,.2f secs\n", totalRecords,
-        ((float) (System.currentTimeMillis() - begin)) / 1000));
+    if (!deleteRIDMapping)
+      saveExportImportRIDsMap();
 
     jsonReader.readNext(OJSONReader.COMMA_SEPARATOR);
+  }
 
-    return total;
+  /**
+   * Stores RIDs mapping in the {@link #EXPORT_IMPORT_MAP_NAME} index, so it is available after the end of import.
+   */
+  private void saveExportImportRIDsMap() {
+    listener.onMessage("\nSaving RID Mapping table...");
+
+    exportImportHashTable = (OIndex<OIdentifiable>) database.getMetadata().getIndexManager()
+        .createIndex(EXPORT_IMPORT_MAP_NAME, OClass.INDEX_TYPE.DICTIONARY_HASH_INDEX.toString(),
+            new OSimpleKeyIndexDefinition(OType.LINK), null, null, null);
+    ridMap.forEach((oldRid, newRid) -> exportImportHashTable.put(oldRid, newRid));
+
+    listener.onMessage("OK (" + ridMap.size() + " entries)");
+  }
+
+  /**
+   * Reads records in the current thread and passes them in batches to the import threads, which parse and save them using own
+   * database instances.
+   *
+   * @return amount of imported records
+   */
+  private long importRecordsInParallel() throws Exception {
+    final BlockingQueue<List<String>> batches = new ArrayBlockingQueue<>(parallel * 2);
+    final AtomicReference<Exception> error = new AtomicReference<>();
+    final AtomicLong imported = new AtomicLong();
+
+    final List<Thread> workers = new ArrayList<>(parallel);
+    for (int i = 0; i < parallel; i++) {
+      final ODatabaseDocumentInternal db = database.copy();
+      final Thread worker = new Thread(() -> {
+        db.activateOnCurrentThread();
+        try {
+          db.setValidationEnabled(false);
+          db.declareIntent(new OIntentMassiveInsert());
+
+          while (true) {
+            final List<String> batch = batches.take();
+            if (batch.isEmpty())
+              // END OF RECORDS
+              break;
+
+            for (String value : batch) {
+              if (importRecord(db, value) != null)
+                imported.incrementAndGet();
+            }
+          }
+        } catch (Exception e) {
+          error.compareAndSet(null, e);
+        } finally {
+          db.declareIntent(null);
+          db.close();
+        }
+      }, "OrientDB Import " + database.getName() + " #" + i);
+
+      worker.setDaemon(true);
+      workers.add(worker);
+    }
+    database.activateOnCurrentThread();
+
+    for (Thread worker : workers)
+      worker.start();
+
+    long last = System.currentTimeMillis();
+    long lastImported = 0;
+    try {
+      List<String> batch = new ArrayList<>(IMPORT_RECORD_BATCH_SIZE);
+      while (jsonReader.lastChar() != ']') {
+        final String value = jsonReader.readString(OJSONReader.NEXT_IN_ARRAY).trim();
+        if (!value.isEmpty())
+          batch.add(value);
+
+        if (batch.size() == IMPORT_RECORD_BATCH_SIZE) {
+          putBatch(batches, batch, error);
+          batch = new ArrayList<>(IMPORT_RECORD_BATCH_SIZE);
+        }
+
+        final long now = System.currentTimeMillis();
+        if (now - last > IMPORT_RECORD_DUMP_LAP_EVERY_MS) {
+          final long current = imported.get();
+          listener.onMessage(String.format("\n- Imported %,d records using %d threads. Total records imported so far: %,d (%,.2f/sec)",
+              current - lastImported, parallel, current, (float) (current - lastImported) * 1000 / (float) (now - last)));
+
+          last = now;
+          lastImported = current;
+        }
+      }
+
+      if (!batch.isEmpty())
+        putBatch(batches, batch, error);
+    } finally {
+      // STOP THE WORKERS EVEN IF READING FAILED
+      for (int i = 0; i < workers.size(); i++) {
+        while (!batches.offer(Collections.emptyList(), 100, TimeUnit.MILLISECONDS)) {
+          if (error.get() != null)
+            batches.clear();
+        }
+      }
+
+      for (Thread worker : workers)
+        worker.join();
+
+      database.activateOnCurrentThread();
+    }
+
+    if (error.get() != null)
+      throw error.get();
+
+    return imported.get();
+  }
+
+  private static void putBatch(final BlockingQueue<List<String>> batches, final List<String> batch,
+      final AtomicReference<Exception> error) throws Exception {
+    while (!batches.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+      if (error.get() != null)
+        throw error.get();
+    }
+
+    if (error.get() != null)
+      throw error.get();
   }
 
   private ORID importRecord() throws Exception {
-    String value = jsonReader.readString(OJSONReader.NEXT_IN_ARRAY).trim();
+    return importRecord(database, jsonReader.readString(OJSONReader.NEXT_IN_ARRAY).trim());
+  }
 
+  private ORID importRecord(final ODatabaseDocumentInternal database, String value) throws Exception {
     if (value.isEmpty()) {
       return null;
     }
@@ -1143,7 +1300,7 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
       value = value.substring(1);
     }
 
-    record = null;
+    ORecord record = null;
     try {
 
       try {
@@ -1238,17 +1395,18 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
 
         if (!rid.equals(record.getIdentity()))
           // SAVE IT ONLY IF DIFFERENT
-          exportImportHashTable.put(rid, record.getIdentity());
+          ridMap.put(rid, record.getIdentity());
       }
 
     } catch (Exception t) {
+      // SOURCE POSITION IS KNOWN ONLY IF RECORDS ARE IMPORTED BY THE THREAD WHICH READS THEM
+      final String source = database == this.database ?
+          ". Source line " + jsonReader.getLineNumber() + ", column " + jsonReader.getColumnNumber() :
+          "";
       if (record != null)
-        OLogManager.instance().error(this,
-            "Error importing record " + record.getIdentity() + ". Source line " + jsonReader.getLineNumber() + ", column "
-                + jsonReader.getColumnNumber(), t);
+        OLogManager.instance().error(this, "Error importing record " + record.getIdentity() + source, t);
       else
-        OLogManager.instance().error(this,
-            "Error importing record. Source line " + jsonReader.getLineNumber() + ", column " + jsonReader.getColumnNumber(), t);
+        OLogManager.instance().error(this, "Error importing record" + source, t);
 
       if (!(t instanceof ODatabaseException)) {
         throw t;
@@ -1256,7 +1414,7 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
 
     }
 
-    return record.getIdentity();
+    return record != null ? record.getIdentity() : null;
   }
 
   private void importIndexes() throws IOException, ParseException {
@@ -1418,66 +1576,120 @@ public class ODatabaseImport extends ODatabaseImpExpAbstract {
   private void migrateLinksInImportedDocuments(Set<ORID> brokenRids) throws IOException {
     listener.onMessage("\n\nStarted migration of links (-migrateLinks=true). Links are going to be updated according to new RIDs:");
 
-    final long begin = System.currentTimeMillis();
-    long last = begin;
-    long documentsLastLap = 0;
-
     long totalDocuments = 0;
-    Collection<String> clusterNames = database.getClusterNames();
-    for (String clusterName : clusterNames) {
+    final List<String> clusterNames = new ArrayList<>();
+    for (String clusterName : database.getClusterNames()) {
       if (OMetadataDefault.CLUSTER_INDEX_NAME.equals(clusterName) || OMetadataDefault.CLUSTER_INTERNAL_NAME.equals(clusterName)
           || OMetadataDefault.CLUSTER_MANUAL_INDEX_NAME.equals(clusterName))
         continue;
 
-      long documents = 0;
-      String prefix = "";
+      clusterNames.add(clusterName);
+    }
 
-      listener.onMessage("\n- Cluster " + clusterName + "...");
+    if (parallel > 1) {
+      // CLUSTERS ARE MIGRATED INDEPENDENTLY, EACH THREAD USES OWN DATABASE INSTANCE
+      final ExecutorService executor = Executors.newFixedThreadPool(parallel);
+      try {
+        final List<Future<Long>> futures = new ArrayList<>(clusterNames.size());
+        for (String clusterName : clusterNames) {
+          futures.add(executor.submit(() -> {
+            final ODatabaseDocumentInternal db = database.copy();
+            db.activateOnCurrentThread();
+            try {
+              return migrateLinksInCluster(db, clusterName, brokenRids, false);
+            } finally {
+              db.close();
+            }
+          }));
+        }
 
-      final int clusterId = database.getClusterIdByName(clusterName);
-      final long clusterRecords = database.countClusterElements(clusterId);
-      OStorage storage = database.getStorage();
+        for (int i = 0; i < clusterNames.size(); i++) {
+          final long documents;
+          try {
+            documents = futures.get(i).get();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw OException.wrapException(new ODatabaseImportException("Migration of links was interrupted"), e);
+          } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+              throw (RuntimeException) e.getCause();
+            throw OException.wrapException(new ODatabaseImportException("Error on migration of links"), e.getCause());
+          }
 
-      OPhysicalPosition[] positions = storage.ceilingPhysicalPositions(clusterId, new OPhysicalPosition(0));
-      while (positions.length > 0) {
-        for (OPhysicalPosition position : positions) {
-          ORecord record = database.load(new ORecordId(clusterId, position.clusterPosition));
-          if (record instanceof ODocument) {
-            ODocument document = (ODocument) record;
-            rewriteLinksInDocument(document, brokenRids);
+          listener.onMessage(String.format("\n- Cluster %s... Completed migration of %,d records", clusterNames.get(i), documents));
+          totalDocuments += documents;
+        }
+      } finally {
+        executor.shutdownNow();
+        database.activateOnCurrentThread();
+      }
+    } else {
+      for (String clusterName : clusterNames) {
+        listener.onMessage("\n- Cluster " + clusterName + "...");
+        totalDocuments += migrateLinksInCluster(database, clusterName, brokenRids, true);
+      }
+    }
 
-            documents++;
-            documentsLastLap++;
-            totalDocuments++;
+    listener.onMessage(String.format("\nTotal links updated: %,d", totalDocuments));
+  }
 
-            final long now = System.currentTimeMillis();
-            if (now - last > IMPORT_RECORD_DUMP_LAP_EVERY_MS) {
-              listener.onMessage(String.format("\n--- Migrated %,d of %,d records (%,.2f/sec)", documents, clusterRecords,
-                  (float) documentsLastLap * 1000 / (float) IMPORT_RECORD_DUMP_LAP_EVERY_MS));
+  private long migrateLinksInCluster(final ODatabaseDocumentInternal database, final String clusterName, final Set<ORID> brokenRids,
+      final boolean progress) {
+    long last = System.currentTimeMillis();
+    long documentsLastLap = 0;
 
-              // RESET LAP COUNTERS
-              last = now;
-              documentsLastLap = 0;
-              prefix = "\n---";
-            }
+    long documents = 0;
+    String prefix = "";
+
+    final int clusterId = database.getClusterIdByName(clusterName);
+    final long clusterRecords = database.countClusterElements(clusterId);
+    OStorage storage = database.getStorage();
+
+    OPhysicalPosition[] positions = storage.ceilingPhysicalPositions(clusterId, new OPhysicalPosition(0));
+    while (positions.length > 0) {
+      for (OPhysicalPosition position : positions) {
+        ORecord record = database.load(new ORecordId(clusterId, position.clusterPosition));
+        if (record instanceof ODocument) {
+          ODocument document = (ODocument) record;
+          rewriteLinksInDocument(document, brokenRids);
+
+          documents++;
+          documentsLastLap++;
+
+          final long now = System.currentTimeMillis();
+          if (progress && now - last > IMPORT_RECORD_DUMP_LAP_EVERY_MS) {
+            listener.onMessage(String.format("\n--- Migrated %,d of %,d records (%,.2f/sec)", documents, clusterRecords,
+                (float) documentsLastLap * 1000 / (float) IMPORT_RECORD_DUMP_LAP_EVERY_MS));
+
+            // RESET LAP COUNTERS
+            last = now;
+            documentsLastLap = 0;
+            prefix = "\n---";
           }
         }
-
-        positions = storage.higherPhysicalPositions(clusterId, positions[positions.length - 1]);
       }
 
-      listener.onMessage(String.format("%s Completed migration of %,d records in current cluster", prefix, documents));
+      positions = storage.higherPhysicalPositions(clusterId, positions[positions.length - 1]);
     }
 
-    listener.onMessage(String.format("\nTotal links updated: %,d", totalDocuments));
+    if (progress)
+      listener.onMessage(String.format("%s Completed migration of %,d records in current cluster", prefix, documents));
+
+    return documents;
   }
 
   protected void rewriteLinksInDocument(ODocument document, Set<ORID> brokenRids) {
-    rewriteLinksInDocument(document, exportImportHashTable, brokenRids);
+    rewriteLinksInDocument(document, ridMap, brokenRids);
 
     document.save();
   }
 
+  protected static void rewriteLinksInDocument(ODocument document, OImportRIDMap ridMap, Set<ORID> brokenRids) {
+    final OLinksRewriter rewriter = new OLinksRewriter(new OConverterData(ridMap, brokenRids));
+    final ODocumentFieldWalker documentFieldWalker = new ODocumentFieldWalker();
+    documentFieldWalker.walkDocument(document, rewriter);
+  }
+
   protected static void rewriteLinksInDocument(ODocument document, OIndex<OIdentifiable> exportImportHashTable,
       Set<ORID> brokenRids) {
     final OLinksRewriter rewriter = new OLinksRewriter(new OConverterData(exportImportHashTable, brokenRids));
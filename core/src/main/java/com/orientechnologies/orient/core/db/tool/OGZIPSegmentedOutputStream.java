@@ -0,0 +1,224 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.db.tool;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * GZIP output stream which allows to append segments compressed independently, eg. by different threads. Every segment is a
+ * sequence of deflate blocks which ends on a byte boundary and does not refer to data outside of the segment, so segments are
+ * copied to the stream as is and the result is a single ordinary GZIP member which can be read by any GZIP implementation.
+ *
+ * @since 19.10.26
+ */
+class OGZIPSegmentedOutputStream extends OutputStream {
+  private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+  private final OutputStream         out;
+  private final Deflater             deflater;
+  private final DeflaterOutputStream deflaterOut;
+
+  private final CRC32 crc = new CRC32();
+  private       long  length;
+
+  private long totalCrc;
+  private long totalLength;
+
+  OGZIPSegmentedOutputStream(final OutputStream out, final int level, final int bufferSize) throws IOException {
+    this.out = out;
+    this.deflater = new Deflater(level, true);
+    this.deflaterOut = new DeflaterOutputStream(out, deflater, bufferSize, true);
+
+    out.write(HEADER);
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    deflaterOut.write(b);
+    crc.update(b);
+    length++;
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    deflaterOut.write(b, off, len);
+    crc.update(b, off, len);
+    length += len;
+  }
+
+  /**
+   * Appends content of the closed segment to the stream.
+   */
+  void appendSegment(final Segment segment) throws IOException {
+    // END CURRENT DEFLATE BLOCKS ON A BYTE BOUNDARY AND FORGET THE HISTORY, SO NEXT BLOCKS DO NOT REFER TO DATA BEFORE THE SEGMENT
+    deflaterOut.flush();
+    deflater.reset();
+    completePart(crc.getValue(), length);
+    crc.reset();
+    length = 0;
+
+    Files.copy(segment.path, out);
+    completePart(segment.crc.getValue(), segment.length);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      deflaterOut.finish();
+      completePart(crc.getValue(), length);
+
+      writeInt((int) totalCrc);
+      writeInt((int) totalLength);
+      out.close();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void completePart(final long partCrc, final long partLength) {
+    totalCrc = crc32Combine(totalCrc, partCrc, partLength);
+    totalLength += partLength;
+  }
+
+  private void writeInt(final int value) throws IOException {
+    out.write(value & 0xff);
+    out.write((value >>> 8) & 0xff);
+    out.write((value >>> 16) & 0xff);
+    out.write((value >>> 24) & 0xff);
+  }
+
+  /**
+   * Calculates CRC32 of concatenation of two blocks of data from their CRC32 values, port of <code>crc32_combine()</code> of
+   * zlib.
+   */
+  static long crc32Combine(long crc1, final long crc2, long length2) {
+    if (length2 <= 0)
+      return crc1;
+
+    final long[] even = new long[32];
+    final long[] odd = new long[32];
+
+    // OPERATOR FOR ONE ZERO BIT
+    odd[0] = 0xedb88320L;
+    long row = 1;
+    for (int n = 1; n < 32; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+
+    // OPERATORS FOR TWO AND FOUR ZERO BITS
+    gf2MatrixSquare(even, odd);
+    gf2MatrixSquare(odd, even);
+
+    // APPLY length2 ZERO BYTES TO crc1
+    do {
+      gf2MatrixSquare(even, odd);
+      if ((length2 & 1) != 0)
+        crc1 = gf2MatrixTimes(even, crc1);
+      length2 >>= 1;
+
+      if (length2 == 0)
+        break;
+
+      gf2MatrixSquare(odd, even);
+      if ((length2 & 1) != 0)
+        crc1 = gf2MatrixTimes(odd, crc1);
+      length2 >>= 1;
+    } while (length2 != 0);
+
+    return crc1 ^ crc2;
+  }
+
+  private static long gf2MatrixTimes(final long[] matrix, long vector) {
+    long sum = 0;
+    int i = 0;
+    while (vector != 0) {
+      if ((vector & 1) != 0)
+        sum ^= matrix[i];
+      vector >>= 1;
+      i++;
+    }
+    return sum;
+  }
+
+  private static void gf2MatrixSquare(final long[] square, final long[] matrix) {
+    for (int n = 0; n < 32; n++)
+      square[n] = gf2MatrixTimes(matrix, matrix[n]);
+  }
+
+  /**
+   * Part of the GZIP stream compressed independently into a file.
+   */
+  static final class Segment extends OutputStream {
+    private final Path                 path;
+    private final OutputStream         fileOut;
+    private final Deflater             deflater;
+    private final DeflaterOutputStream deflaterOut;
+
+    private final CRC32 crc = new CRC32();
+    private       long  length;
+
+    Segment(final Path path, final int level, final int bufferSize) throws IOException {
+      this.path = path;
+      this.fileOut = new FileOutputStream(path.toFile());
+      this.deflater = new Deflater(level, true);
+      this.deflaterOut = new DeflaterOutputStream(fileOut, deflater, bufferSize, true);
+    }
+
+    Path getPath() {
+      return path;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      deflaterOut.write(b);
+      crc.update(b);
+      length++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      deflaterOut.write(b, off, len);
+      crc.update(b, off, len);
+      length += len;
+    }
+
+    /**
+     * Ends the segment on a byte boundary without marking the last deflate block as final, as the stream continues after it.
+     */
+    @Override
+    public void close() throws IOException {
+      try {
+        deflaterOut.flush();
+      } finally {
+        deflater.end();
+        fileOut.close();
+      }
+    }
+  }
+}
@@ -11,10 +11,16 @@ import java.util.Set;
  */
 public class OConverterData {
   protected OIndex<OIdentifiable> exportImportHashTable;
+  protected OImportRIDMap         ridMap;
   protected Set<ORID>             brokenRids;
 
   public OConverterData(OIndex<OIdentifiable> exportImportHashTable, Set<ORID> brokenRids) {
     this.exportImportHashTable = exportImportHashTable;
     this.brokenRids = brokenRids;
   }
+
+  public OConverterData(OImportRIDMap ridMap, Set<ORID> brokenRids) {
+    this.ridMap = ridMap;
+    this.brokenRids = brokenRids;
+  }
 }
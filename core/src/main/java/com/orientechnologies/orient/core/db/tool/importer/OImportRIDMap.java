@@ -0,0 +1,191 @@
+package com.orientechnologies.orient.core.db.tool.importer;
+
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.orient.core.db.tool.ODatabaseImportException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+
+/**
+ * Map of RIDs of exported records to RIDs of the same records in the imported database. Entries are kept in open addressing hash
+ * tables allocated in direct memory, so the map does not put pressure on the heap even for billions of records. The map is split
+ * in segments which are locked independently, so it may be filled by several import threads at once.
+ * <p>
+ * Map has to be closed to release direct memory.
+ *
+ * @since 19.10.26
+ */
+public final class OImportRIDMap {
+  private static final int SEGMENTS     = 64;
+  private static final int ENTRY_SIZE   = 24;
+  private static final int MIN_CAPACITY = 1024;
+  private static final int MAX_CAPACITY = 1 << 26;
+  private static final int OLD_CLUSTER  = 0;
+  private static final int NEW_CLUSTER  = 4;
+  private static final int OLD_POSITION = 8;
+  private static final int NEW_POSITION = 16;
+
+  private final ODirectMemoryAllocator allocator = ODirectMemoryAllocator.instance();
+  private final Segment[]              segments  = new Segment[SEGMENTS];
+
+  public OImportRIDMap() {
+    for (int i = 0; i < SEGMENTS; i++)
+      segments[i] = new Segment();
+  }
+
+  public void put(final ORID oldRid, final ORID newRid) {
+    final long hash = hash(oldRid.getClusterId(), oldRid.getClusterPosition());
+    segments[(int) (hash >>> 58)].put(hash, oldRid, newRid);
+  }
+
+  /**
+   * @return new RID of the record or <code>null</code> if mapping for passed in RID is absent
+   */
+  public ORID get(final ORID oldRid) {
+    final long hash = hash(oldRid.getClusterId(), oldRid.getClusterPosition());
+    return segments[(int) (hash >>> 58)].get(hash, oldRid);
+  }
+
+  public long size() {
+    long size = 0;
+    for (Segment segment : segments)
+      size += segment.size();
+    return size;
+  }
+
+  /**
+   * Passes all mappings to the consumer, first argument is the RID of the exported record, second one the RID of the imported
+   * record.
+   */
+  public void forEach(final BiConsumer<ORID, ORID> consumer) {
+    for (Segment segment : segments)
+      segment.forEach(consumer);
+  }
+
+  public void close() {
+    for (Segment segment : segments)
+      segment.close();
+  }
+
+  private static long hash(final int clusterId, final long clusterPosition) {
+    long h = clusterPosition * 0x9E3779B97F4A7C15L + clusterId;
+    h ^= h >>> 29;
+    h *= 0xBF58476D1CE4E5B9L;
+    return h ^ (h >>> 32);
+  }
+
+  private final class Segment {
+    private OPointer   pointer;
+    private ByteBuffer buffer;
+    private int        capacity;
+    private int        size;
+
+    synchronized void put(final long hash, final ORID oldRid, final ORID newRid) {
+      if (buffer == null)
+        allocate(MIN_CAPACITY);
+      else if (size >= capacity - (capacity >>> 2)) {
+        if (capacity < MAX_CAPACITY)
+          resize(capacity << 1);
+        else if (size == capacity - 1)
+          throw new ODatabaseImportException("Map of imported RIDs is full");
+      }
+
+      final int slot = find(hash, oldRid.getClusterId(), oldRid.getClusterPosition());
+      final int offset = slot * ENTRY_SIZE;
+      if (buffer.getInt(offset + OLD_CLUSTER) == 0) {
+        // CLUSTER IDS ARE STORED INCREMENTED BY ONE, ZERO MARKS FREE SLOTS
+        buffer.putInt(offset + OLD_CLUSTER, oldRid.getClusterId() + 1);
+        buffer.putLong(offset + OLD_POSITION, oldRid.getClusterPosition());
+        size++;
+      }
+
+      buffer.putInt(offset + NEW_CLUSTER, newRid.getClusterId());
+      buffer.putLong(offset + NEW_POSITION, newRid.getClusterPosition());
+    }
+
+    synchronized ORID get(final long hash, final ORID oldRid) {
+      if (buffer == null)
+        return null;
+
+      final int offset = find(hash, oldRid.getClusterId(), oldRid.getClusterPosition()) * ENTRY_SIZE;
+      if (buffer.getInt(offset + OLD_CLUSTER) == 0)
+        return null;
+
+      return new ORecordId(buffer.getInt(offset + NEW_CLUSTER), buffer.getLong(offset + NEW_POSITION));
+    }
+
+    synchronized int size() {
+      return size;
+    }
+
+    synchronized void forEach(final BiConsumer<ORID, ORID> consumer) {
+      for (int slot = 0; slot < capacity; slot++) {
+        final int offset = slot * ENTRY_SIZE;
+        final int oldCluster = buffer.getInt(offset + OLD_CLUSTER);
+        if (oldCluster != 0)
+          consumer.accept(new ORecordId(oldCluster - 1, buffer.getLong(offset + OLD_POSITION)),
+              new ORecordId(buffer.getInt(offset + NEW_CLUSTER), buffer.getLong(offset + NEW_POSITION)));
+      }
+    }
+
+    synchronized void close() {
+      if (pointer != null) {
+        allocator.deallocate(pointer);
+        pointer = null;
+        buffer = null;
+        capacity = 0;
+        size = 0;
+      }
+    }
+
+    /**
+     * @return slot which contains passed in key or free slot where it should be inserted
+     */
+    private int find(final long hash, final int clusterId, final long clusterPosition) {
+      final int mask = capacity - 1;
+      int slot = (int) hash & mask;
+      while (true) {
+        final int offset = slot * ENTRY_SIZE;
+        final int storedCluster = buffer.getInt(offset + OLD_CLUSTER);
+        if (storedCluster == 0 || (storedCluster == clusterId + 1 && buffer.getLong(offset + OLD_POSITION) == clusterPosition))
+          return slot;
+
+        slot = (slot + 1) & mask;
+      }
+    }
+
+    private void allocate(final int newCapacity) {
+      pointer = allocator.allocate(newCapacity * ENTRY_SIZE, -1);
+      pointer.clear();
+      buffer = pointer.getNativeByteBuffer();
+      capacity = newCapacity;
+    }
+
+    private void resize(final int newCapacity) {
+      final OPointer oldPointer = pointer;
+      final ByteBuffer oldBuffer = buffer;
+      final int oldCapacity = capacity;
+
+      allocate(newCapacity);
+
+      for (int slot = 0; slot < oldCapacity; slot++) {
+        final int oldOffset = slot * ENTRY_SIZE;
+        final int storedCluster = oldBuffer.getInt(oldOffset + OLD_CLUSTER);
+        if (storedCluster == 0)
+          continue;
+
+        final long clusterPosition = oldBuffer.getLong(oldOffset + OLD_POSITION);
+        final int offset = find(hash(storedCluster - 1, clusterPosition), storedCluster - 1, clusterPosition) * ENTRY_SIZE;
+        buffer.putInt(offset + OLD_CLUSTER, storedCluster);
+        buffer.putLong(offset + OLD_POSITION, clusterPosition);
+        buffer.putInt(offset + NEW_CLUSTER, oldBuffer.getInt(oldOffset + NEW_CLUSTER));
+        buffer.putLong(offset + NEW_POSITION, oldBuffer.getLong(oldOffset + NEW_POSITION));
+      }
+
+      allocator.deallocate(oldPointer);
+    }
+  }
+}
@@ -22,7 +22,8 @@ public final class OLinkConverter implements OValuesConverter<OIdentifiable> {
     if (converterData.brokenRids.contains(rid))
       return OImportConvertersFactory.BROKEN_LINK;
 
-    final OIdentifiable newRid = converterData.exportImportHashTable.get(rid);
+    final OIdentifiable newRid =
+        converterData.ridMap != null ? converterData.ridMap.get(rid) : converterData.exportImportHashTable.get(rid);
     if (newRid == null)
       return value;
 
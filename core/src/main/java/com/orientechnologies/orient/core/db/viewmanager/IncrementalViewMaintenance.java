@@ -0,0 +1,556 @@
+package com.orientechnologies.orient.core.db.viewmanager;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.schema.OView;
+import com.orientechnologies.orient.core.metadata.schema.OViewConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.parser.*;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps a view up to date applying the changes of the source records, instead of running the view query again.
+ * <p>
+ * The changes are collected when the records are saved and applied to the rows of the view at the next refresh. Two kinds of views
+ * are supported:
+ * <ul>
+ * <li>views that copy the source records matching a filter, eg. <code>SELECT FROM Person WHERE age &gt; 18</code>; they need an
+ * origin RID field to find the row of a record</li>
+ * <li>views that aggregate the source records with <code>count()</code> and <code>sum()</code>, optionally with a GROUP BY, eg.
+ * <code>SELECT city, count(*) AS people, sum(age) AS ages FROM Person GROUP BY city</code>; grouped views also need a
+ * <code>count(*)</code> to know when a group becomes empty</li>
+ * </ul>
+ * Other views, and views that received more changes than {@link #MAX_PENDING_CHANGES} or changes in a transaction, are rebuilt.
+ *
+ * @since 19.10.26
+ */
+class IncrementalViewMaintenance {
+  static final int MAX_PENDING_CHANGES = 10000;
+
+  private enum AggregateType {
+    COUNT_ALL, COUNT, SUM
+  }
+
+  private static class Aggregate {
+    private final String        alias;
+    private final AggregateType type;
+    private final OExpression   expression;
+
+    private Aggregate(String alias, AggregateType type, OExpression expression) {
+      this.alias = alias;
+      this.type = type;
+      this.expression = expression;
+    }
+  }
+
+  private static class RowChange {
+    private final ORID                rid;
+    /**
+     * the new content of the row, null if the record does not belong to the view anymore
+     */
+    private final Map<String, Object> values;
+
+    private RowChange(ORID rid, Map<String, Object> values) {
+      this.rid = rid;
+      this.values = values;
+    }
+  }
+
+  private final String       viewName;
+  private final String       query;
+  private final String       targetClass;
+  private final OWhereClause where;
+  private final String       originRidField;
+
+  // aggregate views
+  private final boolean           aggregate;
+  private final List<OExpression> groupBy        = new ArrayList<>();
+  private final List<String>      groupByAliases = new ArrayList<>();
+  private final List<Aggregate>   aggregates     = new ArrayList<>();
+
+  private List<RowChange>              pendingRows   = new ArrayList<>();
+  private Map<List<Object>, Number[]> pendingGroups = new HashMap<>();
+  private int                          pendingChanges;
+  /**
+   * true if the changes could not be collected, the view has to be rebuilt
+   */
+  private boolean                      invalid;
+  private boolean                      rebuilding;
+
+  /**
+   * held while the changes are applied or the view is rebuilt
+   */
+  private final Lock refreshLock = new ReentrantLock();
+
+  private IncrementalViewMaintenance(OView view, OSelectStatement statement) {
+    this.viewName = view.getName();
+    this.query = view.getQuery();
+    this.targetClass = statement.getTarget().getItem().getIdentifier().getStringValue();
+    this.where = statement.getWhereClause();
+    this.originRidField = view.getOriginRidField();
+    this.aggregate = statement.getGroupBy() != null || statement.getProjection() != null && statement.getProjection().getItems()
+        .stream().anyMatch(x -> x.isAggregate());
+  }
+
+  /**
+   * @return the object that maintains the view incrementally, null if the view has to be rebuilt at each refresh
+   */
+  static IncrementalViewMaintenance create(OView view, ODatabaseDocumentInternal db) {
+    if (view.getUpdateStrategy() != null && view.getUpdateStrategy().equalsIgnoreCase(OViewConfig.UPDATE_STRATEGY_LIVE)) {
+      return null;
+    }
+    OStatement stm = OStatementCache.get(view.getQuery(), db);
+    if (!(stm instanceof OSelectStatement)) {
+      return null;
+    }
+    OSelectStatement statement = (OSelectStatement) stm;
+    if (statement.getLetClause() != null || statement.getUnwind() != null || statement.getOrderBy() != null
+        || statement.getSkip() != null || statement.getLimit() != null) {
+      return null;
+    }
+    if (statement.getTarget() == null || statement.getTarget().getItem().getIdentifier() == null
+        || statement.getTarget().getItem().getModifier() != null) {
+      return null;
+    }
+    OClass clazz = db.getMetadata().getSchema().getClass(statement.getTarget().getItem().getIdentifier().getStringValue());
+    if (clazz == null) {
+      return null;
+    }
+    if (statement.getWhereClause() != null && hasSubQueries(statement.getWhereClause())) {
+      return null;
+    }
+    OProjection projection = statement.getProjection();
+    if (projection != null && (projection.isDistinct() || projection.isExpand())) {
+      return null;
+    }
+
+    IncrementalViewMaintenance result = new IncrementalViewMaintenance(view, statement);
+    if (result.aggregate) {
+      return result.initAggregates(statement) ? result : null;
+    }
+    if (view.getOriginRidField() == null || projection != null) {
+      // the rows built by a projection do not keep the RID of the source record
+      return null;
+    }
+    return result;
+  }
+
+  private static boolean hasSubQueries(OWhereClause where) {
+    SubQueryCollector collector = new SubQueryCollector();
+    OWhereClause copy = where.copy();
+    if (copy.getBaseExpression() != null) {
+      copy.getBaseExpression().extractSubQueries(collector);
+    }
+    return !collector.getSubQueries().isEmpty();
+  }
+
+  /**
+   * @return false if the projection contains items that cannot be maintained incrementally
+   */
+  private boolean initAggregates(OSelectStatement statement) {
+    List<OProjectionItem> items = statement.getProjection() == null ? null : statement.getProjection().getItems();
+    if (items == null) {
+      return false;
+    }
+    List<OExpression> groupByItems = statement.getGroupBy() == null ? Collections.emptyList() : statement.getGroupBy().getItems();
+    for (OExpression groupByItem : groupByItems) {
+      String alias = null;
+      for (OProjectionItem item : items) {
+        if (!item.isAggregate() && (groupByItem.toString().equals(item.getExpression().toString()) || groupByItem.toString()
+            .equals(item.getProjectionAliasAsString()))) {
+          alias = item.getProjectionAliasAsString();
+          groupBy.add(item.getExpression());
+          break;
+        }
+      }
+      if (alias == null) {
+        // the rows of the view cannot be found by group
+        return false;
+      }
+      groupByAliases.add(alias);
+    }
+    for (OProjectionItem item : items) {
+      if (item.isAll()) {
+        return false;
+      }
+      if (!item.isAggregate()) {
+        if (!groupByAliases.contains(item.getProjectionAliasAsString())) {
+          return false;
+        }
+        continue;
+      }
+      OFunctionCall function = getFunctionCall(item.getExpression());
+      if (function == null || function.getParams().size() != 1) {
+        return false;
+      }
+      String name = function.getName().getStringValue();
+      if ("count".equalsIgnoreCase(name)) {
+        aggregates.add(new Aggregate(item.getProjectionAliasAsString(), function.isStar() ? AggregateType.COUNT_ALL : AggregateType.COUNT,
+            function.getParams().get(0)));
+      } else if ("sum".equalsIgnoreCase(name)) {
+        aggregates.add(new Aggregate(item.getProjectionAliasAsString(), AggregateType.SUM, function.getParams().get(0)));
+      } else {
+        return false;
+      }
+    }
+    return groupBy.isEmpty() || aggregates.stream().anyMatch(x -> x.type == AggregateType.COUNT_ALL);
+  }
+
+  /**
+   * @return the function call that is the whole expression, eg. <code>count(*)</code>, null if the expression is not a function call
+   */
+  private static OFunctionCall getFunctionCall(OExpression expression) {
+    OMathExpression math = expression.getMathExpression();
+    while (math != null && math.getClass() == OMathExpression.class && math.getChildExpressions().size() == 1) {
+      math = math.getChildExpressions().get(0);
+    }
+    if (!(math instanceof OBaseExpression)) {
+      return null;
+    }
+    OBaseExpression base = (OBaseExpression) math;
+    if (base.getModifier() != null || base.getIdentifier() == null || base.getIdentifier().getLevelZero() == null) {
+      return null;
+    }
+    return base.getIdentifier().getLevelZero().getFunctionCall();
+  }
+
+  String getQuery() {
+    return query;
+  }
+
+  boolean isSourceClass(OClass clazz) {
+    return clazz.isSubClassOf(targetClass);
+  }
+
+  /**
+   * Collects the change of a source record.
+   *
+   * @param rid    the identity of the record
+   * @param before the record before the change, null if the record was created
+   * @param after  the record after the change, null if the record was deleted
+   */
+  void recordChanged(ORID rid, OResult before, OResult after, ODatabaseDocumentInternal db) {
+    if (db.getTransaction().isActive()) {
+      // the transaction can be rolled back
+      invalidate();
+      return;
+    }
+    OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(db);
+    boolean wasInView = before != null && (where == null || where.matchesFilters(before, ctx));
+    boolean isInView = after != null && (where == null || where.matchesFilters(after, ctx));
+    if (!wasInView && !isInView) {
+      return;
+    }
+
+    if (aggregate) {
+      List<Object> oldGroup = wasInView ? calculateGroup(before, ctx) : null;
+      Number[] oldValues = wasInView ? calculateAggregates(before, ctx) : null;
+      List<Object> newGroup = isInView ? calculateGroup(after, ctx) : null;
+      Number[] newValues = isInView ? calculateAggregates(after, ctx) : null;
+      synchronized (this) {
+        if (oldGroup != null) {
+          addToGroup(oldGroup, oldValues, true);
+        }
+        if (newGroup != null) {
+          addToGroup(newGroup, newValues, false);
+        }
+        changeCollected();
+      }
+    } else {
+      Map<String, Object> values = isInView ? calculateRow(after) : null;
+      synchronized (this) {
+        pendingRows.add(new RowChange(rid, values));
+        changeCollected();
+      }
+    }
+  }
+
+  private void changeCollected() {
+    if (rebuilding && aggregate) {
+      // the new content of the view could contain the change or not, applying it twice would count the record twice
+      invalid = true;
+    }
+    if (invalid || ++pendingChanges > MAX_PENDING_CHANGES) {
+      invalid = true;
+      pendingRows = new ArrayList<>();
+      pendingGroups = new HashMap<>();
+      pendingChanges = 0;
+    }
+  }
+
+  synchronized void invalidate() {
+    invalid = true;
+    pendingRows = new ArrayList<>();
+    pendingGroups = new HashMap<>();
+    pendingChanges = 0;
+  }
+
+  private List<Object> calculateGroup(OResult record, OBasicCommandContext ctx) {
+    List<Object> result = new ArrayList<>(groupBy.size());
+    for (OExpression expression : groupBy) {
+      result.add(expression.execute(record, ctx));
+    }
+    return result;
+  }
+
+  private Number[] calculateAggregates(OResult record, OBasicCommandContext ctx) {
+    Number[] result = new Number[aggregates.size()];
+    for (int i = 0; i < aggregates.size(); i++) {
+      Aggregate aggregate = aggregates.get(i);
+      switch (aggregate.type) {
+      case COUNT_ALL:
+        result[i] = 1L;
+        break;
+      case COUNT:
+        result[i] = aggregate.expression.execute(record, ctx) == null ? 0L : 1L;
+        break;
+      case SUM:
+        Object value = aggregate.expression.execute(record, ctx);
+        result[i] = value instanceof Number ? (Number) value : null;
+        break;
+      }
+    }
+    return result;
+  }
+
+  private void addToGroup(List<Object> group, Number[] values, boolean remove) {
+    Number[] deltas = pendingGroups.computeIfAbsent(group, x -> new Number[aggregates.size()]);
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        Number value = remove ? negate(values[i]) : values[i];
+        deltas[i] = deltas[i] == null ? value : OType.increment(deltas[i], value);
+      }
+    }
+  }
+
+  private static Number negate(Number value) {
+    if (value instanceof Integer) {
+      return -value.intValue();
+    } else if (value instanceof Long) {
+      return -value.longValue();
+    } else if (value instanceof Short) {
+      return (short) -value.shortValue();
+    } else if (value instanceof Float) {
+      return -value.floatValue();
+    } else if (value instanceof BigDecimal) {
+      return ((BigDecimal) value).negate();
+    }
+    return -value.doubleValue();
+  }
+
+  private Map<String, Object> calculateRow(OResult record) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    for (String name : record.getPropertyNames()) {
+      if (!"@rid".equalsIgnoreCase(name) && !"@class".equalsIgnoreCase(name) && !"@version".equalsIgnoreCase(name)) {
+        result.put(name, record.getProperty(name));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Marks the view as being rebuilt, the changes collected in the meantime cannot be applied to the new content of the view.
+   */
+  void startRebuild() {
+    refreshLock.lock();
+    synchronized (this) {
+      rebuilding = true;
+      invalid = false;
+      pendingRows = new ArrayList<>();
+      pendingGroups = new HashMap<>();
+      pendingChanges = 0;
+    }
+  }
+
+  void endRebuild() {
+    synchronized (this) {
+      rebuilding = false;
+    }
+    refreshLock.unlock();
+  }
+
+  /**
+   * Applies the collected changes to the rows of the view.
+   *
+   * @return false if the changes could not be collected or applied and the view has to be rebuilt
+   */
+  boolean applyChanges(OView view, ODatabaseDocumentInternal db) {
+    refreshLock.lock();
+    try {
+      List<RowChange> rows;
+      Map<List<Object>, Number[]> groups;
+      synchronized (this) {
+        if (invalid || !query.equals(view.getQuery()) || view.getClusterIds().length == 0) {
+          return false;
+        }
+        rows = pendingRows;
+        groups = pendingGroups;
+        pendingRows = new ArrayList<>();
+        pendingGroups = new HashMap<>();
+        pendingChanges = 0;
+      }
+
+      String clusterName = db.getClusterNameById(view.getClusterIds()[0]);
+      List<OIndex> indexes = new ArrayList<>(view.getIndexes());
+      try {
+        if (aggregate) {
+          for (Map.Entry<List<Object>, Number[]> group : groups.entrySet()) {
+            applyGroupChange(group.getKey(), group.getValue(), db, clusterName, indexes);
+          }
+        } else {
+          // only the last change of each record matters
+          Map<ORID, RowChange> lastChanges = new LinkedHashMap<>();
+          for (RowChange row : rows) {
+            if (row.rid.isPersistent()) {
+              lastChanges.put(row.rid.copy(), row);
+            }
+          }
+          for (RowChange row : lastChanges.values()) {
+            applyRowChange(row, db, clusterName, indexes);
+          }
+        }
+      } catch (RuntimeException e) {
+        // the changes were taken from the pending ones and are partially applied, only a rebuild can restore the view
+        OLogManager.instance().warn(this, "Failed to apply the changes to view '%s', it will be rebuilt", e, viewName);
+        invalidate();
+        return false;
+      }
+      return true;
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  private void applyGroupChange(List<Object> group, Number[] deltas, ODatabaseDocumentInternal db, String clusterName,
+      List<OIndex> indexes) {
+    StringBuilder rowQuery = new StringBuilder("SELECT FROM `").append(viewName).append("`");
+    List<Object> params = new ArrayList<>();
+    for (int i = 0; i < groupByAliases.size(); i++) {
+      rowQuery.append(i == 0 ? " WHERE " : " AND ").append("`").append(groupByAliases.get(i)).append("`");
+      if (group.get(i) == null) {
+        rowQuery.append(" IS NULL");
+      } else {
+        rowQuery.append(" = ?");
+        params.add(group.get(i));
+      }
+    }
+
+    OElement row = null;
+    try (OResultSet rs = db.query(rowQuery.toString(), params.toArray())) {
+      while (row == null && rs.hasNext()) {
+        row = rs.next().getElement().orElse(null);
+      }
+    }
+
+    if (row == null) {
+      OElement newRow = db.newElement();
+      for (int i = 0; i < groupByAliases.size(); i++) {
+        newRow.setProperty(groupByAliases.get(i), group.get(i));
+      }
+      for (int i = 0; i < aggregates.size(); i++) {
+        newRow.setProperty(aggregates.get(i).alias, deltas[i] == null && aggregates.get(i).type != AggregateType.SUM ? 0L : deltas[i]);
+      }
+      if (isEmptyGroup(newRow)) {
+        return;
+      }
+      db.save(newRow, clusterName);
+      OElement savedRow = newRow;
+      indexes.forEach(idx -> idx.put(ViewManager.indexedKeyFor(idx, savedRow), savedRow));
+      return;
+    }
+
+    List<Object> oldKeys = new ArrayList<>();
+    for (OIndex idx : indexes) {
+      oldKeys.add(ViewManager.indexedKeyFor(idx, row));
+    }
+    for (int i = 0; i < aggregates.size(); i++) {
+      if (deltas[i] != null) {
+        Number value = row.getProperty(aggregates.get(i).alias);
+        row.setProperty(aggregates.get(i).alias, value == null ? deltas[i] : OType.increment(value, deltas[i]));
+      }
+    }
+    for (int i = 0; i < indexes.size(); i++) {
+      indexes.get(i).remove(oldKeys.get(i), row);
+    }
+    if (!groupBy.isEmpty() && isEmptyGroup(row)) {
+      row.delete();
+      return;
+    }
+    row.save();
+    OElement savedRow = row;
+    indexes.forEach(idx -> idx.put(ViewManager.indexedKeyFor(idx, savedRow), savedRow));
+  }
+
+  private boolean isEmptyGroup(OElement row) {
+    for (Aggregate aggregate : aggregates) {
+      if (aggregate.type == AggregateType.COUNT_ALL) {
+        Number count = row.getProperty(aggregate.alias);
+        return count == null || count.longValue() <= 0;
+      }
+    }
+    return false;
+  }
+
+  private void applyRowChange(RowChange change, ODatabaseDocumentInternal db, String clusterName, List<OIndex> indexes) {
+    List<OElement> rows = new ArrayList<>();
+    try (OResultSet rs = db.query("SELECT FROM `" + viewName + "` WHERE `" + originRidField + "` = ?", change.rid)) {
+      while (rs.hasNext()) {
+        rs.next().getElement().ifPresent(rows::add);
+      }
+    }
+
+    Iterator<OElement> iterator = rows.iterator();
+    if (change.values != null) {
+      OElement row = iterator.hasNext() ? iterator.next() : null;
+      List<Object> oldKeys = new ArrayList<>();
+      if (row == null) {
+        row = db.newElement();
+      } else {
+        for (OIndex idx : indexes) {
+          oldKeys.add(ViewManager.indexedKeyFor(idx, row));
+        }
+        for (String name : row.getPropertyNames()) {
+          if (!change.values.containsKey(name) && !name.equals(originRidField) && !"@view".equals(name)) {
+            row.removeProperty(name);
+          }
+        }
+      }
+      for (Map.Entry<String, Object> value : change.values.entrySet()) {
+        row.setProperty(value.getKey(), value.getValue());
+      }
+      row.setProperty(originRidField, change.rid);
+      row.setProperty("@view", viewName);
+      for (int i = 0; i < oldKeys.size(); i++) {
+        indexes.get(i).remove(oldKeys.get(i), row);
+      }
+      if (row.getIdentity().isPersistent()) {
+        row.save();
+      } else {
+        db.save(row, clusterName);
+      }
+      OElement savedRow = row;
+      indexes.forEach(idx -> idx.put(ViewManager.indexedKeyFor(idx, savedRow), savedRow));
+    }
+
+    // the rows of records that left the view, and duplicates
+    while (iterator.hasNext()) {
+      OElement row = iterator.next();
+      for (OIndex idx : indexes) {
+        idx.remove(ViewManager.indexedKeyFor(idx, row), row);
+      }
+      row.delete();
+    }
+  }
+}
@@ -3,8 +3,11 @@ package com.orientechnologies.orient.core.db.viewmanager;
 import com.orientechnologies.common.concur.lock.OInterruptedException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.*;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentEmbedded;
@@ -14,8 +17,11 @@ import com.orientechnologies.orient.core.metadata.schema.*;
 import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.sql.parser.*;
+import com.orientechnologies.orient.core.storage.impl.local.OMicroTransaction;
+import com.orientechnologies.orient.core.storage.OBasicTransaction;
 
 import java.util.*;
 import java.util.concurrent.*;
@@ -44,14 +50,38 @@ public class ViewManager {
   private final ConcurrentMap<String, String>        oldIndexesPerViews = new ConcurrentHashMap<>();
   private final List<String>                         indexesToDrop      = Collections.synchronizedList(new ArrayList<>());
 
-  private final Map<String, Long> lastUpdateTimestampForView = new HashMap<>();
+  private final Map<String, Long> lastUpdateTimestampForView = new ConcurrentHashMap<>();
+  private final Map<String, Long> lastRefreshDurationForView = new ConcurrentHashMap<>();
+
+  /**
+   * view -> lock held while the content of the view is rebuilt, so that different views are rebuilt in parallel
+   */
+  private final ConcurrentMap<String, Object> rebuildLocks = new ConcurrentHashMap<>();
+
+  /**
+   * view being refreshed by the scheduler -> class the view query reads from (null if unknown). Views reading the same class are
+   * not refreshed in parallel.
+   */
+  private final Map<String, String> refreshingViews = new HashMap<>();
+
+  private final Set<String> registeredMetrics = ConcurrentHashMap.newKeySet();
+
+  /**
+   * view -> changes of the source records not applied to the view yet
+   */
+  private final ConcurrentMap<String, IncrementalViewMaintenance> maintenances = new ConcurrentHashMap<>();
+
+  /**
+   * database -> changes made in the running micro-transaction of the database, collected by the views only after the commit
+   */
+  private final Map<ODatabaseDocumentInternal, List<PendingChange>> pendingChanges = new ConcurrentHashMap<>();
 
   private final Map<String, Long> lastChangePerClass = new ConcurrentHashMap<>();
 
-  private volatile String    lastUpdatedView = null;
-  private volatile TimerTask timerTask;
-  private volatile Future<?> lastTask;
-  private volatile boolean   closed          = false;
+  private volatile TimerTask          timerTask;
+  private volatile Future<?>          lastTask;
+  private volatile ThreadPoolExecutor refreshExecutor;
+  private volatile boolean            closed = false;
 
   public ViewManager(OrientDBInternal orientDb, String dbName) {
     this.orientDB = orientDb;
@@ -94,9 +124,29 @@ public class ViewManager {
   }
 
   public void start() {
+    if (refreshExecutor == null || refreshExecutor.isShutdown()) {
+      refreshExecutor = createRefreshExecutor();
+    }
     schedule();
   }
 
+  /**
+   * Creates the pool that refreshes the views. Its queue is bounded, so when the refreshes are slower than the updates of the
+   * views the pending refreshes are not accumulated, the views are checked again at the next run.
+   */
+  private ThreadPoolExecutor createRefreshExecutor() {
+    int threads = Math.max(1, OGlobalConfiguration.VIEW_REFRESH_THREADS.getValueAsInteger());
+    int queueSize = Math.max(1, OGlobalConfiguration.VIEW_REFRESH_QUEUE_SIZE.getValueAsInteger());
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+        new ArrayBlockingQueue<>(queueSize), (runnable) -> {
+      Thread thread = new Thread(runnable, "OrientDB view refresh (" + dbName + ")");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   private void schedule() {
     this.timerTask = new TimerTask() {
       @Override
@@ -116,9 +166,11 @@ public class ViewManager {
     try {
       cleanUnusedViewClusters(db);
       cleanUnusedViewIndexes(db);
-      OView view = getNextViewToUpdate(db);
-      if (view != null) {
-        updateView(view, db);
+      for (OView view : getViewsToUpdate(db)) {
+        if (!submitRefresh(view.getName(), getSourceClass(view, (ODatabaseDocumentInternal) db))) {
+          // the queue is full, the remaining views are checked again at the next run
+          break;
+        }
       }
       //When the run is finished schedule the next run.
       schedule();
@@ -147,6 +199,21 @@ public class ViewManager {
         OLogManager.instance().warn(this, "Issue terminating view update background operations", e);
       }
     }
+    ThreadPoolExecutor executor = refreshExecutor;
+    if (executor != null) {
+      executor.shutdown();
+      try {
+        if (!executor.awaitTermination(20, TimeUnit.SECONDS)) {
+          executor.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        throw OException.wrapException(new OInterruptedException("Terminated while waiting update view to finis"), e);
+      }
+    }
+    for (String metric : registeredMetrics) {
+      Orient.instance().getProfiler().unregisterHookValue(metric);
+    }
+    registeredMetrics.clear();
 
     closed = true;
   }
@@ -183,14 +250,18 @@ public class ViewManager {
     }
   }
 
-  public synchronized OView getNextViewToUpdate(ODatabase db) {
+  /**
+   * Returns the views that need a refresh, the ones with higher priority first and, with the same priority, the ones that were
+   * not refreshed for longer.
+   *
+   * @param db db instance
+   */
+  public List<OView> getViewsToUpdate(ODatabase db) {
     OSchema schema = db.getMetadata().getSchema();
 
-    List<String> names = schema.getViews().stream().map(x -> x.getName()).sorted().collect(Collectors.toList());
-    if (names.isEmpty()) {
-      return null;
-    }
-    for (String name : names) {
+    List<OView> result = new ArrayList<>();
+    for (OView view : schema.getViews()) {
+      String name = view.getName();
       if (!buildOnThisNode(db, name)) {
         continue;
       }
@@ -203,13 +274,69 @@ public class ViewManager {
       if (!needsUpdateBasedOnWatchRules(name, db)) {
         continue;
       }
-      if (lastUpdatedView == null || name.compareTo(lastUpdatedView) > 0) {
-        lastUpdatedView = name;
-        return schema.getView(name);
+      result.add(view);
+    }
+    result.sort(Comparator.comparingInt((OView x) -> -x.getUpdatePriority())
+        .thenComparingLong(x -> lastUpdateTimestampForView.getOrDefault(x.getName(), 0L)).thenComparing(OView::getName));
+    return result;
+  }
+
+  /**
+   * Queues the refresh of a view, unless it is already being refreshed or another view on the same class is.
+   *
+   * @return false if the queue of the refreshes is full
+   */
+  private boolean submitRefresh(String viewName, String sourceClass) {
+    synchronized (refreshingViews) {
+      if (refreshingViews.containsKey(viewName) || (sourceClass != null && refreshingViews.containsValue(sourceClass))) {
+        return true;
+      }
+      refreshingViews.put(viewName, sourceClass);
+      try {
+        refreshExecutor.execute(() -> runRefresh(viewName));
+      } catch (RejectedExecutionException e) {
+        refreshingViews.remove(viewName);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void runRefresh(String viewName) {
+    try {
+      if (closed) {
+        return;
+      }
+      try (ODatabaseDocumentInternal db = orientDB.openNoAuthorization(dbName)) {
+        OView view = db.getMetadata().getSchema().getView(viewName);
+        if (view != null) {
+          refreshView(view, db);
+        }
+      }
+    } catch (Exception e) {
+      OLogManager.instance().warn(this, "Failed to refresh view '%s'", e, viewName);
+    } finally {
+      synchronized (refreshingViews) {
+        refreshingViews.remove(viewName);
       }
     }
+  }
 
-    lastUpdatedView = null;
+  /**
+   * @return the lower case name of the class the view query reads from, null if the query does not read from a class
+   */
+  private static String getSourceClass(OView view, ODatabaseDocumentInternal db) {
+    try {
+      OStatement statement = OStatementCache.get(view.getQuery(), db);
+      if (statement instanceof OSelectStatement) {
+        OFromClause target = ((OSelectStatement) statement).getTarget();
+        if (target != null && target.getItem() != null && target.getItem().getIdentifier() != null) {
+          return target.getItem().getIdentifier().getStringValue().toLowerCase(Locale.ENGLISH);
+        }
+      }
+    } catch (RuntimeException e) {
+      OLogManager.instance().debug(ViewManager.class, "Cannot parse the query of view '%s'", e, view.getName());
+    }
     return null;
   }
 
@@ -270,10 +397,93 @@ public class ViewManager {
     return lastUpdate + (updateInterval * 1000) < System.currentTimeMillis();
   }
 
-  public synchronized void updateView(OView view, ODatabaseDocument db) {
+  /**
+   * Brings the content of a view up to date, applying the changes of the source records collected since the last refresh if the
+   * view can be maintained incrementally, otherwise running the view query again.
+   * <p>
+   * The query of the view and the changes run locking only the view being refreshed, so different views can be refreshed in
+   * parallel; only the swap of the clusters and indexes of a rebuilt view takes the manager lock.
+   *
+   * @param view the view
+   * @param db   db instance
+   */
+  public void refreshView(OView view, ODatabaseDocument db) {
+    long timer = Orient.instance().getProfiler().startChrono();
+    long begin = System.nanoTime();
+    try {
+      IncrementalViewMaintenance maintenance = maintenances.get(view.getName());
+      if (maintenance != null) {
+        lastUpdateTimestampForView.put(view.getName(), System.currentTimeMillis());
+        if (maintenance.applyChanges(view, (ODatabaseDocumentInternal) db)) {
+          return;
+        }
+      }
+      updateView(view, db);
+    } finally {
+      recordRefresh(view.getName(), timer, begin);
+    }
+  }
+
+  /**
+   * Updates the refresh latency and staleness metrics of a view after a refresh.
+   *
+   * @param timer start time of the refresh returned by the profiler
+   * @param begin start time of the refresh in nanoseconds
+   */
+  private void recordRefresh(String viewName, long timer, long begin) {
+    OProfiler profiler = Orient.instance().getProfiler();
+    lastRefreshDurationForView.put(viewName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+    profiler.stopChrono("db." + dbName + ".view." + viewName + ".refresh", "Refresh of a view", timer, "db.*.view.*.refresh");
+    String stalenessMetric = "db." + dbName + ".view." + viewName + ".staleness";
+    if (registeredMetrics.add(stalenessMetric)) {
+      profiler.registerHookValue(stalenessMetric, "Milliseconds since the content of a view was read from its sources",
+          OProfiler.METRIC_TYPE.STAT, () -> getStaleness(viewName), "db.*.view.*.staleness");
+    }
+  }
+
+  /**
+   * @return the duration in milliseconds of the last refresh of a view, -1 if the view was never refreshed
+   */
+  public long getLastRefreshDuration(String viewName) {
+    return lastRefreshDurationForView.getOrDefault(viewName, -1L);
+  }
+
+  /**
+   * @return the milliseconds since the content of a view was read from its sources, -1 if the view was never refreshed
+   */
+  public long getStaleness(String viewName) {
+    Long lastUpdate = lastUpdateTimestampForView.get(viewName);
+    return lastUpdate == null ? -1 : System.currentTimeMillis() - lastUpdate;
+  }
+
+  public void updateView(OView view, ODatabaseDocument db) {
+    // the view is locked before the rebuild lock, as when the changes are applied
+    IncrementalViewMaintenance maintenance = maintenances.compute(view.getName(),
+        (name, old) -> old != null && old.getQuery().equals(view.getQuery()) ?
+            old :
+            IncrementalViewMaintenance.create(view, (ODatabaseDocumentInternal) db));
+    if (maintenance != null) {
+      maintenance.startRebuild();
+    }
+    try {
+      rebuildView(view, db);
+    } finally {
+      if (maintenance != null) {
+        maintenance.endRebuild();
+      }
+    }
+  }
+
+  private void rebuildView(OView view, ODatabaseDocument db) {
+    synchronized (rebuildLocks.computeIfAbsent(view.getName(), (name) -> new Object())) {
+      doRebuildView(view, db);
+    }
+  }
+
+  private void doRebuildView(OView view, ODatabaseDocument db) {
     lastUpdateTimestampForView.put(view.getName(), System.currentTimeMillis());
 
-    int cluster = db.addCluster(getNextClusterNameFor(view, db));
+    int cluster = addViewCluster(view, db);
 
     String viewName = view.getName();
     String query = view.getQuery();
@@ -297,34 +507,40 @@ public class ViewManager {
 
     });
 
-    view = db.getMetadata().getSchema().getView(view.getName());
-    if (view == null) {
-      //the view was dropped in the meantime
-      db.dropCluster(clusterName, false);
-      indexes.forEach(x -> x.delete());
-      return;
-    }
-    lockView(view);
-    view.addClusterId(cluster);
-    for (int i : view.getClusterIds()) {
-      if (i != cluster) {
-        clustersToDrop.add(i);
-        viewCluserVisitors.put(i, new AtomicInteger(0));
-        oldClustersPerViews.put(i, view.getName());
-        view.removeClusterId(i);
+    // only the query runs in parallel with the rebuilds of other views, the clusters and indexes are swapped under the manager
+    // lock, the same taken to track their readers and to drop them
+    synchronized (this) {
+      view = db.getMetadata().getSchema().getView(view.getName());
+      if (view == null) {
+        //the view was dropped in the meantime
+        db.dropCluster(clusterName, false);
+        indexes.forEach(x -> x.delete());
+        maintenances.remove(viewName);
+        return;
+      }
+      lockView(view);
+      view.addClusterId(cluster);
+      for (int i : view.getClusterIds()) {
+        if (i != cluster) {
+          clustersToDrop.add(i);
+          // keep the readers that are already using the cluster
+          viewCluserVisitors.putIfAbsent(i, new AtomicInteger(0));
+          oldClustersPerViews.put(i, view.getName());
+          view.removeClusterId(i);
+        }
       }
-    }
 
-    final OViewImpl viewImpl = ((OViewImpl) view);
-    viewImpl.getInactiveIndexes().forEach(idx -> {
-      indexesToDrop.add(idx);
-      viewIndexVisitors.put(idx, new AtomicInteger(0));
-      oldIndexesPerViews.put(idx, viewName);
-    });
-    viewImpl.inactivateIndexes();
-    viewImpl.addActiveIndexes(indexes.stream().map(x -> x.getName()).collect(Collectors.toList()));
+      final OViewImpl viewImpl = ((OViewImpl) view);
+      viewImpl.getInactiveIndexes().forEach(idx -> {
+        indexesToDrop.add(idx);
+        viewIndexVisitors.putIfAbsent(idx, new AtomicInteger(0));
+        oldIndexesPerViews.put(idx, viewName);
+      });
+      viewImpl.inactivateIndexes();
+      viewImpl.addActiveIndexes(indexes.stream().map(x -> x.getName()).collect(Collectors.toList()));
 
-    unlockView(view);
+      unlockView(view);
+    }
     cleanUnusedViewIndexes(db);
     cleanUnusedViewClusters(db);
 
@@ -342,7 +558,7 @@ public class ViewManager {
     indexes.forEach(idx -> idx.put(indexedKeyFor(idx, newRow), newRow));
   }
 
-  private Object indexedKeyFor(OIndex idx, OElement newRow) {
+  static Object indexedKeyFor(OIndex idx, OElement newRow) {
     List<String> fieldsToIndex = idx.getDefinition().getFieldsToIndex();
     if (fieldsToIndex.size() == 1) {
       return idx.getDefinition().createValue((Object) newRow.getProperty(fieldsToIndex.get(0)));
@@ -392,6 +608,14 @@ public class ViewManager {
     //TODO
   }
 
+  /**
+   * Adds a new cluster for the content of a view. The name is chosen under the manager lock, as the names of the clusters of
+   * views refreshed in parallel could collide, eg. for views named "a" and "a1".
+   */
+  private synchronized int addViewCluster(OView view, ODatabaseDocument db) {
+    return db.addCluster(getNextClusterNameFor(view, db));
+  }
+
   private String getNextClusterNameFor(OView view, ODatabase db) {
     int i = 0;
     String viewName = view.getName();
@@ -420,7 +644,13 @@ public class ViewManager {
       }
       try {
         OView view = databaseSession.getMetadata().getSchema().getView(name);
-        updateView(view, databaseSession);
+        long timer = Orient.instance().getProfiler().startChrono();
+        long begin = System.nanoTime();
+        try {
+          updateView(view, databaseSession);
+        } finally {
+          recordRefresh(name, timer, begin);
+        }
         if (listener != null) {
           listener.afterCreate(databaseSession, name);
         }
@@ -452,21 +682,89 @@ public class ViewManager {
 
   public void recordAdded(OImmutableClass clazz, ODocument doc, ODatabaseDocumentEmbedded oDatabaseDocumentEmbedded) {
     lastChangePerClass.put(clazz.getName().toLowerCase(Locale.ENGLISH), System.currentTimeMillis());
+    collectChange(clazz, doc, false, true, oDatabaseDocumentEmbedded);
   }
 
   public void recordUpdated(OImmutableClass clazz, ODocument doc, ODatabaseDocumentEmbedded oDatabaseDocumentEmbedded) {
     lastChangePerClass.put(clazz.getName().toLowerCase(Locale.ENGLISH), System.currentTimeMillis());
+    collectChange(clazz, doc, true, true, oDatabaseDocumentEmbedded);
   }
 
   public void recordDeleted(OImmutableClass clazz, ODocument doc, ODatabaseDocumentEmbedded oDatabaseDocumentEmbedded) {
     lastChangePerClass.put(clazz.getName().toLowerCase(Locale.ENGLISH), System.currentTimeMillis());
+    collectChange(clazz, doc, true, false, oDatabaseDocumentEmbedded);
+  }
+
+  private void collectChange(OImmutableClass clazz, ODocument doc, boolean existed, boolean exists,
+      ODatabaseDocumentEmbedded db) {
+    if (maintenances.isEmpty()) {
+      return;
+    }
+    OResult before = null;
+    OResult after = null;
+    for (IncrementalViewMaintenance maintenance : maintenances.values()) {
+      if (!maintenance.isSourceClass(clazz)) {
+        continue;
+      }
+      if (existed && before == null) {
+        before = OClassIndexManager.getOriginalState(doc, new HashSet<>(Arrays.asList(doc.getDirtyFields())));
+      }
+      if (exists && after == null) {
+        after = new OResultInternal(doc);
+      }
+      OBasicTransaction transaction = db.getMicroOrRegularTransaction();
+      if (transaction instanceof OMicroTransaction && transaction.isActive()) {
+        // the commit can still fail, and a created record has a temporary identity until then
+        pendingChanges.computeIfAbsent(db, (x) -> new ArrayList<>()).add(new PendingChange(maintenance, doc, before, after));
+      } else {
+        maintenance.recordChanged(doc.getIdentity(), before, after, db);
+      }
+    }
+  }
+
+  /**
+   * Passes to the views the changes of the source records made in the micro-transaction just committed.
+   *
+   * @param db the database that committed the micro-transaction
+   */
+  public void notifyForTxChanges(ODatabaseDocumentInternal db) {
+    List<PendingChange> changes = pendingChanges.remove(db);
+    if (changes == null) {
+      return;
+    }
+    for (PendingChange change : changes) {
+      change.maintenance.recordChanged(change.record.getIdentity().copy(), change.before, change.after, db);
+    }
+  }
+
+  /**
+   * Drops the changes of the source records made in a micro-transaction that was rolled back.
+   *
+   * @param db the database that rolled back the micro-transaction
+   */
+  public void removePendingChanges(ODatabaseDocumentInternal db) {
+    pendingChanges.remove(db);
+  }
+
+  private static final class PendingChange {
+    private final IncrementalViewMaintenance maintenance;
+    private final ODocument                  record;
+    private final OResult                    before;
+    private final OResult                    after;
+
+    private PendingChange(IncrementalViewMaintenance maintenance, ODocument record, OResult before, OResult after) {
+      this.maintenance = maintenance;
+      this.record = record;
+      this.before = before;
+      this.after = after;
+    }
   }
 
   public String getViewFromOldCluster(int clusterId) {
     return oldClustersPerViews.get(clusterId);
   }
 
-  public void endUsingViewIndex(String indexName) {
+  public synchronized void endUsingViewIndex(String indexName) {
     AtomicInteger item = viewIndexVisitors.get(indexName);
     if (item == null) {
       return;
@@ -474,7 +772,7 @@ public class ViewManager {
     item.decrementAndGet();
   }
 
-  public void startUsingViewIndex(String indexName) {
+  public synchronized void startUsingViewIndex(String indexName) {
     AtomicInteger item = viewIndexVisitors.get(indexName);
     if (item == null) {
       item = new AtomicInteger(0);
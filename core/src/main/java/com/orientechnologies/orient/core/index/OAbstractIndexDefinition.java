@@ -21,8 +21,13 @@ package com.orientechnologies.orient.core.index;
 
 import com.orientechnologies.orient.core.collate.OCollate;
 import com.orientechnologies.orient.core.collate.ODefaultCollate;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandExecutorSQLCreateIndex;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 import com.orientechnologies.orient.core.type.ODocumentWrapperNoClass;
 
 /**
@@ -33,6 +38,8 @@ import com.orientechnologies.orient.core.type.ODocumentWrapperNoClass;
 public abstract class OAbstractIndexDefinition extends ODocumentWrapperNoClass implements OIndexDefinition {
   protected OCollate collate           = new ODefaultCollate();
   private boolean    nullValuesIgnored = true;
+  private String     filter;
+  private volatile OWhereClause filterCondition;
 
   protected OAbstractIndexDefinition() {
     super(new ODocument().setTrackingChanges(false));
@@ -55,6 +62,65 @@ public abstract class OAbstractIndexDefinition extends ODocumentWrapperNoClass i
     setCollate(OSQLEngine.getCollate(iCollate));
   }
 
+  @Override
+  public String getFilter() {
+    return filter;
+  }
+
+  @Override
+  public void setFilter(String filter) {
+    this.filter = filter;
+    this.filterCondition = null;
+  }
+
+  @Override
+  public OWhereClause getFilterCondition() {
+    if (filter == null)
+      return null;
+
+    OWhereClause condition = filterCondition;
+    if (condition == null) {
+      condition = OSQLEngine.parsePredicate(filter);
+      filterCondition = condition;
+    }
+    return condition;
+  }
+
+  @Override
+  public String toCreateIndexDDL(final String indexName, final String indexType, final String engine, final ODocument metadata) {
+    final String ddl = toCreateIndexDDL(indexName, indexType, engine);
+    if (metadata == null)
+      return ddl;
+
+    // the WHERE clause of partial indexes is the last one of the statement
+    final String filterClause = filterClause();
+    return ddl.substring(0, ddl.length() - filterClause.length()) + " " + OCommandExecutorSQLCreateIndex.KEYWORD_METADATA + " "
+        + metadata.toJSON() + filterClause;
+  }
+
+  /**
+   * Appends the WHERE clause of partial indexes to the CREATE INDEX statement built by {@link #toCreateIndexDDL(String, String,
+   * String)}, it has to be the last appended clause.
+   */
+  protected StringBuilder appendFilter(final StringBuilder ddl) {
+    return ddl.append(filterClause());
+  }
+
+  private String filterClause() {
+    return filter == null ? "" : " where " + filter;
+  }
+
+  @Override
+  public boolean matchesFilter(OResult record) {
+    final OWhereClause condition = getFilterCondition();
+    if (condition == null)
+      return true;
+
+    final OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(ODatabaseRecordThreadLocal.instance().getIfDefined());
+    return condition.matchesFilters(record, ctx);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
@@ -70,6 +136,9 @@ public abstract class OAbstractIndexDefinition extends ODocumentWrapperNoClass i
     if (nullValuesIgnored != that.nullValuesIgnored)
       return false;
 
+    if (filter != null ? !filter.equals(that.filter) : that.filter != null)
+      return false;
+
     return true;
   }
 
@@ -77,6 +146,7 @@ public abstract class OAbstractIndexDefinition extends ODocumentWrapperNoClass i
   public int hashCode() {
     int result = collate.hashCode();
     result = 31 * result + (nullValuesIgnored ? 1 : 0);
+    result = 31 * result + (filter != null ? filter.hashCode() : 0);
     return result;
   }
 
@@ -91,8 +161,11 @@ public abstract class OAbstractIndexDefinition extends ODocumentWrapperNoClass i
   }
 
   protected void serializeToStream() {
+    if (filter != null)
+      document.field("filter", filter);
   }
 
   protected void serializeFromStream() {
+    setFilter(document.<String>field("filter"));
   }
 }
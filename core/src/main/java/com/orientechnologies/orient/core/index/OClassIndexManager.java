@@ -29,6 +29,8 @@ import com.orientechnologies.orient.core.hook.ODocumentHookAbstract;
 import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChanges;
 
 import java.util.*;
@@ -88,11 +90,52 @@ public class OClassIndexManager {
       final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
       if (!dirtyFields.isEmpty())
         for (final OIndex<?> index : indexes) {
-          processIndexUpdate(iDocument, dirtyFields, getTransactionalIndex(database, index), changes);
+          if (index.getDefinition().getFilter() == null)
+            processIndexUpdate(iDocument, dirtyFields, getTransactionalIndex(database, index), changes);
+          else
+            processPartialIndexUpdate(iDocument, dirtyFields, getTransactionalIndex(database, index), changes);
         }
     }
   }
 
+  /**
+   * Updates a partial index, the record enters or leaves the indexed subset when the update changes the result of the filter.
+   */
+  private static void processPartialIndexUpdate(ODocument iDocument, Set<String> dirtyFields, OIndex<?> index,
+      List<IndexChange> changes) {
+    final OIndexDefinition indexDefinition = index.getDefinition();
+    final boolean wasIndexed = indexDefinition.matchesFilter(getOriginalState(iDocument, dirtyFields));
+    final boolean indexed = indexDefinition.matchesFilter(new OResultInternal(iDocument));
+
+    if (wasIndexed && indexed)
+      processIndexUpdate(iDocument, dirtyFields, index, changes);
+    else if (wasIndexed)
+      removeIndexEntry(iDocument, dirtyFields, index, changes);
+    else if (indexed)
+      addIndexEntry(iDocument, iDocument.getIdentity(), index, changes);
+  }
+
+  /**
+   * @param iDocument   a document with changes that are not saved yet, or that are being saved
+   * @param dirtyFields the fields changed in the document
+   *
+   * @return the document as it was before the changes
+   */
+  public static OResult getOriginalState(ODocument iDocument, Set<String> dirtyFields) {
+    final OResultInternal result = new OResultInternal(iDocument);
+    for (final String field : dirtyFields) {
+      final OMultiValueChangeTimeLine<?, ?> multiValueChangeTimeLine = iDocument.getCollectionTimeLine(field);
+      if (multiValueChangeTimeLine != null) {
+        final OTrackedMultiValue fieldValue = iDocument.field(field);
+        @SuppressWarnings("unchecked")
+        final Object restoredMultiValue = fieldValue.returnOriginalState(multiValueChangeTimeLine.getMultiValueChangeEvents());
+        result.setProperty(field, restoredMultiValue);
+      } else
+        result.setProperty(field, iDocument.getOriginalValue(field));
+    }
+    return result;
+  }
+
   private static OIndex getTransactionalIndex(ODatabaseDocumentInternal database, OIndex<?> index) {
     return ((OIndexManagerProxy) database.getMetadata().getIndexManager()).preProcessBeforeReturn(database, index);
   }
@@ -226,6 +269,17 @@ public class OClassIndexManager {
     }
   }
 
+  private static void processExpressionIndexUpdate(final OIndex<?> index, final Set<String> dirtyFields, final ODocument iRecord,
+      List<IndexChange> changes) {
+    // THE EXPRESSION CAN READ ANY FIELD, COMPARE THE KEYS OF THE ORIGINAL AND OF THE CURRENT RECORD
+    final OExpressionIndexDefinition indexDefinition = (OExpressionIndexDefinition) index.getDefinition();
+    final Object origValue = indexDefinition.getValueToIndex(getOriginalState(iRecord, dirtyFields));
+    final Object newValue = indexDefinition.getDocumentValueToIndex(iRecord);
+
+    if (!Objects.equals(origValue, newValue))
+      processIndexUpdateFieldAssignment(index, iRecord, origValue, newValue, changes);
+  }
+
   private static void processIndexUpdateFieldAssignment(OIndex<?> index, ODocument iRecord, final Object origValue,
       final Object newValue, List<IndexChange> changes) {
     final OIndexDefinition indexDefinition = index.getDefinition();
@@ -353,7 +407,9 @@ public class OClassIndexManager {
   }
 
   public static void processIndexUpdate(ODocument iDocument, Set<String> dirtyFields, OIndex<?> index, List<IndexChange> changes) {
-    if (index.getDefinition() instanceof OCompositeIndexDefinition)
+    if (index.getDefinition() instanceof OExpressionIndexDefinition)
+      processExpressionIndexUpdate(index, dirtyFields, iDocument, changes);
+    else if (index.getDefinition() instanceof OCompositeIndexDefinition)
       processCompositeIndexUpdate(index, dirtyFields, iDocument, changes);
     else
       processSingleIndexUpdate(index, dirtyFields, iDocument, changes);
@@ -365,7 +421,8 @@ public class OClassIndexManager {
     final OIdentifiable rid = document.getIdentity();
 
     for (final OIndex<?> index : indexes) {
-      addIndexEntry(document, rid, getTransactionalIndex(database, index), changes);
+      if (index.getDefinition().matchesFilter(new OResultInternal(document)))
+        addIndexEntry(document, rid, getTransactionalIndex(database, index), changes);
     }
   }
 
@@ -385,35 +442,38 @@ public class OClassIndexManager {
     if (cls == null)
       return;
 
-    final Collection<OIndex<?>> indexes = new ArrayList<>();
-    for (OIndex index : cls.getRawIndexes()) {
-      indexes.add(getTransactionalIndex(database, index));
-    }
-
-    if (!indexes.isEmpty()) {
-      final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
-
-      if (!dirtyFields.isEmpty()) {
-        // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
-        final Iterator<OIndex<?>> indexIterator = indexes.iterator();
-
-        while (indexIterator.hasNext()) {
-          final OIndex<?> index = indexIterator.next();
+    final Collection<OIndex<?>> indexes = cls.getRawIndexes();
+    if (indexes.isEmpty())
+      return;
 
-          final boolean result;
-          if (index.getDefinition() instanceof OCompositeIndexDefinition)
-            result = processCompositeIndexDelete(index, dirtyFields, iDocument, changes);
-          else
-            result = processSingleIndexDelete(index, dirtyFields, iDocument, changes);
+    final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
+    for (final OIndex<?> index : indexes) {
+      // A PARTIAL INDEX DOES NOT CONTAIN THE RECORDS THAT DID NOT MATCH ITS FILTER
+      if (index.getDefinition().getFilter() == null || index.getDefinition()
+          .matchesFilter(getOriginalState(iDocument, dirtyFields)))
+        removeIndexEntry(iDocument, dirtyFields, getTransactionalIndex(database, index), changes);
+    }
+  }
 
-          if (result)
-            indexIterator.remove();
-        }
-      }
+  private static void removeIndexEntry(ODocument iDocument, Set<String> dirtyFields, OIndex<?> index, List<IndexChange> changes) {
+    if (index.getDefinition() instanceof OExpressionIndexDefinition) {
+      final Object origValue = ((OExpressionIndexDefinition) index.getDefinition())
+          .getValueToIndex(getOriginalState(iDocument, dirtyFields));
+      deleteIndexKey(index, iDocument, origValue, changes);
+      return;
     }
 
+    // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
+    final boolean result;
+    if (dirtyFields.isEmpty())
+      result = false;
+    else if (index.getDefinition() instanceof OCompositeIndexDefinition)
+      result = processCompositeIndexDelete(index, dirtyFields, iDocument, changes);
+    else
+      result = processSingleIndexDelete(index, dirtyFields, iDocument, changes);
+
     // REMOVE INDEX OF ENTRIES FOR THE NON CHANGED ONLY VALUES
-    for (final OIndex<?> index : indexes) {
+    if (!result) {
       final Object key = index.getDefinition().getDocumentValueToIndex(iDocument);
       deleteIndexKey(index, iDocument, key, changes);
     }
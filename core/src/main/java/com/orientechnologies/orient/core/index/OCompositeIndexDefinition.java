@@ -40,6 +40,7 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
   private       String                 className;
   private int               multiValueDefinitionIndex = -1;
   private OCompositeCollate collate                   = new OCompositeCollate(this);
+  private int               includedDefinitions       = 0;
 
   public OCompositeIndexDefinition() {
     indexDefinitions = new ArrayList<OIndexDefinition>(5);
@@ -116,6 +117,47 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     return Collections.unmodifiableList(fields);
   }
 
+  /**
+   * Marks the last index definitions as included: their values are stored in the key, so that queries can read them from the index
+   * without loading the records, but records are indexed even if these values are null.
+   *
+   * @param includedDefinitions number of included definitions, at the end of the key
+   */
+  public void setIncludedDefinitions(final int includedDefinitions) {
+    if (includedDefinitions < 0 || includedDefinitions >= indexDefinitions.size())
+      throw new OIndexException("Composite key must contain at least one not included field");
+    for (int i = indexDefinitions.size() - includedDefinitions; i < indexDefinitions.size(); i++)
+      if (indexDefinitions.get(i) instanceof OIndexDefinitionMultiValue)
+        throw new OIndexException("Included field cannot be a collection: " + indexDefinitions.get(i).getFields());
+
+    this.includedDefinitions = includedDefinitions;
+  }
+
+  public int getIncludedDefinitions() {
+    return includedDefinitions;
+  }
+
+  /**
+   * @return the fields whose values are stored at the end of the key but do not identify it
+   */
+  public List<String> getIncludedFields() {
+    final List<String> fields = new LinkedList<String>();
+    for (int i = indexDefinitions.size() - includedDefinitions; i < indexDefinitions.size(); i++)
+      fields.addAll(indexDefinitions.get(i).getFields());
+
+    return Collections.unmodifiableList(fields);
+  }
+
+  private boolean isNullValueIgnored(final OIndexDefinition indexDefinition) {
+    if (!isNullValuesIgnored())
+      return false;
+    for (int i = indexDefinitions.size() - includedDefinitions; i < indexDefinitions.size(); i++)
+      if (indexDefinitions.get(i) == indexDefinition)
+        return false;
+
+    return true;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -140,7 +182,7 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     for (final OIndexDefinition indexDefinition : indexDefinitions) {
       final Object result = indexDefinition.getDocumentValueToIndex(iDocument);
 
-      if (result == null && isNullValuesIgnored())
+      if (result == null && isNullValueIgnored(indexDefinition))
         return null;
 
       //for empty collections we add null key in index
@@ -194,7 +236,7 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
 
       final Object keyValue = indexDefinition.createValue(indexParams);
 
-      if (keyValue == null && isNullValuesIgnored())
+      if (keyValue == null && isNullValueIgnored(indexDefinition))
         return null;
 
       //for empty collections we add null key in index
@@ -241,7 +283,7 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
       else
         keyValue = indexDefinition.createValue(indexParams);
 
-      if (keyValue == null && isNullValuesIgnored())
+      if (keyValue == null && isNullValueIgnored(indexDefinition))
         return null;
 
       compositeKey.addKey(keyValue);
@@ -358,6 +400,8 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
       return false;
     if (!indexDefinitions.equals(that.indexDefinitions))
       return false;
+    if (includedDefinitions != that.includedDefinitions)
+      return false;
 
     return true;
   }
@@ -366,12 +410,14 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
   public int hashCode() {
     int result = indexDefinitions.hashCode();
     result = 31 * result + className.hashCode();
+    result = 31 * result + includedDefinitions;
     return result;
   }
 
   @Override
   public String toString() {
-    return "OCompositeIndexDefinition{" + "indexDefinitions=" + indexDefinitions + ", className='" + className + '\'' + '}';
+    return "OCompositeIndexDefinition{" + "indexDefinitions=" + indexDefinitions + ", className='" + className + '\''
+        + ", includedDefinitions=" + includedDefinitions + '}';
   }
 
   /**
@@ -406,6 +452,8 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     document.field("indexDefinitions", inds, OType.EMBEDDEDLIST);
     document.field("indClasses", indClasses, OType.EMBEDDEDLIST);
     document.field("nullValuesIgnored", isNullValuesIgnored());
+    if (includedDefinitions > 0)
+      document.field("includedDefinitions", includedDefinitions);
   }
 
   /**
@@ -415,14 +463,24 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     final StringBuilder ddl = new StringBuilder("create index ");
     ddl.append(indexName).append(" on ").append(className).append(" ( ");
 
-    final Iterator<String> fieldIterator = getFieldsToIndex().iterator();
-    if (fieldIterator.hasNext()) {
-      ddl.append(fieldIterator.next());
-      while (fieldIterator.hasNext()) {
-        ddl.append(", ").append(fieldIterator.next());
+    final List<String> fieldsToIndex = getFieldsToIndex();
+    final int keyFields = fieldsToIndex.size() - getIncludedFields().size();
+    for (int i = 0; i < keyFields; i++) {
+      if (i > 0)
+        ddl.append(", ");
+      ddl.append(fieldsToIndex.get(i));
+    }
+    ddl.append(" ) ");
+    if (keyFields < fieldsToIndex.size()) {
+      ddl.append("include ( ");
+      for (int i = keyFields; i < fieldsToIndex.size(); i++) {
+        if (i > keyFields)
+          ddl.append(", ");
+        ddl.append(fieldsToIndex.get(i));
       }
+      ddl.append(" ) ");
     }
-    ddl.append(" ) ").append(indexType).append(' ');
+    ddl.append(indexType).append(' ');
 
     if (engine != null)
       ddl.append(OCommandExecutorSQLCreateIndex.KEYWORD_ENGINE + " " + engine).append(' ');
@@ -439,7 +497,7 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
       }
     }
 
-    return ddl.toString();
+    return appendFilter(ddl).toString();
   }
 
   /**
@@ -479,6 +537,8 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
       }
 
       setNullValuesIgnored(!Boolean.FALSE.equals(document.<Boolean>field("nullValuesIgnored")));
+      final Integer included = document.field("includedDefinitions");
+      includedDefinitions = included == null ? 0 : included;
     } catch (final ClassNotFoundException e) {
       throw OException.wrapException(new OIndexException("Error during composite index deserialization"), e);
     } catch (final NoSuchMethodException e) {
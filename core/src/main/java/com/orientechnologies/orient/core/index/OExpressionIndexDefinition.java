@@ -0,0 +1,139 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandExecutorSQLCreateIndex;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Index implementation whose key is calculated by an SQL expression on the record, eg. <code>name.toLowerCase()</code>.
+ * <p>
+ * The text of the expression is the only field of the index, so the query planner uses the index for the conditions on the same
+ * expression.
+ */
+public class OExpressionIndexDefinition extends OPropertyIndexDefinition {
+  private static final long serialVersionUID = -2425104379513421183L;
+
+  private transient OExpression expression;
+
+  public OExpressionIndexDefinition(final String iClassName, final String iExpression, final OType iType) {
+    super(iClassName, iExpression, iType);
+  }
+
+  /**
+   * Constructor used for index unmarshalling.
+   */
+  public OExpressionIndexDefinition() {
+  }
+
+  public String getExpression() {
+    return field;
+  }
+
+  @Override
+  public Object getDocumentValueToIndex(final ODocument iDocument) {
+    return getValueToIndex(new OResultInternal(iDocument));
+  }
+
+  /**
+   * Calculates the key of a record.
+   *
+   * @param record the record, or its state before the changes of the current update.
+   *
+   * @return Key value or null if the expression is null for the record.
+   */
+  public Object getValueToIndex(final OResult record) {
+    final OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(ODatabaseRecordThreadLocal.instance().getIfDefined());
+    Object value = getParsedExpression().execute(record, ctx);
+    if (value instanceof OResult && ((OResult) value).isElement())
+      value = ((OResult) value).getElement().get();
+    if (OType.LINK.equals(keyType) && value instanceof OIdentifiable)
+      value = ((OIdentifiable) value).getIdentity();
+    return createValue(value);
+  }
+
+  /**
+   * @param propertyName Name of the property, case insensitive.
+   *
+   * @return true if the expression reads the property, so the index is involved in the changes of the property.
+   */
+  public boolean refersTo(final String propertyName) {
+    final Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    names.add(propertyName);
+    return getParsedExpression().needsAliases(names);
+  }
+
+  private OExpression getParsedExpression() {
+    OExpression expression = this.expression;
+    if (expression == null) {
+      expression = OSQLEngine.parseExpression(field);
+      this.expression = expression;
+    }
+    return expression;
+  }
+
+  @Override
+  protected void serializeFromStream() {
+    super.serializeFromStream();
+    expression = null;
+  }
+
+  @Override
+  public String toString() {
+    return "OExpressionIndexDefinition{" + "className='" + className + '\'' + ", expression='" + field + '\'' + ", keyType="
+        + keyType + ", collate=" + collate + ", null values ignored = " + isNullValuesIgnored() + '}';
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toCreateIndexDDL(final String indexName, final String indexType, final String engine) {
+    final StringBuilder ddl = new StringBuilder("create index `");
+
+    ddl.append(indexName).append("` on `");
+    ddl.append(className).append("` ( (").append(field).append(")");
+
+    if (!collate.getName().equals(ODefaultCollate.NAME))
+      ddl.append(" collate ").append(collate.getName());
+
+    ddl.append(" ) ");
+    ddl.append(indexType);
+
+    if (engine != null)
+      ddl.append(' ').append(OCommandExecutorSQLCreateIndex.KEYWORD_ENGINE + " " + engine);
+
+    ddl.append(' ').append(keyType.name());
+    return appendFilter(ddl).toString();
+  }
+}
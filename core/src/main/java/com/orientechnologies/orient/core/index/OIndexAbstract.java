@@ -40,6 +40,7 @@ import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
@@ -922,9 +923,11 @@ public abstract class OIndexAbstract<T> implements OIndexInternal<T> {
             throw new OConfigurationException(
                 "Index '" + name + "' cannot be rebuilt because has no a valid definition (" + indexDefinition + ")");
 
-          final Object fieldValue = indexDefinition.getDocumentValueToIndex(doc);
+          // PARTIAL INDEXES SKIP THE RECORDS THAT DO NOT MATCH THEIR FILTER
+          final boolean indexed = indexDefinition.matchesFilter(new OResultInternal(doc));
+          final Object fieldValue = indexed ? indexDefinition.getDocumentValueToIndex(doc) : null;
 
-          if (fieldValue != null || !indexDefinition.isNullValuesIgnored()) {
+          if (indexed && (fieldValue != null || !indexDefinition.isNullValuesIgnored())) {
             try {
               populateIndex(doc, fieldValue);
             } catch (OTooBigIndexKeyException | OIndexException e) {
@@ -22,6 +22,8 @@ package com.orientechnologies.orient.core.index;
 import com.orientechnologies.orient.core.collate.OCollate;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 
 import java.util.List;
 
@@ -124,6 +126,15 @@ public interface OIndexDefinition extends OIndexCallback {
 
   String toCreateIndexDDL(String indexName, String indexType, String engine);
 
+  /**
+   * Same as {@link #toCreateIndexDDL(String, String, String)} but also carries the index metadata, written before the WHERE
+   * filter of partial indexes as the CREATE INDEX grammar requires.
+   *
+   * @param metadata
+   *          index metadata, or <code>null</code> if there is none.
+   */
+  String toCreateIndexDDL(String indexName, String indexType, String engine, ODocument metadata);
+
   boolean isAutomatic();
 
   OCollate getCollate();
@@ -133,4 +144,27 @@ public interface OIndexDefinition extends OIndexCallback {
   boolean isNullValuesIgnored();
 
   void setNullValuesIgnored(boolean value);
+
+  /**
+   * @return SQL condition the records have to match to be indexed, or <code>null</code> if all the records of the class are
+   *         indexed.
+   */
+  String getFilter();
+
+  void setFilter(String filter);
+
+  /**
+   * @return the parsed {@link #getFilter() filter}, parsed once and shared by all the callers, or <code>null</code> if all the
+   *         records of the class are indexed.
+   */
+  OWhereClause getFilterCondition();
+
+  /**
+   * Checks if a record belongs to the subset of records indexed by a partial index.
+   *
+   * @param record the record, or its state before the changes of the current update.
+   *
+   * @return <code>true</code> if the record has to be indexed.
+   */
+  boolean matchesFilter(OResult record);
 }
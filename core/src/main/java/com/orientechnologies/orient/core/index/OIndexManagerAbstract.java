@@ -311,10 +311,10 @@ public abstract class OIndexManagerAbstract extends ODocumentWrapperNoClass impl
 
     final Map<OMultiKey, Set<OIndex<?>>> propertyIndex = getIndexOnProperty(className);
 
-    if (propertyIndex == null || !propertyIndex.containsKey(multiKey))
+    if (propertyIndex == null)
       return Collections.emptySet();
 
-    final Set<OIndex<?>> rawResult = propertyIndex.get(multiKey);
+    final Set<OIndex<?>> rawResult = propertyIndex.getOrDefault(multiKey, Collections.emptySet());
     final Set<OIndex<?>> transactionalResult = new HashSet<>(rawResult.size());
     for (final OIndex<?> index : rawResult) {
       //ignore indexes that ignore null values on partial match
@@ -323,6 +323,18 @@ public abstract class OIndexManagerAbstract extends ODocumentWrapperNoClass impl
       }
     }
 
+    //expression indexes are registered with the text of the expression, they involve all the properties it reads
+    if (fields.size() == 1) {
+      final String field = fields.iterator().next();
+      for (final Set<OIndex<?>> indexes : propertyIndex.values()) {
+        for (final OIndex<?> index : indexes) {
+          if (index.getDefinition() instanceof OExpressionIndexDefinition && ((OExpressionIndexDefinition) index.getDefinition())
+              .refersTo(field))
+            transactionalResult.add(preProcessBeforeReturn(database, index));
+        }
+      }
+    }
+
     return transactionalResult;
   }
 
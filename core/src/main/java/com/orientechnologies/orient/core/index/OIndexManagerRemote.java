@@ -28,7 +28,6 @@ import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.ORecordInternal;
 import com.orientechnologies.orient.core.record.impl.ODocument;
-import com.orientechnologies.orient.core.sql.OCommandExecutorSQLCreateIndex;
 import com.orientechnologies.orient.core.storage.OStorage;
 
 import java.util.Collection;
@@ -49,14 +48,11 @@ public class OIndexManagerRemote extends OIndexManagerAbstract {
   public OIndex<?> createIndex(ODatabaseDocumentInternal database, final String iName, final String iType, final OIndexDefinition iIndexDefinition,
       final int[] iClusterIdsToIndex, final OProgressListener progressListener, ODocument metadata, String engine) {
 
-    String createIndexDDL;
+    final String createIndexDDL;
     if (iIndexDefinition != null)
-      createIndexDDL = iIndexDefinition.toCreateIndexDDL(iName, iType, engine);
+      createIndexDDL = iIndexDefinition.toCreateIndexDDL(iName, iType, engine, metadata);
     else
-      createIndexDDL = new OSimpleKeyIndexDefinition().toCreateIndexDDL(iName, iType, engine);
-
-    if (metadata != null)
-      createIndexDDL += " " + OCommandExecutorSQLCreateIndex.KEYWORD_METADATA + " " + metadata.toJSON();
+      createIndexDDL = new OSimpleKeyIndexDefinition().toCreateIndexDDL(iName, iType, engine, metadata);
 
     acquireExclusiveLock();
     try {
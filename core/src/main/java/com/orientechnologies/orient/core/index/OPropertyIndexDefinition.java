@@ -182,7 +182,7 @@ public class OPropertyIndexDefinition extends OAbstractIndexDefinition {
    * @param indexType
    */
   public String toCreateIndexDDL(final String indexName, final String indexType, final String engine) {
-    return createIndexDDLWithFieldType(indexName, indexType, engine).toString();
+    return appendFilter(createIndexDDLWithFieldType(indexName, indexType, engine)).toString();
   }
 
   protected StringBuilder createIndexDDLWithFieldType(String indexName, String indexType, String engine) {
@@ -112,6 +112,6 @@ public class OPropertyListIndexDefinition extends OAbstractIndexDefinitionMultiV
 
   @Override
   public String toCreateIndexDDL(String indexName, String indexType, String engine) {
-    return createIndexDDLWithoutFieldType(indexName, indexType, engine).toString();
+    return appendFilter(createIndexDDLWithoutFieldType(indexName, indexType, engine)).toString();
   }
 }
@@ -217,6 +217,6 @@ public class OPropertyMapIndexDefinition extends OAbstractIndexDefinitionMultiVa
     ddl.append(" ) ");
     ddl.append(indexType);
 
-    return ddl.toString();
+    return appendFilter(ddl).toString();
   }
 }
@@ -102,6 +102,6 @@ public class OPropertyRidBagIndexDefinition extends OAbstractIndexDefinitionMult
 
   @Override
   public String toCreateIndexDDL(String indexName, String indexType,String engine) {
-    return createIndexDDLWithoutFieldType(indexName, indexType,engine).toString();
+    return appendFilter(createIndexDDLWithoutFieldType(indexName, indexType,engine)).toString();
   }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 public class OImmutableView extends OImmutableClass implements OView {
 
   private final int                                updateIntervalSeconds;
+  private final int                                updatePriority;
   private final List<String>                       watchClasses;
   private final List<String>                       nodes;
   private final List<OViewConfig.OViewIndexConfig> requiredIndexesInfo;
@@ -18,6 +19,7 @@ public class OImmutableView extends OImmutableClass implements OView {
     super(view, schema);
     this.query = view.getQuery();
     this.updateIntervalSeconds = view.getUpdateIntervalSeconds();
+    this.updatePriority = view.getUpdatePriority();
     this.watchClasses = view.getWatchClasses() == null ? null : new ArrayList<>(view.getWatchClasses());
     this.originRidField = view.getOriginRidField();
     this.updatable = view.isUpdatable();
@@ -36,6 +38,11 @@ public class OImmutableView extends OImmutableClass implements OView {
     return updateIntervalSeconds;
   }
 
+  @Override
+  public int getUpdatePriority() {
+    return updatePriority;
+  }
+
   @Override
   public List<String> getWatchClasses() {
     return watchClasses;
@@ -174,6 +174,11 @@ public class OSchemaEmbedded extends OSchemaShared {
         cfg.setUpdateIntervalSeconds((Integer) updateInterval);
       }
 
+      Object updatePriority = metadata.get("updatePriority");
+      if (updatePriority instanceof Integer) {
+        cfg.setUpdatePriority((Integer) updatePriority);
+      }
+
       Object updateStrategy = metadata.get("updateStrategy");
       if (updateStrategy instanceof String) {
         cfg.setUpdateStrategy((String) updateStrategy);
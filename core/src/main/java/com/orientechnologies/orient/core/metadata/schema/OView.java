@@ -7,6 +7,8 @@ public interface OView extends OClass {
 
   int getUpdateIntervalSeconds();
 
+  int getUpdatePriority();
+
   List<String> getWatchClasses();
 
   String getOriginRidField();
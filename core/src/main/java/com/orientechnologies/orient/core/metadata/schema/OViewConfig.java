@@ -48,6 +48,7 @@ public class OViewConfig {
   protected List<String>           watchClasses          = new ArrayList<>();
   protected List<String>           nodes                 = null;
   protected int                    updateIntervalSeconds = 30;
+  protected int                    updatePriority        = 0;
   protected String                 originRidField        = null;
 
   public OViewConfig(String name, String query) {
@@ -65,6 +66,7 @@ public class OViewConfig {
     result.updateStrategy = this.updateStrategy;
     result.watchClasses = this.watchClasses == null ? null : new ArrayList<>(this.watchClasses);
     result.updateIntervalSeconds = this.updateIntervalSeconds;
+    result.updatePriority = this.updatePriority;
     result.originRidField = this.originRidField;
     result.nodes = this.nodes == null ? null : new ArrayList<>(this.nodes);
     return result;
@@ -128,6 +130,18 @@ public class OViewConfig {
     this.updateIntervalSeconds = updateIntervalSeconds;
   }
 
+  public int getUpdatePriority() {
+    return updatePriority;
+  }
+
+  /**
+   * @param updatePriority priority of the refresh of the view, when more views need a refresh at the same time the ones with
+   *                       higher priority are refreshed first
+   */
+  public void setUpdatePriority(int updatePriority) {
+    this.updatePriority = updatePriority;
+  }
+
   public String getOriginRidField() {
     return originRidField;
   }
@@ -42,6 +42,9 @@ public abstract class OViewImpl extends OClassImpl implements OView {
     if (document.getProperty("updateIntervalSeconds") instanceof Integer) {
       cfg.setUpdateIntervalSeconds(document.getProperty("updateIntervalSeconds"));
     }
+    if (document.getProperty("updatePriority") instanceof Integer) {
+      cfg.setUpdatePriority(document.getProperty("updatePriority"));
+    }
     if (document.getProperty("updateStrategy") instanceof String) {
       cfg.setUpdateStrategy(document.getProperty("updateStrategy"));
     }
@@ -83,6 +86,7 @@ public abstract class OViewImpl extends OClassImpl implements OView {
     }
     result.setProperty("indexes", indexes);
     result.setProperty("updateIntervalSeconds", cfg.getUpdateIntervalSeconds());
+    result.setProperty("updatePriority", cfg.getUpdatePriority());
     result.setProperty("updateStrategy", cfg.getUpdateStrategy());
     result.setProperty("watchClasses", cfg.getWatchClasses());
     result.setProperty("originRidField", cfg.getOriginRidField());
@@ -111,6 +115,7 @@ public abstract class OViewImpl extends OClassImpl implements OView {
     }
     result.setProperty("indexes", indexes);
     result.setProperty("updateIntervalSeconds", cfg.getUpdateIntervalSeconds());
+    result.setProperty("updatePriority", cfg.getUpdatePriority());
     result.setProperty("updateStrategy", cfg.getUpdateStrategy());
     result.setProperty("watchClasses", cfg.getWatchClasses());
     result.setProperty("originRidField", cfg.getOriginRidField());
@@ -139,6 +144,11 @@ public abstract class OViewImpl extends OClassImpl implements OView {
     return cfg.updateIntervalSeconds;
   }
 
+  @Override
+  public int getUpdatePriority() {
+    return cfg.getUpdatePriority();
+  }
+
   public List<String> getWatchClasses() {
     return cfg.getWatchClasses();
   }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2014 OrientDB LTD (info(-at-)orientdb.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientechnologies.orient.core.metadata.schema.clusterselection;
+
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Binds every writer thread to its own cluster of the class. Threads are assigned to clusters in round-robin order on their first
+ * insert and keep inserting into the same cluster later, so concurrent inserts into the same class do not contend for the lock
+ * and the free pages of the same cluster as long as the class has at least as many clusters as there are writer threads.
+ *
+ * @since 19.10.26
+ */
+public class OThreadClusterSelectionStrategy implements OClusterSelectionStrategy {
+  public static final String NAME = "thread";
+
+  private final AtomicInteger        nextSlot   = new AtomicInteger();
+  private final ThreadLocal<Integer> threadSlot = ThreadLocal.withInitial(() -> nextSlot.getAndIncrement() & Integer.MAX_VALUE);
+
+  public int getCluster(final OClass iClass, final ODocument doc) {
+    return getCluster(iClass, iClass.getClusterIds(), doc);
+  }
+
+  public int getCluster(final OClass clazz, final int[] clusters, final ODocument doc) {
+    if (clusters.length == 1)
+      // ONLY ONE: RETURN THE FIRST ONE
+      return clusters[0];
+
+    return clusters[threadSlot.get() % clusters.length];
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+}
@@ -39,6 +39,7 @@ public class OEdgeToVertexIterable implements Iterable<OVertex>, OSizeable {
     Iterator<OEdge> iterator = edges.iterator();
     int count = 0;
     while (iterator.hasNext()) {
+      iterator.next();
       count++;
     }
     return count;
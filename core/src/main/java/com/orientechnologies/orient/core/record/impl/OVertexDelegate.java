@@ -22,6 +22,8 @@ package com.orientechnologies.orient.core.record.impl;
 import com.orientechnologies.common.collection.OMultiCollectionIterator;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.common.util.OResettable;
+import com.orientechnologies.common.util.OSizeable;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
@@ -123,8 +125,8 @@ public class OVertexDelegate implements OVertex {
             iterable.add(new OEdgeIterator(this, coll, coll.iterator(), connection, labels, -1));
 
         } else if (fieldValue instanceof ORidBag) {
-          iterable.add(new OEdgeIterator(this, fieldValue, ((ORidBag) fieldValue).rawIterator(), connection, labels,
-              ((ORidBag) fieldValue).size()));
+          // the size is read from the ridbag when needed, so the degree of the vertex is calculated without reading the edges
+          iterable.add(new OEdgeIterator(this, fieldValue, new LazyRidBagIterator((ORidBag) fieldValue), connection, labels, -1));
         }
       }
     }
@@ -132,6 +134,66 @@ public class OVertexDelegate implements OVertex {
     return iterable;
   }
 
+  /**
+   * Iterator on the links of a ridbag that starts reading the ridbag content only when it is iterated.
+   */
+  private static final class LazyRidBagIterator implements Iterator<OIdentifiable>, OResettable, OSizeable, OAutoConvertToRecord {
+    private final ORidBag                 ridBag;
+    private       Iterator<OIdentifiable> iterator;
+    private       boolean                 convertToRecord;
+
+    private LazyRidBagIterator(final ORidBag ridBag) {
+      this.ridBag = ridBag;
+    }
+
+    private Iterator<OIdentifiable> getIterator() {
+      if (iterator == null) {
+        iterator = ridBag.rawIterator();
+        if (convertToRecord && iterator instanceof OAutoConvertToRecord)
+          ((OAutoConvertToRecord) iterator).setAutoConvertToRecord(true);
+      }
+      return iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return getIterator().hasNext();
+    }
+
+    @Override
+    public OIdentifiable next() {
+      return getIterator().next();
+    }
+
+    @Override
+    public void remove() {
+      getIterator().remove();
+    }
+
+    @Override
+    public void reset() {
+      if (iterator instanceof OResettable)
+        ((OResettable) iterator).reset();
+    }
+
+    @Override
+    public int size() {
+      return ridBag.size();
+    }
+
+    @Override
+    public void setAutoConvertToRecord(final boolean convertToRecord) {
+      this.convertToRecord = convertToRecord;
+      if (iterator instanceof OAutoConvertToRecord)
+        ((OAutoConvertToRecord) iterator).setAutoConvertToRecord(convertToRecord);
+    }
+
+    @Override
+    public boolean isAutoConvertToRecord() {
+      return convertToRecord;
+    }
+  }
+
   @Override
   public Iterable<OEdge> getEdges(ODirection direction, OClass... type) {
     List<String> types = new ArrayList<>();
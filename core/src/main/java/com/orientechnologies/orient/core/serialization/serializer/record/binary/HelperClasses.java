@@ -16,11 +16,9 @@
 package com.orientechnologies.orient.core.serialization.serializer.record.binary;
 
 import com.orientechnologies.common.exception.OException;
-import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.serialization.types.OByteSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
-import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ORecordElement;
@@ -70,6 +68,12 @@ public class HelperClasses {
   protected static final ORecordId NULL_RECORD_ID   = new ORecordId(-2, ORID.CLUSTER_POS_INVALID);
   public static final    long      MILLISEC_PER_DAY = 86400000;
 
+  /**
+   * flag of the ridbag config byte, set if the links of an embedded ridbag are delta encoded, written only by
+   * {@link ORecordSerializerBinaryV2} so readers which do not know the flag reject such records by their serializer version
+   */
+  protected static final byte RIDBAG_DELTA_ENCODED = 4;
+
   public static class Tuple<T1, T2> {
 
     private final T1 firstVal;
@@ -401,6 +405,10 @@ public class HelperClasses {
   }
 
   public static void writeRidBag(BytesContainer bytes, ORidBag ridbag) {
+    writeRidBag(bytes, ridbag, false);
+  }
+
+  public static void writeRidBag(BytesContainer bytes, ORidBag ridbag, boolean deltaEncoded) {
     ridbag.checkAndConvert();
 
     UUID ownerUuid = ridbag.getTemporaryId();
@@ -413,8 +421,11 @@ public class HelperClasses {
       uuid = sbTreeCollectionManager.listenForChanges(ridbag);
 
     byte configByte = 0;
-    if (ridbag.isEmbedded())
+    if (ridbag.isEmbedded()) {
       configByte |= 1;
+      if (deltaEncoded)
+        configByte |= RIDBAG_DELTA_ENCODED;
+    }
 
     if (uuid != null)
       configByte |= 2;
@@ -426,34 +437,52 @@ public class HelperClasses {
     //removed serializing UUID
 
     if (ridbag.isEmbedded()) {
-      writeEmbeddedRidbag(bytes, ridbag);
+      if (deltaEncoded)
+        writeDeltaEncodedEmbeddedRidbag(bytes, ridbag);
+      else
+        writeEmbeddedRidbag(bytes, ridbag);
     } else {
       writeSBTreeRidbag(bytes, ridbag, ownerUuid);
     }
   }
 
   protected static void writeEmbeddedRidbag(BytesContainer bytes, ORidBag ridbag) {
-    OVarIntSerializer.write(bytes, ridbag.size());
-    Object[] entries = ((OEmbeddedRidBag) ridbag.getDelegate()).getEntries();
-    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
-    for (int i = 0; i < entries.length; i++) {
-      Object entry = entries[i];
-      if (entry instanceof OIdentifiable) {
-        OIdentifiable itemValue = (OIdentifiable) entry;
-        final ORID rid = itemValue.getIdentity();
-        if (db != null && !db.isClosed() && db.getTransaction().isActive() && !itemValue.getIdentity().isPersistent()) {
-          itemValue = db.getTransaction().getRecord(itemValue.getIdentity());
-        }
-        if (itemValue == null) {
-          //should never happen
-          String errorMessage = "Found null entry in ridbag with rid=" + rid;
-          OSerializationException exc = new OSerializationException(errorMessage);
-          OLogManager.instance().error(ORecordSerializerBinaryV1.class, errorMessage, null);
-          throw exc;
-        } else {
-          entries[i] = itemValue.getIdentity();
-          writeLinkOptimized(bytes, itemValue);
-        }
+    final OEmbeddedRidBag delegate = (OEmbeddedRidBag) ridbag.getDelegate();
+    final int[] clusterIds = new int[ridbag.size()];
+    final long[] clusterPositions = new long[ridbag.size()];
+    final int size = delegate.getIdentities(clusterIds, clusterPositions);
+
+    OVarIntSerializer.write(bytes, size);
+    for (int i = 0; i < size; i++) {
+      OVarIntSerializer.write(bytes, clusterIds[i]);
+      OVarIntSerializer.write(bytes, clusterPositions[i]);
+    }
+  }
+
+  /**
+   * Writes the links of an embedded ridbag in runs of links to the same cluster: cluster id and length of the run, then the
+   * position of the first link and the difference from the previous position for the others. The order of the links is kept.
+   */
+  protected static void writeDeltaEncodedEmbeddedRidbag(BytesContainer bytes, ORidBag ridbag) {
+    final OEmbeddedRidBag delegate = (OEmbeddedRidBag) ridbag.getDelegate();
+    final int[] clusterIds = new int[ridbag.size()];
+    final long[] clusterPositions = new long[ridbag.size()];
+    final int size = delegate.getIdentities(clusterIds, clusterPositions);
+
+    OVarIntSerializer.write(bytes, size);
+    int i = 0;
+    while (i < size) {
+      final int clusterId = clusterIds[i];
+      int runEnd = i + 1;
+      while (runEnd < size && clusterIds[runEnd] == clusterId)
+        runEnd++;
+
+      OVarIntSerializer.write(bytes, clusterId);
+      OVarIntSerializer.write(bytes, runEnd - i);
+      long previousPosition = 0;
+      for (; i < runEnd; i++) {
+        OVarIntSerializer.write(bytes, clusterPositions[i] - previousPosition);
+        previousPosition = clusterPositions[i];
       }
     }
   }
@@ -528,9 +557,23 @@ public class HelperClasses {
       ridbag = new ORidBag();
       int size = OVarIntSerializer.readAsInteger(bytes);
       ridbag.getDelegate().setSize(size);
-      for (int i = 0; i < size; i++) {
-        OIdentifiable record = readLinkOptimizedEmbedded(bytes);
-        ((OEmbeddedRidBag) ridbag.getDelegate()).addEntry(record);
+      final OEmbeddedRidBag delegate = (OEmbeddedRidBag) ridbag.getDelegate();
+      if ((configByte & RIDBAG_DELTA_ENCODED) != 0) {
+        int read = 0;
+        while (read < size) {
+          final int clusterId = OVarIntSerializer.readAsInteger(bytes);
+          final int runLength = OVarIntSerializer.readAsInteger(bytes);
+          long clusterPosition = 0;
+          for (int i = 0; i < runLength; i++) {
+            clusterPosition += OVarIntSerializer.readAsLong(bytes);
+            delegate.addEntry(clusterId, clusterPosition);
+          }
+          read += runLength;
+        }
+      } else {
+        for (int i = 0; i < size; i++) {
+          delegate.addEntry(OVarIntSerializer.readAsInteger(bytes), OVarIntSerializer.readAsLong(bytes));
+        }
       }
     } else {
       long fileId = OVarIntSerializer.readAsLong(bytes);
@@ -558,18 +601,6 @@ public class HelperClasses {
     return ridbag;
   }
 
-  private static OIdentifiable readLinkOptimizedEmbedded(final BytesContainer bytes) {
-    ORID rid = new ORecordId(OVarIntSerializer.readAsInteger(bytes), OVarIntSerializer.readAsLong(bytes));
-    OIdentifiable identifiable = null;
-    if (rid.isTemporary())
-      identifiable = rid.getRecord();
-
-    if (identifiable == null)
-      identifiable = rid;
-
-    return identifiable;
-  }
-
   private static OIdentifiable readLinkOptimizedSBTree(final BytesContainer bytes) {
     ORID rid = new ORecordId(OVarIntSerializer.readAsInteger(bytes), OVarIntSerializer.readAsLong(bytes));
     final OIdentifiable identifiable;
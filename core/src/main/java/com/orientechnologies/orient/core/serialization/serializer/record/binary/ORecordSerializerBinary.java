@@ -27,6 +27,7 @@ import com.orientechnologies.orient.core.record.impl.OBlob;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ORecordFlat;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OQueryResources;
 
 import java.util.Base64;
 
@@ -40,9 +41,10 @@ public class ORecordSerializerBinary implements ORecordSerializer {
   private final byte                  currentSerializerVersion;
 
   private void init() {
-    serializerByVersion = new ODocumentSerializer[2];
+    serializerByVersion = new ODocumentSerializer[3];
     serializerByVersion[0] = new ORecordSerializerBinaryV0();
     serializerByVersion[1] = new ORecordSerializerBinaryV1();
+    serializerByVersion[2] = new ORecordSerializerBinaryV2();
   }
 
   public ORecordSerializerBinary(byte serializerVersion) {
@@ -98,6 +100,7 @@ public class ORecordSerializerBinary implements ORecordSerializer {
 
     final BytesContainer container = new BytesContainer(iSource).skip(1);
 
+    OQueryResources.recordDeserialized();
     try {
       if (iFields != null && iFields.length > 0)
         serializerByVersion[iSource[0]].deserializePartial((ODocument) iRecord, container, iFields);
@@ -0,0 +1,18 @@
+package com.orientechnologies.orient.core.serialization.serializer.record.binary;
+
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+
+/**
+ * Same layout as {@link ORecordSerializerBinaryV1} except of embedded ridbags, their links are written in runs of links to the
+ * same cluster with delta encoded cluster positions. Readers of previous versions reject records of this version instead of
+ * misreading the ridbags.
+ */
+public class ORecordSerializerBinaryV2 extends ORecordSerializerBinaryV1 {
+
+  @Override
+  protected int writeRidBag(BytesContainer bytes, ORidBag ridbag) {
+    int positionOffset = bytes.offset;
+    HelperClasses.writeRidBag(bytes, ridbag, true);
+    return positionOffset;
+  }
+}
@@ -25,6 +25,7 @@ import com.orientechnologies.common.profiler.OProfilerStub;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OExpressionIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexAbstractCursor;
 import com.orientechnologies.orient.core.index.OIndexCursor;
@@ -141,6 +142,14 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
     final Collection<Class<? extends OIndex>> indexTypes = new HashSet<Class<? extends OIndex>>(3);
 
     for (OIndex<?> involvedIndex : involvedIndexes) {
+      if (involvedIndex.getDefinition().getFilter() != null) {
+        // partial index, it does not contain all the records of the class
+        continue;
+      }
+      if (involvedIndex.getDefinition() instanceof OExpressionIndexDefinition) {
+        // the keys are values of the expression, not of the field
+        continue;
+      }
       if (!indexTypes.contains(involvedIndex.getInternal().getClass())) {
         result.add(involvedIndex);
         indexTypes.add(involvedIndex.getInternal().getClass());
@@ -174,6 +183,8 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
    * <li>Should be unique or not unique. Other types cannot be used to get all documents with required links.</li>
    * <li>Should not be composite hash index. As soon as hash index does not support partial match search.</li>
    * <li>Composite index that ignores null values should not be used.</li>
+   * <li>Partial index should not be used, as it does not contain all the documents.</li>
+   * <li>Expression index should not be used, as its keys are not the values of the field.</li>
    * <li>Hash index is better than tree based indexes.</li>
    * <li>Non composite indexes is better that composite.</li>
    * </ul>
@@ -195,6 +206,14 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
     if (index == null)
       return -1;
 
+    // partial index, it does not contain all the records of the class
+    if (index.getDefinition().getFilter() != null)
+      return -1;
+
+    // the keys are values of the expression, not of the field
+    if (index.getDefinition() instanceof OExpressionIndexDefinition)
+      return -1;
+
     final OClass.INDEX_TYPE indexType = OClass.INDEX_TYPE.valueOf(index.getType());
     final boolean isComposite = isComposite(index);
     final boolean supportNullValues = supportNullValues(index);
@@ -239,6 +258,8 @@ public class OChainedIndexProxy<T> implements OIndex<T> {
    * <li>Should be unique or not unique. Other types cannot be used to get all documents with required links.</li>
    * <li>Should not be composite hash index. As soon as hash index does not support partial match search.</li>
    * <li>Composite index that ignores null values should not be used.</li>
+   * <li>Partial index should not be used, as it does not contain all the documents.</li>
+   * <li>Expression index should not be used, as its keys are not the values of the field.</li>
    * </ul>
    *
    * @param index to check
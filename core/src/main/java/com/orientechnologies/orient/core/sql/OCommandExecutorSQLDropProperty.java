@@ -27,7 +27,9 @@ import com.orientechnologies.orient.core.command.OCommandRequestText;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OExpressionIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.metadata.schema.OClassImpl;
 
 import java.util.ArrayList;
@@ -173,7 +175,9 @@ public class OCommandExecutorSQLDropProperty extends OCommandExecutorSQLAbstract
 
     final ODatabaseDocument database = getDatabase();
     for (final OIndex<?> oIndex : database.getMetadata().getIndexManager().getClassIndexes(className)) {
-      if (OCollections.indexOf(oIndex.getDefinition().getFields(), fieldName, new OCaseInsentiveComparator()) > -1) {
+      final OIndexDefinition definition = oIndex.getDefinition();
+      if (OCollections.indexOf(definition.getFields(), fieldName, new OCaseInsentiveComparator()) > -1
+          || definition instanceof OExpressionIndexDefinition && ((OExpressionIndexDefinition) definition).refersTo(fieldName)) {
         result.add(oIndex);
       }
     }
@@ -21,6 +21,7 @@
 package com.orientechnologies.orient.core.sql;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.index.OExpressionIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.sql.filter.OSQLFilterCondition;
@@ -43,6 +44,14 @@ public class OFilterAnalyzer {
       result.addAll(OChainedIndexProxy.createProxies(iSchemaClass, searchResultFields.lastField));
     } else {
       for (OIndex<?> involvedIndex : involvedIndexes) {
+        if (involvedIndex.getDefinition().getFilter() != null) {
+          // partial index, it does not contain all the records of the class
+          continue;
+        }
+        if (involvedIndex.getDefinition() instanceof OExpressionIndexDefinition) {
+          // the keys are values of the expression, not of the fields
+          continue;
+        }
         result.add(involvedIndex);
       }
     }
@@ -44,10 +44,13 @@ import com.orientechnologies.orient.core.sql.method.OSQLMethod;
 import com.orientechnologies.orient.core.sql.method.OSQLMethodFactory;
 import com.orientechnologies.orient.core.sql.operator.OQueryOperator;
 import com.orientechnologies.orient.core.sql.operator.OQueryOperatorFactory;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OStatement;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
 import com.orientechnologies.orient.core.sql.parser.OrientSql;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 import com.orientechnologies.orient.core.sql.parser.ParseException;
+import com.orientechnologies.orient.core.sql.parser.TokenMgrError;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 
 import java.io.ByteArrayInputStream;
@@ -86,6 +89,40 @@ public class OSQLEngine {
     }
   }
 
+  /**
+   * Parses a condition, like the content of a WHERE clause
+   *
+   * @throws OCommandSQLParsingException if the input parameter is not a valid SQL condition
+   */
+  public static OWhereClause parsePredicate(String predicate) {
+    final InputStream is = new ByteArrayInputStream(predicate.getBytes());
+    try {
+      final OrientSql osql = new OrientSql(is);
+      return osql.WhereClause();
+    } catch (ParseException e) {
+      throw new OCommandSQLParsingException(e, predicate);
+    } catch (TokenMgrError e) {
+      throw new OCommandSQLParsingException(e, predicate);
+    }
+  }
+
+  /**
+   * Parses an expression, like the left side of a condition
+   *
+   * @throws OCommandSQLParsingException if the input parameter is not a valid SQL expression
+   */
+  public static OExpression parseExpression(String expression) {
+    final InputStream is = new ByteArrayInputStream(expression.getBytes());
+    try {
+      final OrientSql osql = new OrientSql(is);
+      return osql.Expression();
+    } catch (ParseException e) {
+      throw new OCommandSQLParsingException(e, expression);
+    } catch (TokenMgrError e) {
+      throw new OCommandSQLParsingException(e, expression);
+    }
+  }
+
   /**
    * internal use only, to sort operators.
    */
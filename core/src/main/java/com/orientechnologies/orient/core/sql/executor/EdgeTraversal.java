@@ -1,15 +1,27 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OMethodCall;
+import com.orientechnologies.orient.core.sql.parser.OMultiMatchPathItem;
 import com.orientechnologies.orient.core.sql.parser.ORid;
 import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 
+import java.util.Locale;
+
 /**
  * Created by luigidellaquila on 20/09/16.
  */
 public class EdgeTraversal {
+  /**
+   * Percentile of the edge spans used to estimate the fan-out of a traversal, high enough to take supernodes into account
+   */
+  static final double FAN_OUT_PERCENTILE = 0.9;
+
   boolean out = true;
   public  PatternEdge  edge;
   private String       leftClass;
+  private String       rightClass;
   private String       leftCluster;
   private ORid       leftRid;
   private OWhereClause leftFilter;
@@ -30,6 +42,14 @@ public class EdgeTraversal {
   public String getLeftClass() {
     return leftClass;
   }
+
+  public void setRightClass(String rightClass) {
+    this.rightClass = rightClass;
+  }
+
+  public String getRightClass() {
+    return rightClass;
+  }
   public String getLeftCluster() {
     return leftCluster;
   }
@@ -50,6 +70,135 @@ public class EdgeTraversal {
     return leftFilter;
   }
 
+  /**
+   * Adds the numbers of edges traversed from the vertices by an execution of this traversal to the fan-out statistics of the
+   * edge class.
+   */
+  void pushFanOut(OQueryStats stats, OQueryStats.OSpanSample sample, OCommandContext ctx) {
+    if (sample.isEmpty()) {
+      return;
+    }
+    String direction = fanOutDirection(edge, out);
+    String edgeClass = fanOutEdgeClass(edge, ctx);
+    if (direction == null || edgeClass == null) {
+      return;
+    }
+    String vertexClass = fanOutVertexClass(out ? leftClass : rightClass);
+    stats.pushSpans(stats.edgeSpanKey(direction, vertexClass, edgeClass), sample);
+  }
+
+  /**
+   * Estimates the number of records reached traversing an edge of the pattern from a single record, from the statistics of the
+   * edge class.
+   *
+   * @param edge        the edge of the pattern
+   * @param out         true to traverse the edge in its direction, false to traverse it from its target
+   * @param vertexClass the class of the records the traversal starts from, null if not known
+   *
+   * @return the estimated fan-out, -1 if there are no statistics
+   */
+  static long estimateFanOut(PatternEdge edge, boolean out, String vertexClass, OQueryStats stats, OCommandContext ctx) {
+    if (edge.item instanceof OMultiMatchPathItem || edge.item.getMethod() == null) {
+      return -1;
+    }
+    String method = edge.item.getMethod().getMethodName().getStringValue().toLowerCase(Locale.ENGLISH);
+    if (out ? method.endsWith("v") : (method.equals("oute") || method.equals("ine"))) {
+      // from an edge to its vertex
+      return 1;
+    }
+    String direction = fanOutDirection(edge, out);
+    String edgeClass = fanOutEdgeClass(edge, ctx);
+    if (direction == null || edgeClass == null) {
+      return -1;
+    }
+    vertexClass = fanOutVertexClass(vertexClass);
+    long percentile;
+    long average;
+    switch (direction) {
+    case "out":
+      percentile = stats.getOutEdgeSpanPercentile(vertexClass, edgeClass, FAN_OUT_PERCENTILE);
+      average = stats.getAverageOutEdgeSpan(vertexClass, edgeClass);
+      break;
+    case "in":
+      percentile = stats.getInEdgeSpanPercentile(vertexClass, edgeClass, FAN_OUT_PERCENTILE);
+      average = stats.getAverageInEdgeSpan(vertexClass, edgeClass);
+      break;
+    default:
+      percentile = stats.getBothEdgeSpanPercentile(vertexClass, edgeClass, FAN_OUT_PERCENTILE);
+      average = stats.getAverageBothEdgeSpan(vertexClass, edgeClass);
+    }
+    return Math.max(percentile, average);
+  }
+
+  /**
+   * @return the direction of the edges traversed from a vertex ("out", "in" or "both"), null if the traversal does not start
+   * from a vertex
+   */
+  private static String fanOutDirection(PatternEdge edge, boolean out) {
+    if (edge.item instanceof OMultiMatchPathItem || edge.item.getMethod() == null) {
+      return null;
+    }
+    String method = edge.item.getMethod().getMethodName().getStringValue().toLowerCase(Locale.ENGLISH);
+    if (out) {
+      switch (method) {
+      case "out":
+      case "oute":
+        return "out";
+      case "in":
+      case "ine":
+        return "in";
+      case "both":
+      case "bothe":
+        return "both";
+      default:
+        return null;
+      }
+    }
+    switch (method) {
+    case "out":
+    case "outv":
+      return "in";
+    case "in":
+    case "inv":
+      return "out";
+    case "both":
+      return "both";
+    default:
+      return null;
+    }
+  }
+
+  /**
+   * @return the names of the edge classes traversed, separated by commas, "E" for all the edges, null if they are not known
+   */
+  private static String fanOutEdgeClass(PatternEdge edge, OCommandContext ctx) {
+    OMethodCall method = edge.item.getMethod();
+    if (method.getParams().isEmpty()) {
+      return "E";
+    }
+    StringBuilder result = new StringBuilder();
+    for (OExpression param : method.getParams()) {
+      Object value;
+      try {
+        value = param.execute((OResult) null, ctx);
+      } catch (RuntimeException e) {
+        return null;
+      }
+      if (!(value instanceof String)) {
+        return null;
+      }
+      if (result.length() > 0) {
+        result.append(",");
+      }
+      result.append(value);
+    }
+    return result.toString();
+  }
+
+  private static String fanOutVertexClass(String vertexClass) {
+    return vertexClass == null ? "V" : vertexClass;
+  }
+
   @Override
   public String toString() {
     return edge.toString();
@@ -38,6 +38,7 @@ import com.orientechnologies.orient.core.sql.parser.OInCondition;
 import com.orientechnologies.orient.core.sql.parser.OLeOperator;
 import com.orientechnologies.orient.core.sql.parser.OLtOperator;
 import com.orientechnologies.orient.core.sql.parser.OValueExpression;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OQueryResources;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -214,6 +215,7 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
       updateIndexStats();
     } else {
       count++;
+      OQueryResources.indexEntryScanned();
     }
   }
 
@@ -0,0 +1,233 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Fetches the RIDs that match the conditions of more indexes, collects them in a {@link ORidSet} bitmap for each index and returns
+ * the records of the intersection, or of the union, of the bitmaps. Only the records that match all the indexes, or at least one,
+ * are loaded.
+ *
+ * @since 19.10.26
+ */
+public class FetchFromIndexesStep extends AbstractExecutionStep {
+  private final List<FetchFromIndexStep> indexSteps;
+  private final boolean                  intersection;
+  private final int[]                    filterClusterIds;
+
+  private Iterator<ORID> iterator;
+  private long           cost = 0;
+
+  /**
+   * @param indexSteps       steps that fetch the entries of the indexes, the most selective first
+   * @param intersection     true to return the records that match all the indexes, false to return the records that match any
+   * @param filterClusterIds clusters the returned records belong to, null for all the clusters
+   */
+  public FetchFromIndexesStep(List<FetchFromIndexStep> indexSteps, boolean intersection, int[] filterClusterIds,
+      OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.indexSteps = indexSteps;
+    this.intersection = intersection;
+    this.filterClusterIds = filterClusterIds;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    if (iterator == null) {
+      long begin = profilingEnabled ? System.nanoTime() : 0;
+      try {
+        iterator = fetchRids(ctx).iterator();
+      } finally {
+        if (profilingEnabled) {
+          cost += (System.nanoTime() - begin);
+        }
+      }
+    }
+
+    return new OResultSet() {
+      int     fetched    = 0;
+      OResult nextResult = null;
+
+      private void fetchNext() {
+        while (nextResult == null && iterator.hasNext()) {
+          OIdentifiable record = (OIdentifiable) ctx.getDatabase().load(iterator.next());
+          if (record != null) {
+            OResultInternal result = new OResultInternal();
+            result.setElement(record);
+            nextResult = result;
+          }
+        }
+      }
+
+      @Override
+      public boolean hasNext() {
+        if (fetched >= nRecords) {
+          return false;
+        }
+        fetchNext();
+        return nextResult != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        fetched++;
+        OResult result = nextResult;
+        nextResult = null;
+        ctx.setVariable("$current", result);
+        return result;
+      }
+
+      @Override
+      public void close() {
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  /**
+   * @return the RIDs that match the indexes, records created in the current transaction last
+   */
+  private Iterable<ORID> fetchRids(OCommandContext ctx) {
+    ORidSet result = null;
+    // RIDs of records created in the current transaction are temporary, the bitmap does not support them
+    Set<ORID> newRecords = null;
+    for (FetchFromIndexStep indexStep : indexSteps) {
+      ORidSet rids = new ORidSet();
+      Set<ORID> indexNewRecords = new HashSet<>();
+      OResultSet entries = indexStep.syncPull(ctx, 1000);
+      while (entries.hasNext()) {
+        while (entries.hasNext()) {
+          Object value = entries.next().getProperty("rid");
+          if (!(value instanceof OIdentifiable)) {
+            continue;
+          }
+          ORID rid = ((OIdentifiable) value).getIdentity();
+          if (!matchesClusters(rid)) {
+            continue;
+          }
+          if (rid.isPersistent()) {
+            rids.add(rid);
+          } else {
+            indexNewRecords.add(rid.copy());
+          }
+        }
+        entries = indexStep.syncPull(ctx, 1000);
+      }
+
+      if (result == null) {
+        result = rids;
+        newRecords = indexNewRecords;
+      } else if (intersection) {
+        result.retainAll(rids);
+        newRecords.retainAll(indexNewRecords);
+      } else {
+        result.addAll(rids);
+        newRecords.addAll(indexNewRecords);
+      }
+      if (intersection && result.isEmpty() && newRecords.isEmpty()) {
+        break;
+      }
+    }
+    if (result == null) {
+      return Collections.emptyList();
+    }
+    if (newRecords.isEmpty()) {
+      return result;
+    }
+    ORidSet persistentRecords = result;
+    Set<ORID> temporaryRecords = newRecords;
+    return () -> Stream.concat(persistentRecords.stream(), temporaryRecords.stream()).iterator();
+  }
+
+  private boolean matchesClusters(ORID rid) {
+    if (filterClusterIds == null || rid.getClusterId() < 0) {
+      return true;
+    }
+    for (int filterClusterId : filterClusterIds) {
+      if (filterClusterId == rid.getClusterId()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public List<OExecutionStep> getSubSteps() {
+    return new ArrayList<>(indexSteps);
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    StringBuilder result = new StringBuilder();
+    result.append(OExecutionStepInternal.getIndent(depth, indent));
+    result.append("+ FETCH FROM INDEXES (").append(intersection ? "INTERSECTION" : "UNION").append(" OF RIDs)");
+    if (profilingEnabled) {
+      result.append(" (").append(getCostFormatted()).append(")");
+    }
+    for (FetchFromIndexStep indexStep : indexSteps) {
+      result.append("\n");
+      result.append(indexStep.prettyPrint(depth + 1, indent));
+    }
+    return result.toString();
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+
+  @Override
+  public void reset() {
+    iterator = null;
+    for (FetchFromIndexStep indexStep : indexSteps) {
+      indexStep.reset();
+    }
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    List<FetchFromIndexStep> steps = new ArrayList<>();
+    for (FetchFromIndexStep indexStep : indexSteps) {
+      steps.add((FetchFromIndexStep) indexStep.copy(ctx));
+    }
+    return new FetchFromIndexesStep(steps, intersection, filterClusterIds, ctx, profilingEnabled);
+  }
+
+  @Override
+  public void close() {
+    for (FetchFromIndexStep indexStep : indexSteps) {
+      indexStep.close();
+    }
+    super.close();
+  }
+}
@@ -0,0 +1,196 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index-only scan: builds the results from the keys of the index entries fetched by the previous step, without loading the
+ * records. Used when the query only needs the values of the indexed and included fields of the index, see {@link
+ * com.orientechnologies.orient.core.index.OCompositeIndexDefinition#setIncludedDefinitions(int)}.
+ * <p>
+ * As the records are not loaded, the read permission on their clusters is checked by this step before the values are returned.
+ *
+ * @since 19.10.26
+ */
+public class GetValuesFromIndexKeyStep extends AbstractExecutionStep {
+
+  private final List<String> fields;
+  private final int[]        filterClusterIds;
+
+  // runtime
+
+  private long    cost               = 0;
+  private boolean permissionsChecked = false;
+
+  private OResultSet prevResult = null;
+
+  /**
+   * @param fields           the fields of the index key, in the same order
+   * @param filterClusterIds only extract values of records of these clusters. Pass null if no filtering is needed
+   * @param ctx              the execution context
+   * @param profilingEnabled enable profiling
+   */
+  public GetValuesFromIndexKeyStep(List<String> fields, int[] filterClusterIds, OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.fields = fields;
+    this.filterClusterIds = filterClusterIds;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (!prev.isPresent()) {
+      throw new IllegalStateException("index key extraction step requires a previous step");
+    }
+    OExecutionStepInternal prevStep = prev.get();
+
+    // the plan could have been cached for a user with more permissions
+    if (!permissionsChecked) {
+      checkReadPermission(ctx, filterClusterIds);
+      permissionsChecked = true;
+    }
+
+    return new OResultSet() {
+      boolean finished = false;
+      OResult nextItem = null;
+      int     fetched  = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (fetched >= nRecords || finished) {
+          return false;
+        }
+        if (nextItem == null) {
+          fetchNextItem();
+        }
+        return nextItem != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        OResult result = nextItem;
+        nextItem = null;
+        fetched++;
+        ctx.setVariable("$current", result);
+        return result;
+      }
+
+      private void fetchNextItem() {
+        while (nextItem == null) {
+          if (prevResult == null || !prevResult.hasNext()) {
+            prevResult = prevStep.syncPull(ctx, nRecords);
+            if (!prevResult.hasNext()) {
+              finished = true;
+              return;
+            }
+          }
+          OResult entry = prevResult.next();
+          long begin = profilingEnabled ? System.nanoTime() : 0;
+          try {
+            Object rid = entry.getProperty("rid");
+            if (rid instanceof OIdentifiable && matchesClusters(((OIdentifiable) rid).getIdentity())) {
+              nextItem = fromKey(entry.getProperty("key"));
+            }
+          } finally {
+            if (profilingEnabled) {
+              cost += (System.nanoTime() - begin);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void close() {
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return Optional.empty();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private OResult fromKey(Object key) {
+    // composite keys are returned as lists, the key of an index on a single field is the value itself
+    List<?> values = key instanceof List ? (List<?>) key : Collections.singletonList(key);
+    OResultInternal result = new OResultInternal();
+    for (int i = 0; i < fields.size() && i < values.size(); i++) {
+      result.setProperty(fields.get(i), values.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Checks the permission to read the records of the clusters, as loading the records would do.
+   *
+   * @throws com.orientechnologies.orient.core.exception.OSecurityException if the current user cannot read one of the clusters
+   */
+  static void checkReadPermission(OCommandContext ctx, int[] clusterIds) {
+    if (clusterIds == null) {
+      return;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    for (int clusterId : clusterIds) {
+      String clusterName = db.getClusterNameById(clusterId);
+      if (clusterName != null) {
+        db.checkSecurity(ORule.ResourceGeneric.CLUSTER, ORole.PERMISSION_READ, clusterName);
+      }
+    }
+  }
+
+  private boolean matchesClusters(ORID rid) {
+    if (filterClusterIds == null || rid.getClusterId() < 0) {
+      return true;
+    }
+    for (int filterClusterId : filterClusterIds) {
+      if (filterClusterId == rid.getClusterId()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    String result = spaces + "+ EXTRACT VALUES FROM INDEX KEY (INDEX ONLY SCAN)";
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    result += "\n" + spaces + "  fields " + fields;
+    return result;
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    return new GetValuesFromIndexKeyStep(new ArrayList<>(fields), filterClusterIds, ctx, profilingEnabled);
+  }
+}
@@ -0,0 +1,289 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OIdentifier;
+import com.orientechnologies.orient.core.sql.parser.OLocalResultSet;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Calculates a correlated LET subquery like <code>(SELECT FROM Foo WHERE prop = $parent.$current.bar)</code> as a hash join: the
+ * subquery is executed once without the correlated condition, its results are grouped by <code>prop</code> in a hash table and
+ * every upstream record just probes the hash table with its own <code>bar</code> value.
+ * <p>
+ * Like the <code>=</code> operator, the step compares the keys after the transformation of the collate of the join property (eg.
+ * <code>COLLATE ci</code>).
+ * <p>
+ * If the subquery returns more records than allowed, the records of the subquery have different collates on the join property,
+ * or the join keys are of types that cannot be compared by hash (eg. collections or mixed types on the build side), the step
+ * falls back to the execution of the original subquery for each record, as {@link LetQueryStep} does.
+ */
+public class HashJoinLetQueryStep extends AbstractExecutionStep {
+  private static final Object UNHASHABLE = new Object();
+
+  private final OIdentifier      varName;
+  private final OStatement       query;
+  private final OSelectStatement buildQuery;
+  private final OExpression      buildKey;
+  private final OExpression      probeKey;
+  private final int              maxBuildSize;
+
+  private Map<Object, List<OResult>> hashTable;
+  private Class<?>                   keyType;
+  private OCollate                   collate;
+  private boolean                    collateKnown;
+  private boolean                    fallback;
+  private long                       buildSize;
+  private long                       cost = 0;
+
+  /**
+   * @param varName      name of the LET variable
+   * @param query        the original correlated subquery, used if hash join cannot be applied
+   * @param buildQuery   the subquery without the correlated condition
+   * @param buildKey     join key calculated on the results of the subquery
+   * @param probeKey     join key calculated on upstream records
+   * @param maxBuildSize maximum amount of records kept in the hash table
+   */
+  public HashJoinLetQueryStep(OIdentifier varName, OStatement query, OSelectStatement buildQuery, OExpression buildKey,
+      OExpression probeKey, int maxBuildSize, OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.varName = varName;
+    this.query = query;
+    this.buildQuery = buildQuery;
+    this.buildKey = buildKey;
+    this.probeKey = probeKey;
+    this.maxBuildSize = maxBuildSize;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    if (!getPrev().isPresent()) {
+      throw new OCommandExecutionException("Cannot execute a local LET on a query without a target");
+    }
+    return new OResultSet() {
+      OResultSet source = getPrev().get().syncPull(ctx, nRecords);
+
+      @Override
+      public boolean hasNext() {
+        return source.hasNext();
+      }
+
+      @Override
+      public OResult next() {
+        OResultInternal result = (OResultInternal) source.next();
+        if (result != null) {
+          long begin = profilingEnabled ? System.nanoTime() : 0;
+          try {
+            ctx.setVariable("$current", result);
+            result.setMetadata(varName.getStringValue(), calculate(result, ctx));
+          } finally {
+            if (profilingEnabled) {
+              cost += (System.nanoTime() - begin);
+            }
+          }
+        }
+        return result;
+      }
+
+      @Override
+      public void close() {
+        source.close();
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return null;
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private List<OResult> calculate(OResultInternal result, OCommandContext ctx) {
+    if (hashTable == null && !fallback) {
+      build(ctx);
+    }
+
+    if (fallback) {
+      return LetQueryStep.executeSubQuery(query, ctx, profilingEnabled);
+    }
+
+    OBasicCommandContext subCtx = new OBasicCommandContext();
+    subCtx.setDatabase(ctx.getDatabase());
+    subCtx.setParentWithoutOverridingChild(ctx);
+
+    Object key = probeKey.execute(result, subCtx);
+    if (key == null) {
+      // null is not equal to anything
+      return new ArrayList<>();
+    }
+
+    if (collate != null) {
+      key = collate.transform(key);
+    }
+    key = normalizeKey(key);
+    if (key == UNHASHABLE || (keyType != null && key.getClass() != keyType)) {
+      // the comparison needs type conversions, let the original condition decide
+      return LetQueryStep.executeSubQuery(query, ctx, profilingEnabled);
+    }
+
+    List<OResult> matches = hashTable.get(key);
+    return matches == null ? new ArrayList<>() : new ArrayList<>(matches);
+  }
+
+  private void build(OCommandContext ctx) {
+    OBasicCommandContext subCtx = new OBasicCommandContext();
+    subCtx.setDatabase(ctx.getDatabase());
+    subCtx.setParentWithoutOverridingChild(ctx);
+
+    Map<Object, List<OResult>> table = new HashMap<>();
+    OLocalResultSet resultSet = new OLocalResultSet(buildQuery.createExecutionPlanNoCache(subCtx, profilingEnabled));
+    try {
+      while (resultSet.hasNext()) {
+        OResult item = resultSet.next();
+        buildSize++;
+        if (buildSize > maxBuildSize) {
+          fallback = true;
+          return;
+        }
+
+        OCollate itemCollate = getCollate(item, subCtx);
+        if (!collateKnown) {
+          collate = itemCollate;
+          collateKnown = true;
+        } else if (!sameCollate(collate, itemCollate)) {
+          // eg. subclasses that redefine the join property, the keys cannot be transformed in a single way
+          fallback = true;
+          return;
+        }
+
+        Object key = buildKey.execute(item, subCtx);
+        if (key == null) {
+          continue;
+        }
+
+        if (collate != null) {
+          key = collate.transform(key);
+        }
+        key = normalizeKey(key);
+        if (key == UNHASHABLE || (keyType != null && key.getClass() != keyType)) {
+          fallback = true;
+          return;
+        }
+
+        keyType = key.getClass();
+        table.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+      }
+    } finally {
+      resultSet.close();
+    }
+
+    hashTable = table;
+  }
+
+  /**
+   * @return the collate the <code>=</code> operator applies to both the join keys when it evaluates a record of the subquery, as
+   * in {@link com.orientechnologies.orient.core.sql.parser.OBinaryCondition#evaluate(OResult, OCommandContext)}
+   */
+  private OCollate getCollate(OResult item, OCommandContext ctx) {
+    OCollate result = buildKey.getCollate(item, ctx);
+    return result != null ? result : probeKey.getCollate(item, ctx);
+  }
+
+  private static boolean sameCollate(OCollate a, OCollate b) {
+    if (a == null || b == null) {
+      return a == b;
+    }
+    return a.getName().equals(b.getName());
+  }
+
+  /**
+   * Converts a join key to a value which has the same {@link Object#equals(Object)} semantics as the SQL <code>=</code> operator
+   * for values of the same kind.
+   */
+  private static Object normalizeKey(Object key) {
+    if (key instanceof OResult) {
+      OResult result = (OResult) key;
+      if (!result.isElement()) {
+        return UNHASHABLE;
+      }
+      key = result.getElement().get();
+    }
+
+    if (key instanceof OIdentifiable) {
+      ORID rid = ((OIdentifiable) key).getIdentity();
+      return rid.isPersistent() ? rid : UNHASHABLE;
+    }
+
+    if (key instanceof Byte || key instanceof Short || key instanceof Integer || key instanceof Long) {
+      return ((Number) key).longValue();
+    }
+
+    if (key instanceof Float || key instanceof Double) {
+      double value = ((Number) key).doubleValue();
+      if (!Double.isInfinite(value) && value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE) {
+        return (long) value;
+      }
+      return UNHASHABLE;
+    }
+
+    if (key instanceof BigDecimal || key instanceof BigInteger) {
+      try {
+        return (key instanceof BigDecimal ? (BigDecimal) key : new BigDecimal((BigInteger) key)).longValueExact();
+      } catch (ArithmeticException e) {
+        return UNHASHABLE;
+      }
+    }
+
+    if (key instanceof String || key instanceof Boolean || key instanceof Date) {
+      return key;
+    }
+
+    return UNHASHABLE;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    StringBuilder result = new StringBuilder();
+    result.append(spaces).append("+ LET (hash join)");
+    if (profilingEnabled) {
+      result.append(" (").append(getCostFormatted()).append(")");
+    }
+    result.append("\n");
+    result.append(spaces).append("  ").append(varName).append(" = (").append(buildQuery).append(")\n");
+    result.append(spaces).append("  ON ").append(buildKey).append(" = ").append(probeKey);
+    return result.toString();
+  }
+
+  @Override
+  public long getCost() {
+    return cost;
+  }
+
+  @Override
+  public void close() {
+    hashTable = Collections.emptyMap();
+    super.close();
+  }
+}
@@ -30,20 +30,22 @@ public class IndexSearchDescriptor {
   }
 
   public int cost(OCommandContext ctx) {
-    OQueryStats stats = OQueryStats.get((ODatabaseDocumentInternal) ctx.getDatabase());
-
-    String indexName = idx.getName();
-    int size = keyCondition.getSubBlocks().size();
-    boolean range = false;
-    OBooleanExpression lastOp = keyCondition.getSubBlocks().get(keyCondition.getSubBlocks().size() - 1);
-    if (lastOp instanceof OBinaryCondition) {
-      OBinaryCompareOperator op = ((OBinaryCondition) lastOp).getOperator();
-      range = op.isRangeOperator();
-    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OQueryStats stats = OQueryStats.get(db);
 
-    long val = stats.getIndexStats(indexName, size, range, additionalRangeCondition != null);
+    //statistics built by ANALYZE first, then statistics of past executions
+    long val = stats.estimateIndexEntries(db, idx, keyCondition, additionalRangeCondition, ctx);
     if (val == -1) {
-      //TODO query the index!
+      String indexName = idx.getName();
+      int size = keyCondition.getSubBlocks().size();
+      boolean range = false;
+      OBooleanExpression lastOp = keyCondition.getSubBlocks().get(keyCondition.getSubBlocks().size() - 1);
+      if (lastOp instanceof OBinaryCondition) {
+        OBinaryCompareOperator op = ((OBinaryCondition) lastOp).getOperator();
+        range = op.isRangeOperator();
+      }
+
+      val = stats.getIndexStats(indexName, size, range, additionalRangeCondition != null);
     }
     if (val >= 0) {
       return val > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) val;
@@ -50,26 +50,7 @@ public class LetQueryStep extends AbstractExecutionStep {
       }
 
       private void calculate(OResultInternal result, OCommandContext ctx) {
-        OBasicCommandContext subCtx = new OBasicCommandContext();
-        subCtx.setDatabase(ctx.getDatabase());
-        subCtx.setParentWithoutOverridingChild(ctx);
-        OInternalExecutionPlan subExecutionPlan;
-        if (query.toString().contains("?")) {
-          //with positional parameters, you cannot know if a parameter has the same ordinal as the one cached
-          subExecutionPlan = query.createExecutionPlanNoCache(subCtx, profilingEnabled);
-        } else {
-          subExecutionPlan = query.createExecutionPlan(subCtx, profilingEnabled);
-        }
-        result.setMetadata(varName.getStringValue(), toList(new OLocalResultSet(subExecutionPlan)));
-      }
-
-      private List<OResult> toList(OLocalResultSet oLocalResultSet) {
-        List<OResult> result = new ArrayList<>();
-        while (oLocalResultSet.hasNext()) {
-          result.add(oLocalResultSet.next());
-        }
-        oLocalResultSet.close();
-        return result;
+        result.setMetadata(varName.getStringValue(), executeSubQuery(query, ctx, profilingEnabled));
       }
 
       @Override
@@ -89,6 +70,32 @@ public class LetQueryStep extends AbstractExecutionStep {
     };
   }
 
+  /**
+   * Executes a LET subquery in the context of the current record and returns its whole result.
+   */
+  static List<OResult> executeSubQuery(OStatement query, OCommandContext ctx, boolean profilingEnabled) {
+    OBasicCommandContext subCtx = new OBasicCommandContext();
+    subCtx.setDatabase(ctx.getDatabase());
+    subCtx.setParentWithoutOverridingChild(ctx);
+    OInternalExecutionPlan subExecutionPlan;
+    if (query.toString().contains("?")) {
+      //with positional parameters, you cannot know if a parameter has the same ordinal as the one cached
+      subExecutionPlan = query.createExecutionPlanNoCache(subCtx, profilingEnabled);
+    } else {
+      subExecutionPlan = query.createExecutionPlan(subCtx, profilingEnabled);
+    }
+    return toList(new OLocalResultSet(subExecutionPlan));
+  }
+
+  private static List<OResult> toList(OLocalResultSet oLocalResultSet) {
+    List<OResult> result = new ArrayList<>();
+    while (oLocalResultSet.hasNext()) {
+      result.add(oLocalResultSet.next());
+    }
+    oLocalResultSet.close();
+    return result;
+  }
+
   @Override
   public String prettyPrint(int depth, int indent) {
     String spaces = OExecutionStepInternal.getIndent(depth, indent);
@@ -23,6 +23,11 @@ public class MatchEdgeTraverser {
   protected EdgeTraversal  edge;
   protected OMatchPathItem item;
 
+  /**
+   * collects the number of edges traversed from each vertex, null if the fan-out of the traversal is not collected
+   */
+  protected OQueryStats.OSpanSample fanOutSample;
+
   Iterator<OResultInternal> downstream;
 
   public MatchEdgeTraverser(OResult lastUpstreamRecord, EdgeTraversal edge) {
@@ -302,6 +307,20 @@ public class MatchEdgeTraverser {
     return filter == null || filter.matchesFilters(origin, iCommandContext);
   }
 
+  protected boolean isSingleLevel() {
+    return item.getFilter() == null || (item.getFilter().getWhileCondition() == null && item.getFilter().getMaxDepth() == null);
+  }
+
+  void setFanOutSample(OQueryStats.OSpanSample fanOutSample) {
+    this.fanOutSample = fanOutSample;
+  }
+
+  protected void pushFanOut(long span) {
+    if (fanOutSample != null) {
+      fanOutSample.add(span);
+    }
+  }
+
   //TODO refactor this method to receive the item.
 
   protected Iterable<OResultInternal> traversePatternEdge(OIdentifiable startingPoint, OCommandContext iCommandContext) {
@@ -336,8 +355,12 @@ public class MatchEdgeTraverser {
     }
     if (qR instanceof Iterable) {
       final Iterator<Object> iter = ((Iterable) qR).iterator();
+      // the fan-out of the edge is collected only for complete single level traversals, prefetched aliases restrict the results
+      final boolean collectFanOut = fanOutSample != null && possibleResults == null && isSingleLevel();
       Iterable<OResultInternal> result = () -> new Iterator<OResultInternal>() {
         private OResultInternal nextElement;
+        private long            span = 0;
+        private boolean         spanCollected;
 
         @Override
         public boolean hasNext() {
@@ -363,6 +386,7 @@ public class MatchEdgeTraverser {
         public void fetchNext() {
           while (iter.hasNext()) {
             Object o = iter.next();
+            span++;
             if (o instanceof OIdentifiable) {
               nextElement = new OResultInternal((OIdentifiable) o);
               break;
@@ -375,6 +399,10 @@ public class MatchEdgeTraverser {
               throw new UnsupportedOperationException();
             }
           }
+          if (nextElement == null && collectFanOut && !spanCollected) {
+            spanCollected = true;
+            pushFanOut(span);
+          }
         }
       };
 
@@ -67,6 +67,9 @@ public class MatchReverseEdgeTraverser extends MatchEdgeTraverser {
           throw new UnsupportedOperationException();
         }
       }
+      if (isSingleLevel()) {
+        pushFanOut(result.size());
+      }
       return result;
     }
     return Collections.EMPTY_LIST;
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.sql.parser.OMultiMatchPathItem;
 
 import java.util.Map;
@@ -18,6 +19,11 @@ public class MatchStep extends AbstractExecutionStep {
   MatchEdgeTraverser traverser;
   OResult            nextResult;
 
+  /**
+   * fan-out of the traversed vertices, added to the query statistics once, when the step ends
+   */
+  private OQueryStats.OSpanSample fanOutSample = new OQueryStats.OSpanSample();
+
   public MatchStep(OCommandContext context, EdgeTraversal edge, boolean profilingEnabled) {
     super(context, profilingEnabled);
     this.edge = edge;
@@ -25,6 +31,7 @@ public class MatchStep extends AbstractExecutionStep {
 
   @Override
   public void reset() {
+    pushFanOut();
     this.upstream = null;
     this.lastUpstreamRecord = null;
     this.traverser = null;
@@ -97,12 +104,14 @@ public class MatchStep extends AbstractExecutionStep {
         upstream = getPrev().get().syncPull(ctx, nRecords);
       }
       if (!upstream.hasNext()) {
+        pushFanOut();
         return;
       }
 
       lastUpstreamRecord = upstream.next();
 
       traverser = createTraverser(lastUpstreamRecord);
+      traverser.setFanOutSample(fanOutSample);
 
       boolean found = false;
       while (traverser.hasNext(ctx)) {
@@ -118,6 +127,26 @@ public class MatchStep extends AbstractExecutionStep {
     }
   }
 
+  @Override
+  public void close() {
+    pushFanOut();
+    super.close();
+  }
+
+  private void pushFanOut() {
+    if (fanOutSample.isEmpty()) {
+      return;
+    }
+    OQueryStats.OSpanSample sample = fanOutSample;
+    fanOutSample = new OQueryStats.OSpanSample();
+    if (traverser != null) {
+      traverser.setFanOutSample(fanOutSample);
+    }
+    if (ctx.getDatabase() instanceof ODatabaseDocumentInternal) {
+      edge.pushFanOut(OQueryStats.get((ODatabaseDocumentInternal) ctx.getDatabase()), sample, ctx);
+    }
+  }
+
   protected MatchEdgeTraverser createTraverser(OResult lastUpstreamRecord) {
     if (edge.edge.item instanceof OMultiMatchPathItem) {
       return new MatchMultiEdgeTraverser(lastUpstreamRecord, edge);
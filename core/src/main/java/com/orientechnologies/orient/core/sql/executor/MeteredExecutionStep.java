@@ -0,0 +1,176 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OQueryResources;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Wrapper of an execution step which accounts the resources consumed while the step produces its results, see {@link
+ * OQueryResources}. The execution is pull-based, so the resources include those consumed by the upstream steps; the plan wraps the
+ * step which it pulls from, and every step the previous one, so it can show what each step consumes alone.
+ *
+ * @since 19.10.26
+ */
+final class MeteredExecutionStep implements OExecutionStepInternal {
+  private final OExecutionStepInternal step;
+  private final OQueryResources        resources = new OQueryResources();
+
+  MeteredExecutionStep(OExecutionStepInternal step) {
+    this.step = step;
+  }
+
+  OExecutionStepInternal getStep() {
+    return step;
+  }
+
+  /**
+   * @return resources consumed so far by the step and by its upstream steps
+   */
+  OQueryResources getResources() {
+    return resources;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    OResultSet result;
+    OQueryResources begin = OQueryResources.begin();
+    try {
+      result = step.syncPull(ctx, nRecords);
+    } finally {
+      resources.end(begin);
+    }
+
+    return new OResultSet() {
+      @Override
+      public boolean hasNext() {
+        OQueryResources begin = OQueryResources.begin();
+        try {
+          return result.hasNext();
+        } finally {
+          resources.end(begin);
+        }
+      }
+
+      @Override
+      public OResult next() {
+        OQueryResources begin = OQueryResources.begin();
+        try {
+          OResult next = result.next();
+          resources.rowProduced();
+          return next;
+        } finally {
+          resources.end(begin);
+        }
+      }
+
+      @Override
+      public void close() {
+        result.close();
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return result.getExecutionPlan();
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return result.getQueryStats();
+      }
+    };
+  }
+
+  @Override
+  public void sendTimeout() {
+    step.sendTimeout();
+  }
+
+  @Override
+  public void setPrevious(OExecutionStepInternal step) {
+    this.step.setPrevious(step);
+  }
+
+  @Override
+  public void setNext(OExecutionStepInternal step) {
+    this.step.setNext(step);
+  }
+
+  @Override
+  public void close() {
+    step.close();
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    return step.prettyPrint(depth, indent);
+  }
+
+  @Override
+  public String getName() {
+    return step.getName();
+  }
+
+  @Override
+  public String getType() {
+    return step.getType();
+  }
+
+  @Override
+  public String getDescription() {
+    return step.getDescription();
+  }
+
+  @Override
+  public String getTargetNode() {
+    return step.getTargetNode();
+  }
+
+  @Override
+  public List<OExecutionStep> getSubSteps() {
+    return step.getSubSteps();
+  }
+
+  @Override
+  public List<OExecutionPlan> getSubExecutionPlans() {
+    return step.getSubExecutionPlans();
+  }
+
+  @Override
+  public void reset() {
+    step.reset();
+  }
+
+  @Override
+  public long getCost() {
+    return step.getCost();
+  }
+
+  @Override
+  public OResult toResult() {
+    return step.toResult();
+  }
+
+  @Override
+  public OResult serialize() {
+    return step.serialize();
+  }
+
+  @Override
+  public void deserialize(OResult fromResult) {
+    step.deserialize(fromResult);
+  }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    return step.copy(ctx);
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return step.canBeCached();
+  }
+}
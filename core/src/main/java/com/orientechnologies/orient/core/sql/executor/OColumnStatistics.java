@@ -0,0 +1,357 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.parser.OBetweenCondition;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OGeOperator;
+import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OInCondition;
+import com.orientechnologies.orient.core.sql.parser.OIsNotNullCondition;
+import com.orientechnologies.orient.core.sql.parser.OIsNullCondition;
+import com.orientechnologies.orient.core.sql.parser.OLeOperator;
+import com.orientechnologies.orient.core.sql.parser.OLtOperator;
+import com.orientechnologies.orient.core.sql.parser.ONeOperator;
+import com.orientechnologies.orient.core.sql.parser.ONeqOperator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics about the values of a property, or of the first field of an index, built by the ANALYZE statement from a sample of
+ * the values: fraction of null values, estimated number of distinct values and an equi-depth histogram, ie. the bounds of buckets
+ * that hold the same number of values each. The planner uses them to estimate the selectivity of conditions.
+ * <p>
+ * Numbers are compared as doubles, the histogram is kept only if all the sampled values are comparable with each other.
+ *
+ * @since 19.10.26
+ */
+public class OColumnStatistics {
+  public static final int HISTOGRAM_BUCKETS = 64;
+
+  /**
+   * selectivity of a range condition on a column without histogram
+   */
+  private static final double DEFAULT_RANGE_SELECTIVITY = 1d / 3;
+
+  private static final Object UNKNOWN = new Object();
+
+  private final double       nullFraction;
+  private final long         distinct;
+  private final List<Object> bounds;
+
+  public OColumnStatistics(double nullFraction, long distinct, List<Object> bounds) {
+    this.nullFraction = nullFraction;
+    this.distinct = Math.max(distinct, 1);
+    this.bounds = bounds;
+  }
+
+  /**
+   * @param count      number of rows of the analyzed class or index
+   * @param sampleSize number of sampled rows
+   * @param values     not null values found in the sampled rows
+   */
+  public static OColumnStatistics build(long count, int sampleSize, List<Object> values) {
+    if (sampleSize == 0) {
+      return new OColumnStatistics(0, 1, Collections.emptyList());
+    }
+
+    List<Object> normalized = new ArrayList<>(values.size());
+    for (Object value : values) {
+      normalized.add(normalize(value));
+    }
+
+    double nullFraction = 1 - (double) normalized.size() / sampleSize;
+    long nonNullCount = Math.max(Math.round(count * (1 - nullFraction)), normalized.size());
+    return new OColumnStatistics(nullFraction, estimateDistinct(normalized, nonNullCount), histogram(normalized));
+  }
+
+  /**
+   * Estimates the number of distinct values of a column from a sample with the Duj1 estimator by Haas and Stokes, which is exact
+   * when the sample contains all the values.
+   *
+   * @param values sampled values
+   * @param count  number of values of the column
+   */
+  public static long estimateDistinct(Collection<?> values, long count) {
+    Map<Object, Integer> frequencies = new HashMap<>();
+    for (Object value : values) {
+      frequencies.merge(value, 1, Integer::sum);
+    }
+    long sampled = values.size();
+    long distinct = frequencies.size();
+    if (sampled == 0 || sampled >= count) {
+      return distinct;
+    }
+
+    long singletons = frequencies.values().stream().filter(x -> x == 1).count();
+    double estimate = (double) sampled * distinct / (sampled - singletons + (double) singletons * sampled / count);
+    return Math.min(Math.max(Math.round(estimate), distinct), count);
+  }
+
+  private static List<Object> histogram(List<Object> values) {
+    if (values.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Class<?> type = values.get(0).getClass();
+    if (!Comparable.class.isAssignableFrom(type)) {
+      return Collections.emptyList();
+    }
+    for (Object value : values) {
+      if (value.getClass() != type) {
+        return Collections.emptyList();
+      }
+    }
+
+    List<Object> sorted = new ArrayList<>(values);
+    sorted.sort((a, b) -> ((Comparable<Object>) a).compareTo(b));
+
+    int buckets = Math.min(HISTOGRAM_BUCKETS, sorted.size());
+    List<Object> result = new ArrayList<>(buckets + 1);
+    for (int i = 0; i <= buckets; i++) {
+      result.add(sorted.get((int) ((long) i * (sorted.size() - 1) / buckets)));
+    }
+    return result;
+  }
+
+  private static Object normalize(Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    return value;
+  }
+
+  public double getNullFraction() {
+    return nullFraction;
+  }
+
+  public long getDistinct() {
+    return distinct;
+  }
+
+  /**
+   * @return the bounds of the buckets of the histogram, or an empty list if the column has no histogram
+   */
+  public List<Object> getBounds() {
+    return bounds;
+  }
+
+  /**
+   * @param condition         a condition on this column, with the column on the left side
+   * @param additionalRange   optional second range condition on this column, the two conditions define a closed range
+   *
+   * @return estimated fraction of the rows that match the conditions, -1 if the condition is not supported
+   */
+  public double selectivity(OBooleanExpression condition, OBinaryCondition additionalRange, OCommandContext ctx) {
+    double result = selectivity(condition, ctx);
+    if (result >= 0 && additionalRange != null) {
+      double other = selectivity(additionalRange, ctx);
+      if (other >= 0) {
+        // both are open ranges in opposite directions, so all the not null values match one or the other
+        result = Math.max(result + other - (1 - nullFraction), 0);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param condition a condition on this column, with the column on the left side
+   *
+   * @return estimated fraction of the rows that match the condition, -1 if the condition is not supported
+   */
+  public double selectivity(OBooleanExpression condition, OCommandContext ctx) {
+    if (condition instanceof OBinaryCondition) {
+      OBinaryCondition binary = (OBinaryCondition) condition;
+      return selectivity(binary.getOperator(), valueOf(binary.getRight(), ctx));
+    }
+    if (condition instanceof OBetweenCondition) {
+      OBetweenCondition between = (OBetweenCondition) condition;
+      Object from = valueOf(between.getSecond(), ctx);
+      Object to = valueOf(between.getThird(), ctx);
+      if (from == UNKNOWN || to == UNKNOWN || bounds.isEmpty()) {
+        return (1 - nullFraction) * DEFAULT_RANGE_SELECTIVITY;
+      }
+      return Math.max(below(to) + equal(to) - below(from), 0);
+    }
+    if (condition instanceof OIsNullCondition) {
+      return nullFraction;
+    }
+    if (condition instanceof OIsNotNullCondition) {
+      return 1 - nullFraction;
+    }
+    if (condition instanceof OInCondition) {
+      OInCondition in = (OInCondition) condition;
+      Object values = UNKNOWN;
+      if (in.getRightMathExpression() != null && in.getRightMathExpression().isEarlyCalculated(ctx)) {
+        values = in.getRightMathExpression().execute((OResult) null, ctx);
+      } else if (in.getRightParam() != null) {
+        values = in.getRightParam().getValue(ctx.getInputParameters());
+      }
+      if (!(values instanceof Collection)) {
+        return -1;
+      }
+      double result = 0;
+      for (Object value : (Collection) values) {
+        result += equal(value);
+      }
+      return Math.min(result, 1 - nullFraction);
+    }
+    return -1;
+  }
+
+  private double selectivity(OBinaryCompareOperator operator, Object value) {
+    double notNull = 1 - nullFraction;
+    if (value == UNKNOWN) {
+      if (operator instanceof OEqualsCompareOperator) {
+        return notNull / distinct;
+      } else if (operator instanceof ONeOperator || operator instanceof ONeqOperator) {
+        return notNull - notNull / distinct;
+      } else if (operator.isRangeOperator()) {
+        return notNull * DEFAULT_RANGE_SELECTIVITY;
+      }
+      return -1;
+    }
+
+    if (operator instanceof OEqualsCompareOperator) {
+      return equal(value);
+    } else if (operator instanceof ONeOperator || operator instanceof ONeqOperator) {
+      return notNull - equal(value);
+    }
+    if (!operator.isRangeOperator()) {
+      return -1;
+    }
+    if (bounds.isEmpty()) {
+      return notNull * DEFAULT_RANGE_SELECTIVITY;
+    }
+    if (operator instanceof OLtOperator) {
+      return below(value);
+    } else if (operator instanceof OLeOperator) {
+      return below(value) + equal(value);
+    } else if (operator instanceof OGtOperator) {
+      return Math.max(notNull - below(value) - equal(value), 0);
+    } else if (operator instanceof OGeOperator) {
+      return Math.max(notNull - below(value), 0);
+    }
+    return notNull * DEFAULT_RANGE_SELECTIVITY;
+  }
+
+  /**
+   * @return estimated fraction of the rows equal to the value
+   */
+  public double equal(Object value) {
+    double notNull = 1 - nullFraction;
+    if (value == null) {
+      return 0;
+    }
+    Comparable<Object> key = comparable(value);
+    if (key == null) {
+      return notNull / distinct;
+    }
+
+    int buckets = bounds.size() - 1;
+    int matchingBounds = 0;
+    for (Object bound : bounds) {
+      if (key.compareTo(bound) == 0) {
+        matchingBounds++;
+      }
+    }
+    if (matchingBounds > 1) {
+      // a frequent value, which spans more buckets
+      return notNull * (matchingBounds - 1) / buckets;
+    }
+    return notNull / distinct;
+  }
+
+  /**
+   * @return estimated fraction of the rows lower than the value
+   */
+  public double below(Object value) {
+    double notNull = 1 - nullFraction;
+    Comparable<Object> key = comparable(value);
+    if (key == null) {
+      return notNull * DEFAULT_RANGE_SELECTIVITY;
+    }
+
+    int buckets = bounds.size() - 1;
+    if (key.compareTo(bounds.get(0)) <= 0) {
+      return 0;
+    }
+    if (key.compareTo(bounds.get(buckets)) > 0) {
+      return notNull;
+    }
+
+    int bucket = 0;
+    while (bucket < buckets - 1 && key.compareTo(bounds.get(bucket + 1)) > 0) {
+      bucket++;
+    }
+    return notNull * (bucket + interpolate(bounds.get(bucket), bounds.get(bucket + 1), key)) / buckets;
+  }
+
+  /**
+   * @return position of the value between the bounds of a bucket, from 0 to 1
+   */
+  private static double interpolate(Object low, Object high, Object value) {
+    double lowValue;
+    double highValue;
+    double position;
+    if (value instanceof Double) {
+      lowValue = (Double) low;
+      highValue = (Double) high;
+      position = (Double) value;
+    } else if (value instanceof Date) {
+      lowValue = ((Date) low).getTime();
+      highValue = ((Date) high).getTime();
+      position = ((Date) value).getTime();
+    } else {
+      return 0.5;
+    }
+    if (highValue <= lowValue) {
+      return 0.5;
+    }
+    return Math.min(Math.max((position - lowValue) / (highValue - lowValue), 0), 1);
+  }
+
+  /**
+   * @return the value, as comparable with the bounds, or null if the column has no histogram or the value cannot be compared
+   */
+  private Comparable<Object> comparable(Object value) {
+    if (bounds.isEmpty() || value == null) {
+      return null;
+    }
+    value = normalize(value);
+    if (value.getClass() != bounds.get(0).getClass()) {
+      return null;
+    }
+    return (Comparable<Object>) value;
+  }
+
+  private static Object valueOf(OExpression expression, OCommandContext ctx) {
+    if (expression == null || !expression.isEarlyCalculated(ctx)) {
+      return UNKNOWN;
+    }
+    return expression.execute((OResult) null, ctx);
+  }
+
+  public void toDocument(ODocument document) {
+    document.field("nullFraction", nullFraction);
+    document.field("distinct", distinct);
+    document.field("bounds", bounds);
+  }
+
+  public static OColumnStatistics fromDocument(ODocument document) {
+    Number nullFraction = document.field("nullFraction");
+    Number distinct = document.field("distinct");
+    List<Object> bounds = document.field("bounds");
+    return new OColumnStatistics(nullFraction == null ? 0 : nullFraction.doubleValue(), distinct == null ? 1 : distinct.longValue(),
+        bounds == null ? Collections.emptyList() : new ArrayList<>(bounds));
+  }
+}
@@ -78,8 +78,8 @@ public class OCreateEdgeExecutionPlanner {
       if (clazz == null) {
         throw new OCommandExecutionException("Class " + targetClass + " not found in the db schema");
       }
-      uniqueIndexName = clazz.getIndexes().stream().filter(x -> x.isUnique()).filter(
-          x -> x.getDefinition().getFields().size() == 2 && x.getDefinition().getFields().contains("out") && x.getDefinition()
+      uniqueIndexName = clazz.getIndexes().stream().filter(x -> x.isUnique()).filter(x -> x.getDefinition().getFilter() == null)
+          .filter(x -> x.getDefinition().getFields().size() == 2 && x.getDefinition().getFields().contains("out") && x.getDefinition()
               .getFields().contains("in")).map(x -> x.getName()).findFirst().orElse(null);
 
       if (uniqueIndexName == null) {
@@ -0,0 +1,82 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Statistics about the keys of an index, built by the ANALYZE statement: the estimated number of distinct values of each prefix
+ * of the key, for composite indexes, and the statistics of the first field of the key.
+ *
+ * @since 19.10.26
+ */
+public class OIndexStatistics {
+  private final long[]            distinct;
+  private final OColumnStatistics firstField;
+
+  /**
+   * @param distinct   estimated number of distinct values of each prefix of the key, from the first field only to the whole key
+   * @param firstField statistics of the first field of the key
+   */
+  public OIndexStatistics(long[] distinct, OColumnStatistics firstField) {
+    this.distinct = distinct;
+    this.firstField = firstField;
+  }
+
+  public long[] getDistinct() {
+    return distinct;
+  }
+
+  public OColumnStatistics getFirstField() {
+    return firstField;
+  }
+
+  /**
+   * @param keyCondition    conditions on the fields of the key, in the same order, the last one can be a range condition
+   * @param additionalRange optional second range condition on the last field
+   *
+   * @return estimated fraction of the index entries that match the conditions, -1 if they are not supported
+   */
+  public double selectivity(List<OBooleanExpression> keyCondition, OBinaryCondition additionalRange, OCommandContext ctx) {
+    int fields = keyCondition.size();
+    if (fields == 0 || fields > distinct.length) {
+      return -1;
+    }
+    double result = firstField.selectivity(keyCondition.get(0), fields == 1 ? additionalRange : null, ctx);
+    if (result < 0 || fields == 1) {
+      return result;
+    }
+
+    // each further field splits the entries with the same prefix in this many groups
+    OBooleanExpression last = keyCondition.get(fields - 1);
+    boolean range = last instanceof OBinaryCondition && ((OBinaryCondition) last).getOperator().isRangeOperator();
+    int equalityFields = range ? fields - 1 : fields;
+    result = result * distinct[0] / Math.max(distinct[equalityFields - 1], 1);
+    if (range) {
+      result = result / 3;
+    }
+    return result;
+  }
+
+  public void toDocument(ODocument document) {
+    List<Long> distinctList = new ArrayList<>(distinct.length);
+    for (long value : distinct) {
+      distinctList.add(value);
+    }
+    firstField.toDocument(document);
+    document.field("distinctPrefixes", distinctList);
+  }
+
+  public static OIndexStatistics fromDocument(ODocument document) {
+    List<Number> distinctList = document.field("distinctPrefixes");
+    long[] distinct = new long[distinctList == null ? 0 : distinctList.size()];
+    for (int i = 0; i < distinct.length; i++) {
+      distinct[i] = distinctList.get(i).longValue();
+    }
+    return new OIndexStatistics(distinct, OColumnStatistics.fromDocument(document));
+  }
+}
@@ -238,7 +238,7 @@ public class OMatchExecutionPlanner {
   private OInternalExecutionPlan createPlanForPattern(Pattern pattern, OCommandContext context,
       Map<String, Long> estimatedRootEntries, Set<String> prefetchedAliases, boolean profilingEnabled) {
     OSelectExecutionPlan plan = new OSelectExecutionPlan(context);
-    List<EdgeTraversal> sortedEdges = getTopologicalSortedSchedule(estimatedRootEntries, pattern);
+    List<EdgeTraversal> sortedEdges = getTopologicalSortedSchedule(estimatedRootEntries, pattern, context);
 
     boolean first = true;
     if (sortedEdges.size() > 0) {
@@ -250,6 +250,9 @@ public class OMatchExecutionPlanner {
           edge.setLeftClass(aliasClasses.get(edge.edge.out.alias));
           edge.setLeftFilter(aliasFilters.get(edge.edge.out.alias));
         }
+        if (edge.edge.in.alias != null) {
+          edge.setRightClass(aliasClasses.get(edge.edge.in.alias));
+        }
         addStepsFor(plan, edge, context, first, profilingEnabled);
         first = false;
       }
@@ -274,16 +277,27 @@ public class OMatchExecutionPlanner {
   /**
    * sort edges in the order they will be matched
    */
-  private List<EdgeTraversal> getTopologicalSortedSchedule(Map<String, Long> estimatedRootEntries, Pattern pattern) {
+  private List<EdgeTraversal> getTopologicalSortedSchedule(Map<String, Long> estimatedRootEntries, Pattern pattern,
+      OCommandContext context) {
     List<EdgeTraversal> resultingSchedule = new ArrayList<>();
     Map<String, Set<String>> remainingDependencies = getDependencies(pattern);
     Set<PatternNode> visitedNodes = new HashSet<>();
     Set<PatternEdge> visitedEdges = new HashSet<>();
+    OQueryStats stats = null;
+    if (context != null && context.getDatabase() instanceof ODatabaseDocumentInternal) {
+      stats = OQueryStats.get((ODatabaseDocumentInternal) context.getDatabase());
+    }
 
-    // Sort the possible root vertices in order of estimated size, since we want to start with a small vertex set.
+    // Sort the possible root vertices in order of estimated cost of the first traversal, ie. the size of the vertex set
+    // multiplied by the fan-out of its cheapest edge, since we want to start with a small frontier.
     List<OPair<Long, String>> rootWeights = new ArrayList<>();
     for (Map.Entry<String, Long> root : estimatedRootEntries.entrySet()) {
-      rootWeights.add(new OPair<>(root.getValue(), root.getKey()));
+      long fanOut = getMinFanOut(pattern.aliasToNode.get(root.getKey()), stats, context);
+      long cost = root.getValue();
+      if (fanOut > 1) {
+        cost = cost > Long.MAX_VALUE / fanOut ? Long.MAX_VALUE : cost * fanOut;
+      }
+      rootWeights.add(new OPair<>(cost, root.getKey()));
     }
     Collections.sort(rootWeights);
 
@@ -329,7 +343,8 @@ public class OMatchExecutionPlanner {
 
       // 2. Having found a starting vertex, traverse its neighbors depth-first,
       //    adding any non-visited ones with satisfied dependencies to our schedule.
-      updateScheduleStartingAt(startingNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule);
+      updateScheduleStartingAt(startingNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule, stats,
+          context);
     }
 
     if (resultingSchedule.size() != pattern.numOfEdges) {
@@ -349,9 +364,11 @@ public class OMatchExecutionPlanner {
    * @param remainingDependencies dependency map including only the dependencies that haven't yet been satisfied (mutated in this
    *                              function)
    * @param resultingSchedule     the schedule being computed i.e. appended to (mutated in this function)
+   * @param stats                 the statistics used to traverse the edges with the smallest fan-out first, null if not available
    */
   private void updateScheduleStartingAt(PatternNode startNode, Set<PatternNode> visitedNodes, Set<PatternEdge> visitedEdges,
-      Map<String, Set<String>> remainingDependencies, List<EdgeTraversal> resultingSchedule) {
+      Map<String, Set<String>> remainingDependencies, List<EdgeTraversal> resultingSchedule, OQueryStats stats,
+      OCommandContext context) {
     // OrientDB requires the schedule to contain all edges present in the query, which is a stronger condition
     // than simply visiting all nodes in the query. Consider the following example query:
     //     MATCH {
@@ -385,6 +402,9 @@ public class OMatchExecutionPlanner {
     for (PatternEdge inEdge : startNode.in) {
       edges.put(inEdge, false);
     }
+    if (stats != null && edges.size() > 1) {
+      edges = sortByFanOut(startNode, edges, stats, context);
+    }
 
     for (Map.Entry<PatternEdge, Boolean> edgeData : edges.entrySet()) {
       PatternEdge edge = edgeData.getKey();
@@ -432,11 +452,63 @@ public class OMatchExecutionPlanner {
 
         visitedEdges.add(edge);
         resultingSchedule.add(new EdgeTraversal(edge, isOutbound));
-        updateScheduleStartingAt(neighboringNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule);
+        updateScheduleStartingAt(neighboringNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule, stats,
+            context);
       }
     }
   }
 
+  /**
+   * Orders the edges of a node by the estimated fan-out of their traversal from the node, the edges without statistics last.
+   *
+   * @param edges map of the edges to the direction of their traversal from the node
+   */
+  private Map<PatternEdge, Boolean> sortByFanOut(PatternNode node, Map<PatternEdge, Boolean> edges, OQueryStats stats,
+      OCommandContext context) {
+    List<OPair<Long, PatternEdge>> weights = new ArrayList<>();
+    for (Map.Entry<PatternEdge, Boolean> edge : edges.entrySet()) {
+      long fanOut = EdgeTraversal.estimateFanOut(edge.getKey(), edge.getValue(), aliasClasses.get(node.alias), stats, context);
+      weights.add(new OPair<>(fanOut < 0 ? Long.MAX_VALUE : fanOut, edge.getKey()));
+    }
+    // stable sort, the edges with the same fan-out keep the order of the pattern
+    weights.sort(Comparator.comparing(OPair::getKey));
+    Map<PatternEdge, Boolean> result = new LinkedHashMap<>();
+    for (OPair<Long, PatternEdge> weight : weights) {
+      result.put(weight.getValue(), edges.get(weight.getValue()));
+    }
+    return result;
+  }
+
+  /**
+   * Estimates the fan-out of the cheapest edge that can be traversed from a root node. Traversing an edge against its direction
+   * is possible only for bidirectional edges, incoming edges which are not bidirectional are not considered.
+   *
+   * @return the estimated fan-out, -1 if there are no statistics for the edges which can be traversed
+   */
+  private long getMinFanOut(PatternNode node, OQueryStats stats, OCommandContext context) {
+    if (stats == null || node == null) {
+      return -1;
+    }
+    long result = -1;
+    for (PatternEdge edge : node.out) {
+      long fanOut = EdgeTraversal.estimateFanOut(edge, true, aliasClasses.get(node.alias), stats, context);
+      if (fanOut >= 0 && (result < 0 || fanOut < result)) {
+        result = fanOut;
+      }
+    }
+    for (PatternEdge edge : node.in) {
+      if (!edge.item.isBidirectional()) {
+        // this edge can be traversed only from its source, so it does not start from this node
+        continue;
+      }
+      long fanOut = EdgeTraversal.estimateFanOut(edge, false, aliasClasses.get(node.alias), stats, context);
+      if (fanOut >= 0 && (result < 0 || fanOut < result)) {
+        result = fanOut;
+      }
+    }
+    return result;
+  }
+
   /**
    * Calculate the set of dependency aliases for each alias in the pattern.
    *
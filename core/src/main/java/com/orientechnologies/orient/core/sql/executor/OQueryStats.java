@@ -1,21 +1,49 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OSecurityException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBetweenCondition;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OInCondition;
+import com.orientechnologies.orient.core.sql.parser.OIsNotNullCondition;
+import com.orientechnologies.orient.core.sql.parser.OIsNullCondition;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * This class contains statistics about graph structure and query execution.
  * <p>
- * To obtain a copy of this object, use
+ * Statistics of properties and indexes built by the ANALYZE statement are persisted as records of the {@link #STATISTICS_CLASS}
+ * class, and are loaded the first time the planner needs them.
  *
  * @author Luigi Dell'Aquila
  */
 public class OQueryStats {
+  public static final String STATISTICS_CLASS = "OStatistics";
 
   public Map<String, Long> stats = new ConcurrentHashMap<>();
 
+  private final    Map<String, OColumnStatistics> columnStats    = new ConcurrentHashMap<>();
+  private final    Map<String, OIndexStatistics>  indexStats     = new ConcurrentHashMap<>();
+  private final    Map<String, ORID>              statsRids      = new ConcurrentHashMap<>();
+  private final    Map<String, OSpanHistogram>    spanHistograms = new ConcurrentHashMap<>();
+  private volatile boolean                        statsLoaded    = false;
+
   public static OQueryStats get(ODatabaseDocumentInternal db) {
     return db.getSharedContext().getQueryStats();
   }
@@ -35,45 +63,110 @@ public class OQueryStats {
   }
 
   public long getAverageOutEdgeSpan(String vertexClass, String edgeClass) {
-    String key = generateKey(vertexClass, "-", edgeClass, "->");
-    Long val = stats.get(key);
-    if (val != null) {
-      return val;
-    }
-    return -1;
+    return getValue(outEdgeSpanKey(vertexClass, edgeClass));
   }
 
   public long getAverageInEdgeSpan(String vertexClass, String edgeClass) {
-    String key = generateKey(vertexClass, "<-", edgeClass, "-");
-    Long val = stats.get(key);
-    if (val != null) {
-      return val;
-    }
-    return -1;
+    return getValue(inEdgeSpanKey(vertexClass, edgeClass));
   }
 
   public long getAverageBothEdgeSpan(String vertexClass, String edgeClass) {
-    String key = generateKey(vertexClass, "-", edgeClass, "-");
-    Long val = stats.get(key);
-    if (val != null) {
-      return val;
-    }
-    return -1;
+    return getValue(bothEdgeSpanKey(vertexClass, edgeClass));
+  }
+
+  /**
+   * Returns a percentile of the number of outgoing edges of a class from the vertices of a class, as seen by the traversals of
+   * the executed queries. High percentiles show if the edge class has supernodes.
+   *
+   * @param percentile the percentile, between 0 and 1
+   *
+   * @return an upper bound of the percentile, -1 if there are no statistics
+   */
+  public long getOutEdgeSpanPercentile(String vertexClass, String edgeClass, double percentile) {
+    return getPercentile(outEdgeSpanKey(vertexClass, edgeClass), percentile);
+  }
+
+  public long getInEdgeSpanPercentile(String vertexClass, String edgeClass, double percentile) {
+    return getPercentile(inEdgeSpanKey(vertexClass, edgeClass), percentile);
+  }
+
+  public long getBothEdgeSpanPercentile(String vertexClass, String edgeClass, double percentile) {
+    return getPercentile(bothEdgeSpanKey(vertexClass, edgeClass), percentile);
   }
 
   public void pushAverageOutEdgeSpan(String vertexClass, String edgeClass, Long value) {
-    String key = generateKey(vertexClass, "-", edgeClass, "->");
-    pushValue(key, value);
+    pushSpan(outEdgeSpanKey(vertexClass, edgeClass), value);
   }
 
   public void pushAverageInEdgeSpan(String vertexClass, String edgeClass, Long value) {
-    String key = generateKey(vertexClass, "<-", edgeClass, "-");
-    pushValue(key, value);
+    pushSpan(inEdgeSpanKey(vertexClass, edgeClass), value);
   }
 
   public void pushAverageBothEdgeSpan(String vertexClass, String edgeClass, Long value) {
-    String key = generateKey(vertexClass, "-", edgeClass, "-");
+    pushSpan(bothEdgeSpanKey(vertexClass, edgeClass), value);
+  }
+
+  /**
+   * @param direction the direction of the traversed edges: "out", "in" or "both"
+   *
+   * @return the key of the statistics of the edges of a class traversed from the vertices of a class
+   */
+  String edgeSpanKey(String direction, String vertexClass, String edgeClass) {
+    switch (direction) {
+    case "out":
+      return outEdgeSpanKey(vertexClass, edgeClass);
+    case "in":
+      return inEdgeSpanKey(vertexClass, edgeClass);
+    default:
+      return bothEdgeSpanKey(vertexClass, edgeClass);
+    }
+  }
+
+  /**
+   * Adds the spans collected by a traversal to the statistics with a single update of the average and of the histogram.
+   */
+  void pushSpans(String key, OSpanSample sample) {
+    if (sample.isEmpty()) {
+      return;
+    }
+    pushValue(key, sample.sum / sample.count);
+    spanHistograms.computeIfAbsent(key, k -> new OSpanHistogram()).addAll(sample);
+  }
+
+  private String outEdgeSpanKey(String vertexClass, String edgeClass) {
+    return generateKey(vertexClass, "-", edgeClass, "->");
+  }
+
+  private String inEdgeSpanKey(String vertexClass, String edgeClass) {
+    return generateKey(vertexClass, "<-", edgeClass, "-");
+  }
+
+  private String bothEdgeSpanKey(String vertexClass, String edgeClass) {
+    return generateKey(vertexClass, "-", edgeClass, "-");
+  }
+
+  private long getValue(String key) {
+    Long val = stats.get(key);
+    if (val != null) {
+      return val;
+    }
+    return -1;
+  }
+
+  private long getPercentile(String key, double percentile) {
+    OSpanHistogram histogram = spanHistograms.get(key);
+    if (histogram == null) {
+      return -1;
+    }
+    return histogram.percentile(percentile);
+  }
+
+  private void pushSpan(String key, Long value) {
+    if (value == null) {
+      return;
+    }
     pushValue(key, value);
+    spanHistograms.computeIfAbsent(key, k -> new OSpanHistogram()).add(value);
   }
 
   private void pushValue(String key, Long value) {
@@ -102,4 +195,239 @@ public class OQueryStats {
     }
     return result.toString();
   }
+
+  public OColumnStatistics getColumnStatistics(ODatabaseDocumentInternal db, String className, String property) {
+    loadStatistics(db);
+    return columnStats.get(columnKey(className, property));
+  }
+
+  public OIndexStatistics getIndexStatistics(ODatabaseDocumentInternal db, String indexName) {
+    loadStatistics(db);
+    return indexStats.get(indexKey(indexName));
+  }
+
+  public void pushColumnStatistics(ODatabaseDocumentInternal db, String className, String property, OColumnStatistics value) {
+    String key = columnKey(className, property);
+    ODocument document = statisticsDocument(db, key);
+    document.field("class", className);
+    document.field("property", property);
+    value.toDocument(document);
+    saveStatistics(db, key, document);
+    columnStats.put(key, value);
+  }
+
+  public void pushIndexStatistics(ODatabaseDocumentInternal db, String indexName, OIndexStatistics value) {
+    String key = indexKey(indexName);
+    ODocument document = statisticsDocument(db, key);
+    document.field("index", indexName);
+    value.toDocument(document);
+    saveStatistics(db, key, document);
+    indexStats.put(key, value);
+  }
+
+  /**
+   * Estimates the entries of an index that match a key condition, from the statistics of the index or, if the index was not
+   * analyzed, from the statistics of the indexed properties, assuming they are independent.
+   *
+   * @return the estimated number of entries, -1 if there are no statistics
+   */
+  public long estimateIndexEntries(ODatabaseDocumentInternal db, OIndex<?> index, OAndBlock keyCondition,
+      OBinaryCondition additionalRangeCondition, OCommandContext ctx) {
+    List<OBooleanExpression> blocks = keyCondition.getSubBlocks();
+    double selectivity;
+    OIndexStatistics indexStatistics = getIndexStatistics(db, index.getName());
+    if (indexStatistics != null) {
+      selectivity = indexStatistics.selectivity(blocks, additionalRangeCondition, ctx);
+    } else {
+      OIndexDefinition definition = index.getDefinition();
+      if (definition == null || definition.getClassName() == null || blocks.size() > definition.getFields().size()) {
+        return -1;
+      }
+      selectivity = 1;
+      for (int i = 0; i < blocks.size() && selectivity >= 0; i++) {
+        OColumnStatistics column = getColumnStatistics(db, definition.getClassName(), definition.getFields().get(i));
+        if (column == null) {
+          return -1;
+        }
+        selectivity *= column.selectivity(blocks.get(i), i == blocks.size() - 1 ? additionalRangeCondition : null, ctx);
+      }
+    }
+    if (selectivity < 0) {
+      return -1;
+    }
+    return Math.round(index.getSize() * selectivity);
+  }
+
+  /**
+   * Estimates the fraction of the records of a class that match the conditions on analyzed properties, assuming they are
+   * independent. Conditions on properties that were not analyzed are ignored.
+   *
+   * @return the estimated fraction, -1 if none of the conditions is on an analyzed property
+   */
+  public double estimateSelectivity(ODatabaseDocumentInternal db, OClass clazz, OAndBlock condition, OCommandContext ctx) {
+    double result = -1;
+    for (OBooleanExpression block : condition.getSubBlocks()) {
+      OExpression left = null;
+      if (block instanceof OBinaryCondition) {
+        left = ((OBinaryCondition) block).getLeft();
+      } else if (block instanceof OBetweenCondition) {
+        left = ((OBetweenCondition) block).getFirst();
+      } else if (block instanceof OInCondition) {
+        left = ((OInCondition) block).getLeft();
+      } else if (block instanceof OIsNullCondition) {
+        left = ((OIsNullCondition) block).getExpression();
+      } else if (block instanceof OIsNotNullCondition) {
+        left = ((OIsNotNullCondition) block).getExpression();
+      }
+      if (left == null || !left.isBaseIdentifier()) {
+        continue;
+      }
+      OColumnStatistics column = getColumnStatistics(db, clazz.getName(), left.getDefaultAlias().getStringValue());
+      if (column == null) {
+        continue;
+      }
+      double selectivity = column.selectivity(block, ctx);
+      if (selectivity >= 0) {
+        result = result < 0 ? selectivity : result * selectivity;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Drops the statistics of properties and indexes loaded in memory, they are loaded again from the persisted records the next
+   * time they are needed.
+   */
+  public void invalidateStatistics() {
+    synchronized (this) {
+      statsLoaded = false;
+      columnStats.clear();
+      indexStats.clear();
+      statsRids.clear();
+    }
+  }
+
+  private void loadStatistics(ODatabaseDocumentInternal db) {
+    if (statsLoaded) {
+      return;
+    }
+    synchronized (this) {
+      if (statsLoaded) {
+        return;
+      }
+      if (db.getMetadata().getImmutableSchemaSnapshot().existsClass(STATISTICS_CLASS)) {
+        try {
+          for (ODocument document : db.browseClass(STATISTICS_CLASS)) {
+            String property = document.field("property");
+            String index = document.field("index");
+            if (property != null) {
+              String key = columnKey(document.field("class"), property);
+              columnStats.put(key, OColumnStatistics.fromDocument(document));
+              statsRids.put(key, document.getIdentity());
+            } else if (index != null) {
+              String key = indexKey(index);
+              indexStats.put(key, OIndexStatistics.fromDocument(document));
+              statsRids.put(key, document.getIdentity());
+            }
+          }
+        } catch (OSecurityException e) {
+          // the user cannot read the statistics, the query is planned without them and they are loaded by the next user that can
+          return;
+        }
+      }
+      statsLoaded = true;
+    }
+  }
+
+  private ODocument statisticsDocument(ODatabaseDocumentInternal db, String key) {
+    loadStatistics(db);
+    ORID rid = statsRids.get(key);
+    if (rid != null) {
+      ODocument document = db.load(rid);
+      if (document != null) {
+        return document;
+      }
+    }
+    OSchema schema = db.getMetadata().getSchema();
+    if (!schema.existsClass(STATISTICS_CLASS)) {
+      schema.createClass(STATISTICS_CLASS);
+    }
+    return new ODocument(STATISTICS_CLASS);
+  }
+
+  private void saveStatistics(ODatabaseDocumentInternal db, String key, ODocument document) {
+    document.field("analyzedOn", new Date());
+    db.save(document);
+    statsRids.put(key, document.getIdentity());
+  }
+
+  private static String columnKey(String className, String property) {
+    return "class:" + className.toLowerCase() + "." + property;
+  }
+
+  private static String indexKey(String indexName) {
+    return "index:" + indexName.toLowerCase();
+  }
+
+  private static int spanBucket(long span) {
+    return Long.SIZE - Long.numberOfLeadingZeros(Math.max(span, 0));
+  }
+
+  /**
+   * Spans collected by a single execution of a traversal, not thread safe.
+   */
+  static class OSpanSample {
+    private final long[] buckets = new long[Long.SIZE + 1];
+    private       long   count;
+    private       long   sum;
+
+    void add(long span) {
+      buckets[spanBucket(span)]++;
+      count++;
+      sum += Math.max(span, 0);
+    }
+
+    boolean isEmpty() {
+      return count == 0;
+    }
+  }
+
+  /**
+   * Histogram of edge spans, with a bucket for each power of two, so that the percentiles are known with a 2x approximation
+   * using a fixed amount of memory.
+   */
+  private static class OSpanHistogram {
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE + 1);
+    private final AtomicLong      count   = new AtomicLong();
+
+    void add(long span) {
+      buckets.incrementAndGet(spanBucket(span));
+      count.incrementAndGet();
+    }
+
+    void addAll(OSpanSample sample) {
+      for (int i = 0; i < sample.buckets.length; i++) {
+        if (sample.buckets[i] > 0) {
+          buckets.addAndGet(i, sample.buckets[i]);
+        }
+      }
+      count.addAndGet(sample.count);
+    }
+
+    long percentile(double percentile) {
+      long total = count.get();
+      if (total == 0) {
+        return -1;
+      }
+      long threshold = (long) Math.ceil(total * percentile);
+      long seen = 0;
+      for (int i = 0; i < buckets.length(); i++) {
+        seen += buckets.get(i);
+        if (seen >= threshold && seen > 0) {
+          return i == 0 ? 0 : i == Long.SIZE ? Long.MAX_VALUE : (1L << i) - 1;
+        }
+      }
+      return Long.MAX_VALUE;
+    }
+  }
 }
@@ -2,13 +2,19 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.id.ORID;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
  * Special implementation of Java Set&lt;ORID&gt; to efficiently handle memory and performance.
  * It does not store actual RIDs, but it only keeps track that a RID was stored, so the iterator will return new instances.
+ * <p>
+ * The set is a bitmap, {@link #addAll(Collection)} and {@link #retainAll(Collection)} with another ORidSet compute the union and
+ * the intersection word by word, and the intersection releases the blocks that become empty.
  *
  * @author Luigi Dell'Aquila
  */
@@ -211,6 +217,9 @@ public class ORidSet implements Set<ORID> {
     if (content[cluster].length <= block) {
       return false;
     }
+    if (content[cluster][block] == null) {
+      return false;
+    }
     if (content[cluster][block].length <= blockPositionByteInt) {
       return false;
     }
@@ -237,15 +246,110 @@ public class ORidSet implements Set<ORID> {
   }
 
   @Override public boolean addAll(Collection<? extends ORID> c) {
+    if (c instanceof ORidSet && ((ORidSet) c).maxArraySize == maxArraySize) {
+      return addAll((ORidSet) c);
+    }
     boolean added = false;
     for (ORID o : c) {
-      added = added && add(o);
+      added = add(o) || added;
     }
     return added;
   }
 
+  private boolean addAll(ORidSet other) {
+    long oldSize = size;
+    if (content.length < other.content.length) {
+      content = Arrays.copyOf(content, other.content.length);
+    }
+    for (int cluster = 0; cluster < other.content.length; cluster++) {
+      long[][] otherBlocks = other.content[cluster];
+      if (otherBlocks == null) {
+        continue;
+      }
+      if (content[cluster] == null) {
+        content[cluster] = new long[otherBlocks.length][];
+      } else if (content[cluster].length < otherBlocks.length) {
+        content[cluster] = Arrays.copyOf(content[cluster], otherBlocks.length);
+      }
+      long[][] blocks = content[cluster];
+      for (int block = 0; block < otherBlocks.length; block++) {
+        long[] otherWords = otherBlocks[block];
+        if (otherWords == null) {
+          continue;
+        }
+        long[] words = blocks[block];
+        if (words == null) {
+          blocks[block] = otherWords.clone();
+          size += bitCount(otherWords);
+          continue;
+        }
+        if (words.length < otherWords.length) {
+          words = Arrays.copyOf(words, otherWords.length);
+          blocks[block] = words;
+        }
+        for (int i = 0; i < otherWords.length; i++) {
+          long added = otherWords[i] & ~words[i];
+          if (added != 0L) {
+            words[i] |= added;
+            size += Long.bitCount(added);
+          }
+        }
+      }
+    }
+    return size != oldSize;
+  }
+
   @Override public boolean retainAll(Collection<?> c) {
-    throw new UnsupportedOperationException();
+    if (c instanceof ORidSet && ((ORidSet) c).maxArraySize == maxArraySize) {
+      return retainAll((ORidSet) c);
+    }
+    List<ORID> toRemove = new ArrayList<>();
+    for (ORID rid : this) {
+      if (!c.contains(rid)) {
+        toRemove.add(rid);
+      }
+    }
+    for (ORID rid : toRemove) {
+      remove(rid);
+    }
+    return !toRemove.isEmpty();
+  }
+
+  private boolean retainAll(ORidSet other) {
+    long oldSize = size;
+    for (int cluster = 0; cluster < content.length; cluster++) {
+      long[][] blocks = content[cluster];
+      if (blocks == null) {
+        continue;
+      }
+      long[][] otherBlocks = cluster < other.content.length ? other.content[cluster] : null;
+      for (int block = 0; block < blocks.length; block++) {
+        long[] words = blocks[block];
+        if (words == null) {
+          continue;
+        }
+        long[] otherWords = otherBlocks != null && block < otherBlocks.length ? otherBlocks[block] : null;
+        boolean empty = true;
+        for (int i = 0; i < words.length; i++) {
+          long retained = otherWords != null && i < otherWords.length ? words[i] & otherWords[i] : 0L;
+          size -= Long.bitCount(words[i] & ~retained);
+          words[i] = retained;
+          empty &= retained == 0L;
+        }
+        if (empty) {
+          blocks[block] = null;
+        }
+      }
+    }
+    return size != oldSize;
+  }
+
+  private static long bitCount(long[] words) {
+    long result = 0;
+    for (long word : words) {
+      result += Long.bitCount(word);
+    }
+    return result;
   }
 
   @Override public boolean removeAll(Collection<?> c) {
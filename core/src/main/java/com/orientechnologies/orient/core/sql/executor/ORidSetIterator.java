@@ -40,32 +40,24 @@ public class ORidSetIterator implements Iterator<ORID> {
     }
 
     long currentArrayPos = currentId / 63;
-    long currentBit = currentId % 63;
+    int currentBit = (int) (currentId % 63);
     int block = (int) (currentArrayPos / set.maxArraySize);
     int blockPositionByteInt = (int) (currentArrayPos % set.maxArraySize);
 
     while (currentCluster < set.content.length) {
-      while (set.content[currentCluster] != null && block < set.content[currentCluster].length) {
-        while (set.content[currentCluster][block] != null && blockPositionByteInt < set.content[currentCluster][block].length) {
-          if (currentBit == 0 && set.content[currentCluster][block][blockPositionByteInt] == 0L) {
-            blockPositionByteInt++;
-            currentArrayPos++;
-            continue;
-          }
-          if (set.contains(new ORecordId(currentCluster, currentArrayPos * 63 + currentBit))) {
-            currentId = currentArrayPos * 63 + currentBit;
+      long[][] blocks = set.content[currentCluster];
+      while (blocks != null && block < blocks.length) {
+        long[] words = blocks[block];
+        while (words != null && blockPositionByteInt < words.length) {
+          //skip to the next bit set in the current word, if any
+          long word = words[blockPositionByteInt] >>> currentBit;
+          if (word != 0L) {
+            currentBit += Long.numberOfTrailingZeros(word);
+            currentId = ((long) block * set.maxArraySize + blockPositionByteInt) * 63 + currentBit;
             return;
-          } else {
-            currentBit++;
-            if (currentBit > 63) {
-              currentBit = 0;
-              blockPositionByteInt++;
-              currentArrayPos++;
-            }
           }
-        }
-        if (set.content[currentCluster][block] == null && set.content[currentCluster].length >= block) {
-          currentArrayPos += set.maxArraySize;
+          currentBit = 0;
+          blockPositionByteInt++;
         }
         block++;
         blockPositionByteInt = 0;
@@ -73,7 +65,6 @@ public class ORidSetIterator implements Iterator<ORID> {
       }
       block = 0;
       currentBit = 0;
-      currentArrayPos = 0;
       blockPositionByteInt = 0;
       currentCluster++;
     }
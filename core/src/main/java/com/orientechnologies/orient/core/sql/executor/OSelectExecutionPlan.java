@@ -3,9 +3,12 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OQueryResources;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +26,11 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
 
   private String statement;
 
+  /**
+   * Wrappers of profiled steps which account the resources consumed by each step, see {@link MeteredExecutionStep}.
+   */
+  private final Map<OExecutionStepInternal, MeteredExecutionStep> meteredSteps = new IdentityHashMap<>();
+
   public OSelectExecutionPlan(OCommandContext ctx) {
     this.ctx = ctx;
   }
@@ -34,6 +42,9 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
 
   @Override
   public OResultSet fetchNext(int n) {
+    if (isProfiled(lastStep)) {
+      return meter(lastStep).syncPull(ctx, n);
+    }
     return lastStep.syncPull(ctx, n);
   }
 
@@ -43,13 +54,64 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
     for (int i = 0; i < steps.size(); i++) {
       OExecutionStepInternal step = steps.get(i);
       result.append(step.prettyPrint(depth, indent));
+      OQueryResources stepResources = getStepResources(i);
+      if (stepResources != null) {
+        result.append("\n");
+        result.append(OExecutionStepInternal.getIndent(depth, indent));
+        result.append("  (" + stepResources + ")");
+      }
       if (i < steps.size() - 1) {
         result.append("\n");
       }
     }
+    OQueryResources resources = getResources();
+    if (resources != null) {
+      result.append("\n");
+      result.append(OExecutionStepInternal.getIndent(depth, indent));
+      result.append("TOTAL (" + resources + ")");
+    }
     return result.toString();
   }
 
+  /**
+   * @return resources consumed so far by the execution of the plan, or null if the plan is not profiled
+   */
+  public OQueryResources getResources() {
+    MeteredExecutionStep meteredStep = lastStep == null ? null : meteredSteps.get(lastStep);
+    return meteredStep == null ? null : meteredStep.getResources();
+  }
+
+  /**
+   * @return resources consumed by the step alone, without those consumed by its upstream step, or null if the step is not profiled
+   */
+  private OQueryResources getStepResources(int stepIndex) {
+    MeteredExecutionStep meteredStep = meteredSteps.get(steps.get(stepIndex));
+    if (meteredStep == null) {
+      return null;
+    }
+    MeteredExecutionStep upstream = stepIndex == 0 ? null : meteredSteps.get(steps.get(stepIndex - 1));
+    return upstream == null ? meteredStep.getResources() : meteredStep.getResources().exclusiveOf(upstream.getResources());
+  }
+
+  private static boolean isProfiled(OExecutionStepInternal step) {
+    return step instanceof AbstractExecutionStep && ((AbstractExecutionStep) step).isProfilingEnabled();
+  }
+
+  private MeteredExecutionStep meter(OExecutionStepInternal step) {
+    return meteredSteps.computeIfAbsent(step, MeteredExecutionStep::new);
+  }
+
+  static OResult toResult(OQueryResources resources) {
+    OResultInternal result = new OResultInternal();
+    result.setProperty("rows", resources.getRows());
+    result.setProperty("pagesReadFromCache", resources.getPagesReadFromCache());
+    result.setProperty("pagesReadFromDisk", resources.getPagesReadFromDisk());
+    result.setProperty("recordsDeserialized", resources.getRecordsDeserialized());
+    result.setProperty("indexEntriesScanned", resources.getIndexEntriesScanned());
+    result.setProperty("bytesAllocated", resources.getBytesAllocated());
+    return result;
+  }
+
   @Override
   public void reset(OCommandContext ctx) {
     steps.forEach(OExecutionStepInternal::reset);
@@ -58,7 +120,7 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
   public void chain(OExecutionStepInternal nextStep) {
     if (lastStep != null) {
       lastStep.setNext(nextStep);
-      nextStep.setPrevious(lastStep);
+      nextStep.setPrevious(isProfiled(lastStep) ? meter(lastStep) : lastStep);
     }
     lastStep = nextStep;
     steps.add(nextStep);
@@ -86,7 +148,23 @@ public class OSelectExecutionPlan implements OInternalExecutionPlan {
     result.setProperty(JAVA_TYPE, getClass().getName());
     result.setProperty("cost", getCost());
     result.setProperty("prettyPrint", prettyPrint(0, 2));
-    result.setProperty("steps", steps == null ? null : steps.stream().map(x -> x.toResult()).collect(Collectors.toList()));
+    List<OResult> stepResults = null;
+    if (steps != null) {
+      stepResults = new ArrayList<>();
+      for (int i = 0; i < steps.size(); i++) {
+        OResult stepResult = steps.get(i).toResult();
+        OQueryResources stepResources = getStepResources(i);
+        if (stepResources != null && stepResult instanceof OResultInternal) {
+          ((OResultInternal) stepResult).setProperty("resources", toResult(stepResources));
+        }
+        stepResults.add(stepResult);
+      }
+    }
+    result.setProperty("steps", stepResults);
+    OQueryResources resources = getResources();
+    if (resources != null) {
+      result.setProperty("resources", toResult(resources));
+    }
     return result;
   }
 
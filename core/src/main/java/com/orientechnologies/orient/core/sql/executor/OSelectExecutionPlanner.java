@@ -2,22 +2,32 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OSecurityException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeCollate;
+import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
+import com.orientechnologies.orient.core.index.OExpressionIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexDefinitionMultiValue;
+import com.orientechnologies.orient.core.index.OPropertyIndexDefinition;
 import com.orientechnologies.orient.core.metadata.OMetadataInternal;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.metadata.schema.OView;
+import com.orientechnologies.orient.core.metadata.security.OSecurityShared;
 import com.orientechnologies.orient.core.sql.OCommandExecutorSQLAbstract;
 import com.orientechnologies.orient.core.sql.parser.*;
 
@@ -29,6 +39,11 @@ import java.util.stream.Collectors;
  */
 public class OSelectExecutionPlanner {
 
+  /**
+   * how many index entries can be read for the cost of loading and filtering a record
+   */
+  private static final int INDEX_ENTRY_TO_RECORD_COST_RATIO = 4;
+
   QueryPlanningInfo info;
   OSelectStatement  statement;
 
@@ -562,7 +577,7 @@ public class OSelectExecutionPlanner {
 
     for (OIndex<?> classIndex : clazz.getClassIndexes()) {
       List<String> fields = classIndex.getDefinition().getFields();
-      if (fields.size() == 1 && fields.get(0).equals(binaryCondition.getLeft().getDefaultAlias().getStringValue())) {
+      if (fields.size() == 1 && classIndex.getDefinition().getFilter() == null && fields.get(0).equals(binaryCondition.getLeft().getDefaultAlias().getStringValue())) {
         OBinaryCondition indexCond = new OBinaryCondition(-1);
         indexCond.setLeft(new OExpression(new OIdentifier("key")));
         indexCond.setOperator(new OEqualsCompareOperator(-1));
@@ -1457,7 +1472,7 @@ public class OSelectExecutionPlanner {
           if (item.getExpression() != null) {
             plan.chain(new LetExpressionStep(item.getVarName(), item.getExpression(), ctx, profilingEnabled));
           } else {
-            plan.chain(new LetQueryStep(item.getVarName(), item.getQuery(), ctx, profilingEnabled));
+            plan.chain(createLetQueryStep(item.getVarName(), item.getQuery(), ctx, profilingEnabled));
           }
         }
       } else {
@@ -1467,7 +1482,7 @@ public class OSelectExecutionPlanner {
               shardedPlan
                   .chain(new LetExpressionStep(item.getVarName().copy(), item.getExpression().copy(), ctx, profilingEnabled));
             } else {
-              shardedPlan.chain(new LetQueryStep(item.getVarName().copy(), item.getQuery().copy(), ctx, profilingEnabled));
+              shardedPlan.chain(createLetQueryStep(item.getVarName().copy(), item.getQuery().copy(), ctx, profilingEnabled));
             }
           }
         }
@@ -1475,6 +1490,100 @@ public class OSelectExecutionPlanner {
     }
   }
 
+  private static AbstractExecutionStep createLetQueryStep(OIdentifier varName, OStatement query, OCommandContext ctx,
+      boolean profilingEnabled) {
+    HashJoinLetQueryStep hashJoin = createHashJoinLetQueryStep(varName, query, ctx, profilingEnabled);
+    if (hashJoin != null) {
+      return hashJoin;
+    }
+    return new LetQueryStep(varName, query, ctx, profilingEnabled);
+  }
+
+  /**
+   * checks whether a per-record LET subquery is a join on a single equality condition that refers to the parent record, eg.
+   * <code>(SELECT FROM Foo WHERE prop = $parent.$current.bar)</code>, and in case returns a step that executes it as a hash join
+   *
+   * @return the hash join step, null if the subquery cannot (or should not) be executed as a hash join
+   */
+  private static HashJoinLetQueryStep createHashJoinLetQueryStep(OIdentifier varName, OStatement query, OCommandContext ctx,
+      boolean profilingEnabled) {
+    if (!OGlobalConfiguration.QUERY_HASH_JOIN_ENABLED.getValueAsBoolean() || !(query instanceof OSelectStatement)) {
+      return null;
+    }
+    OSelectStatement select = (OSelectStatement) query;
+    if (select.getProjection() != null || select.getGroupBy() != null || select.getUnwind() != null || select.getSkip() != null
+        || select.getLimit() != null || select.getLetClause() != null || select.getWhereClause() == null) {
+      return null;
+    }
+    OFromItem target = select.getTarget() == null ? null : select.getTarget().getItem();
+    if (target == null || target.getIdentifier() == null || target.getModifier() != null) {
+      return null;
+    }
+
+    List<OAndBlock> flattened = select.getWhereClause().flatten();
+    if (flattened.size() != 1) {
+      return null;
+    }
+    OBinaryCondition joinCondition = null;
+    List<OBooleanExpression> otherConditions = new ArrayList<>();
+    for (OBooleanExpression block : flattened.get(0).getSubBlocks()) {
+      if (!block.refersToParent()) {
+        otherConditions.add(block.copy());
+      } else if (joinCondition == null && block instanceof OBinaryCondition) {
+        joinCondition = (OBinaryCondition) block;
+      } else {
+        return null;
+      }
+    }
+    if (joinCondition == null || !(joinCondition.getOperator() instanceof OEqualsCompareOperator)) {
+      return null;
+    }
+
+    OExpression buildKey;
+    OExpression probeKey;
+    if (!joinCondition.getLeft().refersToParent() && joinCondition.getRight().refersToParent()) {
+      buildKey = joinCondition.getLeft();
+      probeKey = joinCondition.getRight();
+    } else if (joinCondition.getLeft().refersToParent() && !joinCondition.getRight().refersToParent()) {
+      buildKey = joinCondition.getRight();
+      probeKey = joinCondition.getLeft();
+    } else {
+      return null;
+    }
+    if (!buildKey.isBaseIdentifier()) {
+      return null;
+    }
+
+    OClass clazz = getSchemaFromContext(ctx).getClass(target.getIdentifier().getStringValue());
+    if (clazz == null) {
+      return null;
+    }
+    if (clazz.areIndexed(buildKey.toString())) {
+      // the subquery is an index lookup, cheap enough to be executed for each record
+      return null;
+    }
+    int maxBuildSize = OGlobalConfiguration.QUERY_HASH_JOIN_MAX_BUILD_SIZE.getValueAsInteger();
+    if (clazz.count() > maxBuildSize) {
+      return null;
+    }
+
+    OSelectStatement buildQuery = select.copy();
+    OWhereClause buildWhere = null;
+    if (!otherConditions.isEmpty()) {
+      OAndBlock andBlock = new OAndBlock(-1);
+      andBlock.getSubBlocks().addAll(otherConditions);
+      buildWhere = new OWhereClause(-1);
+      buildWhere.setBaseExpression(andBlock);
+    }
+    buildQuery.setWhereClause(buildWhere);
+    if (buildQuery.refersToParent()) {
+      return null;
+    }
+
+    return new HashJoinLetQueryStep(varName, query, buildQuery, buildKey.copy(), probeKey.copy(), maxBuildSize, ctx,
+        profilingEnabled);
+  }
+
   private List<OLetItem> sortLet(List<OLetItem> items, OLetClause letClause) {
     List<OLetItem> i = new ArrayList<>();
     i.addAll(items);
@@ -1553,7 +1662,11 @@ public class OSelectExecutionPlanner {
     }
 
     if (handleClassAsTargetWithIndex(plan, identifier, filterClusters, info, ctx, profilingEnabled)) {
-      plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
+      List<OExecutionStep> steps = plan.getSteps();
+      if (!(steps.get(steps.size() - 1) instanceof GetValuesFromIndexKeyStep)) {
+        // the index-only scan already returns only the records of the clusters of the class
+        plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
+      }
       return;
     }
 
@@ -1779,7 +1892,7 @@ public class OSelectExecutionPlanner {
     }
 
     for (OIndex idx : clazz.getIndexes().stream().filter(i -> i.supportsOrderedIterations()).filter(i -> i.getDefinition() != null)
-        .collect(Collectors.toList())) {
+        .filter(i -> i.getDefinition().getFilter() == null).collect(Collectors.toList())) {
       List<String> indexFields = idx.getDefinition().getFields();
       if (indexFields.size() < info.orderBy.getItems().size()) {
         continue;
@@ -1839,8 +1952,8 @@ public class OSelectExecutionPlanner {
   private boolean handleClassAsTargetWithIndex(OSelectExecutionPlan plan, OIdentifier targetClass, Set<String> filterClusters,
       QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
 
-    List<OExecutionStepInternal> result = handleClassAsTargetWithIndex(targetClass.getStringValue(), filterClusters, info, ctx,
-        profilingEnabled);
+    List<OExecutionStepInternal> result = handleClassAsTargetWithIndex(targetClass.getStringValue(), filterClusters, true, info,
+        ctx, profilingEnabled);
     if (result != null) {
       result.stream().forEach(x -> plan.chain(x));
       info.whereClause = null;
@@ -1907,7 +2020,8 @@ public class OSelectExecutionPlanner {
 
   private List<OExecutionStepInternal> handleClassAsTargetWithIndexRecursive(String targetClass, Set<String> filterClusters,
       QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
-    List<OExecutionStepInternal> result = handleClassAsTargetWithIndex(targetClass, filterClusters, info, ctx, profilingEnabled);
+    List<OExecutionStepInternal> result = handleClassAsTargetWithIndex(targetClass, filterClusters, false, info, ctx,
+        profilingEnabled);
     if (result == null) {
       result = new ArrayList<>();
       OClass clazz = getSchemaFromContext(ctx).getClass(targetClass);
@@ -1941,8 +2055,12 @@ public class OSelectExecutionPlanner {
     return result.size() == 0 ? null : result;
   }
 
+  /**
+   * @param indexOnlyScanAllowed true if the results can be read from the index keys, without the records, when the query only needs
+   *                             the fields of the index
+   */
   private List<OExecutionStepInternal> handleClassAsTargetWithIndex(String targetClass, Set<String> filterClusters,
-      QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
+      boolean indexOnlyScanAllowed, QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
     if (info.flattenedWhereClause == null || info.flattenedWhereClause.size() == 0) {
       return null;
     }
@@ -1967,25 +2085,57 @@ public class OSelectExecutionPlanner {
     List<OExecutionStepInternal> result = null;
     List<IndexSearchDescriptor> optimumIndexSearchDescriptors = commonFactor(indexSearchDescriptors);
 
+    int[] filterClusterIds = null;
+    if (filterClusters != null) {
+      filterClusterIds = filterClusters.stream().map(name -> ctx.getDatabase().getClusterIdByName(name)).mapToInt(i -> i)
+          .toArray();
+    }
+
     if (indexSearchDescriptors.size() == 1) {
       IndexSearchDescriptor desc = indexSearchDescriptors.get(0);
       result = new ArrayList<>();
       Boolean orderAsc = getOrderDirection(info);
-      result.add(
-          new FetchFromIndexStep(desc.idx, desc.keyCondition, desc.additionalRangeCondition, !Boolean.FALSE.equals(orderAsc), ctx,
-              profilingEnabled));
-      int[] filterClusterIds = null;
-      if (filterClusters != null) {
-        filterClusterIds = filterClusters.stream().map(name -> ctx.getDatabase().getClusterIdByName(name)).mapToInt(i -> i)
-            .toArray();
-      }
-      result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
-      if (requiresMultipleIndexLookups(desc.keyCondition)) {
-        result.add(new DistinctExecutionStep(ctx, profilingEnabled));
-      }
-      if (orderAsc != null && info.orderBy != null && fullySorted(info.orderBy, desc.keyCondition, desc.idx)
-          && info.serverToClusters.size() == 1) {
-        info.orderApplied = true;
+      boolean sortedByIndex = orderAsc != null && info.orderBy != null && fullySorted(info.orderBy, desc.keyCondition, desc.idx)
+          && info.serverToClusters.size() == 1;
+      List<IndexSearchDescriptor> intersectedIndexes = sortedByIndex || (info.limit != null && info.orderBy == null) ?
+          Collections.singletonList(desc) :
+          findIndexesToIntersect(ctx, indexes, desc, clazz);
+      if (intersectedIndexes.size() > 1) {
+        List<FetchFromIndexStep> indexSteps = intersectedIndexes.stream()
+            .map(x -> new FetchFromIndexStep(x.idx, x.keyCondition, x.additionalRangeCondition, ctx, profilingEnabled))
+            .collect(Collectors.toList());
+        result.add(new FetchFromIndexesStep(indexSteps, true, filterClusterIds, ctx, profilingEnabled));
+      } else {
+        result.add(
+            new FetchFromIndexStep(desc.idx, desc.keyCondition, desc.additionalRangeCondition, !Boolean.FALSE.equals(orderAsc), ctx,
+                profilingEnabled));
+        int[] indexOnlyClusterIds = null;
+        if (indexOnlyScanAllowed && isCoveredByIndex(info, desc, clazz)) {
+          // without the records the results cannot be filtered by class, only the clusters of the class are read
+          Set<Integer> classClusterIds = new HashSet<>();
+          for (int clusterId : clazz.getPolymorphicClusterIds()) {
+            classClusterIds.add(clusterId);
+          }
+          indexOnlyClusterIds = filterClusterIds == null ?
+              clazz.getPolymorphicClusterIds() :
+              Arrays.stream(filterClusterIds).filter(classClusterIds::contains).toArray();
+          if (!canReadClusters(ctx, indexOnlyClusterIds)) {
+            // loading the records reports the missing permission as usual
+            indexOnlyClusterIds = null;
+          }
+        }
+        if (indexOnlyClusterIds != null) {
+          result.add(
+              new GetValuesFromIndexKeyStep(desc.idx.getDefinition().getFields(), indexOnlyClusterIds, ctx, profilingEnabled));
+        } else {
+          result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
+        }
+        if (requiresMultipleIndexLookups(desc.keyCondition)) {
+          result.add(new DistinctExecutionStep(ctx, profilingEnabled));
+        }
+        if (sortedByIndex) {
+          info.orderApplied = true;
+        }
       }
       if (desc.remainingCondition != null && !desc.remainingCondition.isEmpty()) {
         if ((info.perRecordLetClause != null && refersToLet(Collections.singletonList(desc.remainingCondition)))) {
@@ -2000,6 +2150,16 @@ public class OSelectExecutionPlanner {
         }
         result.add(new FilterStep(createWhereFrom(desc.remainingCondition), ctx, profilingEnabled));
       }
+    } else if (optimumIndexSearchDescriptors.size() > 1 && (info.limit == null || info.orderBy != null)
+        && optimumIndexSearchDescriptors.stream().allMatch(x -> x.remainingCondition == null || x.remainingCondition.isEmpty())
+        && optimumIndexSearchDescriptors.stream().allMatch(x -> x.cost(ctx) < Integer.MAX_VALUE)) {
+      // the records are fully selected by the indexes and the index lookups are known to be selective enough to be estimated,
+      // the union of the RIDs removes the duplicates before loading the records
+      result = new ArrayList<>();
+      List<FetchFromIndexStep> indexSteps = optimumIndexSearchDescriptors.stream()
+          .map(x -> new FetchFromIndexStep(x.idx, x.keyCondition, x.additionalRangeCondition, ctx, profilingEnabled))
+          .collect(Collectors.toList());
+      result.add(new FetchFromIndexesStep(indexSteps, false, filterClusterIds, ctx, profilingEnabled));
     } else {
       result = new ArrayList<>();
       result.add(createParallelIndexFetch(optimumIndexSearchDescriptors, filterClusters, ctx, profilingEnabled));
@@ -2010,6 +2170,106 @@ public class OSelectExecutionPlanner {
     return result;
   }
 
+  /**
+   * Checks if the query can be answered with an index-only scan, ie. reading the values of the fields from the index keys without
+   * loading the records: the index must select exactly the records of the query, and the projections (that at this point include
+   * the fields of the ORDER BY) must only read the fields of the index, without collations that alter the indexed values.
+   */
+  private static boolean canReadClusters(OCommandContext ctx, int[] clusterIds) {
+    try {
+      GetValuesFromIndexKeyStep.checkReadPermission(ctx, clusterIds);
+      return true;
+    } catch (OSecurityException e) {
+      return false;
+    }
+  }
+
+  private boolean isCoveredByIndex(QueryPlanningInfo info, IndexSearchDescriptor desc, OClass clazz) {
+    if (info.projection == null || info.preAggregateProjection != null || info.aggregateProjection != null
+        || info.groupBy != null || info.expand || info.unwind != null || info.perRecordLetClause != null
+        || info.lockRecord != null) {
+      return false;
+    }
+    if (desc.remainingCondition != null && !desc.remainingCondition.isEmpty()) {
+      return false;
+    }
+    if (requiresMultipleIndexLookups(desc.keyCondition)) {
+      // the duplicates are removed by RID, that is not part of the results
+      return false;
+    }
+    if (clazz.isSubClassOf(OSecurityShared.RESTRICTED_CLASSNAME)) {
+      return false;
+    }
+
+    OIndexDefinition definition = desc.idx.getDefinition();
+    if (definition instanceof OCompositeIndexDefinition) {
+      if (((OCompositeIndexDefinition) definition).getMultiValueDefinition() != null) {
+        return false;
+      }
+      for (OCollate collate : ((OCompositeCollate) definition.getCollate()).getCollates()) {
+        if (collate != null && !(collate instanceof ODefaultCollate)) {
+          return false;
+        }
+      }
+    } else if (!(definition instanceof OPropertyIndexDefinition) || definition instanceof OIndexDefinitionMultiValue || (
+        definition.getCollate() != null && !(definition.getCollate() instanceof ODefaultCollate))) {
+      return false;
+    }
+    for (OType type : definition.getTypes()) {
+      if (type.isMultiValue()) {
+        return false;
+      }
+    }
+
+    List<String> fields = definition.getFields();
+    for (OProjectionItem item : info.projection.getItems()) {
+      if (item.isAll() || item.getExpression() == null || !item.getExpression().isBaseIdentifier() || !fields
+          .contains(item.getExpression().getDefaultAlias().getStringValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Finds the indexes that can filter the records selected by the best index of an AND block before loading them, ie. whose RIDs
+   * are worth intersecting with the RIDs of the best index. Reading an index entry is assumed to cost a fraction of loading and
+   * filtering a record, so an index is intersected when it discards more records than it reads entries, weighted by this ratio.
+   * Indexes without an estimated cost are never intersected.
+   *
+   * @return the best index followed by the indexes to intersect, the most selective first
+   */
+  private List<IndexSearchDescriptor> findIndexesToIntersect(OCommandContext ctx, Set<OIndex<?>> indexes,
+      IndexSearchDescriptor best, OClass clazz) {
+    List<IndexSearchDescriptor> result = new ArrayList<>();
+    result.add(best);
+
+    long estimate = best.cost(ctx);
+    long count = clazz.count();
+    if (estimate == Integer.MAX_VALUE || count <= 0) {
+      return result;
+    }
+
+    Set<OIndex<?>> candidates = new HashSet<>(indexes);
+    IndexSearchDescriptor last = best;
+    while (estimate > 0 && last.remainingCondition instanceof OAndBlock && !last.remainingCondition.isEmpty()) {
+      candidates.remove(last.idx);
+      IndexSearchDescriptor next = findBestIndexFor(ctx, candidates, (OAndBlock) last.remainingCondition, clazz);
+      if (next == null) {
+        break;
+      }
+      int entries = next.cost(ctx);
+      double selectivity = Math.min((double) entries / count, 1);
+      if (entries == Integer.MAX_VALUE || entries > estimate * (1 - selectivity) * INDEX_ENTRY_TO_RECORD_COST_RATIO) {
+        break;
+      }
+      result.add(next);
+      estimate = (long) Math.ceil(estimate * selectivity);
+      last = next;
+    }
+    return result;
+  }
+
   private static OSchema getSchemaFromContext(OCommandContext ctx) {
     return ((OMetadataInternal) ctx.getDatabase().getMetadata()).getImmutableSchemaSnapshot();
   }
@@ -2164,12 +2424,13 @@ public class OSelectExecutionPlanner {
   private IndexSearchDescriptor findBestIndexFor(OCommandContext ctx, Set<OIndex<?>> indexes, OAndBlock block, OClass clazz) {
     //get all valid index descriptors
     List<IndexSearchDescriptor> descriptors = indexes.stream().filter(x -> x.getInternal().canBeUsedInEqualityOperators())
-        .map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz)).filter(Objects::nonNull)
+        .filter(x -> isFilterImplied(x, block)).map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz)).filter(Objects::nonNull)
         .filter(x -> x.keyCondition != null).filter(x -> x.keyCondition.getSubBlocks().size() > 0).collect(Collectors.toList());
 
     List<IndexSearchDescriptor> fullTextIndexDescriptors = indexes.stream()
         .filter(idx->idx.getType().equalsIgnoreCase("FULLTEXT"))
         .filter(idx->!idx.getAlgorithm().equalsIgnoreCase("LUCENE"))
+        .filter(idx -> isFilterImplied(idx, block))
         .map(idx -> buildIndexSearchDescriptorForFulltext(ctx, idx, block, clazz)).filter(Objects::nonNull)
         .filter(x -> x.keyCondition != null).filter(x -> x.keyCondition.getSubBlocks().size() > 0).collect(Collectors.toList());
 
@@ -2302,8 +2563,8 @@ public class OSelectExecutionPlanner {
         OBooleanExpression singleExp = blockIterator.next();
         if (singleExp instanceof OBinaryCondition) {
           OExpression left = ((OBinaryCondition) singleExp).getLeft();
-          if (left.isBaseIdentifier()) {
-            String fieldName = left.getDefaultAlias().getStringValue();
+          if (left.isBaseIdentifier() || isIndexedExpression(index, left)) {
+            String fieldName = left.isBaseIdentifier() ? left.getDefaultAlias().getStringValue() : left.toString();
             if (indexField.equals(fieldName)) {
               OBinaryCompareOperator operator = ((OBinaryCondition) singleExp).getOperator();
               if (!((OBinaryCondition) singleExp).getRight().isEarlyCalculated(ctx)) {
@@ -2389,8 +2650,8 @@ public class OSelectExecutionPlanner {
           }
         } else if (singleExp instanceof OInCondition) {
           OExpression left = ((OInCondition) singleExp).getLeft();
-          if (left.isBaseIdentifier()) {
-            String fieldName = left.getDefaultAlias().getStringValue();
+          if (left.isBaseIdentifier() || isIndexedExpression(index, left)) {
+            String fieldName = left.isBaseIdentifier() ? left.getDefaultAlias().getStringValue() : left.toString();
             if (indexField.equals(fieldName)) {
               if (((OInCondition) singleExp).getRightMathExpression() != null) {
 
@@ -2437,6 +2698,37 @@ public class OSelectExecutionPlanner {
     return null;
   }
 
+  /**
+   * A partial index contains only the records that match its filter, so it can be used only if the query condition implies the
+   * filter. The implication is checked structurally: each condition of the filter has to be one of the conditions of the block.
+   */
+  private static boolean isFilterImplied(OIndex<?> index, OAndBlock block) {
+    OWhereClause filter = index.getDefinition().getFilterCondition();
+    if (filter == null) {
+      return true;
+    }
+    List<OAndBlock> filterBlocks = filter.flatten();
+    if (filterBlocks.size() != 1) {
+      return false;
+    }
+    for (OBooleanExpression filterCondition : filterBlocks.get(0).getSubBlocks()) {
+      if (!block.getSubBlocks().contains(filterCondition)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * An index on an expression can be used for the conditions on the same expression, eg. an index on
+   * <code>name.toLowerCase()</code> for <code>WHERE name.toLowerCase() = ?</code>
+   */
+  private static boolean isIndexedExpression(OIndex<?> index, OExpression expression) {
+    OIndexDefinition definition = index.getDefinition();
+    return definition instanceof OExpressionIndexDefinition && ((OExpressionIndexDefinition) definition).getExpression()
+        .equals(expression.toString());
+  }
+
 
   /**
    * given a full text index and a flat AND block, returns a descriptor on how to process it with an index (index, index key and additional
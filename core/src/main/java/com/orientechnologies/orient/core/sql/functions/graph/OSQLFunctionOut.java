@@ -73,7 +73,11 @@ public class OSQLFunctionOut extends OSQLFunctionMoveFiltered {
     if (indexes == null || indexes.size() == 0) {
       return null;
     }
-    OIndex index = indexes.iterator().next();
+    // partial indexes do not contain all the edges
+    OIndex index = indexes.stream().filter(x -> x.getDefinition().getFilter() == null).findFirst().orElse(null);
+    if (index == null) {
+      return null;
+    }
 
     OMultiCollectionIterator<OVertex> result = new OMultiCollectionIterator<OVertex>();
     for (OIdentifiable to : iTo) {
@@ -0,0 +1,266 @@
+/* Generated By:JJTree: Do not edit this line. OAnalyzeStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexCursor;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OColumnStatistics;
+import com.orientechnologies.orient.core.sql.executor.OIndexStatistics;
+import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
+import com.orientechnologies.orient.core.sql.executor.OQueryStats;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ANALYZE CLASS and ANALYZE INDEX statements: build the statistics used by the query planner and persist them, see {@link
+ * OQueryStats}. Analyzing a class analyzes its indexes too.
+ * <p>
+ * All the records of the class, or all the keys of the index, are read, so that the record and entry counts are exact; the
+ * histograms and the distinct value estimates are built from a uniform random sample of them, of at most
+ * {@link OGlobalConfiguration#QUERY_STATISTICS_SAMPLE_SIZE} items.
+ */
+public class OAnalyzeStatement extends OSimpleExecStatement {
+
+  protected OIdentifier className;
+  protected OIndexName  indexName;
+  protected boolean     allIndexes = false;
+
+  public OAnalyzeStatement(int id) {
+    super(id);
+  }
+
+  public OAnalyzeStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override
+  public OResultSet executeSimple(OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db.getTransaction().isActive()) {
+      // the class of the statistics cannot be created inside a transaction
+      throw new OCommandExecutionException("ANALYZE cannot be executed inside a transaction");
+    }
+    int sampleSize = db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE);
+    OInternalResultSet rs = new OInternalResultSet();
+    // statistics persisted by other sessions since they were loaded are read again
+    OQueryStats.get(db).invalidateStatistics();
+
+    if (className != null) {
+      OClass clazz = db.getMetadata().getSchema().getClass(className.getStringValue());
+      if (clazz == null) {
+        throw new OCommandExecutionException("Class not found: " + className);
+      }
+      analyzeClass(db, clazz, sampleSize, rs);
+      for (OIndex<?> index : clazz.getIndexes()) {
+        if (canBeAnalyzed(index)) {
+          analyzeIndex(db, index, sampleSize, rs);
+        }
+      }
+    } else if (allIndexes) {
+      for (OIndex<?> index : db.getMetadata().getIndexManager().getIndexes()) {
+        if (canBeAnalyzed(index)) {
+          analyzeIndex(db, index, sampleSize, rs);
+        }
+      }
+    } else {
+      OIndex<?> index = db.getMetadata().getIndexManager().getIndex(indexName.getValue());
+      if (index == null) {
+        throw new OCommandExecutionException("Index '" + indexName + "' not found");
+      }
+      if (!canBeAnalyzed(index)) {
+        throw new OCommandExecutionException("Index '" + indexName + "' cannot be analyzed");
+      }
+      analyzeIndex(db, index, sampleSize, rs);
+    }
+
+    db.getSharedContext().getExecutionPlanCache().invalidate();
+    return rs;
+  }
+
+  private static boolean canBeAnalyzed(OIndex<?> index) {
+    return index.getDefinition() != null && index.getInternal().canBeUsedInEqualityOperators();
+  }
+
+  private static void analyzeClass(ODatabaseDocumentInternal db, OClass clazz, int sampleSize, OInternalResultSet rs) {
+    List<ODocument> sample = new ArrayList<>();
+    long count = 0;
+    for (ODocument document : db.browseClass(clazz.getName())) {
+      sample(sample, document, count++, sampleSize);
+    }
+
+    Map<String, List<Object>> values = new LinkedHashMap<>();
+    for (ODocument document : sample) {
+      for (String field : document.fieldNames()) {
+        values.computeIfAbsent(field, x -> new ArrayList<>());
+      }
+    }
+    for (ODocument document : sample) {
+      for (Map.Entry<String, List<Object>> entry : values.entrySet()) {
+        List<Object> fieldValues = entry.getValue();
+        if (fieldValues == null) {
+          continue;
+        }
+        Object value = document.field(entry.getKey());
+        if (value instanceof OIdentifiable) {
+          value = ((OIdentifiable) value).getIdentity();
+        }
+        if (value instanceof Comparable) {
+          fieldValues.add(value);
+        } else if (value != null) {
+          // collections, maps and embedded documents
+          entry.setValue(null);
+        }
+      }
+    }
+
+    OQueryStats stats = OQueryStats.get(db);
+    for (Map.Entry<String, List<Object>> entry : values.entrySet()) {
+      if (entry.getValue() == null) {
+        continue;
+      }
+      OColumnStatistics column = OColumnStatistics.build(count, sample.size(), entry.getValue());
+      stats.pushColumnStatistics(db, clazz.getName(), entry.getKey(), column);
+
+      OResultInternal result = new OResultInternal();
+      result.setProperty("operation", "analyze class");
+      result.setProperty("className", clazz.getName());
+      result.setProperty("property", entry.getKey());
+      result.setProperty("records", count);
+      result.setProperty("sampled", sample.size());
+      result.setProperty("distinct", column.getDistinct());
+      result.setProperty("nullFraction", column.getNullFraction());
+      result.setProperty("buckets", Math.max(column.getBounds().size() - 1, 0));
+      rs.add(result);
+    }
+  }
+
+  private static void analyzeIndex(ODatabaseDocumentInternal db, OIndex<?> index, int sampleSize, OInternalResultSet rs) {
+    List<Object> sample = new ArrayList<>();
+    long count = 0;
+    OIndexCursor cursor = index.cursor();
+    Map.Entry<Object, OIdentifiable> entry;
+    while ((entry = cursor.nextEntry()) != null) {
+      sample(sample, entry.getKey(), count++, sampleSize);
+    }
+
+    int fields = index.getDefinition().getFields().size();
+    List<Object> firstValues = new ArrayList<>();
+    List<List<Object>> prefixes = new ArrayList<>();
+    for (int i = 0; i < fields; i++) {
+      prefixes.add(new ArrayList<>());
+    }
+    for (Object key : sample) {
+      List<Object> keys = key instanceof OCompositeKey ? ((OCompositeKey) key).getKeys() : Collections.singletonList(key);
+      if (!keys.isEmpty() && keys.get(0) != null) {
+        firstValues.add(keys.get(0));
+      }
+      for (int i = 0; i < fields && i < keys.size(); i++) {
+        prefixes.get(i).add(new ArrayList<>(keys.subList(0, i + 1)));
+      }
+    }
+
+    long[] distinct = new long[fields];
+    for (int i = 0; i < fields; i++) {
+      distinct[i] = OColumnStatistics.estimateDistinct(prefixes.get(i), count);
+    }
+    if (index.isUnique()) {
+      distinct[fields - 1] = count;
+    }
+
+    OIndexStatistics statistics = new OIndexStatistics(distinct,
+        OColumnStatistics.build(count, sample.size(), firstValues));
+    OQueryStats.get(db).pushIndexStatistics(db, index.getName(), statistics);
+
+    OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "analyze index");
+    result.setProperty("indexName", index.getName());
+    result.setProperty("entries", count);
+    result.setProperty("sampled", sample.size());
+    List<Long> distinctList = new ArrayList<>();
+    for (long value : distinct) {
+      distinctList.add(value);
+    }
+    result.setProperty("distinct", distinctList);
+    result.setProperty("buckets", Math.max(statistics.getFirstField().getBounds().size() - 1, 0));
+    rs.add(result);
+  }
+
+  /**
+   * Reservoir sampling: keeps each of the items seen so far in the sample with the same probability
+   */
+  private static <T> void sample(List<T> sample, T item, long seen, int sampleSize) {
+    if (sample.size() < sampleSize) {
+      sample.add(item);
+    } else {
+      long position = ThreadLocalRandom.current().nextLong(seen + 1);
+      if (position < sampleSize) {
+        sample.set((int) position, item);
+      }
+    }
+  }
+
+  @Override
+  public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("ANALYZE ");
+    if (className != null) {
+      builder.append("CLASS ");
+      className.toString(params, builder);
+    } else {
+      builder.append("INDEX ");
+      if (allIndexes) {
+        builder.append("*");
+      } else {
+        indexName.toString(params, builder);
+      }
+    }
+  }
+
+  @Override
+  public OAnalyzeStatement copy() {
+    OAnalyzeStatement result = new OAnalyzeStatement(-1);
+    result.className = className == null ? null : className.copy();
+    result.indexName = indexName == null ? null : indexName.copy();
+    result.allIndexes = allIndexes;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    OAnalyzeStatement that = (OAnalyzeStatement) o;
+
+    if (allIndexes != that.allIndexes)
+      return false;
+    if (className != null ? !className.equals(that.className) : that.className != null)
+      return false;
+    return indexName != null ? indexName.equals(that.indexName) : that.indexName == null;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = className != null ? className.hashCode() : 0;
+    result = 31 * result + (indexName != null ? indexName.hashCode() : 0);
+    result = 31 * result + (allIndexes ? 1 : 0);
+    return result;
+  }
+}
+/* JavaCC - OriginalChecksum=e313bf8f0eaafc484e3ac17b2cc575e2 (do not edit this line) */
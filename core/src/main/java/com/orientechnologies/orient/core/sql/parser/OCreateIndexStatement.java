@@ -7,6 +7,8 @@ import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
+import com.orientechnologies.orient.core.index.OExpressionIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexDefinitionFactory;
@@ -34,12 +36,14 @@ public class OCreateIndexStatement extends ODDLStatement {
 
   protected OIndexName        name;
   protected OIdentifier       className;
-  protected List<Property>    propertyList = new ArrayList<Property>();
+  protected List<Property>    propertyList       = new ArrayList<Property>();
+  protected List<OIdentifier> includedProperties = new ArrayList<OIdentifier>();
   protected OIdentifier       type;
   protected OIdentifier       engine;
-  protected List<OIdentifier> keyTypes     = new ArrayList<OIdentifier>();
+  protected List<OIdentifier> keyTypes           = new ArrayList<OIdentifier>();
   protected OJson             metadata;
-  protected boolean           ifNotExists  = false;
+  protected boolean           ifNotExists        = false;
+  protected OWhereClause      where;
 
   public OCreateIndexStatement(int id) {
     super(id);
@@ -78,11 +82,17 @@ public class OCreateIndexStatement extends ODDLStatement {
     String engine = this.engine == null ? null : this.engine.getStringValue().toUpperCase(Locale.ENGLISH);
     ODocument metadataDoc = calculateMetadata(ctx);
 
-    if (propertyList == null || propertyList.size() == 0) {
-      OIndexFactory factory = OIndexes.getFactory(type.getStringValue(), null);
+    String filter = calculateFilter(ctx);
 
+    if (propertyList == null || propertyList.size() == 0) {
       OType[] keyTypes = calculateKeyTypes(ctx);
 
+      if (filter != null && (keyTypes.length > 0 || "LUCENE_CROSS_CLASS".equalsIgnoreCase(engine))) {
+        throw new OCommandExecutionException("WHERE is supported only by indexes defined on class properties: " + toString());
+      }
+
+      OIndexFactory factory = OIndexes.getFactory(type.getStringValue(), null);
+
       if (keyTypes != null && keyTypes.length > 0) {
         idx = database.getMetadata().getIndexManager()
             .createIndex(name.getValue(), type.getStringValue(), new OSimpleKeyIndexDefinition(keyTypes, collatesList), null, null,
@@ -108,7 +118,7 @@ public class OCreateIndexStatement extends ODDLStatement {
           throw new ODatabaseException("Impossible to create an index, property not found: " + name.getValue());
         }
         String[] fields = new String[] { split[1] };
-        idx = getoIndex(oClass, fields, engine, database, collatesList, metadataDoc);
+        idx = getoIndex(oClass, fields, engine, database, collatesList, metadataDoc, filter);
 
       } else {
         throw new ODatabaseException(
@@ -117,7 +127,7 @@ public class OCreateIndexStatement extends ODDLStatement {
     } else {
       String[] fields = calculateProperties(ctx);
       OClass oClass = getIndexClass(ctx);
-      idx = getoIndex(oClass, fields, engine, database, collatesList, metadataDoc);
+      idx = getoIndex(oClass, fields, engine, database, collatesList, metadataDoc, filter);
     }
 
     if (idx != null)
@@ -127,12 +137,39 @@ public class OCreateIndexStatement extends ODDLStatement {
   }
 
   private OIndex<?> getoIndex(OClass oClass, String[] fields, String engine, ODatabase database, List<OCollate> collatesList,
-      ODocument metadataDoc) {
+      ODocument metadataDoc, String filter) {
     OIndex<?> idx;
-    if ((keyTypes == null || keyTypes.size() == 0) && collatesList == null) {
+    if (propertyList.stream().anyMatch(x -> x.expression != null)) {
+      idx = getExpressionIndex(oClass, fields, engine, database, collatesList, metadataDoc, filter);
+    } else if ((keyTypes == null || keyTypes.size() == 0) && collatesList == null && includedProperties.isEmpty()
+        && filter == null) {
 
       idx = oClass.createIndex(name.getValue(), type.getStringValue(), null, metadataDoc, engine, fields);
     } else {
+      if (!includedProperties.isEmpty()) {
+        // included properties are stored at the end of the key, they would break the uniqueness of the key and hash indexes cannot
+        // look up a prefix of the key
+        if (!OClass.INDEX_TYPE.NOTUNIQUE.name().equalsIgnoreCase(type.getStringValue())) {
+          throw new OCommandExecutionException(
+              "INCLUDE is supported only by " + OClass.INDEX_TYPE.NOTUNIQUE + " indexes: " + toString());
+        }
+        List<String> allFields = new ArrayList<>(Arrays.asList(fields));
+        for (OIdentifier property : includedProperties) {
+          if (allFields.contains(property.getStringValue())) {
+            throw new OCommandExecutionException(
+                "Property '" + property.getStringValue() + "' cannot be both indexed and included: " + toString());
+          }
+          allFields.add(property.getStringValue());
+        }
+        fields = allFields.toArray(new String[] {});
+        if (collatesList != null) {
+          collatesList = new ArrayList<>(collatesList);
+          for (int i = 0; i < includedProperties.size(); i++) {
+            collatesList.add(null);
+          }
+        }
+      }
+
       final List<OType> fieldTypeList;
       if (keyTypes == null || keyTypes.size() == 0 && fields.length > 0) {
         for (final String fieldName : fields) {
@@ -142,19 +179,68 @@ public class OCreateIndexStatement extends ODDLStatement {
                     + "' because field: '" + fieldName + "' is absent in class definition.");
         }
         fieldTypeList = ((OClassImpl) oClass).extractFieldTypes(fields);
-      } else
-        fieldTypeList = keyTypes.stream().map(x -> OType.valueOf(x.getStringValue())).collect(Collectors.toList());
+      } else {
+        fieldTypeList = keyTypes.stream().map(x -> OType.valueOf(x.getStringValue()))
+            .collect(Collectors.toCollection(ArrayList::new));
+        if (!includedProperties.isEmpty()) {
+          // the key types describe the indexed properties only, the included ones take their type from the schema
+          if (fieldTypeList.size() != fields.length - includedProperties.size()) {
+            throw new OCommandExecutionException(
+                "The key types must match the indexed properties, INCLUDE properties excluded: " + toString());
+          }
+          for (OIdentifier property : includedProperties) {
+            final String fieldName = property.getStringValue();
+            if (!fieldName.equals("@rid") && !oClass.existsProperty(fieldName))
+              throw new OIndexException(
+                  "Index with name : '" + name.getValue() + "' cannot be created on class : '" + oClass.getName()
+                      + "' because field: '" + fieldName + "' is absent in class definition.");
+          }
+          fieldTypeList.addAll(((OClassImpl) oClass)
+              .extractFieldTypes(includedProperties.stream().map(OIdentifier::getStringValue).toArray(String[]::new)));
+        }
+      }
 
+      final String indexType = type.getStringValue().toUpperCase(Locale.ENGLISH);
       final OIndexDefinition idxDef = OIndexDefinitionFactory
-          .createIndexDefinition(oClass, Arrays.asList(fields), fieldTypeList, collatesList, type.getStringValue(), null);
+          .createIndexDefinition(oClass, Arrays.asList(fields), fieldTypeList, collatesList, indexType, null);
+      if (!includedProperties.isEmpty()) {
+        ((OCompositeIndexDefinition) idxDef).setIncludedDefinitions(includedProperties.size());
+      }
+      idxDef.setFilter(filter);
 
       idx = database.getMetadata().getIndexManager()
-          .createIndex(name.getValue(), type.getStringValue(), idxDef, oClass.getPolymorphicClusterIds(), null, metadataDoc,
-              engine);
+          .createIndex(name.getValue(), indexType, idxDef, oClass.getPolymorphicClusterIds(), null, metadataDoc, engine);
     }
     return idx;
   }
 
+  /**
+   * creates an index whose key is calculated by an expression, the text of the expression is the field of the index
+   */
+  private OIndex<?> getExpressionIndex(OClass oClass, String[] fields, String engine, ODatabase database,
+      List<OCollate> collatesList, ODocument metadataDoc, String filter) {
+    if (fields.length != 1 || !includedProperties.isEmpty()) {
+      throw new OCommandExecutionException("An index on an expression cannot contain other properties: " + toString());
+    }
+    if (keyTypes != null && keyTypes.size() > 1) {
+      throw new OCommandExecutionException("An index on an expression has a single key type: " + toString());
+    }
+    // most of the expressions used in indexes are string transformations, eg. name.toLowerCase()
+    OType keyType = keyTypes == null || keyTypes.isEmpty() ?
+        OType.STRING :
+        OType.valueOf(keyTypes.get(0).getStringValue().toUpperCase(Locale.ENGLISH));
+
+    final OExpressionIndexDefinition idxDef = new OExpressionIndexDefinition(oClass.getName(), fields[0], keyType);
+    if (collatesList != null && collatesList.get(0) != null) {
+      idxDef.setCollate(collatesList.get(0));
+    }
+    idxDef.setFilter(filter);
+
+    return database.getMetadata().getIndexManager()
+        .createIndex(name.getValue(), type.getStringValue().toUpperCase(Locale.ENGLISH), idxDef, oClass.getPolymorphicClusterIds(),
+            null, metadataDoc, engine);
+  }
+
   /***
    * returns the list of property names to be indexed
    *
@@ -182,6 +268,18 @@ public class OCreateIndexStatement extends ODDLStatement {
     return result;
   }
 
+  /**
+   * returns the condition of a partial index, with the input parameters replaced by their values
+   */
+  private String calculateFilter(OCommandContext ctx) {
+    if (where == null) {
+      return null;
+    }
+    StringBuilder result = new StringBuilder();
+    where.toString(ctx.getInputParameters(), result);
+    return result.toString();
+  }
+
   /**
    * returns index metadata as an ODocuemnt (as expected by Index API)
    */
@@ -233,8 +331,12 @@ public class OCreateIndexStatement extends ODDLStatement {
         }
         if (prop.name != null) {
           prop.name.toString(params, builder);
-        } else {
+        } else if (prop.recordAttribute != null) {
           prop.recordAttribute.toString(params, builder);
+        } else {
+          builder.append("(");
+          prop.expression.toString(params, builder);
+          builder.append(")");
         }
         if (prop.byKey) {
           builder.append(" BY KEY");
@@ -248,6 +350,18 @@ public class OCreateIndexStatement extends ODDLStatement {
         first = false;
       }
       builder.append(")");
+      if (!includedProperties.isEmpty()) {
+        builder.append(" INCLUDE (");
+        first = true;
+        for (OIdentifier property : includedProperties) {
+          if (!first) {
+            builder.append(", ");
+          }
+          property.toString(params, builder);
+          first = false;
+        }
+        builder.append(")");
+      }
     }
     builder.append(" ");
     type.toString(params, builder);
@@ -270,6 +384,10 @@ public class OCreateIndexStatement extends ODDLStatement {
       builder.append(" METADATA ");
       metadata.toString(params, builder);
     }
+    if (where != null) {
+      builder.append(" WHERE ");
+      where.toString(params, builder);
+    }
   }
 
   @Override
@@ -278,10 +396,13 @@ public class OCreateIndexStatement extends ODDLStatement {
     result.name = name == null ? null : name.copy();
     result.className = className == null ? null : className.copy();
     result.propertyList = propertyList == null ? null : propertyList.stream().map(x -> x.copy()).collect(Collectors.toList());
+    result.includedProperties =
+        includedProperties == null ? null : includedProperties.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.type = type == null ? null : type.copy();
     result.engine = engine == null ? null : engine.copy();
     result.keyTypes = keyTypes == null ? null : keyTypes.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.metadata = metadata == null ? null : metadata.copy();
+    result.where = where == null ? null : where.copy();
     return result;
   }
 
@@ -300,13 +421,17 @@ public class OCreateIndexStatement extends ODDLStatement {
       return false;
     if (propertyList != null ? !propertyList.equals(that.propertyList) : that.propertyList != null)
       return false;
+    if (includedProperties != null ? !includedProperties.equals(that.includedProperties) : that.includedProperties != null)
+      return false;
     if (type != null ? !type.equals(that.type) : that.type != null)
       return false;
     if (engine != null ? !engine.equals(that.engine) : that.engine != null)
       return false;
     if (keyTypes != null ? !keyTypes.equals(that.keyTypes) : that.keyTypes != null)
       return false;
-    return metadata != null ? metadata.equals(that.metadata) : that.metadata == null;
+    if (metadata != null ? !metadata.equals(that.metadata) : that.metadata != null)
+      return false;
+    return where != null ? where.equals(that.where) : that.where == null;
   }
 
   @Override
@@ -314,16 +439,19 @@ public class OCreateIndexStatement extends ODDLStatement {
     int result = name != null ? name.hashCode() : 0;
     result = 31 * result + (className != null ? className.hashCode() : 0);
     result = 31 * result + (propertyList != null ? propertyList.hashCode() : 0);
+    result = 31 * result + (includedProperties != null ? includedProperties.hashCode() : 0);
     result = 31 * result + (type != null ? type.hashCode() : 0);
     result = 31 * result + (engine != null ? engine.hashCode() : 0);
     result = 31 * result + (keyTypes != null ? keyTypes.hashCode() : 0);
     result = 31 * result + (metadata != null ? metadata.hashCode() : 0);
+    result = 31 * result + (where != null ? where.hashCode() : 0);
     return result;
   }
 
   public static class Property {
     protected OIdentifier      name;
     protected ORecordAttribute recordAttribute;
+    protected OExpression      expression;
     protected boolean          byKey   = false;
     protected boolean          byValue = false;
     protected OIdentifier      collate;
@@ -332,6 +460,7 @@ public class OCreateIndexStatement extends ODDLStatement {
       Property result = new Property();
       result.name = name == null ? null : name.copy();
       result.recordAttribute = recordAttribute == null ? null : recordAttribute.copy();
+      result.expression = expression == null ? null : expression.copy();
       result.byKey = byKey;
       result.byValue = byValue;
       result.collate = collate == null ? null : collate.copy();
@@ -355,6 +484,8 @@ public class OCreateIndexStatement extends ODDLStatement {
         return false;
       if (recordAttribute != null ? !recordAttribute.equals(property.recordAttribute) : property.recordAttribute != null)
         return false;
+      if (expression != null ? !expression.equals(property.expression) : property.expression != null)
+        return false;
       return collate != null ? collate.equals(property.collate) : property.collate == null;
     }
 
@@ -362,6 +493,7 @@ public class OCreateIndexStatement extends ODDLStatement {
     public int hashCode() {
       int result = name != null ? name.hashCode() : 0;
       result = 31 * result + (recordAttribute != null ? recordAttribute.hashCode() : 0);
+      result = 31 * result + (expression != null ? expression.hashCode() : 0);
       result = 31 * result + (byKey ? 1 : 0);
       result = 31 * result + (byValue ? 1 : 0);
       result = 31 * result + (collate != null ? collate.hashCode() : 0);
@@ -377,6 +509,8 @@ public class OCreateIndexStatement extends ODDLStatement {
         result.append(name.getStringValue());
       else if (recordAttribute != null)
         result.append(recordAttribute.getName());
+      else if (expression != null)
+        result.append(expression.toString());
 
       if (byKey) {
         result.append(" by key");
@@ -61,6 +61,7 @@ public class OCreateViewStatement extends ODDLStatement {
     Set<String> validAttributes = new HashSet<>();
     validAttributes.add("updatable");
     validAttributes.add("updateIntervalSeconds");
+    validAttributes.add("updatePriority");
     validAttributes.add("updateStrategy");
     validAttributes.add("watchClasses");
     validAttributes.add("originRidField");
@@ -91,6 +92,12 @@ public class OCreateViewStatement extends ODDLStatement {
               "Invalid value for view metadata: updateIntervalSeconds should be a number, it is " + value);
         }
         break;
+      case "updatePriority":
+        if (!(value instanceof Number)) {
+          throw new OCommandSQLParsingException(
+              "Invalid value for view metadata: updatePriority should be a number, it is " + value);
+        }
+        break;
       case "updateStrategy":
         if (!(OViewConfig.UPDATE_STRATEGY_BATCH.equals(value) || OViewConfig.UPDATE_STRATEGY_LIVE.equals(value))) {
           throw new OCommandSQLParsingException(
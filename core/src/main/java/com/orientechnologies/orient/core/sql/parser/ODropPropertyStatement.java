@@ -7,7 +7,9 @@ import com.orientechnologies.common.util.OCollections;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OExpressionIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.metadata.schema.OClassImpl;
 import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
@@ -87,7 +89,9 @@ public class ODropPropertyStatement extends ODDLStatement {
   private List<OIndex<?>> relatedIndexes(final String fieldName, ODatabase database) {
     final List<OIndex<?>> result = new ArrayList<OIndex<?>>();
     for (final OIndex<?> oIndex : database.getMetadata().getIndexManager().getClassIndexes(className.getStringValue())) {
-      if (OCollections.indexOf(oIndex.getDefinition().getFields(), fieldName, new OCaseInsentiveComparator()) > -1) {
+      final OIndexDefinition definition = oIndex.getDefinition();
+      if (OCollections.indexOf(definition.getFields(), fieldName, new OCaseInsentiveComparator()) > -1
+          || definition instanceof OExpressionIndexDefinition && ((OExpressionIndexDefinition) definition).refersTo(fieldName)) {
         result.add(oIndex);
       }
     }
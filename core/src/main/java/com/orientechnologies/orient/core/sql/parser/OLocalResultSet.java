@@ -8,6 +8,10 @@ import com.orientechnologies.orient.core.sql.executor.OExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OQueryResources;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,11 +29,24 @@ public class OLocalResultSet implements OResultSet {
   long totalExecutionTime = 0;
   long startTime = 0;
 
-
+  /**
+   * Manager to which resources consumed by the query are pushed, null if the storage does not monitor performance
+   */
+  private final OPerformanceStatisticManager statisticManager;
+  private final OQueryResources              resources;
+  private       boolean                      resourcesPushed = false;
 
   public OLocalResultSet(OInternalExecutionPlan executionPlan) {
     this.executionPlan = executionPlan;
-    fetchNext();
+    this.statisticManager = getMonitoringStatisticManager();
+    this.resources = statisticManager != null ? new OQueryResources() : null;
+
+    OQueryResources begin = beginResources();
+    try {
+      fetchNext();
+    } finally {
+      endResources(begin);
+    }
   }
 
   private boolean fetchNext() {
@@ -55,10 +72,15 @@ public class OLocalResultSet implements OResultSet {
     if (finished) {
       return false;
     }
-    if (lastFetch.hasNext()) {
-      return true;
-    } else {
-      return fetchNext();
+    OQueryResources begin = beginResources();
+    try {
+      if (lastFetch.hasNext()) {
+        return true;
+      } else {
+        return fetchNext();
+      }
+    } finally {
+      endResources(begin);
     }
   }
 
@@ -67,12 +89,59 @@ public class OLocalResultSet implements OResultSet {
     if (finished) {
       throw new IllegalStateException();
     }
-    if (!lastFetch.hasNext()) {
-      if (!fetchNext()) {
-        throw new IllegalStateException();
+    OQueryResources begin = beginResources();
+    try {
+      if (!lastFetch.hasNext()) {
+        if (!fetchNext()) {
+          throw new IllegalStateException();
+        }
       }
+      OResult result = lastFetch.next();
+      if (resources != null) {
+        resources.rowProduced();
+      }
+      return result;
+    } finally {
+      endResources(begin);
+    }
+  }
+
+  private static OPerformanceStatisticManager getMonitoringStatisticManager() {
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+    if (db == null) {
+      return null;
+    }
+    final OStorage storage = db.getStorage();
+    if (!(storage instanceof OAbstractPaginatedStorage)) {
+      return null;
+    }
+    final OPerformanceStatisticManager manager = ((OAbstractPaginatedStorage) storage).getPerformanceStatisticManager();
+    return manager.isQueryMonitoringEnabled() ? manager : null;
+  }
+
+  private OQueryResources beginResources() {
+    return resources != null ? OQueryResources.begin() : null;
+  }
+
+  private void endResources(OQueryResources begin) {
+    if (begin != null) {
+      resources.end(begin);
+      if (finished) {
+        pushResources();
+      }
+    }
+  }
+
+  /**
+   * Pushes resources consumed by the query to the performance statistic manager of the storage, once, when the result set is
+   * exhausted or closed.
+   */
+  private void pushResources() {
+    if (!resourcesPushed) {
+      resourcesPushed = true;
+      String statement = executionPlan.getStatement();
+      statisticManager.pushQueryResources(statement != null ? statement : executionPlan.prettyPrint(0, 2), resources);
     }
-    return lastFetch.next();
   }
 
   private void logProfiling() {
@@ -100,6 +169,9 @@ public class OLocalResultSet implements OResultSet {
   @Override
   public void close() {
     executionPlan.close();
+    if (resources != null) {
+      pushResources();
+    }
   }
 
   @Override
@@ -10,6 +10,7 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.index.*;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.executor.OQueryStats;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 
@@ -66,7 +67,8 @@ public class OWhereClause extends SimpleNode {
    * records are returned
    */
   public long estimate(OClass oClass, long threshold, OCommandContext ctx) {
-    long count = oClass.count();
+    long totalCount = oClass.count();
+    long count = totalCount;
     if (count > 1) {
       count = count / 2;
     }
@@ -103,6 +105,10 @@ public class OWhereClause extends SimpleNode {
               .equals(OClass.INDEX_TYPE.FULLTEXT_HASH_INDEX.name())) {
             continue;
           }
+          if (index.getDefinition().getFilter() != null) {
+            // partial index, it does not contain all the records of the class
+            continue;
+          }
           List<String> indexedFields = index.getDefinition().getFields();
           int nMatchingKeys = 0;
           for (String indexedField : indexedFields) {
@@ -120,6 +126,14 @@ public class OWhereClause extends SimpleNode {
           }
         }
       }
+      //statistics built by ANALYZE, never estimate zero records from them
+      if (ctx.getDatabase() instanceof ODatabaseDocumentInternal) {
+        ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+        double selectivity = OQueryStats.get(db).estimateSelectivity(db, oClass, condition, ctx);
+        if (selectivity >= 0) {
+          conditionEstimation = Math.min(conditionEstimation, Math.max((long) Math.ceil(totalCount * selectivity), 1));
+        }
+      }
       if (conditionEstimation > count) {
         return count;
       }
@@ -191,6 +205,10 @@ public class OWhereClause extends SimpleNode {
       Map<String, Object> bestCondition = null;
 
       for (OIndex index : indexes) {
+        if (index.getDefinition().getFilter() != null) {
+          // partial index, it does not contain all the records of the class
+          continue;
+        }
         List<String> indexedFields = index.getDefinition().getFields();
         int nMatchingKeys = 0;
         for (String indexedField : indexedFields) {
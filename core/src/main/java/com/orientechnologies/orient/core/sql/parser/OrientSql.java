@@ -29,7 +29,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
   jjtn000.jjtSetFirstToken(getToken(1));
     try {
       if (jj_2_1(4)) {
-        jj_consume_token(266);
+        jj_consume_token(268);
         jjtn000.cluster = Integer();
         jj_consume_token(COLON);
         jjtn000.position = Integer();
@@ -158,6 +158,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case ANALYZE:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -450,6 +451,12 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case OPTIMIZE:
         token = jj_consume_token(OPTIMIZE);
         break;
+      case ANALYZE:
+        token = jj_consume_token(ANALYZE);
+        break;
+      case INCLUDE:
+        token = jj_consume_token(INCLUDE);
+        break;
       case LINK:
         token = jj_consume_token(LINK);
         break;
@@ -927,6 +934,9 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
                         case OPTIMIZE:
                           result = OptimizeDatabaseStatement();
                           break;
+                        case ANALYZE:
+                          result = AnalyzeStatement();
+                          break;
                         case GRANT:
                           result = GrantStatement();
                           break;
@@ -1311,6 +1321,8 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -1376,7 +1388,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 266:
+      case 268:
         jjtn000.projection = Projection();
         break;
       default:
@@ -1626,6 +1638,8 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -2177,7 +2191,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 266:
+      case 268:
         jjtn000.rid = Rid();
         break;
       case LBRACKET:
@@ -2186,7 +2200,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 266:
+        case 268:
           lastRid = Rid();
                     jjtn000.rids = new ArrayList();
                     jjtn000.rids.add(lastRid);
@@ -2321,6 +2335,8 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -2635,6 +2651,8 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -2859,6 +2877,8 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -2924,7 +2944,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 266:
+        case 268:
           jjtn000.returnProjection = Projection();
           break;
         default:
@@ -3139,6 +3159,8 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -3204,7 +3226,7 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 266:
+        case 268:
           jjtn000.returnProjection = Projection();
           break;
         default:
@@ -3762,6 +3784,8 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -4415,6 +4439,8 @@ jjtn000.jjtSetFirstToken(getToken(1));Token token = null;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -4691,6 +4717,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5059,6 +5087,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5124,7 +5154,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 266:
+      case 268:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case BANG:
           jj_consume_token(BANG);
@@ -5533,6 +5563,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5655,6 +5687,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5720,7 +5754,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 266:
+      case 268:
         lastExpression = Expression();
                                            jjtn000.params.add(lastExpression);
         label_21:
@@ -5842,6 +5876,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -5907,7 +5943,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 266:
+      case 268:
         lastExpression = Expression();
                                             jjtn000.params.add(lastExpression);
         label_22:
@@ -6583,6 +6619,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -6648,7 +6686,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 266:
+        case 268:
           jjtn000.expression = Expression();
           break;
         case INSERT:
@@ -6761,6 +6799,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -7036,7 +7076,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 266:
+      case 268:
         lastRid = Rid();
                           jjtn000.rids.add(lastRid);
         break;
@@ -7209,6 +7249,8 @@ Token token;
                   case ID:
                   case DATABASE:
                   case OPTIMIZE:
+                  case ANALYZE:
+                  case INCLUDE:
                   case LINK:
                   case TYPE:
                   case INVERSE:
@@ -7407,6 +7449,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -7536,8 +7580,8 @@ Token token;
     OIdentifier lastIdentifier;
     try {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 267:
-        jj_consume_token(267);
+      case 269:
+        jj_consume_token(269);
                              builder.append("__@recordmap@___");
         break;
       default:
@@ -7886,6 +7930,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -7951,7 +7997,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 266:
+      case 268:
         if (jj_2_106(2147483647)) {
           jjtn000.sub = ConditionBlock();
         } else if (jj_2_107(2147483647)) {
@@ -8723,6 +8769,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -8902,6 +8950,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -8967,7 +9017,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 266:
+        case 268:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_32:
@@ -9057,6 +9107,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9122,7 +9174,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 266:
+        case 268:
           lastExpression = Expression();
                                                     jjtn000.leftExpressions.add(lastExpression);
           label_33:
@@ -9209,6 +9261,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9274,7 +9328,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 266:
+        case 268:
           lastExpression = Expression();
                                                     jjtn000.rightExpressions.add(lastExpression);
           label_34:
@@ -9677,6 +9731,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -9866,6 +9922,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10225,6 +10283,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -10277,7 +10337,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 266:
+      case 268:
                     lastItem = new OOrderByItem();
                     jjtn000.items.add(lastItem);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10341,6 +10401,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10405,7 +10467,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 266:
+        case 268:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10514,6 +10576,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10578,7 +10642,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 266:
+        case 268:
           lastItem.rid = Rid();
           break;
         case RECORD_ATTRIBUTE:
@@ -10700,6 +10764,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -10752,7 +10818,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-        case 266:
+        case 268:
                         lastItem = new OOrderByItem();
                         jjtn000.items.add(lastItem);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -10816,6 +10882,8 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
+          case INCLUDE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -10880,7 +10948,7 @@ Token token;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 266:
+          case 268:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -10989,6 +11057,8 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
+          case INCLUDE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -11053,7 +11123,7 @@ Token token;
           case INTEGER_LITERAL:
           case LBRACE:
           case MINUS:
-          case 266:
+          case 268:
             lastItem.rid = Rid();
             break;
           case RECORD_ATTRIBUTE:
@@ -11607,6 +11677,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -11672,7 +11744,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 266:
+      case 268:
         lastExpression = Expression();
                                             jjtn000.expressions.add(lastExpression);
         label_38:
@@ -11795,6 +11867,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -11954,6 +12028,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -12215,6 +12291,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -12329,6 +12407,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -12473,6 +12553,8 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
+          case INCLUDE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -13023,6 +13105,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13260,6 +13344,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13436,6 +13522,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13610,6 +13698,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13784,6 +13874,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -13967,6 +14059,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -14148,6 +14242,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -14419,6 +14515,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -14527,7 +14625,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 266:
+      case 268:
         jjtn000.record = Rid();
         break;
       case LBRACKET:
@@ -14537,7 +14635,7 @@ Token token;
         case INTEGER_LITERAL:
         case LBRACE:
         case MINUS:
-        case 266:
+        case 268:
           lastRecord = Rid();
                                                      jjtn000.records.add(lastRecord);
           label_46:
@@ -14606,7 +14704,7 @@ Token token;
       case INTEGER_LITERAL:
       case LBRACE:
       case MINUS:
-      case 266:
+      case 268:
         jjtn000.rid = Rid();
         break;
       case LPAREN:
@@ -14684,6 +14782,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -14816,6 +14916,8 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
+          case INCLUDE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -15169,6 +15271,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15314,6 +15418,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15439,6 +15545,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15601,6 +15709,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15725,6 +15835,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15874,6 +15986,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -15924,8 +16038,8 @@ Token token;
         case QUOTED_IDENTIFIER:
           jjtn000.identifierValue = Identifier();
           break;
-        case 268:
-          jj_consume_token(268);
+        case 270:
+          jj_consume_token(270);
                                                 jjtn000.customString = "round-robin";
           break;
         case RID_STRING:
@@ -16003,6 +16117,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16126,6 +16242,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16252,6 +16370,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16550,6 +16670,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -16784,6 +16906,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -16934,11 +17058,12 @@ Token token;
     jjtn000.jjtSetFirstToken(getToken(1));OCreateIndexStatement.Property lastProperty;
     OIdentifier lastIdentifier;
     ORecordAttribute lastRecordAttr;
+    OExpression lastExpression;
     try {
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_152(4)) {
+      if (jj_2_153(4)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case IF:
           jj_consume_token(IF);
@@ -17014,6 +17139,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -17073,6 +17200,14 @@ Token token;
                     lastProperty.recordAttribute = lastRecordAttr;
                     jjtn000.propertyList.add(lastProperty);
           break;
+        case LPAREN:
+          jj_consume_token(LPAREN);
+          lastExpression = Expression();
+          jj_consume_token(RPAREN);
+                    lastProperty = new OCreateIndexStatement.Property();
+                    lastProperty.expression = lastExpression;
+                    jjtn000.propertyList.add(lastProperty);
+          break;
         default:
           jj_la1[348] = jj_gen;
           jj_consume_token(-1);
@@ -17181,6 +17316,8 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
+          case INCLUDE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -17240,6 +17377,14 @@ Token token;
                         lastProperty.recordAttribute = lastRecordAttr;
                         jjtn000.propertyList.add(lastProperty);
             break;
+          case LPAREN:
+            jj_consume_token(LPAREN);
+            lastExpression = Expression();
+            jj_consume_token(RPAREN);
+                        lastProperty = new OCreateIndexStatement.Property();
+                        lastProperty.expression = lastExpression;
+                        jjtn000.propertyList.add(lastProperty);
+            break;
           default:
             jj_la1[353] = jj_gen;
             jj_consume_token(-1);
@@ -17278,6 +17423,29 @@ Token token;
           }
         }
         jj_consume_token(RPAREN);
+        if (jj_2_151(2)) {
+          jj_consume_token(INCLUDE);
+          jj_consume_token(LPAREN);
+          lastIdentifier = Identifier();
+                                                jjtn000.includedProperties.add(lastIdentifier);
+          label_53:
+          while (true) {
+            switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+            case COMMA:
+              ;
+              break;
+            default:
+              jj_la1[357] = jj_gen;
+              break label_53;
+            }
+            jj_consume_token(COMMA);
+            lastIdentifier = Identifier();
+                                                            jjtn000.includedProperties.add(lastIdentifier);
+          }
+          jj_consume_token(RPAREN);
+        } else {
+          ;
+        }
         jjtn000.type = Identifier();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17341,6 +17509,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -17389,7 +17559,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_151(3)) {
+          if (jj_2_152(3)) {
             jj_consume_token(IF);
             jj_consume_token(NOT);
             jj_consume_token(EXISTS);
@@ -17457,6 +17627,8 @@ Token token;
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
+            case INCLUDE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17508,19 +17680,19 @@ Token token;
               jjtn000.type = Identifier();
               break;
             default:
-              jj_la1[357] = jj_gen;
+              jj_la1[358] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[358] = jj_gen;
+          jj_la1[359] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
       }
-      if (jj_2_155(2)) {
+      if (jj_2_156(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17584,6 +17756,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -17632,7 +17806,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_153(2)) {
+          if (jj_2_154(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -17697,6 +17871,8 @@ Token token;
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
+            case INCLUDE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -17747,15 +17923,15 @@ Token token;
             case QUOTED_IDENTIFIER:
               lastIdentifier = Identifier();
                                                    jjtn000.keyTypes.add(lastIdentifier);
-              label_53:
+              label_54:
               while (true) {
                 switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
                 case COMMA:
                   ;
                   break;
                 default:
-                  jj_la1[359] = jj_gen;
-                  break label_53;
+                  jj_la1[360] = jj_gen;
+                  break label_54;
                 }
                 jj_consume_token(COMMA);
                 lastIdentifier = Identifier();
@@ -17767,19 +17943,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[360] = jj_gen;
+                jj_la1[361] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[361] = jj_gen;
+              jj_la1[362] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[362] = jj_gen;
+          jj_la1[363] = jj_gen;
           ;
         }
       } else {
@@ -17844,6 +18020,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -17892,7 +18070,7 @@ Token token;
         case KEY:
         case IDENTIFIER:
         case QUOTED_IDENTIFIER:
-          if (jj_2_154(2)) {
+          if (jj_2_155(2)) {
             jj_consume_token(METADATA);
             jjtn000.metadata = Json();
           } else {
@@ -17957,6 +18135,8 @@ Token token;
             case ID:
             case DATABASE:
             case OPTIMIZE:
+            case ANALYZE:
+            case INCLUDE:
             case LINK:
             case TYPE:
             case INVERSE:
@@ -18007,15 +18187,15 @@ Token token;
             case QUOTED_IDENTIFIER:
               lastIdentifier = Identifier();
                                                    jjtn000.keyTypes.add(lastIdentifier);
-              label_54:
+              label_55:
               while (true) {
                 switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
                 case COMMA:
                   ;
                   break;
                 default:
-                  jj_la1[363] = jj_gen;
-                  break label_54;
+                  jj_la1[364] = jj_gen;
+                  break label_55;
                 }
                 jj_consume_token(COMMA);
                 lastIdentifier = Identifier();
@@ -18027,21 +18207,30 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[364] = jj_gen;
+                jj_la1[365] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[365] = jj_gen;
+              jj_la1[366] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[366] = jj_gen;
+          jj_la1[367] = jj_gen;
           ;
         }
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case WHERE:
+        jj_consume_token(WHERE);
+        jjtn000.where = WhereClause();
+        break;
+      default:
+        jj_la1[368] = jj_gen;
+        ;
       }
           jjtree.closeNodeScope(jjtn000, true);
           jjtc000 = false;
@@ -18140,6 +18329,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18188,7 +18379,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 267:
+      case 269:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -18196,7 +18387,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[367] = jj_gen;
+        jj_la1[369] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18297,6 +18488,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18345,7 +18538,7 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 267:
+      case 269:
         jjtn000.name = IndexName();
         break;
       case STAR:
@@ -18353,7 +18546,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[368] = jj_gen;
+        jj_la1[370] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18364,7 +18557,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[369] = jj_gen;
+        jj_la1[371] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18412,7 +18605,7 @@ Token token;
                                  jjtn000.blob = true;
         break;
       default:
-        jj_la1[370] = jj_gen;
+        jj_la1[372] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18425,7 +18618,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[371] = jj_gen;
+        jj_la1[373] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18434,7 +18627,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[372] = jj_gen;
+        jj_la1[374] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18480,7 +18673,7 @@ Token token;
                    jjtn000.starred = true;
         break;
       default:
-        jj_la1[373] = jj_gen;
+        jj_la1[375] = jj_gen;
         ;
       }
       jjtn000.attributeName = Identifier();
@@ -18582,6 +18775,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -18637,7 +18832,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[374] = jj_gen;
+        jj_la1[376] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -18648,7 +18843,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[375] = jj_gen;
+        jj_la1[377] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -18687,7 +18882,7 @@ Token token;
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_156(3)) {
+      if (jj_2_157(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -18754,6 +18949,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -18806,7 +19003,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[376] = jj_gen;
+          jj_la1[378] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -18883,15 +19080,15 @@ Token token;
     try {
       jj_consume_token(OPTIMIZE);
       jj_consume_token(DATABASE);
-      label_55:
+      label_56:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case MINUS:
           ;
           break;
         default:
-          jj_la1[377] = jj_gen;
-          break label_55;
+          jj_la1[379] = jj_gen;
+          break label_56;
         }
         lastOption = CommandLineOption();
                                                jjtn000.options.add(lastOption);
@@ -18923,6 +19120,177 @@ Token token;
     throw new Error("Missing return statement in function");
   }
 
+  final public OAnalyzeStatement AnalyzeStatement() throws ParseException {
+ /*@bgen(jjtree) AnalyzeStatement */
+  OAnalyzeStatement jjtn000 = new OAnalyzeStatement(JJTANALYZESTATEMENT);
+  boolean jjtc000 = true;
+  jjtree.openNodeScope(jjtn000);
+  jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(ANALYZE);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case CLASS:
+        jj_consume_token(CLASS);
+        jjtn000.className = Identifier();
+        break;
+      case INDEX:
+        jj_consume_token(INDEX);
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case TO:
+        case VALUE:
+        case VALUES:
+        case SET:
+        case ADD:
+        case PUT:
+        case MERGE:
+        case CONTENT:
+        case REMOVE:
+        case ORDER:
+        case GROUP:
+        case OFFSET:
+        case RECORD:
+        case CACHE:
+        case CYCLE:
+        case NOLIMIT:
+        case NOCYCLE:
+        case LUCENE:
+        case NEAR:
+        case WITHIN:
+        case MINDEPTH:
+        case CLASS:
+        case SUPERCLASS:
+        case CLASSES:
+        case SUPERCLASSES:
+        case VIEW:
+        case UPDATABLE:
+        case EXCEPTION:
+        case PROFILE:
+        case STORAGE:
+        case ON:
+        case OFF:
+        case TRUNCATE:
+        case FIND:
+        case REFERENCES:
+        case EXTENDS:
+        case CLUSTERS:
+        case ABSTRACT:
+        case ALTER:
+        case NAME:
+        case SHORTNAME:
+        case OVERSIZE:
+        case STRICTMODE:
+        case ADDCLUSTER:
+        case REMOVECLUSTER:
+        case CUSTOM:
+        case CLUSTERSELECTION:
+        case DESCRIPTION:
+        case ENCRYPTION:
+        case DROP:
+        case PROPERTY:
+        case FORCE:
+        case METADATA:
+        case INDEX:
+        case COLLATE:
+        case ENGINE:
+        case REBUILD:
+        case ID:
+        case DATABASE:
+        case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
+        case LINK:
+        case TYPE:
+        case INVERSE:
+        case EXPLAIN:
+        case GRANT:
+        case REVOKE:
+        case READ:
+        case EXECUTE:
+        case ALL:
+        case NONE:
+        case FUNCTION:
+        case PARAMETERS:
+        case IDEMPOTENT:
+        case LANGUAGE:
+        case BEGIN:
+        case COMMIT:
+        case ROLLBACK:
+        case IF:
+        case ELSE:
+        case CONTINUE:
+        case FAIL:
+        case ISOLATION:
+        case SLEEP:
+        case CONSOLE:
+        case BLOB:
+        case SHARED:
+        case DEFAULT_:
+        case SEQUENCE:
+        case START:
+        case OPTIONAL:
+        case COUNT:
+        case HA:
+        case STATUS:
+        case SERVER:
+        case SYNC:
+        case EXISTS:
+        case MOVE:
+        case DEPTH_ALIAS:
+        case PATH_ALIAS:
+        case IDENTIFIED:
+        case ROLE:
+        case USER:
+        case RID:
+        case DEFAULTCLUSTER:
+        case IN:
+        case KEY:
+        case IDENTIFIER:
+        case QUOTED_IDENTIFIER:
+        case 269:
+          jjtn000.indexName = IndexName();
+          break;
+        case STAR:
+          jj_consume_token(STAR);
+                         jjtn000.allIndexes = true;
+          break;
+        default:
+          jj_la1[380] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+        break;
+      default:
+        jj_la1[381] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+     {if (true) return jjtn000;}
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {if (true) throw (RuntimeException)jjte000;}
+      }
+      if (jjte000 instanceof ParseException) {
+        {if (true) throw (ParseException)jjte000;}
+      }
+      {if (true) throw (Error)jjte000;}
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   final public OCreateLinkStatement CreateLinkStatement() throws ParseException {
  /*@bgen(jjtree) CreateLinkStatement */
   OCreateLinkStatement jjtn000 = new OCreateLinkStatement(JJTCREATELINKSTATEMENT);
@@ -18999,6 +19367,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -19053,7 +19423,7 @@ Token token;
         jjtn000.sourceRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[378] = jj_gen;
+        jj_la1[382] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19121,6 +19491,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -19175,7 +19547,7 @@ Token token;
         jjtn000.destRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[379] = jj_gen;
+        jj_la1[383] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19185,7 +19557,7 @@ Token token;
                       jjtn000.inverse = true;
         break;
       default:
-        jj_la1[380] = jj_gen;
+        jj_la1[384] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19324,7 +19696,7 @@ Token token;
                  jjtn000.permission = "NONE";
         break;
       default:
-        jj_la1[381] = jj_gen;
+        jj_la1[385] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19417,6 +19789,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -19468,7 +19842,7 @@ Token token;
         jjtn000.identifier = Identifier();
         break;
       default:
-        jj_la1[382] = jj_gen;
+        jj_la1[386] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19511,15 +19885,15 @@ Token token;
       jj_consume_token(ON);
       lastItem = ResourcePathItem();
                                         jjtn000.resourceChain.add(lastItem);
-      label_56:
+      label_57:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case DOT:
           ;
           break;
         default:
-          jj_la1[383] = jj_gen;
-          break label_56;
+          jj_la1[387] = jj_gen;
+          break label_57;
         }
         jj_consume_token(DOT);
         lastItem = ResourcePathItem();
@@ -19566,15 +19940,15 @@ Token token;
       jj_consume_token(ON);
       lastItem = ResourcePathItem();
                                         jjtn000.resourceChain.add(lastItem);
-      label_57:
+      label_58:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case DOT:
           ;
           break;
         default:
-          jj_la1[384] = jj_gen;
-          break label_57;
+          jj_la1[388] = jj_gen;
+          break label_58;
         }
         jj_consume_token(DOT);
         lastItem = ResourcePathItem();
@@ -19629,15 +20003,15 @@ Token token;
         lastIdentifier = Identifier();
                 jjtn000.parameters = new ArrayList<OIdentifier>();
                 jjtn000.parameters.add(lastIdentifier);
-        label_58:
+        label_59:
         while (true) {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
           case COMMA:
             ;
             break;
           default:
-            jj_la1[385] = jj_gen;
-            break label_58;
+            jj_la1[389] = jj_gen;
+            break label_59;
           }
           jj_consume_token(COMMA);
           lastIdentifier = Identifier();
@@ -19646,7 +20020,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[386] = jj_gen;
+        jj_la1[390] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -19662,13 +20036,13 @@ Token token;
                           jjtn000.idempotent = false;
           break;
         default:
-          jj_la1[387] = jj_gen;
+          jj_la1[391] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[388] = jj_gen;
+        jj_la1[392] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -19677,7 +20051,7 @@ Token token;
         jjtn000.language = Identifier();
         break;
       default:
-        jj_la1[389] = jj_gen;
+        jj_la1[393] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19781,6 +20155,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -19836,7 +20212,7 @@ Token token;
         jjtn000.passwordString = String();
         break;
       default:
-        jj_la1[390] = jj_gen;
+        jj_la1[394] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -19904,6 +20280,8 @@ Token token;
         case ID:
         case DATABASE:
         case OPTIMIZE:
+        case ANALYZE:
+        case INCLUDE:
         case LINK:
         case TYPE:
         case INVERSE:
@@ -20018,6 +20396,8 @@ Token token;
           case ID:
           case DATABASE:
           case OPTIMIZE:
+          case ANALYZE:
+          case INCLUDE:
           case LINK:
           case TYPE:
           case INVERSE:
@@ -20068,15 +20448,15 @@ Token token;
           case QUOTED_IDENTIFIER:
             lastIdentifier = Identifier();
                                                  jjtn000.roles.add(lastIdentifier);
-            label_59:
+            label_60:
             while (true) {
               switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
               case COMMA:
                 ;
                 break;
               default:
-                jj_la1[391] = jj_gen;
-                break label_59;
+                jj_la1[395] = jj_gen;
+                break label_60;
               }
               jj_consume_token(COMMA);
               lastIdentifier = Identifier();
@@ -20084,19 +20464,19 @@ Token token;
             }
             break;
           default:
-            jj_la1[392] = jj_gen;
+            jj_la1[396] = jj_gen;
             ;
           }
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[393] = jj_gen;
+          jj_la1[397] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[394] = jj_gen;
+        jj_la1[398] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20173,9 +20553,9 @@ Token token;
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_157(2147483647)) {
+      if (jj_2_158(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_158(2147483647)) {
+      } else if (jj_2_159(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -20222,7 +20602,7 @@ Token token;
         jjtn000.isolation = Identifier();
         break;
       default:
-        jj_la1[395] = jj_gen;
+        jj_la1[399] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20271,7 +20651,7 @@ Token token;
           case LBRACE:
                     jjtn000.elseStatements = new ArrayList();
             jj_consume_token(LBRACE);
-            label_60:
+            label_61:
             while (true) {
               last = StatementInternal();
                                                  jjtn000.elseStatements.add(last);
@@ -20293,6 +20673,7 @@ Token token;
               case DROP:
               case REBUILD:
               case OPTIMIZE:
+              case ANALYZE:
               case EXPLAIN:
               case GRANT:
               case REVOKE:
@@ -20307,8 +20688,8 @@ Token token;
                 ;
                 break;
               default:
-                jj_la1[396] = jj_gen;
-                break label_60;
+                jj_la1[400] = jj_gen;
+                break label_61;
               }
             }
             jj_consume_token(RBRACE);
@@ -20325,13 +20706,13 @@ Token token;
                                                                                       jjtn000.elseFail = true;
                 break;
               default:
-                jj_la1[397] = jj_gen;
+                jj_la1[401] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
               break;
             default:
-              jj_la1[398] = jj_gen;
+              jj_la1[402] = jj_gen;
               ;
             }
             break;
@@ -20347,24 +20728,24 @@ Token token;
                                                                             jjtn000.elseFail = true;
               break;
             default:
-              jj_la1[399] = jj_gen;
+              jj_la1[403] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[400] = jj_gen;
+            jj_la1[404] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[401] = jj_gen;
+          jj_la1[405] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[402] = jj_gen;
+        jj_la1[406] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20485,6 +20866,8 @@ Token token;
       case ID:
       case DATABASE:
       case OPTIMIZE:
+      case ANALYZE:
+      case INCLUDE:
       case LINK:
       case TYPE:
       case INVERSE:
@@ -20550,11 +20933,11 @@ Token token;
       case KEY:
       case IDENTIFIER:
       case QUOTED_IDENTIFIER:
-      case 266:
+      case 268:
         jjtn000.expression = Expression();
         break;
       default:
-        jj_la1[403] = jj_gen;
+        jj_la1[407] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -20596,7 +20979,7 @@ Token token;
       jjtn000.expression = OrBlock();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_61:
+      label_62:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
@@ -20616,6 +20999,7 @@ Token token;
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case ANALYZE:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -20632,10 +21016,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[404] = jj_gen;
-          break label_61;
+          jj_la1[408] = jj_gen;
+          break label_62;
         }
-        if (jj_2_159(2147483647)) {
+        if (jj_2_160(2147483647)) {
           last = StatementSemicolon();
                                           jjtn000.statements.add(last);
         } else {
@@ -20656,7 +21040,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[405] = jj_gen;
+            jj_la1[409] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -20782,7 +21166,7 @@ Token token;
                                 jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[406] = jj_gen;
+        jj_la1[410] = jj_gen;
         ;
       }
       jj_consume_token(TYPE);
@@ -20794,7 +21178,7 @@ Token token;
             }else{
                 {if (true) throw new ParseException();}
             }
-      label_62:
+      label_63:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case INCREMENT:
@@ -20807,8 +21191,8 @@ Token token;
           ;
           break;
         default:
-          jj_la1[407] = jj_gen;
-          break label_62;
+          jj_la1[411] = jj_gen;
+          break label_63;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case START:
@@ -20835,7 +21219,7 @@ Token token;
                                   jjtn000.cyclic = false;
             break;
           default:
-            jj_la1[408] = jj_gen;
+            jj_la1[412] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -20853,7 +21237,7 @@ Token token;
                        jjtn000.positive = false;
           break;
         default:
-          jj_la1[409] = jj_gen;
+          jj_la1[413] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -20895,7 +21279,7 @@ Token token;
       jj_consume_token(ALTER);
       jj_consume_token(SEQUENCE);
       jjtn000.name = Identifier();
-      label_63:
+      label_64:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case INCREMENT:
@@ -20909,8 +21293,8 @@ Token token;
           ;
           break;
         default:
-          jj_la1[410] = jj_gen;
-          break label_63;
+          jj_la1[414] = jj_gen;
+          break label_64;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case START:
@@ -20937,7 +21321,7 @@ Token token;
                                   jjtn000.cyclic = false;
             break;
           default:
-            jj_la1[411] = jj_gen;
+            jj_la1[415] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -20959,7 +21343,7 @@ Token token;
                           jjtn000.turnLimitOff = true;
           break;
         default:
-          jj_la1[412] = jj_gen;
+          jj_la1[416] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21008,7 +21392,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[413] = jj_gen;
+        jj_la1[417] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21047,51 +21431,51 @@ Token token;
     try {
       jj_consume_token(HA);
       jj_consume_token(STATUS);
-      label_64:
+      label_65:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 269:
-        case 270:
         case 271:
         case 272:
         case 273:
         case 274:
+        case 275:
+        case 276:
           ;
           break;
         default:
-          jj_la1[414] = jj_gen;
-          break label_64;
+          jj_la1[418] = jj_gen;
+          break label_65;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 269:
-          token = jj_consume_token(269);
-                                 jjtn000.servers = true;
-          break;
-        case 270:
-          token = jj_consume_token(270);
-                            jjtn000.db = true;
-          break;
         case 271:
           token = jj_consume_token(271);
-                                 jjtn000.latency = true;
+                                 jjtn000.servers = true;
           break;
         case 272:
           token = jj_consume_token(272);
-                                  jjtn000.messages = true;
+                            jjtn000.db = true;
           break;
         case 273:
           token = jj_consume_token(273);
+                                 jjtn000.latency = true;
+          break;
+        case 274:
+          token = jj_consume_token(274);
+                                  jjtn000.messages = true;
+          break;
+        case 275:
+          token = jj_consume_token(275);
                 jjtn000.servers = true;
                 jjtn000.db = true;
                 jjtn000.latency = true;
                 jjtn000.messages = true;
           break;
-        case 274:
-          token = jj_consume_token(274);
+        case 276:
+          token = jj_consume_token(276);
                                      jjtn000.outputText = true;
           break;
         default:
-          jj_la1[415] = jj_gen;
+          jj_la1[419] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21157,28 +21541,28 @@ Token token;
       jj_consume_token(HA);
       jj_consume_token(SYNC);
       jj_consume_token(DATABASE);
-      label_65:
+      label_66:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 275:
-        case 276:
+        case 277:
+        case 278:
           ;
           break;
         default:
-          jj_la1[416] = jj_gen;
-          break label_65;
+          jj_la1[420] = jj_gen;
+          break label_66;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 275:
-          jj_consume_token(275);
+        case 277:
+          jj_consume_token(277);
                       jjtn000.force = true;
           break;
-        case 276:
-          jj_consume_token(276);
+        case 278:
+          jj_consume_token(278);
                       jjtn000.full = true;
           break;
         default:
-          jj_la1[417] = jj_gen;
+          jj_la1[421] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -21208,25 +21592,25 @@ Token token;
       jj_consume_token(CLUSTER);
       jjtn000.clusterName = Identifier();
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 277:
-      case 278:
+      case 279:
+      case 280:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case 277:
-          jj_consume_token(277);
+        case 279:
+          jj_consume_token(279);
                                  jjtn000.modeFull = true;
           break;
-        case 278:
-          jj_consume_token(278);
+        case 280:
+          jj_consume_token(280);
                           jjtn000.modeMerge = true;
           break;
         default:
-          jj_la1[418] = jj_gen;
+          jj_la1[422] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[419] = jj_gen;
+        jj_la1[423] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -21310,7 +21694,7 @@ Token token;
       jjtn000.loopValues = Expression();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_66:
+      label_67:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
@@ -21330,6 +21714,7 @@ Token token;
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case ANALYZE:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -21346,10 +21731,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[420] = jj_gen;
-          break label_66;
+          jj_la1[424] = jj_gen;
+          break label_67;
         }
-        if (jj_2_160(2147483647)) {
+        if (jj_2_161(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -21370,7 +21755,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[421] = jj_gen;
+            jj_la1[425] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -21416,7 +21801,7 @@ Token token;
       jjtn000.condition = OrBlock();
       jj_consume_token(RPAREN);
       jj_consume_token(LBRACE);
-      label_67:
+      label_68:
       while (true) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case SELECT:
@@ -21436,6 +21821,7 @@ Token token;
         case DROP:
         case REBUILD:
         case OPTIMIZE:
+        case ANALYZE:
         case EXPLAIN:
         case GRANT:
         case REVOKE:
@@ -21452,10 +21838,10 @@ Token token;
           ;
           break;
         default:
-          jj_la1[422] = jj_gen;
-          break label_67;
+          jj_la1[426] = jj_gen;
+          break label_68;
         }
-        if (jj_2_161(2147483647)) {
+        if (jj_2_162(2147483647)) {
           lastStatement = StatementSemicolon();
                                               jjtn000.statements.add(lastStatement);
         } else {
@@ -21476,7 +21862,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[423] = jj_gen;
+            jj_la1[427] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -22637,303 +23023,288 @@ Token token;
     finally { jj_save(160, xla); }
   }
 
-  private boolean jj_3R_433() {
-    if (jj_3R_423()) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_588()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
+  private boolean jj_2_162(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_162(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(161, xla); }
   }
 
-  private boolean jj_3R_437() {
+  private boolean jj_3R_441() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_210() {
+  private boolean jj_3R_212() {
     if (jj_scan_token(KEY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_433()) {
+    if (jj_3R_437()) {
     jj_scanpos = xsp;
-    if (jj_3R_434()) return true;
+    if (jj_3R_438()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_436() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_440() {
+    if (jj_3R_593()) return true;
     return false;
   }
 
-  private boolean jj_3R_435() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_439() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
   private boolean jj_3_125() {
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_213() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(INSTANCEOF)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_435()) {
+    if (jj_3R_439()) {
     jj_scanpos = xsp;
-    if (jj_3R_436()) {
+    if (jj_3R_440()) {
     jj_scanpos = xsp;
-    if (jj_3R_437()) return true;
+    if (jj_3R_441()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_430() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
   private boolean jj_3_124() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_175()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
-    if (jj_3R_150()) return true;
-    if (jj_3R_425()) return true;
+  private boolean jj_3R_207() {
+    if (jj_3R_152()) return true;
+    if (jj_3R_429()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_124()) {
     jj_scanpos = xsp;
-    if (jj_3R_426()) return true;
+    if (jj_3R_430()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_202() {
-    if (jj_3R_150()) return true;
-    if (jj_3R_423()) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_204() {
+    if (jj_3R_152()) return true;
+    if (jj_3R_427()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_546() {
+  private boolean jj_3R_552() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
+  private boolean jj_3R_378() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_546()) jj_scanpos = xsp;
-    if (jj_3R_420()) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_552()) jj_scanpos = xsp;
+    if (jj_3R_424()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
-    if (jj_3R_423()) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_377() {
+    if (jj_3R_427()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_171() {
+  private boolean jj_3R_173() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_373()) {
+    if (jj_3R_377()) {
     jj_scanpos = xsp;
-    if (jj_3R_374()) return true;
+    if (jj_3R_378()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_767() {
+  private boolean jj_3R_773() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_766() {
+  private boolean jj_3R_772() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_676() {
+  private boolean jj_3R_682() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_766()) {
+    if (jj_3R_772()) {
     jj_scanpos = xsp;
-    if (jj_3R_767()) return true;
+    if (jj_3R_773()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_425() {
+  private boolean jj_3R_429() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_684() {
+  private boolean jj_3R_690() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3R_694() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
+  private boolean jj_3R_693() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_686() {
+  private boolean jj_3R_692() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_685() {
+  private boolean jj_3R_691() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_683() {
+  private boolean jj_3R_689() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_682() {
+  private boolean jj_3R_688() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_681() {
+  private boolean jj_3R_687() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_680() {
+  private boolean jj_3R_686() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_679() {
+  private boolean jj_3R_685() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_678() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_677() {
+  private boolean jj_3R_683() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  private boolean jj_3R_586() {
-    if (jj_3R_688()) return true;
+  private boolean jj_3R_592() {
+    if (jj_3R_694()) return true;
     return false;
   }
 
-  private boolean jj_3R_585() {
-    if (jj_3R_687()) return true;
+  private boolean jj_3R_591() {
+    if (jj_3R_693()) return true;
     return false;
   }
 
-  private boolean jj_3R_584() {
-    if (jj_3R_686()) return true;
+  private boolean jj_3R_590() {
+    if (jj_3R_692()) return true;
     return false;
   }
 
-  private boolean jj_3R_583() {
-    if (jj_3R_685()) return true;
+  private boolean jj_3R_589() {
+    if (jj_3R_691()) return true;
     return false;
   }
 
-  private boolean jj_3R_574() {
-    if (jj_3R_676()) return true;
+  private boolean jj_3R_580() {
+    if (jj_3R_682()) return true;
     return false;
   }
 
-  private boolean jj_3R_582() {
-    if (jj_3R_684()) return true;
+  private boolean jj_3R_588() {
+    if (jj_3R_690()) return true;
     return false;
   }
 
-  private boolean jj_3R_581() {
-    if (jj_3R_683()) return true;
+  private boolean jj_3R_587() {
+    if (jj_3R_689()) return true;
     return false;
   }
 
-  private boolean jj_3R_580() {
-    if (jj_3R_682()) return true;
+  private boolean jj_3R_586() {
+    if (jj_3R_688()) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_681()) return true;
+  private boolean jj_3R_585() {
+    if (jj_3R_687()) return true;
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_3R_680()) return true;
+  private boolean jj_3R_584() {
+    if (jj_3R_686()) return true;
     return false;
   }
 
-  private boolean jj_3R_577() {
-    if (jj_3R_679()) return true;
+  private boolean jj_3R_583() {
+    if (jj_3R_685()) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
-    if (jj_3R_678()) return true;
+  private boolean jj_3R_582() {
+    if (jj_3R_684()) return true;
     return false;
   }
 
-  private boolean jj_3R_575() {
-    if (jj_3R_677()) return true;
+  private boolean jj_3R_581() {
+    if (jj_3R_683()) return true;
     return false;
   }
 
   private boolean jj_3_122() {
-    if (jj_3R_210()) return true;
+    if (jj_3R_212()) return true;
     return false;
   }
 
   private boolean jj_3_123() {
-    if (jj_3R_211()) return true;
+    if (jj_3R_213()) return true;
     return false;
   }
 
   private boolean jj_3_121() {
-    if (jj_3R_209()) return true;
+    if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_423() {
+  private boolean jj_3R_427() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_574()) {
-    jj_scanpos = xsp;
-    if (jj_3R_575()) {
-    jj_scanpos = xsp;
-    if (jj_3R_576()) {
-    jj_scanpos = xsp;
-    if (jj_3R_577()) {
-    jj_scanpos = xsp;
-    if (jj_3R_578()) {
-    jj_scanpos = xsp;
-    if (jj_3R_579()) {
-    jj_scanpos = xsp;
     if (jj_3R_580()) {
     jj_scanpos = xsp;
     if (jj_3R_581()) {
@@ -22946,7 +23317,19 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_585()) {
     jj_scanpos = xsp;
-    if (jj_3R_586()) return true;
+    if (jj_3R_586()) {
+    jj_scanpos = xsp;
+    if (jj_3R_587()) {
+    jj_scanpos = xsp;
+    if (jj_3R_588()) {
+    jj_scanpos = xsp;
+    if (jj_3R_589()) {
+    jj_scanpos = xsp;
+    if (jj_3R_590()) {
+    jj_scanpos = xsp;
+    if (jj_3R_591()) {
+    jj_scanpos = xsp;
+    if (jj_3R_592()) return true;
     }
     }
     }
@@ -22962,177 +23345,169 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_419() {
+  private boolean jj_3R_423() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_418() {
+  private boolean jj_3R_422() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
   private boolean jj_3_120() {
-    if (jj_3R_208()) return true;
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_3R_210()) return true;
+  private boolean jj_3R_420() {
+    if (jj_3R_212()) return true;
     return false;
   }
 
   private boolean jj_3_118() {
-    if (jj_3R_206()) return true;
+    if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
-    if (jj_3R_211()) return true;
+  private boolean jj_3R_421() {
+    if (jj_3R_213()) return true;
     return false;
   }
 
   private boolean jj_3_119() {
-    if (jj_3R_207()) return true;
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_415() {
-    if (jj_3R_209()) return true;
+  private boolean jj_3R_419() {
+    if (jj_3R_211()) return true;
     return false;
   }
 
   private boolean jj_3_117() {
-    if (jj_3R_205()) return true;
+    if (jj_3R_207()) return true;
     return false;
   }
 
   private boolean jj_3_116() {
-    if (jj_3R_204()) return true;
+    if (jj_3R_206()) return true;
     return false;
   }
 
   private boolean jj_3_115() {
-    if (jj_3R_203()) return true;
+    if (jj_3R_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
-    if (jj_3R_208()) return true;
+  private boolean jj_3R_418() {
+    if (jj_3R_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_412() {
-    if (jj_3R_206()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_208()) return true;
     return false;
   }
 
   private boolean jj_3_114() {
-    if (jj_3R_202()) return true;
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_413() {
-    if (jj_3R_207()) return true;
+  private boolean jj_3R_417() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  private boolean jj_3R_411() {
-    if (jj_3R_205()) return true;
+  private boolean jj_3R_415() {
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_3R_204()) return true;
+  private boolean jj_3R_414() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
   private boolean jj_3_112() {
-    if (jj_3R_200()) return true;
+    if (jj_3R_202()) return true;
     return false;
   }
 
   private boolean jj_3_113() {
-    if (jj_3R_201()) return true;
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_409() {
-    if (jj_3R_203()) return true;
+  private boolean jj_3R_413() {
+    if (jj_3R_205()) return true;
     return false;
   }
 
   private boolean jj_3_111() {
-    if (jj_3R_199()) return true;
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_408() {
-    if (jj_3R_202()) return true;
+  private boolean jj_3R_412() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
   private boolean jj_3_110() {
-    if (jj_3R_198()) return true;
+    if (jj_3R_200()) return true;
     return false;
   }
 
   private boolean jj_3_109() {
-    if (jj_3R_197()) return true;
+    if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_3R_200()) return true;
+  private boolean jj_3R_410() {
+    if (jj_3R_202()) return true;
     return false;
   }
 
   private boolean jj_3_108() {
-    if (jj_3R_196()) return true;
+    if (jj_3R_198()) return true;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_201()) return true;
+  private boolean jj_3R_411() {
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_3R_199()) return true;
+  private boolean jj_3R_409() {
+    if (jj_3R_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_404() {
-    if (jj_3R_198()) return true;
+  private boolean jj_3R_408() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_403() {
-    if (jj_3R_197()) return true;
+  private boolean jj_3R_407() {
+    if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_3R_196()) return true;
+  private boolean jj_3R_406() {
+    if (jj_3R_198()) return true;
     return false;
   }
 
   private boolean jj_3_107() {
-    if (jj_3R_195()) return true;
+    if (jj_3R_197()) return true;
     return false;
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_196() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_402()) {
-    jj_scanpos = xsp;
-    if (jj_3R_403()) {
-    jj_scanpos = xsp;
-    if (jj_3R_404()) {
-    jj_scanpos = xsp;
-    if (jj_3R_405()) {
-    jj_scanpos = xsp;
     if (jj_3R_406()) {
     jj_scanpos = xsp;
     if (jj_3R_407()) {
@@ -23159,7 +23534,15 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_418()) {
     jj_scanpos = xsp;
-    if (jj_3R_419()) return true;
+    if (jj_3R_419()) {
+    jj_scanpos = xsp;
+    if (jj_3R_420()) {
+    jj_scanpos = xsp;
+    if (jj_3R_421()) {
+    jj_scanpos = xsp;
+    if (jj_3R_422()) {
+    jj_scanpos = xsp;
+    if (jj_3R_423()) return true;
     }
     }
     }
@@ -23181,389 +23564,389 @@ Token token;
   }
 
   private boolean jj_3_106() {
-    if (jj_3R_194()) return true;
+    if (jj_3R_196()) return true;
     return false;
   }
 
   private boolean jj_3_105() {
-    if (jj_3R_195()) return true;
+    if (jj_3R_197()) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_197() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_175()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_104() {
-    if (jj_3R_194()) return true;
+    if (jj_3R_196()) return true;
     return false;
   }
 
-  private boolean jj_3R_753() {
-    if (jj_3R_195()) return true;
+  private boolean jj_3R_759() {
+    if (jj_3R_197()) return true;
     return false;
   }
 
-  private boolean jj_3R_752() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3R_758() {
+    if (jj_3R_196()) return true;
     return false;
   }
 
-  private boolean jj_3R_751() {
-    if (jj_3R_195()) return true;
+  private boolean jj_3R_757() {
+    if (jj_3R_197()) return true;
     return false;
   }
 
-  private boolean jj_3R_664() {
+  private boolean jj_3R_670() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_752()) {
+    if (jj_3R_758()) {
     jj_scanpos = xsp;
-    if (jj_3R_753()) return true;
+    if (jj_3R_759()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_750() {
-    if (jj_3R_194()) return true;
+  private boolean jj_3R_756() {
+    if (jj_3R_196()) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
+  private boolean jj_3R_669() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_750()) {
+    if (jj_3R_756()) {
     jj_scanpos = xsp;
-    if (jj_3R_751()) return true;
+    if (jj_3R_757()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_550() {
+  private boolean jj_3R_556() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_663()) {
+    if (jj_3R_669()) {
     jj_scanpos = xsp;
-    if (jj_3R_664()) return true;
+    if (jj_3R_670()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_551() {
+  private boolean jj_3R_557() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_550()) return true;
+    if (jj_3R_556()) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
+  private boolean jj_3R_383() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_378()) return true;
+    if (jj_3R_382()) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
-    if (jj_3R_550()) return true;
+  private boolean jj_3R_382() {
+    if (jj_3R_556()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_551()) { jj_scanpos = xsp; break; }
+      if (jj_3R_557()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_173() {
-    if (jj_3R_378()) return true;
+  private boolean jj_3R_175() {
+    if (jj_3R_382()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_379()) { jj_scanpos = xsp; break; }
+      if (jj_3R_383()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_464() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_468() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
+  private boolean jj_3R_540() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_539() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
+  private boolean jj_3R_538() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
+  private boolean jj_3R_357() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_532()) {
+    if (jj_3R_538()) {
     jj_scanpos = xsp;
-    if (jj_3R_533()) {
+    if (jj_3R_539()) {
     jj_scanpos = xsp;
-    if (jj_3R_534()) return true;
+    if (jj_3R_540()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_352() {
+  private boolean jj_3R_356() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_531()) return true;
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_156() {
+  private boolean jj_3R_158() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_352()) {
+    if (jj_3R_356()) {
     jj_scanpos = xsp;
-    if (jj_3R_353()) return true;
+    if (jj_3R_357()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_745() {
+  private boolean jj_3R_751() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_744() {
+  private boolean jj_3R_750() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_653() {
+  private boolean jj_3R_659() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_744()) {
+    if (jj_3R_750()) {
     jj_scanpos = xsp;
-    if (jj_3R_745()) return true;
+    if (jj_3R_751()) return true;
     }
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_652() {
-    if (jj_scan_token(267)) return true;
+  private boolean jj_3R_658() {
+    if (jj_scan_token(269)) return true;
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_537() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_652()) jj_scanpos = xsp;
-    if (jj_3R_160()) return true;
+    if (jj_3R_658()) jj_scanpos = xsp;
+    if (jj_3R_162()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_653()) { jj_scanpos = xsp; break; }
+      if (jj_3R_659()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_942() {
+  private boolean jj_3R_951() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_838() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_845() {
+    if (jj_3R_162()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_942()) { jj_scanpos = xsp; break; }
+      if (jj_3R_951()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_703() {
+  private boolean jj_3R_709() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_702() {
+  private boolean jj_3R_708() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_838()) jj_scanpos = xsp;
+    if (jj_3R_845()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_357() {
+  private boolean jj_3R_361() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
   private boolean jj_3_100() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_356() {
+  private boolean jj_3R_360() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
   private boolean jj_3_99() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_162() {
+  private boolean jj_3R_164() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_356()) {
+    if (jj_3R_360()) {
     jj_scanpos = xsp;
-    if (jj_3R_357()) return true;
+    if (jj_3R_361()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_706() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_712() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
   private boolean jj_3_98() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_705() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_711() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_614() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_620() {
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_706()) jj_scanpos = xsp;
+    if (jj_3R_712()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_704() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_710() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
   private boolean jj_3_103() {
-    if (jj_3R_166()) return true;
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_705()) jj_scanpos = xsp;
+    if (jj_3R_711()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_613() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_619() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
   private boolean jj_3_102() {
-    if (jj_3R_156()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_612() {
+  private boolean jj_3R_618() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_193()) return true;
+    if (jj_3R_195()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_704()) jj_scanpos = xsp;
+    if (jj_3R_710()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_611() {
-    if (jj_3R_703()) return true;
+  private boolean jj_3R_617() {
+    if (jj_3R_709()) return true;
     return false;
   }
 
-  private boolean jj_3R_610() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_616() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_837() {
-    if (jj_3R_543()) return true;
+  private boolean jj_3R_844() {
+    if (jj_3R_549()) return true;
     return false;
   }
 
-  private boolean jj_3R_609() {
-    if (jj_3R_702()) return true;
+  private boolean jj_3R_615() {
+    if (jj_3R_708()) return true;
     return false;
   }
 
-  private boolean jj_3R_637() {
+  private boolean jj_3R_643() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_636()) return true;
+    if (jj_3R_642()) return true;
     return false;
   }
 
-  private boolean jj_3R_701() {
+  private boolean jj_3R_707() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_836()) {
+    if (jj_3R_843()) {
     jj_scanpos = xsp;
-    if (jj_3R_837()) return true;
+    if (jj_3R_844()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_836() {
+  private boolean jj_3R_843() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_542()) return true;
+    if (jj_3R_548()) return true;
     return false;
   }
 
-  private boolean jj_3R_608() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_614() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
-    if (jj_3R_543()) return true;
+  private boolean jj_3R_706() {
+    if (jj_3R_549()) return true;
     return false;
   }
 
-  private boolean jj_3R_699() {
-    if (jj_3R_542()) return true;
+  private boolean jj_3R_705() {
+    if (jj_3R_548()) return true;
     return false;
   }
 
-  private boolean jj_3R_698() {
+  private boolean jj_3R_704() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_607() {
+  private boolean jj_3R_613() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_699()) {
+    if (jj_3R_705()) {
     jj_scanpos = xsp;
-    if (jj_3R_700()) return true;
+    if (jj_3R_706()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_701()) { jj_scanpos = xsp; break; }
+      if (jj_3R_707()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
@@ -23571,45 +23954,45 @@ Token token;
 
   private boolean jj_3_101() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_698()) { jj_scanpos = xsp; break; }
+      if (jj_3R_704()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_612() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
+  private boolean jj_3R_463() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_606()) {
+    if (jj_3R_612()) {
     jj_scanpos = xsp;
     if (jj_3_101()) {
     jj_scanpos = xsp;
-    if (jj_3R_607()) {
+    if (jj_3R_613()) {
     jj_scanpos = xsp;
-    if (jj_3R_608()) {
+    if (jj_3R_614()) {
     jj_scanpos = xsp;
-    if (jj_3R_609()) {
+    if (jj_3R_615()) {
     jj_scanpos = xsp;
-    if (jj_3R_610()) {
+    if (jj_3R_616()) {
     jj_scanpos = xsp;
-    if (jj_3R_611()) {
+    if (jj_3R_617()) {
     jj_scanpos = xsp;
-    if (jj_3R_612()) {
+    if (jj_3R_618()) {
     jj_scanpos = xsp;
-    if (jj_3R_613()) {
+    if (jj_3R_619()) {
     jj_scanpos = xsp;
     if (jj_3_103()) {
     jj_scanpos = xsp;
-    if (jj_3R_614()) return true;
+    if (jj_3R_620()) return true;
     }
     }
     }
@@ -23624,250 +24007,250 @@ Token token;
   }
 
   private boolean jj_3_97() {
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_722() {
+  private boolean jj_3R_728() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_193()) return true;
+    if (jj_3R_195()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_721() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_727() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_642() {
+    if (jj_3R_162()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_721()) {
+    if (jj_3R_727()) {
     jj_scanpos = xsp;
-    if (jj_3R_722()) return true;
+    if (jj_3R_728()) return true;
     }
     return false;
   }
 
   private boolean jj_3_96() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_516() {
+  private boolean jj_3R_522() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_636()) return true;
+    if (jj_3R_642()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_637()) { jj_scanpos = xsp; break; }
+      if (jj_3R_643()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_250() {
-    if (jj_3R_459()) return true;
+  private boolean jj_3R_253() {
+    if (jj_3R_463()) return true;
     return false;
   }
 
-  private boolean jj_3R_571() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_577() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
   private boolean jj_3_95() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_570() {
+  private boolean jj_3R_576() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_569() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_575() {
+    if (jj_3R_593()) return true;
     return false;
   }
 
   private boolean jj_3_94() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_568() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_574() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_396() {
+  private boolean jj_3R_400() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_569()) {
+    if (jj_3R_575()) {
     jj_scanpos = xsp;
-    if (jj_3R_570()) return true;
+    if (jj_3R_576()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_571()) jj_scanpos = xsp;
+    if (jj_3R_577()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_567() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_573() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_395() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_399() {
+    if (jj_3R_167()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_568()) jj_scanpos = xsp;
+    if (jj_3R_574()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_394() {
-    if (jj_3R_566()) return true;
+  private boolean jj_3R_398() {
+    if (jj_3R_572()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_567()) jj_scanpos = xsp;
+    if (jj_3R_573()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_393() {
-    if (jj_3R_486()) return true;
+  private boolean jj_3R_397() {
+    if (jj_3R_490()) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_194() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_393()) {
+    if (jj_3R_397()) {
     jj_scanpos = xsp;
-    if (jj_3R_394()) {
+    if (jj_3R_398()) {
     jj_scanpos = xsp;
-    if (jj_3R_395()) {
+    if (jj_3R_399()) {
     jj_scanpos = xsp;
-    if (jj_3R_396()) return true;
+    if (jj_3R_400()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_391() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_395() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_392() {
-    if (jj_3R_299()) return true;
+  private boolean jj_3R_396() {
+    if (jj_3R_302()) return true;
     return false;
   }
 
   private boolean jj_3_93() {
-    if (jj_3R_193()) return true;
+    if (jj_3R_195()) return true;
     return false;
   }
 
   private boolean jj_3_92() {
-    if (jj_3R_192()) return true;
+    if (jj_3R_194()) return true;
     return false;
   }
 
   private boolean jj_3_91() {
-    if (jj_3R_191()) return true;
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
+  private boolean jj_3R_193() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_93()) {
     jj_scanpos = xsp;
-    if (jj_3R_391()) {
+    if (jj_3R_395()) {
     jj_scanpos = xsp;
-    if (jj_3R_392()) return true;
+    if (jj_3R_396()) return true;
     }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
-    if (jj_3R_192()) return true;
+  private boolean jj_3R_394() {
+    if (jj_3R_194()) return true;
     return false;
   }
 
-  private boolean jj_3R_389() {
-    if (jj_3R_191()) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
+  private boolean jj_3R_192() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_389()) {
+    if (jj_3R_393()) {
     jj_scanpos = xsp;
-    if (jj_3R_390()) return true;
+    if (jj_3R_394()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_189() {
+  private boolean jj_3R_191() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
+  private boolean jj_3R_190() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
+  private boolean jj_3R_189() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_186() {
+  private boolean jj_3R_188() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_185() {
+  private boolean jj_3R_187() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_184() {
+  private boolean jj_3R_186() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_183() {
+  private boolean jj_3R_185() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
+  private boolean jj_3R_184() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
+  private boolean jj_3R_183() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_180() {
+  private boolean jj_3R_182() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_179() {
+  private boolean jj_3R_181() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -23875,10 +24258,6 @@ Token token;
   private boolean jj_3_90() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_179()) {
-    jj_scanpos = xsp;
-    if (jj_3R_180()) {
-    jj_scanpos = xsp;
     if (jj_3R_181()) {
     jj_scanpos = xsp;
     if (jj_3R_182()) {
@@ -23895,7 +24274,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_188()) {
     jj_scanpos = xsp;
-    if (jj_3R_189()) return true;
+    if (jj_3R_189()) {
+    jj_scanpos = xsp;
+    if (jj_3R_190()) {
+    jj_scanpos = xsp;
+    if (jj_3R_191()) return true;
     }
     }
     }
@@ -23906,12 +24289,12 @@ Token token;
     }
     }
     }
-    if (jj_3R_190()) return true;
+    if (jj_3R_192()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
-    if (jj_3R_190()) return true;
+  private boolean jj_3R_180() {
+    if (jj_3R_192()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -23921,59 +24304,59 @@ Token token;
   }
 
   private boolean jj_3_89() {
-    if (jj_3R_178()) return true;
+    if (jj_3R_180()) return true;
     return false;
   }
 
   private boolean jj_3_88() {
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_565() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3R_571() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_564() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_570() {
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_569() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
+  private boolean jj_3R_568() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_561() {
+  private boolean jj_3R_567() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_560() {
+  private boolean jj_3R_566() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_387() {
+  private boolean jj_3R_391() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_560()) {
+    if (jj_3R_566()) {
     jj_scanpos = xsp;
-    if (jj_3R_561()) {
+    if (jj_3R_567()) {
     jj_scanpos = xsp;
-    if (jj_3R_562()) {
+    if (jj_3R_568()) {
     jj_scanpos = xsp;
-    if (jj_3R_563()) {
+    if (jj_3R_569()) {
     jj_scanpos = xsp;
-    if (jj_3R_564()) {
+    if (jj_3R_570()) {
     jj_scanpos = xsp;
-    if (jj_3R_565()) return true;
+    if (jj_3R_571()) return true;
     }
     }
     }
@@ -23982,109 +24365,109 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_388() {
+  private boolean jj_3R_392() {
     if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_387()) return true;
+    if (jj_3R_391()) return true;
     return false;
   }
 
   private boolean jj_3_87() {
-    if (jj_3R_178()) return true;
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_177() {
-    if (jj_3R_387()) return true;
+  private boolean jj_3R_179() {
+    if (jj_3R_391()) return true;
     Token xsp;
-    if (jj_3R_388()) return true;
+    if (jj_3R_392()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_388()) { jj_scanpos = xsp; break; }
+      if (jj_3R_392()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_86() {
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_333() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3R_337() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_332() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_336() {
+    if (jj_3R_180()) return true;
     return false;
   }
 
   private boolean jj_3_85() {
-    if (jj_3R_177()) return true;
+    if (jj_3R_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_335() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_330() {
+  private boolean jj_3R_334() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
+  private boolean jj_3R_333() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_328() {
+  private boolean jj_3R_332() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
   private boolean jj_3_84() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_327() {
-    if (jj_3R_177()) return true;
+  private boolean jj_3R_331() {
+    if (jj_3R_179()) return true;
     return false;
   }
 
   private boolean jj_3_82() {
-    if (jj_3R_174()) return true;
+    if (jj_3R_176()) return true;
     return false;
   }
 
   private boolean jj_3_83() {
-    if (jj_3R_175()) return true;
+    if (jj_3R_177()) return true;
     return false;
   }
 
   private boolean jj_3_81() {
-    if (jj_3R_173()) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
+  private boolean jj_3R_152() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_327()) {
+    if (jj_3R_331()) {
     jj_scanpos = xsp;
-    if (jj_3R_328()) {
+    if (jj_3R_332()) {
     jj_scanpos = xsp;
-    if (jj_3R_329()) {
+    if (jj_3R_333()) {
     jj_scanpos = xsp;
-    if (jj_3R_330()) {
+    if (jj_3R_334()) {
     jj_scanpos = xsp;
-    if (jj_3R_331()) {
+    if (jj_3R_335()) {
     jj_scanpos = xsp;
-    if (jj_3R_332()) {
+    if (jj_3R_336()) {
     jj_scanpos = xsp;
-    if (jj_3R_333()) return true;
+    if (jj_3R_337()) return true;
     }
     }
     }
@@ -24095,62 +24478,62 @@ Token token;
   }
 
   private boolean jj_3_80() {
-    if (jj_3R_172()) return true;
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_386() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_390() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
   private boolean jj_3_79() {
-    if (jj_3R_171()) return true;
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_385() {
+  private boolean jj_3R_389() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_170()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_559() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_565() {
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_388() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_564() {
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_557() {
-    if (jj_3R_172()) return true;
+  private boolean jj_3R_563() {
+    if (jj_3R_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_556() {
-    if (jj_3R_171()) return true;
+  private boolean jj_3R_562() {
+    if (jj_3R_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_383() {
+  private boolean jj_3R_387() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_556()) {
+    if (jj_3R_562()) {
     jj_scanpos = xsp;
-    if (jj_3R_557()) {
+    if (jj_3R_563()) {
     jj_scanpos = xsp;
-    if (jj_3R_558()) {
+    if (jj_3R_564()) {
     jj_scanpos = xsp;
-    if (jj_3R_559()) return true;
+    if (jj_3R_565()) return true;
     }
     }
     }
@@ -24158,292 +24541,251 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_544() {
+  private boolean jj_3R_550() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
   private boolean jj_3_78() {
-    if (jj_3R_170()) return true;
+    if (jj_3R_172()) return true;
     return false;
   }
 
   private boolean jj_3_77() {
-    if (jj_3R_169()) return true;
+    if (jj_3R_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_176() {
+  private boolean jj_3R_178() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_383()) {
+    if (jj_3R_387()) {
     jj_scanpos = xsp;
-    if (jj_3R_384()) {
+    if (jj_3R_388()) {
     jj_scanpos = xsp;
-    if (jj_3R_385()) return true;
+    if (jj_3R_389()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_386()) jj_scanpos = xsp;
+    if (jj_3R_390()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_673() {
-    if (jj_3R_170()) return true;
+  private boolean jj_3R_679() {
+    if (jj_3R_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_672() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_678() {
+    if (jj_3R_171()) return true;
     return false;
   }
 
   private boolean jj_3_76() {
-    if (jj_3R_168()) return true;
+    if (jj_3R_170()) return true;
     return false;
   }
 
   private boolean jj_3_75() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_566() {
+  private boolean jj_3R_572() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_672()) {
+    if (jj_3R_678()) {
     jj_scanpos = xsp;
-    if (jj_3R_673()) return true;
+    if (jj_3R_679()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_372() {
+  private boolean jj_3R_376() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_371() {
-    if (jj_3R_168()) return true;
+  private boolean jj_3R_375() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
   private boolean jj_3_74() {
-    if (jj_3R_167()) return true;
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_370() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_374() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
   private boolean jj_3_73() {
-    if (jj_3R_166()) return true;
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
+  private boolean jj_3R_172() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_370()) {
+    if (jj_3R_374()) {
     jj_scanpos = xsp;
-    if (jj_3R_371()) {
+    if (jj_3R_375()) {
     jj_scanpos = xsp;
-    if (jj_3R_372()) return true;
+    if (jj_3R_376()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_369() {
-    if (jj_3R_167()) return true;
+  private boolean jj_3R_373() {
+    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_368() {
+  private boolean jj_3R_372() {
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_367() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_371() {
+    if (jj_3R_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
+  private boolean jj_3R_561() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
+  private boolean jj_3R_171() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_367()) {
+    if (jj_3R_371()) {
     jj_scanpos = xsp;
-    if (jj_3R_368()) {
+    if (jj_3R_372()) {
     jj_scanpos = xsp;
-    if (jj_3R_369()) return true;
+    if (jj_3R_373()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_386() {
+    if (jj_3R_152()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_555()) { jj_scanpos = xsp; break; }
+      if (jj_3R_561()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_175() {
+  private boolean jj_3R_177() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_382()) jj_scanpos = xsp;
+    if (jj_3R_386()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_365() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_369() {
+    if (jj_3R_152()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_544()) { jj_scanpos = xsp; break; }
+      if (jj_3R_550()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_364() {
+  private boolean jj_3R_368() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_363() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_367() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_166() {
+  private boolean jj_3R_168() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_363()) {
+    if (jj_3R_367()) {
     jj_scanpos = xsp;
-    if (jj_3R_364()) return true;
+    if (jj_3R_368()) return true;
     }
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_365()) jj_scanpos = xsp;
+    if (jj_3R_369()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_168() {
+  private boolean jj_3R_170() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_541() {
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_549() {
-    if (jj_scan_token(ELLIPSIS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_548() {
-    if (jj_scan_token(RANGE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_377() {
-    if (jj_3R_547()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_548()) {
-    jj_scanpos = xsp;
-    if (jj_3R_549()) return true;
-    }
-    if (jj_3R_547()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_376() {
-    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_375() {
-    if (jj_scan_token(INTEGER_RANGE)) return true;
+  private boolean jj_3_162() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3_161() {
-    if (jj_3R_69()) return true;
+  private boolean jj_3R_547() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_1005() {
-    if (jj_3R_980()) return true;
+  private boolean jj_3R_1016() {
+    if (jj_3R_991()) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_375()) {
-    jj_scanpos = xsp;
-    if (jj_3R_376()) {
-    jj_scanpos = xsp;
-    if (jj_3R_377()) return true;
-    }
-    }
+  private boolean jj_3R_1015() {
+    if (jj_3R_992()) return true;
     return false;
   }
 
-  private boolean jj_3R_1004() {
-    if (jj_3R_981()) return true;
+  private boolean jj_3R_1014() {
+    if (jj_3R_315()) return true;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_380()) return true;
+  private boolean jj_3R_555() {
+    if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_1003() {
-    if (jj_3R_311()) return true;
+  private boolean jj_3R_554() {
+    if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1002() {
-    if (jj_3R_69()) return true;
+  private boolean jj_3R_1013() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_997() {
+  private boolean jj_3R_1008() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1002()) {
+    if (jj_3R_1013()) {
     jj_scanpos = xsp;
-    if (jj_3R_1003()) {
+    if (jj_3R_1014()) {
     jj_scanpos = xsp;
-    if (jj_3R_1004()) {
+    if (jj_3R_1015()) {
     jj_scanpos = xsp;
-    if (jj_3R_1005()) {
+    if (jj_3R_1016()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(194)) return true;
+    if (jj_scan_token(196)) return true;
     }
     }
     }
@@ -24451,113 +24793,75 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_72() {
-    if (jj_3R_68()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_174() {
-    if (jj_3R_380()) return true;
+  private boolean jj_3R_381() {
+    if (jj_3R_553()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_381()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_554()) {
+    jj_scanpos = xsp;
+    if (jj_3R_555()) return true;
     }
+    if (jj_3R_553()) return true;
     return false;
   }
 
-  private boolean jj_3_71() {
-    if (jj_3R_165()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_980() {
+  private boolean jj_3R_991() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_175()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_997()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1008()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_662() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
-    return false;
-  }
-
-  private boolean jj_3_160() {
-    if (jj_3R_69()) return true;
-    return false;
-  }
-
-  private boolean jj_3_70() {
-    if (jj_3R_150()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_661() {
-    if (jj_3R_165()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_1009() {
-    if (jj_3R_980()) return true;
-    return false;
-  }
-
-  private boolean jj_3_69() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3_161() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_1008() {
-    if (jj_3R_981()) return true;
+  private boolean jj_3R_1020() {
+    if (jj_3R_991()) return true;
     return false;
   }
 
-  private boolean jj_3R_1007() {
-    if (jj_3R_311()) return true;
+  private boolean jj_3R_380() {
+    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3_68() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_1019() {
+    if (jj_3R_992()) return true;
     return false;
   }
 
-  private boolean jj_3R_547() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_661()) {
-    jj_scanpos = xsp;
-    if (jj_3R_662()) return true;
-    }
+  private boolean jj_3R_1018() {
+    if (jj_3R_315()) return true;
     return false;
   }
 
-  private boolean jj_3R_1006() {
-    if (jj_3R_69()) return true;
+  private boolean jj_3R_1017() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_998() {
+  private boolean jj_3R_1009() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1006()) {
+    if (jj_3R_1017()) {
     jj_scanpos = xsp;
-    if (jj_3R_1007()) {
+    if (jj_3R_1018()) {
     jj_scanpos = xsp;
-    if (jj_3R_1008()) {
+    if (jj_3R_1019()) {
     jj_scanpos = xsp;
-    if (jj_3R_1009()) {
+    if (jj_3R_1020()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(194)) return true;
+    if (jj_scan_token(196)) return true;
     }
     }
     }
@@ -24565,278 +24869,312 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_554() {
-    if (jj_3R_150()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_553() {
-    if (jj_3R_165()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_552() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_379() {
+    if (jj_scan_token(INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_981() {
+  private boolean jj_3R_992() {
     if (jj_scan_token(FOREACH)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     if (jj_scan_token(IN)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_998()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1009()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_380() {
+  private boolean jj_3R_174() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_552()) {
+    if (jj_3R_379()) {
     jj_scanpos = xsp;
-    if (jj_3R_553()) {
+    if (jj_3R_380()) {
     jj_scanpos = xsp;
-    if (jj_3R_554()) return true;
+    if (jj_3R_381()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_749() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_385() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_384()) return true;
     return false;
   }
 
-  private boolean jj_3R_875() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3_72() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_748() {
-    if (jj_3R_540()) return true;
-    return false;
+  private boolean jj_3R_176() {
+    if (jj_3R_384()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_385()) { jj_scanpos = xsp; break; }
+    }
+    return false;
   }
 
-  private boolean jj_3R_874() {
-    if (jj_scan_token(BANG)) return true;
+  private boolean jj_3_71() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
+  private boolean jj_3R_111() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_162()) return true;
+    if (jj_3R_152()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_697() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_515() {
+    if (jj_scan_token(280)) return true;
     return false;
   }
 
-  private boolean jj_3R_747() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_874()) jj_scanpos = xsp;
-    if (jj_3R_150()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_875()) jj_scanpos = xsp;
+  private boolean jj_3R_668() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_746() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3_70() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_scan_token(278)) return true;
+  private boolean jj_3R_667() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_301() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_510()) {
+    if (jj_3R_514()) {
     jj_scanpos = xsp;
-    if (jj_3R_511()) return true;
+    if (jj_3R_515()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_510() {
-    if (jj_scan_token(277)) return true;
+  private boolean jj_3R_514() {
+    if (jj_scan_token(279)) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
+  private boolean jj_3_69() {
+    if (jj_3R_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3_68() {
+    if (jj_3R_166()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_553() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_746()) {
+    if (jj_3R_667()) {
     jj_scanpos = xsp;
-    if (jj_3R_747()) return true;
+    if (jj_3R_668()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_748()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_749()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_696() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_560() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_109() {
+  private boolean jj_3R_110() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_298()) jj_scanpos = xsp;
+    if (jj_3R_301()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_scan_token(276)) return true;
+  private boolean jj_3R_559() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_297() {
+  private boolean jj_3R_513() {
+    if (jj_scan_token(278)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_558() {
+    if (jj_3R_166()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_300() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_508()) {
+    if (jj_3R_512()) {
     jj_scanpos = xsp;
-    if (jj_3R_509()) return true;
+    if (jj_3R_513()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_508() {
-    if (jj_scan_token(275)) return true;
+  private boolean jj_3R_512() {
+    if (jj_scan_token(277)) return true;
     return false;
   }
 
-  private boolean jj_3R_656() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_655()) return true;
+  private boolean jj_3R_384() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_558()) {
+    jj_scanpos = xsp;
+    if (jj_3R_559()) {
+    jj_scanpos = xsp;
+    if (jj_3R_560()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_108() {
+  private boolean jj_3R_109() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_297()) { jj_scanpos = xsp; break; }
+      if (jj_3R_300()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_540() {
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_655()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_656()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_755() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_106() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(REMOVE)) return true;
-    if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_882() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_507() {
-    if (jj_scan_token(274)) return true;
+  private boolean jj_3R_754() {
+    if (jj_3R_546()) return true;
     return false;
   }
 
-  private boolean jj_3R_359() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_541()) return true;
+  private boolean jj_3R_881() {
+    if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_358() {
-    if (jj_3R_540()) return true;
+  private boolean jj_3R_703() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_506() {
-    if (jj_scan_token(273)) return true;
+  private boolean jj_3R_753() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_881()) jj_scanpos = xsp;
+    if (jj_3R_152()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_882()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_505() {
-    if (jj_scan_token(272)) return true;
+  private boolean jj_3R_107() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(SERVER)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_511() {
+    if (jj_scan_token(276)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_752() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_661() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_358()) jj_scanpos = xsp;
+    if (jj_3R_752()) {
+    jj_scanpos = xsp;
+    if (jj_3R_753()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_754()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_359()) jj_scanpos = xsp;
+    if (jj_3R_755()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_504() {
-    if (jj_scan_token(271)) return true;
+  private boolean jj_3R_510() {
+    if (jj_scan_token(275)) return true;
     return false;
   }
 
-  private boolean jj_3R_503() {
-    if (jj_scan_token(270)) return true;
+  private boolean jj_3R_702() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3_67() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_509() {
+    if (jj_scan_token(274)) return true;
     return false;
   }
 
-  private boolean jj_3R_296() {
+  private boolean jj_3R_508() {
+    if (jj_scan_token(273)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_507() {
+    if (jj_scan_token(272)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_299() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_502()) {
+    if (jj_3R_506()) {
     jj_scanpos = xsp;
-    if (jj_3R_503()) {
+    if (jj_3R_507()) {
     jj_scanpos = xsp;
-    if (jj_3R_504()) {
+    if (jj_3R_508()) {
     jj_scanpos = xsp;
-    if (jj_3R_505()) {
+    if (jj_3R_509()) {
     jj_scanpos = xsp;
-    if (jj_3R_506()) {
+    if (jj_3R_510()) {
     jj_scanpos = xsp;
-    if (jj_3R_507()) return true;
+    if (jj_3R_511()) return true;
     }
     }
     }
@@ -24845,194 +25183,176 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_502() {
-    if (jj_scan_token(269)) return true;
+  private boolean jj_3R_506() {
+    if (jj_scan_token(271)) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_163()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_697()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_662() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_661()) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_108() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(STATUS)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_696()) { jj_scanpos = xsp; break; }
+      if (jj_3R_299()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_107() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(STATUS)) return true;
+  private boolean jj_3R_828() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_546() {
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_661()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_296()) { jj_scanpos = xsp; break; }
+      if (jj_3R_662()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_454() {
+  private boolean jj_3R_98() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(SEQUENCE)) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_602()) {
-    jj_scanpos = xsp;
-    if (jj_3R_603()) return true;
-    }
+    if (jj_3R_828()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_821() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_939() {
+    if (jj_scan_token(NOLIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_658() {
-    if (jj_scan_token(SKIP2)) return true;
+  private boolean jj_3R_363() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_547()) return true;
     return false;
   }
 
-  private boolean jj_3R_660() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_362() {
+    if (jj_3R_546()) return true;
     return false;
   }
 
-  private boolean jj_3R_657() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_938() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_659() {
-    if (jj_scan_token(LIMIT)) return true;
+  private boolean jj_3R_988() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_160()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_821()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_932() {
-    if (jj_scan_token(NOLIMIT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_931() {
-    if (jj_scan_token(DESC)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_977() {
-    if (jj_scan_token(FALSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_930() {
+  private boolean jj_3R_937() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_929() {
+  private boolean jj_3R_936() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_976() {
+  private boolean jj_3R_987() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_543() {
-    if (jj_scan_token(COLON)) return true;
+  private boolean jj_3R_165() {
+    if (jj_3R_152()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_657()) {
-    jj_scanpos = xsp;
-    if (jj_3R_658()) {
-    jj_scanpos = xsp;
-    if (jj_3R_659()) {
-    jj_scanpos = xsp;
-    if (jj_3R_660()) return true;
-    }
-    }
-    }
+    if (jj_3R_362()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_363()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_455() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3_67() {
+    if (jj_3R_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_928() {
-    if (jj_scan_token(CYCLE)) return true;
+  private boolean jj_3R_609() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_165()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_976()) {
-    jj_scanpos = xsp;
-    if (jj_3R_977()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_703()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_542() {
-    if (jj_scan_token(HOOK)) return true;
+  private boolean jj_3R_935() {
+    if (jj_scan_token(CYCLE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_987()) {
+    jj_scanpos = xsp;
+    if (jj_3R_988()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_927() {
+  private boolean jj_3R_934() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_926() {
-    if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_608() {
+    if (jj_3R_165()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_702()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_362() {
-    if (jj_3R_543()) return true;
+  private boolean jj_3R_933() {
+    if (jj_scan_token(INCREMENT)) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_820() {
+  private boolean jj_3R_827() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_925()) {
+    if (jj_3R_932()) {
     jj_scanpos = xsp;
-    if (jj_3R_926()) {
+    if (jj_3R_933()) {
     jj_scanpos = xsp;
-    if (jj_3R_927()) {
+    if (jj_3R_934()) {
     jj_scanpos = xsp;
-    if (jj_3R_928()) {
+    if (jj_3R_935()) {
     jj_scanpos = xsp;
-    if (jj_3R_929()) {
+    if (jj_3R_936()) {
     jj_scanpos = xsp;
-    if (jj_3R_930()) {
+    if (jj_3R_937()) {
     jj_scanpos = xsp;
-    if (jj_3R_931()) {
+    if (jj_3R_938()) {
     jj_scanpos = xsp;
-    if (jj_3R_932()) return true;
+    if (jj_3R_939()) return true;
     }
     }
     }
@@ -25043,160 +25363,147 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_925() {
+  private boolean jj_3R_932() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_150()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_361() {
-    if (jj_3R_542()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
+  private boolean jj_3R_458() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_361()) {
+    if (jj_3R_608()) {
     jj_scanpos = xsp;
-    if (jj_3R_362()) return true;
+    if (jj_3R_609()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_95() {
+  private boolean jj_3R_664() {
+    if (jj_scan_token(SKIP2)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_666() {
+    if (jj_scan_token(FROM)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_96() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_820()) { jj_scanpos = xsp; break; }
+      if (jj_3R_827()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_924() {
-    if (jj_scan_token(DESC)) return true;
+  private boolean jj_3R_663() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_249() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_665() {
+    if (jj_scan_token(LIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_975() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_931() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_457()) return true;
+  private boolean jj_3R_986() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_923() {
+  private boolean jj_3R_930() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_456()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_246() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_922() {
+  private boolean jj_3R_929() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_974() {
+  private boolean jj_3R_985() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_245() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_549() {
+    if (jj_scan_token(COLON)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_663()) {
+    jj_scanpos = xsp;
+    if (jj_3R_664()) {
+    jj_scanpos = xsp;
+    if (jj_3R_665()) {
+    jj_scanpos = xsp;
+    if (jj_3R_666()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_244() {
-    if (jj_3R_160()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_455()) jj_scanpos = xsp;
+  private boolean jj_3R_459() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_921() {
+  private boolean jj_3R_928() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_974()) {
+    if (jj_3R_985()) {
     jj_scanpos = xsp;
-    if (jj_3R_975()) return true;
+    if (jj_3R_986()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_920() {
+  private boolean jj_3R_927() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_919() {
+  private boolean jj_3R_926() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_88() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_244()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_245()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_150()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_150()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_246()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_247()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_248()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_249()) jj_scanpos = xsp;
+  private boolean jj_3R_548() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3R_822() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_918()) {
+    if (jj_3R_925()) {
     jj_scanpos = xsp;
-    if (jj_3R_919()) {
+    if (jj_3R_926()) {
     jj_scanpos = xsp;
-    if (jj_3R_920()) {
+    if (jj_3R_927()) {
     jj_scanpos = xsp;
-    if (jj_3R_921()) {
+    if (jj_3R_928()) {
     jj_scanpos = xsp;
-    if (jj_3R_922()) {
+    if (jj_3R_929()) {
     jj_scanpos = xsp;
-    if (jj_3R_923()) {
+    if (jj_3R_930()) {
     jj_scanpos = xsp;
-    if (jj_3R_924()) return true;
+    if (jj_3R_931()) return true;
     }
     }
     }
@@ -25206,183 +25513,194 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_918() {
+  private boolean jj_3R_925() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_150()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_819() {
-    if (jj_3R_458()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_818() {
-    if (jj_3R_460()) return true;
+  private boolean jj_3R_366() {
+    if (jj_3R_549()) return true;
     return false;
   }
 
-  private boolean jj_3R_817() {
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_365() {
+    if (jj_3R_548()) return true;
     return false;
   }
 
-  private boolean jj_3R_816() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_167() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_365()) {
+    jj_scanpos = xsp;
+    if (jj_3R_366()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_814() {
+  private boolean jj_3R_821() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_300() {
-    if (jj_scan_token(MOVE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_459()) return true;
-    if (jj_scan_token(TO)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_816()) {
-    jj_scanpos = xsp;
-    if (jj_3R_817()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_818()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_819()) jj_scanpos = xsp;
+  private boolean jj_3R_252() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3_66() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_251() {
+    if (jj_3R_461()) return true;
     return false;
   }
 
-  private boolean jj_3_65() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_250() {
+    if (jj_3R_460()) return true;
     return false;
   }
 
-  private boolean jj_3R_83() {
+  private boolean jj_3R_249() {
+    if (jj_3R_159()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_84() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_814()) jj_scanpos = xsp;
+    if (jj_3R_821()) jj_scanpos = xsp;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_815()) { jj_scanpos = xsp; break; }
+      if (jj_3R_822()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_453() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_248() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_242() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_247() {
+    if (jj_3R_162()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_459()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_64() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_1012() {
+    if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_241() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_314() {
+    if (jj_scan_token(CONSOLE)) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_240() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_1007() {
+    if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_84() {
+  private boolean jj_3R_89() {
     if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_157()) return true;
+    if (jj_scan_token(EDGE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_247()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_248()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_152()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_152()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_249()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_250()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_251()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_252()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1001() {
-    if (jj_scan_token(FAIL)) return true;
+  private boolean jj_3R_826() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_310() {
-    if (jj_scan_token(CONSOLE)) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_825() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_996() {
-    if (jj_scan_token(FAIL)) return true;
+  private boolean jj_3R_313() {
+    if (jj_scan_token(SLEEP)) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_239() {
-    if (jj_3R_160()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_453()) jj_scanpos = xsp;
+  private boolean jj_3_160() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_309() {
-    if (jj_scan_token(SLEEP)) return true;
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_950() {
+    if (jj_3R_992()) return true;
     return false;
   }
 
-  private boolean jj_3_159() {
-    if (jj_3R_69()) return true;
+  private boolean jj_3R_824() {
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_941() {
-    if (jj_3R_981()) return true;
+  private boolean jj_3R_949() {
+    if (jj_3R_991()) return true;
     return false;
   }
 
-  private boolean jj_3R_940() {
-    if (jj_3R_980()) return true;
+  private boolean jj_3R_823() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_939() {
-    if (jj_3R_311()) return true;
+  private boolean jj_3R_948() {
+    if (jj_3R_315()) return true;
     return false;
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_947() {
+    if (jj_3R_70()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_842() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_938()) {
+    if (jj_3R_947()) {
     jj_scanpos = xsp;
-    if (jj_3R_939()) {
+    if (jj_3R_948()) {
     jj_scanpos = xsp;
-    if (jj_3R_940()) {
+    if (jj_3R_949()) {
     jj_scanpos = xsp;
-    if (jj_3R_941()) {
+    if (jj_3R_950()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(194)) return true;
+    if (jj_scan_token(196)) return true;
     }
     }
     }
@@ -25390,374 +25708,507 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_938() {
-    if (jj_3R_69()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_85() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_303() {
+    if (jj_scan_token(MOVE)) return true;
     if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_463()) return true;
+    if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_239()) {
+    if (jj_3R_823()) {
     jj_scanpos = xsp;
-    if (jj_3R_240()) return true;
+    if (jj_3R_824()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_241()) jj_scanpos = xsp;
+    if (jj_3R_825()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_242()) jj_scanpos = xsp;
+    if (jj_3R_826()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_243() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3_66() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_86() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_160()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_243()) jj_scanpos = xsp;
+  private boolean jj_3_65() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_311() {
+  private boolean jj_3R_315() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_175()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_835()) { jj_scanpos = xsp; break; }
+      if (jj_3R_842()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_515() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_521() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_539() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_457() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_245() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3_64() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_1000() {
+  private boolean jj_3R_244() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_3R_458()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_243() {
+    if (jj_3R_164()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_85() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_159()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1011() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_308() {
+  private boolean jj_3R_312() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_515()) jj_scanpos = xsp;
+    if (jj_3R_521()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_354() {
-    if (jj_scan_token(CONTENT)) return true;
+  private boolean jj_3R_242() {
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_538()) {
-    jj_scanpos = xsp;
-    if (jj_3R_539()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_537() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_457()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_995() {
+  private boolean jj_3R_1006() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_994() {
+  private boolean jj_3R_1005() {
     if (jj_scan_token(AND)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1000()) {
+    if (jj_3R_1011()) {
     jj_scanpos = xsp;
-    if (jj_3R_1001()) return true;
+    if (jj_3R_1012()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_979() {
+  private boolean jj_3R_990() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_995()) {
+    if (jj_3R_1006()) {
     jj_scanpos = xsp;
-    if (jj_3R_996()) return true;
+    if (jj_3R_1007()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_307() {
+  private boolean jj_3R_311() {
     if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_993() {
-    if (jj_3R_231()) return true;
+  private boolean jj_3R_1004() {
+    if (jj_3R_234()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_654() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_86() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_242()) {
+    jj_scanpos = xsp;
+    if (jj_3R_243()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_244()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_245()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_978() {
+  private boolean jj_3R_989() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    if (jj_3R_993()) return true;
+    if (jj_3R_1004()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_993()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1004()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_994()) jj_scanpos = xsp;
+    if (jj_3R_1005()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_63() {
-    if (jj_scan_token(SET)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_150()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_537()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_246() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_937() {
+  private boolean jj_3R_946() {
     if (jj_scan_token(ELSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_978()) {
+    if (jj_3R_989()) {
     jj_scanpos = xsp;
-    if (jj_3R_979()) return true;
+    if (jj_3R_990()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_536() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_87() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_654()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_246()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_514() {
+  private boolean jj_3R_520() {
     if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_937()) jj_scanpos = xsp;
+    if (jj_3R_946()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_535() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_545() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_306() {
+  private boolean jj_3R_88() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_544() {
+    if (jj_3R_231()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_310() {
     if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_514()) jj_scanpos = xsp;
+    if (jj_3R_520()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_158() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3_159() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
+  private boolean jj_3R_519() {
     if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3_157() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3R_358() {
+    if (jj_scan_token(CONTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_544()) {
+    jj_scanpos = xsp;
+    if (jj_3R_545()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_161() {
+  private boolean jj_3R_543() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_305() {
+  private boolean jj_3_158() {
+    if (jj_3R_232()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_309() {
     if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_513()) jj_scanpos = xsp;
+    if (jj_3R_519()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_695() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_701() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
-    if (jj_3R_231()) return true;
+  private boolean jj_3R_700() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3_62() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_660() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_152()) return true;
+    return false;
+  }
+
+  private boolean jj_3_63() {
+    if (jj_scan_token(SET)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_152()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_161()) { jj_scanpos = xsp; break; }
+      if (jj_3R_543()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(VALUES)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_607() {
+    if (jj_scan_token(LET)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(EQ)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_700()) {
+    jj_scanpos = xsp;
+    if (jj_3R_701()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_542() {
+    if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
+    Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_535()) { jj_scanpos = xsp; break; }
+      if (jj_3R_660()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_541() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_152()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_1003() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_162()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_83() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_162()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_984() {
+    if (jj_3R_162()) return true;
+    Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_536()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1003()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_60() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_163() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_601() {
-    if (jj_scan_token(LET)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(EQ)) return true;
+  private boolean jj_3R_924() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_984()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_923() {
+    if (jj_3R_162()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_820() {
+    if (jj_scan_token(ROLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_694()) {
+    if (jj_3R_923()) {
     jj_scanpos = xsp;
-    if (jj_3R_695()) return true;
+    if (jj_3R_924()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_754() {
+  private boolean jj_3R_819() {
+    if (jj_3R_593()) return true;
+    return false;
+  }
+
+  private boolean jj_3_62() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_162()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_163()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(VALUES)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_152()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_541()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_542()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_818() {
+    if (jj_3R_162()) return true;
+    return false;
+  }
+
+  private boolean jj_3_60() {
+    if (jj_3R_150()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_760() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
+  private boolean jj_3R_159() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_62()) {
     jj_scanpos = xsp;
     if (jj_3_63()) {
     jj_scanpos = xsp;
-    if (jj_3R_354()) return true;
+    if (jj_3R_358()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_159() {
-    if (jj_3R_355()) return true;
+  private boolean jj_3R_161() {
+    if (jj_3R_359()) return true;
     return false;
   }
 
-  private boolean jj_3R_992() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_82() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(IDENTIFIED)) return true;
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_818()) {
+    jj_scanpos = xsp;
+    if (jj_3R_819()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_820()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_158() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_160() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_82() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3_59() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3_59() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_817() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
+  private boolean jj_3R_922() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_677() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_973() {
-    if (jj_3R_160()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_992()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_921() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_890() {
-    if (jj_3R_355()) return true;
+  private boolean jj_3R_897() {
+    if (jj_3R_359()) return true;
     return false;
   }
 
@@ -25765,548 +26216,536 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_158()) {
+    if (jj_3R_160()) {
     jj_scanpos = xsp;
-    if (jj_3R_159()) return true;
+    if (jj_3R_161()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_889() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_816() {
+    if (jj_scan_token(IDEMPOTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_921()) {
+    jj_scanpos = xsp;
+    if (jj_3R_922()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_917() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_973()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_896() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_756() {
+  private boolean jj_3R_920() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_162()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_762() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_889()) {
+    if (jj_3R_896()) {
     jj_scanpos = xsp;
-    if (jj_3R_890()) return true;
+    if (jj_3R_897()) return true;
     }
     return false;
   }
 
   private boolean jj_3_58() {
-    if (jj_3R_157()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_916() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_159()) return true;
     return false;
   }
 
   private boolean jj_3_57() {
-    if (jj_3R_156()) return true;
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_755() {
+  private boolean jj_3R_761() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_813() {
-    if (jj_scan_token(ROLE)) return true;
+  private boolean jj_3R_815() {
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_916()) {
-    jj_scanpos = xsp;
-    if (jj_3R_917()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_920()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_670() {
+  private boolean jj_3R_676() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_755()) jj_scanpos = xsp;
+    if (jj_3R_761()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_756()) {
+    if (jj_3R_762()) {
     jj_scanpos = xsp;
     if (jj_3_61()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_812() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_673() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_667() {
+  private boolean jj_3R_672() {
     if (jj_3R_162()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_811() {
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_666() {
-    if (jj_3R_160()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_754()) jj_scanpos = xsp;
+    if (jj_3R_760()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_669() {
+  private boolean jj_3R_675() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_454()) return true;
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_668() {
-    if (jj_3R_157()) return true;
+  private boolean jj_3R_674() {
+    if (jj_3R_159()) return true;
     return false;
   }
 
-  private boolean jj_3R_665() {
-    if (jj_3R_156()) return true;
+  private boolean jj_3R_671() {
+    if (jj_3R_158()) return true;
     return false;
   }
 
-  private boolean jj_3R_846() {
+  private boolean jj_3R_853() {
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
   private boolean jj_3R_81() {
     if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(IDENTIFIED)) return true;
-    if (jj_scan_token(BY)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_3R_593()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_811()) {
-    jj_scanpos = xsp;
-    if (jj_3R_812()) return true;
-    }
+    if (jj_3R_815()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_813()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_810() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_816()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_817()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_915() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_841() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_839()) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
+  private boolean jj_3R_302() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_665()) {
+    if (jj_3R_671()) {
     jj_scanpos = xsp;
-    if (jj_3R_666()) {
+    if (jj_3R_672()) {
     jj_scanpos = xsp;
-    if (jj_3R_667()) return true;
+    if (jj_3R_673()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_668()) jj_scanpos = xsp;
+    if (jj_3R_674()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_669()) jj_scanpos = xsp;
+    if (jj_3R_675()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_670()) jj_scanpos = xsp;
+    if (jj_3R_676()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_671()) jj_scanpos = xsp;
+    if (jj_3R_677()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_914() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_809() {
-    if (jj_scan_token(IDEMPOTENT)) return true;
+  private boolean jj_3R_308() {
+    if (jj_scan_token(REVOKE)) return true;
+    if (jj_3R_518()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_839()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_914()) {
-    jj_scanpos = xsp;
-    if (jj_3R_915()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_841()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_913() {
+  private boolean jj_3R_715() {
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_152()) return true;
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_709() {
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_150()) return true;
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_840() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_839()) return true;
     return false;
   }
 
-  private boolean jj_3R_808() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_723() {
+    if (jj_3R_152()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_853()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_852() {
+    if (jj_3R_178()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_307() {
+    if (jj_scan_token(GRANT)) return true;
+    if (jj_3R_518()) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_839()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_913()) { jj_scanpos = xsp; break; }
+      if (jj_3R_840()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RBRACKET)) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_721() {
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_846()) jj_scanpos = xsp;
+    if (jj_3R_852()) jj_scanpos = xsp;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_845() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_945() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_80() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_3R_587()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_808()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_809()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_810()) jj_scanpos = xsp;
+  private boolean jj_3R_944() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_715() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_851() {
+    if (jj_scan_token(SLASHASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_943() {
+    if (jj_scan_token(CLUSTER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_848() {
+    if (jj_scan_token(PLUSASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_850() {
+    if (jj_scan_token(STARASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_847() {
+    if (jj_scan_token(EQ)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_849() {
+    if (jj_scan_token(MINUSASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_477() {
+    if (jj_scan_token(COUNT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_839() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_845()) jj_scanpos = xsp;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_943()) {
+    jj_scanpos = xsp;
+    if (jj_3R_944()) {
+    jj_scanpos = xsp;
+    if (jj_3R_945()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_834() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_832()) return true;
+  private boolean jj_3R_846() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_844() {
-    if (jj_scan_token(SLASHASSIGN)) return true;
+  private boolean jj_3R_641() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_841() {
-    if (jj_scan_token(PLUSASSIGN)) return true;
+  private boolean jj_3R_640() {
+    if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_843() {
-    if (jj_scan_token(STARASSIGN)) return true;
+  private boolean jj_3R_639() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_840() {
-    if (jj_scan_token(EQ)) return true;
+  private boolean jj_3R_638() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_842() {
-    if (jj_scan_token(MINUSASSIGN)) return true;
+  private boolean jj_3R_724() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_723()) return true;
     return false;
   }
 
-  private boolean jj_3R_473() {
-    if (jj_scan_token(COUNT)) return true;
+  private boolean jj_3R_637() {
+    if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_839() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_636() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_304() {
-    if (jj_scan_token(REVOKE)) return true;
-    if (jj_3R_512()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_832()) return true;
+  private boolean jj_3R_713() {
+    if (jj_3R_162()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_834()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_846()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_847()) {
+    jj_scanpos = xsp;
+    if (jj_3R_848()) {
+    jj_scanpos = xsp;
+    if (jj_3R_849()) {
+    jj_scanpos = xsp;
+    if (jj_3R_850()) {
+    jj_scanpos = xsp;
+    if (jj_3R_851()) return true;
     }
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_160()) return true;
+    }
+    }
+    }
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_717()) return true;
+  private boolean jj_3R_635() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_833() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_832()) return true;
+  private boolean jj_3R_722() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_721()) return true;
     return false;
   }
 
-  private boolean jj_3R_707() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_518() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_839()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_840()) {
+    if (jj_3R_635()) {
     jj_scanpos = xsp;
-    if (jj_3R_841()) {
+    if (jj_3R_636()) {
     jj_scanpos = xsp;
-    if (jj_3R_842()) {
+    if (jj_3R_637()) {
     jj_scanpos = xsp;
-    if (jj_3R_843()) {
+    if (jj_3R_638()) {
     jj_scanpos = xsp;
-    if (jj_3R_844()) return true;
+    if (jj_3R_639()) {
+    jj_scanpos = xsp;
+    if (jj_3R_640()) {
+    jj_scanpos = xsp;
+    if (jj_3R_641()) return true;
+    }
+    }
     }
     }
     }
     }
-    if (jj_3R_150()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_716() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_715()) return true;
     return false;
   }
 
-  private boolean jj_3R_619() {
+  private boolean jj_3R_625() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_717()) return true;
+    if (jj_3R_723()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_718()) { jj_scanpos = xsp; break; }
+      if (jj_3R_724()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_714() {
+  private boolean jj_3R_720() {
     if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_713() {
+  private boolean jj_3R_719() {
     if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_303() {
-    if (jj_scan_token(GRANT)) return true;
-    if (jj_3R_512()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_832()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_833()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_149() {
+    if (jj_scan_token(PROFILE)) return true;
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_712() {
+  private boolean jj_3R_718() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_711() {
+  private boolean jj_3R_717() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_936() {
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_618() {
+  private boolean jj_3R_624() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_713()) {
+    if (jj_3R_719()) {
     jj_scanpos = xsp;
-    if (jj_3R_714()) return true;
+    if (jj_3R_720()) return true;
     }
-    if (jj_3R_715()) return true;
+    if (jj_3R_721()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_716()) { jj_scanpos = xsp; break; }
+      if (jj_3R_722()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_935() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_716() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_715()) return true;
     return false;
   }
 
-  private boolean jj_3R_934() {
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_606() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_710() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_709()) return true;
+  private boolean jj_3R_476() {
+    if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
-    if (jj_scan_token(AFTER)) return true;
+  private boolean jj_3R_813() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_832() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_934()) {
-    jj_scanpos = xsp;
-    if (jj_3R_935()) {
-    jj_scanpos = xsp;
-    if (jj_3R_936()) return true;
-    }
-    }
+  private boolean jj_3R_814() {
+    if (jj_scan_token(INVERSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_617() {
+  private boolean jj_3R_623() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_711()) {
+    if (jj_3R_717()) {
     jj_scanpos = xsp;
-    if (jj_3R_712()) return true;
+    if (jj_3R_718()) return true;
     }
-    if (jj_3R_228()) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_635() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_812() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_708() {
+  private boolean jj_3R_714() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_707()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_634() {
-    if (jj_scan_token(ALL)) return true;
+    if (jj_3R_713()) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
-    if (jj_scan_token(EXECUTE)) return true;
+  private boolean jj_3R_811() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_616() {
+  private boolean jj_3R_622() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_709()) return true;
+    if (jj_3R_715()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_710()) { jj_scanpos = xsp; break; }
+      if (jj_3R_716()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_632() {
-    if (jj_scan_token(DELETE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_631() {
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_630() {
-    if (jj_scan_token(READ)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_629() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_810() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_615() {
+  private boolean jj_3R_621() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_707()) return true;
+    if (jj_3R_713()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_708()) { jj_scanpos = xsp; break; }
+      if (jj_3R_714()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_512() {
+  private boolean jj_3R_464() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_629()) {
+    if (jj_3R_621()) {
     jj_scanpos = xsp;
-    if (jj_3R_630()) {
-    jj_scanpos = xsp;
-    if (jj_3R_631()) {
+    if (jj_3R_622()) {
     jj_scanpos = xsp;
-    if (jj_3R_632()) {
-    jj_scanpos = xsp;
-    if (jj_3R_633()) {
+    if (jj_3R_623()) {
     jj_scanpos = xsp;
-    if (jj_3R_634()) {
+    if (jj_3R_624()) {
     jj_scanpos = xsp;
-    if (jj_3R_635()) return true;
-    }
-    }
+    if (jj_3R_625()) return true;
     }
     }
     }
@@ -26314,903 +26753,927 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_460() {
+  private boolean jj_3R_942() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_482() {
+    if (jj_scan_token(DEFAULT_)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_80() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(LINK)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(TYPE)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(DOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_615()) {
-    jj_scanpos = xsp;
-    if (jj_3R_616()) {
-    jj_scanpos = xsp;
-    if (jj_3R_617()) {
-    jj_scanpos = xsp;
-    if (jj_3R_618()) {
+    if (jj_3R_810()) {
     jj_scanpos = xsp;
-    if (jj_3R_619()) return true;
-    }
-    }
+    if (jj_3R_811()) return true;
     }
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(DOT)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_812()) {
+    jj_scanpos = xsp;
+    if (jj_3R_813()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_814()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_478() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_941() {
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
-    if (jj_3R_470()) return true;
+  private boolean jj_3R_267() {
+    if (jj_3R_474()) return true;
     return false;
   }
 
-  private boolean jj_3R_462() {
+  private boolean jj_3R_466() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_477() {
+  private boolean jj_3R_481() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_263() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_266() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
+  private boolean jj_3R_480() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_231()) return true;
+  private boolean jj_3R_479() {
+    if (jj_scan_token(RECORD)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_517() {
+    if (jj_scan_token(INDEX)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_941()) {
+    jj_scanpos = xsp;
+    if (jj_3R_942()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_475() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_516() {
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_478() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_262() {
+  private boolean jj_3R_265() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_475()) {
+    if (jj_3R_479()) {
     jj_scanpos = xsp;
-    if (jj_3R_476()) {
+    if (jj_3R_480()) {
     jj_scanpos = xsp;
-    if (jj_3R_477()) {
+    if (jj_3R_481()) {
     jj_scanpos = xsp;
-    if (jj_3R_478()) return true;
+    if (jj_3R_482()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_600() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_231()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_261() {
+  private boolean jj_3R_264() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
+  private boolean jj_3R_475() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
-    if (jj_3R_168()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_807() {
-    if (jj_scan_token(INVERSE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_805() {
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_260() {
+  private boolean jj_3R_263() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_471()) {
+    if (jj_3R_475()) {
     jj_scanpos = xsp;
-    if (jj_3R_472()) {
+    if (jj_3R_476()) {
     jj_scanpos = xsp;
-    if (jj_3R_473()) return true;
+    if (jj_3R_477()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_474()) jj_scanpos = xsp;
+    if (jj_3R_478()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_259() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_306() {
+    if (jj_scan_token(ANALYZE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_516()) {
+    jj_scanpos = xsp;
+    if (jj_3R_517()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_258() {
-    if (jj_3R_460()) return true;
+  private boolean jj_3R_838() {
+    if (jj_3R_940()) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
-    if (jj_3R_168()) return true;
+  private boolean jj_3R_262() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_803() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_261() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_90() {
+  private boolean jj_3R_305() {
+    if (jj_scan_token(OPTIMIZE)) return true;
+    if (jj_scan_token(DATABASE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_838()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_91() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_250()) return true;
+    if (jj_3R_253()) return true;
     Token xsp;
-    if (jj_3R_258()) return true;
+    if (jj_3R_261()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_258()) { jj_scanpos = xsp; break; }
+      if (jj_3R_261()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_259()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_260()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_261()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_262()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_263()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_264()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_265()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_266()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_267()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_257() {
-    if (jj_3R_470()) return true;
+  private boolean jj_3R_260() {
+    if (jj_3R_474()) return true;
     return false;
   }
 
-  private boolean jj_3R_256() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_259() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_467() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_468() {
+  private boolean jj_3R_472() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
+  private boolean jj_3R_471() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_466() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_940() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_79() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(LINK)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(DOT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_803()) {
-    jj_scanpos = xsp;
-    if (jj_3R_804()) return true;
-    }
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(DOT)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_805()) {
-    jj_scanpos = xsp;
-    if (jj_3R_806()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_807()) jj_scanpos = xsp;
+  private boolean jj_3R_470() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_465() {
+  private boolean jj_3R_469() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_831() {
-    if (jj_3R_933()) return true;
+  private boolean jj_3R_465() {
+    if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_461() {
-    if (jj_scan_token(BEFORE)) return true;
+  private boolean jj_3R_837() {
+    if (jj_3R_162()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_255() {
+  private boolean jj_3R_258() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_465()) {
+    if (jj_3R_469()) {
     jj_scanpos = xsp;
-    if (jj_3R_466()) {
+    if (jj_3R_470()) {
     jj_scanpos = xsp;
-    if (jj_3R_467()) {
+    if (jj_3R_471()) {
     jj_scanpos = xsp;
-    if (jj_3R_468()) return true;
+    if (jj_3R_472()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_254() {
+  private boolean jj_3R_257() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_253() {
+  private boolean jj_3R_256() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_461()) {
+    if (jj_3R_465()) {
     jj_scanpos = xsp;
-    if (jj_3R_462()) return true;
+    if (jj_3R_466()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_463()) jj_scanpos = xsp;
+    if (jj_3R_467()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_302() {
-    if (jj_scan_token(OPTIMIZE)) return true;
+  private boolean jj_3_157() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_162()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_152()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_255() {
+    if (jj_scan_token(UPSERT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_106() {
+    if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_831()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3_157()) {
+    jj_scanpos = xsp;
+    if (jj_3R_837()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_252() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_254() {
+    if (jj_3R_464()) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
-    if (jj_3R_460()) return true;
+  private boolean jj_3R_835() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_933() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_834() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_89() {
+  private boolean jj_3R_836() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_90() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_250()) return true;
+    if (jj_3R_253()) return true;
     Token xsp;
-    if (jj_3R_251()) return true;
+    if (jj_3R_254()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_251()) { jj_scanpos = xsp; break; }
+      if (jj_3R_254()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_252()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_253()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_254()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_255()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_256()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_257()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_258()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_259()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_260()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_351() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_105() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_834()) {
+    jj_scanpos = xsp;
+    if (jj_3R_835()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_836()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_830() {
-    if (jj_3R_160()) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_355() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_350() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_354() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_349() {
+  private boolean jj_3R_353() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_348() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_352() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3_156() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_160()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_298() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
+  private boolean jj_3R_104() {
     if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(DATABASE)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_156()) {
-    jj_scanpos = xsp;
-    if (jj_3R_830()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_828() {
-    if (jj_3R_68()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_827() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_298()) jj_scanpos = xsp;
+    if (jj_3R_162()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_157() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_348()) jj_scanpos = xsp;
+    if (jj_3R_352()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_349()) jj_scanpos = xsp;
+    if (jj_3R_353()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_350()) jj_scanpos = xsp;
+    if (jj_3R_354()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_351()) jj_scanpos = xsp;
+    if (jj_3R_355()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_829() {
+  private boolean jj_3R_809() {
+    if (jj_scan_token(ID)) return true;
+    if (jj_3R_69()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_348() {
+    if (jj_3R_462()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_808() {
     if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_344() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_347() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_343() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_241() {
+    if (jj_scan_token(BLOB)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_342() {
+  private boolean jj_3R_346() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_104() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_79() {
+    if (jj_scan_token(CREATE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_827()) {
+    if (jj_scan_token(256)) {
     jj_scanpos = xsp;
-    if (jj_3R_828()) return true;
+    if (jj_3R_241()) return true;
     }
+    if (jj_3R_162()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_829()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_295() {
-    if (jj_scan_token(STAR)) return true;
+    if (jj_3R_808()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_809()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_153() {
+  private boolean jj_3R_155() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_342()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_343()) jj_scanpos = xsp;
+    if (jj_3R_346()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_344()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_103() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_160()) return true;
-    Token xsp;
+    if (jj_3R_347()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_295()) jj_scanpos = xsp;
-    if (jj_3R_160()) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_348()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_347() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_832() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_346() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_833() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_345() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_464()) return true;
+  private boolean jj_3R_831() {
+    if (jj_3R_537()) return true;
     return false;
   }
 
-  private boolean jj_3R_802() {
-    if (jj_scan_token(ID)) return true;
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_351() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_801() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_350() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_238() {
-    if (jj_scan_token(BLOB)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
+  private boolean jj_3R_349() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_78() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_103() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(254)) {
+    if (jj_3R_831()) {
     jj_scanpos = xsp;
-    if (jj_3R_238()) return true;
+    if (jj_3R_832()) return true;
     }
-    if (jj_3R_160()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_801()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_802()) jj_scanpos = xsp;
+    if (jj_3R_833()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_154() {
+  private boolean jj_3R_830() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_829() {
+    if (jj_3R_537()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_156() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_345()) jj_scanpos = xsp;
+    if (jj_3R_349()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_346()) jj_scanpos = xsp;
+    if (jj_3R_350()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_347()) jj_scanpos = xsp;
+    if (jj_3R_351()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_825() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_1002() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_826() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_1001() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
-    if (jj_3R_531()) return true;
+  private boolean jj_3R_304() {
+    if (jj_scan_token(REBUILD)) return true;
+    if (jj_scan_token(INDEX)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_829()) {
+    jj_scanpos = xsp;
+    if (jj_3R_830()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_341() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_345() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_340() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_344() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
+  private boolean jj_3R_807() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_338() {
+  private boolean jj_3R_343() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_468()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_342() {
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_102() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(INDEX)) return true;
+  private boolean jj_3R_983() {
+    if (jj_3R_162()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_824()) {
-    jj_scanpos = xsp;
-    if (jj_3R_825()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_1001()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_826()) jj_scanpos = xsp;
+    if (jj_3R_1002()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_823() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3_155() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_822() {
-    if (jj_3R_531()) return true;
+  private boolean jj_3R_919() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_155()) {
+    jj_scanpos = xsp;
+    if (jj_3R_983()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_337() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_1000() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_991() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_228()) return true;
+  private boolean jj_3R_999() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_990() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_341() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_301() {
-    if (jj_scan_token(REBUILD)) return true;
-    if (jj_scan_token(INDEX)) return true;
+  private boolean jj_3R_806() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_822()) {
-    jj_scanpos = xsp;
-    if (jj_3R_823()) return true;
+    if (jj_3R_919()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_982() {
+    if (jj_3R_162()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_999()) { jj_scanpos = xsp; break; }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_1000()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_651() {
+  private boolean jj_3R_657() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_152() {
+  private boolean jj_3R_154() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_337()) jj_scanpos = xsp;
+    if (jj_3R_341()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_338()) jj_scanpos = xsp;
+    if (jj_3R_342()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_339()) jj_scanpos = xsp;
+    if (jj_3R_343()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_340()) jj_scanpos = xsp;
+    if (jj_3R_344()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_341()) jj_scanpos = xsp;
+    if (jj_3R_345()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_972() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_154() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_231()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_918() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_990()) { jj_scanpos = xsp; break; }
-    }
     xsp = jj_scanpos;
-    if (jj_3R_991()) jj_scanpos = xsp;
+    if (jj_3_154()) {
+    jj_scanpos = xsp;
+    if (jj_3R_982()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_336() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_340() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3_154() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_228()) return true;
+  private boolean jj_3R_536() {
+    if (jj_3R_166()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_657()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3_156() {
+    if (jj_scan_token(ENGINE)) return true;
+    if (jj_3R_162()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_918()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_912() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_154()) {
-    jj_scanpos = xsp;
-    if (jj_3R_972()) return true;
-    }
+  private boolean jj_3R_917() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_989() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_228()) return true;
+  private boolean jj_3R_339() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_536()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_988() {
+  private boolean jj_3R_981() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
-    if (jj_3R_164()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_651()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_338() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_800() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_912()) jj_scanpos = xsp;
+  private boolean jj_3_152() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_335() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_805() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_530()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+    if (jj_3_152()) {
+    jj_scanpos = xsp;
+    if (jj_3R_917()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_971() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_151() {
+    if (jj_scan_token(INCLUDE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_988()) { jj_scanpos = xsp; break; }
+      if (jj_3R_981()) { jj_scanpos = xsp; break; }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_989()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_334() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_998() {
+    if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3_153() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_228()) return true;
+  private boolean jj_3R_980() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_911() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_153()) {
-    jj_scanpos = xsp;
-    if (jj_3R_971()) return true;
-    }
+  private boolean jj_3_56() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3_56() {
-    if (jj_3R_155()) return true;
+  private boolean jj_3R_997() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
   private boolean jj_3_55() {
-    if (jj_3R_154()) return true;
+    if (jj_3R_156()) return true;
     return false;
   }
 
   private boolean jj_3_54() {
-    if (jj_3R_153()) return true;
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
+  private boolean jj_3R_153() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_334()) {
+    if (jj_3R_338()) {
     jj_scanpos = xsp;
-    if (jj_3R_335()) return true;
+    if (jj_3R_339()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_336()) jj_scanpos = xsp;
+    if (jj_3R_340()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_155() {
-    if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_979() {
+    if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_911()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_910() {
-    if (jj_3R_160()) return true;
+    if (jj_3R_997()) {
+    jj_scanpos = xsp;
+    if (jj_3R_998()) return true;
+    }
     return false;
   }
 
   private boolean jj_3_53() {
-    if (jj_3R_152()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_237() {
-    if (jj_3R_155()) return true;
+    if (jj_3R_154()) return true;
     return false;
   }
 
-  private boolean jj_3_151() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_240() {
+    if (jj_3R_157()) return true;
     return false;
   }
 
   private boolean jj_3_52() {
-    if (jj_3R_151()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_987() {
-    if (jj_scan_token(VALUE)) return true;
+  private boolean jj_3R_239() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_970() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_978() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_152()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
-    if (jj_3R_154()) return true;
+  private boolean jj_3R_238() {
+    if (jj_3R_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_986() {
-    if (jj_scan_token(KEY)) return true;
+  private boolean jj_3R_237() {
+    if (jj_3R_154()) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_151()) {
-    jj_scanpos = xsp;
-    if (jj_3R_910()) return true;
-    }
+  private boolean jj_3R_977() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_235() {
+  private boolean jj_3R_236() {
     if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_234() {
-    if (jj_3R_152()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_969() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_986()) {
-    jj_scanpos = xsp;
-    if (jj_3R_987()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_233() {
-    if (jj_3R_151()) return true;
+  private boolean jj_3R_976() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_73() {
+  private boolean jj_3R_74() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_233()) {
+    if (jj_3R_236()) {
     jj_scanpos = xsp;
-    if (jj_3R_234()) {
+    if (jj_3R_237()) {
     jj_scanpos = xsp;
-    if (jj_3R_235()) {
+    if (jj_3R_238()) {
     jj_scanpos = xsp;
-    if (jj_3R_236()) {
+    if (jj_3R_239()) {
     jj_scanpos = xsp;
-    if (jj_3R_237()) return true;
+    if (jj_3R_240()) return true;
     }
     }
     }
@@ -27218,199 +27681,199 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_968() {
-    if (jj_3R_168()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_786() {
+  private boolean jj_3R_792() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_785() {
+  private boolean jj_3R_791() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_788() {
-    if (jj_3R_458()) return true;
+  private boolean jj_3R_794() {
+    if (jj_3R_462()) return true;
     return false;
   }
 
-  private boolean jj_3R_784() {
+  private boolean jj_3R_790() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_787() {
-    if (jj_3R_469()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_967() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_793() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_909() {
+  private boolean jj_3R_916() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_967()) {
+    if (jj_3R_976()) {
     jj_scanpos = xsp;
-    if (jj_3R_968()) return true;
+    if (jj_3R_977()) {
+    jj_scanpos = xsp;
+    if (jj_3R_978()) return true;
+    }
     }
     xsp = jj_scanpos;
-    if (jj_3R_969()) jj_scanpos = xsp;
+    if (jj_3R_979()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_970()) jj_scanpos = xsp;
+    if (jj_3R_980()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_783() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_975() {
+    if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_966() {
-    if (jj_scan_token(VALUE)) return true;
+  private boolean jj_3R_915() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_782() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_974() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_908() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_789() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_781() {
+  private boolean jj_3R_788() {
+    if (jj_3R_473()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_787() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_965() {
-    if (jj_scan_token(KEY)) return true;
+  private boolean jj_3R_914() {
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_974()) {
+    jj_scanpos = xsp;
+    if (jj_3R_975()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_72() {
+  private boolean jj_3R_73() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_784()) jj_scanpos = xsp;
-    if (jj_3R_250()) return true;
+    if (jj_3R_790()) jj_scanpos = xsp;
+    if (jj_3R_253()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_785()) jj_scanpos = xsp;
+    if (jj_3R_791()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_786()) jj_scanpos = xsp;
+    if (jj_3R_792()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_787()) jj_scanpos = xsp;
+    if (jj_3R_793()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_788()) jj_scanpos = xsp;
+    if (jj_3R_794()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_780() {
+  private boolean jj_3R_786() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_907() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_965()) {
-    jj_scanpos = xsp;
-    if (jj_3R_966()) return true;
-    }
+  private boolean jj_3R_230() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_152()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_888() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_895() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_887() {
-    if (jj_3R_643()) return true;
+  private boolean jj_3R_894() {
+    if (jj_3R_649()) return true;
     return false;
   }
 
-  private boolean jj_3R_886() {
-    if (jj_3R_519()) return true;
+  private boolean jj_3R_229() {
+    if (jj_3R_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
-    if (jj_3R_168()) return true;
+  private boolean jj_3R_893() {
+    if (jj_3R_525()) return true;
     return false;
   }
 
-  private boolean jj_3R_71() {
+  private boolean jj_3R_72() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_250()) return true;
+    if (jj_3R_253()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_780()) jj_scanpos = xsp;
+    if (jj_3R_786()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_781()) jj_scanpos = xsp;
+    if (jj_3R_787()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_782()) jj_scanpos = xsp;
+    if (jj_3R_788()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_783()) jj_scanpos = xsp;
+    if (jj_3R_789()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_885() {
-    if (jj_3R_518()) return true;
+  private boolean jj_3R_892() {
+    if (jj_3R_524()) return true;
     return false;
   }
 
-  private boolean jj_3R_884() {
-    if (jj_3R_517()) return true;
+  private boolean jj_3R_891() {
+    if (jj_3R_523()) return true;
     return false;
   }
 
-  private boolean jj_3R_961() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_228() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_970() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_960() {
-    if (jj_3R_540()) return true;
+  private boolean jj_3R_969() {
+    if (jj_3R_546()) return true;
     return false;
   }
 
-  private boolean jj_3R_883() {
+  private boolean jj_3R_890() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_960()) jj_scanpos = xsp;
+    if (jj_3R_969()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_961()) jj_scanpos = xsp;
+    if (jj_3R_970()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_225() {
+  private boolean jj_3R_227() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
@@ -27418,504 +27881,503 @@ Token token;
   }
 
   private boolean jj_3_51() {
-    if (jj_3R_150()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_959() {
-    if (jj_3R_540()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_968() {
+    if (jj_3R_546()) return true;
     return false;
   }
 
-  private boolean jj_3_152() {
+  private boolean jj_3_153() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_225()) jj_scanpos = xsp;
+    if (jj_3R_227()) jj_scanpos = xsp;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_226()) {
+    if (jj_3R_228()) {
     jj_scanpos = xsp;
-    if (jj_3R_227()) return true;
+    if (jj_3R_229()) {
+    jj_scanpos = xsp;
+    if (jj_3R_230()) return true;
+    }
     }
     xsp = jj_scanpos;
-    if (jj_3R_907()) jj_scanpos = xsp;
+    if (jj_3R_914()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_908()) jj_scanpos = xsp;
+    if (jj_3R_915()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_909()) { jj_scanpos = xsp; break; }
+      if (jj_3R_916()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_160()) return true;
+    xsp = jj_scanpos;
+    if (jj_3_151()) jj_scanpos = xsp;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_958() {
-    if (jj_3R_540()) return true;
+  private boolean jj_3R_889() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_77() {
+  private boolean jj_3R_967() {
+    if (jj_3R_546()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_78() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_531()) return true;
+    if (jj_3R_537()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_152()) {
+    if (jj_3_153()) {
     jj_scanpos = xsp;
-    if (jj_3R_799()) return true;
+    if (jj_3R_805()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_155()) {
+    if (jj_3_156()) {
     jj_scanpos = xsp;
-    if (jj_3R_800()) return true;
+    if (jj_3R_806()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_807()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_881() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_888() {
+    if (jj_3R_152()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_959()) jj_scanpos = xsp;
+    if (jj_3R_968()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_50() {
     if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_958()) jj_scanpos = xsp;
+    if (jj_3R_967()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_294() {
+  private boolean jj_3R_297() {
     if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3R_957() {
+  private boolean jj_3R_966() {
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_675()) return true;
+    if (jj_3R_681()) return true;
     return false;
   }
 
-  private boolean jj_3R_293() {
+  private boolean jj_3R_296() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_956() {
-    if (jj_3R_675()) return true;
+  private boolean jj_3R_965() {
+    if (jj_3R_681()) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
-    if (jj_3R_160()) return true;
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_295() {
+    if (jj_3R_162()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
+  private boolean jj_3R_102() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_293()) jj_scanpos = xsp;
+    if (jj_3R_296()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_294()) jj_scanpos = xsp;
+    if (jj_3R_297()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_880() {
+  private boolean jj_3R_887() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_956()) {
+    if (jj_3R_965()) {
     jj_scanpos = xsp;
-    if (jj_3R_957()) return true;
+    if (jj_3R_966()) return true;
     }
     return false;
   }
 
   private boolean jj_3_150() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_573() {
+  private boolean jj_3R_579() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_675()) return true;
+    if (jj_3R_681()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_880()) { jj_scanpos = xsp; break; }
+      if (jj_3R_887()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
     if (jj_3_50()) {
     jj_scanpos = xsp;
-    if (jj_3R_881()) return true;
+    if (jj_3R_888()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_882()) jj_scanpos = xsp;
+    if (jj_3R_889()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_883()) { jj_scanpos = xsp; break; }
+      if (jj_3R_890()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_884()) jj_scanpos = xsp;
+    if (jj_3R_891()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_885()) jj_scanpos = xsp;
+    if (jj_3R_892()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_886()) jj_scanpos = xsp;
+    if (jj_3R_893()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_887()) jj_scanpos = xsp;
+    if (jj_3R_894()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_888()) jj_scanpos = xsp;
+    if (jj_3R_895()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_954() {
+  private boolean jj_3R_963() {
     if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_953() {
+  private boolean jj_3R_962() {
     if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_886() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_953()) {
+    if (jj_3R_962()) {
     jj_scanpos = xsp;
-    if (jj_3R_954()) return true;
+    if (jj_3R_963()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_100() {
+  private boolean jj_3R_101() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_150()) {
     jj_scanpos = xsp;
-    if (jj_3R_292()) return true;
+    if (jj_3R_295()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_878() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_885() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_877() {
+  private boolean jj_3R_884() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_952() {
+  private boolean jj_3R_961() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_757()) return true;
+    if (jj_3R_763()) return true;
     return false;
   }
 
-  private boolean jj_3R_876() {
+  private boolean jj_3R_883() {
     if (jj_scan_token(MAXDEPTH)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_674() {
-    if (jj_3R_757()) return true;
+  private boolean jj_3R_680() {
+    if (jj_3R_763()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_952()) { jj_scanpos = xsp; break; }
+      if (jj_3R_961()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_964() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_973() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_645() {
-    if (jj_3R_643()) return true;
+  private boolean jj_3R_651() {
+    if (jj_3R_649()) return true;
     return false;
   }
 
-  private boolean jj_3R_644() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_650() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_798() {
+  private boolean jj_3R_804() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
+  private boolean jj_3R_913() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_905()) return true;
+    if (jj_3R_912()) return true;
     return false;
   }
 
-  private boolean jj_3R_796() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_802() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
+  private boolean jj_3R_578() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_674()) jj_scanpos = xsp;
+    if (jj_3R_680()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_250()) return true;
+    if (jj_3R_253()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_876()) jj_scanpos = xsp;
+    if (jj_3R_883()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_877()) jj_scanpos = xsp;
+    if (jj_3R_884()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_878()) jj_scanpos = xsp;
+    if (jj_3R_885()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_879()) jj_scanpos = xsp;
+    if (jj_3R_886()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_797() {
+  private boolean jj_3R_803() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_905()) return true;
+    if (jj_3R_912()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_906()) { jj_scanpos = xsp; break; }
+      if (jj_3R_913()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_912() {
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_964()) jj_scanpos = xsp;
+    if (jj_3R_973()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_526() {
+  private boolean jj_3R_532() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_323() {
+  private boolean jj_3R_327() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_525() {
+  private boolean jj_3R_531() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
   private boolean jj_3_149() {
-    if (jj_3R_224()) return true;
+    if (jj_3R_226()) return true;
     return false;
   }
 
-  private boolean jj_3R_322() {
+  private boolean jj_3R_326() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_524() {
+  private boolean jj_3R_530() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_523() {
+  private boolean jj_3R_529() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_963() {
-    if (jj_3R_643()) return true;
+  private boolean jj_3R_972() {
+    if (jj_3R_649()) return true;
     return false;
   }
 
-  private boolean jj_3R_521() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_527() {
+    if (jj_3R_473()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_645()) jj_scanpos = xsp;
+    if (jj_3R_651()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_321() {
+  private boolean jj_3R_325() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_523()) {
+    if (jj_3R_529()) {
     jj_scanpos = xsp;
-    if (jj_3R_524()) {
+    if (jj_3R_530()) {
     jj_scanpos = xsp;
-    if (jj_3R_525()) {
+    if (jj_3R_531()) {
     jj_scanpos = xsp;
-    if (jj_3R_526()) return true;
+    if (jj_3R_532()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_320() {
-    if (jj_3R_470()) return true;
+  private boolean jj_3R_324() {
+    if (jj_3R_474()) return true;
     return false;
   }
 
-  private boolean jj_3R_318() {
+  private boolean jj_3R_322() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_520()) {
+    if (jj_3R_526()) {
     jj_scanpos = xsp;
-    if (jj_3R_521()) return true;
+    if (jj_3R_527()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_520() {
-    if (jj_3R_643()) return true;
+  private boolean jj_3R_526() {
+    if (jj_3R_649()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_644()) jj_scanpos = xsp;
+    if (jj_3R_650()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_319() {
-    if (jj_3R_522()) return true;
+  private boolean jj_3R_323() {
+    if (jj_3R_528()) return true;
     return false;
   }
 
-  private boolean jj_3R_962() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_971() {
+    if (jj_3R_473()) return true;
     return false;
   }
 
-  private boolean jj_3R_76() {
+  private boolean jj_3R_77() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_149()) jj_scanpos = xsp;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_796()) jj_scanpos = xsp;
+    if (jj_3R_802()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_797()) jj_scanpos = xsp;
+    if (jj_3R_803()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_798()) jj_scanpos = xsp;
+    if (jj_3R_804()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_317() {
-    if (jj_3R_519()) return true;
+  private boolean jj_3R_321() {
+    if (jj_3R_525()) return true;
     return false;
   }
 
-  private boolean jj_3R_316() {
-    if (jj_3R_518()) return true;
+  private boolean jj_3R_320() {
+    if (jj_3R_524()) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
-    if (jj_3R_517()) return true;
+  private boolean jj_3R_319() {
+    if (jj_3R_523()) return true;
     return false;
   }
 
-  private boolean jj_3R_314() {
+  private boolean jj_3R_318() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     return false;
   }
 
-  private boolean jj_3R_313() {
-    if (jj_3R_516()) return true;
+  private boolean jj_3R_317() {
+    if (jj_3R_522()) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
-    if (jj_3R_454()) return true;
+  private boolean jj_3R_316() {
+    if (jj_3R_458()) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
+  private boolean jj_3R_226() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_291() {
+  private boolean jj_3R_294() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_99() {
+  private boolean jj_3R_100() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_291()) jj_scanpos = xsp;
+    if (jj_3R_294()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_148() {
+  private boolean jj_3R_150() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_312()) jj_scanpos = xsp;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_250()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_313()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_314()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_315()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_316()) jj_scanpos = xsp;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_253()) return true;
     xsp = jj_scanpos;
     if (jj_3R_317()) jj_scanpos = xsp;
     xsp = jj_scanpos;
@@ -27925,297 +28387,305 @@ Token token;
     xsp = jj_scanpos;
     if (jj_3R_320()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_321()) jj_scanpos = xsp;
+    if (jj_3R_321()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_322()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_323()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_324()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_325()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_322()) jj_scanpos = xsp;
+    if (jj_3R_326()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_323()) jj_scanpos = xsp;
+    if (jj_3R_327()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_892() {
-    if (jj_3R_469()) return true;
+  private boolean jj_3R_899() {
+    if (jj_3R_473()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_963()) jj_scanpos = xsp;
+    if (jj_3R_972()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_760() {
+  private boolean jj_3R_766() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_891()) {
+    if (jj_3R_898()) {
     jj_scanpos = xsp;
-    if (jj_3R_892()) return true;
+    if (jj_3R_899()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_891() {
-    if (jj_3R_643()) return true;
+  private boolean jj_3R_898() {
+    if (jj_3R_649()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_962()) jj_scanpos = xsp;
+    if (jj_3R_971()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_896() {
+  private boolean jj_3R_903() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_290() {
+  private boolean jj_3R_293() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_765() {
+  private boolean jj_3R_771() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_895() {
+  private boolean jj_3R_902() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_289() {
+  private boolean jj_3R_292() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_764() {
+  private boolean jj_3R_770() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_894() {
+  private boolean jj_3R_901() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_503() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_893() {
+  private boolean jj_3R_900() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_98() {
+  private boolean jj_3R_99() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_289()) jj_scanpos = xsp;
+    if (jj_3R_292()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_290()) jj_scanpos = xsp;
+    if (jj_3R_293()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_501() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_505() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_288() {
+  private boolean jj_3R_291() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_500() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_504() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_763() {
+  private boolean jj_3R_769() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_893()) {
+    if (jj_3R_900()) {
     jj_scanpos = xsp;
-    if (jj_3R_894()) {
+    if (jj_3R_901()) {
     jj_scanpos = xsp;
-    if (jj_3R_895()) {
+    if (jj_3R_902()) {
     jj_scanpos = xsp;
-    if (jj_3R_896()) return true;
+    if (jj_3R_903()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_498() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_502() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_762() {
-    if (jj_3R_470()) return true;
+  private boolean jj_3R_768() {
+    if (jj_3R_474()) return true;
     return false;
   }
 
-  private boolean jj_3R_761() {
-    if (jj_3R_522()) return true;
+  private boolean jj_3R_767() {
+    if (jj_3R_528()) return true;
     return false;
   }
 
-  private boolean jj_3R_497() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_501() {
+    if (jj_3R_593()) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
+  private boolean jj_3R_290() {
     if (jj_scan_token(DEFAULTCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_500()) {
+    if (jj_3R_504()) {
     jj_scanpos = xsp;
-    if (jj_3R_501()) return true;
+    if (jj_3R_505()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_496() {
-    if (jj_scan_token(268)) return true;
+  private boolean jj_3R_500() {
+    if (jj_scan_token(270)) return true;
     return false;
   }
 
-  private boolean jj_3R_759() {
-    if (jj_3R_519()) return true;
+  private boolean jj_3R_765() {
+    if (jj_3R_525()) return true;
     return false;
   }
 
-  private boolean jj_3R_286() {
+  private boolean jj_3R_289() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_499()) {
+    if (jj_3R_503()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_758() {
-    if (jj_3R_516()) return true;
+  private boolean jj_3R_764() {
+    if (jj_3R_522()) return true;
     return false;
   }
 
-  private boolean jj_3R_495() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_499() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
   private boolean jj_3_49() {
-    if (jj_3R_149()) return true;
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_285() {
+  private boolean jj_3R_288() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_498()) {
+    if (jj_3R_502()) {
     jj_scanpos = xsp;
     if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_355() {
+  private boolean jj_3R_359() {
     if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_454()) return true;
+    if (jj_3R_458()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_758()) jj_scanpos = xsp;
+    if (jj_3R_764()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_759()) jj_scanpos = xsp;
+    if (jj_3R_765()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_760()) jj_scanpos = xsp;
+    if (jj_3R_766()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_761()) jj_scanpos = xsp;
+    if (jj_3R_767()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_762()) jj_scanpos = xsp;
+    if (jj_3R_768()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_763()) jj_scanpos = xsp;
+    if (jj_3R_769()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_764()) jj_scanpos = xsp;
+    if (jj_3R_770()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_765()) jj_scanpos = xsp;
+    if (jj_3R_771()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_494() {
+  private boolean jj_3R_498() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
   private boolean jj_3_48() {
-    if (jj_3R_148()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_3R_149()) return true;
+  private boolean jj_3R_405() {
+    if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_493() {
+  private boolean jj_3R_497() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_400() {
-    if (jj_3R_573()) return true;
+  private boolean jj_3R_404() {
+    if (jj_3R_579()) return true;
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_3R_572()) return true;
+  private boolean jj_3R_403() {
+    if (jj_3R_578()) return true;
     return false;
   }
 
-  private boolean jj_3R_398() {
-    if (jj_3R_355()) return true;
+  private boolean jj_3R_402() {
+    if (jj_3R_359()) return true;
     return false;
   }
 
-  private boolean jj_3R_284() {
+  private boolean jj_3R_287() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_495()) {
+    if (jj_3R_499()) {
     jj_scanpos = xsp;
-    if (jj_3R_496()) {
+    if (jj_3R_500()) {
     jj_scanpos = xsp;
-    if (jj_3R_497()) return true;
+    if (jj_3R_501()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_397() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_401() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
+  private boolean jj_3R_195() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_397()) {
+    if (jj_3R_401()) {
     jj_scanpos = xsp;
-    if (jj_3R_398()) {
+    if (jj_3R_402()) {
     jj_scanpos = xsp;
-    if (jj_3R_399()) {
+    if (jj_3R_403()) {
     jj_scanpos = xsp;
-    if (jj_3R_400()) {
+    if (jj_3R_404()) {
     jj_scanpos = xsp;
-    if (jj_3R_401()) return true;
+    if (jj_3R_405()) return true;
     }
     }
     }
@@ -28223,415 +28693,430 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_492() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_496() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
   private boolean jj_3_45() {
-    if (jj_3R_110()) return true;
+    if (jj_3R_111()) return true;
     return false;
   }
 
   private boolean jj_3_47() {
-    if (jj_3R_147()) return true;
+    if (jj_3R_149()) return true;
     return false;
   }
 
-  private boolean jj_3R_491() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_495() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
   private boolean jj_3_44() {
-    if (jj_3R_109()) return true;
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_283() {
+  private boolean jj_3R_286() {
     if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_493()) {
+    if (jj_3R_497()) {
     jj_scanpos = xsp;
-    if (jj_3R_494()) return true;
+    if (jj_3R_498()) return true;
     }
     return false;
   }
 
   private boolean jj_3_43() {
-    if (jj_3R_108()) return true;
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_452() {
-    if (jj_3R_601()) return true;
+  private boolean jj_3R_456() {
+    if (jj_3R_607()) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_494() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
   private boolean jj_3_42() {
-    if (jj_3R_107()) return true;
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_3R_110()) return true;
+  private boolean jj_3R_148() {
+    if (jj_3R_111()) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_493() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_451() {
-    if (jj_3R_147()) return true;
+  private boolean jj_3R_455() {
+    if (jj_3R_149()) return true;
     return false;
   }
 
-  private boolean jj_3R_282() {
+  private boolean jj_3R_285() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
   private boolean jj_3_41() {
-    if (jj_3R_106()) return true;
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3R_147() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_450() {
-    if (jj_3R_600()) return true;
+  private boolean jj_3R_454() {
+    if (jj_3R_606()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
-    if (jj_3R_108()) return true;
+  private boolean jj_3R_146() {
+    if (jj_3R_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
-    if (jj_3R_107()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_488() {
+  private boolean jj_3R_492() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
+  private boolean jj_3R_284() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_491()) {
+    if (jj_3R_495()) {
     jj_scanpos = xsp;
-    if (jj_3R_492()) return true;
+    if (jj_3R_496()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_142() {
-    if (jj_3R_106()) return true;
+  private boolean jj_3R_144() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
+  private boolean jj_3R_491() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
-    if (jj_3R_311()) return true;
+  private boolean jj_3R_143() {
+    if (jj_3R_315()) return true;
     return false;
   }
 
-  private boolean jj_3R_626() {
+  private boolean jj_3R_632() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_3R_310()) return true;
+  private boolean jj_3R_142() {
+    if (jj_3R_314()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_3R_309()) return true;
+  private boolean jj_3R_141() {
+    if (jj_3R_313()) return true;
     return false;
   }
 
-  private boolean jj_3R_280() {
+  private boolean jj_3R_283() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_489()) {
+    if (jj_3R_493()) {
     jj_scanpos = xsp;
-    if (jj_3R_490()) return true;
+    if (jj_3R_494()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_138() {
-    if (jj_3R_308()) return true;
+  private boolean jj_3R_140() {
+    if (jj_3R_312()) return true;
     return false;
   }
 
-  private boolean jj_3R_137() {
-    if (jj_3R_307()) return true;
+  private boolean jj_3R_139() {
+    if (jj_3R_311()) return true;
     return false;
   }
 
-  private boolean jj_3R_136() {
-    if (jj_3R_306()) return true;
+  private boolean jj_3R_138() {
+    if (jj_3R_310()) return true;
     return false;
   }
 
-  private boolean jj_3R_485() {
+  private boolean jj_3R_489() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_3R_305()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_134() {
-    if (jj_3R_304()) return true;
+  private boolean jj_3R_137() {
+    if (jj_3R_309()) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_3R_303()) return true;
+  private boolean jj_3R_136() {
+    if (jj_3R_308()) return true;
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_3R_103()) return true;
+  private boolean jj_3R_135() {
+    if (jj_3R_307()) return true;
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_3R_302()) return true;
+  private boolean jj_3R_134() {
+    if (jj_3R_306()) return true;
     return false;
   }
 
-  private boolean jj_3R_279() {
+  private boolean jj_3R_282() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_487()) {
+    if (jj_3R_491()) {
     jj_scanpos = xsp;
-    if (jj_3R_488()) return true;
+    if (jj_3R_492()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_484() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_38() {
+    if (jj_3R_104()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_488() {
+    if (jj_3R_162()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_626()) { jj_scanpos = xsp; break; }
+      if (jj_3R_632()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3R_133() {
+    if (jj_3R_305()) return true;
+    return false;
+  }
+
   private boolean jj_3_40() {
-    if (jj_3R_105()) return true;
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_281() {
     if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_486()) return true;
+    if (jj_3R_490()) return true;
     return false;
   }
 
   private boolean jj_3_39() {
-    if (jj_3R_104()) return true;
+    if (jj_3R_105()) return true;
     return false;
   }
 
   private boolean jj_3_36() {
-    if (jj_3R_101()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_131() {
-    if (jj_3R_103()) return true;
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_132() {
+    if (jj_3R_104()) return true;
     return false;
   }
 
-  private boolean jj_3R_483() {
+  private boolean jj_3R_487() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3_35() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_486() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_482() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_37() {
+    if (jj_3R_103()) return true;
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_3R_301()) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3_33() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3R_131() {
+    if (jj_3R_304()) return true;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3_33() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_625() {
+  private boolean jj_3R_631() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_130() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_129() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
+  private boolean jj_3R_485() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_624()) {
+    if (jj_3R_630()) {
     jj_scanpos = xsp;
-    if (jj_3R_625()) return true;
+    if (jj_3R_631()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_624() {
+  private boolean jj_3R_630() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_3R_99()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_277() {
+  private boolean jj_3R_280() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_484()) {
+    if (jj_3R_488()) {
     jj_scanpos = xsp;
-    if (jj_3R_485()) return true;
+    if (jj_3R_489()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_126() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3_31() {
+    if (jj_3R_97()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_128() {
+    if (jj_3R_100()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_127() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
   private boolean jj_3_29() {
-    if (jj_3R_94()) return true;
+    if (jj_3R_95()) return true;
     return false;
   }
 
   private boolean jj_3_32() {
-    if (jj_3R_97()) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_484() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_28() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_126() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
   private boolean jj_3_27() {
-    if (jj_3R_92()) return true;
+    if (jj_3R_93()) return true;
     return false;
   }
 
   private boolean jj_3_30() {
-    if (jj_3R_95()) return true;
+    if (jj_3R_96()) return true;
     return false;
   }
 
   private boolean jj_3_26() {
-    if (jj_3R_91()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_124() {
-    if (jj_3R_94()) return true;
+    if (jj_3R_92()) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_93()) return true;
+  private boolean jj_3R_125() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_276() {
+  private boolean jj_3R_279() {
     if (jj_scan_token(SUPERCLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_481()) jj_scanpos = xsp;
+    if (jj_3R_485()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_482()) {
+    if (jj_3R_486()) {
     jj_scanpos = xsp;
-    if (jj_3R_483()) return true;
+    if (jj_3R_487()) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_124() {
+    if (jj_3R_94()) return true;
+    return false;
+  }
+
   private boolean jj_3_25() {
+    if (jj_3R_91()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_123() {
+    if (jj_3R_93()) return true;
+    return false;
+  }
+
+  private boolean jj_3_24() {
     if (jj_3R_90()) return true;
     return false;
   }
@@ -28641,38 +29126,44 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_24() {
+  private boolean jj_3_23() {
     if (jj_3R_89()) return true;
     return false;
   }
 
+  private boolean jj_3R_278() {
+    if (jj_scan_token(SHORTNAME)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_484()) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(37)) return true;
+    }
+    return false;
+  }
+
   private boolean jj_3R_121() {
-    if (jj_3R_91()) return true;
+    if (jj_3R_303()) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
+  private boolean jj_3_22() {
     if (jj_3R_88()) return true;
     return false;
   }
 
   private boolean jj_3R_120() {
-    if (jj_3R_300()) return true;
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
-    if (jj_scan_token(SHORTNAME)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_480()) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(37)) return true;
-    }
+  private boolean jj_3R_277() {
+    if (jj_scan_token(NAME)) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
+  private boolean jj_3_21() {
     if (jj_3R_87()) return true;
     return false;
   }
@@ -28682,7 +29173,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_21() {
+  private boolean jj_3_20() {
     if (jj_3R_86()) return true;
     return false;
   }
@@ -28692,13 +29183,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_274() {
-    if (jj_scan_token(NAME)) return true;
-    if (jj_3R_160()) return true;
-    return false;
-  }
-
-  private boolean jj_3_20() {
+  private boolean jj_3_19() {
     if (jj_3R_85()) return true;
     return false;
   }
@@ -28708,38 +29193,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_84()) return true;
-    return false;
-  }
-
   private boolean jj_3R_116() {
     if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_115() {
-    if (jj_3R_86()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_114() {
-    if (jj_3R_85()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_96() {
+  private boolean jj_3R_97() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_274()) {
-    jj_scanpos = xsp;
-    if (jj_3R_275()) {
-    jj_scanpos = xsp;
-    if (jj_3R_276()) {
-    jj_scanpos = xsp;
     if (jj_3R_277()) {
     jj_scanpos = xsp;
     if (jj_3R_278()) {
@@ -28760,7 +29224,13 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_286()) {
     jj_scanpos = xsp;
-    if (jj_3R_287()) return true;
+    if (jj_3R_287()) {
+    jj_scanpos = xsp;
+    if (jj_3R_288()) {
+    jj_scanpos = xsp;
+    if (jj_3R_289()) {
+    jj_scanpos = xsp;
+    if (jj_3R_290()) return true;
     }
     }
     }
@@ -28775,203 +29245,219 @@ Token token;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_288()) jj_scanpos = xsp;
+    if (jj_3R_291()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_113() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3R_115() {
+    if (jj_3R_86()) return true;
     return false;
   }
 
-  private boolean jj_3R_795() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_228()) return true;
+  private boolean jj_3R_114() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3R_801() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_794() {
+  private boolean jj_3R_800() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3_18() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_904() {
+  private boolean jj_3R_911() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_81()) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_80()) return true;
+  private boolean jj_3_16() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_903() {
+  private boolean jj_3R_910() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_79()) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
+  private boolean jj_3R_799() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
+  private boolean jj_3R_797() {
     if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_904()) { jj_scanpos = xsp; break; }
+      if (jj_3R_911()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_792() {
+  private boolean jj_3R_798() {
     if (jj_scan_token(CLUSTERS)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
+  private boolean jj_3_14() {
+    if (jj_3R_80()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_76() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_794()) jj_scanpos = xsp;
+    if (jj_3R_800()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_193()) return true;
+    if (jj_3R_195()) return true;
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_795()) jj_scanpos = xsp;
+    if (jj_3R_801()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_13() {
-    if (jj_3R_78()) return true;
+    if (jj_3R_79()) return true;
     return false;
   }
 
   private boolean jj_3_12() {
-    if (jj_3R_77()) return true;
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_796() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_903()) { jj_scanpos = xsp; break; }
+      if (jj_3R_910()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_11() {
-    if (jj_3R_76()) return true;
+    if (jj_3R_77()) return true;
     return false;
   }
 
   private boolean jj_3_10() {
-    if (jj_3R_75()) return true;
-    return false;
-  }
-
-  private boolean jj_3_9() {
-    if (jj_3R_74()) return true;
+    if (jj_3R_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_789() {
+  private boolean jj_3R_795() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_112() {
-    if (jj_3R_299()) return true;
+  private boolean jj_3_9() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_649() {
-    if (jj_3R_162()) return true;
+  private boolean jj_3R_113() {
+    if (jj_3R_302()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_73()) return true;
+  private boolean jj_3R_655() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_648() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_654() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_72()) return true;
+  private boolean jj_3_8() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_71()) return true;
+  private boolean jj_3_7() {
+    if (jj_3R_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3_6() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_74() {
+  private boolean jj_3R_75() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_789()) jj_scanpos = xsp;
+    if (jj_3R_795()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_790()) jj_scanpos = xsp;
+    if (jj_3R_796()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_791()) jj_scanpos = xsp;
+    if (jj_3R_797()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_792()) jj_scanpos = xsp;
+    if (jj_3R_798()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_793()) jj_scanpos = xsp;
+    if (jj_3R_799()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_112() {
+    if (jj_3R_195()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_535() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_654()) {
+    jj_scanpos = xsp;
+    if (jj_3R_655()) return true;
+    }
     return false;
   }
 
   private boolean jj_3_46() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_111()) {
+    if (jj_3R_112()) {
     jj_scanpos = xsp;
     if (jj_3_6()) {
     jj_scanpos = xsp;
@@ -28979,7 +29465,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_8()) {
     jj_scanpos = xsp;
-    if (jj_3R_112()) {
+    if (jj_3R_113()) {
     jj_scanpos = xsp;
     if (jj_3_9()) {
     jj_scanpos = xsp;
@@ -29001,8 +29487,6 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_18()) {
     jj_scanpos = xsp;
-    if (jj_3R_113()) {
-    jj_scanpos = xsp;
     if (jj_3R_114()) {
     jj_scanpos = xsp;
     if (jj_3R_115()) {
@@ -29025,14 +29509,14 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_124()) {
     jj_scanpos = xsp;
-    if (jj_3_30()) {
-    jj_scanpos = xsp;
     if (jj_3R_125()) {
     jj_scanpos = xsp;
-    if (jj_3_32()) {
+    if (jj_3_30()) {
     jj_scanpos = xsp;
     if (jj_3R_126()) {
     jj_scanpos = xsp;
+    if (jj_3_32()) {
+    jj_scanpos = xsp;
     if (jj_3R_127()) {
     jj_scanpos = xsp;
     if (jj_3R_128()) {
@@ -29041,16 +29525,16 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_130()) {
     jj_scanpos = xsp;
+    if (jj_3R_131()) {
+    jj_scanpos = xsp;
     if (jj_3_37()) {
     jj_scanpos = xsp;
-    if (jj_3R_131()) {
+    if (jj_3R_132()) {
     jj_scanpos = xsp;
     if (jj_3_39()) {
     jj_scanpos = xsp;
     if (jj_3_40()) {
     jj_scanpos = xsp;
-    if (jj_3R_132()) {
-    jj_scanpos = xsp;
     if (jj_3R_133()) {
     jj_scanpos = xsp;
     if (jj_3R_134()) {
@@ -29077,7 +29561,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_145()) {
     jj_scanpos = xsp;
-    if (jj_3R_146()) return true;
+    if (jj_3R_146()) {
+    jj_scanpos = xsp;
+    if (jj_3R_147()) {
+    jj_scanpos = xsp;
+    if (jj_3R_148()) return true;
     }
     }
     }
@@ -29131,494 +29619,493 @@ Token token;
     }
     }
     }
-    return false;
-  }
-
-  private boolean jj_3R_529() {
-    if (jj_scan_token(COMMA)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_648()) {
-    jj_scanpos = xsp;
-    if (jj_3R_649()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_231() {
+  private boolean jj_3R_234() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_46()) {
     jj_scanpos = xsp;
-    if (jj_3R_450()) {
+    if (jj_3R_454()) {
     jj_scanpos = xsp;
-    if (jj_3R_451()) {
+    if (jj_3R_455()) {
     jj_scanpos = xsp;
-    if (jj_3R_452()) return true;
+    if (jj_3R_456()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_3R_162()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_623() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_534() {
     if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_629() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_69() {
-    if (jj_3R_231()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_533() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_326() {
+  private boolean jj_3R_330() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_527()) {
+    if (jj_3R_533()) {
     jj_scanpos = xsp;
-    if (jj_3R_528()) return true;
+    if (jj_3R_534()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_529()) { jj_scanpos = xsp; break; }
+      if (jj_3R_535()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_5() {
-    if (jj_3R_70()) return true;
+  private boolean jj_3R_70() {
+    if (jj_3R_234()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_479() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_483() {
+    if (jj_3R_166()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_623()) { jj_scanpos = xsp; break; }
+      if (jj_3R_629()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3_5() {
+    if (jj_3R_71()) return true;
+    return false;
+  }
+
   private boolean jj_3_4() {
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_325() {
+  private boolean jj_3R_329() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_231()) return true;
+    if (jj_3R_234()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
-    if (jj_3R_231()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(194)) jj_scanpos = xsp;
+  private boolean jj_3R_328() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_324() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_232() {
+    if (jj_3R_234()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(196)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_628() {
-    if (jj_3R_70()) return true;
+  private boolean jj_3R_634() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
+  private boolean jj_3R_151() {
     if (jj_scan_token(FIND)) return true;
     if (jj_scan_token(REFERENCES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_324()) {
+    if (jj_3R_328()) {
     jj_scanpos = xsp;
-    if (jj_3R_325()) return true;
+    if (jj_3R_329()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_326()) jj_scanpos = xsp;
+    if (jj_3R_330()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_627() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_633() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
+  private boolean jj_3R_276() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_627()) {
-    jj_scanpos = xsp;
-    if (jj_3R_628()) return true;
-    }
+    if (jj_3R_483()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
-    if (jj_scan_token(LBRACKET)) return true;
+  private boolean jj_3R_490() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_479()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+    if (jj_3R_633()) {
+    jj_scanpos = xsp;
+    if (jj_3R_634()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_232() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_275() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_272() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_235() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_70() {
+  private boolean jj_3R_71() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_232()) jj_scanpos = xsp;
+    if (jj_3R_235()) jj_scanpos = xsp;
     if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_94() {
+  private boolean jj_3R_95() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_272()) {
+    if (jj_3R_275()) {
     jj_scanpos = xsp;
-    if (jj_3R_273()) return true;
+    if (jj_3R_276()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_270() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_273() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_269() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_272() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_271() {
+  private boolean jj_3R_274() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
+  private boolean jj_3R_233() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
+  private boolean jj_3R_94() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_269()) {
+    if (jj_3R_272()) {
     jj_scanpos = xsp;
-    if (jj_3R_270()) return true;
+    if (jj_3R_273()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_271()) jj_scanpos = xsp;
+    if (jj_3R_274()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_68() {
+  private boolean jj_3R_69() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_230()) jj_scanpos = xsp;
+    if (jj_3R_233()) jj_scanpos = xsp;
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_268() {
+  private boolean jj_3R_271() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_267() {
+  private boolean jj_3R_270() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
+  private boolean jj_3R_269() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
 
-  private boolean jj_3R_92() {
+  private boolean jj_3R_93() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_267()) jj_scanpos = xsp;
+    if (jj_3R_270()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_268()) jj_scanpos = xsp;
+    if (jj_3R_271()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_265() {
+  private boolean jj_3R_268() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
 
-  private boolean jj_3R_91() {
+  private boolean jj_3R_92() {
     if (jj_scan_token(PROFILE)) return true;
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_265()) {
+    if (jj_3R_268()) {
     jj_scanpos = xsp;
-    if (jj_3R_266()) return true;
+    if (jj_3R_269()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_599() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_605() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_449() {
-    if (jj_3R_441()) return true;
+  private boolean jj_3R_453() {
+    if (jj_3R_445()) return true;
     return false;
   }
 
-  private boolean jj_3R_448() {
+  private boolean jj_3R_452() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_599()) jj_scanpos = xsp;
+    if (jj_3R_605()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_223() {
+  private boolean jj_3R_225() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_448()) {
+    if (jj_3R_452()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(215)) return true;
+    if (jj_scan_token(217)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_449()) jj_scanpos = xsp;
+    if (jj_3R_453()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_598() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_604() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
-    if (jj_3R_441()) return true;
+  private boolean jj_3R_451() {
+    if (jj_3R_445()) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
+  private boolean jj_3R_450() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_598()) jj_scanpos = xsp;
+    if (jj_3R_604()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
+  private boolean jj_3R_224() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_446()) {
+    if (jj_3R_450()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(215)) return true;
+    if (jj_scan_token(217)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_447()) jj_scanpos = xsp;
+    if (jj_3R_451()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_597() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_603() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
-    if (jj_3R_441()) return true;
+  private boolean jj_3R_449() {
+    if (jj_3R_445()) return true;
     return false;
   }
 
-  private boolean jj_3R_444() {
+  private boolean jj_3R_448() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_597()) jj_scanpos = xsp;
+    if (jj_3R_603()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
+  private boolean jj_3R_223() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_444()) {
+    if (jj_3R_448()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(215)) return true;
+    if (jj_scan_token(217)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_445()) jj_scanpos = xsp;
+    if (jj_3R_449()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_596() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_602() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
+  private boolean jj_3R_446() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_596()) jj_scanpos = xsp;
+    if (jj_3R_602()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_220() {
+  private boolean jj_3R_222() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_442()) {
+    if (jj_3R_446()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(215)) return true;
+    if (jj_scan_token(217)) return true;
     }
-    if (jj_3R_441()) return true;
+    if (jj_3R_445()) return true;
     return false;
   }
 
-  private boolean jj_3R_1015() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_1026() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_1013() {
+  private boolean jj_3R_1024() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1015()) jj_scanpos = xsp;
+    if (jj_3R_1026()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_999() {
+  private boolean jj_3R_1010() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1013()) {
+    if (jj_3R_1024()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(215)) return true;
+    if (jj_scan_token(217)) return true;
     }
-    if (jj_3R_441()) return true;
+    if (jj_3R_445()) return true;
     return false;
   }
 
-  private boolean jj_3R_594() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_600() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_440() {
+  private boolean jj_3R_444() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_594()) jj_scanpos = xsp;
+    if (jj_3R_600()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_219() {
+  private boolean jj_3R_221() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_440()) {
+    if (jj_3R_444()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(215)) return true;
+    if (jj_scan_token(217)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_441()) return true;
+    if (jj_3R_445()) return true;
     return false;
   }
 
-  private boolean jj_3R_779() {
+  private boolean jj_3R_785() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_902() {
+  private boolean jj_3R_909() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_901() {
+  private boolean jj_3R_908() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_778() {
+  private boolean jj_3R_784() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_777() {
+  private boolean jj_3R_783() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_901()) {
+    if (jj_3R_908()) {
     jj_scanpos = xsp;
-    if (jj_3R_902()) return true;
+    if (jj_3R_909()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_776() {
+  private boolean jj_3R_782() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_160() {
+  private boolean jj_3R_781() {
+    if (jj_scan_token(WHILE)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_468()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_162() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(255)) {
+    if (jj_scan_token(257)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(241)) {
+    if (jj_scan_token(243)) {
     jj_scanpos = xsp;
     if (jj_scan_token(28)) {
     jj_scanpos = xsp;
@@ -29634,7 +30121,7 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(39)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(252)) {
+    if (jj_scan_token(254)) {
     jj_scanpos = xsp;
     if (jj_scan_token(45)) {
     jj_scanpos = xsp;
@@ -29790,6 +30277,10 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(142)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(143)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(144)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(59)) {
     jj_scanpos = xsp;
     if (jj_scan_token(60)) {
@@ -29798,15 +30289,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(63)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(143)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(144)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(145)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(147)) {
+    if (jj_scan_token(146)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(148)) {
+    if (jj_scan_token(147)) {
     jj_scanpos = xsp;
     if (jj_scan_token(149)) {
     jj_scanpos = xsp;
@@ -29814,9 +30301,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(151)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(153)) {
+    if (jj_scan_token(152)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(154)) {
+    if (jj_scan_token(153)) {
     jj_scanpos = xsp;
     if (jj_scan_token(155)) {
     jj_scanpos = xsp;
@@ -29830,7 +30317,13 @@ Token token;
     jj_scanpos = xsp;
     if (jj_scan_token(160)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(256)) return true;
+    if (jj_scan_token(161)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(162)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(258)) return true;
+    }
+    }
     }
     }
     }
@@ -29941,141 +30434,132 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_775() {
-    if (jj_scan_token(WHILE)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_464()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_774() {
+  private boolean jj_3R_780() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_464()) return true;
+    if (jj_3R_468()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_587() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(183)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(164)) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_773() {
+  private boolean jj_3R_779() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_900() {
+  private boolean jj_3R_907() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
+  private boolean jj_3R_906() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_69()) return true;
+  private boolean jj_3R_593() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(185)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(166)) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_772() {
+  private boolean jj_3R_778() {
     if (jj_scan_token(RID)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_164()) return true;
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_898() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_905() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_897() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3_3() {
+    if (jj_3R_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_771() {
+  private boolean jj_3R_904() {
+    if (jj_3R_162()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_777() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_899()) {
+    if (jj_3R_906()) {
     jj_scanpos = xsp;
-    if (jj_3R_900()) return true;
+    if (jj_3R_907()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_770() {
+  private boolean jj_3R_776() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_897()) {
+    if (jj_3R_904()) {
     jj_scanpos = xsp;
-    if (jj_3R_898()) return true;
+    if (jj_3R_905()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_769() {
+  private boolean jj_3R_775() {
     if (jj_scan_token(CLASSES)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_693() {
+  private boolean jj_3R_699() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_692()) return true;
+    if (jj_3R_698()) return true;
     return false;
   }
 
-  private boolean jj_3R_768() {
+  private boolean jj_3R_774() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_692() {
+  private boolean jj_3R_698() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_768()) {
+    if (jj_3R_774()) {
     jj_scanpos = xsp;
-    if (jj_3R_769()) {
+    if (jj_3R_775()) {
     jj_scanpos = xsp;
-    if (jj_3R_770()) {
+    if (jj_3R_776()) {
     jj_scanpos = xsp;
-    if (jj_3R_771()) {
+    if (jj_3R_777()) {
     jj_scanpos = xsp;
-    if (jj_3R_772()) {
+    if (jj_3R_778()) {
     jj_scanpos = xsp;
-    if (jj_3R_773()) {
+    if (jj_3R_779()) {
     jj_scanpos = xsp;
-    if (jj_3R_774()) {
+    if (jj_3R_780()) {
     jj_scanpos = xsp;
-    if (jj_3R_775()) {
+    if (jj_3R_781()) {
     jj_scanpos = xsp;
-    if (jj_3R_776()) {
+    if (jj_3R_782()) {
     jj_scanpos = xsp;
-    if (jj_3R_777()) {
+    if (jj_3R_783()) {
     jj_scanpos = xsp;
-    if (jj_3R_778()) {
+    if (jj_3R_784()) {
     jj_scanpos = xsp;
-    if (jj_3R_779()) return true;
+    if (jj_3R_785()) return true;
     }
     }
     }
@@ -30090,227 +30574,227 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_595() {
-    if (jj_3R_692()) return true;
+  private boolean jj_3R_601() {
+    if (jj_3R_698()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_693()) { jj_scanpos = xsp; break; }
+      if (jj_3R_699()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_148() {
-    if (jj_3R_223()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_360() {
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(163)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(164)) return true;
-    }
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_150()) return true;
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3R_225()) return true;
     return false;
   }
 
   private boolean jj_3_147() {
-    if (jj_3R_222()) return true;
+    if (jj_3R_224()) return true;
     return false;
   }
 
   private boolean jj_3_146() {
-    if (jj_3R_221()) return true;
+    if (jj_3R_223()) return true;
     return false;
   }
 
-  private boolean jj_3R_441() {
+  private boolean jj_3R_445() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_595()) jj_scanpos = xsp;
+    if (jj_3R_601()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_1010() {
-    if (jj_3R_441()) return true;
+  private boolean jj_3R_1021() {
+    if (jj_3R_445()) return true;
     return false;
   }
 
-  private boolean jj_3_2() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_364() {
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(165)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(166)) return true;
+    }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_152()) return true;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_1() {
-    if (jj_scan_token(266)) return true;
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_599() {
+    if (jj_3R_225()) return true;
+    return false;
+  }
+
+  private boolean jj_3_2() {
+    if (jj_3R_69()) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_593() {
-    if (jj_3R_223()) return true;
+  private boolean jj_3R_598() {
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  private boolean jj_3R_592() {
-    if (jj_3R_222()) return true;
+  private boolean jj_3_1() {
+    if (jj_scan_token(268)) return true;
+    if (jj_3R_69()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_591() {
-    if (jj_3R_221()) return true;
+  private boolean jj_3R_597() {
+    if (jj_3R_223()) return true;
     return false;
   }
 
-  private boolean jj_3R_164() {
+  private boolean jj_3R_442() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1()) {
+    if (jj_3R_597()) {
     jj_scanpos = xsp;
-    if (jj_3_2()) {
+    if (jj_3R_598()) {
     jj_scanpos = xsp;
-    if (jj_3R_360()) return true;
+    if (jj_3R_599()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_438() {
+  private boolean jj_3R_166() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_591()) {
+    if (jj_3_1()) {
     jj_scanpos = xsp;
-    if (jj_3R_592()) {
+    if (jj_3_2()) {
     jj_scanpos = xsp;
-    if (jj_3R_593()) return true;
+    if (jj_3R_364()) return true;
     }
     }
     return false;
   }
 
   private boolean jj_3_145() {
-    if (jj_3R_216()) return true;
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
+  private boolean jj_3R_219() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_438()) return true;
+    if (jj_3R_442()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_438()) { jj_scanpos = xsp; break; }
+      if (jj_3R_442()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1010()) jj_scanpos = xsp;
+    if (jj_3R_1021()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1012() {
-    if (jj_3R_441()) return true;
+  private boolean jj_3R_1023() {
+    if (jj_3R_445()) return true;
     return false;
   }
 
-  private boolean jj_3R_1011() {
-    if (jj_3R_216()) return true;
+  private boolean jj_3R_1022() {
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
+  private boolean jj_3R_220() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_439()) return true;
+    if (jj_3R_443()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_1011()) { jj_scanpos = xsp; break; }
+      if (jj_3R_1022()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_1012()) jj_scanpos = xsp;
+    if (jj_3R_1023()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_1014() {
-    if (jj_3R_441()) return true;
+  private boolean jj_3R_1025() {
+    if (jj_3R_445()) return true;
     return false;
   }
 
   private boolean jj_3_144() {
-    if (jj_3R_220()) return true;
+    if (jj_3R_222()) return true;
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_3R_166()) return true;
+  private boolean jj_3R_443() {
+    if (jj_3R_168()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_1014()) jj_scanpos = xsp;
+    if (jj_3R_1025()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_443() {
-    if (jj_3R_441()) return true;
+  private boolean jj_3R_447() {
+    if (jj_3R_445()) return true;
     return false;
   }
 
   private boolean jj_3_143() {
-    if (jj_3R_219()) return true;
+    if (jj_3R_221()) return true;
     return false;
   }
 
-  private boolean jj_3R_985() {
-    if (jj_3R_220()) return true;
+  private boolean jj_3R_996() {
+    if (jj_3R_222()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_175()) return true;
+  private boolean jj_3R_218() {
+    if (jj_3R_177()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_443()) jj_scanpos = xsp;
+    if (jj_3R_447()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_984() {
-    if (jj_3R_999()) return true;
+  private boolean jj_3R_995() {
+    if (jj_3R_1010()) return true;
     return false;
   }
 
-  private boolean jj_3R_983() {
-    if (jj_3R_219()) return true;
+  private boolean jj_3R_994() {
+    if (jj_3R_221()) return true;
     return false;
   }
 
   private boolean jj_3_142() {
-    if (jj_3R_218()) return true;
+    if (jj_3R_220()) return true;
     return false;
   }
 
   private boolean jj_3_141() {
-    if (jj_3R_217()) return true;
+    if (jj_3R_219()) return true;
     return false;
   }
 
   private boolean jj_3_140() {
-    if (jj_3R_216()) return true;
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_955() {
+  private boolean jj_3R_964() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_140()) {
@@ -30319,11 +30803,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_142()) {
     jj_scanpos = xsp;
-    if (jj_3R_983()) {
+    if (jj_3R_994()) {
     jj_scanpos = xsp;
-    if (jj_3R_984()) {
+    if (jj_3R_995()) {
     jj_scanpos = xsp;
-    if (jj_3R_985()) return true;
+    if (jj_3R_996()) return true;
     }
     }
     }
@@ -30332,834 +30816,834 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_951() {
+  private boolean jj_3R_960() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_675() {
-    if (jj_3R_441()) return true;
+  private boolean jj_3R_681() {
+    if (jj_3R_445()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_955()) { jj_scanpos = xsp; break; }
+      if (jj_3R_964()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_880() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_872() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_879() {
+    if (jj_3R_593()) return true;
     return false;
   }
 
-  private boolean jj_3R_871() {
+  private boolean jj_3R_878() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_870() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_877() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_743() {
+  private boolean jj_3R_749() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_870()) {
+    if (jj_3R_877()) {
     jj_scanpos = xsp;
-    if (jj_3R_871()) {
+    if (jj_3R_878()) {
     jj_scanpos = xsp;
-    if (jj_3R_872()) {
+    if (jj_3R_879()) {
     jj_scanpos = xsp;
-    if (jj_3R_873()) return true;
+    if (jj_3R_880()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
+  private boolean jj_3R_748() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_875() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_741() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_747() {
+    if (jj_3R_593()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
+  private boolean jj_3R_746() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_745() {
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_650() {
+  private boolean jj_3R_656() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_739()) {
+    if (jj_3R_745()) {
     jj_scanpos = xsp;
-    if (jj_3R_740()) {
+    if (jj_3R_746()) {
     jj_scanpos = xsp;
-    if (jj_3R_741()) {
+    if (jj_3R_747()) {
     jj_scanpos = xsp;
-    if (jj_3R_742()) return true;
+    if (jj_3R_748()) return true;
     }
     }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_743()) { jj_scanpos = xsp; break; }
+      if (jj_3R_749()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_139() {
-    if (jj_3R_176()) return true;
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
+  private boolean jj_3R_231() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_650()) jj_scanpos = xsp;
+    if (jj_3R_656()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_982() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_993() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_757() {
-    if (jj_3R_566()) return true;
+  private boolean jj_3R_763() {
+    if (jj_3R_572()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_982()) jj_scanpos = xsp;
+    if (jj_3R_993()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_869() {
+  private boolean jj_3R_876() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_951()) jj_scanpos = xsp;
+    if (jj_3R_960()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_950() {
+  private boolean jj_3R_959() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_949() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_958() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_874() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_949()) {
+    if (jj_3R_958()) {
     jj_scanpos = xsp;
-    if (jj_3R_950()) return true;
+    if (jj_3R_959()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_738() {
+  private boolean jj_3R_744() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_867()) jj_scanpos = xsp;
-    if (jj_3R_160()) return true;
+    if (jj_3R_874()) jj_scanpos = xsp;
+    if (jj_3R_162()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_868()) jj_scanpos = xsp;
+    if (jj_3R_875()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_869()) { jj_scanpos = xsp; break; }
+      if (jj_3R_876()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_737() {
+  private boolean jj_3R_743() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_646() {
+  private boolean jj_3R_652() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_737()) {
+    if (jj_3R_743()) {
     jj_scanpos = xsp;
-    if (jj_3R_738()) return true;
+    if (jj_3R_744()) return true;
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_647() {
-    if (jj_3R_646()) return true;
+  private boolean jj_3R_653() {
+    if (jj_3R_652()) return true;
     return false;
   }
 
-  private boolean jj_3R_522() {
+  private boolean jj_3R_528() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_646()) return true;
+    if (jj_3R_652()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_647()) { jj_scanpos = xsp; break; }
+      if (jj_3R_653()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_545() {
+  private boolean jj_3R_551() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_366() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_370() {
+    if (jj_3R_152()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_545()) { jj_scanpos = xsp; break; }
+      if (jj_3R_551()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_167() {
+  private boolean jj_3R_169() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_366()) jj_scanpos = xsp;
+    if (jj_3R_370()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
+  private boolean jj_3R_460() {
     if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_720() {
+  private boolean jj_3R_726() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3R_461() {
     if (jj_scan_token(WAIT)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_622() {
+  private boolean jj_3R_628() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_719()) {
+    if (jj_3R_725()) {
     jj_scanpos = xsp;
-    if (jj_3R_720()) return true;
+    if (jj_3R_726()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_719() {
+  private boolean jj_3R_725() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
+  private boolean jj_3R_474() {
     if (jj_scan_token(TIMEOUT)) return true;
-    if (jj_3R_68()) return true;
+    if (jj_3R_69()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_622()) jj_scanpos = xsp;
+    if (jj_3R_628()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_605() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_611() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_604() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_610() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_866() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_873() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_865() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_872() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_458() {
+  private boolean jj_3R_462() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_604()) {
+    if (jj_3R_610()) {
     jj_scanpos = xsp;
-    if (jj_3R_605()) return true;
+    if (jj_3R_611()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_864() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_871() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_863() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_870() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
+  private boolean jj_3R_742() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_865()) {
+    if (jj_3R_872()) {
     jj_scanpos = xsp;
-    if (jj_3R_866()) return true;
+    if (jj_3R_873()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_948() {
+  private boolean jj_3R_957() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
+  private boolean jj_3R_741() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_863()) {
+    if (jj_3R_870()) {
     jj_scanpos = xsp;
-    if (jj_3R_864()) return true;
+    if (jj_3R_871()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_643() {
+  private boolean jj_3R_649() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_735()) {
+    if (jj_3R_741()) {
     jj_scanpos = xsp;
-    if (jj_3R_736()) return true;
+    if (jj_3R_742()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_621() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_627() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_620() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3R_626() {
+    if (jj_3R_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_945() {
+  private boolean jj_3R_954() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
+  private boolean jj_3R_473() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_620()) {
+    if (jj_3R_626()) {
     jj_scanpos = xsp;
-    if (jj_3R_621()) return true;
+    if (jj_3R_627()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_642() {
+  private boolean jj_3R_648() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_638() {
+  private boolean jj_3R_644() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
+  private boolean jj_3R_525() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_160()) return true;
+    if (jj_3R_162()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_642()) { jj_scanpos = xsp; break; }
+      if (jj_3R_648()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_946() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_955() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_860() {
+  private boolean jj_3R_867() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_859() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_866() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_862() {
+  private boolean jj_3R_869() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_947() {
+  private boolean jj_3R_956() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_861() {
+  private boolean jj_3R_868() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_947()) {
+    if (jj_3R_956()) {
     jj_scanpos = xsp;
-    if (jj_3R_948()) return true;
+    if (jj_3R_957()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_852() {
+  private boolean jj_3R_859() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_858() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_865() {
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_946()) jj_scanpos = xsp;
+    if (jj_3R_955()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_517() {
+  private boolean jj_3R_523() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_638()) { jj_scanpos = xsp; break; }
+      if (jj_3R_644()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_943() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_952() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_855() {
+  private boolean jj_3R_862() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_854() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_861() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_857() {
+  private boolean jj_3R_864() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_944()) {
-    jj_scanpos = xsp;
-    if (jj_3R_945()) return true;
-    }
+  private boolean jj_3R_953() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_944() {
-    if (jj_scan_token(DESC)) return true;
+  private boolean jj_3R_863() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_953()) {
+    jj_scanpos = xsp;
+    if (jj_3R_954()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_734() {
+  private boolean jj_3R_740() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_858()) {
+    if (jj_3R_865()) {
     jj_scanpos = xsp;
-    if (jj_3R_859()) {
+    if (jj_3R_866()) {
     jj_scanpos = xsp;
-    if (jj_3R_860()) return true;
+    if (jj_3R_867()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_861()) jj_scanpos = xsp;
+    if (jj_3R_868()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_862()) jj_scanpos = xsp;
+    if (jj_3R_869()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_849() {
+  private boolean jj_3R_856() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_853() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_860() {
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_943()) jj_scanpos = xsp;
+    if (jj_3R_952()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_733() {
+  private boolean jj_3R_739() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_853()) {
+    if (jj_3R_860()) {
     jj_scanpos = xsp;
-    if (jj_3R_854()) {
+    if (jj_3R_861()) {
     jj_scanpos = xsp;
-    if (jj_3R_855()) return true;
+    if (jj_3R_862()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_856()) jj_scanpos = xsp;
+    if (jj_3R_863()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_857()) jj_scanpos = xsp;
+    if (jj_3R_864()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_641() {
+  private boolean jj_3R_647() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_733()) {
+    if (jj_3R_739()) {
     jj_scanpos = xsp;
-    if (jj_3R_734()) return true;
+    if (jj_3R_740()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_850() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_857() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_730() {
+  private boolean jj_3R_736() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_729() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_735() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_732() {
+  private boolean jj_3R_738() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_731() {
+  private boolean jj_3R_737() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_851()) {
+    if (jj_3R_858()) {
     jj_scanpos = xsp;
-    if (jj_3R_852()) return true;
+    if (jj_3R_859()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_851() {
+  private boolean jj_3R_858() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_734() {
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_850()) jj_scanpos = xsp;
+    if (jj_3R_857()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_847() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_854() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_725() {
+  private boolean jj_3R_731() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_724() {
-    if (jj_3R_164()) return true;
+  private boolean jj_3R_730() {
+    if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
+  private boolean jj_3R_733() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
+  private boolean jj_3R_732() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_848()) {
+    if (jj_3R_855()) {
     jj_scanpos = xsp;
-    if (jj_3R_849()) return true;
+    if (jj_3R_856()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_848() {
+  private boolean jj_3R_855() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
+  private boolean jj_3R_646() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_728()) {
+    if (jj_3R_734()) {
     jj_scanpos = xsp;
-    if (jj_3R_729()) {
+    if (jj_3R_735()) {
     jj_scanpos = xsp;
-    if (jj_3R_730()) return true;
+    if (jj_3R_736()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_731()) jj_scanpos = xsp;
+    if (jj_3R_737()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_732()) jj_scanpos = xsp;
+    if (jj_3R_738()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_723() {
-    if (jj_3R_160()) return true;
+  private boolean jj_3R_729() {
+    if (jj_3R_162()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_847()) jj_scanpos = xsp;
+    if (jj_3R_854()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_639() {
+  private boolean jj_3R_645() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_723()) {
+    if (jj_3R_729()) {
     jj_scanpos = xsp;
-    if (jj_3R_724()) {
+    if (jj_3R_730()) {
     jj_scanpos = xsp;
-    if (jj_3R_725()) return true;
+    if (jj_3R_731()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_726()) jj_scanpos = xsp;
+    if (jj_3R_732()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_727()) jj_scanpos = xsp;
+    if (jj_3R_733()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_518() {
+  private boolean jj_3R_524() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_639()) {
+    if (jj_3R_645()) {
     jj_scanpos = xsp;
-    if (jj_3R_640()) return true;
+    if (jj_3R_646()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_641()) { jj_scanpos = xsp; break; }
+      if (jj_3R_647()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
   private boolean jj_3_138() {
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_432() {
-    if (jj_3R_165()) return true;
+  private boolean jj_3R_436() {
+    if (jj_3R_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_431() {
+  private boolean jj_3R_435() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_430() {
-    if (jj_3R_587()) return true;
+  private boolean jj_3R_434() {
+    if (jj_3R_593()) return true;
     return false;
   }
 
-  private boolean jj_3R_429() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_433() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
   private boolean jj_3_137() {
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_211() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_429()) {
+    if (jj_3R_433()) {
     jj_scanpos = xsp;
-    if (jj_3R_430()) {
+    if (jj_3R_434()) {
     jj_scanpos = xsp;
-    if (jj_3R_431()) {
+    if (jj_3R_435()) {
     jj_scanpos = xsp;
-    if (jj_3R_432()) return true;
+    if (jj_3R_436()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_428() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_432() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_210() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
   private boolean jj_3_136() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_175()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_135() {
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_431() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_209() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_136()) {
     jj_scanpos = xsp;
-    if (jj_3R_428()) return true;
+    if (jj_3R_432()) return true;
     }
     return false;
   }
 
   private boolean jj_3_134() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_175()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_131() {
-    if (jj_3R_148()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_208() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_134()) {
     jj_scanpos = xsp;
-    if (jj_3R_427()) return true;
+    if (jj_3R_431()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_422() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_426() {
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_355()) return true;
+  private boolean jj_3R_217() {
+    if (jj_3R_359()) return true;
     return false;
   }
 
   private boolean jj_3_133() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_165()) return true;
+    if (jj_3R_167()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_216() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
@@ -31167,54 +31651,54 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_214()) {
+    if (jj_3R_216()) {
     jj_scanpos = xsp;
-    if (jj_3R_215()) return true;
+    if (jj_3R_217()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_128() {
-    if (jj_3R_148()) return true;
+    if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_203() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_420()) return true;
+    if (jj_3R_424()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_132()) {
     jj_scanpos = xsp;
     if (jj_3_133()) {
     jj_scanpos = xsp;
-    if (jj_3R_422()) return true;
+    if (jj_3R_426()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_355()) return true;
+  private boolean jj_3R_215() {
+    if (jj_3R_359()) return true;
     return false;
   }
 
   private boolean jj_3_130() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_165()) return true;
+    if (jj_3R_167()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_425() {
+    if (jj_3R_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
-    if (jj_3R_148()) return true;
+  private boolean jj_3R_214() {
+    if (jj_3R_150()) return true;
     return false;
   }
 
@@ -31222,165 +31706,175 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_212()) {
+    if (jj_3R_214()) {
     jj_scanpos = xsp;
-    if (jj_3R_213()) return true;
+    if (jj_3R_215()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
   private boolean jj_3_127() {
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
-    if (jj_3R_150()) return true;
-    if (jj_3R_420()) return true;
+  private boolean jj_3R_202() {
+    if (jj_3R_152()) return true;
+    if (jj_3R_424()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_129()) {
     jj_scanpos = xsp;
     if (jj_3_130()) {
     jj_scanpos = xsp;
-    if (jj_3R_421()) return true;
+    if (jj_3R_425()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_420() {
+  private boolean jj_3R_424() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_428() {
+    if (jj_3R_152()) return true;
     return false;
   }
 
   private boolean jj_3_126() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_173()) return true;
+    if (jj_3R_175()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_206() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_126()) {
     jj_scanpos = xsp;
-    if (jj_3R_424()) return true;
+    if (jj_3R_428()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_198() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_200() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_201() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_198() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_197() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_199() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_691() {
+  private boolean jj_3R_697() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_590() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_596() {
+    if (jj_3R_152()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_691()) { jj_scanpos = xsp; break; }
+      if (jj_3R_697()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_696() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_205() {
+    if (jj_3R_152()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_589() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_595() {
+    if (jj_3R_152()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_690()) { jj_scanpos = xsp; break; }
+      if (jj_3R_696()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_695() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_150()) return true;
+    if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_434() {
+  private boolean jj_3R_438() {
     if (jj_scan_token(BETWEEN)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_589()) jj_scanpos = xsp;
+    if (jj_3R_595()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     if (jj_scan_token(AND)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_590()) jj_scanpos = xsp;
+    if (jj_3R_596()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_588() {
-    if (jj_3R_150()) return true;
+  private boolean jj_3R_594() {
+    if (jj_3R_152()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_689()) { jj_scanpos = xsp; break; }
+      if (jj_3R_695()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
+  private boolean jj_3R_437() {
+    if (jj_3R_427()) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_594()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
   /** Generated Token Manager. */
   public OrientSqlTokenManager token_source;
   /** Current token. */
@@ -31391,7 +31885,7 @@ Token token;
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[424];
+  final private int[] jj_la1 = new int[428];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -31413,33 +31907,33 @@ Token token;
       jj_la1_init_8();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0x109f800,0x1000000,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x109f800,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x109f800,0x1000000,0x109f800,0x1000000,};
+      jj_la1_0 = new int[] {0x0,0x0,0x109f800,0x1000000,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x0,0x0,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x800000,0x0,0x0,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x800,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf0000000,0x0,0x0,0xfc400000,0x100000,0x10000000,0x0,0x0,0x0,0x0,0xfc600000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x800,0xfc400000,0x800,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0xfc400000,0x0,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x800000,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x109f800,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x109f800,0x1000000,0x109f800,0x1000000,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x0,0x0,0x4080000,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0xd88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0x0,0xd8802183,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x0,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0xd8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0xd8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0xd8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0xd8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xd88021a3,0x0,0x10000,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0xd88021a3,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0xd8802183,0x0,0x0,0x10000,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd88021a3,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0x0,0x200,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x4080000,0x0,0x8,0x0,0x0,0x0,0x2000000,0xd88021a3,0x4080000,0x0,0x0,0x18028404,0x0,0x18028404,0x58028404,0x0,0x58028404,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4080000,0x0,0x4080000,0x0,};
+      jj_la1_1 = new int[] {0x0,0x0,0x4080000,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x4000000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0xd88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x0,0x20000000,0x0,0xd8802183,0x0,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x10000,0x100,0x80,0x0,0x2800,0x400,0x80000,0x0,0x400,0x0,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0xd8802183,0x0,0x0,0x400,0x1000,0x0,0x400,0x1000,0x0,0x400,0x1000,0xd8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0xd88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x7,0x1000,0x0,0xd8802183,0x0,0x1,0x2000000,0x1000000,0x1000,0x0,0xd8802d83,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0xd88021a3,0x0,0x10000,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0xd88021a3,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0xd88021a3,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0x0,0xd8802183,0x28000,0x28000,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0xd8802183,0x0,0x0,0x10000,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd88021a3,0x0,0x0,0xd88021a3,0x0,0xd88021a3,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd88021a3,0xd88021a3,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0x0,0x200,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0xd8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd8802183,0x0,0xd8802183,0xd8802183,0x0,0x0,0x4080000,0x0,0x8,0x0,0x0,0x0,0x2000000,0xd88021a3,0x4080000,0x0,0x0,0x18028404,0x0,0x18028404,0x58028404,0x0,0x58028404,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4080000,0x0,0x4080000,0x0,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x0,0x21440000,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0xff7ffce0,0x200,0x0,0x0,0x18,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xe0,0x0,0x0,0xe0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xe0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x300000,0x800000,0x1,0xff7ffce0,0x1,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x8000000,0x10000000,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xd0005000,0x1,0x0,0x1,0x0,0xff7ffce0,0x0,0x0,0x1,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x21440000,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x21440000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x21440000,0x0,0x21440000,0x0,};
+      jj_la1_2 = new int[] {0x0,0x0,0x21440000,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0xff7ffce0,0x200,0x0,0x0,0x18,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xe0,0x0,0x0,0xe0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xe0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0x0,0x2a00,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x300000,0x800000,0x1,0xff7ffce0,0x1,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x8000000,0x10000000,0x0,0x0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xff7ffce0,0xd0005000,0x1,0x0,0x1,0x0,0xff7ffce0,0x0,0x0,0x1,0xff7ffce0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x0,0xff7ffce0,0x800,0xff7ffce0,0xff7ffce0,0x0,0x0,0xff7ffce0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x0,0xff7ffce0,0xff7ffce0,0x0,0x0,0x21440000,0x0,0x0,0x0,0x0,0x0,0x0,0xff7ffce0,0x21440000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x21440000,0x0,0x21440000,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0x1c48100,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x1840000,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0xff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x400,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x0,0x0,0x10000,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x200000,0x1e000000,0xffffffff,0x0,0x0,0x0,0x40000000,0x0,0x80000000,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x1c48100,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x1c48100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1c48100,0x0,0x1c48100,0x0,};
+      jj_la1_3 = new int[] {0x0,0x0,0x70c8100,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x60c0000,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0xff,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x400,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0x0,0x0,0x2000,0x0,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0x0,0x800,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x10000,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x1000,0xffffffff,0xffffffff,0x800000,0x78000000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x70c8100,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x70c8100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x70c8100,0x0,0x70c8100,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x0,0x0,0x308061e,0x1000010,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x61e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x20000,0xfeffffff,0x0,0x0,0x3000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0xfeffffff,0x0,0xfeffffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfeffffff,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8c010000,0xfefbffff,0x0,0x0,0x8c010000,0xfefbffff,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0xfefbffff,0xfefbffff,0x0,0x0,0x10,0x0,0x10,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0x10,0x0,0x10,0xfefbffff,0x0,0x0,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0xfefbffff,0xfefbffff,0xfefbffff,0xfefbffff,0x10,0x800,0x10,0x0,0x0,0xfefbffff,0x10,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x0,0x0,0xfefbffff,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0xfefbffff,0x0,0xfefbffff,0xfefbffff,0x20000000,0x100,0x208061e,0xc0,0x0,0xc0,0xc0,0x20,0x0,0xfeffffff,0x308061e,0x1000010,0x10,0x8000,0x0,0x8000,0x8000,0x0,0x8000,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x308061e,0x1000010,0x308061e,0x1000010,};
+      jj_la1_4 = new int[] {0x0,0x0,0xc201878,0x4000040,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x1878,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc000,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc000,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0xc000,0x0,0x0,0x0,0x0,0x0,0x80000,0xfbffffff,0x0,0x0,0xc000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0x0,0xfbffffff,0x0,0xfbffffff,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfbffffff,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30040000,0xfbefffff,0x0,0x0,0x30040000,0xfbefffff,0x0,0xfbefffff,0x0,0xfbefffff,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0xfbefffff,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0xfbefffff,0xfbefffff,0x0,0x0,0x40,0x0,0x40,0xfbefffff,0x0,0x0,0x0,0xfbefffff,0x40,0x0,0x40,0xfbefffff,0x0,0x0,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x0,0xfbefffff,0xfbefffff,0x0,0x0,0xfbefffff,0xfbefffff,0x0,0x0,0xfbefffff,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0x40,0x2000,0x40,0x0,0x0,0xfbefffff,0x40,0xfbefffff,0x0,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0x0,0x0,0xfbefffff,0x0,0x0,0x0,0x1,0x0,0x2,0x4,0xfbefffff,0x0,0xfbefffff,0xfbefffff,0x80000000,0x400,0x8201878,0x300,0x0,0x300,0x300,0x80,0x0,0xfbffffff,0xc201878,0x4000040,0x40,0x20000,0x0,0x20000,0x20000,0x0,0x20000,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0xc201878,0x4000040,0xc201878,0x4000040,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x18,0x40000000,0x0,0x0,0x800010,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x5cc22017,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40002000,0x40002000,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x5cc22017,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x5cc22017,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x10000000,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x5cc22017,0x0,0x0,0x0,0x0,0x3002000,0x1,0x0,0x5cc22017,0x0,0x5cc22017,0x2,0x0,0x0,0x0,0xc000000,0x40000000,0x0,0xc000000,0x40000000,0x0,0x5cc22017,0xc00010,0xc22017,0x0,0x10000000,0x0,0x0,0x0,0x0,0x40002000,0x0,0x10000000,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x5cc22017,0xc000000,0x0,0x0,0x0,0x0,0xc00011,0x0,0x5cc22017,0x0,0x5cc22017,0x0,0x5cc22017,0x0,0x0,0x10c22017,0x0,0x10c22017,0xc00010,0x0,0x40002005,0x0,0x0,0x0,0x0,0x40002005,0x0,0x0,0x0,0x50002005,0x0,0x0,0x40002005,0x0,0x0,0x0,0x0,0x40002005,0x0,0x0,0x0,0x50002005,0x0,0x0,0x2000,0x2000,0x2000,0x0,0x2000,0x0,0x0,0x0,0x5cc22017,0x1,0x2000,0x0,0x0,0x0,0x0,0x1,0xc00015,0x0,0xc00015,0xc00015,0x0,0x0,0x40000000,0x40000000,0x40000000,0x0,0x40000000,0x0,0x0,0x2001,0x0,0xc000000,0x0,0x1,0x0,0x1,0x0,0x1,0x0,0x1,0x0,0x40000000,0x1,0x0,0x40000000,0x1,0x0,0x40000000,0x0,0x0,0x0,0x2001,0x0,0x0,0x40002000,0x40002000,0x50002000,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x1,0xc000000,0x2001,0x2001,0xc000000,0x800011,0x1,0x1,0x2001,0x1,0x0,0x0,0x0,0x0,0x1,0x0,0x10000000,0x0,0x1,0x0,0x0,0x0,0x5,0x0,0x0,0x0,0x0,0x5,0x0,0x0,0x0,0x1,0x1,0x0,0x0,0x1,0x1,0x0,0x0,0x1,0x1,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x2001,0x0,0x1,0x0,0x5,0x5,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0xc000000,0x0,0x0,0x800011,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x5cc22017,0x0,0x0,0x0,0x0,0xc000000,0x0,0x0,0xc000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_5 = new int[] {0x60,0x0,0x0,0x0,0x2000040,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x8000,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x40000000,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0xc008000,0x7,0x0,0x7308805f,0x0,0x7308805f,0x8,0x0,0x0,0x0,0x30000000,0x0,0x0,0x30000000,0x0,0x0,0x7308805f,0x3000040,0x308805f,0x0,0x40000000,0x0,0x0,0x0,0x0,0x8000,0x0,0x40000000,0x7,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x30000000,0x0,0x0,0x0,0x0,0x3000047,0x0,0x7308805f,0x0,0x7308805f,0x0,0x7308805f,0x0,0x0,0x4308805f,0x0,0x4308805f,0x3000040,0x0,0x8017,0x0,0x0,0x0,0x0,0x8017,0x0,0x0,0x0,0x40008017,0x0,0x0,0x8017,0x0,0x0,0x0,0x0,0x8017,0x0,0x0,0x0,0x40008017,0x0,0x0,0x8000,0x8000,0x8000,0x0,0x8000,0x0,0x0,0x0,0x7308805f,0x7,0x8000,0x0,0x0,0x0,0x0,0x7,0x3000057,0x0,0x3000057,0x3000057,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x8007,0x0,0x30000000,0x2,0x7,0x0,0x7,0x0,0x7,0x0,0x7,0x0,0x0,0x7,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x8007,0x0,0x0,0x8000,0x8000,0x40008000,0x7,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x7,0x0,0x7,0x30000000,0x8007,0x8007,0x30000000,0x2000047,0x7,0x7,0x8007,0x4,0x0,0x0,0x0,0x0,0x7,0x0,0x40000000,0x0,0x7,0x0,0x0,0x0,0x40000017,0x0,0x0,0x0,0x0,0x40000017,0x0,0x0,0x0,0x0,0x7,0x7,0x0,0x0,0x7,0x7,0x0,0x0,0x7,0x7,0x0,0x7,0x7,0x0,0x0,0x0,0x0,0x0,0x8007,0x0,0x7,0x0,0x7,0x0,0x17,0x17,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x30000000,0x0,0x0,0x2000047,0x0,0x7,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7308805f,0x0,0x0,0x0,0x0,0x30000000,0x0,0x0,0x30000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_6() {
-      jj_la1_6 = new int[] {0x0,0x0,0x4,0x4,0x0,0x0,0x2000000,0x2000000,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c001,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x4000001,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x8000,0x8000,0x0,0x8,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x2000000,0x2000001,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c001,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c001,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x8,0x0,0x0,0x8,0x8,0x0,0x11,0x100,0x11,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x8,0x8,0x8,0x8,0xc000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc000,0x0,0x8,0x8,0x0,0x8000,0x0,0x8,0x1000,0x4000000,0x600d001,0x8000,0x0,0x8,0x0,0xc000,0x0,0x8,0x600c001,0x8,0x600c001,0x0,0x4000000,0x1,0x10,0x0,0x0,0x100000,0x0,0x0,0xff000000,0x600c001,0x0,0x600c001,0x8,0x0,0x8,0xc000,0x8008,0x8008,0x2000000,0x1,0xc000,0x0,0x0,0x8,0x0,0x0,0x2000010,0x2000010,0x0,0x0,0x0,0x0,0x600c001,0x0,0x2f0f00,0x300,0x0,0x2f0f00,0x0,0x8,0x600c001,0x8,0x600c001,0x8,0x600c001,0x2f0f00,0x0,0x600c001,0x0,0x600c001,0xc000,0x11,0x2000000,0x0,0x0,0x0,0x11,0x2000000,0x0,0x0,0x0,0x2000000,0x8,0x11,0x2000000,0x0,0x0,0x0,0x11,0x2000000,0x0,0x0,0x0,0x2000000,0x8,0x8,0x200c000,0x200c000,0x200c000,0x0,0x200c000,0x0,0x0,0x8,0x600c001,0x4000001,0x6000000,0x1,0x4000000,0x10,0x4000000,0x4000001,0x0,0x8,0x0,0x0,0x2800410,0x400,0x0,0x0,0x0,0x2800400,0x0,0x8,0x0,0x2000000,0x0,0x0,0x0,0x0,0x2800000,0x0,0x2800000,0x0,0x2800000,0x0,0x2800000,0x0,0x0,0x2800000,0x0,0x0,0x2800000,0x0,0x0,0x0,0x0,0x2000000,0x0,0x8,0x2000000,0x2000001,0x2000000,0x0,0x8,0x0,0x1,0x0,0x8,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x3000000,0x3000000,0x0,0x8,0x0,0x0,0x2000000,0x2000000,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x4000000,0x4000000,0x0,0x0,0x0,0x0,0x4000000,0x2000000,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x4000000,0x10,0x10,0x8,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x600c001,0x4,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x4,0x4,0x4,};
+      jj_la1_6 = new int[] {0x0,0x1,0x10,0x10,0x0,0x0,0x8000000,0x8000000,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x10000004,0x0,0x0,0x0,0x0,0x0,0x20,0x1,0x20000,0x20000,0x0,0x20,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x8000001,0x8000005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x18030005,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x20,0x0,0x0,0x20,0x20,0x0,0x44,0x400,0x44,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x20,0x20,0x20,0x20,0x30001,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30000,0x0,0x20,0x20,0x0,0x20000,0x0,0x20,0x4000,0x10000000,0x18034005,0x20000,0x0,0x20,0x0,0x30000,0x0,0x20,0x18030005,0x20,0x18030005,0x0,0x10000000,0x4,0x40,0x0,0x1,0x400000,0x0,0x1,0xfc000000,0x18030005,0x0,0x18030004,0x20,0x0,0x20,0x30000,0x20020,0x20020,0x8000001,0x4,0x30000,0x0,0x0,0x20,0x0,0x0,0x8000040,0x8000040,0x0,0x0,0x0,0x0,0x18030005,0x0,0xbc3c00,0xc00,0x0,0xbc3c00,0x0,0x20,0x18030005,0x20,0x18030005,0x20,0x18030005,0xbc3c00,0x0,0x18030004,0x0,0x18030004,0x30000,0x44,0x8000001,0x0,0x0,0x0,0x44,0x8000001,0x0,0x0,0x0,0x8000001,0x20,0x44,0x8000001,0x0,0x0,0x0,0x44,0x8000001,0x0,0x0,0x0,0x8000001,0x20,0x20,0x8030000,0x8030000,0x8030000,0x0,0x8030000,0x0,0x0,0x20,0x18030005,0x10000004,0x18000000,0x4,0x10000000,0x40,0x10000000,0x10000004,0x0,0x20,0x0,0x0,0xa001040,0x1000,0x1,0x1,0x1,0xa001000,0x1,0x20,0x0,0x8000000,0x0,0x0,0x0,0x0,0xa000000,0x0,0xa000000,0x0,0xa000000,0x0,0xa000000,0x1,0x0,0xa000000,0x1,0x0,0xa000000,0x1,0x0,0x0,0x0,0x8000000,0x0,0x20,0x8000001,0x8000005,0x8000001,0x0,0x20,0x0,0x4,0x0,0x20,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0xc000000,0xc000000,0x0,0x20,0x0,0x0,0x8000000,0x8000000,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x20,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x0,0x0,0x0,0x10000000,0x8000000,0x0,0x0,0x8000000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x10000000,0x40,0x40,0x20,0x0,0x0,0x0,0x0,0x0,0x20,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x18030005,0x10,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x10,0x10,0x10,};
    }
    private static void jj_la1_init_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e,0x0,0x0,0x40000000,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x40000000,0x0,0x0,0x0,0x0,0x40000000,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0xc000,0x0,0x90020000,0x0,0x90020000,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3001,0x90020000,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x90020000,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90030000,0x0,0x1040000,0x0,0x10000,0x1070000,0x90020000,0x0,0x90020000,0x0,0x90020000,0x0,0x90020000,0x1140000,0x0,0x90020000,0x0,0x90020000,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x90020000,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x90020000,0x0,0x0,0x0,0x0,0x0,0x90020000,0x90020000,0x0,0x90020000,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x90020000,0x0,0x0,0x40000000,0x90020000,0x0,0x90020000,0x0,0x90020000,0x0,0x90020000,0x0,0x0,0x90020000,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x90020000,0x0,0x90020000,0x0,0x90020000,0x90020000,0x0,0x90020000,0x90020000,0x90020000,0x90020000,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x90020000,0x10000000,0x0,0x0,0x0,0x90020000,0x10000000,0x0,0x0,0x90020000,0x90020000,0x0,0x0,0x90020000,0x90020000,0x0,0x0,0x90020000,0x90020000,0x90020000,0x90020000,0x0,0x40000000,0x0,0x0,0x0,0x90020000,0x0,0x90020000,0x0,0x90020000,0x90020000,0x0,0x0,0xd0020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x90020000,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x90020000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x78,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x30000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc007,0x40080000,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400c0000,0x0,0x4100000,0x0,0x40000,0x41c0000,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x4500000,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x40080000,0x0,0x40080000,0x40080000,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x40080000,0x40000000,0x0,0x0,0x0,0x40080000,0x40000000,0x0,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x40080000,0x40080000,0x0,0x0,0x40080000,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x40080000,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40080000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x401,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x400,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x401,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x401,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x61,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x401,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x401,0x0,0x401,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x401,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x60,0x80,0x1,0x60,0x0,0x1,0x800,0x0,0x0,0x1c,0x1e,0x0,0x0,0x401,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x401,0x0,0x401,0x0,0x401,0x0,0x0,0x1,0x0,0x1,0x0,0x0,0x401,0x0,0x0,0x0,0x0,0x401,0x0,0x0,0x0,0x401,0x0,0x0,0x401,0x0,0x0,0x0,0x0,0x401,0x0,0x0,0x0,0x401,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x401,0x1,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60,0x1,0x60,0x0,0x60,0x1,0x0,0x1,0x0,0x1,0x0,0x1,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x400,0x400,0x400,0x61,0x0,0x61,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x1,0x0,0x1,0x1,0x0,0x1001,0x1,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x1,0x1,0x0,0x0,0x1,0x1,0x0,0x0,0x1,0x1,0x801,0x801,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x1,0x0,0x1,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x401,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7e000,0x7e000,0x180000,0x180000,0x600000,0x600000,0x0,0x0,0x0,0x0,};
+      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x186,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x180,0x0,0x0,0x1,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x1006,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x181,0x200,0x6,0x180,0x0,0x6,0x2000,0x0,0x0,0x70,0x78,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x1006,0x0,0x1006,0x0,0x1006,0x0,0x0,0x6,0x0,0x6,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x1006,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x6,0x0,0x0,0x0,0x0,0x0,0x6,0x6,0x0,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x181,0x6,0x180,0x0,0x181,0x6,0x0,0x6,0x0,0x6,0x0,0x6,0x0,0x0,0x6,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x1000,0x1000,0x1000,0x186,0x0,0x186,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x6,0x0,0x6,0x0,0x6,0x6,0x0,0x4006,0x6,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x6,0x6,0x0,0x0,0x6,0x6,0x0,0x0,0x6,0x6,0x0,0x2006,0x2006,0x0,0x1,0x0,0x0,0x0,0x6,0x0,0x6,0x0,0x2006,0x0,0x6,0x6,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x6,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1f8000,0x1f8000,0x600000,0x600000,0x1800000,0x1800000,0x0,0x0,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[161];
+  final private JJCalls[] jj_2_rtns = new JJCalls[162];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -31449,7 +31943,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 424; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 428; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -31460,7 +31954,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 424; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 428; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -31470,7 +31964,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 424; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 428; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -31481,7 +31975,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 424; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 428; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -31593,12 +32087,12 @@ Token token;
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[279];
+    boolean[] la1tokens = new boolean[281];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 424; i++) {
+    for (int i = 0; i < 428; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -31631,7 +32125,7 @@ Token token;
         }
       }
     }
-    for (int i = 0; i < 279; i++) {
+    for (int i = 0; i < 281; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -31658,7 +32152,7 @@ Token token;
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 161; i++) {
+    for (int i = 0; i < 162; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -31826,6 +32320,7 @@ Token token;
             case 158: jj_3_159(); break;
             case 159: jj_3_160(); break;
             case 160: jj_3_161(); break;
+            case 161: jj_3_162(); break;
           }
         }
         p = p.next;
@@ -19,267 +19,267 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active3 & 0x20L) != 0L)
-            return 1107;
-         if ((active0 & 0x80L) != 0L || (active3 & 0x1008000000L) != 0L)
-            return 2;
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 255;
+            jjmatchedKind = 257;
             return 31;
          }
          if ((active3 & 0x80L) != 0L)
+            return 1119;
+         if ((active0 & 0x80L) != 0L || (active3 & 0x4020000000L) != 0L)
+            return 2;
+         if ((active3 & 0x200L) != 0L)
             return 37;
-         if ((active3 & 0x40L) != 0L)
+         if ((active3 & 0x100L) != 0L)
             return 31;
-         if ((active3 & 0x402800000L) != 0L || (active4 & 0x7fe000L) != 0L)
-            return 1201;
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
-            jjmatchedKind = 255;
-            return 899;
+            jjmatchedKind = 257;
+            return 911;
          }
-         if ((active3 & 0xc00000000010L) != 0L)
+         if ((active3 & 0x100a000000L) != 0L || (active4 & 0x1ff8000L) != 0L)
+            return 1213;
+         if ((active3 & 0x3000000000040L) != 0L)
             return 13;
          return -1;
       case 1:
          if ((active0 & 0x80L) != 0L)
             return 0;
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
-            return 31;
+            return 966;
          }
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
-            return 954;
+            return 31;
          }
          return -1;
       case 2:
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 2;
             }
             return 31;
          }
          return -1;
       case 3:
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
-            jjmatchedKind = 255;
+            jjmatchedKind = 257;
             jjmatchedPos = 3;
             return 31;
          }
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 4:
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
-            if (jjmatchedPos != 4)
+            if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
-               jjmatchedPos = 4;
+               jjmatchedKind = 257;
+               jjmatchedPos = 1;
             }
-            return 31;
+            return -1;
          }
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
-            if (jjmatchedPos < 1)
+            if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 255;
-               jjmatchedPos = 1;
+               jjmatchedKind = 257;
+               jjmatchedPos = 4;
             }
-            return -1;
+            return 31;
          }
          return -1;
       case 5:
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 6:
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 7:
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 8:
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 9:
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 10:
-         if ((active4 & 0x1000L) != 0L)
+         if ((active4 & 0x4000L) != 0L)
          {
             if (jjmatchedPos < 4)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 4;
             }
             return -1;
          }
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 11:
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 12:
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 13:
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
          }
          return -1;
       case 14:
-         if ((active4 & 0x800L) != 0L)
+         if ((active4 & 0x2000L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
-               jjmatchedKind = 255;
+               jjmatchedKind = 257;
                jjmatchedPos = 1;
             }
             return -1;
@@ -304,78 +304,78 @@ private int jjMoveStringLiteralDfa0_0()
    switch(curChar)
    {
       case 33:
-         jjmatchedKind = 204;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x40000L, 0x0L);
+         jjmatchedKind = 206;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x100000L, 0x0L);
       case 35:
-         return jjStopAtPos(0, 266);
+         return jjStopAtPos(0, 268);
       case 36:
-         return jjStartNfaWithStates_0(0, 198, 31);
+         return jjStartNfaWithStates_0(0, 200, 31);
       case 37:
-         jjmatchedKind = 223;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x10000000000L, 0x0L);
+         jjmatchedKind = 225;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x40000000000L, 0x0L);
       case 38:
-         jjmatchedKind = 220;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x2000200000L, 0x0L);
+         jjmatchedKind = 222;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x8000800000L, 0x0L);
       case 40:
-         return jjStopAtPos(0, 188);
+         return jjStopAtPos(0, 190);
       case 41:
-         return jjStopAtPos(0, 189);
+         return jjStopAtPos(0, 191);
       case 42:
-         jjmatchedKind = 218;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x800000000L, 0x0L);
+         jjmatchedKind = 220;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x2000000000L, 0x0L);
       case 43:
-         jjmatchedKind = 216;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x200400000L, 0x0L);
+         jjmatchedKind = 218;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x801000000L, 0x0L);
       case 44:
-         return jjStopAtPos(0, 195);
+         return jjStopAtPos(0, 197);
       case 45:
-         jjmatchedKind = 217;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x400800000L, 0x7fe000L);
+         jjmatchedKind = 219;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x1002000000L, 0x1ff8000L);
       case 46:
-         jjmatchedKind = 196;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0xc00000000000L, 0x0L);
+         jjmatchedKind = 198;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x3000000000000L, 0x0L);
       case 47:
-         jjmatchedKind = 219;
-         return jjMoveStringLiteralDfa1_0(0x80L, 0x1000000000L, 0x0L);
+         jjmatchedKind = 221;
+         return jjMoveStringLiteralDfa1_0(0x80L, 0x4000000000L, 0x0L);
       case 58:
-         return jjStopAtPos(0, 207);
+         return jjStopAtPos(0, 209);
       case 59:
-         return jjStopAtPos(0, 194);
+         return jjStopAtPos(0, 196);
       case 60:
-         jjmatchedKind = 202;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x20100090000L, 0x0L);
+         jjmatchedKind = 204;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x80400240000L, 0x0L);
       case 61:
-         jjmatchedKind = 200;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x200L, 0x0L);
+         jjmatchedKind = 202;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x800L, 0x0L);
       case 62:
-         jjmatchedKind = 203;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x3c0000020000L, 0x0L);
+         jjmatchedKind = 205;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0xf00000080000L, 0x0L);
       case 63:
-         return jjStopAtPos(0, 206);
+         return jjStopAtPos(0, 208);
       case 64:
-         return jjStartNfaWithStates_0(0, 197, 1107);
+         return jjStartNfaWithStates_0(0, 199, 1119);
       case 91:
-         return jjStopAtPos(0, 192);
+         return jjStopAtPos(0, 194);
       case 93:
-         return jjStopAtPos(0, 193);
+         return jjStopAtPos(0, 195);
       case 94:
-         jjmatchedKind = 222;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x8000000000L, 0x0L);
+         jjmatchedKind = 224;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x20000000000L, 0x0L);
       case 95:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x800L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x2000L);
       case 96:
-         return jjStartNfaWithStates_0(0, 199, 37);
+         return jjStartNfaWithStates_0(0, 201, 37);
       case 114:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x1000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x4000L);
       case 123:
-         return jjStopAtPos(0, 190);
+         return jjStopAtPos(0, 192);
       case 124:
-         jjmatchedKind = 221;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x4000100000L, 0x0L);
+         jjmatchedKind = 223;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x10000400000L, 0x0L);
       case 125:
-         return jjStopAtPos(0, 191);
+         return jjStopAtPos(0, 193);
       case 126:
-         return jjStopAtPos(0, 205);
+         return jjStopAtPos(0, 207);
       default :
          return jjMoveNfa_0(3, 0);
    }
@@ -390,48 +390,44 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active3, long active4)
    switch(curChar)
    {
       case 38:
-         if ((active3 & 0x200000L) != 0L)
-            return jjStopAtPos(1, 213);
+         if ((active3 & 0x800000L) != 0L)
+            return jjStopAtPos(1, 215);
          break;
       case 42:
          if ((active0 & 0x80L) != 0L)
             return jjStartNfaWithStates_0(1, 7, 0);
          break;
       case 43:
-         if ((active3 & 0x400000L) != 0L)
-            return jjStopAtPos(1, 214);
+         if ((active3 & 0x1000000L) != 0L)
+            return jjStopAtPos(1, 216);
          break;
       case 45:
-         if ((active3 & 0x800000L) != 0L)
-            return jjStopAtPos(1, 215);
+         if ((active3 & 0x2000000L) != 0L)
+            return jjStopAtPos(1, 217);
          break;
       case 46:
-         if ((active3 & 0x800000000000L) != 0L)
+         if ((active3 & 0x2000000000000L) != 0L)
          {
-            jjmatchedKind = 239;
+            jjmatchedKind = 241;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x400000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x1000000000000L, active4, 0L);
       case 60:
-         if ((active3 & 0x100000000L) != 0L)
+         if ((active3 & 0x400000000L) != 0L)
          {
-            jjmatchedKind = 224;
+            jjmatchedKind = 226;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x20000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x80000000000L, active4, 0L);
       case 61:
-         if ((active3 & 0x200L) != 0L)
-            return jjStopAtPos(1, 201);
-         else if ((active3 & 0x10000L) != 0L)
-            return jjStopAtPos(1, 208);
-         else if ((active3 & 0x20000L) != 0L)
-            return jjStopAtPos(1, 209);
+         if ((active3 & 0x800L) != 0L)
+            return jjStopAtPos(1, 203);
          else if ((active3 & 0x40000L) != 0L)
             return jjStopAtPos(1, 210);
-         else if ((active3 & 0x200000000L) != 0L)
-            return jjStopAtPos(1, 225);
-         else if ((active3 & 0x400000000L) != 0L)
-            return jjStopAtPos(1, 226);
+         else if ((active3 & 0x80000L) != 0L)
+            return jjStopAtPos(1, 211);
+         else if ((active3 & 0x100000L) != 0L)
+            return jjStopAtPos(1, 212);
          else if ((active3 & 0x800000000L) != 0L)
             return jjStopAtPos(1, 227);
          else if ((active3 & 0x1000000000L) != 0L)
@@ -444,35 +440,39 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active3, long active4)
             return jjStopAtPos(1, 231);
          else if ((active3 & 0x10000000000L) != 0L)
             return jjStopAtPos(1, 232);
+         else if ((active3 & 0x20000000000L) != 0L)
+            return jjStopAtPos(1, 233);
+         else if ((active3 & 0x40000000000L) != 0L)
+            return jjStopAtPos(1, 234);
          break;
       case 62:
-         if ((active3 & 0x80000L) != 0L)
-            return jjStopAtPos(1, 211);
-         else if ((active3 & 0x100000000000L) != 0L)
+         if ((active3 & 0x200000L) != 0L)
+            return jjStopAtPos(1, 213);
+         else if ((active3 & 0x400000000000L) != 0L)
          {
-            jjmatchedKind = 236;
+            jjmatchedKind = 238;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0x2c0000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0xb00000000000L, active4, 0L);
       case 95:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x800L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x2000L);
       case 97:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x20000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x80000L);
       case 100:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x4000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x10000L);
       case 102:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x380000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0xe00000L);
       case 108:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x8000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x20000L);
       case 109:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x410000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x1040000L);
       case 111:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x41000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x104000L);
       case 115:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x2000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active3, 0L, active4, 0x8000L);
       case 124:
-         if ((active3 & 0x100000L) != 0L)
-            return jjStopAtPos(1, 212);
+         if ((active3 & 0x400000L) != 0L)
+            return jjStopAtPos(1, 214);
          break;
       default :
          break;
@@ -491,38 +491,38 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old3, long a
    switch(curChar)
    {
       case 46:
-         if ((active3 & 0x400000000000L) != 0L)
-            return jjStopAtPos(2, 238);
+         if ((active3 & 0x1000000000000L) != 0L)
+            return jjStopAtPos(2, 240);
          break;
       case 61:
-         if ((active3 & 0x20000000000L) != 0L)
-            return jjStopAtPos(2, 233);
-         else if ((active3 & 0x40000000000L) != 0L)
-            return jjStopAtPos(2, 234);
+         if ((active3 & 0x80000000000L) != 0L)
+            return jjStopAtPos(2, 235);
+         else if ((active3 & 0x100000000000L) != 0L)
+            return jjStopAtPos(2, 236);
          break;
       case 62:
-         if ((active3 & 0x200000000000L) != 0L)
+         if ((active3 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 237;
+            jjmatchedKind = 239;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active3, 0x80000000000L, active4, 0L);
+         return jjMoveStringLiteralDfa3_0(active3, 0x200000000000L, active4, 0L);
       case 64:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x800L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x2000L);
       case 97:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x8000L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x20000L);
       case 98:
-         if ((active4 & 0x4000L) != 0L)
-            return jjStopAtPos(2, 270);
+         if ((active4 & 0x10000L) != 0L)
+            return jjStopAtPos(2, 272);
          break;
       case 101:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x412000L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x1048000L);
       case 108:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x20000L);
-      case 111:
          return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x80000L);
+      case 111:
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x200000L);
       case 117:
-         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x341000L);
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0xd04000L);
       default :
          break;
    }
@@ -540,21 +540,21 @@ private int jjMoveStringLiteralDfa3_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 61:
-         if ((active3 & 0x80000000000L) != 0L)
-            return jjStopAtPos(3, 235);
+         if ((active3 & 0x200000000000L) != 0L)
+            return jjStopAtPos(3, 237);
          break;
       case 108:
-         if ((active4 & 0x20000L) != 0L)
-            return jjStopAtPos(3, 273);
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x300000L);
+         if ((active4 & 0x80000L) != 0L)
+            return jjStopAtPos(3, 275);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0xc00000L);
       case 110:
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x1000L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x4000L);
       case 114:
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x482800L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x120a000L);
       case 115:
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x10000L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x40000L);
       case 116:
-         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x48000L);
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x120000L);
       default :
          break;
    }
@@ -572,26 +572,26 @@ private int jjMoveStringLiteralDfa4_0(long old3, long active3, long old4, long a
    switch(curChar)
    {
       case 99:
-         return jjMoveStringLiteralDfa5_0(active4, 0x80000L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x200000L);
       case 100:
-         return jjMoveStringLiteralDfa5_0(active4, 0x1000L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x4000L);
       case 101:
-         return jjMoveStringLiteralDfa5_0(active4, 0x8800L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x22000L);
       case 103:
-         return jjMoveStringLiteralDfa5_0(active4, 0x400000L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x1000000L);
       case 108:
-         if ((active4 & 0x100000L) != 0L)
+         if ((active4 & 0x400000L) != 0L)
          {
-            jjmatchedKind = 276;
+            jjmatchedKind = 278;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_0(active4, 0x200000L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x800000L);
       case 112:
-         return jjMoveStringLiteralDfa5_0(active4, 0x40000L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x100000L);
       case 115:
-         return jjMoveStringLiteralDfa5_0(active4, 0x10000L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x40000L);
       case 118:
-         return jjMoveStringLiteralDfa5_0(active4, 0x2000L);
+         return jjMoveStringLiteralDfa5_0(active4, 0x8000L);
       default :
          break;
    }
@@ -609,23 +609,23 @@ private int jjMoveStringLiteralDfa5_0(long old4, long active4)
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa6_0(active4, 0x1000L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x4000L);
       case 95:
-         return jjMoveStringLiteralDfa6_0(active4, 0x200000L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x800000L);
       case 97:
-         return jjMoveStringLiteralDfa6_0(active4, 0x10000L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x40000L);
       case 99:
-         return jjMoveStringLiteralDfa6_0(active4, 0x800L);
-      case 101:
-         if ((active4 & 0x80000L) != 0L)
-            return jjStopAtPos(5, 275);
-         else if ((active4 & 0x400000L) != 0L)
-            return jjStopAtPos(5, 278);
          return jjMoveStringLiteralDfa6_0(active4, 0x2000L);
-      case 110:
+      case 101:
+         if ((active4 & 0x200000L) != 0L)
+            return jjStopAtPos(5, 277);
+         else if ((active4 & 0x1000000L) != 0L)
+            return jjStopAtPos(5, 280);
          return jjMoveStringLiteralDfa6_0(active4, 0x8000L);
+      case 110:
+         return jjMoveStringLiteralDfa6_0(active4, 0x20000L);
       case 117:
-         return jjMoveStringLiteralDfa6_0(active4, 0x40000L);
+         return jjMoveStringLiteralDfa6_0(active4, 0x100000L);
       default :
          break;
    }
@@ -643,15 +643,15 @@ private int jjMoveStringLiteralDfa6_0(long old4, long active4)
    switch(curChar)
    {
       case 99:
-         return jjMoveStringLiteralDfa7_0(active4, 0x8000L);
+         return jjMoveStringLiteralDfa7_0(active4, 0x20000L);
       case 103:
-         return jjMoveStringLiteralDfa7_0(active4, 0x10000L);
+         return jjMoveStringLiteralDfa7_0(active4, 0x40000L);
       case 111:
-         return jjMoveStringLiteralDfa7_0(active4, 0x800L);
+         return jjMoveStringLiteralDfa7_0(active4, 0x2000L);
       case 114:
-         return jjMoveStringLiteralDfa7_0(active4, 0x203000L);
+         return jjMoveStringLiteralDfa7_0(active4, 0x80c000L);
       case 116:
-         return jjMoveStringLiteralDfa7_0(active4, 0x40000L);
+         return jjMoveStringLiteralDfa7_0(active4, 0x100000L);
       default :
          break;
    }
@@ -669,21 +669,21 @@ private int jjMoveStringLiteralDfa7_0(long old4, long active4)
    switch(curChar)
    {
       case 61:
-         return jjMoveStringLiteralDfa8_0(active4, 0x40000L);
+         return jjMoveStringLiteralDfa8_0(active4, 0x100000L);
       case 101:
-         return jjMoveStringLiteralDfa8_0(active4, 0x210000L);
+         return jjMoveStringLiteralDfa8_0(active4, 0x840000L);
       case 111:
-         return jjMoveStringLiteralDfa8_0(active4, 0x1000L);
+         return jjMoveStringLiteralDfa8_0(active4, 0x4000L);
       case 114:
-         return jjMoveStringLiteralDfa8_0(active4, 0x800L);
+         return jjMoveStringLiteralDfa8_0(active4, 0x2000L);
       case 115:
-         if ((active4 & 0x2000L) != 0L)
-            return jjStopAtPos(7, 269);
-         break;
-      case 121:
          if ((active4 & 0x8000L) != 0L)
             return jjStopAtPos(7, 271);
          break;
+      case 121:
+         if ((active4 & 0x20000L) != 0L)
+            return jjStopAtPos(7, 273);
+         break;
       default :
          break;
    }
@@ -701,17 +701,17 @@ private int jjMoveStringLiteralDfa8_0(long old4, long active4)
    switch(curChar)
    {
       case 98:
-         return jjMoveStringLiteralDfa9_0(active4, 0x1000L);
+         return jjMoveStringLiteralDfa9_0(active4, 0x4000L);
       case 100:
-         return jjMoveStringLiteralDfa9_0(active4, 0x800L);
+         return jjMoveStringLiteralDfa9_0(active4, 0x2000L);
       case 112:
-         return jjMoveStringLiteralDfa9_0(active4, 0x200000L);
+         return jjMoveStringLiteralDfa9_0(active4, 0x800000L);
       case 115:
-         if ((active4 & 0x10000L) != 0L)
-            return jjStopAtPos(8, 272);
+         if ((active4 & 0x40000L) != 0L)
+            return jjStopAtPos(8, 274);
          break;
       case 116:
-         return jjMoveStringLiteralDfa9_0(active4, 0x40000L);
+         return jjMoveStringLiteralDfa9_0(active4, 0x100000L);
       default :
          break;
    }
@@ -729,13 +729,13 @@ private int jjMoveStringLiteralDfa9_0(long old4, long active4)
    switch(curChar)
    {
       case 101:
-         return jjMoveStringLiteralDfa10_0(active4, 0x40000L);
+         return jjMoveStringLiteralDfa10_0(active4, 0x100000L);
       case 105:
-         return jjMoveStringLiteralDfa10_0(active4, 0x1000L);
+         return jjMoveStringLiteralDfa10_0(active4, 0x4000L);
       case 108:
-         return jjMoveStringLiteralDfa10_0(active4, 0x200000L);
+         return jjMoveStringLiteralDfa10_0(active4, 0x800000L);
       case 109:
-         return jjMoveStringLiteralDfa10_0(active4, 0x800L);
+         return jjMoveStringLiteralDfa10_0(active4, 0x2000L);
       default :
          break;
    }
@@ -753,13 +753,13 @@ private int jjMoveStringLiteralDfa10_0(long old4, long active4)
    switch(curChar)
    {
       case 97:
-         return jjMoveStringLiteralDfa11_0(active4, 0x200800L);
+         return jjMoveStringLiteralDfa11_0(active4, 0x802000L);
       case 110:
-         if ((active4 & 0x1000L) != 0L)
-            return jjStopAtPos(10, 268);
+         if ((active4 & 0x4000L) != 0L)
+            return jjStopAtPos(10, 270);
          break;
       case 120:
-         return jjMoveStringLiteralDfa11_0(active4, 0x40000L);
+         return jjMoveStringLiteralDfa11_0(active4, 0x100000L);
       default :
          break;
    }
@@ -777,12 +777,12 @@ private int jjMoveStringLiteralDfa11_0(long old4, long active4)
    switch(curChar)
    {
       case 99:
-         return jjMoveStringLiteralDfa12_0(active4, 0x200000L);
+         return jjMoveStringLiteralDfa12_0(active4, 0x800000L);
       case 112:
-         return jjMoveStringLiteralDfa12_0(active4, 0x800L);
+         return jjMoveStringLiteralDfa12_0(active4, 0x2000L);
       case 116:
-         if ((active4 & 0x40000L) != 0L)
-            return jjStopAtPos(11, 274);
+         if ((active4 & 0x100000L) != 0L)
+            return jjStopAtPos(11, 276);
          break;
       default :
          break;
@@ -801,10 +801,10 @@ private int jjMoveStringLiteralDfa12_0(long old4, long active4)
    switch(curChar)
    {
       case 64:
-         return jjMoveStringLiteralDfa13_0(active4, 0x800L);
+         return jjMoveStringLiteralDfa13_0(active4, 0x2000L);
       case 101:
-         if ((active4 & 0x200000L) != 0L)
-            return jjStopAtPos(12, 277);
+         if ((active4 & 0x800000L) != 0L)
+            return jjStopAtPos(12, 279);
          break;
       default :
          break;
@@ -823,7 +823,7 @@ private int jjMoveStringLiteralDfa13_0(long old4, long active4)
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa14_0(active4, 0x800L);
+         return jjMoveStringLiteralDfa14_0(active4, 0x2000L);
       default :
          break;
    }
@@ -841,7 +841,7 @@ private int jjMoveStringLiteralDfa14_0(long old4, long active4)
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa15_0(active4, 0x800L);
+         return jjMoveStringLiteralDfa15_0(active4, 0x2000L);
       default :
          break;
    }
@@ -859,8 +859,8 @@ private int jjMoveStringLiteralDfa15_0(long old4, long active4)
    switch(curChar)
    {
       case 95:
-         if ((active4 & 0x800L) != 0L)
-            return jjStopAtPos(15, 267);
+         if ((active4 & 0x2000L) != 0L)
+            return jjStopAtPos(15, 269);
          break;
       default :
          break;
@@ -884,7 +884,7 @@ static final long[] jjbitVec2 = {
 private int jjMoveNfa_0(int startState, int curPos)
 {
    int startsAt = 0;
-   jjnewStateCnt = 1228;
+   jjnewStateCnt = 1240;
    int i = 1;
    jjstateSet[0] = startState;
    int kind = 0x7fffffff;
@@ -903,65 +903,65 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 33:
                   jjCheckNAddStates(0, 2);
                   break;
-               case 954:
-               case 31:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 255)
-                     kind = 255;
-                  jjCheckNAdd(31);
-                  break;
-               case 899:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 255)
-                     kind = 255;
-                  jjCheckNAdd(31);
-                  break;
-               case 1201:
-                  if ((0x3fe000000000000L & l) != 0L)
-                     jjCheckNAddStates(3, 5);
-                  else if (curChar == 48)
-                     jjCheckNAddStates(6, 9);
-                  if ((0x3fe000000000000L & l) != 0L)
-                     jjCheckNAddStates(10, 12);
-                  else if (curChar == 48)
-                     jjCheckNAddStates(13, 16);
-                  break;
                case 3:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(17, 23);
+                     jjCheckNAddStates(3, 9);
                   else if (curChar == 45)
-                     jjAddStates(24, 27);
+                     jjAddStates(10, 13);
                   else if (curChar == 39)
-                     jjCheckNAddStates(28, 32);
+                     jjCheckNAddStates(14, 18);
                   else if (curChar == 36)
                   {
-                     if (kind > 255)
-                        kind = 255;
+                     if (kind > 257)
+                        kind = 257;
                      jjCheckNAdd(31);
                   }
                   else if (curChar == 34)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   else if (curChar == 46)
                      jjCheckNAdd(13);
                   else if (curChar == 47)
                      jjstateSet[jjnewStateCnt++] = 2;
                   if ((0x3fe000000000000L & l) != 0L)
                   {
-                     if (kind > 173)
-                        kind = 173;
-                     jjCheckNAddStates(36, 43);
+                     if (kind > 175)
+                        kind = 175;
+                     jjCheckNAddStates(22, 29);
                   }
                   else if (curChar == 48)
                   {
-                     if (kind > 173)
-                        kind = 173;
-                     jjCheckNAddStates(44, 56);
+                     if (kind > 175)
+                        kind = 175;
+                     jjCheckNAddStates(30, 42);
                   }
                   else if (curChar == 34)
                      jjstateSet[jjnewStateCnt++] = 6;
                   break;
+               case 1213:
+                  if ((0x3fe000000000000L & l) != 0L)
+                     jjCheckNAddStates(43, 45);
+                  else if (curChar == 48)
+                     jjCheckNAddStates(46, 49);
+                  if ((0x3fe000000000000L & l) != 0L)
+                     jjCheckNAddStates(50, 52);
+                  else if (curChar == 48)
+                     jjCheckNAddStates(53, 56);
+                  break;
+               case 911:
+               case 31:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 257)
+                     kind = 257;
+                  jjCheckNAdd(31);
+                  break;
+               case 966:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 257)
+                     kind = 257;
+                  jjCheckNAdd(31);
+                  break;
                case 0:
                   if (curChar == 42)
                      jjstateSet[jjnewStateCnt++] = 1;
@@ -975,8 +975,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 0;
                   break;
                case 10:
-                  if (curChar == 34 && kind > 164)
-                     kind = 164;
+                  if (curChar == 34 && kind > 166)
+                     kind = 166;
                   break;
                case 11:
                   if (curChar == 34)
@@ -989,8 +989,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 13:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
+                  if (kind > 179)
+                     kind = 179;
                   jjCheckNAddStates(57, 59);
                   break;
                case 15:
@@ -1000,25 +1000,25 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 16:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
+                  if (kind > 179)
+                     kind = 179;
                   jjCheckNAddTwoStates(16, 17);
                   break;
                case 18:
                   if (curChar == 34)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 19:
                   if ((0xfffffffbffffdbffL & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 21:
                   if ((0x808400000000L & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 22:
-                  if (curChar == 34 && kind > 183)
-                     kind = 183;
+                  if (curChar == 34 && kind > 185)
+                     kind = 185;
                   break;
                case 23:
                   if ((0xff000000000000L & l) != 0L)
@@ -1026,7 +1026,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 24:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 25:
                   if ((0xf000000000000L & l) != 0L)
@@ -1039,8 +1039,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 30:
                   if (curChar != 36)
                      break;
-                  if (kind > 255)
-                     kind = 255;
+                  if (kind > 257)
+                     kind = 257;
                   jjCheckNAdd(31);
                   break;
                case 38:
@@ -1050,20 +1050,20 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 39:
                   if (curChar != 36)
                      break;
-                  if (kind > 263)
-                     kind = 263;
+                  if (kind > 265)
+                     kind = 265;
                   jjCheckNAdd(40);
                   break;
                case 40:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 263)
-                     kind = 263;
+                  if (kind > 265)
+                     kind = 265;
                   jjCheckNAdd(40);
                   break;
                case 53:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(17, 23);
+                     jjCheckNAddStates(3, 9);
                   break;
                case 54:
                   if ((0x3ff000000000000L & l) != 0L)
@@ -1088,8 +1088,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 61:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
+                  if (kind > 179)
+                     kind = 179;
                   jjCheckNAddTwoStates(61, 17);
                   break;
                case 62:
@@ -1099,15 +1099,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 63:
                   if (curChar != 46)
                      break;
-                  if (kind > 177)
-                     kind = 177;
+                  if (kind > 179)
+                     kind = 179;
                   jjCheckNAddStates(67, 69);
                   break;
                case 64:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
+                  if (kind > 179)
+                     kind = 179;
                   jjCheckNAddStates(67, 69);
                   break;
                case 66:
@@ -1117,453 +1117,453 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 67:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
+                  if (kind > 179)
+                     kind = 179;
                   jjCheckNAddTwoStates(67, 17);
                   break;
-               case 298:
-                  if (curChar == 58 && kind > 257)
-                     kind = 257;
+               case 304:
+                  if (curChar == 58 && kind > 259)
+                     kind = 259;
                   break;
-               case 309:
+               case 315:
                   if (curChar == 58)
                      jjAddStates(70, 71);
                   break;
-               case 311:
+               case 317:
                   if (curChar != 36)
                      break;
-                  if (kind > 258)
-                     kind = 258;
-                  jjCheckNAddTwoStates(312, 313);
+                  if (kind > 260)
+                     kind = 260;
+                  jjCheckNAddTwoStates(318, 319);
                   break;
-               case 312:
+               case 318:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 258)
-                     kind = 258;
-                  jjCheckNAddTwoStates(312, 313);
+                  if (kind > 260)
+                     kind = 260;
+                  jjCheckNAddTwoStates(318, 319);
                   break;
-               case 313:
+               case 319:
                   if ((0x600000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 314;
+                     jjstateSet[jjnewStateCnt++] = 320;
                   break;
-               case 314:
+               case 320:
                   if (curChar != 36)
                      break;
-                  if (kind > 258)
-                     kind = 258;
-                  jjCheckNAddTwoStates(313, 315);
+                  if (kind > 260)
+                     kind = 260;
+                  jjCheckNAddTwoStates(319, 321);
                   break;
-               case 315:
+               case 321:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 258)
-                     kind = 258;
-                  jjCheckNAddTwoStates(313, 315);
+                  if (kind > 260)
+                     kind = 260;
+                  jjCheckNAddTwoStates(319, 321);
                   break;
-               case 344:
+               case 350:
                   if (curChar == 58)
                      jjAddStates(72, 73);
                   break;
-               case 346:
+               case 352:
                   if (curChar != 36)
                      break;
-                  if (kind > 259)
-                     kind = 259;
-                  jjCheckNAddTwoStates(347, 348);
+                  if (kind > 261)
+                     kind = 261;
+                  jjCheckNAddTwoStates(353, 354);
                   break;
-               case 347:
+               case 353:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 259)
-                     kind = 259;
-                  jjCheckNAddTwoStates(347, 348);
+                  if (kind > 261)
+                     kind = 261;
+                  jjCheckNAddTwoStates(353, 354);
                   break;
-               case 348:
+               case 354:
                   if ((0x600000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 349;
+                     jjstateSet[jjnewStateCnt++] = 355;
                   break;
-               case 349:
+               case 355:
                   if (curChar != 36)
                      break;
-                  if (kind > 259)
-                     kind = 259;
-                  jjCheckNAddTwoStates(348, 350);
+                  if (kind > 261)
+                     kind = 261;
+                  jjCheckNAddTwoStates(354, 356);
                   break;
-               case 350:
+               case 356:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 259)
-                     kind = 259;
-                  jjCheckNAddTwoStates(348, 350);
+                  if (kind > 261)
+                     kind = 261;
+                  jjCheckNAddTwoStates(354, 356);
                   break;
-               case 380:
+               case 386:
                   if (curChar == 58)
                      jjAddStates(74, 75);
                   break;
-               case 382:
+               case 388:
                   if (curChar != 36)
                      break;
-                  if (kind > 260)
-                     kind = 260;
-                  jjCheckNAddTwoStates(383, 384);
+                  if (kind > 262)
+                     kind = 262;
+                  jjCheckNAddTwoStates(389, 390);
                   break;
-               case 383:
+               case 389:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 260)
-                     kind = 260;
-                  jjCheckNAddTwoStates(383, 384);
+                  if (kind > 262)
+                     kind = 262;
+                  jjCheckNAddTwoStates(389, 390);
                   break;
-               case 384:
+               case 390:
                   if ((0x600000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 385;
+                     jjstateSet[jjnewStateCnt++] = 391;
                   break;
-               case 385:
+               case 391:
                   if (curChar != 36)
                      break;
-                  if (kind > 260)
-                     kind = 260;
-                  jjCheckNAddTwoStates(384, 386);
+                  if (kind > 262)
+                     kind = 262;
+                  jjCheckNAddTwoStates(390, 392);
                   break;
-               case 386:
+               case 392:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 260)
-                     kind = 260;
-                  jjCheckNAddTwoStates(384, 386);
+                  if (kind > 262)
+                     kind = 262;
+                  jjCheckNAddTwoStates(390, 392);
                   break;
-               case 559:
+               case 565:
                   if (curChar == 58)
-                     jjstateSet[jjnewStateCnt++] = 560;
+                     jjstateSet[jjnewStateCnt++] = 566;
                   break;
-               case 560:
+               case 566:
                   if (curChar != 36)
                      break;
-                  if (kind > 261)
-                     kind = 261;
-                  jjCheckNAdd(561);
+                  if (kind > 263)
+                     kind = 263;
+                  jjCheckNAdd(567);
                   break;
-               case 561:
+               case 567:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 261)
-                     kind = 261;
-                  jjCheckNAdd(561);
+                  if (kind > 263)
+                     kind = 263;
+                  jjCheckNAdd(567);
                   break;
-               case 568:
+               case 574:
                   if (curChar == 58)
                      jjAddStates(76, 77);
                   break;
-               case 569:
+               case 575:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 262)
-                     kind = 262;
-                  jjCheckNAddTwoStates(570, 571);
+                  if (kind > 264)
+                     kind = 264;
+                  jjCheckNAddTwoStates(576, 577);
                   break;
-               case 570:
+               case 576:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 262)
-                     kind = 262;
-                  jjCheckNAddTwoStates(570, 571);
+                  if (kind > 264)
+                     kind = 264;
+                  jjCheckNAddTwoStates(576, 577);
                   break;
-               case 572:
+               case 578:
                   if (curChar != 48)
                      break;
-                  if (kind > 262)
-                     kind = 262;
+                  if (kind > 264)
+                     kind = 264;
                   jjCheckNAddStates(78, 80);
                   break;
-               case 574:
+               case 580:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 262)
-                     kind = 262;
-                  jjCheckNAddTwoStates(574, 571);
+                  if (kind > 264)
+                     kind = 264;
+                  jjCheckNAddTwoStates(580, 577);
                   break;
-               case 575:
+               case 581:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 262)
-                     kind = 262;
-                  jjCheckNAddTwoStates(575, 571);
+                  if (kind > 264)
+                     kind = 264;
+                  jjCheckNAddTwoStates(581, 577);
                   break;
-               case 1155:
+               case 1167:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 173)
-                     kind = 173;
-                  jjCheckNAddStates(36, 43);
+                  if (kind > 175)
+                     kind = 175;
+                  jjCheckNAddStates(22, 29);
                   break;
-               case 1156:
+               case 1168:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 173)
-                     kind = 173;
-                  jjCheckNAddTwoStates(1156, 1157);
+                  if (kind > 175)
+                     kind = 175;
+                  jjCheckNAddTwoStates(1168, 1169);
                   break;
-               case 1158:
+               case 1170:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(10, 12);
+                     jjCheckNAddStates(50, 52);
                   break;
-               case 1160:
+               case 1172:
                   if (curChar == 46)
                      jjCheckNAddStates(81, 83);
                   break;
-               case 1161:
+               case 1173:
                   if (curChar == 45)
-                     jjCheckNAddTwoStates(1162, 1165);
+                     jjCheckNAddTwoStates(1174, 1177);
                   break;
-               case 1162:
+               case 1174:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 184)
-                     kind = 184;
-                  jjCheckNAddTwoStates(1163, 1164);
+                  if (kind > 186)
+                     kind = 186;
+                  jjCheckNAddTwoStates(1175, 1176);
                   break;
-               case 1163:
+               case 1175:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 184)
-                     kind = 184;
-                  jjCheckNAddTwoStates(1163, 1164);
+                  if (kind > 186)
+                     kind = 186;
+                  jjCheckNAddTwoStates(1175, 1176);
                   break;
-               case 1165:
+               case 1177:
                   if (curChar != 48)
                      break;
-                  if (kind > 184)
-                     kind = 184;
+                  if (kind > 186)
+                     kind = 186;
                   jjCheckNAddStates(84, 86);
                   break;
-               case 1167:
+               case 1179:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 184)
-                     kind = 184;
-                  jjCheckNAddTwoStates(1167, 1164);
+                  if (kind > 186)
+                     kind = 186;
+                  jjCheckNAddTwoStates(1179, 1176);
                   break;
-               case 1168:
+               case 1180:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 184)
-                     kind = 184;
-                  jjCheckNAddTwoStates(1168, 1164);
+                  if (kind > 186)
+                     kind = 186;
+                  jjCheckNAddTwoStates(1180, 1176);
                   break;
-               case 1169:
+               case 1181:
                   if (curChar == 46)
-                     jjstateSet[jjnewStateCnt++] = 1160;
+                     jjstateSet[jjnewStateCnt++] = 1172;
                   break;
-               case 1170:
+               case 1182:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddStates(3, 5);
+                     jjCheckNAddStates(43, 45);
                   break;
-               case 1172:
+               case 1184:
                   if (curChar == 46)
                      jjCheckNAddStates(87, 89);
                   break;
-               case 1173:
+               case 1185:
                   if (curChar == 45)
-                     jjCheckNAddTwoStates(1174, 1177);
+                     jjCheckNAddTwoStates(1186, 1189);
                   break;
-               case 1174:
+               case 1186:
                   if ((0x3fe000000000000L & l) == 0L)
                      break;
-                  if (kind > 185)
-                     kind = 185;
-                  jjCheckNAddTwoStates(1175, 1176);
+                  if (kind > 187)
+                     kind = 187;
+                  jjCheckNAddTwoStates(1187, 1188);
                   break;
-               case 1175:
+               case 1187:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 185)
-                     kind = 185;
-                  jjCheckNAddTwoStates(1175, 1176);
+                  if (kind > 187)
+                     kind = 187;
+                  jjCheckNAddTwoStates(1187, 1188);
                   break;
-               case 1177:
+               case 1189:
                   if (curChar != 48)
                      break;
-                  if (kind > 185)
-                     kind = 185;
+                  if (kind > 187)
+                     kind = 187;
                   jjCheckNAddStates(90, 92);
                   break;
-               case 1179:
+               case 1191:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 185)
-                     kind = 185;
-                  jjCheckNAddTwoStates(1179, 1176);
+                  if (kind > 187)
+                     kind = 187;
+                  jjCheckNAddTwoStates(1191, 1188);
                   break;
-               case 1180:
+               case 1192:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 185)
-                     kind = 185;
-                  jjCheckNAddTwoStates(1180, 1176);
+                  if (kind > 187)
+                     kind = 187;
+                  jjCheckNAddTwoStates(1192, 1188);
                   break;
-               case 1181:
+               case 1193:
                   if (curChar == 46)
-                     jjstateSet[jjnewStateCnt++] = 1172;
+                     jjstateSet[jjnewStateCnt++] = 1184;
                   break;
-               case 1182:
+               case 1194:
                   if (curChar == 46)
-                     jjstateSet[jjnewStateCnt++] = 1181;
+                     jjstateSet[jjnewStateCnt++] = 1193;
                   break;
-               case 1183:
+               case 1195:
                   if (curChar == 39)
-                     jjCheckNAddStates(28, 32);
+                     jjCheckNAddStates(14, 18);
                   break;
-               case 1184:
+               case 1196:
                   if ((0xffffff7fffffdbffL & l) != 0L)
-                     jjCheckNAdd(1185);
+                     jjCheckNAdd(1197);
                   break;
-               case 1185:
-                  if (curChar == 39 && kind > 182)
-                     kind = 182;
+               case 1197:
+                  if (curChar == 39 && kind > 184)
+                     kind = 184;
                   break;
-               case 1187:
+               case 1199:
                   if ((0x808400000000L & l) != 0L)
-                     jjCheckNAdd(1185);
+                     jjCheckNAdd(1197);
                   break;
-               case 1188:
+               case 1200:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAddTwoStates(1189, 1185);
+                     jjCheckNAddTwoStates(1201, 1197);
                   break;
-               case 1189:
+               case 1201:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAdd(1185);
+                     jjCheckNAdd(1197);
                   break;
-               case 1190:
+               case 1202:
                   if ((0xf000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1191;
+                     jjstateSet[jjnewStateCnt++] = 1203;
                   break;
-               case 1191:
+               case 1203:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAdd(1189);
+                     jjCheckNAdd(1201);
                   break;
-               case 1192:
+               case 1204:
                   if ((0xffffff7fffffdbffL & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1194:
+               case 1206:
                   if ((0x808400000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1195:
-                  if (curChar == 39 && kind > 183)
-                     kind = 183;
+               case 1207:
+                  if (curChar == 39 && kind > 185)
+                     kind = 185;
                   break;
-               case 1196:
+               case 1208:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(96, 99);
                   break;
-               case 1197:
+               case 1209:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1198:
+               case 1210:
                   if ((0xf000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1199;
+                     jjstateSet[jjnewStateCnt++] = 1211;
                   break;
-               case 1199:
+               case 1211:
                   if ((0xff000000000000L & l) != 0L)
-                     jjCheckNAdd(1197);
+                     jjCheckNAdd(1209);
                   break;
-               case 1200:
+               case 1212:
                   if (curChar == 45)
-                     jjAddStates(24, 27);
+                     jjAddStates(10, 13);
                   break;
-               case 1202:
+               case 1214:
                   if ((0x3fe000000000000L & l) != 0L)
-                     jjCheckNAddStates(3, 5);
+                     jjCheckNAddStates(43, 45);
                   break;
-               case 1203:
+               case 1215:
                   if (curChar == 48)
-                     jjCheckNAddStates(13, 16);
+                     jjCheckNAddStates(53, 56);
                   break;
-               case 1205:
+               case 1217:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(100, 102);
                   break;
-               case 1206:
+               case 1218:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(103, 105);
                   break;
-               case 1207:
+               case 1219:
                   if (curChar == 48)
-                     jjCheckNAddStates(6, 9);
+                     jjCheckNAddStates(46, 49);
                   break;
-               case 1209:
+               case 1221:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(106, 108);
                   break;
-               case 1210:
+               case 1222:
                   if ((0xff000000000000L & l) != 0L)
                      jjCheckNAddStates(109, 111);
                   break;
-               case 1211:
+               case 1223:
                   if (curChar != 48)
                      break;
-                  if (kind > 173)
-                     kind = 173;
-                  jjCheckNAddStates(44, 56);
+                  if (kind > 175)
+                     kind = 175;
+                  jjCheckNAddStates(30, 42);
                   break;
-               case 1213:
+               case 1225:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 173)
-                     kind = 173;
-                  jjCheckNAddTwoStates(1213, 1157);
+                  if (kind > 175)
+                     kind = 175;
+                  jjCheckNAddTwoStates(1225, 1169);
                   break;
-               case 1214:
+               case 1226:
                   if ((0xff000000000000L & l) == 0L)
                      break;
-                  if (kind > 173)
-                     kind = 173;
-                  jjCheckNAddTwoStates(1214, 1157);
+                  if (kind > 175)
+                     kind = 175;
+                  jjCheckNAddTwoStates(1226, 1169);
                   break;
-               case 1216:
+               case 1228:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjAddStates(112, 113);
                   break;
-               case 1217:
+               case 1229:
                   if (curChar == 46)
-                     jjCheckNAdd(1218);
+                     jjCheckNAdd(1230);
                   break;
-               case 1218:
+               case 1230:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddTwoStates(1218, 1219);
+                     jjCheckNAddTwoStates(1230, 1231);
                   break;
-               case 1220:
+               case 1232:
                   if ((0x280000000000L & l) != 0L)
-                     jjCheckNAdd(1221);
+                     jjCheckNAdd(1233);
                   break;
-               case 1221:
+               case 1233:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
-                  jjCheckNAddTwoStates(1221, 17);
+                  if (kind > 179)
+                     kind = 179;
+                  jjCheckNAddTwoStates(1233, 17);
                   break;
-               case 1223:
+               case 1235:
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddStates(114, 116);
                   break;
-               case 1224:
+               case 1236:
                   if (curChar == 46)
-                     jjCheckNAdd(1225);
+                     jjCheckNAdd(1237);
                   break;
-               case 1226:
+               case 1238:
                   if ((0x280000000000L & l) != 0L)
-                     jjCheckNAdd(1227);
+                     jjCheckNAdd(1239);
                   break;
-               case 1227:
+               case 1239:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 177)
-                     kind = 177;
-                  jjCheckNAddTwoStates(1227, 17);
+                  if (kind > 179)
+                     kind = 179;
+                  jjCheckNAddTwoStates(1239, 17);
                   break;
                default : break;
             }
@@ -1582,79 +1582,35 @@ private int jjMoveNfa_0(int startState, int curPos)
                   if (curChar == 92)
                      jjCheckNAdd(34);
                   break;
-               case 954:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 255)
-                        kind = 255;
-                     jjCheckNAdd(31);
-                  }
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 962;
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 955;
-                  break;
-               case 899:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 255)
-                        kind = 255;
-                     jjCheckNAdd(31);
-                  }
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 964;
-                  else if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 961;
-                  else if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 951;
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 954;
-                  else if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 946;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 940;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 928;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 919;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 915;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 910;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 905;
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 900;
-                  break;
-               case 1107:
+               case 1119:
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1153;
+                     jjstateSet[jjnewStateCnt++] = 1165;
                   else if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1148;
+                     jjstateSet[jjnewStateCnt++] = 1160;
                   else if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1131;
+                     jjstateSet[jjnewStateCnt++] = 1143;
                   else if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1127;
+                     jjstateSet[jjnewStateCnt++] = 1139;
                   else if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1120;
+                     jjstateSet[jjnewStateCnt++] = 1132;
                   else if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1115;
+                     jjstateSet[jjnewStateCnt++] = 1127;
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1142;
+                     jjstateSet[jjnewStateCnt++] = 1154;
                   else if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1108;
+                     jjstateSet[jjnewStateCnt++] = 1120;
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1137;
+                     jjstateSet[jjnewStateCnt++] = 1149;
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1134;
+                     jjstateSet[jjnewStateCnt++] = 1146;
                   if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1112;
+                     jjstateSet[jjnewStateCnt++] = 1124;
                   break;
                case 3:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 255)
-                        kind = 255;
+                     if (kind > 257)
+                        kind = 257;
                      jjCheckNAdd(31);
                   }
                   else if (curChar == 64)
@@ -1676,29 +1632,29 @@ private int jjMoveNfa_0(int startState, int curPos)
                   else if ((0x1000000010000L & l) != 0L)
                      jjAddStates(172, 178);
                   else if ((0x200000002L & l) != 0L)
-                     jjAddStates(179, 187);
+                     jjAddStates(179, 188);
                   else if ((0x80000000800000L & l) != 0L)
-                     jjAddStates(188, 191);
+                     jjAddStates(189, 192);
                   else if ((0x4000000040L & l) != 0L)
-                     jjAddStates(192, 199);
+                     jjAddStates(193, 200);
                   else if ((0x20000000200000L & l) != 0L)
-                     jjAddStates(200, 205);
+                     jjAddStates(201, 206);
                   else if ((0x2000000020L & l) != 0L)
-                     jjAddStates(206, 214);
+                     jjAddStates(207, 215);
                   else if ((0x40000000400000L & l) != 0L)
-                     jjAddStates(215, 218);
+                     jjAddStates(216, 219);
                   else if ((0x1000000010L & l) != 0L)
-                     jjAddStates(219, 229);
+                     jjAddStates(220, 230);
                   else if ((0x800000008L & l) != 0L)
-                     jjAddStates(230, 252);
+                     jjAddStates(231, 253);
                   else if ((0x20000000200L & l) != 0L)
-                     jjAddStates(253, 268);
+                     jjAddStates(254, 270);
                   else if ((0x200000002000L & l) != 0L)
-                     jjAddStates(269, 275);
+                     jjAddStates(271, 277);
                   else if ((0x10000000100000L & l) != 0L)
-                     jjAddStates(276, 281);
+                     jjAddStates(278, 283);
                   else if ((0x8000000080000L & l) != 0L)
-                     jjAddStates(282, 297);
+                     jjAddStates(284, 299);
                   else if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 28;
                   else if ((0x10000000100L & l) != 0L)
@@ -1710,6 +1666,50 @@ private int jjMoveNfa_0(int startState, int curPos)
                   else if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 47;
                   break;
+               case 911:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 257)
+                        kind = 257;
+                     jjCheckNAdd(31);
+                  }
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 976;
+                  else if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 973;
+                  else if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 963;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 966;
+                  else if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 958;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 952;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 940;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 931;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 927;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 922;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 917;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 912;
+                  break;
+               case 966:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 257)
+                        kind = 257;
+                     jjCheckNAdd(31);
+                  }
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 974;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 967;
+                  break;
                case 1:
                   if (kind > 6)
                      kind = 6;
@@ -1719,8 +1719,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 5;
                   break;
                case 5:
-                  if ((0x200000002L & l) != 0L && kind > 147)
-                     kind = 147;
+                  if ((0x200000002L & l) != 0L && kind > 149)
+                     kind = 149;
                   break;
                case 6:
                   if (curChar == 64)
@@ -1740,23 +1740,23 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 14:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(298, 299);
+                     jjAddStates(300, 301);
                   break;
                case 17:
-                  if ((0x5000000050L & l) != 0L && kind > 177)
-                     kind = 177;
+                  if ((0x5000000050L & l) != 0L && kind > 179)
+                     kind = 179;
                   break;
                case 19:
                   if ((0xffffffffefffffffL & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 20:
                   if (curChar == 92)
-                     jjAddStates(300, 302);
+                     jjAddStates(302, 304);
                   break;
                case 21:
                   if ((0x14404410000000L & l) != 0L)
-                     jjCheckNAddStates(33, 35);
+                     jjCheckNAddStates(19, 21);
                   break;
                case 27:
                   if ((0x80000000800L & l) != 0L)
@@ -1767,21 +1767,21 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 29;
                   break;
                case 29:
-                  if ((0x200000002000000L & l) != 0L && kind > 252)
-                     kind = 252;
+                  if ((0x200000002000000L & l) != 0L && kind > 254)
+                     kind = 254;
                   break;
                case 30:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 255)
-                     kind = 255;
+                  if (kind > 257)
+                     kind = 257;
                   jjCheckNAdd(31);
                   break;
                case 31:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 255)
-                     kind = 255;
+                  if (kind > 257)
+                     kind = 257;
                   jjCheckNAdd(31);
                   break;
                case 32:
@@ -1801,15 +1801,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAdd(34);
                   break;
                case 36:
-                  if (curChar == 96 && kind > 256)
-                     kind = 256;
+                  if (curChar == 96 && kind > 258)
+                     kind = 258;
                   break;
                case 39:
                case 40:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 263)
-                     kind = 263;
+                  if (kind > 265)
+                     kind = 265;
                   jjCheckNAdd(40);
                   break;
                case 41:
@@ -1849,12 +1849,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(50, 51);
                   break;
                case 50:
-                  if (curChar == 115 && kind > 243)
-                     kind = 243;
+                  if (curChar == 115 && kind > 245)
+                     kind = 245;
                   break;
                case 51:
-                  if (curChar == 83 && kind > 243)
-                     kind = 243;
+                  if (curChar == 83 && kind > 245)
+                     kind = 245;
                   break;
                case 52:
                   if (curChar == 73)
@@ -1862,19 +1862,19 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 55:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(303, 304);
+                     jjAddStates(305, 306);
                   break;
                case 59:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(305, 306);
+                     jjAddStates(307, 308);
                   break;
                case 65:
                   if ((0x2000000020L & l) != 0L)
-                     jjAddStates(307, 308);
+                     jjAddStates(309, 310);
                   break;
                case 68:
                   if ((0x8000000080000L & l) != 0L)
-                     jjAddStates(282, 297);
+                     jjAddStates(284, 299);
                   break;
                case 69:
                   if ((0x2000000020L & l) != 0L)
@@ -2129,8 +2129,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 132;
                   break;
                case 132:
-                  if ((0x1000000010000L & l) != 0L && kind > 137)
-                     kind = 137;
+                  if ((0x1000000010000L & l) != 0L && kind > 139)
+                     kind = 139;
                   break;
                case 133:
                   if ((0x10000000100L & l) != 0L)
@@ -2149,8 +2149,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 137;
                   break;
                case 137:
-                  if ((0x1000000010L & l) != 0L && kind > 140)
-                     kind = 140;
+                  if ((0x1000000010L & l) != 0L && kind > 142)
+                     kind = 142;
                   break;
                case 138:
                   if ((0x2000000020L & l) != 0L)
@@ -2177,8 +2177,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 144;
                   break;
                case 144:
-                  if ((0x2000000020L & l) != 0L && kind > 142)
-                     kind = 142;
+                  if ((0x2000000020L & l) != 0L && kind > 144)
+                     kind = 144;
                   break;
                case 145:
                   if ((0x10000000100000L & l) != 0L)
@@ -2193,8 +2193,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 148;
                   break;
                case 148:
-                  if ((0x10000000100000L & l) != 0L && kind > 143)
-                     kind = 143;
+                  if ((0x10000000100000L & l) != 0L && kind > 145)
+                     kind = 145;
                   break;
                case 149:
                   if ((0x10000000100000L & l) != 0L)
@@ -2213,8 +2213,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 153;
                   break;
                case 153:
-                  if ((0x8000000080000L & l) != 0L && kind > 148)
-                     kind = 148;
+                  if ((0x8000000080000L & l) != 0L && kind > 150)
+                     kind = 150;
                   break;
                case 154:
                   if ((0x2000000020L & l) != 0L)
@@ -2233,8 +2233,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 158;
                   break;
                case 158:
-                  if ((0x4000000040000L & l) != 0L && kind > 149)
-                     kind = 149;
+                  if ((0x4000000040000L & l) != 0L && kind > 151)
+                     kind = 151;
                   break;
                case 159:
                   if ((0x200000002000000L & l) != 0L)
@@ -2245,12 +2245,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 161;
                   break;
                case 161:
-                  if ((0x800000008L & l) != 0L && kind > 150)
-                     kind = 150;
+                  if ((0x800000008L & l) != 0L && kind > 152)
+                     kind = 152;
                   break;
                case 162:
                   if ((0x10000000100000L & l) != 0L)
-                     jjAddStates(276, 281);
+                     jjAddStates(278, 283);
                   break;
                case 163:
                   if ((0x4000000040000L & l) != 0L)
@@ -2345,8 +2345,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 186;
                   break;
                case 186:
-                  if ((0x2000000020L & l) != 0L && kind > 116)
-                     kind = 116;
+                  if ((0x2000000020L & l) != 0L && kind > 118)
+                     kind = 118;
                   break;
                case 187:
                   if ((0x4000000040000L & l) != 0L)
@@ -2357,12 +2357,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 189;
                   break;
                case 189:
-                  if ((0x2000000020L & l) != 0L && kind > 186)
-                     kind = 186;
+                  if ((0x2000000020L & l) != 0L && kind > 188)
+                     kind = 188;
                   break;
                case 190:
                   if ((0x200000002000L & l) != 0L)
-                     jjAddStates(269, 275);
+                     jjAddStates(271, 277);
                   break;
                case 191:
                   if ((0x200000002L & l) != 0L)
@@ -2489,8 +2489,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 222;
                   break;
                case 222:
-                  if ((0x2000000020L & l) != 0L && kind > 153)
-                     kind = 153;
+                  if ((0x2000000020L & l) != 0L && kind > 155)
+                     kind = 155;
                   break;
                case 223:
                   if ((0x200000002L & l) != 0L)
@@ -2513,12 +2513,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 228;
                   break;
                case 228:
-                  if ((0x8000000080000L & l) != 0L && kind > 251)
-                     kind = 251;
+                  if ((0x8000000080000L & l) != 0L && kind > 253)
+                     kind = 253;
                   break;
                case 229:
                   if ((0x20000000200L & l) != 0L)
-                     jjAddStates(253, 268);
+                     jjAddStates(254, 270);
                   break;
                case 230:
                   if ((0x400000004000L & l) != 0L)
@@ -2609,123 +2609,123 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 252;
                   break;
                case 252:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 253;
                   break;
                case 253:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 254;
                   break;
                case 254:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 255;
                   break;
                case 255:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 256;
                   break;
                case 256:
-                  if ((0x2000000020L & l) != 0L && kind > 117)
-                     kind = 117;
+                  if ((0x2000000020L & l) != 0L && kind > 116)
+                     kind = 116;
                   break;
                case 257:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 258;
                   break;
                case 258:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 259;
                   break;
                case 259:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 260;
                   break;
                case 260:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 261;
                   break;
                case 261:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 262;
                   break;
                case 262:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 263;
+                  if ((0x2000000020L & l) != 0L && kind > 119)
+                     kind = 119;
                   break;
                case 263:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 264;
                   break;
                case 264:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 265;
                   break;
                case 265:
-                  if ((0x10000000100000L & l) != 0L && kind > 127)
-                     kind = 127;
+                  if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 266;
                   break;
                case 266:
-                  if ((0x4000000040L & l) != 0L && kind > 132)
-                     kind = 132;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 267;
                   break;
                case 267:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 268;
                   break;
                case 268:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 269;
                   break;
                case 269:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 270;
                   break;
                case 270:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 271;
                   break;
                case 271:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 272;
+                  if ((0x10000000100000L & l) != 0L && kind > 129)
+                     kind = 129;
                   break;
                case 272:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 273;
+                  if ((0x4000000040L & l) != 0L && kind > 134)
+                     kind = 134;
                   break;
                case 273:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 274;
                   break;
                case 274:
-                  if ((0x400000004000L & l) != 0L && kind > 136)
-                     kind = 136;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 275;
                   break;
                case 275:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 276;
                   break;
                case 276:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 277;
                   break;
                case 277:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 278;
                   break;
                case 278:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 279;
                   break;
                case 279:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 280;
                   break;
                case 280:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 281;
+                  if ((0x400000004000L & l) != 0L && kind > 138)
+                     kind = 138;
                   break;
                case 281:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 282;
                   break;
                case 282:
@@ -2733,95 +2733,95 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 283;
                   break;
                case 283:
-                  if ((0x1000000010L & l) != 0L && kind > 156)
-                     kind = 156;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 284;
                   break;
                case 284:
-                  if ((0x400000004000L & l) != 0L && kind > 241)
-                     kind = 241;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 285;
                   break;
                case 285:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 286;
                   break;
                case 286:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 287;
                   break;
                case 287:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 288;
                   break;
                case 288:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 289;
                   break;
                case 289:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 290;
+                  if ((0x1000000010L & l) != 0L && kind > 158)
+                     kind = 158;
                   break;
                case 290:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 291;
+                  if ((0x400000004000L & l) != 0L && kind > 243)
+                     kind = 243;
                   break;
                case 291:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 292;
                   break;
                case 292:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 293;
                   break;
                case 293:
-                  if ((0x4000000040L & l) != 0L && kind > 253)
-                     kind = 253;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 294;
                   break;
                case 294:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 295;
                   break;
                case 295:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 296;
                   break;
                case 296:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 297;
                   break;
                case 297:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 298;
                   break;
+               case 298:
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 299;
+                  break;
                case 299:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 300;
+                  if ((0x4000000040L & l) != 0L && kind > 255)
+                     kind = 255;
                   break;
                case 300:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 301;
                   break;
                case 301:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 302;
                   break;
                case 302:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 303;
                   break;
                case 303:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 304;
                   break;
-               case 304:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 305;
-                  break;
                case 305:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 306;
                   break;
                case 306:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 307;
                   break;
                case 307:
@@ -2829,119 +2829,119 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 308;
                   break;
                case 308:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 309;
                   break;
+               case 309:
+                  if ((0x40000000400000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 310;
+                  break;
                case 310:
-                  if (curChar == 95)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 311;
                   break;
                case 311:
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 312;
+                  break;
                case 312:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 258)
-                     kind = 258;
-                  jjCheckNAddTwoStates(312, 313);
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 313;
+                  break;
+               case 313:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 314;
                   break;
                case 314:
-               case 315:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 258)
-                     kind = 258;
-                  jjCheckNAddTwoStates(313, 315);
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 315;
                   break;
                case 316:
                   if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 310;
+                     jjstateSet[jjnewStateCnt++] = 317;
                   break;
                case 317:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 316;
-                  break;
                case 318:
-                  if (curChar == 64)
-                     jjstateSet[jjnewStateCnt++] = 317;
-                  break;
-               case 319:
-                  if (curChar == 112)
-                     jjstateSet[jjnewStateCnt++] = 318;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 260)
+                     kind = 260;
+                  jjCheckNAddTwoStates(318, 319);
                   break;
                case 320:
-                  if (curChar == 97)
-                     jjstateSet[jjnewStateCnt++] = 319;
-                  break;
                case 321:
-                  if (curChar == 109)
-                     jjstateSet[jjnewStateCnt++] = 320;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 260)
+                     kind = 260;
+                  jjCheckNAddTwoStates(319, 321);
                   break;
                case 322:
-                  if (curChar == 100)
-                     jjstateSet[jjnewStateCnt++] = 321;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 316;
                   break;
                case 323:
-                  if (curChar == 114)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 322;
                   break;
                case 324:
-                  if (curChar == 111)
+                  if (curChar == 64)
                      jjstateSet[jjnewStateCnt++] = 323;
                   break;
                case 325:
-                  if (curChar == 99)
+                  if (curChar == 112)
                      jjstateSet[jjnewStateCnt++] = 324;
                   break;
                case 326:
-                  if (curChar == 101)
+                  if (curChar == 97)
                      jjstateSet[jjnewStateCnt++] = 325;
                   break;
                case 327:
-                  if (curChar == 114)
+                  if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 326;
                   break;
                case 328:
-                  if (curChar == 64)
+                  if (curChar == 100)
                      jjstateSet[jjnewStateCnt++] = 327;
                   break;
                case 329:
-                  if (curChar == 95)
+                  if (curChar == 114)
                      jjstateSet[jjnewStateCnt++] = 328;
                   break;
                case 330:
-                  if (curChar == 95)
+                  if (curChar == 111)
                      jjstateSet[jjnewStateCnt++] = 329;
                   break;
                case 331:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 332;
+                  if (curChar == 99)
+                     jjstateSet[jjnewStateCnt++] = 330;
                   break;
                case 332:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 333;
+                  if (curChar == 101)
+                     jjstateSet[jjnewStateCnt++] = 331;
                   break;
                case 333:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 334;
+                  if (curChar == 114)
+                     jjstateSet[jjnewStateCnt++] = 332;
                   break;
                case 334:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 335;
+                  if (curChar == 64)
+                     jjstateSet[jjnewStateCnt++] = 333;
                   break;
                case 335:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 336;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 334;
                   break;
                case 336:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 337;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 335;
                   break;
                case 337:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 338;
                   break;
                case 338:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 339;
                   break;
                case 339:
@@ -2949,131 +2949,131 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 340;
                   break;
                case 340:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 341;
                   break;
                case 341:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 342;
                   break;
                case 342:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 343;
                   break;
                case 343:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 344;
                   break;
+               case 344:
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 345;
+                  break;
                case 345:
-                  if (curChar == 95)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 346;
                   break;
                case 346:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 347;
+                  break;
                case 347:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 259)
-                     kind = 259;
-                  jjCheckNAddTwoStates(347, 348);
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 348;
+                  break;
+               case 348:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 349;
                   break;
                case 349:
-               case 350:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 259)
-                     kind = 259;
-                  jjCheckNAddTwoStates(348, 350);
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 350;
                   break;
                case 351:
                   if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 345;
+                     jjstateSet[jjnewStateCnt++] = 352;
                   break;
                case 352:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 351;
-                  break;
                case 353:
-                  if (curChar == 64)
-                     jjstateSet[jjnewStateCnt++] = 352;
-                  break;
-               case 354:
-                  if (curChar == 112)
-                     jjstateSet[jjnewStateCnt++] = 353;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 261)
+                     kind = 261;
+                  jjCheckNAddTwoStates(353, 354);
                   break;
                case 355:
-                  if (curChar == 97)
-                     jjstateSet[jjnewStateCnt++] = 354;
-                  break;
                case 356:
-                  if (curChar == 109)
-                     jjstateSet[jjnewStateCnt++] = 355;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 261)
+                     kind = 261;
+                  jjCheckNAddTwoStates(354, 356);
                   break;
                case 357:
-                  if (curChar == 100)
-                     jjstateSet[jjnewStateCnt++] = 356;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 351;
                   break;
                case 358:
-                  if (curChar == 114)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 357;
                   break;
                case 359:
-                  if (curChar == 111)
+                  if (curChar == 64)
                      jjstateSet[jjnewStateCnt++] = 358;
                   break;
                case 360:
-                  if (curChar == 99)
+                  if (curChar == 112)
                      jjstateSet[jjnewStateCnt++] = 359;
                   break;
                case 361:
-                  if (curChar == 101)
+                  if (curChar == 97)
                      jjstateSet[jjnewStateCnt++] = 360;
                   break;
                case 362:
-                  if (curChar == 114)
+                  if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 361;
                   break;
                case 363:
-                  if (curChar == 64)
+                  if (curChar == 100)
                      jjstateSet[jjnewStateCnt++] = 362;
                   break;
                case 364:
-                  if (curChar == 95)
+                  if (curChar == 114)
                      jjstateSet[jjnewStateCnt++] = 363;
                   break;
                case 365:
-                  if (curChar == 95)
+                  if (curChar == 111)
                      jjstateSet[jjnewStateCnt++] = 364;
                   break;
                case 366:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 367;
+                  if (curChar == 99)
+                     jjstateSet[jjnewStateCnt++] = 365;
                   break;
                case 367:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 368;
+                  if (curChar == 101)
+                     jjstateSet[jjnewStateCnt++] = 366;
                   break;
                case 368:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 369;
+                  if (curChar == 114)
+                     jjstateSet[jjnewStateCnt++] = 367;
                   break;
                case 369:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 370;
+                  if (curChar == 64)
+                     jjstateSet[jjnewStateCnt++] = 368;
                   break;
                case 370:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 371;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 369;
                   break;
                case 371:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 372;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 370;
                   break;
                case 372:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 373;
                   break;
                case 373:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 374;
                   break;
                case 374:
@@ -3081,231 +3081,231 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 375;
                   break;
                case 375:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 376;
                   break;
                case 376:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 377;
                   break;
                case 377:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 378;
                   break;
                case 378:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 379;
                   break;
                case 379:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 380;
                   break;
+               case 380:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 381;
+                  break;
                case 381:
-                  if (curChar == 95)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 382;
                   break;
                case 382:
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 383;
+                  break;
                case 383:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 260)
-                     kind = 260;
-                  jjCheckNAddTwoStates(383, 384);
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 384;
+                  break;
+               case 384:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 385;
                   break;
                case 385:
-               case 386:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 260)
-                     kind = 260;
-                  jjCheckNAddTwoStates(384, 386);
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 386;
                   break;
                case 387:
                   if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 381;
+                     jjstateSet[jjnewStateCnt++] = 388;
                   break;
                case 388:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 387;
-                  break;
                case 389:
-                  if (curChar == 64)
-                     jjstateSet[jjnewStateCnt++] = 388;
-                  break;
-               case 390:
-                  if (curChar == 112)
-                     jjstateSet[jjnewStateCnt++] = 389;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 262)
+                     kind = 262;
+                  jjCheckNAddTwoStates(389, 390);
                   break;
                case 391:
-                  if (curChar == 97)
-                     jjstateSet[jjnewStateCnt++] = 390;
-                  break;
                case 392:
-                  if (curChar == 109)
-                     jjstateSet[jjnewStateCnt++] = 391;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 262)
+                     kind = 262;
+                  jjCheckNAddTwoStates(390, 392);
                   break;
                case 393:
-                  if (curChar == 100)
-                     jjstateSet[jjnewStateCnt++] = 392;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 387;
                   break;
                case 394:
-                  if (curChar == 114)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 393;
                   break;
                case 395:
-                  if (curChar == 111)
+                  if (curChar == 64)
                      jjstateSet[jjnewStateCnt++] = 394;
                   break;
                case 396:
-                  if (curChar == 99)
+                  if (curChar == 112)
                      jjstateSet[jjnewStateCnt++] = 395;
                   break;
                case 397:
-                  if (curChar == 101)
+                  if (curChar == 97)
                      jjstateSet[jjnewStateCnt++] = 396;
                   break;
                case 398:
-                  if (curChar == 114)
+                  if (curChar == 109)
                      jjstateSet[jjnewStateCnt++] = 397;
                   break;
                case 399:
-                  if (curChar == 64)
+                  if (curChar == 100)
                      jjstateSet[jjnewStateCnt++] = 398;
                   break;
                case 400:
-                  if (curChar == 95)
+                  if (curChar == 114)
                      jjstateSet[jjnewStateCnt++] = 399;
                   break;
                case 401:
-                  if (curChar == 95)
+                  if (curChar == 111)
                      jjstateSet[jjnewStateCnt++] = 400;
                   break;
                case 402:
-                  if ((0x800000008L & l) != 0L)
-                     jjAddStates(230, 252);
+                  if (curChar == 99)
+                     jjstateSet[jjnewStateCnt++] = 401;
                   break;
                case 403:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 404;
+                  if (curChar == 101)
+                     jjstateSet[jjnewStateCnt++] = 402;
                   break;
                case 404:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 405;
+                  if (curChar == 114)
+                     jjstateSet[jjnewStateCnt++] = 403;
                   break;
                case 405:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 406;
+                  if (curChar == 64)
+                     jjstateSet[jjnewStateCnt++] = 404;
                   break;
                case 406:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 407;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 405;
                   break;
                case 407:
-                  if ((0x2000000020L & l) != 0L && kind > 15)
-                     kind = 15;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 406;
                   break;
                case 408:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 409;
+                  if ((0x800000008L & l) != 0L)
+                     jjAddStates(231, 253);
                   break;
                case 409:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 410;
                   break;
                case 410:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 411;
                   break;
                case 411:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 412;
                   break;
                case 412:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 413;
                   break;
                case 413:
-                  if ((0x10000000100000L & l) != 0L && kind > 32)
-                     kind = 32;
+                  if ((0x2000000020L & l) != 0L && kind > 15)
+                     kind = 15;
                   break;
                case 414:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 415;
                   break;
                case 415:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 416;
                   break;
                case 416:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 417;
                   break;
                case 417:
-                  if ((0x2000000020L & l) != 0L && kind > 59)
-                     kind = 59;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 418;
                   break;
                case 418:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 419;
                   break;
                case 419:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 420;
+                  if ((0x10000000100000L & l) != 0L && kind > 32)
+                     kind = 32;
                   break;
                case 420:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 421;
                   break;
                case 421:
-                  if ((0x2000000020L & l) != 0L && kind > 60)
-                     kind = 60;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 422;
                   break;
                case 422:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 423;
                   break;
                case 423:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 424;
+                  if ((0x2000000020L & l) != 0L && kind > 59)
+                     kind = 59;
                   break;
                case 424:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 425;
                   break;
                case 425:
-                  if ((0x8000000080000L & l) != 0L && kind > 75)
-                     kind = 75;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 426;
                   break;
                case 426:
                   if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 427;
                   break;
                case 427:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 428;
+                  if ((0x2000000020L & l) != 0L && kind > 60)
+                     kind = 60;
                   break;
                case 428:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 429;
                   break;
                case 429:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 430;
                   break;
                case 430:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 431;
                   break;
                case 431:
-                  if ((0x8000000080000L & l) != 0L && kind > 77)
-                     kind = 77;
+                  if ((0x8000000080000L & l) != 0L && kind > 75)
+                     kind = 75;
                   break;
                case 432:
                   if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 433;
                   break;
                case 433:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 434;
                   break;
                case 434:
@@ -3313,7 +3313,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 435;
                   break;
                case 435:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 436;
                   break;
                case 436:
@@ -3321,12 +3321,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 437;
                   break;
                case 437:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 438;
+                  if ((0x8000000080000L & l) != 0L && kind > 77)
+                     kind = 77;
                   break;
                case 438:
-                  if ((0x8000000080000L & l) != 0L && kind > 91)
-                     kind = 91;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 439;
                   break;
                case 439:
                   if ((0x20000000200000L & l) != 0L)
@@ -3341,16 +3341,16 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 442;
                   break;
                case 442:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 443;
                   break;
                case 443:
-                  if ((0x200000002000L & l) != 0L && kind > 100)
-                     kind = 100;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 444;
                   break;
                case 444:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 445;
+                  if ((0x8000000080000L & l) != 0L && kind > 91)
+                     kind = 91;
                   break;
                case 445:
                   if ((0x20000000200000L & l) != 0L)
@@ -3365,231 +3365,231 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 448;
                   break;
                case 448:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 449;
                   break;
                case 449:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 450;
+                  if ((0x200000002000L & l) != 0L && kind > 100)
+                     kind = 100;
                   break;
                case 450:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 451;
                   break;
                case 451:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 452;
                   break;
                case 452:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 453;
                   break;
                case 453:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 454;
                   break;
                case 454:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 455;
                   break;
                case 455:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 456;
                   break;
                case 456:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 457;
                   break;
                case 457:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 458;
                   break;
                case 458:
-                  if ((0x400000004000L & l) != 0L && kind > 101)
-                     kind = 101;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 459;
                   break;
                case 459:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 460;
                   break;
                case 460:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 461;
                   break;
                case 461:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 462;
                   break;
                case 462:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 463;
                   break;
                case 463:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 464;
                   break;
                case 464:
-                  if ((0x2000000020L & l) != 0L && kind > 109)
-                     kind = 109;
+                  if ((0x400000004000L & l) != 0L && kind > 101)
+                     kind = 101;
                   break;
                case 465:
                   if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 466;
                   break;
                case 466:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 467;
                   break;
                case 467:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 468;
                   break;
                case 468:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 469;
                   break;
                case 469:
-                  if ((0x10000000100000L & l) != 0L && kind > 130)
-                     kind = 130;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 470;
                   break;
                case 470:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 471;
+                  if ((0x2000000020L & l) != 0L && kind > 109)
+                     kind = 109;
                   break;
                case 471:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 472;
                   break;
                case 472:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 473;
                   break;
                case 473:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 474;
                   break;
                case 474:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 475;
                   break;
                case 475:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 476;
+                  if ((0x10000000100000L & l) != 0L && kind > 132)
+                     kind = 132;
                   break;
                case 476:
-                  if ((0x2000000020L & l) != 0L && kind > 134)
-                     kind = 134;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 477;
                   break;
                case 477:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 478;
                   break;
                case 478:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 479;
                   break;
                case 479:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 480;
                   break;
                case 480:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 481;
                   break;
                case 481:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 482;
                   break;
                case 482:
-                  if ((0x2000000020L & l) != 0L && kind > 138)
-                     kind = 138;
+                  if ((0x2000000020L & l) != 0L && kind > 136)
+                     kind = 136;
                   break;
                case 483:
                   if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 484;
                   break;
                case 484:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 485;
                   break;
                case 485:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 486;
                   break;
                case 486:
-                  if ((0x10000000100000L & l) != 0L && kind > 145)
-                     kind = 145;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 487;
                   break;
                case 487:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 488;
                   break;
                case 488:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 489;
+                  if ((0x2000000020L & l) != 0L && kind > 140)
+                     kind = 140;
                   break;
                case 489:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 490;
                   break;
                case 490:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 491;
                   break;
                case 491:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 492;
                   break;
                case 492:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 493;
+                  if ((0x10000000100000L & l) != 0L && kind > 147)
+                     kind = 147;
                   break;
                case 493:
-                  if ((0x8000000080000L & l) != 0L && kind > 245)
-                     kind = 245;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 494;
                   break;
                case 494:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 495;
                   break;
                case 495:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 496;
                   break;
                case 496:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 497;
                   break;
                case 497:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 498;
                   break;
                case 498:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 499;
                   break;
                case 499:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 500;
+                  if ((0x8000000080000L & l) != 0L && kind > 247)
+                     kind = 247;
                   break;
                case 500:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 501;
                   break;
                case 501:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 502;
                   break;
                case 502:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 503;
                   break;
                case 503:
-                  if ((0x100000001000L & l) != 0L && kind > 246)
-                     kind = 246;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 504;
                   break;
                case 504:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 505;
                   break;
                case 505:
@@ -3597,7 +3597,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 506;
                   break;
                case 506:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 507;
                   break;
                case 507:
@@ -3605,31 +3605,31 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 508;
                   break;
                case 508:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 509;
                   break;
                case 509:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 510;
+                  if ((0x100000001000L & l) != 0L && kind > 248)
+                     kind = 248;
                   break;
                case 510:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 511;
                   break;
                case 511:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 512;
                   break;
                case 512:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 513;
                   break;
                case 513:
-                  if ((0x200000002000000L & l) != 0L && kind > 247)
-                     kind = 247;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 514;
                   break;
                case 514:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 515;
                   break;
                case 515:
@@ -3637,7 +3637,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 516;
                   break;
                case 516:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 517;
                   break;
                case 517:
@@ -3645,31 +3645,31 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 518;
                   break;
                case 518:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 519;
                   break;
                case 519:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 520;
+                  if ((0x200000002000000L & l) != 0L && kind > 249)
+                     kind = 249;
                   break;
                case 520:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 521;
                   break;
                case 521:
-                  if ((0x80000000800L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 522;
                   break;
                case 522:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 523;
                   break;
                case 523:
-                  if ((0x200000002000000L & l) != 0L && kind > 248)
-                     kind = 248;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 524;
                   break;
                case 524:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 525;
                   break;
                case 525:
@@ -3677,112 +3677,112 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 526;
                   break;
                case 526:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 527;
                   break;
                case 527:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 528;
                   break;
                case 528:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 529;
                   break;
                case 529:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 530;
+                  if ((0x200000002000000L & l) != 0L && kind > 250)
+                     kind = 250;
                   break;
                case 530:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 531;
                   break;
                case 531:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 532;
                   break;
                case 532:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 533;
                   break;
                case 533:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 534;
                   break;
                case 534:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 535;
                   break;
                case 535:
-                  if ((0x2000000020L & l) != 0L && kind > 249)
-                     kind = 249;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 536;
                   break;
                case 536:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 537;
                   break;
                case 537:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 538;
                   break;
                case 538:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 539;
                   break;
                case 539:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 540;
                   break;
                case 540:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 541;
                   break;
                case 541:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 542;
+                  if ((0x2000000020L & l) != 0L && kind > 251)
+                     kind = 251;
                   break;
                case 542:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 543;
                   break;
                case 543:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 544;
                   break;
                case 544:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 545;
                   break;
                case 545:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 546;
                   break;
                case 546:
-                  if ((0x10000000100000L & l) != 0L && kind > 250)
-                     kind = 250;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 547;
                   break;
                case 547:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 548;
                   break;
                case 548:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 549;
                   break;
                case 549:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 550;
                   break;
                case 550:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 551;
                   break;
                case 551:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 552;
                   break;
                case 552:
-                  if ((0x4000000040000L & l) != 0L && kind > 254)
-                     kind = 254;
+                  if ((0x10000000100000L & l) != 0L && kind > 252)
+                     kind = 252;
                   break;
                case 553:
                   if ((0x100000001000L & l) != 0L)
@@ -3805,166 +3805,166 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 558;
                   break;
                case 558:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 559;
+                  if ((0x4000000040000L & l) != 0L && kind > 256)
+                     kind = 256;
+                  break;
+               case 559:
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 560;
                   break;
                case 560:
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 561;
+                  break;
                case 561:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 261)
-                     kind = 261;
-                  jjCheckNAdd(561);
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 562;
                   break;
                case 562:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 563;
                   break;
                case 563:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 564;
                   break;
                case 564:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 565;
                   break;
-               case 565:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 566;
-                  break;
                case 566:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 567;
-                  break;
                case 567:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 568;
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 263)
+                     kind = 263;
+                  jjCheckNAdd(567);
                   break;
-               case 571:
-                  if ((0x100000001000L & l) != 0L && kind > 262)
-                     kind = 262;
+               case 568:
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 569;
                   break;
-               case 573:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(574);
+               case 569:
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 570;
                   break;
-               case 574:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 262)
-                     kind = 262;
-                  jjCheckNAddTwoStates(574, 571);
+               case 570:
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 571;
                   break;
-               case 576:
-                  if ((0x1000000010L & l) != 0L)
-                     jjAddStates(219, 229);
+               case 571:
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 572;
                   break;
-               case 577:
+               case 572:
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 578;
+                     jjstateSet[jjnewStateCnt++] = 573;
                   break;
-               case 578:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 579;
+               case 573:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 574;
+                  break;
+               case 577:
+                  if ((0x100000001000L & l) != 0L && kind > 264)
+                     kind = 264;
                   break;
                case 579:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 580;
+                  if ((0x100000001000000L & l) != 0L)
+                     jjCheckNAdd(580);
                   break;
                case 580:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 581;
-                  break;
-               case 581:
-                  if ((0x2000000020L & l) != 0L && kind > 16)
-                     kind = 16;
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 264)
+                     kind = 264;
+                  jjCheckNAddTwoStates(580, 577);
                   break;
                case 582:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 583;
+                  if ((0x1000000010L & l) != 0L)
+                     jjAddStates(220, 230);
                   break;
                case 583:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 584;
                   break;
                case 584:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 585;
                   break;
                case 585:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 586;
                   break;
                case 586:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 587;
                   break;
                case 587:
-                  if ((0x1000000010L & l) != 0L && kind > 38)
-                     kind = 38;
+                  if ((0x2000000020L & l) != 0L && kind > 16)
+                     kind = 16;
                   break;
                case 588:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 589;
                   break;
                case 589:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 590;
                   break;
                case 590:
-                  if ((0x800000008L & l) != 0L && kind > 49)
-                     kind = 49;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 591;
                   break;
                case 591:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 592;
                   break;
                case 592:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 593;
                   break;
                case 593:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 594;
+                  if ((0x1000000010L & l) != 0L && kind > 38)
+                     kind = 38;
                   break;
                case 594:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 595;
                   break;
                case 595:
-                  if (curChar == 95)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 596;
                   break;
                case 596:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 597;
+                  if ((0x800000008L & l) != 0L && kind > 49)
+                     kind = 49;
                   break;
                case 597:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 598;
                   break;
                case 598:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 599;
                   break;
                case 599:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 600;
                   break;
                case 600:
-                  if ((0x10000000100000L & l) != 0L && kind > 67)
-                     kind = 67;
+                  if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 601;
                   break;
                case 601:
-                  if ((0x2000000020L & l) != 0L)
+                  if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 602;
                   break;
                case 602:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 603;
                   break;
                case 603:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 604;
                   break;
                case 604:
@@ -3972,219 +3972,219 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 605;
                   break;
                case 605:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 606;
                   break;
                case 606:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 607;
+                  if ((0x10000000100000L & l) != 0L && kind > 67)
+                     kind = 67;
                   break;
                case 607:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 608;
                   break;
                case 608:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 609;
                   break;
                case 609:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 610;
                   break;
                case 610:
-                  if ((0x400000004000L & l) != 0L && kind > 102)
-                     kind = 102;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 611;
                   break;
                case 611:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 612;
                   break;
                case 612:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 613;
                   break;
                case 613:
-                  if ((0x1000000010000L & l) != 0L && kind > 104)
-                     kind = 104;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 614;
                   break;
                case 614:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 615;
                   break;
                case 615:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 616;
                   break;
                case 616:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 617;
+                  if ((0x400000004000L & l) != 0L && kind > 102)
+                     kind = 102;
                   break;
                case 617:
-                  if ((0x400000004L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 618;
                   break;
                case 618:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 619;
                   break;
                case 619:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 620;
+                  if ((0x1000000010000L & l) != 0L && kind > 104)
+                     kind = 104;
                   break;
                case 620:
-                  if ((0x2000000020L & l) != 0L && kind > 113)
-                     kind = 113;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 621;
                   break;
                case 621:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 622;
                   break;
                case 622:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 623;
                   break;
                case 623:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 624;
                   break;
                case 624:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 625;
                   break;
                case 625:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 626;
                   break;
                case 626:
-                  if ((0x10000000100000L & l) != 0L && kind > 141)
-                     kind = 141;
+                  if ((0x2000000020L & l) != 0L && kind > 113)
+                     kind = 113;
                   break;
                case 627:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 628;
                   break;
                case 628:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 629;
                   break;
                case 629:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 630;
                   break;
                case 630:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 631;
                   break;
                case 631:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 632;
                   break;
                case 632:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 633;
+                  if ((0x10000000100000L & l) != 0L && kind > 143)
+                     kind = 143;
                   break;
                case 633:
-                  if ((0x10000000100000L & l) != 0L && kind > 146)
-                     kind = 146;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 634;
                   break;
                case 634:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 635;
                   break;
                case 635:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 636;
                   break;
                case 636:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 637;
                   break;
                case 637:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 638;
                   break;
                case 638:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 639;
                   break;
                case 639:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 640;
+                  if ((0x10000000100000L & l) != 0L && kind > 148)
+                     kind = 148;
                   break;
                case 640:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 641;
                   break;
                case 641:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 642;
                   break;
                case 642:
-                  if ((0x8000000080000L & l) != 0L && kind > 154)
-                     kind = 154;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 643;
                   break;
                case 643:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 644;
                   break;
                case 644:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 645;
                   break;
                case 645:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 646;
                   break;
                case 646:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 647;
                   break;
                case 647:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 648;
                   break;
                case 648:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 649;
+                  if ((0x8000000080000L & l) != 0L && kind > 156)
+                     kind = 156;
                   break;
                case 649:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 650;
                   break;
                case 650:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 651;
                   break;
                case 651:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 652;
                   break;
                case 652:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 653;
                   break;
                case 653:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 654;
                   break;
                case 654:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 655;
                   break;
                case 655:
-                  if ((0x4000000040000L & l) != 0L && kind > 160)
-                     kind = 160;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 656;
                   break;
                case 656:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjAddStates(215, 218);
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 657;
                   break;
                case 657:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 658;
                   break;
                case 658:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 659;
                   break;
                case 659:
@@ -4196,279 +4196,279 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 661;
                   break;
                case 661:
-                  if ((0x100000001000000L & l) != 0L && kind > 17)
-                     kind = 17;
+                  if ((0x4000000040000L & l) != 0L && kind > 162)
+                     kind = 162;
                   break;
                case 662:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 663;
+                  if ((0x40000000400000L & l) != 0L)
+                     jjAddStates(216, 219);
                   break;
                case 663:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 664;
                   break;
                case 664:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 665;
                   break;
                case 665:
-                  if ((0x2000000020L & l) != 0L && kind > 26)
-                     kind = 26;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 666;
                   break;
                case 666:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 667;
                   break;
                case 667:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 668;
+                  if ((0x100000001000000L & l) != 0L && kind > 17)
+                     kind = 17;
                   break;
                case 668:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 669;
                   break;
                case 669:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 670;
                   break;
                case 670:
-                  if ((0x8000000080000L & l) != 0L && kind > 27)
-                     kind = 27;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 671;
                   break;
                case 671:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 672;
+                  if ((0x2000000020L & l) != 0L && kind > 26)
+                     kind = 26;
                   break;
                case 672:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 673;
                   break;
                case 673:
-                  if ((0x80000000800000L & l) != 0L && kind > 79)
-                     kind = 79;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 674;
                   break;
                case 674:
-                  if ((0x2000000020L & l) != 0L)
-                     jjAddStates(206, 214);
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 675;
                   break;
                case 675:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 676;
                   break;
                case 676:
-                  if ((0x8000000080L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 677;
+                  if ((0x8000000080000L & l) != 0L && kind > 27)
+                     kind = 27;
                   break;
                case 677:
-                  if ((0x2000000020L & l) != 0L && kind > 18)
-                     kind = 18;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 678;
                   break;
                case 678:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 679;
                   break;
                case 679:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 680;
+                  if ((0x80000000800000L & l) != 0L && kind > 79)
+                     kind = 79;
                   break;
                case 680:
                   if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 681;
+                     jjAddStates(207, 215);
                   break;
                case 681:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 682;
                   break;
                case 682:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 683;
                   break;
                case 683:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 684;
+                  if ((0x2000000020L & l) != 0L && kind > 18)
+                     kind = 18;
                   break;
                case 684:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 685;
                   break;
                case 685:
-                  if ((0x400000004000L & l) != 0L && kind > 81)
-                     kind = 81;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 686;
                   break;
                case 686:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 687;
                   break;
                case 687:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 688;
                   break;
                case 688:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 689;
                   break;
                case 689:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 690;
                   break;
                case 690:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 691;
                   break;
                case 691:
-                  if ((0x8000000080000L & l) != 0L && kind > 90)
-                     kind = 90;
+                  if ((0x400000004000L & l) != 0L && kind > 81)
+                     kind = 81;
                   break;
                case 692:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 693;
                   break;
                case 693:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 694;
                   break;
                case 694:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 695;
                   break;
                case 695:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 696;
                   break;
                case 696:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 697;
                   break;
                case 697:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 698;
+                  if ((0x8000000080000L & l) != 0L && kind > 90)
+                     kind = 90;
                   break;
                case 698:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 699;
                   break;
                case 699:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 700;
                   break;
                case 700:
-                  if ((0x400000004000L & l) != 0L && kind > 103)
-                     kind = 103;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 701;
                   break;
                case 701:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 702;
                   break;
                case 702:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 703;
                   break;
                case 703:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 704;
                   break;
                case 704:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 705;
                   break;
                case 705:
-                  if ((0x2000000020L & l) != 0L && kind > 110)
-                     kind = 110;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 706;
                   break;
                case 706:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 707;
+                  if ((0x400000004000L & l) != 0L && kind > 103)
+                     kind = 103;
                   break;
                case 707:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 708;
                   break;
                case 708:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 709;
                   break;
                case 709:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 710;
                   break;
                case 710:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 711;
                   break;
                case 711:
-                  if ((0x400000004000L & l) != 0L && kind > 118)
-                     kind = 118;
+                  if ((0x2000000020L & l) != 0L && kind > 110)
+                     kind = 110;
                   break;
                case 712:
                   if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 713;
                   break;
                case 713:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 714;
                   break;
                case 714:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 715;
                   break;
                case 715:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 716;
                   break;
                case 716:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 717;
                   break;
                case 717:
-                  if ((0x2000000020L & l) != 0L && kind > 122)
-                     kind = 122;
+                  if ((0x400000004000L & l) != 0L && kind > 120)
+                     kind = 120;
                   break;
                case 718:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 719;
                   break;
                case 719:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 720;
                   break;
                case 720:
-                  if ((0x2000000020L & l) != 0L && kind > 133)
-                     kind = 133;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 721;
                   break;
                case 721:
-                  if ((0x100000001000000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 722;
                   break;
                case 722:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 723;
                   break;
                case 723:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 724;
+                  if ((0x2000000020L & l) != 0L && kind > 124)
+                     kind = 124;
                   break;
                case 724:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 725;
                   break;
                case 725:
-                  if ((0x8000000080000L & l) != 0L && kind > 151)
-                     kind = 151;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 726;
                   break;
                case 726:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjAddStates(200, 205);
+                  if ((0x2000000020L & l) != 0L && kind > 135)
+                     kind = 135;
                   break;
                case 727:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x100000001000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 728;
                   break;
                case 728:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 729;
                   break;
                case 729:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 730;
                   break;
                case 730:
@@ -4476,415 +4476,415 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 731;
                   break;
                case 731:
-                  if ((0x2000000020L & l) != 0L && kind > 19)
-                     kind = 19;
+                  if ((0x8000000080000L & l) != 0L && kind > 153)
+                     kind = 153;
                   break;
                case 732:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 733;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjAddStates(201, 206);
                   break;
                case 733:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 734;
                   break;
                case 734:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 735;
                   break;
                case 735:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 736;
                   break;
                case 736:
-                  if ((0x10000000100000L & l) != 0L && kind > 20)
-                     kind = 20;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 737;
                   break;
                case 737:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 738;
+                  if ((0x2000000020L & l) != 0L && kind > 19)
+                     kind = 19;
                   break;
                case 738:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 739;
                   break;
                case 739:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 740;
                   break;
                case 740:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 741;
                   break;
                case 741:
-                  if ((0x2000000020L & l) != 0L && kind > 64)
-                     kind = 64;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 742;
                   break;
                case 742:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 743;
+                  if ((0x10000000100000L & l) != 0L && kind > 20)
+                     kind = 20;
                   break;
                case 743:
-                  if ((0x80000000800000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 744;
                   break;
                case 744:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 745;
                   break;
                case 745:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 746;
                   break;
                case 746:
-                  if ((0x1000000010L & l) != 0L && kind > 72)
-                     kind = 72;
+                  if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 747;
                   break;
                case 747:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 748;
+                  if ((0x2000000020L & l) != 0L && kind > 64)
+                     kind = 64;
                   break;
                case 748:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 749;
                   break;
                case 749:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x80000000800000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 750;
                   break;
                case 750:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 751;
                   break;
                case 751:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 752;
                   break;
                case 752:
-                  if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 753;
+                  if ((0x1000000010L & l) != 0L && kind > 72)
+                     kind = 72;
                   break;
                case 753:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 754;
                   break;
                case 754:
-                  if ((0x2000000020L & l) != 0L && kind > 80)
-                     kind = 80;
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 755;
                   break;
                case 755:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 756;
                   break;
                case 756:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 757;
                   break;
                case 757:
-                  if ((0x4000000040000L & l) != 0L && kind > 158)
-                     kind = 158;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 758;
                   break;
                case 758:
-                  if ((0x4000000040L & l) != 0L)
-                     jjAddStates(192, 199);
+                  if ((0x400000004L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 759;
                   break;
                case 759:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 760;
                   break;
                case 760:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 761;
+                  if ((0x2000000020L & l) != 0L && kind > 80)
+                     kind = 80;
                   break;
                case 761:
-                  if ((0x200000002000L & l) != 0L && kind > 21)
-                     kind = 21;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 762;
                   break;
                case 762:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 763;
                   break;
                case 763:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 764;
+                  if ((0x4000000040000L & l) != 0L && kind > 160)
+                     kind = 160;
                   break;
                case 764:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 765;
+                  if ((0x4000000040L & l) != 0L)
+                     jjAddStates(193, 200);
                   break;
                case 765:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 766;
                   break;
                case 766:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 767;
                   break;
                case 767:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 768;
+                  if ((0x200000002000L & l) != 0L && kind > 21)
+                     kind = 21;
                   break;
                case 768:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 769;
                   break;
                case 769:
-                  if ((0x400000004000L & l) != 0L && kind > 50)
-                     kind = 50;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 770;
                   break;
                case 770:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 771;
                   break;
                case 771:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 772;
                   break;
                case 772:
-                  if ((0x1000000010L & l) != 0L && kind > 88)
-                     kind = 88;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 773;
                   break;
                case 773:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 774;
                   break;
                case 774:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 775;
                   break;
                case 775:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 776;
+                  if ((0x400000004000L & l) != 0L && kind > 50)
+                     kind = 50;
                   break;
                case 776:
-                  if ((0x2000000020L & l) != 0L && kind > 106)
-                     kind = 106;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 777;
                   break;
                case 777:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 778;
                   break;
                case 778:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 779;
+                  if ((0x1000000010L & l) != 0L && kind > 88)
+                     kind = 88;
                   break;
                case 779:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 780;
                   break;
                case 780:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 781;
                   break;
                case 781:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 782;
                   break;
                case 782:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 783;
+                  if ((0x2000000020L & l) != 0L && kind > 106)
+                     kind = 106;
                   break;
                case 783:
-                  if ((0x400000004000L & l) != 0L && kind > 125)
-                     kind = 125;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 784;
                   break;
                case 784:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 785;
                   break;
                case 785:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 786;
                   break;
                case 786:
-                  if ((0x100000001000L & l) != 0L && kind > 135)
-                     kind = 135;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 787;
                   break;
                case 787:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 788;
                   break;
                case 788:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 789;
                   break;
                case 789:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 790;
+                  if ((0x400000004000L & l) != 0L && kind > 127)
+                     kind = 127;
                   break;
                case 790:
                   if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 791;
                   break;
                case 791:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 792;
                   break;
                case 792:
-                  if ((0x10000000100L & l) != 0L && kind > 152)
-                     kind = 152;
+                  if ((0x100000001000L & l) != 0L && kind > 137)
+                     kind = 137;
                   break;
                case 793:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 794;
                   break;
                case 794:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 795;
                   break;
                case 795:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 796;
                   break;
                case 796:
-                  if ((0x2000000020L & l) != 0L && kind > 187)
-                     kind = 187;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 797;
                   break;
                case 797:
-                  if ((0x80000000800000L & l) != 0L)
-                     jjAddStates(188, 191);
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 798;
                   break;
                case 798:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 799;
+                  if ((0x10000000100L & l) != 0L && kind > 154)
+                     kind = 154;
                   break;
                case 799:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 800;
                   break;
                case 800:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 801;
                   break;
                case 801:
-                  if ((0x2000000020L & l) != 0L && kind > 23)
-                     kind = 23;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 802;
                   break;
                case 802:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 803;
+                  if ((0x2000000020L & l) != 0L && kind > 189)
+                     kind = 189;
                   break;
                case 803:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 804;
+                  if ((0x80000000800000L & l) != 0L)
+                     jjAddStates(189, 192);
                   break;
                case 804:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 805;
                   break;
                case 805:
-                  if ((0x2000000020L & l) != 0L && kind > 24)
-                     kind = 24;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 806;
                   break;
                case 806:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 807;
                   break;
                case 807:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 808;
+                  if ((0x2000000020L & l) != 0L && kind > 23)
+                     kind = 23;
                   break;
                case 808:
-                  if ((0x10000000100000L & l) != 0L && kind > 56)
-                     kind = 56;
+                  if ((0x10000000100L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 809;
                   break;
                case 809:
                   if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 810;
                   break;
                case 810:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 811;
                   break;
                case 811:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 812;
+                  if ((0x2000000020L & l) != 0L && kind > 24)
+                     kind = 24;
                   break;
                case 812:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 813;
                   break;
                case 813:
-                  if ((0x400000004000L & l) != 0L && kind > 71)
-                     kind = 71;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 814;
                   break;
                case 814:
-                  if ((0x200000002L & l) != 0L)
-                     jjAddStates(179, 187);
+                  if ((0x10000000100000L & l) != 0L && kind > 56)
+                     kind = 56;
                   break;
                case 815:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 816;
                   break;
                case 816:
-                  if ((0x1000000010L & l) != 0L && kind > 29)
-                     kind = 29;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 817;
                   break;
                case 817:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 818;
                   break;
                case 818:
-                  if ((0x1000000010L & l) != 0L && kind > 35)
-                     kind = 35;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 819;
                   break;
                case 819:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 820;
+                  if ((0x400000004000L & l) != 0L && kind > 71)
+                     kind = 71;
                   break;
                case 820:
-                  if ((0x800000008L & l) != 0L && kind > 47)
-                     kind = 47;
+                  if ((0x200000002L & l) != 0L)
+                     jjAddStates(179, 188);
                   break;
                case 821:
-                  if ((0x8000000080000L & l) != 0L && kind > 48)
-                     kind = 48;
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 822;
                   break;
                case 822:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 823;
+                  if ((0x1000000010L & l) != 0L && kind > 29)
+                     kind = 29;
                   break;
                case 823:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 824;
                   break;
                case 824:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 825;
+                  if ((0x1000000010L & l) != 0L && kind > 35)
+                     kind = 35;
                   break;
                case 825:
-                  if ((0x4000000040000L & l) != 0L && kind > 53)
-                     kind = 53;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 826;
                   break;
                case 826:
-                  if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 827;
+                  if ((0x800000008L & l) != 0L && kind > 47)
+                     kind = 47;
                   break;
                case 827:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 828;
+                  if ((0x8000000080000L & l) != 0L && kind > 48)
+                     kind = 48;
                   break;
                case 828:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 829;
                   break;
                case 829:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 830;
                   break;
                case 830:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 831;
                   break;
                case 831:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 832;
+                  if ((0x4000000040000L & l) != 0L && kind > 53)
+                     kind = 53;
                   break;
                case 832:
-                  if ((0x10000000100000L & l) != 0L && kind > 92)
-                     kind = 92;
+                  if ((0x400000004L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 833;
                   break;
                case 833:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 834;
                   break;
                case 834:
@@ -4892,75 +4892,75 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 835;
                   break;
                case 835:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 836;
                   break;
                case 836:
-                  if ((0x4000000040000L & l) != 0L && kind > 93)
-                     kind = 93;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 837;
                   break;
                case 837:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 838;
                   break;
                case 838:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 839;
+                  if ((0x10000000100000L & l) != 0L && kind > 92)
+                     kind = 92;
                   break;
                case 839:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 840;
                   break;
                case 840:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 841;
                   break;
                case 841:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 842;
                   break;
                case 842:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 843;
+                  if ((0x4000000040000L & l) != 0L && kind > 93)
+                     kind = 93;
                   break;
                case 843:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 844;
                   break;
                case 844:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 845;
                   break;
                case 845:
-                  if ((0x4000000040000L & l) != 0L && kind > 98)
-                     kind = 98;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 846;
                   break;
                case 846:
                   if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 847;
                   break;
                case 847:
-                  if ((0x100000001000L & l) != 0L && kind > 123)
-                     kind = 123;
+                  if ((0x20000000200000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 848;
                   break;
                case 848:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjAddStates(172, 178);
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 849;
                   break;
                case 849:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 850;
                   break;
                case 850:
-                  if ((0x10000000100000L & l) != 0L && kind > 30)
-                     kind = 30;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 851;
                   break;
                case 851:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 852;
+                  if ((0x4000000040000L & l) != 0L && kind > 98)
+                     kind = 98;
                   break;
                case 852:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 853;
                   break;
                case 853:
@@ -4972,147 +4972,147 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 855;
                   break;
                case 855:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 856;
                   break;
                case 856:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x400000004000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 857;
                   break;
                case 857:
-                  if ((0x100000001000L & l) != 0L && kind > 65)
-                     kind = 65;
+                  if ((0x2000000020L & l) != 0L && kind > 115)
+                     kind = 115;
                   break;
                case 858:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 859;
                   break;
                case 859:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 860;
+                  if ((0x100000001000L & l) != 0L && kind > 125)
+                     kind = 125;
                   break;
                case 860:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 861;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjAddStates(172, 178);
                   break;
                case 861:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 862;
                   break;
                case 862:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 863;
+                  if ((0x10000000100000L & l) != 0L && kind > 30)
+                     kind = 30;
                   break;
                case 863:
-                  if ((0x2000000020L & l) != 0L && kind > 82)
-                     kind = 82;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 864;
                   break;
                case 864:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 865;
                   break;
                case 865:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 866;
                   break;
                case 866:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 867;
                   break;
                case 867:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 868;
                   break;
                case 868:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 869;
                   break;
                case 869:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 870;
+                  if ((0x100000001000L & l) != 0L && kind > 65)
+                     kind = 65;
                   break;
                case 870:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 871;
                   break;
                case 871:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 872;
                   break;
                case 872:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 873;
                   break;
                case 873:
-                  if ((0x800000008L & l) != 0L && kind > 87)
-                     kind = 87;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 874;
                   break;
                case 874:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 875;
                   break;
                case 875:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 876;
+                  if ((0x2000000020L & l) != 0L && kind > 82)
+                     kind = 82;
                   break;
                case 876:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 877;
                   break;
                case 877:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 878;
                   break;
                case 878:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 879;
                   break;
                case 879:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 880;
                   break;
                case 880:
-                  if ((0x200000002000000L & l) != 0L && kind > 105)
-                     kind = 105;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 881;
                   break;
                case 881:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 882;
                   break;
                case 882:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 883;
                   break;
                case 883:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 884;
                   break;
                case 884:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 885;
                   break;
                case 885:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 886;
+                  if ((0x800000008L & l) != 0L && kind > 87)
+                     kind = 87;
                   break;
                case 886:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 887;
                   break;
                case 887:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 888;
                   break;
                case 888:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 889;
                   break;
                case 889:
-                  if ((0x8000000080000L & l) != 0L && kind > 126)
-                     kind = 126;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 890;
                   break;
                case 890:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 891;
                   break;
                case 891:
@@ -5120,179 +5120,179 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 892;
                   break;
                case 892:
-                  if ((0x10000000100L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 893;
+                  if ((0x200000002000000L & l) != 0L && kind > 105)
+                     kind = 105;
                   break;
                case 893:
                   if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 894;
                   break;
                case 894:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 895;
                   break;
                case 895:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 896;
                   break;
                case 896:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 897;
                   break;
                case 897:
-                  if ((0x8000000080000L & l) != 0L && kind > 155)
-                     kind = 155;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 898;
                   break;
                case 898:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjAddStates(160, 171);
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 899;
+                  break;
+               case 899:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 900;
                   break;
                case 900:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 901;
                   break;
                case 901:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 902;
+                  if ((0x8000000080000L & l) != 0L && kind > 128)
+                     kind = 128;
                   break;
                case 902:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 903;
                   break;
                case 903:
-                  if ((0x2000000020L & l) != 0L && kind > 33)
-                     kind = 33;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 904;
                   break;
                case 904:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 905;
                   break;
                case 905:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 906;
                   break;
                case 906:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 907;
                   break;
                case 907:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 908;
                   break;
                case 908:
-                  if ((0x400000004000L & l) != 0L && kind > 51)
-                     kind = 51;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 909;
                   break;
                case 909:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 910;
+                  if ((0x8000000080000L & l) != 0L && kind > 157)
+                     kind = 157;
                   break;
                case 910:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 911;
-                  break;
-               case 911:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 912;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjAddStates(160, 171);
                   break;
                case 912:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 913;
                   break;
                case 913:
-                  if ((0x1000000010L & l) != 0L && kind > 55)
-                     kind = 55;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 914;
                   break;
                case 914:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 915;
                   break;
                case 915:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 916;
+                  if ((0x2000000020L & l) != 0L && kind > 33)
+                     kind = 33;
                   break;
                case 916:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 917;
                   break;
                case 917:
-                  if ((0x200000002000000L & l) != 0L && kind > 57)
-                     kind = 57;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 918;
                   break;
                case 918:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 919;
                   break;
                case 919:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 920;
                   break;
                case 920:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 921;
+                  if ((0x400000004000L & l) != 0L && kind > 51)
+                     kind = 51;
                   break;
                case 921:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 922;
                   break;
                case 922:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 923;
                   break;
                case 923:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 924;
                   break;
                case 924:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 925;
                   break;
                case 925:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 926;
+                  if ((0x1000000010L & l) != 0L && kind > 55)
+                     kind = 55;
                   break;
                case 926:
-                  if ((0x8000000080000L & l) != 0L && kind > 89)
-                     kind = 89;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 927;
                   break;
                case 927:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 928;
                   break;
                case 928:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 929;
                   break;
                case 929:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 930;
+                  if ((0x200000002000000L & l) != 0L && kind > 57)
+                     kind = 57;
                   break;
                case 930:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 931;
                   break;
                case 931:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 932;
                   break;
                case 932:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 933;
                   break;
                case 933:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 934;
                   break;
                case 934:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 935;
                   break;
                case 935:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 936;
                   break;
                case 936:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 937;
                   break;
                case 937:
@@ -5300,227 +5300,227 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 938;
                   break;
                case 938:
-                  if ((0x4000000040000L & l) != 0L && kind > 99)
-                     kind = 99;
+                  if ((0x8000000080000L & l) != 0L && kind > 89)
+                     kind = 89;
                   break;
                case 939:
                   if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 940;
                   break;
                case 940:
-                  if ((0x400000004L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 941;
                   break;
                case 941:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 942;
                   break;
                case 942:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 943;
                   break;
                case 943:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 944;
                   break;
                case 944:
-                  if ((0x1000000010L & l) != 0L && kind > 111)
-                     kind = 111;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 945;
                   break;
                case 945:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 946;
                   break;
                case 946:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 947;
                   break;
                case 947:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 948;
                   break;
                case 948:
-                  if ((0x80000000800L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 949;
                   break;
                case 949:
-                  if ((0x2000000020L & l) != 0L && kind > 120)
-                     kind = 120;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 950;
                   break;
                case 950:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 951;
+                  if ((0x4000000040000L & l) != 0L && kind > 99)
+                     kind = 99;
                   break;
                case 951:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 952;
                   break;
                case 952:
-                  if ((0x1000000010L & l) != 0L && kind > 121)
-                     kind = 121;
+                  if ((0x400000004L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 953;
                   break;
                case 953:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 954;
                   break;
+               case 954:
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 955;
+                  break;
                case 955:
                   if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 956;
                   break;
                case 956:
-                  if ((0x400000004L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 957;
+                  if ((0x1000000010L & l) != 0L && kind > 111)
+                     kind = 111;
                   break;
                case 957:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 958;
                   break;
                case 958:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 959;
                   break;
                case 959:
-                  if ((0x80000000800L & l) != 0L && kind > 131)
-                     kind = 131;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 960;
                   break;
                case 960:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 961;
                   break;
                case 961:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 962;
+                  if ((0x2000000020L & l) != 0L && kind > 122)
+                     kind = 122;
                   break;
                case 962:
-                  if ((0x2000000020L & l) != 0L && kind > 157)
-                     kind = 157;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 963;
                   break;
                case 963:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 964;
                   break;
                case 964:
-                  if ((0x1000000010L & l) != 0L && kind > 159)
-                     kind = 159;
+                  if ((0x1000000010L & l) != 0L && kind > 123)
+                     kind = 123;
                   break;
                case 965:
                   if ((0x800000008000L & l) != 0L)
-                     jjAddStates(152, 159);
-                  break;
-               case 966:
-                  if ((0x4000000040000L & l) != 0L && kind > 36)
-                     kind = 36;
+                     jjstateSet[jjnewStateCnt++] = 966;
                   break;
                case 967:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 968;
                   break;
                case 968:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x400000004L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 969;
                   break;
                case 969:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 970;
                   break;
                case 970:
-                  if ((0x4000000040000L & l) != 0L && kind > 39)
-                     kind = 39;
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 971;
                   break;
                case 971:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 972;
+                  if ((0x80000000800L & l) != 0L && kind > 133)
+                     kind = 133;
                   break;
                case 972:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 973;
                   break;
                case 973:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 974;
                   break;
                case 974:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 975;
+                  if ((0x2000000020L & l) != 0L && kind > 159)
+                     kind = 159;
                   break;
                case 975:
-                  if ((0x10000000100000L & l) != 0L && kind > 45)
-                     kind = 45;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 976;
                   break;
                case 976:
-                  if ((0x400000004000L & l) != 0L && kind > 84)
-                     kind = 84;
+                  if ((0x1000000010L & l) != 0L && kind > 161)
+                     kind = 161;
                   break;
                case 977:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 978;
+                  if ((0x800000008000L & l) != 0L)
+                     jjAddStates(152, 159);
                   break;
                case 978:
-                  if ((0x4000000040L & l) != 0L && kind > 85)
-                     kind = 85;
+                  if ((0x4000000040000L & l) != 0L && kind > 36)
+                     kind = 36;
                   break;
                case 979:
-                  if ((0x40000000400000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 980;
                   break;
                case 980:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 981;
                   break;
                case 981:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 982;
                   break;
                case 982:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 983;
+                  if ((0x4000000040000L & l) != 0L && kind > 39)
+                     kind = 39;
                   break;
                case 983:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 984;
                   break;
                case 984:
-                  if ((0x400000004000000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 985;
                   break;
                case 985:
-                  if ((0x2000000020L & l) != 0L && kind > 96)
-                     kind = 96;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 986;
                   break;
                case 986:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 987;
                   break;
                case 987:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 988;
+                  if ((0x10000000100000L & l) != 0L && kind > 45)
+                     kind = 45;
                   break;
                case 988:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 989;
+                  if ((0x400000004000L & l) != 0L && kind > 84)
+                     kind = 84;
                   break;
                case 989:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 990;
                   break;
                case 990:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 991;
+                  if ((0x4000000040L & l) != 0L && kind > 85)
+                     kind = 85;
                   break;
                case 991:
-                  if ((0x400000004000000L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 992;
                   break;
                case 992:
-                  if ((0x2000000020L & l) != 0L && kind > 114)
-                     kind = 114;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 993;
                   break;
                case 993:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 994;
                   break;
                case 994:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 995;
                   break;
                case 995:
@@ -5528,84 +5528,84 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 996;
                   break;
                case 996:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x400000004000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 997;
                   break;
                case 997:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 998;
+                  if ((0x2000000020L & l) != 0L && kind > 96)
+                     kind = 96;
                   break;
                case 998:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 999;
                   break;
                case 999:
-                  if ((0x100000001000L & l) != 0L && kind > 144)
-                     kind = 144;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1000;
                   break;
                case 1000:
-                  if ((0x400000004000L & l) != 0L)
-                     jjAddStates(144, 151);
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1001;
                   break;
                case 1001:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1002;
                   break;
                case 1002:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1003;
                   break;
                case 1003:
-                  if ((0x100000001000L & l) != 0L && kind > 37)
-                     kind = 37;
+                  if ((0x400000004000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1004;
                   break;
                case 1004:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1005;
+                  if ((0x2000000020L & l) != 0L && kind > 114)
+                     kind = 114;
                   break;
                case 1005:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x1000000010000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1006;
                   break;
                case 1006:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1007;
                   break;
                case 1007:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1008;
                   break;
                case 1008:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1009;
                   break;
                case 1009:
-                  if ((0x2000000020L & l) != 0L && kind > 61)
-                     kind = 61;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1010;
                   break;
                case 1010:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1011;
                   break;
                case 1011:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1012;
+                  if ((0x100000001000L & l) != 0L && kind > 146)
+                     kind = 146;
                   break;
                case 1012:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1013;
+                  if ((0x400000004000L & l) != 0L)
+                     jjAddStates(144, 151);
                   break;
                case 1013:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1014;
                   break;
                case 1014:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1015;
                   break;
                case 1015:
-                  if ((0x10000000100000L & l) != 0L && kind > 62)
-                     kind = 62;
+                  if ((0x100000001000L & l) != 0L && kind > 37)
+                     kind = 37;
                   break;
                case 1016:
                   if ((0x800000008000L & l) != 0L)
@@ -5616,7 +5616,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 1018;
                   break;
                case 1018:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1019;
                   break;
                case 1019:
@@ -5624,151 +5624,151 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 1020;
                   break;
                case 1020:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1021;
                   break;
                case 1021:
-                  if ((0x2000000020L & l) != 0L && kind > 63)
-                     kind = 63;
+                  if ((0x2000000020L & l) != 0L && kind > 61)
+                     kind = 61;
                   break;
                case 1022:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1023;
                   break;
                case 1023:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1024;
                   break;
                case 1024:
-                  if ((0x4000000040000L & l) != 0L && kind > 70)
-                     kind = 70;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1025;
                   break;
                case 1025:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1026;
                   break;
                case 1026:
-                  if ((0x200000002000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1027;
                   break;
                case 1027:
-                  if ((0x2000000020L & l) != 0L && kind > 94)
-                     kind = 94;
+                  if ((0x10000000100000L & l) != 0L && kind > 62)
+                     kind = 62;
                   break;
                case 1028:
                   if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1029;
                   break;
                case 1029:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1030;
                   break;
                case 1030:
-                  if ((0x2000000020L & l) != 0L && kind > 124)
-                     kind = 124;
+                  if ((0x200000002000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1031;
                   break;
                case 1031:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1032;
                   break;
                case 1032:
-                  if ((0x10000000100000L & l) != 0L && kind > 240)
-                     kind = 240;
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1033;
                   break;
                case 1033:
-                  if ((0x8000000080L & l) != 0L)
-                     jjAddStates(142, 143);
+                  if ((0x2000000020L & l) != 0L && kind > 63)
+                     kind = 63;
                   break;
                case 1034:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1035;
                   break;
                case 1035:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1036;
                   break;
                case 1036:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1037;
+                  if ((0x4000000040000L & l) != 0L && kind > 70)
+                     kind = 70;
                   break;
                case 1037:
-                  if ((0x1000000010000L & l) != 0L && kind > 40)
-                     kind = 40;
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1038;
                   break;
                case 1038:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1039;
                   break;
                case 1039:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1040;
+                  if ((0x2000000020L & l) != 0L && kind > 94)
+                     kind = 94;
                   break;
                case 1040:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1041;
                   break;
                case 1041:
-                  if ((0x10000000100000L & l) != 0L && kind > 119)
-                     kind = 119;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1042;
                   break;
                case 1042:
-                  if ((0x400000004L & l) != 0L)
-                     jjAddStates(135, 141);
+                  if ((0x2000000020L & l) != 0L && kind > 126)
+                     kind = 126;
                   break;
                case 1043:
-                  if ((0x200000002000000L & l) != 0L && kind > 41)
-                     kind = 41;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1044;
                   break;
                case 1044:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1045;
+                  if ((0x10000000100000L & l) != 0L && kind > 242)
+                     kind = 242;
                   break;
                case 1045:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1046;
+                  if ((0x8000000080L & l) != 0L)
+                     jjAddStates(142, 143);
                   break;
                case 1046:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1047;
                   break;
                case 1047:
-                  if ((0x10000000100L & l) != 0L && kind > 44)
-                     kind = 44;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1048;
                   break;
                case 1048:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1049;
                   break;
                case 1049:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1050;
+                  if ((0x1000000010000L & l) != 0L && kind > 40)
+                     kind = 40;
                   break;
                case 1050:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1051;
                   break;
                case 1051:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1052;
                   break;
                case 1052:
-                  if ((0x2000000020L & l) != 0L && kind > 52)
-                     kind = 52;
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1053;
                   break;
                case 1053:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1054;
+                  if ((0x10000000100000L & l) != 0L && kind > 121)
+                     kind = 121;
                   break;
                case 1054:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1055;
+                  if ((0x400000004L & l) != 0L)
+                     jjAddStates(135, 141);
                   break;
                case 1055:
-                  if ((0x200000002L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1056;
+                  if ((0x200000002000000L & l) != 0L && kind > 41)
+                     kind = 41;
                   break;
                case 1056:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1057;
                   break;
                case 1057:
@@ -5776,416 +5776,445 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 1058;
                   break;
                case 1058:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1059;
                   break;
                case 1059:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 1060;
+                  if ((0x10000000100L & l) != 0L && kind > 44)
+                     kind = 44;
                   break;
                case 1060:
-                  if ((0x4000000040L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1061;
                   break;
                case 1061:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1062;
                   break;
                case 1062:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1063;
                   break;
                case 1063:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1064;
                   break;
                case 1064:
-                  if ((0x10000000100000L & l) != 0L && kind > 68)
-                     kind = 68;
+                  if ((0x2000000020L & l) != 0L && kind > 52)
+                     kind = 52;
                   break;
                case 1065:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1066;
                   break;
                case 1066:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1067;
                   break;
                case 1067:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1068;
                   break;
                case 1068:
-                  if ((0x400000004000L & l) != 0L && kind > 129)
-                     kind = 129;
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1069;
                   break;
                case 1069:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1070;
                   break;
                case 1070:
-                  if ((0x800000008000L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1071;
                   break;
                case 1071:
-                  if ((0x400000004L & l) != 0L && kind > 139)
-                     kind = 139;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 1072;
                   break;
                case 1072:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1073;
                   break;
                case 1073:
-                  if ((0x10000000100000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1074;
                   break;
                case 1074:
-                  if ((0x80000000800000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1075;
                   break;
                case 1075:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1076;
                   break;
                case 1076:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1077;
+                  if ((0x10000000100000L & l) != 0L && kind > 68)
+                     kind = 68;
                   break;
                case 1077:
-                  if ((0x400000004000L & l) != 0L && kind > 244)
-                     kind = 244;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1078;
                   break;
                case 1078:
-                  if ((0x100000001000L & l) != 0L)
-                     jjAddStates(128, 134);
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1079;
                   break;
                case 1079:
                   if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1080;
                   break;
                case 1080:
-                  if ((0x200000002000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1081;
+                  if ((0x400000004000L & l) != 0L && kind > 131)
+                     kind = 131;
                   break;
                case 1081:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1082;
                   break;
                case 1082:
-                  if ((0x10000000100000L & l) != 0L && kind > 42)
-                     kind = 42;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1083;
                   break;
                case 1083:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1084;
+                  if ((0x400000004L & l) != 0L && kind > 141)
+                     kind = 141;
                   break;
                case 1084:
-                  if ((0x800000008L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1085;
                   break;
                case 1085:
-                  if ((0x80000000800L & l) != 0L && kind > 54)
-                     kind = 54;
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1086;
                   break;
                case 1086:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x80000000800000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1087;
                   break;
                case 1087:
-                  if ((0x10000000100000L & l) != 0L && kind > 58)
-                     kind = 58;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1088;
                   break;
                case 1088:
-                  if ((0x20000000200000L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1089;
                   break;
                case 1089:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1090;
+                  if ((0x400000004000L & l) != 0L && kind > 246)
+                     kind = 246;
                   break;
                case 1090:
-                  if ((0x2000000020L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1091;
+                  if ((0x100000001000L & l) != 0L)
+                     jjAddStates(128, 134);
                   break;
                case 1091:
-                  if ((0x400000004000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1092;
                   break;
                case 1092:
-                  if ((0x2000000020L & l) != 0L && kind > 69)
-                     kind = 69;
+                  if ((0x200000002000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1093;
                   break;
                case 1093:
                   if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1094;
                   break;
                case 1094:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1095;
+                  if ((0x10000000100000L & l) != 0L && kind > 42)
+                     kind = 42;
                   break;
                case 1095:
-                  if ((0x80000000800L & l) != 0L && kind > 115)
-                     kind = 115;
+                  if ((0x800000008000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1096;
                   break;
                case 1096:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1097;
                   break;
                case 1097:
-                  if ((0x400000004000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1098;
+                  if ((0x80000000800L & l) != 0L && kind > 54)
+                     kind = 54;
                   break;
                case 1098:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x2000000020L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1099;
                   break;
                case 1099:
-                  if ((0x20000000200000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1100;
+                  if ((0x10000000100000L & l) != 0L && kind > 58)
+                     kind = 58;
                   break;
                case 1100:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1101;
                   break;
                case 1101:
-                  if ((0x8000000080L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1102;
                   break;
                case 1102:
-                  if ((0x2000000020L & l) != 0L && kind > 128)
-                     kind = 128;
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1103;
                   break;
                case 1103:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1104;
                   break;
                case 1104:
-                  if ((0x80000000800L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1105;
+                  if ((0x2000000020L & l) != 0L && kind > 69)
+                     kind = 69;
                   break;
                case 1105:
-                  if ((0x2000000020L & l) != 0L && kind > 242)
-                     kind = 242;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1106;
                   break;
                case 1106:
-                  if (curChar == 64)
-                     jjAddStates(117, 127);
+                  if ((0x400000004000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1107;
+                  break;
+               case 1107:
+                  if ((0x80000000800L & l) != 0L && kind > 117)
+                     kind = 117;
                   break;
                case 1108:
-                  if ((0x10000000100L & l) != 0L)
+                  if ((0x200000002L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1109;
                   break;
                case 1109:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x400000004000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1110;
                   break;
                case 1110:
-                  if ((0x8000000080000L & l) != 0L && kind > 161)
-                     kind = 161;
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1111;
                   break;
                case 1111:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1112;
                   break;
                case 1112:
-               case 1140:
-                  if ((0x20000000200L & l) != 0L)
-                     jjCheckNAdd(1113);
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1113;
                   break;
                case 1113:
-                  if ((0x1000000010L & l) != 0L && kind > 162)
-                     kind = 162;
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1114;
                   break;
                case 1114:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1115;
+                  if ((0x2000000020L & l) != 0L && kind > 130)
+                     kind = 130;
                   break;
                case 1115:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1116;
                   break;
                case 1116:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x80000000800L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1117;
                   break;
                case 1117:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjCheckNAdd(1118);
+                  if ((0x2000000020L & l) != 0L && kind > 244)
+                     kind = 244;
                   break;
                case 1118:
-                  if ((0x8000000080000L & l) != 0L && kind > 162)
-                     kind = 162;
-                  break;
-               case 1119:
-                  if ((0x40000000400000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1120;
+                  if (curChar == 64)
+                     jjAddStates(117, 127);
                   break;
                case 1120:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x10000000100L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1121;
                   break;
                case 1121:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1122;
                   break;
                case 1122:
-                  if ((0x8000000080000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1123;
+                  if ((0x8000000080000L & l) != 0L && kind > 163)
+                     kind = 163;
                   break;
                case 1123:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1124;
                   break;
                case 1124:
-                  if ((0x800000008000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1125;
+               case 1152:
+                  if ((0x20000000200L & l) != 0L)
+                     jjCheckNAdd(1125);
                   break;
                case 1125:
-                  if ((0x400000004000L & l) != 0L && kind > 162)
-                     kind = 162;
+                  if ((0x1000000010L & l) != 0L && kind > 164)
+                     kind = 164;
                   break;
                case 1126:
-                  if ((0x8000000080000L & l) != 0L)
+                  if ((0x800000008L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1127;
                   break;
                case 1127:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x100000001000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1128;
                   break;
                case 1128:
-                  if ((0x400000004000000L & l) != 0L)
-                     jjCheckNAdd(1129);
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1129;
                   break;
                case 1129:
-                  if ((0x2000000020L & l) != 0L && kind > 162)
-                     kind = 162;
+                  if ((0x8000000080000L & l) != 0L)
+                     jjCheckNAdd(1130);
                   break;
                case 1130:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1131;
+                  if ((0x8000000080000L & l) != 0L && kind > 164)
+                     kind = 164;
                   break;
                case 1131:
-                  if ((0x200000002000000L & l) != 0L)
+                  if ((0x40000000400000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1132;
                   break;
                case 1132:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjCheckNAdd(1129);
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1133;
                   break;
                case 1133:
                   if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1134;
                   break;
                case 1134:
-                  if ((0x200000002L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1135;
                   break;
                case 1135:
-                  if ((0x80000000800000L & l) != 0L && kind > 162)
-                     kind = 162;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1136;
                   break;
                case 1136:
-                  if ((0x4000000040000L & l) != 0L)
+                  if ((0x800000008000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1137;
                   break;
                case 1137:
-                  if ((0x20000000200L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1138;
+                  if ((0x400000004000L & l) != 0L && kind > 164)
+                     kind = 164;
                   break;
                case 1138:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x8000000080000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1139;
                   break;
                case 1139:
-                  if (curChar == 95)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1140;
                   break;
+               case 1140:
+                  if ((0x400000004000000L & l) != 0L)
+                     jjCheckNAdd(1141);
+                  break;
                case 1141:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1142;
+                  if ((0x2000000020L & l) != 0L && kind > 164)
+                     kind = 164;
                   break;
                case 1142:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1143;
                   break;
                case 1143:
-                  if ((0x1000000010L & l) != 0L)
+                  if ((0x200000002000000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1144;
                   break;
                case 1144:
-                  if (curChar == 95)
-                     jjstateSet[jjnewStateCnt++] = 1145;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjCheckNAdd(1141);
                   break;
                case 1145:
-                  if ((0x1000000010000L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1146;
                   break;
                case 1146:
-                  if ((0x800000008000L & l) != 0L)
-                     jjCheckNAdd(1118);
+                  if ((0x200000002L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1147;
                   break;
                case 1147:
-                  if ((0x4000000040L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1148;
+                  if ((0x80000000800000L & l) != 0L && kind > 164)
+                     kind = 164;
                   break;
                case 1148:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1149;
                   break;
                case 1149:
-                  if ((0x2000000020L & l) != 0L)
+                  if ((0x20000000200L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1150;
                   break;
                case 1150:
-                  if ((0x100000001000L & l) != 0L)
+                  if ((0x1000000010L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1151;
                   break;
                case 1151:
-                  if ((0x1000000010L & l) != 0L)
-                     jjCheckNAdd(1118);
-                  break;
-               case 1152:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1153;
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 1152;
                   break;
                case 1153:
-                  if ((0x20000000200L & l) != 0L)
+                  if ((0x4000000040000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 1154;
                   break;
                case 1154:
-                  if ((0x1000000010L & l) != 0L && kind > 163)
-                     kind = 163;
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1155;
+                  break;
+               case 1155:
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1156;
+                  break;
+               case 1156:
+                  if (curChar == 95)
+                     jjstateSet[jjnewStateCnt++] = 1157;
                   break;
                case 1157:
-                  if ((0x100000001000L & l) != 0L && kind > 173)
-                     kind = 173;
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1158;
+                  break;
+               case 1158:
+                  if ((0x800000008000L & l) != 0L)
+                     jjCheckNAdd(1130);
                   break;
                case 1159:
+                  if ((0x4000000040L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1160;
+                  break;
+               case 1160:
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1161;
+                  break;
+               case 1161:
+                  if ((0x2000000020L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1162;
+                  break;
+               case 1162:
                   if ((0x100000001000L & l) != 0L)
-                     jjCheckNAdd(1169);
+                     jjstateSet[jjnewStateCnt++] = 1163;
+                  break;
+               case 1163:
+                  if ((0x1000000010L & l) != 0L)
+                     jjCheckNAdd(1130);
                   break;
                case 1164:
-                  if ((0x100000001000L & l) != 0L && kind > 184)
-                     kind = 184;
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1165;
+                  break;
+               case 1165:
+                  if ((0x20000000200L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1166;
                   break;
                case 1166:
-                  if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1167);
+                  if ((0x1000000010L & l) != 0L && kind > 165)
+                     kind = 165;
                   break;
-               case 1167:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 184)
-                     kind = 184;
-                  jjCheckNAddTwoStates(1167, 1164);
+               case 1169:
+                  if ((0x100000001000L & l) != 0L && kind > 175)
+                     kind = 175;
                   break;
                case 1171:
                   if ((0x100000001000L & l) != 0L)
-                     jjCheckNAdd(1182);
+                     jjCheckNAdd(1181);
                   break;
                case 1176:
-                  if ((0x100000001000L & l) != 0L && kind > 185)
-                     kind = 185;
+                  if ((0x100000001000L & l) != 0L && kind > 186)
+                     kind = 186;
                   break;
                case 1178:
                   if ((0x100000001000000L & l) != 0L)
@@ -6194,88 +6223,107 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 1179:
                   if ((0x7e0000007eL & l) == 0L)
                      break;
-                  if (kind > 185)
-                     kind = 185;
+                  if (kind > 186)
+                     kind = 186;
                   jjCheckNAddTwoStates(1179, 1176);
                   break;
-               case 1184:
+               case 1183:
+                  if ((0x100000001000L & l) != 0L)
+                     jjCheckNAdd(1194);
+                  break;
+               case 1188:
+                  if ((0x100000001000L & l) != 0L && kind > 187)
+                     kind = 187;
+                  break;
+               case 1190:
+                  if ((0x100000001000000L & l) != 0L)
+                     jjCheckNAdd(1191);
+                  break;
+               case 1191:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 187)
+                     kind = 187;
+                  jjCheckNAddTwoStates(1191, 1188);
+                  break;
+               case 1196:
                   if ((0xffffffffefffffffL & l) != 0L)
-                     jjCheckNAdd(1185);
+                     jjCheckNAdd(1197);
                   break;
-               case 1186:
+               case 1198:
                   if (curChar == 92)
-                     jjAddStates(309, 311);
+                     jjAddStates(311, 313);
                   break;
-               case 1187:
+               case 1199:
                   if ((0x14404410000000L & l) != 0L)
-                     jjCheckNAdd(1185);
+                     jjCheckNAdd(1197);
                   break;
-               case 1192:
+               case 1204:
                   if ((0xffffffffefffffffL & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1193:
+               case 1205:
                   if (curChar == 92)
-                     jjAddStates(312, 314);
+                     jjAddStates(314, 316);
                   break;
-               case 1194:
+               case 1206:
                   if ((0x14404410000000L & l) != 0L)
                      jjCheckNAddStates(93, 95);
                   break;
-               case 1204:
+               case 1216:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1205);
+                     jjCheckNAdd(1217);
                   break;
-               case 1205:
+               case 1217:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(100, 102);
                   break;
-               case 1208:
+               case 1220:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1209);
+                     jjCheckNAdd(1221);
                   break;
-               case 1209:
+               case 1221:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(106, 108);
                   break;
-               case 1212:
+               case 1224:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1213);
+                     jjCheckNAdd(1225);
                   break;
-               case 1213:
+               case 1225:
                   if ((0x7e0000007eL & l) == 0L)
                      break;
-                  if (kind > 173)
-                     kind = 173;
-                  jjCheckNAddTwoStates(1213, 1157);
+                  if (kind > 175)
+                     kind = 175;
+                  jjCheckNAddTwoStates(1225, 1169);
                   break;
-               case 1215:
+               case 1227:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAddTwoStates(1216, 1217);
+                     jjCheckNAddTwoStates(1228, 1229);
                   break;
-               case 1216:
+               case 1228:
                   if ((0x7e0000007eL & l) != 0L)
-                     jjCheckNAddTwoStates(1216, 1217);
+                     jjCheckNAddTwoStates(1228, 1229);
                   break;
-               case 1218:
+               case 1230:
                   if ((0x7e0000007eL & l) != 0L)
-                     jjAddStates(315, 316);
+                     jjAddStates(317, 318);
                   break;
-               case 1219:
+               case 1231:
                   if ((0x1000000010000L & l) != 0L)
-                     jjAddStates(317, 318);
+                     jjAddStates(319, 320);
                   break;
-               case 1222:
+               case 1234:
                   if ((0x100000001000000L & l) != 0L)
-                     jjCheckNAdd(1223);
+                     jjCheckNAdd(1235);
                   break;
-               case 1223:
+               case 1235:
                   if ((0x7e0000007eL & l) != 0L)
                      jjCheckNAddStates(114, 116);
                   break;
-               case 1225:
+               case 1237:
                   if ((0x1000000010000L & l) != 0L)
-                     jjAddStates(319, 320);
+                     jjAddStates(321, 322);
                   break;
                default : break;
             }
@@ -6303,13 +6351,13 @@ private int jjMoveNfa_0(int startState, int curPos)
                   break;
                case 19:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     jjAddStates(33, 35);
+                     jjAddStates(19, 21);
                   break;
-               case 1184:
+               case 1196:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     jjstateSet[jjnewStateCnt++] = 1185;
+                     jjstateSet[jjnewStateCnt++] = 1197;
                   break;
-               case 1192:
+               case 1204:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                      jjAddStates(93, 95);
                   break;
@@ -6324,7 +6372,7 @@ private int jjMoveNfa_0(int startState, int curPos)
          kind = 0x7fffffff;
       }
       ++curPos;
-      if ((i = jjnewStateCnt) == (startsAt = 1228 - (jjnewStateCnt = startsAt)))
+      if ((i = jjnewStateCnt) == (startsAt = 1240 - (jjnewStateCnt = startsAt)))
          return curPos;
       try { curChar = input_stream.readChar(); }
       catch(java.io.IOException e) { return curPos; }
@@ -6385,27 +6433,27 @@ private int jjMoveStringLiteralDfa1_1(long active0)
    return 2;
 }
 static final int[] jjnextStates = {
-   33, 35, 36, 1170, 1171, 1182, 1208, 1210, 1159, 1169, 1158, 1159, 1169, 1204, 1206, 1171, 
-   1182, 54, 55, 17, 58, 59, 62, 63, 1201, 1202, 1203, 1207, 1184, 1186, 1192, 1193, 
-   1195, 19, 20, 22, 1156, 1157, 1158, 1159, 1169, 1170, 1171, 1182, 1212, 1214, 1157, 1215, 
-   1222, 1208, 1210, 1159, 1169, 1204, 1206, 1171, 1182, 13, 14, 17, 19, 20, 24, 22, 
-   54, 55, 17, 64, 65, 17, 330, 311, 365, 346, 401, 382, 569, 572, 573, 575, 
-   571, 1161, 1162, 1165, 1166, 1168, 1164, 1173, 1174, 1177, 1178, 1180, 1176, 1192, 1193, 1195, 
-   1192, 1193, 1197, 1195, 1205, 1171, 1182, 1206, 1171, 1182, 1209, 1159, 1169, 1210, 1159, 1169, 
-   1216, 1217, 1223, 1224, 1225, 1107, 1111, 1114, 1119, 1126, 1130, 1133, 1136, 1141, 1147, 1152, 
-   1079, 1083, 1086, 1088, 1093, 1096, 1103, 1043, 1044, 1048, 1053, 1065, 1069, 1072, 1034, 1038, 
-   1001, 1004, 1010, 1016, 1022, 1025, 1028, 1031, 966, 967, 971, 976, 977, 979, 986, 993, 
-   899, 904, 909, 914, 918, 927, 939, 945, 950, 953, 960, 963, 849, 851, 858, 864, 
-   874, 881, 890, 815, 817, 819, 821, 822, 826, 833, 837, 846, 798, 802, 806, 809, 
-   759, 762, 770, 773, 777, 784, 787, 793, 727, 732, 737, 742, 747, 755, 675, 678, 
-   686, 692, 701, 706, 712, 718, 721, 657, 662, 666, 671, 577, 582, 588, 591, 601, 
-   611, 614, 621, 627, 634, 643, 403, 408, 414, 418, 422, 426, 432, 439, 444, 459, 
-   465, 470, 477, 483, 487, 494, 504, 514, 524, 536, 547, 553, 562, 230, 235, 238, 
-   246, 250, 251, 257, 266, 267, 275, 284, 285, 294, 299, 331, 366, 191, 195, 199, 
-   206, 213, 220, 223, 163, 170, 171, 177, 184, 187, 69, 74, 76, 79, 86, 95, 
-   106, 112, 120, 129, 133, 138, 145, 149, 154, 159, 15, 16, 21, 23, 25, 56, 
-   57, 60, 61, 66, 67, 1187, 1188, 1190, 1194, 1196, 1198, 1218, 1219, 1220, 1221, 1226, 
-   1227, 
+   33, 35, 36, 54, 55, 17, 58, 59, 62, 63, 1213, 1214, 1215, 1219, 1196, 1198, 
+   1204, 1205, 1207, 19, 20, 22, 1168, 1169, 1170, 1171, 1181, 1182, 1183, 1194, 1224, 1226, 
+   1169, 1227, 1234, 1220, 1222, 1171, 1181, 1216, 1218, 1183, 1194, 1182, 1183, 1194, 1220, 1222, 
+   1171, 1181, 1170, 1171, 1181, 1216, 1218, 1183, 1194, 13, 14, 17, 19, 20, 24, 22, 
+   54, 55, 17, 64, 65, 17, 336, 317, 371, 352, 407, 388, 575, 578, 579, 581, 
+   577, 1173, 1174, 1177, 1178, 1180, 1176, 1185, 1186, 1189, 1190, 1192, 1188, 1204, 1205, 1207, 
+   1204, 1205, 1209, 1207, 1217, 1183, 1194, 1218, 1183, 1194, 1221, 1171, 1181, 1222, 1171, 1181, 
+   1228, 1229, 1235, 1236, 1237, 1119, 1123, 1126, 1131, 1138, 1142, 1145, 1148, 1153, 1159, 1164, 
+   1091, 1095, 1098, 1100, 1105, 1108, 1115, 1055, 1056, 1060, 1065, 1077, 1081, 1084, 1046, 1050, 
+   1013, 1016, 1022, 1028, 1034, 1037, 1040, 1043, 978, 979, 983, 988, 989, 991, 998, 1005, 
+   911, 916, 921, 926, 930, 939, 951, 957, 962, 965, 972, 975, 861, 863, 870, 876, 
+   886, 893, 902, 821, 823, 825, 827, 828, 832, 839, 843, 852, 858, 804, 808, 812, 
+   815, 765, 768, 776, 779, 783, 790, 793, 799, 733, 738, 743, 748, 753, 761, 681, 
+   684, 692, 698, 707, 712, 718, 724, 727, 663, 668, 672, 677, 583, 588, 594, 597, 
+   607, 617, 620, 627, 633, 640, 649, 409, 414, 420, 424, 428, 432, 438, 445, 450, 
+   465, 471, 476, 483, 489, 493, 500, 510, 520, 530, 542, 553, 559, 568, 230, 235, 
+   238, 246, 250, 251, 257, 263, 272, 273, 281, 290, 291, 300, 305, 337, 372, 191, 
+   195, 199, 206, 213, 220, 223, 163, 170, 171, 177, 184, 187, 69, 74, 76, 79, 
+   86, 95, 106, 112, 120, 129, 133, 138, 145, 149, 154, 159, 15, 16, 21, 23, 
+   25, 56, 57, 60, 61, 66, 67, 1199, 1200, 1202, 1206, 1208, 1210, 1230, 1231, 1232, 
+   1233, 1238, 1239, 
 };
 private static final boolean jjCanMove_0(int hiByte, int i1, int i2, long l1, long l2)
 {
@@ -6435,19 +6483,19 @@ null, null, null, null, null, null, null, null, null, null, null, null, null, nu
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, null, "\50", "\51", "\173", "\175", "\133", 
-"\135", "\73", "\54", "\56", "\100", "\44", "\140", "\75", "\75\75", "\74", "\76", 
-"\41", "\176", "\77", "\72", "\74\75", "\76\75", "\41\75", "\74\76", "\174\174", 
-"\46\46", "\53\53", "\55\55", "\53", "\55", "\52", "\57", "\46", "\174", "\136", "\45", 
-"\74\74", "\53\75", "\55\75", "\52\75", "\57\75", "\46\75", "\174\75", "\136\75", 
-"\45\75", "\74\74\75", "\76\76\75", "\76\76\76\75", "\76\76", "\76\76\76", "\56\56\56", 
-"\56\56", null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, null, null, null, null, null, null, null, "\43", 
-"\137\137\100\162\145\143\157\162\144\155\141\160\100\137\137\137", "\162\157\165\156\144\55\162\157\142\151\156", 
-"\55\163\145\162\166\145\162\163", "\55\144\142", "\55\154\141\164\145\156\143\171", 
-"\55\155\145\163\163\141\147\145\163", "\55\141\154\154", "\55\157\165\164\160\165\164\75\164\145\170\164", 
-"\55\146\157\162\143\145", "\55\146\165\154\154", "\55\146\165\154\154\137\162\145\160\154\141\143\145", 
-"\55\155\145\162\147\145", };
+null, null, null, null, null, null, null, null, null, "\50", "\51", "\173", "\175", 
+"\133", "\135", "\73", "\54", "\56", "\100", "\44", "\140", "\75", "\75\75", "\74", 
+"\76", "\41", "\176", "\77", "\72", "\74\75", "\76\75", "\41\75", "\74\76", 
+"\174\174", "\46\46", "\53\53", "\55\55", "\53", "\55", "\52", "\57", "\46", "\174", 
+"\136", "\45", "\74\74", "\53\75", "\55\75", "\52\75", "\57\75", "\46\75", "\174\75", 
+"\136\75", "\45\75", "\74\74\75", "\76\76\75", "\76\76\76\75", "\76\76", "\76\76\76", 
+"\56\56\56", "\56\56", null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, "\43", "\137\137\100\162\145\143\157\162\144\155\141\160\100\137\137\137", 
+"\162\157\165\156\144\55\162\157\142\151\156", "\55\163\145\162\166\145\162\163", "\55\144\142", 
+"\55\154\141\164\145\156\143\171", "\55\155\145\163\163\141\147\145\163", "\55\141\154\154", 
+"\55\157\165\164\160\165\164\75\164\145\170\164", "\55\146\157\162\143\145", "\55\146\165\154\154", 
+"\55\146\165\154\154\137\162\145\160\154\141\143\145", "\55\155\145\162\147\145", };
 
 /** Lexer state names. */
 public static final String[] lexStateNames = {
@@ -6469,11 +6517,11 @@ public static final int[] jjnewLexState = {
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-   -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, 
 };
 static final long[] jjtoToken = {
-   0xfffffffffffff801L, 0xffffffffffffffffL, 0xffc2201fffffffffL, 0xffffffffffffffffL, 
-   0x7ffcffL, 
+   0xfffffffffffff801L, 0xffffffffffffffffL, 0xff08807fffffffffL, 0xffffffffffffffffL, 
+   0x1fff3ffL, 
 };
 static final long[] jjtoSkip = {
    0x33eL, 0x0L, 0x0L, 0x0L, 
@@ -6488,8 +6536,8 @@ static final long[] jjtoMore = {
    0x0L, 
 };
 protected CharStream input_stream;
-private final int[] jjrounds = new int[1228];
-private final int[] jjstateSet = new int[2456];
+private final int[] jjrounds = new int[1240];
+private final int[] jjstateSet = new int[2480];
 private final StringBuilder jjimage = new StringBuilder();
 private StringBuilder image = jjimage;
 private int jjimageLen;
@@ -6518,7 +6566,7 @@ private void ReInitRounds()
 {
    int i;
    jjround = 0x80000001;
-   for (i = 1228; i-- > 0;)
+   for (i = 1240; i-- > 0;)
       jjrounds[i] = 0x80000000;
 }
 
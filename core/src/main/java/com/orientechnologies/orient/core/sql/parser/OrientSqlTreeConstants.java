@@ -168,34 +168,35 @@ public interface OrientSqlTreeConstants
   public int JJTALTERDATABASESTATEMENT = 162;
   public int JJTCOMMANDLINEOPTION = 163;
   public int JJTOPTIMIZEDATABASESTATEMENT = 164;
-  public int JJTCREATELINKSTATEMENT = 165;
-  public int JJTEXPLAINSTATEMENT = 166;
-  public int JJTPROFILESTATEMENT = 167;
-  public int JJTPERMISSION = 168;
-  public int JJTRESOURCEPATHITEM = 169;
-  public int JJTGRANTSTATEMENT = 170;
-  public int JJTREVOKESTATEMENT = 171;
-  public int JJTCREATEFUNCTIONSTATEMENT = 172;
-  public int JJTCREATEUSERSTATEMENT = 173;
-  public int JJTDROPUSERSTATEMENT = 174;
-  public int JJTLETSTATEMENT = 175;
-  public int JJTBEGINSTATEMENT = 176;
-  public int JJTCOMMITSTATEMENT = 177;
-  public int JJTROLLBACKSTATEMENT = 178;
-  public int JJTRETURNSTATEMENT = 179;
-  public int JJTIFSTATEMENT = 180;
-  public int JJTSLEEPSTATEMENT = 181;
-  public int JJTCONSOLESTATEMENT = 182;
-  public int JJTCREATESEQUENCESTATEMENT = 183;
-  public int JJTALTERSEQUENCESTATEMENT = 184;
-  public int JJTDROPSEQUENCESTATEMENT = 185;
-  public int JJTHASTATUSSTATEMENT = 186;
-  public int JJTHAREMOVESERVERSTATEMENT = 187;
-  public int JJTHASYNCDATABASESTATEMENT = 188;
-  public int JJTHASYNCCLUSTERSTATEMENT = 189;
-  public int JJTHASETSTATEMENT = 190;
-  public int JJTFOREACHBLOCK = 191;
-  public int JJTWHILEBLOCK = 192;
+  public int JJTANALYZESTATEMENT = 165;
+  public int JJTCREATELINKSTATEMENT = 166;
+  public int JJTEXPLAINSTATEMENT = 167;
+  public int JJTPROFILESTATEMENT = 168;
+  public int JJTPERMISSION = 169;
+  public int JJTRESOURCEPATHITEM = 170;
+  public int JJTGRANTSTATEMENT = 171;
+  public int JJTREVOKESTATEMENT = 172;
+  public int JJTCREATEFUNCTIONSTATEMENT = 173;
+  public int JJTCREATEUSERSTATEMENT = 174;
+  public int JJTDROPUSERSTATEMENT = 175;
+  public int JJTLETSTATEMENT = 176;
+  public int JJTBEGINSTATEMENT = 177;
+  public int JJTCOMMITSTATEMENT = 178;
+  public int JJTROLLBACKSTATEMENT = 179;
+  public int JJTRETURNSTATEMENT = 180;
+  public int JJTIFSTATEMENT = 181;
+  public int JJTSLEEPSTATEMENT = 182;
+  public int JJTCONSOLESTATEMENT = 183;
+  public int JJTCREATESEQUENCESTATEMENT = 184;
+  public int JJTALTERSEQUENCESTATEMENT = 185;
+  public int JJTDROPSEQUENCESTATEMENT = 186;
+  public int JJTHASTATUSSTATEMENT = 187;
+  public int JJTHAREMOVESERVERSTATEMENT = 188;
+  public int JJTHASYNCDATABASESTATEMENT = 189;
+  public int JJTHASYNCCLUSTERSTATEMENT = 190;
+  public int JJTHASETSTATEMENT = 191;
+  public int JJTFOREACHBLOCK = 192;
+  public int JJTWHILEBLOCK = 193;
 
 
   public String[] jjtNodeName = {
@@ -364,6 +365,7 @@ public interface OrientSqlTreeConstants
     "AlterDatabaseStatement",
     "CommandLineOption",
     "OptimizeDatabaseStatement",
+    "AnalyzeStatement",
     "CreateLinkStatement",
     "ExplainStatement",
     "ProfileStatement",
@@ -394,4 +396,4 @@ public interface OrientSqlTreeConstants
     "WhileBlock",
   };
 }
-/* JavaCC - OriginalChecksum=3d1915b3abd744c652b0f305af1781af (do not edit this line) */
+/* JavaCC - OriginalChecksum=4c280215f5e0b0900481fbd6b4592935 (do not edit this line) */
@@ -17,6 +17,7 @@ import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.BoundedBuf
 import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.Buffer;
 import com.orientechnologies.orient.core.storage.cache.chm.writequeue.MPSCLinkedQueue;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OQueryResources;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -138,16 +139,18 @@ public final class AsyncReadCache implements OReadCache {
           if (trackHitRate) {
             hits.increment();
           }
+          OQueryResources.pageRead(true);
 
           return cacheEntry;
         }
       } else {
         final boolean[] read = new boolean[1];
+        final OModifiableBoolean writeCacheHit = new OModifiableBoolean();
 
         cacheEntry = data.compute(pageKey, (page, entry) -> {
           if (entry == null) {
             try {
-              final OCachePointer[] pointers = writeCache.load(fileId, pageIndex, 1, new OModifiableBoolean(), verifyChecksums);
+              final OCachePointer[] pointers = writeCache.load(fileId, pageIndex, 1, writeCacheHit, verifyChecksums);
               if (pointers.length == 0) {
                 return null;
               }
@@ -173,9 +176,11 @@ public final class AsyncReadCache implements OReadCache {
             if (trackHitRate) {
               hits.increment();
             }
+            OQueryResources.pageRead(true);
 
             afterRead(cacheEntry);
           } else {
+            OQueryResources.pageRead(writeCacheHit.getValue());
             afterAdd(cacheEntry);
 
             try {
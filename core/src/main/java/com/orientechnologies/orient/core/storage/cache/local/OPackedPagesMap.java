@@ -0,0 +1,489 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Page offset map of the file which is stored in packed format. Pages of such files are compressed during flush and their images
+ * are stored in data file one after another, each image occupies slot which size is aligned to {@link #GRANULE_SIZE}. Map
+ * contains position and length of the latest image of each page, content of pages which are loaded into the cache is not changed.
+ * <p>
+ * Images are never overwritten in place. New image of the page is written into the free slot and only after that map is updated.
+ * Slot of the previous image is reused only after map which does not reference it anymore is stored on disk, so pages are never
+ * broken in case of crash and changes which are not reflected in the stored map are restored from WAL like changes of ordinary
+ * files. Map is stored during fuzzy checkpoints, flush and close of the file, list of free slots is not stored but is restored
+ * from map on load.
+ *
+ * @since 19.10.26
+ */
+public final class OPackedPagesMap {
+  /**
+   * Extension of the file which contains map, it is placed near the data file.
+   */
+  public static final String EXTENSION = ".ppm";
+
+  static final int GRANULE_SIZE = 512;
+
+  private static final long MAGIC_NUMBER = 0x50504D4150000001L;
+  private static final int  VERSION      = 1;
+
+  /**
+   * Amount of pages for which space is allocated in data file at once.
+   */
+  private static final int PAGES_PER_ALLOCATION = 16;
+
+  private final int          pageSize;
+  private final OCompression compression;
+
+  private volatile Path path;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private long[] positions;
+  private int[]  lengths;
+  private int    pagesCount;
+  private long   modificationsCount;
+  private long   savedModificationsCount;
+
+  /**
+   * Slots of the images which are still referenced from the map stored on disk, key is position of the slot, value is size of slot
+   * in granules.
+   */
+  private List<long[]> pendingSlots = new ArrayList<>();
+
+  /**
+   * Free slots grouped by their size in granules.
+   */
+  private final TreeMap<Integer, ArrayDeque<Long>> freeSlots = new TreeMap<>();
+
+  private OPackedPagesMap(final Path path, final int pageSize, final OCompression compression) {
+    this.path = path;
+    this.pageSize = pageSize;
+    this.compression = compression;
+
+    positions = new long[PAGES_PER_ALLOCATION];
+    lengths = new int[PAGES_PER_ALLOCATION];
+  }
+
+  static Path mapPath(final Path dataFile) {
+    return dataFile.resolveSibling(dataFile.getFileName().toString() + EXTENSION);
+  }
+
+  /**
+   * Creates new empty map and stores it on disk so the data file is recognized as packed one after restart.
+   */
+  static OPackedPagesMap create(final Path path, final int pageSize, final String compressionMethod, final boolean callFsync)
+      throws IOException {
+    final OPackedPagesMap map = new OPackedPagesMap(path, pageSize,
+        OCompressionFactory.INSTANCE.getCompression(compressionMethod, null));
+    map.write(map.positions, map.lengths, 0, callFsync);
+    return map;
+  }
+
+  /**
+   * Loads map from the disk and restores list of free slots of data file.
+   */
+  static OPackedPagesMap load(final Path path, final int pageSize, final OFileClassic file) throws IOException {
+    try (final InputStream inputStream = Files.newInputStream(path)) {
+      final CheckedInputStream checkedInputStream = new CheckedInputStream(new BufferedInputStream(inputStream), new CRC32());
+      final DataInputStream dataInputStream = new DataInputStream(checkedInputStream);
+
+      if (dataInputStream.readLong() != MAGIC_NUMBER) {
+        throw new OStorageException("File " + path + " is not a packed pages map");
+      }
+
+      final int version = dataInputStream.readInt();
+      if (version != VERSION) {
+        throw new OStorageException("Unsupported version " + version + " of packed pages map " + path);
+      }
+
+      final int storedPageSize = dataInputStream.readInt();
+      if (storedPageSize != pageSize) {
+        throw new OStorageException(
+            "Packed pages map " + path + " was created for page size " + storedPageSize + " but current page size is " + pageSize);
+      }
+
+      final String compressionMethod = dataInputStream.readUTF();
+      final OPackedPagesMap map = new OPackedPagesMap(path, pageSize,
+          OCompressionFactory.INSTANCE.getCompression(compressionMethod, null));
+
+      final int pagesCount = dataInputStream.readInt();
+      map.ensureCapacity(pagesCount);
+
+      for (int i = 0; i < pagesCount; i++) {
+        map.positions[i] = dataInputStream.readLong();
+        map.lengths[i] = dataInputStream.readInt();
+      }
+      map.pagesCount = pagesCount;
+
+      final int checksum = (int) checkedInputStream.getChecksum().getValue();
+      if (dataInputStream.readInt() != checksum) {
+        throw new OStorageException("Checksum of packed pages map " + path + " is broken");
+      }
+
+      map.restoreFreeSlots(file.getFileSize());
+      return map;
+    }
+  }
+
+  Path getPath() {
+    return path;
+  }
+
+  int getPagesCount() {
+    lock.readLock().lock();
+    try {
+      return pagesCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Adds new page to the end of the file. Content of allocated page is filled by zeros till the first flush of the page.
+   *
+   * @return Index of new page.
+   */
+  int allocatePage() {
+    lock.writeLock().lock();
+    try {
+      ensureCapacity(pagesCount + 1);
+
+      positions[pagesCount] = -1;
+      lengths[pagesCount] = 0;
+      modificationsCount++;
+
+      return pagesCount++;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Compresses page and writes its image into the free slot of data file.
+   *
+   * @param page Page content, position of buffer is not changed.
+   */
+  void writePage(final OFileClassic file, final long pageIndex, final ByteBuffer page) throws IOException {
+    final byte[] content = new byte[pageSize];
+    final ByteBuffer source = page.duplicate();
+    source.position(0);
+    source.get(content);
+
+    byte[] image = compression.compress(content);
+    int length = image.length;
+
+    //there is no reason to spend CPU on uncompression if we do not gain even single granule of space
+    if (length + GRANULE_SIZE > pageSize) {
+      image = content;
+      length = pageSize;
+    }
+
+    final int slotSize = slotSize(length);
+    final long position = allocateSlot(file, slotSize);
+    file.write(position, ByteBuffer.wrap(image, 0, length));
+
+    lock.writeLock().lock();
+    try {
+      final int index = (int) pageIndex;
+      ensureCapacity(index + 1);
+
+      if (index < pagesCount && positions[index] >= 0) {
+        pendingSlots.add(new long[] { positions[index], slotSize(lengths[index]) });
+      } else if (index >= pagesCount) {
+        for (int i = pagesCount; i < index; i++) {
+          positions[i] = -1;
+          lengths[i] = 0;
+        }
+
+        pagesCount = index + 1;
+      }
+
+      positions[index] = position;
+      lengths[index] = length;
+      modificationsCount++;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Reads image of the page and uncompresses it into passed in buffer.
+   *
+   * @return <code>false</code> if page was allocated but never written, in such case buffer is filled by zeros.
+   */
+  boolean readPage(final OFileClassic file, final long pageIndex, final ByteBuffer page) throws IOException {
+    final byte[] image;
+    final int length;
+
+    //lock is held during read to prevent reuse of the slot till read is completed
+    lock.readLock().lock();
+    try {
+      if (pageIndex >= pagesCount) {
+        throw new OStorageException("Page " + pageIndex + " is out of range of file " + file.getName());
+      }
+
+      final long position = positions[(int) pageIndex];
+      length = lengths[(int) pageIndex];
+
+      if (position < 0) {
+        page.position(0);
+        page.put(new byte[pageSize]);
+        page.position(0);
+        return false;
+      }
+
+      image = new byte[length];
+      file.read(position, ByteBuffer.wrap(image), true);
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    page.position(0);
+    if (length == pageSize) {
+      page.put(image);
+    } else {
+      page.put(compression.uncompress(image));
+    }
+    page.position(0);
+
+    return true;
+  }
+
+  /**
+   * Removes all pages and content of data file.
+   */
+  void truncate(final OFileClassic file) throws IOException {
+    lock.writeLock().lock();
+    try {
+      synchronized (freeSlots) {
+        file.shrink(0);
+
+        pagesCount = 0;
+        pendingSlots = new ArrayList<>();
+        freeSlots.clear();
+        modificationsCount++;
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Stores map on disk. Data file is synced before map is written, so stored map never references images which are not stored on
+   * disk.
+   */
+  void save(final OFileClassic file, final boolean callFsync) throws IOException {
+    final long[] positionsSnapshot;
+    final int[] lengthsSnapshot;
+    final int pagesCountSnapshot;
+    final long modificationsSnapshot;
+    final List<long[]> releasedSlots;
+
+    lock.writeLock().lock();
+    try {
+      if (savedModificationsCount == modificationsCount) {
+        return;
+      }
+
+      pagesCountSnapshot = pagesCount;
+      positionsSnapshot = Arrays.copyOf(positions, pagesCount);
+      lengthsSnapshot = Arrays.copyOf(lengths, pagesCount);
+      modificationsSnapshot = modificationsCount;
+
+      releasedSlots = pendingSlots;
+      pendingSlots = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    try {
+      if (callFsync) {
+        file.synch();
+      }
+
+      write(positionsSnapshot, lengthsSnapshot, pagesCountSnapshot, callFsync);
+    } catch (final IOException | RuntimeException e) {
+      lock.writeLock().lock();
+      try {
+        pendingSlots.addAll(releasedSlots);
+      } finally {
+        lock.writeLock().unlock();
+      }
+
+      throw e;
+    }
+
+    lock.writeLock().lock();
+    try {
+      savedModificationsCount = Math.max(savedModificationsCount, modificationsSnapshot);
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    synchronized (freeSlots) {
+      for (final long[] slot : releasedSlots) {
+        addFreeSlot(slot[0], (int) slot[1]);
+      }
+    }
+  }
+
+  void renameTo(final Path newPath) throws IOException {
+    Files.move(path, newPath, StandardCopyOption.REPLACE_EXISTING);
+    path = newPath;
+  }
+
+  void delete() throws IOException {
+    Files.deleteIfExists(path);
+  }
+
+  private void write(final long[] positions, final int[] lengths, final int pagesCount, final boolean callFsync)
+      throws IOException {
+    final Path tmpPath = path.resolveSibling(path.getFileName().toString() + ".tmp");
+
+    try (final FileChannel channel = FileChannel
+        .open(tmpPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      final OutputStream outputStream = Channels.newOutputStream(channel);
+      final CheckedOutputStream checkedOutputStream = new CheckedOutputStream(new BufferedOutputStream(outputStream), new CRC32());
+      final DataOutputStream dataOutputStream = new DataOutputStream(checkedOutputStream);
+
+      dataOutputStream.writeLong(MAGIC_NUMBER);
+      dataOutputStream.writeInt(VERSION);
+      dataOutputStream.writeInt(pageSize);
+      dataOutputStream.writeUTF(compression.name());
+      dataOutputStream.writeInt(pagesCount);
+
+      for (int i = 0; i < pagesCount; i++) {
+        dataOutputStream.writeLong(positions[i]);
+        dataOutputStream.writeInt(lengths[i]);
+      }
+
+      dataOutputStream.writeInt((int) checkedOutputStream.getChecksum().getValue());
+      dataOutputStream.flush();
+
+      if (callFsync) {
+        channel.force(true);
+      }
+    }
+
+    Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private long allocateSlot(final OFileClassic file, final int slotSize) throws IOException {
+    synchronized (freeSlots) {
+      final Map.Entry<Integer, ArrayDeque<Long>> entry = freeSlots.ceilingEntry(slotSize);
+      if (entry != null) {
+        final ArrayDeque<Long> slots = entry.getValue();
+        final long position = slots.pollFirst();
+        if (slots.isEmpty()) {
+          freeSlots.remove(entry.getKey());
+        }
+
+        if (entry.getKey() > slotSize) {
+          addFreeSlot(position + (long) slotSize * GRANULE_SIZE, entry.getKey() - slotSize);
+        }
+
+        return position;
+      }
+
+      final int allocationSize = Math.max(slotSize, slotSize(pageSize) * PAGES_PER_ALLOCATION);
+      final long position = file.allocateSpace(allocationSize * GRANULE_SIZE);
+      if (allocationSize > slotSize) {
+        addFreeSlot(position + (long) slotSize * GRANULE_SIZE, allocationSize - slotSize);
+      }
+
+      return position;
+    }
+  }
+
+  private void addFreeSlot(final long position, final int slotSize) {
+    freeSlots.computeIfAbsent(slotSize, (size) -> new ArrayDeque<>()).add(position);
+  }
+
+  private void restoreFreeSlots(final long fileSize) {
+    final long[][] usedSlots = new long[pagesCount][];
+    int usedSlotsCount = 0;
+
+    for (int i = 0; i < pagesCount; i++) {
+      if (positions[i] >= 0) {
+        usedSlots[usedSlotsCount++] = new long[] { positions[i], slotSize(lengths[i]) };
+      }
+    }
+
+    Arrays.sort(usedSlots, 0, usedSlotsCount, (first, second) -> Long.compare(first[0], second[0]));
+
+    long position = 0;
+    for (int i = 0; i < usedSlotsCount; i++) {
+      final long[] slot = usedSlots[i];
+      if (slot[0] > position) {
+        addFreeSlot(position, (int) ((slot[0] - position) / GRANULE_SIZE));
+      }
+
+      position = slot[0] + slot[1] * GRANULE_SIZE;
+    }
+
+    if (fileSize - position >= GRANULE_SIZE) {
+      addFreeSlot(position, (int) ((fileSize - position) / GRANULE_SIZE));
+    }
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (positions.length < capacity) {
+      final int newCapacity = Math.max(capacity, positions.length << 1);
+
+      positions = Arrays.copyOf(positions, newCapacity);
+      lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+  }
+
+  private static int slotSize(final int length) {
+    return (length + GRANULE_SIZE - 1) / GRANULE_SIZE;
+  }
+}
@@ -39,6 +39,8 @@ import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.OQuarto;
 import com.orientechnologies.common.util.OUncaughtExceptionHandler;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.exception.OStorageException;
@@ -425,11 +427,39 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
    */
   private final List<WeakReference<OBackgroundExceptionListener>> backgroundExceptionListeners = new CopyOnWriteArrayList<>();
 
+  /**
+   * Compression method which is used for pages of newly created files, or <code>null</code> if pages of new files are stored as
+   * is.
+   */
+  private final String pageCompressionMethod;
+
+  /**
+   * Maps of files which pages are stored in compressed packed format, key is internal file id.
+   *
+   * @see OPackedPagesMap
+   */
+  private final ConcurrentHashMap<Integer, OPackedPagesMap> packedPagesMaps = new ConcurrentHashMap<>();
+
   public OWOWCache(final int pageSize, final OByteBufferPool bufferPool, final OWriteAheadLog writeAheadLog,
       final long pagesFlushInterval, final int shutdownTimeout, final long exclusiveWriteCacheMaxSize, final Path storagePath,
       final String storageName, final OBinarySerializer<String> stringSerializer,
       final OClosableLinkedContainer<Long, OFileClassic> files, final int id, final OChecksumMode checksumMode,
       final boolean callFsync, final boolean printCacheStatistics, final int statisticsPrintInterval) {
+    this(pageSize, bufferPool, writeAheadLog, pagesFlushInterval, shutdownTimeout, exclusiveWriteCacheMaxSize, storagePath,
+        storageName, stringSerializer, files, id, checksumMode, callFsync, printCacheStatistics, statisticsPrintInterval, null);
+  }
+
+  /**
+   * @param pageCompressionMethod Name of compression which is used to compress pages of newly created files during flush, files
+   *                              which already exist keep their format. <code>null</code> or "nothing" means that pages are
+   *                              stored without compression.
+   */
+  public OWOWCache(final int pageSize, final OByteBufferPool bufferPool, final OWriteAheadLog writeAheadLog,
+      final long pagesFlushInterval, final int shutdownTimeout, final long exclusiveWriteCacheMaxSize, final Path storagePath,
+      final String storageName, final OBinarySerializer<String> stringSerializer,
+      final OClosableLinkedContainer<Long, OFileClassic> files, final int id, final OChecksumMode checksumMode,
+      final boolean callFsync, final boolean printCacheStatistics, final int statisticsPrintInterval,
+      final String pageCompressionMethod) {
 
     this.shutdownTimeout = shutdownTimeout;
     this.pagesFlushInterval = pagesFlushInterval;
@@ -438,6 +468,15 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     this.printCacheStatistics = printCacheStatistics;
     this.statisticsPrintInterval = statisticsPrintInterval;
 
+    if (pageCompressionMethod == null || pageCompressionMethod.isEmpty() || pageCompressionMethod
+        .equals(ONothingCompression.NAME)) {
+      this.pageCompressionMethod = null;
+    } else {
+      //fail fast if compression is absent
+      OCompressionFactory.INSTANCE.getCompression(pageCompressionMethod, null);
+      this.pageCompressionMethod = pageCompressionMethod;
+    }
+
     filesLock.acquireWriteLock();
     try {
       this.id = id;
@@ -736,6 +775,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
             "File '" + fileName + "' is not registered in 'file name - id' map, but exists in file system. Registering it");
 
         openFile(fileClassic);
+        openPackedPagesMap(fileId, fileClassic);
 
         final long externalId = composeFileId(id, fileId);
         files.add(externalId, fileClassic);
@@ -780,6 +820,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
       fileClassic = createFileInstance(fileName, fileId);
       createFile(fileClassic, callFsync);
+      createPackedPagesMap(fileId, fileClassic);
 
       final long externalId = composeFileId(id, fileId);
       files.add(externalId, fileClassic);
@@ -899,6 +940,8 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         files.add(fileId, fileClassic);
       }
 
+      createPackedPagesMap(intId, fileClassic);
+
       idNameMap.remove(-intId);
 
       nameIdMap.put(fileName, intId);
@@ -937,12 +980,17 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
             continue;
           }
 
-          if (callFsync) {
+          final OPackedPagesMap packedPagesMap = packedPagesMaps.get(intId);
+          if (callFsync || packedPagesMap != null) {
             final long fileId = composeFileId(id, intId);
             final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
             try {
               final OFileClassic fileClassic = entry.get();
-              fileClassic.synch();
+              if (packedPagesMap != null) {
+                packedPagesMap.save(fileClassic, callFsync);
+              } else {
+                fileClassic.synch();
+              }
             } finally {
               files.release(entry);
             }
@@ -1186,6 +1234,14 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     final int intId = extractFileId(fileId);
     filesLock.acquireReadLock();
     try {
+      final OPackedPagesMap packedPagesMap = packedPagesMaps.get(intId);
+      if (packedPagesMap != null) {
+        final int pageIndex = packedPagesMap.allocatePage();
+        freeSpaceCheckAfterNewPageAdd();
+
+        return pageIndex;
+      }
+
       final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
         final OFileClassic fileClassic = entry.get();
@@ -1266,6 +1322,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
     filesLock.acquireReadLock();
     try {
+      final OPackedPagesMap packedPagesMap = packedPagesMaps.get(intId);
+      if (packedPagesMap != null) {
+        return packedPagesMap.getPagesCount();
+      }
+
       final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
         return entry.get().getFileSize() / pageSize;
@@ -1317,7 +1378,13 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
       removeCachedPages(intId);
       final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
-        entry.get().shrink(0);
+        final OPackedPagesMap packedPagesMap = packedPagesMaps.get(intId);
+        if (packedPagesMap != null) {
+          packedPagesMap.truncate(entry.get());
+          packedPagesMap.save(entry.get(), callFsync);
+        } else {
+          entry.get().shrink(0);
+        }
       } finally {
         files.release(entry);
       }
@@ -1339,7 +1406,12 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
       final OClosableEntry<Long, OFileClassic> entry = files.acquire(fileId);
       try {
-        entry.get().replaceContentWith(newContentFile);
+        final OPackedPagesMap packedPagesMap = packedPagesMaps.get(intId);
+        if (packedPagesMap != null) {
+          replacePackedFileContentWith(packedPagesMap, entry.get(), newContentFile);
+        } else {
+          entry.get().replaceContentWith(newContentFile);
+        }
       } finally {
         files.release(entry);
       }
@@ -1372,6 +1444,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
         final Path newFile = storagePath.resolve(newOsFileName);
         file.renameTo(newFile);
+
+        final OPackedPagesMap packedPagesMap = packedPagesMaps.get(intId);
+        if (packedPagesMap != null) {
+          packedPagesMap.renameTo(OPackedPagesMap.mapPath(newFile));
+        }
       } finally {
         files.release(entry);
       }
@@ -1438,6 +1515,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
           final long extId = composeFileId(id, intId);
           final OFileClassic fileClassic = files.remove(extId);
 
+          final OPackedPagesMap packedPagesMap = packedPagesMaps.remove(intId);
+          if (packedPagesMap != null) {
+            packedPagesMap.save(fileClassic, callFsync);
+          }
+
           idFileNameMap.put(intId, fileClassic.getName());
           fileClassic.close();
           closedIds.add(extId);
@@ -1551,6 +1633,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     final OClosableEntry<Long, OFileClassic> entry = files.acquire(externalId);
     final OFileClassic fileClassic = entry.get();
     final String fileName = idNameMap.get(intId);
+    final OPackedPagesMap packedPagesMap = packedPagesMaps.get(intId);
 
     try {
       if (commandOutputListener != null) {
@@ -1565,7 +1648,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
       long time = System.currentTimeMillis();
 
-      final long filledUpTo = fileClassic.getFileSize();
+      final long filledUpTo = packedPagesMap != null ? (long) packedPagesMap.getPagesCount() * pageSize : fileClassic.getFileSize();
       fileIsCorrect = true;
 
       for (long pos = 0; pos < filledUpTo; pos += pageSize) {
@@ -1577,7 +1660,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         final OPointer pointer = bufferPool.acquireDirect(true);
         try {
           final ByteBuffer byteBuffer = pointer.getNativeByteBuffer();
-          fileClassic.read(pos, byteBuffer, true);
+          if (packedPagesMap != null) {
+            packedPagesMap.readPage(fileClassic, pos / pageSize, byteBuffer);
+          } else {
+            fileClassic.read(pos, byteBuffer, true);
+          }
           byteBuffer.rewind();
           byteBuffer.get(data);
         } finally {
@@ -1888,6 +1975,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
           if (fileClassic.exists()) {
             fileClassic.open();
+            openPackedPagesMap(fileId, fileClassic);
             files.add(externalId, fileClassic);
           } else {
             idNameMap.remove(fileId);
@@ -1960,6 +2048,7 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
           if (fileClassic.exists()) {
             fileClassic.open();
+            openPackedPagesMap(nameIdEntry.getValue(), fileClassic);
             files.add(externalId, fileClassic);
           } else {
             final Integer fileId = nameIdMap.get(nameIdEntry.getKey());
@@ -2106,6 +2195,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
     final OFileClassic fileClassic = files.remove(fileId);
 
+    final OPackedPagesMap packedPagesMap = packedPagesMaps.remove(intId);
+    if (packedPagesMap != null) {
+      packedPagesMap.delete();
+    }
+
     String name = null;
     if (fileClassic != null) {
       name = fileClassic.getName();
@@ -2141,6 +2235,11 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
           throw new IllegalArgumentException("File with id " + intId + " not found in WOW Cache");
         }
 
+        final OPackedPagesMap packedPagesMap = packedPagesMaps.get(intId);
+        if (packedPagesMap != null) {
+          return loadPackedFileContent(packedPagesMap, fileClassic, fileId, startPageIndex, pageCount, verifyChecksums);
+        }
+
         final long firstPageStartPosition = startPageIndex * pageSize;
         final long firstPageEndPosition = firstPageStartPosition + pageSize;
 
@@ -2220,6 +2319,94 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     }
   }
 
+  private OCachePointer[] loadPackedFileContent(final OPackedPagesMap packedPagesMap, final OFileClassic fileClassic,
+      final long fileId, final long startPageIndex, final int pageCount, final boolean verifyChecksums) throws IOException {
+    final long pagesCount = packedPagesMap.getPagesCount();
+    if (startPageIndex >= pagesCount) {
+      return null;
+    }
+
+    long startTs = 0;
+    if (printCacheStatistics) {
+      startTs = System.nanoTime();
+    }
+
+    final int realPageCount = (int) Math.min(pagesCount - startPageIndex, pageCount);
+    final OPointer[] pointers = new OPointer[realPageCount];
+    for (int i = 0; i < pointers.length; i++) {
+      pointers[i] = bufferPool.acquireDirect(false);
+    }
+
+    for (int i = 0; i < pointers.length; i++) {
+      final ByteBuffer buffer = pointers[i].getNativeByteBuffer();
+
+      //pages which were allocated but never flushed do not have neither magic number nor checksum
+      final boolean stored = packedPagesMap.readPage(fileClassic, startPageIndex + i, buffer);
+      if (stored && verifyChecksums && (checksumMode == OChecksumMode.StoreAndVerify || checksumMode == OChecksumMode.StoreAndThrow
+          || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)) {
+        verifyMagicAndChecksum(buffer, pointers[i], fileId, startPageIndex + i, pointers);
+      }
+
+      buffer.position(0);
+    }
+
+    final OCachePointer[] dataPointers = new OCachePointer[pointers.length];
+    for (int n = 0; n < pointers.length; n++) {
+      dataPointers[n] = new OCachePointer(pointers[n], bufferPool, fileId, startPageIndex + n);
+    }
+
+    if (printCacheStatistics) {
+      loadedPagesSum.add(dataPointers.length);
+      loadedPagesTimeSum.add(System.nanoTime() - startTs);
+    }
+
+    return dataPointers;
+  }
+
+  private void openPackedPagesMap(final int intId, final OFileClassic fileClassic) throws IOException {
+    final Path mapPath = OPackedPagesMap.mapPath(storagePath.resolve(fileClassic.getName()));
+    if (Files.exists(mapPath)) {
+      packedPagesMaps.put(intId, OPackedPagesMap.load(mapPath, pageSize, fileClassic));
+    }
+  }
+
+  /**
+   * Creates empty map of packed pages for new (or truncated) file if page compression is enabled, otherwise removes map of
+   * previous instance of the file if it exists.
+   */
+  private void createPackedPagesMap(final int intId, final OFileClassic fileClassic) throws IOException {
+    final Path mapPath = OPackedPagesMap.mapPath(storagePath.resolve(fileClassic.getName()));
+
+    if (pageCompressionMethod != null) {
+      packedPagesMaps.put(intId, OPackedPagesMap.create(mapPath, pageSize, pageCompressionMethod, callFsync));
+    } else {
+      packedPagesMaps.remove(intId);
+      Files.deleteIfExists(mapPath);
+    }
+  }
+
+  private void replacePackedFileContentWith(final OPackedPagesMap packedPagesMap, final OFileClassic fileClassic,
+      final Path newContentFile) throws IOException {
+    final OFileClassic newContent = new OFileClassic(newContentFile);
+    newContent.open();
+    try {
+      packedPagesMap.truncate(fileClassic);
+
+      final long pagesCount = newContent.getFileSize() / pageSize;
+      final ByteBuffer buffer = ByteBuffer.allocate(pageSize).order(ByteOrder.nativeOrder());
+
+      for (long pageIndex = 0; pageIndex < pagesCount; pageIndex++) {
+        buffer.position(0);
+        newContent.read(pageIndex * pageSize, buffer, true);
+        packedPagesMap.writePage(fileClassic, pageIndex, buffer);
+      }
+
+      packedPagesMap.save(fileClassic, callFsync);
+    } finally {
+      newContent.close();
+    }
+  }
+
   private void addMagicAndChecksum(final ByteBuffer buffer) {
     assert buffer.order() == ByteOrder.nativeOrder();
 
@@ -2346,7 +2533,13 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
 
       addMagicAndChecksum(buffer);
       buffer.position(0);
-      fileClassic.write(pageIndex * pageSize, buffer);
+
+      final OPackedPagesMap packedPagesMap = packedPagesMaps.get(fileId);
+      if (packedPagesMap != null) {
+        packedPagesMap.writePage(fileClassic, pageIndex, buffer);
+      } else {
+        fileClassic.write(pageIndex * pageSize, buffer);
+      }
     } finally {
       files.release(entry);
     }
@@ -3082,7 +3275,15 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
     final OClosableEntry<Long, OFileClassic> fileEntry = files.acquire(firstFileId);
     try {
       final OFileClassic file = fileEntry.get();
-      file.write(firstPageIndex * pageSize, buffers);
+
+      final OPackedPagesMap packedPagesMap = packedPagesMaps.get(internalFileId(firstFileId));
+      if (packedPagesMap != null) {
+        for (int i = 0; i < buffers.length; i++) {
+          packedPagesMap.writePage(file, firstPageIndex + i, buffers[i]);
+        }
+      } else {
+        file.write(firstPageIndex * pageSize, buffers);
+      }
     } finally {
       files.release(fileEntry);
     }
@@ -3334,13 +3535,18 @@ public final class OWOWCache extends OAbstractWriteCache implements OWriteCache,
         }
       }
 
-      if (callFsync) {
-        for (final int iFileId : fileIdSet) {
+      for (final int iFileId : fileIdSet) {
+        final OPackedPagesMap packedPagesMap = packedPagesMaps.get(iFileId);
+        if (callFsync || packedPagesMap != null) {
           final long finalId = composeFileId(id, iFileId);
           final OClosableEntry<Long, OFileClassic> entry = files.acquire(finalId);
           if (entry != null) {
             try {
-              entry.get().synch();
+              if (packedPagesMap != null) {
+                packedPagesMap.save(entry.get(), callFsync);
+              } else {
+                entry.get().synch();
+              }
             } finally {
               files.release(entry);
             }
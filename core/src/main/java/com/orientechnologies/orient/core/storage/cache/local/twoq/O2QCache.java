@@ -38,6 +38,7 @@ import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OQueryResources;
 
 import java.io.BufferedOutputStream;
 import java.io.DataOutputStream;
@@ -408,6 +409,7 @@ public final class O2QCache implements OReadCache {
     if (cacheHit.getValue()) {
       cacheHits.increment();
     }
+    OQueryResources.pageRead(cacheHit.getValue());
     return cacheResult.cacheEntry;
   }
 
@@ -23,6 +23,7 @@ import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.compression.OCompression;
 import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.ODictionaryCompression;
 import com.orientechnologies.orient.core.compression.impl.ONothingCompression;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
@@ -353,6 +354,14 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
             ODatabaseRecordThreadLocal.instance().get().getStorage().getConfiguration().getContextConfiguration()
                 .getValueAsString(OGlobalConfiguration.STORAGE_ENCRYPTION_KEY));
         break;
+      case COMPRESSION_DICTIONARY:
+        //records compressed with the previous dictionary could not be uncompressed anymore
+        if (getEntries() > 0) {
+          throw new IllegalArgumentException(
+              "Cannot change compression dictionary on cluster '" + getName() + "' because it is not empty");
+        }
+        setCompressionDictionaryInternal(stringValue);
+        break;
       default:
         throw new IllegalArgumentException("Runtime change of attribute '" + attribute + " is not supported");
       }
@@ -1560,7 +1569,7 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
     OFileUtils.checkValidName(config.getName());
 
     this.config = (OStoragePaginatedClusterConfiguration) config;
-    this.compression = OCompressionFactory.INSTANCE.getCompression(this.config.compression, null);
+    this.compression = OCompressionFactory.INSTANCE.getCompression(this.config.compression, this.config.compressionOptions);
     this.encryption = OEncryptionFactory.INSTANCE.getEncryption(this.config.encryption, this.config.encryptionKey);
 
     if (((OStoragePaginatedClusterConfiguration) config).conflictStrategy != null) {
@@ -1582,6 +1591,18 @@ public final class OPaginatedClusterV1 extends OPaginatedCluster {
     }
   }
 
+  private void setCompressionDictionaryInternal(final String dictionary) {
+    try {
+      compression = OCompressionFactory.INSTANCE.getCompression(ODictionaryCompression.NAME, dictionary);
+      config.compression = ODictionaryCompression.NAME;
+      config.compressionOptions = dictionary;
+      ((OClusterBasedStorageConfiguration) storageLocal.getConfiguration()).updateCluster(config);
+    } catch (final IllegalArgumentException e) {
+      throw OException.wrapException(
+          new OPaginatedClusterException("Invalid value for " + ATTRIBUTES.COMPRESSION_DICTIONARY + " attribute", this), e);
+    }
+  }
+
   private void setRecordOverflowGrowFactorInternal(final String stringValue) {
     try {
       final float growFactor = Float.parseFloat(stringValue);
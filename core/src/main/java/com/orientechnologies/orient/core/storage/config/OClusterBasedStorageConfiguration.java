@@ -1525,6 +1525,11 @@ public final class OClusterBasedStorageConfiguration implements OStorageConfigur
     entries.add(compression);
     totalSize += compression.length;
 
+    //options are written last, configurations stored before they were introduced do not contain them
+    final byte[] compressionOptions = serializeStringValue(paginatedClusterConfiguration.compressionOptions);
+    entries.add(compressionOptions);
+    totalSize += compressionOptions.length;
+
     return mergeBinaryEntries(totalSize, entries);
   }
 
@@ -1550,10 +1555,19 @@ public final class OClusterBasedStorageConfiguration implements OStorageConfigur
     pos += getSerializedStringSize(property, pos);
 
     final String compression = deserializeStringValue(property, pos);
+    pos += getSerializedStringSize(property, pos);
+
+    String compressionOptions = null;
+    if (pos < property.length) {
+      compressionOptions = deserializeStringValue(property, pos);
+    }
+
+    final OStoragePaginatedClusterConfiguration clusterConfiguration = new OStoragePaginatedClusterConfiguration(this, id, name,
+        null, useWal, 0, 0, compression, encryption, configuration.getValueAsString(OGlobalConfiguration.STORAGE_ENCRYPTION_KEY),
+        conflictStrategy, OStorageClusterConfiguration.STATUS.valueOf(status), binaryVersion);
+    clusterConfiguration.compressionOptions = compressionOptions;
 
-    return new OStoragePaginatedClusterConfiguration(this, id, name, null, useWal, 0, 0, compression, encryption,
-        configuration.getValueAsString(OGlobalConfiguration.STORAGE_ENCRYPTION_KEY), conflictStrategy,
-        OStorageClusterConfiguration.STATUS.valueOf(status), binaryVersion);
+    return clusterConfiguration;
   }
 
   private void dropProperty(final String name) {
@@ -38,6 +38,7 @@ import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.index.engine.v1.OCellBTreeMultiValueIndexEngine;
 import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.local.OPackedPagesMap;
 import com.orientechnologies.orient.core.storage.cache.local.OWOWCache;
 import com.orientechnologies.orient.core.storage.cache.local.twoq.O2QCache;
 import com.orientechnologies.orient.core.storage.cluster.OClusterPositionMap;
@@ -48,6 +49,7 @@ import com.orientechnologies.orient.core.storage.impl.local.OStorageConfiguratio
 import com.orientechnologies.orient.core.storage.impl.local.OStorageVariableParser;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OPaginatedStorageDirtyFlag;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALGroupCommit;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.OCASDiskWriteAheadLog;
 import com.orientechnologies.orient.core.storage.index.engine.OHashTableIndexEngine;
@@ -96,7 +98,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       O2QCache.CACHE_STATISTIC_FILE_EXTENSION, OClusterBasedStorageConfiguration.MAP_FILE_EXTENSION,
       OClusterBasedStorageConfiguration.DATA_FILE_EXTENSION, OClusterBasedStorageConfiguration.TREE_DATA_FILE_EXTENSION,
       OClusterBasedStorageConfiguration.TREE_NULL_FILE_EXTENSION, OCellBTreeMultiValueIndexEngine.DATA_FILE_EXTENSION,
-      OCellBTreeMultiValueIndexEngine.M_CONTAINER_EXTENSION };
+      OCellBTreeMultiValueIndexEngine.M_CONTAINER_EXTENSION, OPackedPagesMap.EXTENSION };
 
   private static final int ONE_KB = 1024;
 
@@ -592,6 +594,14 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       writeAheadLog = diskWriteAheadLog;
       writeAheadLog.addFullCheckpointListener(this);
 
+      if (contextConfiguration.getValueAsBoolean(OGlobalConfiguration.WAL_DURABLE_COMMIT)) {
+        groupCommit = new OWALGroupCommit(diskWriteAheadLog,
+            contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_LATENCY),
+            contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_MAX_BATCH));
+      } else {
+        groupCommit = null;
+      }
+
       diskWriteAheadLog.addSegmentOverflowListener((segment) -> {
         if (status != STATUS.OPEN) {
           return;
@@ -610,6 +620,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       });
     } else {
       writeAheadLog = null;
+      groupCommit = null;
     }
 
     final int pageSize = contextConfiguration.getValueAsInteger(OGlobalConfiguration.DISK_CACHE_PAGE_SIZE) * ONE_KB;
@@ -626,7 +637,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
         OStringSerializer.INSTANCE, files, getId(),
         contextConfiguration.getValueAsEnum(OGlobalConfiguration.STORAGE_CHECKSUM_MODE, OChecksumMode.class),
         contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC), printCacheStatistics,
-        statisticsPrintInterval);
+        statisticsPrintInterval, contextConfiguration.getValueAsString(OGlobalConfiguration.STORAGE_PAGE_COMPRESSION_METHOD));
 
     wowCache.addLowDiskSpaceListener(this);
     wowCache.loadRegisteredFiles();
@@ -152,6 +152,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOpera
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPaginatedClusterFactory;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALGroupCommit;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALPageBrokenException;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
@@ -258,6 +259,10 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       OGlobalConfiguration.STORAGE_PROFILER_CLEANUP_INTERVAL.getValueAsInteger() * 1000000L);
 
   protected volatile OWriteAheadLog          writeAheadLog;
+  /**
+   * Shares WAL flushes between concurrent commits, <code>null</code> if commits are not required to be durable.
+   */
+  protected volatile OWALGroupCommit         groupCommit;
   private            OStorageRecoverListener recoverListener;
 
   protected volatile OReadCache  readCache;
@@ -1789,7 +1794,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  protected OPerformanceStatisticManager getPerformanceStatisticManager() {
+  public OPerformanceStatisticManager getPerformanceStatisticManager() {
     return performanceStatisticManager;
   }
 
@@ -2100,7 +2105,13 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       }
 
       final List<ORecordOperation> result = new ArrayList<>(8);
+      final OWALGroupCommit groupCommit = this.groupCommit;
+      OLogSequenceNumber commitLsn = null;
+
       stateLock.acquireReadLock();
+      if (groupCommit != null) {
+        groupCommit.commitStarted();
+      }
       try {
         if (modificationLock) {
           final List<ORID> recordLocks = new ArrayList<>();
@@ -2205,7 +2216,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
             if (rollback) {
               rollback(transaction);
             } else {
-              endStorageTx(transaction, recordOperations);
+              commitLsn = endStorageTx(transaction, recordOperations);
             }
 
             this.transaction.set(null);
@@ -2235,9 +2246,18 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           }
         } finally {
           stateLock.releaseReadLock();
+
+          if (groupCommit != null) {
+            groupCommit.commitFinished();
+          }
         }
       }
 
+      // ALL LOCKS ARE RELEASED, SO CONCURRENT TRANSACTIONS CAN SHARE THE SAME WAL FLUSH
+      if (groupCommit != null) {
+        groupCommit.waitTillDurable(commitLsn);
+      }
+
       if (OLogManager.instance().isDebugEnabled()) {
         OLogManager.instance()
             .debug(this, "%d Committed transaction %d on database '%s' (result=%s)", Thread.currentThread().getId(),
@@ -4569,13 +4589,15 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
-  private void endStorageTx(final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
+  private OLogSequenceNumber endStorageTx(final OTransactionInternal txi, final Collection<ORecordOperation> recordOperations)
       throws IOException {
-    atomicOperationsManager.endAtomicOperation(false);
+    final OLogSequenceNumber lsn = atomicOperationsManager.endAtomicOperation(false);
     assert OAtomicOperationsManager.getCurrentOperation() == null;
 
     OTransactionAbstract.updateCacheFromEntries(txi.getDatabase(), recordOperations, true);
     txCommit.incrementAndGet();
+
+    return lsn;
   }
 
   private void startStorageTx(final OTransactionInternal clientTx) throws IOException {
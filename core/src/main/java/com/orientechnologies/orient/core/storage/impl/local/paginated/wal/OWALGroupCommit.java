@@ -0,0 +1,208 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coordinates durable commits of concurrent transactions so that a single WAL flush (and fsync) is shared by a whole group of
+ * committers instead of being paid by each of them.
+ * <p>
+ * Committers surround the commit critical section by {@link #commitStarted()} and {@link #commitFinished()} calls and call {@link
+ * #waitTillDurable(OLogSequenceNumber)} once all storage locks are released. The first thread which has to wait becomes the
+ * leader of the group: it waits until either there are no more commits in the critical section, the group reached its maximum
+ * size or the maximum latency passed, then flushes WAL once on behalf of the whole group.
+ *
+ * @since 19.10.26
+ */
+public final class OWALGroupCommit {
+  private final OWriteAheadLog writeAheadLog;
+
+  private final long maxLatencyNanos;
+  private final int  maxBatchSize;
+
+  private final ReentrantLock lock         = new ReentrantLock();
+  private final Condition     flushed      = lock.newCondition();
+  private final Condition     groupChanged = lock.newCondition();
+
+  private final AtomicInteger activeCommits = new AtomicInteger();
+
+  private final LongAdder flushes    = new LongAdder();
+  private final LongAdder durableTxs = new LongAdder();
+
+  private int     waiters;
+  private boolean flushInProgress;
+
+  /**
+   * Incremented after each flush, used by waiters to detect that flush which covers their LSN was finished.
+   */
+  private long flushGeneration;
+
+  private RuntimeException flushError;
+
+  /**
+   * @param writeAheadLog   WAL instance which is flushed on behalf of the group
+   * @param maxLatencyMicro maximum time in microseconds which leader of the group waits for other committers
+   * @param maxBatchSize    maximum amount of committers in a single group
+   */
+  public OWALGroupCommit(final OWriteAheadLog writeAheadLog, final long maxLatencyMicro, final int maxBatchSize) {
+    this.writeAheadLog = writeAheadLog;
+    this.maxLatencyNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0, maxLatencyMicro));
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+  }
+
+  /**
+   * Marks that commit entered critical section and is going to call {@link #waitTillDurable(OLogSequenceNumber)} after its end.
+   * Used by the leader of the group to decide whether it makes sense to wait for more committers.
+   */
+  public void commitStarted() {
+    activeCommits.incrementAndGet();
+  }
+
+  /**
+   * Marks that commit left critical section. Should be called in <code>finally</code> block even if commit was failed.
+   */
+  public void commitFinished() {
+    activeCommits.decrementAndGet();
+
+    lock.lock();
+    try {
+      groupChanged.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits till record with passed in LSN is stored on disk. Either joins the group which is going to be flushed or flushes WAL
+   * itself on behalf of the group.
+   *
+   * @param lsn LSN of the last record written by the transaction, if <code>null</code> method returns immediately
+   */
+  public void waitTillDurable(final OLogSequenceNumber lsn) {
+    if (lsn == null || isFlushed(lsn)) {
+      return;
+    }
+
+    lock.lock();
+    try {
+      while (true) {
+        if (isFlushed(lsn)) {
+          return;
+        }
+
+        if (flushInProgress) {
+          // join the group, if flush has already been started it may not cover our record, so check it once again after the end
+          final long generation = flushGeneration;
+          waiters++;
+          try {
+            groupChanged.signalAll();
+            while (flushGeneration == generation) {
+              flushed.awaitUninterruptibly();
+            }
+          } finally {
+            waiters--;
+          }
+
+          if (flushError != null && !isFlushed(lsn)) {
+            throw flushError;
+          }
+
+          continue;
+        }
+
+        lead();
+        return;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return amount of WAL flushes performed by the groups
+   */
+  public long getFlushes() {
+    return flushes.sum();
+  }
+
+  /**
+   * @return amount of transactions which were made durable by group flushes
+   */
+  public long getDurableTransactions() {
+    return durableTxs.sum();
+  }
+
+  private void lead() {
+    flushInProgress = true;
+    int groupSize = 1;
+    try {
+      waiters++;
+      try {
+        long nanosLeft = maxLatencyNanos;
+        while (nanosLeft > 0 && activeCommits.get() > 0 && waiters < maxBatchSize) {
+          try {
+            nanosLeft = groupChanged.awaitNanos(nanosLeft);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            break;
+          }
+        }
+        groupSize = waiters;
+      } finally {
+        waiters--;
+      }
+
+      final long generation = flushGeneration;
+      lock.unlock();
+      RuntimeException error = null;
+      try {
+        writeAheadLog.flush();
+      } catch (final RuntimeException e) {
+        error = e;
+      } finally {
+        lock.lock();
+      }
+
+      flushError = error;
+      flushGeneration = generation + 1;
+
+      flushes.increment();
+      durableTxs.add(groupSize);
+
+      if (error != null) {
+        throw error;
+      }
+    } finally {
+      flushInProgress = false;
+      flushed.signalAll();
+    }
+  }
+
+  private boolean isFlushed(final OLogSequenceNumber lsn) {
+    final OLogSequenceNumber flushedLsn = writeAheadLog.getFlushedLsn();
+    return flushedLsn != null && flushedLsn.compareTo(lsn) >= 0;
+  }
+}
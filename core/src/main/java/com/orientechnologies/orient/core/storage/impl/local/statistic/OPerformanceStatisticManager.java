@@ -168,6 +168,32 @@ public class OPerformanceStatisticManager {
    */
   private final List<String> componentNames = new CopyOnWriteArrayList<>();
 
+  /**
+   * Amount of most expensive queries which are kept, see {@link #getMostExpensiveQueries()}.
+   */
+  private static final int MOST_EXPENSIVE_QUERIES = 10;
+
+  /**
+   * Lock which guards {@link #queryCount}, {@link #queryResources} and {@link #mostExpensiveQueries}.
+   */
+  private final Object queryLock = new Object();
+
+  /**
+   * Amount of queries executed while monitoring is switched on.
+   */
+  private long queryCount;
+
+  /**
+   * Resources consumed by all the queries executed while monitoring is switched on.
+   */
+  private OQueryResources queryResources = new OQueryResources();
+
+  /**
+   * Queries which read the highest amount of pages while monitoring is switched on, sorted by amount of read pages in descending
+   * order.
+   */
+  private final List<ORawPair<String, OQueryResources>> mostExpensiveQueries = new ArrayList<>();
+
   /**
    * Amount of full checkpoints are done for current storage.
    * Value is updated on demand if monitoring is switched on.
@@ -342,6 +368,12 @@ public class OPerformanceStatisticManager {
       deadThreadsStatistic = null;
       postMeasurementStatistic = null;
 
+      synchronized (queryLock) {
+        queryCount = 0;
+        queryResources = new OQueryResources();
+        mostExpensiveQueries.clear();
+      }
+
       enabled = true;
     } finally {
       switchLock.releaseWriteLock();
@@ -1100,6 +1132,67 @@ public class OPerformanceStatisticManager {
     }
   }
 
+  /**
+   * @return <code>true</code> if resources consumed by queries should be tracked and pushed to this manager, that is if monitoring
+   * is switched on for whole system or for current thread
+   *
+   * @see #pushQueryResources(String, OQueryResources)
+   */
+  public boolean isQueryMonitoringEnabled() {
+    return enabled || enabledForCurrentThread.get();
+  }
+
+  /**
+   * Accumulates resources consumed by executed query.
+   *
+   * @param statement Text of the query
+   * @param resources Resources consumed by the query
+   */
+  public void pushQueryResources(final String statement, final OQueryResources resources) {
+    synchronized (queryLock) {
+      queryCount++;
+      queryResources.add(resources);
+
+      int index = mostExpensiveQueries.size();
+      while (index > 0 && mostExpensiveQueries.get(index - 1).getSecond().getPagesRead() < resources.getPagesRead())
+        index--;
+
+      if (index < MOST_EXPENSIVE_QUERIES) {
+        mostExpensiveQueries.add(index, new ORawPair<>(statement, resources.copy()));
+        if (mostExpensiveQueries.size() > MOST_EXPENSIVE_QUERIES)
+          mostExpensiveQueries.remove(MOST_EXPENSIVE_QUERIES);
+      }
+    }
+  }
+
+  /**
+   * @return amount of queries executed since monitoring was started
+   */
+  public long getQueryCount() {
+    synchronized (queryLock) {
+      return queryCount;
+    }
+  }
+
+  /**
+   * @return resources consumed by all the queries executed since monitoring was started
+   */
+  public OQueryResources getQueryResources() {
+    synchronized (queryLock) {
+      return queryResources.copy();
+    }
+  }
+
+  /**
+   * @return texts and consumed resources of the queries which read the highest amount of pages since monitoring was started, the
+   * most expensive query is the first one
+   */
+  public List<ORawPair<String, OQueryResources>> getMostExpensiveQueries() {
+    synchronized (queryLock) {
+      return new ArrayList<>(mostExpensiveQueries);
+    }
+  }
+
   /**
    * Iterates over all live threads and accumulates write performance statics gathered form threads,
    * also accumulates statistic from dead threads which were alive when when gathering of performance measurements is started.
@@ -0,0 +1,226 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+
+package com.orientechnologies.orient.core.storage.impl.local.statistic;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.text.DecimalFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resources consumed by a query, or by a single step of its execution plan: pages read from the read or the write cache versus
+ * pages read from disk, records deserialized, index entries scanned, bytes allocated by the executing thread and rows produced.
+ * <p>
+ * Storage components report the consumed resources through the static <code>xxxRead()/xxxScanned()</code> methods, which update
+ * counters of the current thread only if some execution is tracked on it, see {@link #begin()}. When nothing is tracked in the whole
+ * system they cost a volatile read. Instances accumulate the difference of those counters between {@link #begin()} and {@link
+ * #end(OQueryResources)} calls.
+ *
+ * @since 19.10.26
+ */
+public final class OQueryResources {
+  private static final AtomicInteger               trackingThreads = new AtomicInteger();
+  private static final ThreadLocal<ThreadCounters> threadCounters  = ThreadLocal.withInitial(ThreadCounters::new);
+
+  private static final com.sun.management.ThreadMXBean threadMXBean = allocationMXBean();
+
+  private long pagesReadFromCache;
+  private long pagesReadFromDisk;
+  private long recordsDeserialized;
+  private long indexEntriesScanned;
+  private long bytesAllocated;
+  private long rows;
+
+  /**
+   * Counts page load requested to the read cache.
+   *
+   * @param fromCache true if the page was found in the read or the write cache, false if it was read from disk
+   */
+  public static void pageRead(final boolean fromCache) {
+    if (trackingThreads.get() == 0)
+      return;
+
+    final ThreadCounters counters = threadCounters.get();
+    if (counters.depth > 0) {
+      if (fromCache)
+        counters.pagesReadFromCache++;
+      else
+        counters.pagesReadFromDisk++;
+    }
+  }
+
+  public static void recordDeserialized() {
+    if (trackingThreads.get() == 0)
+      return;
+
+    final ThreadCounters counters = threadCounters.get();
+    if (counters.depth > 0)
+      counters.recordsDeserialized++;
+  }
+
+  public static void indexEntryScanned() {
+    if (trackingThreads.get() == 0)
+      return;
+
+    final ThreadCounters counters = threadCounters.get();
+    if (counters.depth > 0)
+      counters.indexEntriesScanned++;
+  }
+
+  /**
+   * Starts tracking of the resources consumed by the current thread, calls may be nested but every call has to be paired with a
+   * call of {@link #end(OQueryResources)} in the same thread.
+   *
+   * @return values of the counters of the current thread at the moment of the call
+   */
+  public static OQueryResources begin() {
+    final ThreadCounters counters = threadCounters.get();
+    if (counters.depth++ == 0)
+      trackingThreads.incrementAndGet();
+
+    final OQueryResources snapshot = new OQueryResources();
+    snapshot.pagesReadFromCache = counters.pagesReadFromCache;
+    snapshot.pagesReadFromDisk = counters.pagesReadFromDisk;
+    snapshot.recordsDeserialized = counters.recordsDeserialized;
+    snapshot.indexEntriesScanned = counters.indexEntriesScanned;
+    snapshot.bytesAllocated = allocatedBytes();
+    return snapshot;
+  }
+
+  /**
+   * Adds resources consumed by the current thread since the {@link #begin()} call which returned passed in snapshot.
+   */
+  public void end(final OQueryResources begin) {
+    final ThreadCounters counters = threadCounters.get();
+    pagesReadFromCache += counters.pagesReadFromCache - begin.pagesReadFromCache;
+    pagesReadFromDisk += counters.pagesReadFromDisk - begin.pagesReadFromDisk;
+    recordsDeserialized += counters.recordsDeserialized - begin.recordsDeserialized;
+    indexEntriesScanned += counters.indexEntriesScanned - begin.indexEntriesScanned;
+    bytesAllocated += allocatedBytes() - begin.bytesAllocated;
+
+    if (--counters.depth == 0)
+      trackingThreads.decrementAndGet();
+  }
+
+  public void rowProduced() {
+    rows++;
+  }
+
+  public void add(final OQueryResources resources) {
+    pagesReadFromCache += resources.pagesReadFromCache;
+    pagesReadFromDisk += resources.pagesReadFromDisk;
+    recordsDeserialized += resources.recordsDeserialized;
+    indexEntriesScanned += resources.indexEntriesScanned;
+    bytesAllocated += resources.bytesAllocated;
+    rows += resources.rows;
+  }
+
+  /**
+   * @return resources consumed by this execution step without those consumed by the upstream step, which is executed when this step
+   * pulls its input. Rows are not subtracted, they are the rows produced by this step.
+   */
+  public OQueryResources exclusiveOf(final OQueryResources upstream) {
+    final OQueryResources result = copy();
+    result.pagesReadFromCache -= upstream.pagesReadFromCache;
+    result.pagesReadFromDisk -= upstream.pagesReadFromDisk;
+    result.recordsDeserialized -= upstream.recordsDeserialized;
+    result.indexEntriesScanned -= upstream.indexEntriesScanned;
+    result.bytesAllocated -= upstream.bytesAllocated;
+    return result;
+  }
+
+  public OQueryResources copy() {
+    final OQueryResources result = new OQueryResources();
+    result.add(this);
+    return result;
+  }
+
+  public long getPagesReadFromCache() {
+    return pagesReadFromCache;
+  }
+
+  public long getPagesReadFromDisk() {
+    return pagesReadFromDisk;
+  }
+
+  /**
+   * @return sum of pages read from cache and from disk
+   */
+  public long getPagesRead() {
+    return pagesReadFromCache + pagesReadFromDisk;
+  }
+
+  public long getRecordsDeserialized() {
+    return recordsDeserialized;
+  }
+
+  public long getIndexEntriesScanned() {
+    return indexEntriesScanned;
+  }
+
+  /**
+   * @return bytes allocated on heap by the executing thread, always 0 if the JVM does not support thread allocation accounting
+   */
+  public long getBytesAllocated() {
+    return bytesAllocated;
+  }
+
+  public long getRows() {
+    return rows;
+  }
+
+  @Override
+  public String toString() {
+    final DecimalFormat format = new DecimalFormat();
+    return "rows: " + format.format(rows) + ", pages from cache: " + format.format(pagesReadFromCache) + ", pages from disk: "
+        + format.format(pagesReadFromDisk) + ", records deserialized: " + format.format(recordsDeserialized) + ", index entries: "
+        + format.format(indexEntriesScanned) + ", allocated: " + format.format(bytesAllocated / 1024) + "KB";
+  }
+
+  private static long allocatedBytes() {
+    if (threadMXBean == null)
+      return 0;
+    return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  private static com.sun.management.ThreadMXBean allocationMXBean() {
+    try {
+      final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      if (bean instanceof com.sun.management.ThreadMXBean) {
+        final com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+        if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled())
+          return allocationBean;
+      }
+    } catch (LinkageError ignore) {
+      // NOT A HOTSPOT BASED JVM
+    }
+    return null;
+  }
+
+  private static final class ThreadCounters {
+    private int  depth;
+    private long pagesReadFromCache;
+    private long pagesReadFromDisk;
+    private long recordsDeserialized;
+    private long indexEntriesScanned;
+  }
+}
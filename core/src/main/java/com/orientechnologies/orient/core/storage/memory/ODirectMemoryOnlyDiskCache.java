@@ -38,6 +38,7 @@ import com.orientechnologies.orient.core.storage.impl.local.OLowDiskSpaceListene
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OQueryResources;
 import com.orientechnologies.orient.core.storage.impl.local.statistic.OSessionStoragePerformanceStatistic;
 
 import java.nio.file.Path;
@@ -233,6 +234,7 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache implem
       synchronized (cacheEntry) {
         cacheEntry.incrementUsages();
       }
+      OQueryResources.pageRead(true);
 
       return cacheEntry;
     } finally {
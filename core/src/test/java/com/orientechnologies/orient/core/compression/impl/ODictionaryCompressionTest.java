@@ -0,0 +1,147 @@
+package com.orientechnologies.orient.core.compression.impl;
+
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+public class ODictionaryCompressionTest {
+  @Test
+  public void testWithoutDictionary() {
+    final OCompression compression = OCompressionFactory.INSTANCE.getCompression(ODictionaryCompression.NAME, null);
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 100; i++) {
+      final byte[] content = document(random).getBytes();
+      Assert.assertArrayEquals(content, compression.uncompress(compression.compress(content)));
+    }
+
+    Assert.assertArrayEquals(new byte[0], compression.uncompress(compression.compress(new byte[0])));
+  }
+
+  @Test
+  public void testTrainedDictionary() {
+    final Random random = new Random(42);
+    final List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      samples.add(document(random).getBytes());
+    }
+
+    final byte[] dictionary = new OCompressionDictionaryTrainer().train(samples);
+    Assert.assertTrue(dictionary.length > 0);
+    Assert.assertTrue(dictionary.length <= OCompressionDictionaryTrainer.MAX_DICTIONARY_SIZE);
+
+    final OCompression plain = OCompressionFactory.INSTANCE.getCompression(ODictionaryCompression.NAME, null);
+    final OCompression trained = OCompressionFactory.INSTANCE
+        .getCompression(ODictionaryCompression.NAME, Base64.getEncoder().encodeToString(dictionary));
+
+    long plainSize = 0;
+    long trainedSize = 0;
+    for (int i = 0; i < 100; i++) {
+      final byte[] content = document(random).getBytes();
+
+      final byte[] compressed = trained.compress(content);
+      Assert.assertArrayEquals(content, trained.uncompress(compressed));
+
+      final byte[] partial = trained.compress(content, 2, content.length - 3);
+      Assert.assertArrayEquals(Arrays.copyOfRange(content, 2, content.length - 1), trained.uncompress(partial));
+
+      plainSize += plain.compress(content).length;
+      trainedSize += compressed.length;
+    }
+
+    Assert.assertTrue(trainedSize * 2 < plainSize);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testWrongDictionary() {
+    final OCompression first = OCompressionFactory.INSTANCE
+        .getCompression(ODictionaryCompression.NAME, Base64.getEncoder().encodeToString("{\"name\":\"".getBytes()));
+    final OCompression second = OCompressionFactory.INSTANCE
+        .getCompression(ODictionaryCompression.NAME, Base64.getEncoder().encodeToString("{\"surname\":\"".getBytes()));
+
+    second.uncompress(first.compress("{\"name\":\"value\"}".getBytes()));
+  }
+
+  @Test
+  public void testClusterRoundTrip() {
+    final String dbName = ODictionaryCompressionTest.class.getSimpleName();
+    final Random random = new Random(42);
+    final List<ORID> rids = new ArrayList<>();
+    final List<String> names = new ArrayList<>();
+
+    OrientDB orientDB = new OrientDB("embedded:./target/databases/", OrientDBConfig.defaultConfig());
+    try {
+      if (orientDB.exists(dbName))
+        orientDB.drop(dbName);
+      orientDB.create(dbName, ODatabaseType.PLOCAL);
+
+      try (ODatabaseSession db = orientDB.open(dbName, "admin", "admin")) {
+        db.addCluster("sample");
+        db.addCluster("compressed");
+        db.createClass("Person").addCluster("sample").addCluster("compressed");
+
+        for (int i = 0; i < 1000; i++) {
+          db.save(new ODocument().fromJSON(document(random)), "sample");
+        }
+
+        final String dictionary = new OCompressionDictionaryTrainer()
+            .trainCluster((ODatabaseDocumentInternal) db, "sample", "compressed");
+        Assert.assertTrue(Base64.getDecoder().decode(dictionary).length > 0);
+
+        try {
+          new OCompressionDictionaryTrainer().trainCluster((ODatabaseDocumentInternal) db, "sample", "sample");
+          Assert.fail();
+        } catch (IllegalArgumentException e) {
+          //dictionary can not be changed on not empty cluster
+        }
+
+        for (int i = 0; i < 100; i++) {
+          final ODocument document = new ODocument().fromJSON(document(random));
+          db.save(document, "compressed");
+
+          rids.add(document.getIdentity());
+          names.add(document.field("name"));
+        }
+      }
+    } finally {
+      orientDB.close();
+    }
+
+    //dictionary is read back from cluster configuration
+    orientDB = new OrientDB("embedded:./target/databases/", OrientDBConfig.defaultConfig());
+    try {
+      try (ODatabaseSession db = orientDB.open(dbName, "admin", "admin")) {
+        Assert.assertEquals(ODictionaryCompression.NAME,
+            ((ODatabaseDocumentInternal) db).getStorage().getClusterByName("compressed").compression());
+
+        for (int i = 0; i < rids.size(); i++) {
+          final ODocument document = db.load(rids.get(i));
+          Assert.assertEquals(names.get(i), document.field("name"));
+        }
+      }
+
+      orientDB.drop(dbName);
+    } finally {
+      orientDB.close();
+    }
+  }
+
+  private static String document(Random random) {
+    return "{\"@class\":\"Person\",\"name\":\"name" + random.nextInt(1000) + "\",\"surname\":\"surname" + random.nextInt(1000)
+        + "\",\"email\":\"user" + random.nextInt(1000) + "@example.com\",\"active\":" + random.nextBoolean() + "}";
+  }
+}
@@ -0,0 +1,64 @@
+package com.orientechnologies.orient.core.compression.impl;
+
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class OLZ4CompressionTest {
+  @Test
+  public void testLZ4() {
+    testCompression(OLZ4Compression.NAME);
+  }
+
+  @Test
+  public void testLZ4High() {
+    testCompression(OLZ4HighCompression.NAME);
+  }
+
+  @Test
+  public void testCompressedSize() {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      builder.append("{\"name\":\"name").append(i).append("\",\"surname\":\"surname").append(i).append("\"}");
+    }
+
+    final byte[] content = builder.toString().getBytes();
+    final OCompression compression = OCompressionFactory.INSTANCE.getCompression(OLZ4Compression.NAME, null);
+
+    final byte[] compressed = compression.compress(content);
+    Assert.assertTrue(compressed.length < content.length / 3);
+    Assert.assertArrayEquals(content, compression.uncompress(compressed));
+  }
+
+  private void testCompression(String name) {
+    final long seed = System.currentTimeMillis();
+    System.out.println(name + " - Compression seed " + seed);
+
+    final Random random = new Random(seed);
+    final OCompression compression = OCompressionFactory.INSTANCE.getCompression(name, null);
+
+    for (int i = 0; i < 1000; i++) {
+      final byte[] content = new byte[random.nextInt(10 * 1024)];
+      //small alphabet gives compressor something to compress
+      for (int n = 0; n < content.length; n++) {
+        content[n] = (byte) random.nextInt(16);
+      }
+
+      Assert.assertArrayEquals(content, compression.uncompress(compression.compress(content)));
+
+      if (content.length > 2) {
+        final byte[] compressed = compression.compress(content, 1, content.length - 2);
+        Assert.assertArrayEquals(Arrays.copyOfRange(content, 1, content.length - 1), compression.uncompress(compressed));
+
+        final byte[] shifted = new byte[compressed.length + 3];
+        System.arraycopy(compressed, 0, shifted, 2, compressed.length);
+        Assert.assertArrayEquals(Arrays.copyOfRange(content, 1, content.length - 1),
+            compression.uncompress(shifted, 2, compressed.length));
+      }
+    }
+  }
+}
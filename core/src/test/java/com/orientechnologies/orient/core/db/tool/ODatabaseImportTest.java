@@ -4,11 +4,16 @@ import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 
 /**
@@ -47,6 +52,98 @@ public class ODatabaseImportTest {
     dbImp.drop();
   }
 
+  @Test
+  public void exportImportParallel() throws IOException {
+    final String buildDirectory = System.getProperty("buildDirectory", "target");
+    final File exportFile = new File(buildDirectory, ODatabaseImportTest.class.getSimpleName() + "_parallel.gz");
+
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + ODatabaseImportTest.class.getSimpleName() + "_parallel");
+    db.create();
+    final OClass item = db.getMetadata().getSchema().createClass("Item");
+    item.addCluster("Item_extra");
+    db.getMetadata().getSchema().createClass("Ref");
+
+    // SHIFT RIDS OF ITEMS, SO LINKS HAVE TO BE MIGRATED ON IMPORT
+    for (int i = 0; i < 10; i++)
+      db.save(new ODocument("Item").field("value", -1));
+    db.command("delete from Item").close();
+
+    for (int i = 0; i < 500; i++) {
+      final ODocument itemDoc = new ODocument("Item").field("value", i);
+      db.save(itemDoc);
+      db.save(new ODocument("Ref").field("value", i).field("item", itemDoc));
+    }
+
+    ODatabaseExport export = new ODatabaseExport((ODatabaseDocumentInternal) db, exportFile.getPath(), iText -> {
+    });
+    export.setOptions(" -parallel=4");
+    export.exportDatabase();
+    db.drop();
+
+    for (int parallel : new int[] { 1, 4 }) {
+      ODatabaseDocument dbImp = new ODatabaseDocumentTx(
+          "memory:import_" + ODatabaseImportTest.class.getSimpleName() + "_parallel" + parallel);
+      dbImp.create();
+      ODatabaseImport importer = new ODatabaseImport((ODatabaseDocumentInternal) dbImp, exportFile.getPath(), iText -> {
+      });
+      importer.setOptions(" -parallel=" + parallel);
+      importer.importDatabase();
+
+      Assert.assertEquals(500, dbImp.countClass("Item"));
+      Assert.assertEquals(500, dbImp.countClass("Ref"));
+      try (OResultSet result = dbImp.query("select value, item.value as itemValue from Ref")) {
+        while (result.hasNext()) {
+          final OResult ref = result.next();
+          Assert.assertEquals((Object) ref.getProperty("value"), ref.getProperty("itemValue"));
+        }
+      }
+      dbImp.drop();
+    }
+
+    exportFile.delete();
+  }
+
+  @Test
+  public void importPreserveRidsIsSequential() throws IOException {
+    final String buildDirectory = System.getProperty("buildDirectory", "target");
+    final File exportFile = new File(buildDirectory, ODatabaseImportTest.class.getSimpleName() + "_preserveRids.gz");
+
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + ODatabaseImportTest.class.getSimpleName() + "_preserveRids");
+    db.create();
+    db.getMetadata().getSchema().createClass("Item");
+    for (int i = 0; i < 100; i++)
+      db.save(new ODocument("Item").field("value", i));
+
+    ODatabaseExport export = new ODatabaseExport((ODatabaseDocumentInternal) db, exportFile.getPath(), iText -> {
+    });
+    export.exportDatabase();
+    db.drop();
+
+    ODatabaseDocument dbImp = new ODatabaseDocumentTx(
+        "memory:import_" + ODatabaseImportTest.class.getSimpleName() + "_preserveRids");
+    dbImp.create();
+    ODatabaseImport importer = new ODatabaseImport((ODatabaseDocumentInternal) dbImp, exportFile.getPath(), iText -> {
+    });
+
+    importer.setOptions(" -parallel=4 -preserveClusterIDs=true");
+    Assert.assertTrue(importer.isParallelImport());
+
+    importer.setPreserveRids(true);
+    Assert.assertFalse(importer.isParallelImport());
+
+    importer.importDatabase();
+    Assert.assertEquals(100, dbImp.countClass("Item"));
+    try (OResultSet result = dbImp.query("select from Item order by value")) {
+      int value = 0;
+      while (result.hasNext()) {
+        Assert.assertEquals((Object) value++, result.next().getProperty("value"));
+      }
+    }
+
+    dbImp.drop();
+    exportFile.delete();
+  }
+
   @Test
   public void exportImportExcludeClusters() throws IOException {
     ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + ODatabaseImportTest.class.getSimpleName()+"_excludeclusters");
@@ -0,0 +1,65 @@
+package com.orientechnologies.orient.core.db.tool.importer;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class OImportRIDMapTest {
+  @Test
+  public void testPutGet() {
+    final OImportRIDMap map = new OImportRIDMap();
+    try {
+      final Map<ORID, ORID> expected = new HashMap<>();
+      final Random random = new Random(42);
+      for (int i = 0; i < 200_000; i++) {
+        final ORID oldRid = new ORecordId(random.nextInt(100), random.nextInt(1_000_000));
+        final ORID newRid = new ORecordId(random.nextInt(100), i);
+        map.put(oldRid, newRid);
+        expected.put(oldRid, newRid);
+      }
+
+      Assert.assertEquals(expected.size(), map.size());
+      for (Map.Entry<ORID, ORID> entry : expected.entrySet())
+        Assert.assertEquals(entry.getValue(), map.get(entry.getKey()));
+
+      Assert.assertNull(map.get(new ORecordId(100, 1)));
+
+      final Map<ORID, ORID> iterated = new HashMap<>();
+      map.forEach(iterated::put);
+      Assert.assertEquals(expected, iterated);
+    } finally {
+      map.close();
+    }
+  }
+
+  @Test
+  public void testConcurrentPut() throws Exception {
+    final OImportRIDMap map = new OImportRIDMap();
+    try {
+      final Thread[] threads = new Thread[4];
+      for (int t = 0; t < threads.length; t++) {
+        final int clusterId = t;
+        threads[t] = new Thread(() -> {
+          for (int i = 0; i < 50_000; i++)
+            map.put(new ORecordId(clusterId, i), new ORecordId(clusterId + 10, i));
+        });
+        threads[t].start();
+      }
+
+      for (Thread thread : threads)
+        thread.join();
+
+      Assert.assertEquals(200_000, map.size());
+      for (int t = 0; t < threads.length; t++)
+        for (int i = 0; i < 50_000; i++)
+          Assert.assertEquals(new ORecordId(t + 10, i), map.get(new ORecordId(t, i)));
+    } finally {
+      map.close();
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.orientechnologies.orient.core.db.viewmanager;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OSharedContextEmbedded;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.schema.OView;
+import com.orientechnologies.orient.core.metadata.schema.OViewConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+public class IncrementalViewMaintenanceTest {
+
+  private ODatabaseDocumentTx db;
+
+  @Before
+  public void setUp() {
+    db = new ODatabaseDocumentTx("memory:" + IncrementalViewMaintenanceTest.class.getSimpleName());
+    db.create();
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  private void createView(OViewConfig config) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    db.getMetadata().getSchema().createView(config, new ViewCreationListener() {
+      @Override
+      public void afterCreate(ODatabaseSession database, String viewName) {
+        latch.countDown();
+      }
+
+      @Override
+      public void onError(String viewName, Exception exception) {
+        latch.countDown();
+      }
+    });
+    latch.await();
+  }
+
+  private void refreshView(String viewName) {
+    db.getMetadata().reload();
+    OView view = db.getMetadata().getSchema().getView(viewName);
+    ((OSharedContextEmbedded) db.getSharedContext()).getViewManager().refreshView(view, db);
+    db.getMetadata().reload();
+  }
+
+  private int getViewCluster(String viewName) {
+    return db.getMetadata().getSchema().getView(viewName).getClusterIds()[0];
+  }
+
+  private OElement createPerson(String name, String city, int age) {
+    OElement person = db.newElement("Person");
+    person.setProperty("name", name);
+    person.setProperty("city", city);
+    person.setProperty("age", age);
+    return person.save();
+  }
+
+  @Test
+  public void testFilter() throws InterruptedException {
+    db.createClass("Person");
+    OElement john = createPerson("John", "Rome", 20);
+    OElement jane = createPerson("Jane", "Rome", 15);
+
+    OViewConfig config = new OViewConfig("testFilter", "SELECT FROM Person WHERE age >= 18");
+    config.setOriginRidField("origin");
+    createView(config);
+    int cluster = getViewCluster("testFilter");
+
+    OElement mark = createPerson("Mark", "Milan", 30);
+    jane.setProperty("age", 18);
+    jane.save();
+    john.setProperty("name", "Johnny");
+    john.save();
+    refreshView("testFilter");
+
+    Assert.assertEquals(cluster, getViewCluster("testFilter"));
+    Map<String, Integer> rows = new HashMap<>();
+    try (OResultSet rs = db.query("SELECT FROM testFilter")) {
+      while (rs.hasNext()) {
+        OResult row = rs.next();
+        rows.put(row.getProperty("name"), row.getProperty("age"));
+      }
+    }
+    Assert.assertEquals(3, rows.size());
+    Assert.assertEquals((Integer) 20, rows.get("Johnny"));
+    Assert.assertEquals((Integer) 18, rows.get("Jane"));
+    Assert.assertEquals((Integer) 30, rows.get("Mark"));
+
+    mark.delete();
+    john.setProperty("age", 10);
+    john.save();
+    refreshView("testFilter");
+
+    Assert.assertEquals(cluster, getViewCluster("testFilter"));
+    try (OResultSet rs = db.query("SELECT FROM testFilter")) {
+      Assert.assertTrue(rs.hasNext());
+      OResult row = rs.next();
+      Assert.assertEquals("Jane", row.getProperty("name"));
+      Assert.assertEquals(jane.getIdentity(), row.getProperty("origin"));
+      Assert.assertFalse(rs.hasNext());
+    }
+  }
+
+  @Test
+  public void testGroupBy() throws InterruptedException {
+    db.createClass("Person");
+    createPerson("John", "Rome", 20);
+    OElement jane = createPerson("Jane", "Rome", 30);
+    createPerson("Mark", "Milan", 40);
+
+    createView(new OViewConfig("testGroupBy",
+        "SELECT city, count(*) AS people, sum(age) AS ages FROM Person WHERE age > 18 GROUP BY city"));
+    int cluster = getViewCluster("testGroupBy");
+
+    OElement anna = createPerson("Anna", "Paris", 50);
+    createPerson("Tom", "Paris", 10);
+    jane.setProperty("city", "Milan");
+    jane.save();
+    refreshView("testGroupBy");
+
+    Assert.assertEquals(cluster, getViewCluster("testGroupBy"));
+    Map<String, OResult> rows = new HashMap<>();
+    try (OResultSet rs = db.query("SELECT FROM testGroupBy")) {
+      while (rs.hasNext()) {
+        OResult row = rs.next();
+        rows.put(row.getProperty("city"), row);
+      }
+    }
+    Assert.assertEquals(3, rows.size());
+    Assert.assertEquals(1L, ((Number) rows.get("Rome").getProperty("people")).longValue());
+    Assert.assertEquals(20L, ((Number) rows.get("Rome").getProperty("ages")).longValue());
+    Assert.assertEquals(2L, ((Number) rows.get("Milan").getProperty("people")).longValue());
+    Assert.assertEquals(70L, ((Number) rows.get("Milan").getProperty("ages")).longValue());
+    Assert.assertEquals(1L, ((Number) rows.get("Paris").getProperty("people")).longValue());
+    Assert.assertEquals(50L, ((Number) rows.get("Paris").getProperty("ages")).longValue());
+
+    anna.delete();
+    refreshView("testGroupBy");
+
+    try (OResultSet rs = db.query("SELECT FROM testGroupBy WHERE city = 'Paris'")) {
+      Assert.assertFalse(rs.hasNext());
+    }
+  }
+
+  @Test
+  public void testFailedSave() throws InterruptedException {
+    OClass person = db.createClass("Person");
+    person.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.UNIQUE);
+    OElement john = createPerson("John", "Rome", 20);
+
+    OViewConfig config = new OViewConfig("testFailedSave", "SELECT FROM Person");
+    config.setOriginRidField("origin");
+    createView(config);
+    int cluster = getViewCluster("testFailedSave");
+
+    try {
+      createPerson("John", "Milan", 30);
+      Assert.fail();
+    } catch (ORecordDuplicatedException e) {
+      // the record was not saved, the view does not get a row for it
+    }
+    OElement jane = createPerson("Jane", "Milan", 30);
+    refreshView("testFailedSave");
+
+    Assert.assertEquals(cluster, getViewCluster("testFailedSave"));
+    Map<String, ORID> rows = new HashMap<>();
+    int count = 0;
+    try (OResultSet rs = db.query("SELECT FROM testFailedSave")) {
+      while (rs.hasNext()) {
+        OResult row = rs.next();
+        rows.put(row.getProperty("name"), ((OIdentifiable) row.getProperty("origin")).getIdentity());
+        count++;
+      }
+    }
+    Assert.assertEquals(2, count);
+    Assert.assertEquals(john.getIdentity(), rows.get("John"));
+    Assert.assertEquals(jane.getIdentity(), rows.get("Jane"));
+  }
+
+  @Test
+  public void testFailedApply() throws InterruptedException {
+    db.createClass("Person");
+    createPerson("John", "Rome", 20);
+
+    OViewConfig config = new OViewConfig("testFailedApply", "SELECT FROM Person");
+    config.setOriginRidField("origin");
+    config.addIndex(OClass.INDEX_TYPE.UNIQUE.name(), null).addProperty("name", OType.STRING);
+    createView(config);
+
+    db.getMetadata().reload();
+    OView view = db.getMetadata().getSchema().getView("testFailedApply");
+    IncrementalViewMaintenance maintenance = IncrementalViewMaintenance.create(view, db);
+    OElement otherJohn = createPerson("John", "Milan", 30);
+    maintenance.recordChanged(otherJohn.getIdentity(), null, new OResultInternal(otherJohn), db);
+
+    // the row violates the unique index of the view, the change is lost and the view has to be rebuilt
+    Assert.assertFalse(maintenance.applyChanges(view, db));
+    Assert.assertFalse(maintenance.applyChanges(view, db));
+  }
+}
@@ -0,0 +1,108 @@
+package com.orientechnologies.orient.core.db.viewmanager;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OSharedContextEmbedded;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OView;
+import com.orientechnologies.orient.core.metadata.schema.OViewConfig;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+public class ViewManagerTest {
+
+  private ODatabaseDocumentTx db;
+
+  @Before
+  public void setUp() {
+    db = new ODatabaseDocumentTx("memory:" + ViewManagerTest.class.getSimpleName());
+    db.create();
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  private ViewManager getViewManager() {
+    return ((OSharedContextEmbedded) db.getSharedContext()).getViewManager();
+  }
+
+  private void createView(String name, String query, int updateIntervalSeconds, int updatePriority)
+      throws InterruptedException {
+    OViewConfig config = new OViewConfig(name, query);
+    config.setUpdateIntervalSeconds(updateIntervalSeconds);
+    config.setUpdatePriority(updatePriority);
+    CountDownLatch latch = new CountDownLatch(1);
+    db.getMetadata().getSchema().createView(config, new ViewCreationListener() {
+      @Override
+      public void afterCreate(ODatabaseSession database, String viewName) {
+        latch.countDown();
+      }
+
+      @Override
+      public void onError(String viewName, Exception exception) {
+        latch.countDown();
+      }
+    });
+    latch.await();
+  }
+
+  private long countRows(String viewName) {
+    try (OResultSet rs = db.query("SELECT count(*) AS count FROM " + viewName)) {
+      return ((Number) rs.next().getProperty("count")).longValue();
+    }
+  }
+
+  @Test
+  public void testViewsToUpdate() throws InterruptedException {
+    db.createClass("Person");
+    db.createClass("Company");
+    createView("hourly", "SELECT FROM Person", 3600, 20);
+    createView("people", "SELECT FROM Person", 0, 0);
+    createView("companies", "SELECT FROM Company", 0, 10);
+
+    Thread.sleep(5);
+    db.getMetadata().reload();
+    List<String> names = getViewManager().getViewsToUpdate(db).stream().map(OView::getName).collect(Collectors.toList());
+    Assert.assertEquals(Arrays.asList("companies", "people"), names);
+  }
+
+  @Test
+  public void testMetrics() throws InterruptedException {
+    db.createClass("Person");
+    createView("people", "SELECT FROM Person", 3600, 0);
+
+    ViewManager viewManager = getViewManager();
+    Assert.assertTrue(viewManager.getLastRefreshDuration("people") >= 0);
+    Assert.assertTrue(viewManager.getStaleness("people") >= 0);
+    Assert.assertEquals(-1, viewManager.getLastRefreshDuration("notAView"));
+    Assert.assertEquals(-1, viewManager.getStaleness("notAView"));
+  }
+
+  @Test
+  public void testBackgroundRefresh() throws InterruptedException {
+    db.createClass("Person");
+    db.createClass("Company");
+    createView("people", "SELECT FROM Person", 1, 0);
+    createView("companies", "SELECT FROM Company", 1, 0);
+
+    db.newElement("Person").save();
+    db.newElement("Company").save();
+
+    long timeout = System.currentTimeMillis() + 20000;
+    while ((countRows("people") == 0 || countRows("companies") == 0) && System.currentTimeMillis() < timeout) {
+      Thread.sleep(100);
+      db.getMetadata().reload();
+    }
+    Assert.assertEquals(1, countRows("people"));
+    Assert.assertEquals(1, countRows("companies"));
+  }
+}
@@ -0,0 +1,69 @@
+package com.orientechnologies.orient.core.metadata.schema.clusterselection;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+public class OThreadClusterSelectionStrategyTest {
+  @Test
+  public void testSameThreadSelectsSameCluster() {
+    final OThreadClusterSelectionStrategy strategy = new OThreadClusterSelectionStrategy();
+    final int[] clusters = new int[] { 10, 11, 12, 13 };
+
+    final int cluster = strategy.getCluster(null, clusters, null);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(cluster, strategy.getCluster(null, clusters, null));
+    }
+
+    Assert.assertEquals(42, strategy.getCluster(null, new int[] { 42 }, null));
+  }
+
+  @Test
+  public void testThreadsAreSpreadBetweenClusters() throws Exception {
+    final OThreadClusterSelectionStrategy strategy = new OThreadClusterSelectionStrategy();
+    final int[] clusters = new int[] { 10, 11, 12, 13 };
+
+    final Set<Integer> selected = ConcurrentHashMap.newKeySet();
+    final CountDownLatch latch = new CountDownLatch(clusters.length);
+    for (int i = 0; i < clusters.length; i++) {
+      new Thread(() -> {
+        selected.add(strategy.getCluster(null, clusters, null));
+        latch.countDown();
+      }).start();
+    }
+    latch.await();
+
+    Assert.assertEquals(clusters.length, selected.size());
+  }
+
+  @Test
+  public void testClassWithThreadStrategy() {
+    final ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + OThreadClusterSelectionStrategyTest.class.getSimpleName());
+    db.create();
+    try {
+      final OClass clazz = db.getMetadata().getSchema().createClass("Item", 4, null);
+      clazz.setClusterSelection(OThreadClusterSelectionStrategy.NAME);
+      Assert.assertEquals(OThreadClusterSelectionStrategy.NAME, clazz.getClusterSelection().getName());
+
+      final Set<Integer> clusterIds = new HashSet<>();
+      for (int i = 0; i < 10; i++) {
+        final ODocument document = new ODocument("Item");
+        document.field("value", i);
+        db.save(document);
+        clusterIds.add(document.getIdentity().getClusterId());
+      }
+
+      Assert.assertEquals(1, clusterIds.size());
+    } finally {
+      db.drop();
+    }
+  }
+}
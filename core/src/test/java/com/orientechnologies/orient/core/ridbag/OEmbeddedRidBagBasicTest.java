@@ -2,13 +2,22 @@ package com.orientechnologies.orient.core.ridbag;
 
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
 import com.orientechnologies.orient.core.db.record.ridbag.embedded.OEmbeddedRidBag;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class OEmbeddedRidBagBasicTest {
 
@@ -38,6 +47,55 @@ public class OEmbeddedRidBagBasicTest {
 
   }
 
+  @Test
+  public void embeddedRidBagDeltaSerializationTest() {
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + OEmbeddedRidBag.class.getSimpleName());
+    db.create();
+    try {
+      List<ORecordId> expected = new ArrayList<>();
+      expected.add(new ORecordId(10, 5));
+      expected.add(new ORecordId(10, 3));
+      expected.add(new ORecordId(10, 1L << 40));
+      expected.add(new ORecordId(12, 0));
+      expected.add(new ORecordId(10, 7));
+
+      ORidBag bag = new ORidBag();
+      bag.setAutoConvertToRecord(false);
+      for (ORecordId rid : expected) {
+        bag.add(rid);
+      }
+      bag.add(new ORecordId(11, 1));
+      bag.remove(new ORecordId(11, 1));
+
+      ODocument doc = new ODocument();
+      doc.field("bag", bag);
+
+      //the current version keeps the legacy layout, delta encoding is written only by the next serializer version
+      ORecordSerializerBinary serializer = new ORecordSerializerBinary((byte) 2);
+      byte[] legacyBytes = ORecordSerializerBinary.INSTANCE.toStream(doc, false);
+      byte[] bytes = serializer.toStream(doc, false);
+      assertEquals(1, legacyBytes[0]);
+      assertEquals(2, bytes[0]);
+
+      for (byte[] stream : new byte[][] { legacyBytes, bytes }) {
+        ODocument newDoc = new ODocument();
+        ORecordSerializerBinary.INSTANCE.fromStream(stream, newDoc, null);
+        ORidBag newBag = newDoc.field("bag");
+        newBag.setAutoConvertToRecord(false);
+
+        assertEquals(expected.size(), newBag.size());
+        Iterator<OIdentifiable> iterator = newBag.iterator();
+        for (ORecordId rid : expected) {
+          assertEquals(rid, iterator.next());
+        }
+        assertTrue(newBag.contains(new ORecordId(12, 0)));
+        assertFalse(newBag.contains(new ORecordId(11, 1)));
+      }
+    } finally {
+      db.drop();
+    }
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void testExceptionInCaseOfNull() {
     OEmbeddedRidBag bag = new OEmbeddedRidBag();
@@ -100,4 +100,29 @@ public class OCommandExecutorSQLSelectTestIndex {
     }
 
   }
+
+  @Test
+  public void testPartialIndex() {
+    ODatabaseDocumentTx databaseDocumentTx = new ODatabaseDocumentTx("memory:OCommandExecutorSQLSelectTestIndex_testPartialIndex");
+    databaseDocumentTx.create();
+    try {
+      databaseDocumentTx.command(new OCommandSQL("CREATE CLASS Foo")).execute();
+      databaseDocumentTx.command(new OCommandSQL("CREATE PROPERTY Foo.name STRING")).execute();
+      databaseDocumentTx.command(new OCommandSQL("CREATE PROPERTY Foo.status STRING")).execute();
+      databaseDocumentTx.command("CREATE INDEX Foo.name ON Foo (name) NOTUNIQUE WHERE status = 'active'").close();
+      databaseDocumentTx.command(new OCommandSQL("INSERT INTO Foo SET name = 'a', status = 'active'")).execute();
+      databaseDocumentTx.command(new OCommandSQL("INSERT INTO Foo SET name = 'a', status = 'closed'")).execute();
+      databaseDocumentTx.command(new OCommandSQL("INSERT INTO Foo SET name = 'b', status = 'closed'")).execute();
+
+      // the records outside the filter of the index are found too
+      List<ODocument> results = databaseDocumentTx.query(new OSQLSynchQuery<ODocument>("SELECT FROM Foo WHERE name = 'a'"));
+      assertEquals(2, results.size());
+      results = databaseDocumentTx.query(new OSQLSynchQuery<ODocument>("SELECT FROM Foo WHERE name = 'b'"));
+      assertEquals(1, results.size());
+      results = databaseDocumentTx.query(new OSQLSynchQuery<ODocument>("SELECT FROM Foo ORDER BY name"));
+      assertEquals(3, results.size());
+    } finally {
+      databaseDocumentTx.drop();
+    }
+  }
 }
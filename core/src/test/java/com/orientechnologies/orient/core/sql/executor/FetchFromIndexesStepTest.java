@@ -0,0 +1,145 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class FetchFromIndexesStepTest {
+  static ODatabaseDocument db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:FetchFromIndexesStepTest");
+    db.create();
+
+    OClass clazz = db.getMetadata().getSchema().createClass("Intersected");
+    clazz.createProperty("a", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    clazz.createProperty("b", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    for (int i = 0; i < 1000; i++) {
+      ODocument document = new ODocument("Intersected");
+      document.field("a", i % 10);
+      document.field("b", i % 7);
+      document.field("c", i);
+      db.save(document);
+    }
+
+    OResultSet result = db.command("analyze class Intersected");
+    while (result.hasNext()) {
+      result.next();
+    }
+    result.close();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.close();
+  }
+
+  private static int expected(boolean intersection, int a, int b) {
+    int result = 0;
+    for (int i = 0; i < 1000; i++) {
+      boolean matchA = i % 10 == a;
+      boolean matchB = i % 7 == b;
+      if (intersection ? matchA && matchB : matchA || matchB) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  private static String plan(String query) {
+    OResultSet result = db.query(query);
+    String plan = result.getExecutionPlan().get().prettyPrint(0, 2);
+    result.close();
+    return plan;
+  }
+
+  @Test
+  public void testIntersection() {
+    String query = "select from Intersected where a = 1 and b = 2";
+    Assert.assertTrue(plan(query).contains("FETCH FROM INDEXES (INTERSECTION OF RIDs)"));
+
+    OResultSet result = db.query(query);
+    int count = 0;
+    while (result.hasNext()) {
+      OResult item = result.next();
+      Assert.assertEquals(1, (int) item.getProperty("a"));
+      Assert.assertEquals(2, (int) item.getProperty("b"));
+      count++;
+    }
+    result.close();
+    Assert.assertEquals(expected(true, 1, 2), count);
+  }
+
+  @Test
+  public void testIntersectionWithFilter() {
+    OResultSet result = db.query("select from Intersected where a = 1 and b = 2 and c > 500");
+    int count = 0;
+    while (result.hasNext()) {
+      OResult item = result.next();
+      Assert.assertTrue((int) item.getProperty("c") > 500);
+      count++;
+    }
+    result.close();
+    int expected = 0;
+    for (int i = 501; i < 1000; i++) {
+      if (i % 10 == 1 && i % 7 == 2) {
+        expected++;
+      }
+    }
+    Assert.assertEquals(expected, count);
+  }
+
+  @Test
+  public void testNoIntersectionWithLimit() {
+    Assert.assertFalse(plan("select from Intersected where a = 1 and b = 2 limit 3").contains("FETCH FROM INDEXES"));
+  }
+
+  @Test
+  public void testUnion() {
+    String query = "select from Intersected where a = 1 or b = 2";
+    Assert.assertTrue(plan(query).contains("FETCH FROM INDEXES (UNION OF RIDs)"));
+
+    OResultSet result = db.query(query);
+    int count = 0;
+    while (result.hasNext()) {
+      OResult item = result.next();
+      Assert.assertTrue((int) item.getProperty("a") == 1 || (int) item.getProperty("b") == 2);
+      count++;
+    }
+    result.close();
+    Assert.assertEquals(expected(false, 1, 2), count);
+  }
+
+  @Test
+  public void testIntersectionInTransaction() {
+    db.begin();
+    try {
+      ODocument document = new ODocument("Intersected");
+      document.field("a", 1);
+      document.field("b", 2);
+      document.field("c", -1);
+      db.save(document);
+
+      OResultSet result = db.query("select from Intersected where a = 1 and b = 2");
+      int count = 0;
+      boolean found = false;
+      while (result.hasNext()) {
+        OResult item = result.next();
+        found |= (int) item.getProperty("c") == -1;
+        count++;
+      }
+      result.close();
+      Assert.assertTrue(found);
+      Assert.assertEquals(expected(true, 1, 2) + 1, count);
+    } finally {
+      db.rollback();
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.exception.OSecurityException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+import com.orientechnologies.orient.core.metadata.security.OSecurityRole;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GetValuesFromIndexKeyStepTest {
+  static ODatabaseDocument db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:GetValuesFromIndexKeyStepTest");
+    db.create();
+
+    OClass clazz = db.getMetadata().getSchema().createClass("Covered");
+    clazz.createProperty("a", OType.INTEGER);
+    clazz.createProperty("b", OType.STRING);
+    clazz.createProperty("c", OType.STRING);
+    db.command("create index Covered.a on Covered (a) include (b) notunique").close();
+    for (int i = 0; i < 100; i++) {
+      ODocument document = new ODocument("Covered");
+      document.field("a", i);
+      if (i % 10 != 7) {
+        document.field("b", "b" + i);
+      }
+      document.field("c", "c" + i);
+      db.save(document);
+    }
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.close();
+  }
+
+  private static String plan(OResultSet result) {
+    return result.getExecutionPlan().get().prettyPrint(0, 2);
+  }
+
+  @Test
+  public void testCovered() {
+    OResultSet result = db.query("select a, b from Covered where a = 5");
+    Assert.assertTrue(plan(result).contains("INDEX ONLY SCAN"));
+    Assert.assertTrue(result.hasNext());
+    OResult item = result.next();
+    Assert.assertEquals(5, (int) item.getProperty("a"));
+    Assert.assertEquals("b5", item.getProperty("b"));
+    Assert.assertFalse(result.hasNext());
+    result.close();
+  }
+
+  @Test
+  public void testCoveredNullIncluded() {
+    OResultSet result = db.query("select b as value from Covered where a = 17");
+    Assert.assertTrue(plan(result).contains("INDEX ONLY SCAN"));
+    Assert.assertTrue(result.hasNext());
+    OResult item = result.next();
+    Assert.assertNull(item.getProperty("value"));
+    Assert.assertFalse(result.hasNext());
+    result.close();
+  }
+
+  @Test
+  public void testCoveredOrderBy() {
+    OResultSet result = db.query("select b from Covered where a >= 90 order by a desc");
+    Assert.assertTrue(plan(result).contains("INDEX ONLY SCAN"));
+    List<String> values = new ArrayList<>();
+    while (result.hasNext()) {
+      values.add(result.next().getProperty("b"));
+    }
+    result.close();
+    Assert.assertEquals(10, values.size());
+    Assert.assertEquals("b99", values.get(0));
+    Assert.assertNull(values.get(2));
+    Assert.assertEquals("b90", values.get(9));
+  }
+
+  @Test
+  public void testNotCovered() {
+    OResultSet result = db.query("select a, c from Covered where a = 5");
+    Assert.assertFalse(plan(result).contains("INDEX ONLY SCAN"));
+    Assert.assertEquals("c5", result.next().getProperty("c"));
+    result.close();
+
+    result = db.query("select from Covered where a = 5");
+    Assert.assertFalse(plan(result).contains("INDEX ONLY SCAN"));
+    result.close();
+
+    result = db.query("select a, b from Covered where a = 5 and c = 'c5'");
+    Assert.assertFalse(plan(result).contains("INDEX ONLY SCAN"));
+    Assert.assertEquals("b5", result.next().getProperty("b"));
+    result.close();
+  }
+
+  @Test
+  public void testUpdateIncluded() {
+    db.command("update Covered set b = 'updated' where a = 42").close();
+    OResultSet result = db.query("select b from Covered where a = 42");
+    Assert.assertTrue(plan(result).contains("INDEX ONLY SCAN"));
+    Assert.assertEquals("updated", result.next().getProperty("b"));
+    Assert.assertFalse(result.hasNext());
+    result.close();
+  }
+
+  @Test
+  public void testCoveredWithoutClusterPermission() {
+    String clusterName = db.getClusterNameById(db.getMetadata().getSchema().getClass("Covered").getDefaultClusterId());
+    ORole role = db.getMetadata().getSecurity()
+        .createRole("coveredDenied", db.getMetadata().getSecurity().getRole("reader"), OSecurityRole.ALLOW_MODES.DENY_ALL_BUT);
+    role.revoke(ORule.ResourceGeneric.CLUSTER, clusterName, ORole.PERMISSION_READ);
+    role.save();
+    db.getMetadata().getSecurity().createUser("coveredDenied", "coveredDenied", role);
+
+    // cached by the admin user with the index only scan
+    db.query("select b from Covered where a = 3").close();
+
+    ODatabaseDocument restricted = new ODatabaseDocumentTx("memory:GetValuesFromIndexKeyStepTest")
+        .open("coveredDenied", "coveredDenied");
+    try {
+      OResultSet result = restricted.query("select a, b from Covered where a = 6");
+      Assert.assertFalse(plan(result).contains("INDEX ONLY SCAN"));
+      try {
+        result.hasNext();
+        Assert.fail("records of the class cannot be read");
+      } catch (OSecurityException e) {
+        // expected
+      }
+      result.close();
+
+      try {
+        restricted.query("select b from Covered where a = 3").hasNext();
+        Assert.fail("index only scan of a cached plan checks the permissions too");
+      } catch (OSecurityException e) {
+        // expected
+      }
+    } finally {
+      restricted.close();
+      db.activateOnCurrentThread();
+    }
+  }
+
+  @Test
+  public void testCoveredInTransaction() {
+    db.begin();
+    try {
+      ODocument document = new ODocument("Covered");
+      document.field("a", 1000);
+      document.field("b", "new");
+      db.save(document);
+
+      OResultSet result = db.query("select b from Covered where a = 1000");
+      Assert.assertTrue(result.hasNext());
+      Assert.assertEquals("new", result.next().getProperty("b"));
+      Assert.assertFalse(result.hasNext());
+      result.close();
+    } finally {
+      db.rollback();
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+import com.orientechnologies.orient.core.metadata.security.OSecurityRole;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OAnalyzeStatementExecutionTest {
+  static ODatabaseDocument db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OAnalyzeStatementExecutionTest");
+    db.create();
+
+    OClass clazz = db.getMetadata().getSchema().createClass("Analyzed");
+    clazz.createProperty("status", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    clazz.createProperty("value", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    clazz.createIndex("Analyzed.status_value", OClass.INDEX_TYPE.UNIQUE, "status", "value");
+    for (int i = 0; i < 1000; i++) {
+      ODocument document = new ODocument("Analyzed");
+      document.field("status", i % 10 == 0 ? "closed" : "active");
+      document.field("value", i);
+      if (i % 2 == 0) {
+        document.field("tag", "tag" + i % 4);
+      }
+      db.save(document);
+    }
+
+    OResultSet result = db.command("analyze class Analyzed");
+    while (result.hasNext()) {
+      result.next();
+    }
+    result.close();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.close();
+  }
+
+  @Test
+  public void testColumnStatistics() {
+    OQueryStats stats = OQueryStats.get((ODatabaseDocumentInternal) db);
+    OColumnStatistics value = stats.getColumnStatistics((ODatabaseDocumentInternal) db, "Analyzed", "value");
+    Assert.assertEquals(1000, value.getDistinct());
+    Assert.assertEquals(0, value.getNullFraction(), 0);
+    Assert.assertEquals(OColumnStatistics.HISTOGRAM_BUCKETS + 1, value.getBounds().size());
+    Assert.assertEquals(0.1, value.below(100), 0.01);
+
+    OColumnStatistics status = stats.getColumnStatistics((ODatabaseDocumentInternal) db, "Analyzed", "status");
+    Assert.assertEquals(2, status.getDistinct());
+    Assert.assertEquals(0.9, status.equal("active"), 0.05);
+    Assert.assertEquals(0.1, status.equal("closed"), 0.05);
+
+    OColumnStatistics tag = stats.getColumnStatistics((ODatabaseDocumentInternal) db, "Analyzed", "tag");
+    Assert.assertEquals(2, tag.getDistinct());
+    Assert.assertEquals(0.5, tag.getNullFraction(), 0);
+  }
+
+  @Test
+  public void testIndexStatistics() {
+    OResultSet result = db.command("analyze index Analyzed.status_value");
+    OResult item = result.next();
+    Assert.assertFalse(result.hasNext());
+    result.close();
+
+    Assert.assertEquals(1000L, (long) item.getProperty("entries"));
+    List<Long> distinct = item.getProperty("distinct");
+    Assert.assertEquals(2L, (long) distinct.get(0));
+    Assert.assertEquals(1000L, (long) distinct.get(1));
+
+    OIndexStatistics stats = OQueryStats.get((ODatabaseDocumentInternal) db)
+        .getIndexStatistics((ODatabaseDocumentInternal) db, "Analyzed.status_value");
+    Assert.assertArrayEquals(new long[] { 2, 1000 }, stats.getDistinct());
+  }
+
+  @Test
+  public void testPersisted() {
+    OQueryStats stats = new OQueryStats();
+    OColumnStatistics value = stats.getColumnStatistics((ODatabaseDocumentInternal) db, "Analyzed", "value");
+    Assert.assertNotNull(value);
+    Assert.assertEquals(1000, value.getDistinct());
+    Assert.assertEquals(OColumnStatistics.HISTOGRAM_BUCKETS + 1, value.getBounds().size());
+    Assert.assertNotNull(stats.getIndexStatistics((ODatabaseDocumentInternal) db, "Analyzed.value"));
+  }
+
+  @Test
+  public void testInvalidate() {
+    db.getMetadata().getSchema().createClass("Reanalyzed");
+    for (int i = 0; i < 10; i++) {
+      db.save(new ODocument("Reanalyzed").field("value", i));
+    }
+    db.command("analyze class Reanalyzed").close();
+
+    OQueryStats stats = new OQueryStats();
+    Assert.assertEquals(10, stats.getColumnStatistics((ODatabaseDocumentInternal) db, "Reanalyzed", "value").getDistinct());
+
+    for (int i = 10; i < 20; i++) {
+      db.save(new ODocument("Reanalyzed").field("value", i));
+    }
+    db.command("analyze class Reanalyzed").close();
+    Assert.assertEquals(10, stats.getColumnStatistics((ODatabaseDocumentInternal) db, "Reanalyzed", "value").getDistinct());
+
+    stats.invalidateStatistics();
+    Assert.assertEquals(20, stats.getColumnStatistics((ODatabaseDocumentInternal) db, "Reanalyzed", "value").getDistinct());
+  }
+
+  @Test
+  public void testWithoutStatisticsPermission() {
+    ORole role = db.getMetadata().getSecurity()
+        .createRole("statisticsDenied", db.getMetadata().getSecurity().getRole("reader"), OSecurityRole.ALLOW_MODES.DENY_ALL_BUT);
+    role.revoke(ORule.ResourceGeneric.CLASS, OQueryStats.STATISTICS_CLASS, ORole.PERMISSION_READ);
+    role.save();
+    db.getMetadata().getSecurity().createUser("statisticsDenied", "statisticsDenied", role);
+
+    OQueryStats stats = new OQueryStats();
+    ODatabaseDocument restricted = new ODatabaseDocumentTx("memory:OAnalyzeStatementExecutionTest")
+        .open("statisticsDenied", "statisticsDenied");
+    try {
+      Assert.assertNull(stats.getColumnStatistics((ODatabaseDocumentInternal) restricted, "Analyzed", "value"));
+
+      OQueryStats.get((ODatabaseDocumentInternal) restricted).invalidateStatistics();
+      OResultSet result = restricted.query("select from Analyzed where status = 'closed' and value > 100");
+      long count = 0;
+      while (result.hasNext()) {
+        result.next();
+        count++;
+      }
+      result.close();
+      Assert.assertEquals(89, count);
+    } finally {
+      restricted.close();
+      db.activateOnCurrentThread();
+    }
+
+    Assert.assertNotNull(stats.getColumnStatistics((ODatabaseDocumentInternal) db, "Analyzed", "value"));
+  }
+
+  @Test
+  public void testInTransaction() {
+    db.begin();
+    try {
+      db.command("analyze class Analyzed").close();
+      Assert.fail();
+    } catch (OCommandExecutionException e) {
+      // expected
+    } finally {
+      db.rollback();
+    }
+  }
+
+  @Test
+  public void testIndexChoice() {
+    Assert.assertTrue(plan("select from Analyzed where status = 'active' and value < 10").contains("FETCH FROM INDEX Analyzed.value"));
+    Assert.assertTrue(plan("select from Analyzed where status = 'closed' and value > 100").contains("FETCH FROM INDEX Analyzed.status"));
+  }
+
+  @Test
+  public void testWhereEstimate() {
+    OSelectStatement statement = (OSelectStatement) OSQLEngine
+        .parse("select from Analyzed where value < 100 and tag is not null", (ODatabaseDocumentInternal) db);
+    OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(db);
+    long estimate = statement.getWhereClause().estimate(db.getMetadata().getSchema().getClass("Analyzed"), 0, ctx);
+    Assert.assertTrue(String.valueOf(estimate), estimate >= 25 && estimate <= 100);
+  }
+
+  private static String plan(String query) {
+    OResultSet result = db.query("explain " + query);
+    String plan = result.next().getProperty("executionPlanAsString");
+    result.close();
+    return plan;
+  }
+}
@@ -2,14 +2,21 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
+import com.orientechnologies.orient.core.index.OExpressionIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 /**
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com)
  */
@@ -65,4 +72,284 @@ public class OCreateIndexStatementExecutionTest {
   }
 
 
+  @Test public void testInclude() {
+    String className = "testInclude";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+    clazz.createProperty("age", OType.INTEGER);
+
+    OResultSet result = db
+        .command("create index " + className + ".name on " + className + " (name) include (surname, age) notunique");
+    Assert.assertTrue(result.hasNext());
+    result.close();
+    OIndex<?> idx = db.getMetadata().getIndexManager().getIndex(className + ".name");
+    Assert.assertNotNull(idx);
+    Assert.assertEquals(Arrays.asList("name", "surname", "age"), idx.getDefinition().getFields());
+    Assert.assertEquals(Arrays.asList("surname", "age"), ((OCompositeIndexDefinition) idx.getDefinition()).getIncludedFields());
+
+    db.getMetadata().getIndexManager().reload();
+    idx = db.getMetadata().getIndexManager().getIndex(className + ".name");
+    Assert.assertEquals(Arrays.asList("surname", "age"), ((OCompositeIndexDefinition) idx.getDefinition()).getIncludedFields());
+
+    // included null values do not exclude the record from the index
+    ODocument doc = db.newInstance(className);
+    doc.setProperty("name", "foo");
+    doc.save();
+    Assert.assertEquals(1, idx.getSize());
+  }
+
+  @Test public void testIncludeUnique() {
+    String className = "testIncludeUnique";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+
+    try {
+      db.command("create index " + className + ".name on " + className + " (name) include (surname) unique").close();
+      Assert.fail();
+    } catch (OCommandExecutionException e) {
+    }
+    Assert.assertNull(db.getMetadata().getIndexManager().getIndex(className + ".name"));
+  }
+
+  @Test public void testIncludeKeyTypes() {
+    String className = "testIncludeKeyTypes";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+    clazz.createProperty("age", OType.INTEGER);
+
+    // the key types apply to the indexed properties, the included ones keep the schema types
+    db.command("create index " + className + ".name on " + className + " (name) include (surname, age) notunique STRING")
+        .close();
+    OIndex<?> idx = db.getMetadata().getIndexManager().getIndex(className + ".name");
+    Assert.assertArrayEquals(new OType[] { OType.STRING, OType.STRING, OType.INTEGER }, idx.getDefinition().getTypes());
+
+    try {
+      db.command(
+          "create index " + className + ".name_surname on " + className + " (name) include (surname, age) notunique STRING,STRING,INTEGER")
+          .close();
+      Assert.fail();
+    } catch (OCommandExecutionException e) {
+    }
+    Assert.assertNull(db.getMetadata().getIndexManager().getIndex(className + ".name_surname"));
+  }
+
+  @Test public void testWhere() {
+    String className = "testWhere";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("status", OType.STRING);
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i);
+      doc.setProperty("status", i % 2 == 0 ? "active" : "closed");
+      doc.save();
+    }
+
+    db.command("create index " + className + ".name on " + className + " (name) notunique where status = 'active'").close();
+    OIndex<?> idx = db.getMetadata().getIndexManager().getIndex(className + ".name");
+    Assert.assertEquals("status = 'active'", idx.getDefinition().getFilter());
+    Assert.assertEquals(5, idx.getSize());
+
+    db.getMetadata().getIndexManager().reload();
+    idx = db.getMetadata().getIndexManager().getIndex(className + ".name");
+    Assert.assertEquals("status = 'active'", idx.getDefinition().getFilter());
+
+    // records enter and leave the index when they start or stop matching the filter
+    ODocument doc = db.newInstance(className);
+    doc.setProperty("name", "foo");
+    doc.setProperty("status", "closed");
+    doc.save();
+    Assert.assertEquals(5, idx.getSize());
+
+    doc.setProperty("status", "active");
+    doc.save();
+    Assert.assertEquals(6, idx.getSize());
+    Assert.assertNotNull(idx.get("foo"));
+
+    doc.setProperty("name", "bar");
+    doc.save();
+    Assert.assertEquals(6, idx.getSize());
+    Assert.assertNotNull(idx.get("bar"));
+
+    doc.setProperty("name", "baz");
+    doc.setProperty("status", "closed");
+    doc.save();
+    Assert.assertEquals(5, idx.getSize());
+
+    doc.setProperty("status", "active");
+    doc.save();
+    doc.delete();
+    Assert.assertEquals(5, idx.getSize());
+
+    idx.rebuild();
+    Assert.assertEquals(5, idx.getSize());
+  }
+
+  @Test public void testWhereDDLRoundTrip() {
+    String className = "testWhereDDLRoundTrip";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+    clazz.createProperty("status", OType.STRING);
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i);
+      doc.setProperty("surname", "surname" + i);
+      doc.setProperty("status", i % 2 == 0 ? "active" : "closed");
+      doc.save();
+    }
+
+    db.command("create index " + className + ".name on " + className + " (name) notunique where status = 'active'").close();
+    db.command("create index " + className + ".composite on " + className + " (name, surname) notunique where status = 'active'")
+        .close();
+
+    ODocument metadata = new ODocument().field("ignoreNullValues", false);
+    for (String indexName : Arrays.asList(className + ".name", className + ".composite")) {
+      OIndex<?> idx = db.getMetadata().getIndexManager().getIndex(indexName);
+      String ddl = idx.getDefinition().toCreateIndexDDL(indexName + "Copy", "NOTUNIQUE", null, metadata);
+      Assert.assertTrue(ddl, ddl.endsWith(" METADATA " + metadata.toJSON() + " where status = 'active'"));
+
+      db.command(ddl).close();
+      OIndex<?> copy = db.getMetadata().getIndexManager().getIndex(indexName + "Copy");
+      Assert.assertEquals("status = 'active'", copy.getDefinition().getFilter());
+      Assert.assertEquals(5, copy.getSize());
+    }
+  }
+
+  @Test public void testWhereQuery() {
+    String className = "testWhereQuery";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("status", OType.STRING);
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i % 5);
+      doc.setProperty("status", i < 5 ? "active" : "closed");
+      doc.save();
+    }
+    db.command("create index " + className + ".name on " + className + " (name) notunique where status = 'active'").close();
+
+    // the query condition implies the filter of the index
+    OResultSet result = db.query("select from " + className + " where name = 'name1' and status = 'active'");
+    Assert.assertEquals(1, result.stream().count());
+    Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("FETCH FROM INDEX " + className + ".name"));
+    result.close();
+
+    // the index does not contain all the records that match the query
+    result = db.query("select from " + className + " where name = 'name1'");
+    Assert.assertEquals(2, result.stream().count());
+    Assert.assertFalse(result.getExecutionPlan().get().prettyPrint(0, 2).contains("FETCH FROM INDEX " + className + ".name"));
+    result.close();
+
+    result = db.query("select from " + className + " where name = 'name1' and status = 'closed'");
+    Assert.assertEquals(1, result.stream().count());
+    Assert.assertFalse(result.getExecutionPlan().get().prettyPrint(0, 2).contains("FETCH FROM INDEX " + className + ".name"));
+    result.close();
+
+    result = db.query("select count(*) as count from " + className + " where name = 'name1'");
+    Assert.assertEquals(2L, (long) result.next().getProperty("count"));
+    result.close();
+  }
+
+  @Test public void testWhereWithoutClass() {
+    try {
+      db.command("create index testWhereWithoutClass NOTUNIQUE STRING where foo = 'bar'").close();
+      Assert.fail();
+    } catch (OCommandExecutionException e) {
+    }
+    Assert.assertNull(db.getMetadata().getIndexManager().getIndex("testWhereWithoutClass"));
+  }
+
+  @Test public void testExpression() {
+    String className = "testExpression";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+
+    for (String name : new String[] { "Foo", "FOO", "bar" }) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", name);
+      doc.save();
+    }
+
+    db.command("create index " + className + ".lowerName on " + className + " ((name.toLowerCase())) notunique").close();
+    OIndex<?> idx = db.getMetadata().getIndexManager().getIndex(className + ".lowerName");
+    Assert.assertTrue(idx.getDefinition() instanceof OExpressionIndexDefinition);
+    Assert.assertEquals("name.toLowerCase()", ((OExpressionIndexDefinition) idx.getDefinition()).getExpression());
+    Assert.assertEquals(3, idx.getSize());
+    Assert.assertEquals(2, ((Collection<?>) idx.get("foo")).size());
+
+    db.getMetadata().getIndexManager().reload();
+    idx = db.getMetadata().getIndexManager().getIndex(className + ".lowerName");
+    Assert.assertTrue(idx.getDefinition() instanceof OExpressionIndexDefinition);
+
+    // the keys follow the updates of the fields read by the expression
+    ODocument doc = db.newInstance(className);
+    doc.setProperty("name", "Baz");
+    doc.save();
+    Assert.assertEquals(1, ((Collection<?>) idx.get("baz")).size());
+
+    doc.setProperty("name", "Qux");
+    doc.save();
+    Assert.assertEquals(0, ((Collection<?>) idx.get("baz")).size());
+    Assert.assertEquals(1, ((Collection<?>) idx.get("qux")).size());
+
+    doc.delete();
+    Assert.assertEquals(0, ((Collection<?>) idx.get("qux")).size());
+    Assert.assertEquals(3, idx.getSize());
+
+    OResultSet result = db.query("select from " + className + " where name.toLowerCase() = 'foo'");
+    Assert.assertEquals(2, result.stream().count());
+    Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("FETCH FROM INDEX " + className + ".lowerName"));
+    result.close();
+
+    result = db.query("select from " + className + " where name = 'foo'");
+    Assert.assertEquals(0, result.stream().count());
+    Assert.assertFalse(result.getExecutionPlan().get().prettyPrint(0, 2).contains("FETCH FROM INDEX " + className + ".lowerName"));
+    result.close();
+  }
+
+  @Test public void testExpressionDropProperty() {
+    String className = "testExpressionDropProperty";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+
+    db.command("create index " + className + ".lowerName on " + className + " ((name.toLowerCase())) notunique").close();
+    OIndex<?> idx = db.getMetadata().getIndexManager().getIndex(className + ".lowerName");
+    Assert.assertTrue(clazz.getInvolvedIndexes("name").contains(idx));
+    Assert.assertTrue(clazz.getInvolvedIndexes("NAME").contains(idx));
+    Assert.assertFalse(clazz.getInvolvedIndexes("surname").contains(idx));
+
+    try {
+      db.command("drop property " + className + ".name").close();
+      Assert.fail();
+    } catch (OCommandExecutionException e) {
+      Assert.assertTrue(e.getMessage().contains(className + ".lowerName"));
+    }
+    Assert.assertNotNull(clazz.getProperty("name"));
+
+    db.command("drop property " + className + ".name force").close();
+    Assert.assertNull(clazz.getProperty("name"));
+    Assert.assertNull(db.getMetadata().getIndexManager().getIndex(className + ".lowerName"));
+  }
+
+  @Test public void testExpressionWithOtherProperties() {
+    String className = "testExpressionWithOtherProperties";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+
+    try {
+      db.command("create index " + className + ".name on " + className + " ((name.toLowerCase()), surname) notunique").close();
+      Assert.fail();
+    } catch (OCommandExecutionException e) {
+    }
+    Assert.assertNull(db.getMetadata().getIndexManager().getIndex(className + ".name"));
+  }
+
 }
@@ -92,6 +92,7 @@ public class OCreateViewStatementExecutionTest {
     statement += "watchClasses:['foo', 'bar'], ";
     statement += "nodes:['baz','xx'], ";
     statement += "updateIntervalSeconds:100, ";
+    statement += "updatePriority:5, ";
     statement += "originRidField:'pp' ";
     statement += "}";
 
@@ -107,6 +108,7 @@ public class OCreateViewStatementExecutionTest {
     Assert.assertTrue(view.getNodes().contains("xx"));
     Assert.assertEquals(2, view.getNodes().size());
     Assert.assertEquals(100, view.getUpdateIntervalSeconds());
+    Assert.assertEquals(5, view.getUpdatePriority());
     Assert.assertEquals("pp", view.getOriginRidField());
   }
 
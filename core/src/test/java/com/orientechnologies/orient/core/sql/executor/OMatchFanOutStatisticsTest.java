@@ -0,0 +1,104 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.OVertex;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OMatchFanOutStatisticsTest {
+  private ODatabaseDocumentTx db;
+
+  @Before
+  public void before() {
+    db = new ODatabaseDocumentTx("memory:" + OMatchFanOutStatisticsTest.class.getSimpleName());
+    db.create();
+    db.createVertexClass("Source");
+    db.createVertexClass("Target");
+    db.createEdgeClass("Link");
+  }
+
+  @After
+  public void after() {
+    db.drop();
+  }
+
+  private void createGraph(int sources, int targets) {
+    List<OVertex> targetVertices = new ArrayList<>();
+    for (int i = 0; i < targets; i++) {
+      targetVertices.add(db.newVertex("Target").save());
+    }
+    for (int i = 0; i < sources; i++) {
+      OVertex source = db.newVertex("Source").save();
+      for (OVertex target : targetVertices) {
+        db.newEdge(source, target, "Link").save();
+      }
+    }
+  }
+
+  private long count(OResultSet result) {
+    long count = 0;
+    while (result.hasNext()) {
+      result.next();
+      count++;
+    }
+    result.close();
+    return count;
+  }
+
+  @Test
+  public void testCollectFanOut() {
+    createGraph(2, 120);
+    OQueryStats stats = OQueryStats.get(db);
+    Assert.assertEquals(-1, stats.getAverageOutEdgeSpan("Source", "Link"));
+
+    Assert.assertEquals(240,
+        count(db.query("MATCH {class: Source, as: s}.out('Link'){class: Target, as: t} RETURN s, t")));
+
+    Assert.assertEquals(120, stats.getAverageOutEdgeSpan("Source", "Link"));
+    long percentile = stats.getOutEdgeSpanPercentile("Source", "Link", EdgeTraversal.FAN_OUT_PERCENTILE);
+    Assert.assertTrue(percentile >= 120 && percentile < 240);
+  }
+
+  @Test
+  public void testPushSpanSample() {
+    OQueryStats stats = new OQueryStats();
+    OQueryStats.OSpanSample sample = new OQueryStats.OSpanSample();
+    for (int i = 0; i < 9; i++) {
+      sample.add(1);
+    }
+    sample.add(1000);
+    stats.pushSpans(stats.edgeSpanKey("out", "Source", "Link"), sample);
+
+    Assert.assertEquals(100, stats.getAverageOutEdgeSpan("Source", "Link"));
+    Assert.assertEquals(1, stats.getOutEdgeSpanPercentile("Source", "Link", 0.5));
+    Assert.assertEquals(1023, stats.getOutEdgeSpanPercentile("Source", "Link", 1));
+    Assert.assertEquals(-1, stats.getAverageInEdgeSpan("Source", "Link"));
+  }
+
+  @Test
+  public void testScheduleByFanOut() {
+    createGraph(2, 3);
+    String query = "MATCH {class: Source, as: s}.out('Link'){class: Target, as: t} RETURN s, t";
+
+    OResultSet result = db.query(query);
+    Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("---->"));
+    Assert.assertEquals(6, count(result));
+
+    // the sources are less than the targets, but each source is a supernode
+    OQueryStats stats = OQueryStats.get((ODatabaseDocumentInternal) db);
+    for (int i = 0; i < 10; i++) {
+      stats.pushAverageOutEdgeSpan("Source", "Link", 1000L);
+      stats.pushAverageInEdgeSpan("Target", "Link", 1L);
+    }
+
+    result = db.query(query);
+    Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("<----"));
+    Assert.assertEquals(6, count(result));
+  }
+}
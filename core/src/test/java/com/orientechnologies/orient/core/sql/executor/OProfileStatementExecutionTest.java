@@ -0,0 +1,119 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OPerformanceStatisticManager;
+import com.orientechnologies.orient.core.storage.impl.local.statistic.OQueryResources;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+public class OProfileStatementExecutionTest {
+  static ODatabaseDocument db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OProfileStatementExecutionTest");
+    db.create();
+
+    OClass clazz = db.getMetadata().getSchema().createClass("Profiled");
+    clazz.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    for (int i = 0; i < 100; i++) {
+      db.save(new ODocument("Profiled").field("name", "name" + i % 10).field("value", i));
+    }
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.close();
+  }
+
+  @Test
+  public void testProfileResources() {
+    db.getLocalCache().clear();
+    OResultSet result = db.command("profile select from Profiled where name = 'name1' and value > 50");
+    OResult next = result.next();
+    result.close();
+
+    OResult plan = next.getProperty("executionPlan");
+    OResult resources = plan.getProperty("resources");
+    Assert.assertNotNull(resources);
+    Assert.assertEquals(5L, (long) resources.getProperty("rows"));
+    Assert.assertEquals(10L, (long) resources.getProperty("indexEntriesScanned"));
+    Assert.assertTrue((long) resources.getProperty("recordsDeserialized") >= 10);
+    Assert.assertTrue((long) resources.getProperty("pagesReadFromCache") > 0);
+    Assert.assertEquals(0L, (long) resources.getProperty("pagesReadFromDisk"));
+
+    List<OResult> steps = plan.getProperty("steps");
+    OResult fetchStep = steps.get(0).getProperty("resources");
+    Assert.assertEquals(10L, (long) fetchStep.getProperty("rows"));
+    Assert.assertEquals(10L, (long) fetchStep.getProperty("indexEntriesScanned"));
+
+    long rows = 0;
+    long indexEntries = 0;
+    for (OResult step : steps) {
+      OResult stepResources = step.getProperty("resources");
+      rows = stepResources.getProperty("rows");
+      indexEntries += (long) stepResources.getProperty("indexEntriesScanned");
+    }
+    Assert.assertEquals(5L, rows);
+    Assert.assertEquals(10L, indexEntries);
+
+    String planAsString = next.getProperty("executionPlanAsString");
+    Assert.assertTrue(planAsString, planAsString.contains("TOTAL (rows: 5, "));
+  }
+
+  @Test
+  public void testExplainHasNoResources() {
+    OResultSet result = db.command("explain select from Profiled where name = 'name1'");
+    OResult plan = result.next().getProperty("executionPlan");
+    result.close();
+
+    Assert.assertNull(plan.getProperty("resources"));
+  }
+
+  @Test
+  public void testPushToStatisticManager() {
+    OPerformanceStatisticManager manager = ((OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) db).getStorage())
+        .getPerformanceStatisticManager();
+    Assert.assertFalse(manager.isQueryMonitoringEnabled());
+
+    manager.startThreadMonitoring();
+    try {
+      Assert.assertTrue(manager.isQueryMonitoringEnabled());
+      long queryCount = manager.getQueryCount();
+
+      String statement = "select from Profiled where value < 20";
+      db.getLocalCache().clear();
+      OResultSet result = db.query(statement);
+      int rows = 0;
+      while (result.hasNext()) {
+        result.next();
+        rows++;
+      }
+      result.close();
+      Assert.assertEquals(20, rows);
+
+      Assert.assertEquals(queryCount + 1, manager.getQueryCount());
+      Assert.assertTrue(manager.getQueryResources().getRows() >= 20);
+
+      ORawPair<String, OQueryResources> query = manager.getMostExpensiveQueries().stream()
+          .filter(x -> x.getFirst().equals(statement)).findFirst().orElse(null);
+      Assert.assertNotNull(query);
+      Assert.assertEquals(20, query.getSecond().getRows());
+      Assert.assertEquals(100, query.getSecond().getRecordsDeserialized());
+      Assert.assertTrue(query.getSecond().getPagesRead() > 0);
+    } finally {
+      manager.stopThreadMonitoring();
+    }
+  }
+}
@@ -2159,6 +2159,98 @@ public class OSelectStatementExecutionTest {
     result.close();
   }
 
+  @Test
+  public void testLetHashJoin() {
+    String customerClass = "testLetHashJoinCustomer";
+    String orderClass = "testLetHashJoinOrder";
+    db.getMetadata().getSchema().createClass(customerClass);
+    db.getMetadata().getSchema().createClass(orderClass);
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(customerClass);
+      doc.setProperty("id", i);
+      doc.setProperty("name", "name" + i);
+      doc.save();
+    }
+    for (int i = 0; i < 50; i++) {
+      ODocument doc = db.newInstance(orderClass);
+      doc.setProperty("customer", (long) (i % 5));
+      doc.setProperty("amount", i);
+      doc.save();
+    }
+
+    OResultSet result = db.query(
+        "select id, $orders.size() as orders from " + customerClass + " let $orders = (select from " + orderClass
+            + " where $parent.$current.id = customer and amount >= 10)");
+    printExecutionPlan(result);
+    Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("hash join"));
+    for (int i = 0; i < 10; i++) {
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      int id = item.getProperty("id");
+      Assert.assertEquals(id < 5 ? 8 : 0, (int) item.getProperty("orders"));
+    }
+    Assert.assertFalse(result.hasNext());
+    result.close();
+  }
+
+  @Test
+  public void testLetHashJoinDifferentKeyTypes() {
+    String className = "testLetHashJoinDifferentKeyTypes";
+    db.getMetadata().getSchema().createClass(className);
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("num", i);
+      doc.setProperty("str", "" + i);
+      doc.save();
+    }
+
+    OResultSet result = db.query(
+        "select num, $foo as foo from " + className + " let $foo = (select from " + className + " where str = $parent.$current.num)");
+    for (int i = 0; i < 10; i++) {
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      List<OResult> foo = item.getProperty("foo");
+      Assert.assertEquals(1, foo.size());
+      Assert.assertEquals("" + item.getProperty("num"), foo.get(0).getProperty("str"));
+    }
+    Assert.assertFalse(result.hasNext());
+    result.close();
+  }
+
+  @Test
+  public void testLetHashJoinCollate() {
+    String userClass = "testLetHashJoinCollateUser";
+    String loginClass = "testLetHashJoinCollateLogin";
+    db.getMetadata().getSchema().createClass(userClass);
+    OClass login = db.getMetadata().getSchema().createClass(loginClass);
+    login.createProperty("user", OType.STRING).setCollate("ci");
+
+    for (int i = 0; i < 5; i++) {
+      ODocument doc = db.newInstance(userClass);
+      doc.setProperty("name", "user" + i);
+      doc.save();
+    }
+    for (int i = 0; i < 20; i++) {
+      ODocument doc = db.newInstance(loginClass);
+      doc.setProperty("user", (i % 2 == 0 ? "USER" : "User") + (i % 5));
+      doc.save();
+    }
+
+    OResultSet result = db.query(
+        "select name, $logins.size() as logins from " + userClass + " let $logins = (select from " + loginClass
+            + " where user = $parent.$current.name)");
+    Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("hash join"));
+    for (int i = 0; i < 5; i++) {
+      Assert.assertTrue(result.hasNext());
+      OResult item = result.next();
+      Assert.assertEquals(4, (int) item.getProperty("logins"));
+    }
+    Assert.assertFalse(result.hasNext());
+    result.close();
+  }
+
   @Test
   public void testLetWithTraverseFunction() {
     String vertexClassName = "testLetWithTraverseFunction";
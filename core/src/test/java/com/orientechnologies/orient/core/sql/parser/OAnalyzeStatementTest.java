@@ -0,0 +1,22 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Test;
+
+public class OAnalyzeStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("ANALYZE CLASS Foo");
+    checkRightSyntax("analyze class Foo");
+    checkRightSyntax("ANALYZE INDEX *");
+    checkRightSyntax("ANALYZE INDEX Foo.bar");
+    checkWrongSyntax("ANALYZE Foo");
+    checkWrongSyntax("ANALYZE CLASS");
+    checkWrongSyntax("ANALYZE INDEX Foo.bar foo");
+  }
+
+  @Test
+  public void testKeywordAsIdentifier() {
+    checkRightSyntax("SELECT analyze FROM Foo WHERE analyze = 1");
+  }
+}
@@ -33,4 +33,39 @@ public class OCreateIndexStatementTest extends OParserTestAbstract {
     checkWrongSyntax("CREATE INDEX Foo.bar IF EXISTS on Foo (bar) UNIQUE");
   }
 
+  @Test
+  public void testInclude() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) NOTUNIQUE");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar, baz) include (qux, quux) NOTUNIQUE");
+    checkRightSyntax("CREATE INDEX Foo.bar IF NOT EXISTS on Foo (bar collate CI) INCLUDE (baz) NOTUNIQUE METADATA {'foo':'bar'}");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (include) NOTUNIQUE");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz, qux) NOTUNIQUE STRING");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) NOTUNIQUE ENGINE SBTREE STRING METADATA {'foo':'bar'}");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE () NOTUNIQUE");
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE baz NOTUNIQUE");
+  }
+
+  @Test
+  public void testWhere() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE WHERE status = 'active'");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar, baz) UNIQUE WHERE status = 'active' and deleted = false");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) INCLUDE (baz) NOTUNIQUE METADATA {'foo':'bar'} WHERE baz is not null");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE STRING WHERE bar > 10");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE WHERE");
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) WHERE bar > 10 NOTUNIQUE");
+  }
+
+  @Test
+  public void testExpression() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo ((bar.toLowerCase())) NOTUNIQUE");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo ((date.format('yyyy'))) NOTUNIQUE STRING");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo ((bar.toLowerCase()) collate ci) UNIQUE WHERE baz = 1");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo ((a + b)) NOTUNIQUE INTEGER");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar.toLowerCase()) NOTUNIQUE");
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (()) NOTUNIQUE");
+  }
+
 }
@@ -154,4 +154,93 @@ public class ORidSetTest extends OParserTestAbstract {
 
   }
 
+  @Test public void testIteratorSparse() {
+    Set<ORID> control = new HashSet<>();
+    Set<ORID> set = new ORidSet();
+    long[] positions = { 0, 62, 63, 64, 1000, 100_000, 10L * 1000 * 1000 };
+    for (int cluster : new int[] { 0, 5, 300 }) {
+      for (long position : positions) {
+        ORecordId rid = new ORecordId(cluster, position);
+        set.add(rid);
+        control.add(rid);
+      }
+    }
+
+    Set<ORID> iterated = new HashSet<>();
+    for (ORID rid : set) {
+      Assert.assertTrue(iterated.add(rid.copy()));
+    }
+    Assert.assertEquals(control, iterated);
+  }
+
+  @Test public void testAddAll() {
+    ORidSet set = new ORidSet();
+    set.add(new ORecordId(12, 10));
+    set.add(new ORecordId(12, 100));
+
+    ORidSet other = new ORidSet();
+    other.add(new ORecordId(12, 100));
+    other.add(new ORecordId(12, 200_000));
+    other.add(new ORecordId(30, 5));
+
+    Assert.assertTrue(set.addAll(other));
+    Assert.assertEquals(4, set.size());
+    Assert.assertTrue(set.contains(new ORecordId(12, 10)));
+    Assert.assertTrue(set.contains(new ORecordId(12, 100)));
+    Assert.assertTrue(set.contains(new ORecordId(12, 200_000)));
+    Assert.assertTrue(set.contains(new ORecordId(30, 5)));
+    Assert.assertFalse(set.addAll(other));
+
+    Set<ORID> rids = new HashSet<>();
+    rids.add(new ORecordId(40, 1));
+    Assert.assertTrue(set.addAll(rids));
+    Assert.assertEquals(5, set.size());
+  }
+
+  @Test public void testRetainAll() {
+    ORidSet set = new ORidSet();
+    ORidSet other = new ORidSet();
+    for (long i = 0; i < 1000; i++) {
+      set.add(new ORecordId(12, i));
+      if (i % 3 == 0) {
+        other.add(new ORecordId(12, i));
+      }
+    }
+    set.add(new ORecordId(13, 5));
+    other.add(new ORecordId(14, 5));
+
+    Assert.assertTrue(set.retainAll(other));
+    Assert.assertEquals(334, set.size());
+    for (long i = 0; i < 1000; i++) {
+      Assert.assertEquals(i % 3 == 0, set.contains(new ORecordId(12, i)));
+    }
+    Assert.assertFalse(set.contains(new ORecordId(13, 5)));
+    Assert.assertFalse(set.contains(new ORecordId(14, 5)));
+
+    int count = 0;
+    for (ORID rid : set) {
+      Assert.assertEquals(0, rid.getClusterPosition() % 3);
+      count++;
+    }
+    Assert.assertEquals(334, count);
+
+    Assert.assertTrue(set.retainAll(new ORidSet()));
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertFalse(set.iterator().hasNext());
+    set.add(new ORecordId(12, 3));
+    Assert.assertTrue(set.contains(new ORecordId(12, 3)));
+  }
+
+  @Test public void testRetainAllCollection() {
+    ORidSet set = new ORidSet();
+    set.add(new ORecordId(12, 1));
+    set.add(new ORecordId(12, 2));
+
+    Set<ORID> rids = new HashSet<>();
+    rids.add(new ORecordId(12, 2));
+    Assert.assertTrue(set.retainAll(rids));
+    Assert.assertEquals(1, set.size());
+    Assert.assertTrue(set.contains(new ORecordId(12, 2)));
+  }
+
 }
@@ -0,0 +1,139 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.fs.OFileClassic;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+public class OPackedPagesMapTest {
+  private static final int PAGE_SIZE = 4 * 1024;
+
+  private Path         storagePath;
+  private OFileClassic file;
+  private Path         mapPath;
+
+  @Before
+  public void before() throws IOException {
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.FALSE);
+
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    storagePath = Paths.get(buildDirectory).resolve("OPackedPagesMapTest");
+    Files.createDirectories(storagePath);
+
+    final Path dataPath = storagePath.resolve("packed.pcl");
+    mapPath = OPackedPagesMap.mapPath(dataPath);
+
+    file = new OFileClassic(dataPath);
+    if (file.exists()) {
+      file.delete();
+    }
+    file.create();
+    Files.deleteIfExists(mapPath);
+  }
+
+  @After
+  public void after() throws IOException {
+    file.delete();
+    Files.deleteIfExists(mapPath);
+    Files.deleteIfExists(storagePath);
+
+    OGlobalConfiguration.STORAGE_EXCLUSIVE_FILE_ACCESS.setValue(Boolean.TRUE);
+  }
+
+  @Test
+  public void testWriteReadAndReload() throws IOException {
+    final Random random = new Random(42);
+    final OPackedPagesMap map = OPackedPagesMap.create(mapPath, PAGE_SIZE, OLZ4Compression.NAME, false);
+
+    final int pages = 100;
+    final byte[][] contents = new byte[pages][];
+    for (int i = 0; i < pages; i++) {
+      Assert.assertEquals(i, map.allocatePage());
+
+      //half of the pages are not compressible
+      contents[i] = page(random, i % 2 == 0);
+      map.writePage(file, i, ByteBuffer.wrap(contents[i]));
+    }
+
+    //page which was allocated but never written
+    Assert.assertEquals(pages, map.allocatePage());
+
+    assertPages(map, contents);
+    Assert.assertTrue(file.getFileSize() < (long) pages * PAGE_SIZE);
+
+    map.save(file, false);
+
+    final OPackedPagesMap loadedMap = OPackedPagesMap.load(mapPath, PAGE_SIZE, file);
+    Assert.assertEquals(pages + 1, loadedMap.getPagesCount());
+    assertPages(loadedMap, contents);
+
+    final ByteBuffer empty = ByteBuffer.allocate(PAGE_SIZE);
+    Assert.assertFalse(loadedMap.readPage(file, pages, empty));
+    Assert.assertArrayEquals(new byte[PAGE_SIZE], empty.array());
+  }
+
+  @Test
+  public void testSlotsAreReusedAfterSave() throws IOException {
+    final Random random = new Random(42);
+    final OPackedPagesMap map = OPackedPagesMap.create(mapPath, PAGE_SIZE, OLZ4Compression.NAME, false);
+
+    final int pages = 10;
+    final byte[][] contents = new byte[pages][];
+    for (int i = 0; i < pages; i++) {
+      map.allocatePage();
+    }
+
+    long fileSize = -1;
+    for (int n = 0; n < 50; n++) {
+      for (int i = 0; i < pages; i++) {
+        contents[i] = page(random, random.nextBoolean());
+        map.writePage(file, i, ByteBuffer.wrap(contents[i]));
+      }
+
+      map.save(file, false);
+
+      if (n == 10) {
+        fileSize = file.getFileSize();
+      } else if (n > 10) {
+        Assert.assertTrue(file.getFileSize() <= fileSize);
+      }
+    }
+
+    assertPages(OPackedPagesMap.load(mapPath, PAGE_SIZE, file), contents);
+
+    map.truncate(file);
+    map.save(file, false);
+    Assert.assertEquals(0, OPackedPagesMap.load(mapPath, PAGE_SIZE, file).getPagesCount());
+  }
+
+  private void assertPages(final OPackedPagesMap map, final byte[][] contents) throws IOException {
+    for (int i = 0; i < contents.length; i++) {
+      final ByteBuffer buffer = ByteBuffer.allocate(PAGE_SIZE);
+      Assert.assertTrue(map.readPage(file, i, buffer));
+      Assert.assertArrayEquals(contents[i], buffer.array());
+    }
+  }
+
+  private static byte[] page(final Random random, final boolean compressible) {
+    final byte[] content = new byte[PAGE_SIZE];
+    if (compressible) {
+      for (int i = 0; i < content.length; i++) {
+        content[i] = (byte) (i % 7 + random.nextInt(2));
+      }
+    } else {
+      random.nextBytes(content);
+    }
+
+    return content;
+  }
+}
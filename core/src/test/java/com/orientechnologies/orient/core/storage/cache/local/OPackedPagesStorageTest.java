@@ -0,0 +1,76 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.compression.impl.OLZ4Compression;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+public class OPackedPagesStorageTest {
+  private static final String DB_NAME = "packedPagesStorageTest";
+
+  private OrientDB orientDB;
+  private File     dbDirectory;
+
+  @Before
+  public void before() {
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    dbDirectory = new File(buildDirectory, "packedPagesStorageTest");
+    OFileUtils.deleteRecursively(dbDirectory);
+
+    orientDB = new OrientDB("embedded:" + dbDirectory.getAbsolutePath(),
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.STORAGE_PAGE_COMPRESSION_METHOD, OLZ4Compression.NAME).build());
+    orientDB.create(DB_NAME, ODatabaseType.PLOCAL);
+  }
+
+  @After
+  public void after() {
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+    OFileUtils.deleteRecursively(dbDirectory);
+  }
+
+  @Test
+  public void testDataSurvivesReopen() {
+    final int records = 10_000;
+
+    try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      final OClass person = session.createClass("Person");
+      person.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+      for (int i = 0; i < records; i++) {
+        final OElement element = session.newElement("Person");
+        element.setProperty("name", "name" + (i % 100));
+        element.setProperty("description", "description of the person which is stored in packed pages number " + i);
+        session.save(element);
+      }
+    }
+
+    orientDB.close();
+    orientDB = new OrientDB("embedded:" + dbDirectory.getAbsolutePath(), OrientDBConfig.defaultConfig());
+
+    final File[] maps = new File(dbDirectory, DB_NAME).listFiles((dir, name) -> name.endsWith(OPackedPagesMap.EXTENSION));
+    Assert.assertNotNull(maps);
+    Assert.assertTrue(maps.length > 0);
+
+    try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      Assert.assertEquals(records, session.countClass("Person"));
+
+      try (OResultSet resultSet = session.query("select count(*) as count from Person where name = ?", "name42")) {
+        Assert.assertEquals(records / 100, ((Number) resultSet.next().getProperty("count")).intValue());
+      }
+    }
+  }
+}
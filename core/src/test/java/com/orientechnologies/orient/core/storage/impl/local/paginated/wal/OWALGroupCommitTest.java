@@ -0,0 +1,149 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class OWALGroupCommitTest {
+  @Test
+  public void testConcurrentCommitsShareFlush() throws Exception {
+    final int threads = 8;
+    final int commits = 200;
+
+    final CountingWAL wal = new CountingWAL();
+    final OWALGroupCommit groupCommit = new OWALGroupCommit(wal, 2_000, 64);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < threads; n++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < commits; i++) {
+            groupCommit.commitStarted();
+            final OLogSequenceNumber lsn;
+            try {
+              lsn = wal.logRecord();
+            } finally {
+              groupCommit.commitFinished();
+            }
+
+            groupCommit.waitTillDurable(lsn);
+            Assert.assertTrue(wal.getFlushedLsn().compareTo(lsn) >= 0);
+          }
+          return null;
+        }));
+      }
+
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertEquals(wal.flushes.get(), groupCommit.getFlushes());
+    Assert.assertTrue(groupCommit.getFlushes() < threads * commits);
+  }
+
+  @Test
+  public void testFlushErrorIsPropagated() {
+    final CountingWAL wal = new CountingWAL();
+    wal.fail = true;
+
+    final OWALGroupCommit groupCommit = new OWALGroupCommit(wal, 0, 1);
+    try {
+      groupCommit.waitTillDurable(wal.logRecord());
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    wal.fail = false;
+    final OLogSequenceNumber lsn = wal.logRecord();
+    groupCommit.waitTillDurable(lsn);
+    Assert.assertTrue(wal.getFlushedLsn().compareTo(lsn) >= 0);
+  }
+
+  @Test
+  public void testDurableCommitOnStorage() {
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    final File dbDirectory = new File(buildDirectory, "walGroupCommitTest");
+    OFileUtils.deleteRecursively(dbDirectory);
+
+    final OrientDB orientDB = new OrientDB("embedded:" + dbDirectory.getAbsolutePath(),
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.WAL_DURABLE_COMMIT, true).build());
+    try {
+      orientDB.create("walGroupCommitTest", ODatabaseType.PLOCAL);
+      try (ODatabaseSession session = orientDB.open("walGroupCommitTest", "admin", "admin")) {
+        session.createClass("Item");
+
+        session.begin();
+        final OElement element = session.newElement("Item");
+        element.setProperty("value", 1);
+        session.save(element);
+        session.commit();
+
+        final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) ((ODatabaseDocumentInternal) session).getStorage();
+        final OWriteAheadLog wal = storage.getWALInstance();
+        Assert.assertTrue(wal.getFlushedLsn().compareTo(wal.end()) >= 0);
+        Assert.assertEquals(1, session.countClass("Item"));
+      }
+
+      orientDB.drop("walGroupCommitTest");
+    } finally {
+      orientDB.close();
+      OFileUtils.deleteRecursively(dbDirectory);
+    }
+  }
+
+  private static final class CountingWAL extends OMemoryWriteAheadLog {
+    private final AtomicLong    position = new AtomicLong();
+    private final AtomicInteger flushes  = new AtomicInteger();
+
+    private volatile OLogSequenceNumber flushedLsn = new OLogSequenceNumber(0, 0);
+    private volatile boolean            fail;
+
+    OLogSequenceNumber logRecord() {
+      return new OLogSequenceNumber(0, position.incrementAndGet());
+    }
+
+    @Override
+    public void flush() {
+      final OLogSequenceNumber lsn = new OLogSequenceNumber(0, position.get());
+      if (fail) {
+        throw new IllegalStateException("Flush failed");
+      }
+
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      flushes.incrementAndGet();
+      flushedLsn = lsn;
+    }
+
+    @Override
+    public OLogSequenceNumber getFlushedLsn() {
+      return flushedLsn;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.orientechnologies.orient.core.storage.ridbag.sbtree;
+
+import com.orientechnologies.DatabaseAbstractTest;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OSBTreeRidBagSizeTest extends DatabaseAbstractTest {
+  private int topThreshold;
+
+  @Before
+  public void beforeMethod() {
+    topThreshold = OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.getValueAsInteger();
+    OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.setValue(-1);
+  }
+
+  @After
+  public void afterMethod() {
+    OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.setValue(topThreshold);
+  }
+
+  @Test
+  public void testDegree() {
+    database.createEdgeClass("Follows");
+    database.createEdgeClass("Likes");
+
+    OVertex vertex = database.newVertex();
+    vertex.save();
+    OEdge toRemove = null;
+    for (int i = 0; i < 3; i++) {
+      OVertex other = database.newVertex();
+      other.save();
+      OEdge edge = database.newEdge(vertex, other, "Follows");
+      edge.save();
+      toRemove = edge;
+    }
+    OVertex liked = database.newVertex();
+    liked.save();
+    database.newEdge(vertex, liked, "Likes").save();
+
+    database.getLocalCache().clear();
+    ODocument loaded = database.load(vertex.getIdentity());
+    ORidBag follows = loaded.field("out_Follows");
+    Assert.assertFalse(follows.isEmbedded());
+
+    try (OResultSet rs = database
+        .query("SELECT out('Follows').size() AS follows, outE('Likes').size() AS likes, both().size() AS neighbours FROM ?",
+            vertex.getIdentity())) {
+      OResult item = rs.next();
+      Assert.assertEquals(3, (int) item.getProperty("follows"));
+      Assert.assertEquals(1, (int) item.getProperty("likes"));
+      Assert.assertEquals(4, (int) item.getProperty("neighbours"));
+    }
+
+    toRemove.delete();
+
+    try (OResultSet rs = database.query("SELECT out('Follows').size() AS follows FROM ?", vertex.getIdentity())) {
+      Assert.assertEquals(2, (int) rs.next().getProperty("follows"));
+    }
+  }
+}
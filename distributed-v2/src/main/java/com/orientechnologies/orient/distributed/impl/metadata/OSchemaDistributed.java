@@ -95,6 +95,7 @@ public class OSchemaDistributed extends OSchemaEmbedded {
       cmd.append(config.getQuery());
       cmd.append(") METADATA {");
       cmd.append(", updateIntervalSeconds: " + config.getUpdateIntervalSeconds());
+      cmd.append(", updatePriority: " + config.getUpdatePriority());
       if (config.getWatchClasses() != null && config.getWatchClasses().size() > 0) {
         cmd.append(", watchClasses: [\"");
         cmd.append(config.getWatchClasses().stream().collect(Collectors.joining("\",\"")));
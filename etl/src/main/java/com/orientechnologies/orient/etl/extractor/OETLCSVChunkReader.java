@@ -0,0 +1,124 @@
+/*
+ *
+ *  * Copyright 2010-2016 OrientDB LTD (info(-at-)orientdb.com)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *      http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ */
+
+package com.orientechnologies.orient.etl.extractor;
+
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits CSV content in chunks of raw text which always end on a record boundary, so every chunk can be parsed independently.
+ * Only quotes, escapes and comment lines are recognized, which makes splitting much cheaper than parsing: a new line terminates a
+ * record only if it is not inside a quoted value.
+ */
+class OETLCSVChunkReader {
+  private static final int NONE = -1;
+
+  private final Reader reader;
+  private final int    quote;
+  private final int    escape;
+  private final int    commentMarker;
+
+  private final char[] buffer = new char[64 * 1024];
+  private       int    position;
+  private       int    limit;
+
+  OETLCSVChunkReader(final Reader reader, final CSVFormat format) {
+    this.reader = reader;
+    this.quote = format.getQuoteCharacter() == null ? NONE : format.getQuoteCharacter();
+    this.escape = format.getEscapeCharacter() == null ? NONE : format.getEscapeCharacter();
+    this.commentMarker = format.getCommentMarker() == null ? NONE : format.getCommentMarker();
+  }
+
+  /**
+   * @return raw text of the next record (or comment line), including the line terminator, null if the end of the content was
+   * reached
+   */
+  String nextRecord() throws IOException {
+    final StringBuilder builder = new StringBuilder();
+    return readRecord(builder) ? builder.toString() : null;
+  }
+
+  /**
+   * @param size minimum size of the chunk in chars, the chunk is bigger if the last record crosses this limit
+   *
+   * @return raw text of the next records, null if the end of the content was reached
+   */
+  String nextChunk(final int size) throws IOException {
+    final StringBuilder builder = new StringBuilder(size + 1024);
+    while (builder.length() < size) {
+      if (!readRecord(builder)) {
+        break;
+      }
+    }
+
+    return builder.length() > 0 ? builder.toString() : null;
+  }
+
+  private boolean readRecord(final StringBuilder builder) throws IOException {
+    final int start = builder.length();
+
+    boolean lineStart = true;
+    boolean comment = false;
+    boolean inQuotes = false;
+
+    while (true) {
+      final int c = read();
+      if (c < 0) {
+        return builder.length() > start;
+      }
+      builder.append((char) c);
+
+      if (lineStart && c == commentMarker) {
+        comment = true;
+      }
+      lineStart = false;
+
+      if (comment) {
+        if (c == '\n') {
+          return true;
+        }
+      } else if (c == escape) {
+        final int escaped = read();
+        if (escaped >= 0) {
+          builder.append((char) escaped);
+        }
+      } else if (c == quote) {
+        inQuotes = !inQuotes;
+      } else if (c == '\n' && !inQuotes) {
+        return true;
+      }
+    }
+  }
+
+  private int read() throws IOException {
+    if (position == limit) {
+      limit = reader.read(buffer, 0, buffer.length);
+      position = 0;
+
+      if (limit <= 0) {
+        limit = 0;
+        return -1;
+      }
+    }
+
+    return buffer[position++];
+  }
+}
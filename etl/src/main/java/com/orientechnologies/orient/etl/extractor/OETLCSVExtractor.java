@@ -28,10 +28,16 @@ import org.apache.commons.csv.CSVRecord;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 
 /**
@@ -53,6 +59,20 @@ public class OETLCSVExtractor extends OETLAbstractSourceExtractor {
   private String dateFormat     = "yyyy-MM-dd";
   private String dateTimeFormat = "yyyy-MM-dd hh:mm";
 
+  // PARALLEL PARSING
+  private boolean                                    parallelParsing = false;
+  private boolean                                    keepOrder       = true;
+  private int                                        parsingThreads  = Runtime.getRuntime().availableProcessors();
+  private int                                        chunkSize       = 1024 * 1024;
+  private OETLCSVChunkReader                         chunkReader;
+  private CSVFormat                                  chunkFormat;
+  private ExecutorService                            parsingExecutor;
+  private ExecutorCompletionService<List<ODocument>> completedChunks;
+  private Deque<Future<List<ODocument>>>             pendingChunks;
+  private int                                        pendingChunksCount;
+  private boolean                                    allChunksRead;
+  private Iterator<ODocument>                        chunkIterator;
+
   @Override
   public ODocument getConfiguration() {
     return new ODocument().fromJSON(
@@ -67,7 +87,11 @@ public class OETLCSVExtractor extends OETLAbstractSourceExtractor {
             + "{ignoreMissingColumns:{optional:true,description:'Ignore empty columns',type:'boolean'}},"
             + "{skipFrom:{optional:true,description:'Line number where start to skip',type:'int'}},"
             + "{skipTo:{optional:true,description:'Line number where skip ends',type:'int'}},"
-            + "{predefinedFormat:{optional:true,description:'Name of standard csv format (from Apache commons-csv): Default, Excel, MySQL, RFC4180, TDF',type:'String'}}"
+            + "{predefinedFormat:{optional:true,description:'Name of standard csv format (from Apache commons-csv): Default, Excel, MySQL, RFC4180, TDF',type:'String'}},"
+            + "{parallelParsing:{optional:true,description:'Parse and convert chunks of rows in parallel. Not supported with skipFrom/skipTo',type:'boolean'}},"
+            + "{parsingThreads:{optional:true,description:'Number of threads used by parallel parsing. Default is the number of cores',type:'int'}},"
+            + "{chunkSize:{optional:true,description:'Minimum size in chars of the chunks parsed in parallel. Default is 1M',type:'int'}},"
+            + "{keepOrder:{optional:true,description:'Keep the input order of rows with parallel parsing. Default is true',type:'boolean'}}"
             + "],input:['String'],output:'ODocument'}");
   }
 
@@ -162,12 +186,36 @@ public class OETLCSVExtractor extends OETLAbstractSourceExtractor {
       }
     }
 
+    if (iConfiguration.containsField("parallelParsing")) {
+      parallelParsing = iConfiguration.<Boolean>field("parallelParsing");
+    }
+
+    if (iConfiguration.containsField("parsingThreads")) {
+      parsingThreads = Math.max(1, ((Number) iConfiguration.field("parsingThreads")).intValue());
+    }
+
+    if (iConfiguration.containsField("chunkSize")) {
+      chunkSize = Math.max(1, ((Number) iConfiguration.field("chunkSize")).intValue());
+    }
+
+    if (iConfiguration.containsField("keepOrder")) {
+      keepOrder = iConfiguration.<Boolean>field("keepOrder");
+    }
+
+    if (parallelParsing && (skipFrom > -1 || skipTo > -1)) {
+      log(Level.INFO, "parallel parsing is disabled because skipFrom/skipTo need sequential record numbers");
+      parallelParsing = false;
+    }
   }
 
   @Override
   public void extract(final Reader iReader) {
     super.extract(iReader);
     try {
+      if (parallelParsing) {
+        startParallelParsing(iReader);
+        return;
+      }
 
       CSVParser parser = new CSVParser(iReader, csvFormat);
 
@@ -177,8 +225,122 @@ public class OETLCSVExtractor extends OETLAbstractSourceExtractor {
     }
   }
 
+  private void startParallelParsing(final Reader iReader) throws IOException {
+    chunkReader = new OETLCSVChunkReader(iReader, csvFormat);
+
+    // THE HEADER IS RESOLVED HERE, CHUNKS ARE PARSED WITH EXPLICIT COLUMN NAMES
+    String[] header = csvFormat.getHeader();
+    if (header != null && (header.length == 0 || csvFormat.getSkipHeaderRecord())) {
+      final CSVRecord headerRecord = readFirstRecord();
+      if (headerRecord != null && header.length == 0) {
+        header = new String[headerRecord.size()];
+        for (int i = 0; i < header.length; i++) {
+          header[i] = headerRecord.get(i);
+        }
+      }
+    }
+    chunkFormat = header != null ? csvFormat.withHeader(header).withSkipHeaderRecord(false) : csvFormat;
+
+    parsingExecutor = Executors.newFixedThreadPool(parsingThreads);
+    completedChunks = new ExecutorCompletionService<List<ODocument>>(parsingExecutor);
+    pendingChunks = new ArrayDeque<Future<List<ODocument>>>();
+    pendingChunksCount = 0;
+    allChunksRead = false;
+
+    log(Level.INFO, "parsing CSV in chunks of %d chars with %d threads", chunkSize, parsingThreads);
+  }
+
+  private CSVRecord readFirstRecord() throws IOException {
+    final CSVFormat recordFormat = csvFormat.withHeader((String[]) null);
+
+    String text;
+    while ((text = chunkReader.nextRecord()) != null) {
+      final CSVParser parser = new CSVParser(new StringReader(text), recordFormat);
+      try {
+        final Iterator<CSVRecord> records = parser.iterator();
+        if (records.hasNext()) {
+          return records.next();
+        }
+      } finally {
+        parser.close();
+      }
+    }
+    return null;
+  }
+
+  private boolean hasNextParsedInParallel() {
+    while (chunkIterator == null || !chunkIterator.hasNext()) {
+      submitChunks();
+      if (pendingChunksCount == 0) {
+        return false;
+      }
+
+      chunkIterator = takeParsedChunk().iterator();
+    }
+
+    current++;
+    next = new OETLExtractedItem(current, chunkIterator.next());
+    return true;
+  }
+
+  private void submitChunks() {
+    try {
+      while (!allChunksRead && pendingChunksCount < parsingThreads * 2) {
+        final String chunk = chunkReader.nextChunk(chunkSize);
+        if (chunk == null) {
+          allChunksRead = true;
+          break;
+        }
+
+        if (keepOrder) {
+          // consumed in submission order, the completion queue would keep every parsed chunk referenced
+          pendingChunks.add(parsingExecutor.submit(() -> parseChunk(chunk)));
+        } else {
+          completedChunks.submit(() -> parseChunk(chunk));
+        }
+        pendingChunksCount++;
+      }
+    } catch (IOException e) {
+      throw new OETLExtractorException(e);
+    }
+  }
+
+  private List<ODocument> takeParsedChunk() {
+    try {
+      final Future<List<ODocument>> future = keepOrder ? pendingChunks.poll() : completedChunks.take();
+      pendingChunksCount--;
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new OETLExtractorException(e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new OETLExtractorException("Error on parsing CSV chunk", e);
+    }
+  }
+
+  private List<ODocument> parseChunk(final String chunk) throws IOException {
+    final List<ODocument> documents = new ArrayList<ODocument>();
+    final CSVParser parser = new CSVParser(new StringReader(chunk), chunkFormat);
+    try {
+      for (CSVRecord csvRecord : parser) {
+        documents.add(toDocument(csvRecord));
+      }
+    } finally {
+      parser.close();
+    }
+    return documents;
+  }
+
   @Override
   public boolean hasNext() {
+    if (parallelParsing) {
+      return hasNextParsedInParallel();
+    }
+
     if (recordIterator.hasNext()) {
       CSVRecord csvRecord = recordIterator.next();
 
@@ -197,6 +359,16 @@ public class OETLCSVExtractor extends OETLAbstractSourceExtractor {
   }
 
   private OETLExtractedItem fetchNext(CSVRecord csvRecord) {
+    ODocument doc = toDocument(csvRecord);
+    current++;
+    return new OETLExtractedItem(current, doc);
+  }
+
+  /**
+   * Converts a CSV record to a document. It is invoked concurrently with parallel parsing, so it must not change the state of the
+   * extractor.
+   */
+  private ODocument toDocument(CSVRecord csvRecord) {
     ODocument doc = new ODocument();
     final Map<String, String> recordAsMap = csvRecord.toMap();
 
@@ -238,8 +410,7 @@ public class OETLCSVExtractor extends OETLAbstractSourceExtractor {
     }
 
     log(Level.FINE, "document=%s", doc);
-    current++;
-    return new OETLExtractedItem(current, doc);
+    return doc;
   }
 
   private Object determineTheType(String fieldStringValue) {
@@ -326,4 +497,14 @@ public class OETLCSVExtractor extends OETLAbstractSourceExtractor {
     return next;
   }
 
+  @Override
+  public void end() {
+    if (parsingExecutor != null) {
+      parsingExecutor.shutdownNow();
+      parsingExecutor = null;
+    }
+
+    super.end();
+  }
+
 }
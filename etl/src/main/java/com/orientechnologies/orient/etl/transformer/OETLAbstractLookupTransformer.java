@@ -18,11 +18,16 @@
 
 package com.orientechnologies.orient.etl.transformer;
 
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexCursor;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
@@ -31,20 +36,37 @@ import com.orientechnologies.orient.etl.context.OETLContextWrapper;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
 
 /**
  * Merges two records. Useful when a record needs to be updated rather than created.
  */
 public abstract class OETLAbstractLookupTransformer extends OETLAbstractTransformer {
+  private static final Object NOT_FOUND = new Object();
+
   protected String joinFieldName;
   protected Object joinValue;
   protected String lookup;
   protected ACTION unresolvedLinkAction = ACTION.NOTHING;
+  protected int     batchSize;
+  protected boolean cacheUnresolved;
   private OSQLQuery<ODocument> sqlQuery;
   private OIndex<?>            index;
 
+  /**
+   * Resolved join values. Values are the RIDs found, or {@link #NOT_FOUND} for unresolved join values.
+   */
+  private Map<Object, Object> cache;
+  private final LongAdder cacheHits   = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
+
   @Override
   public void configure(final ODocument iConfiguration, OCommandContext iContext) {
     super.configure(iConfiguration, iContext);
@@ -59,31 +81,45 @@ public abstract class OETLAbstractLookupTransformer extends OETLAbstractTransfor
 
     if (iConfiguration.containsField("unresolvedLinkAction"))
       unresolvedLinkAction = ACTION.valueOf(iConfiguration.field("unresolvedLinkAction").toString().toUpperCase(Locale.ENGLISH));
+
+    if (iConfiguration.containsField("cacheSize")) {
+      final int cacheSize = Integer.parseInt(resolve(iConfiguration.field("cacheSize")).toString());
+      if (cacheSize > 0)
+        cache = new ConcurrentLinkedHashMap.Builder<Object, Object>().maximumWeightedCapacity(cacheSize).build();
+    }
+
+    if (iConfiguration.containsField("cacheUnresolved"))
+      cacheUnresolved = Boolean.parseBoolean(resolve(iConfiguration.field("cacheUnresolved")).toString());
+
+    if (iConfiguration.containsField("batchSize"))
+      batchSize = Integer.parseInt(resolve(iConfiguration.field("batchSize")).toString());
+  }
+
+  protected String getLookupConfigurationParameters() {
+    return "{cacheSize:{optional:true,description:'Maximum number of join values whose lookup result is cached (LRU). Default is 0, no cache'}},"
+        + "{cacheUnresolved:{optional:true,description:'Cache also join values which were not resolved. Default is false'}},"
+        + "{batchSize:{optional:true,description:'Maximum number of join values of a multi-value join resolved by a single index query. Default is 0, one query per value'}}";
   }
 
   protected Object lookup(ODatabaseDocument db, Object joinValue, final boolean iReturnRIDS) {
     Object result = null;
 
     if (joinValue != null) {
-      if (sqlQuery == null && index == null) {
-        // ONLY THE FIRST TIME
-        if (lookup.toUpperCase(Locale.ENGLISH).startsWith("SELECT"))
-          sqlQuery = new OSQLSynchQuery<ODocument>(lookup);
-        else {
-          index = db.getMetadata().getIndexManager().getIndex(lookup);
-          if (index == null) {
-            OETLContextWrapper
-                .getInstance().getMessageHandler().warn(this, "WARNING: index %s not found. Lookups could be really slow", lookup);
-            final String[] parts = lookup.split("\\.");
-            sqlQuery = new OSQLSynchQuery<ODocument>("SELECT FROM " + parts[0] + " WHERE " + parts[1] + " = ?");
-          }
+      init(db);
+
+      final boolean cacheable = cache != null && isCacheable(joinValue);
+      if (cacheable) {
+        final Object cached = cache.get(joinValue);
+        if (cached != null) {
+          cacheHits.increment();
+          return fromCache(cached, iReturnRIDS);
         }
+        cacheMisses.increment();
       }
 
       if (index != null) {
         final OType idxFieldType = index.getDefinition().getTypes()[0];
-        joinValue = OType.convert(joinValue, idxFieldType.getDefaultJavaType());
-        result = index.get(joinValue);
+        result = index.get(OType.convert(joinValue, idxFieldType.getDefaultJavaType()));
       } else {
         if (sqlQuery instanceof OSQLSynchQuery)
           ((OSQLSynchQuery) sqlQuery).resetPagination();
@@ -91,6 +127,9 @@ public abstract class OETLAbstractLookupTransformer extends OETLAbstractTransfor
         result = db.query(sqlQuery, joinValue);
       }
 
+      if (cacheable)
+        putInCache(joinValue, result);
+
       if (result != null && result instanceof Collection) {
         final Collection coll = (Collection) result;
 
@@ -117,6 +156,210 @@ public abstract class OETLAbstractLookupTransformer extends OETLAbstractTransfor
     return result;
   }
 
+  /**
+   * Resolves several join values at once. If lookup is done on a single field index and <code>batchSize</code> is bigger than 1,
+   * join values which are not in the cache are resolved by a single multi-key index query for each batch, otherwise it behaves as
+   * {@link #lookup(ODatabaseDocument, Object, boolean)} called for each value.
+   *
+   * @return lookup results in the same order as the join values
+   */
+  protected List<Object> lookupAll(ODatabaseDocument db, final Object joinValues, final boolean iReturnRIDS) {
+    final List<Object> values = new ArrayList<Object>();
+    for (Object v : OMultiValue.getMultiValueIterable(joinValues))
+      values.add(v);
+
+    final List<Object> results = new ArrayList<Object>(values.size());
+
+    Map<Object, Object> batchResults = null;
+    if (batchSize > 1 && values.size() > 1) {
+      init(db);
+      if (isBatchable())
+        batchResults = batchLookup(values);
+    }
+
+    for (Object v : values) {
+      if (batchResults != null && v != null && batchResults.containsKey(v)) {
+        final Object batchResult = batchResults.get(v);
+        results.add(batchResult != null ? fromCache(batchResult, iReturnRIDS) : null);
+      } else
+        results.add(lookup(db, v, iReturnRIDS));
+    }
+
+    return results;
+  }
+
+  /**
+   * Notifies the lookup cache that a record was created for a join value which was not resolved, so next lookups of the same value
+   * find it.
+   */
+  protected void onUnresolvedCreated(final Object joinValue, final OIdentifiable created) {
+    if (cache == null || joinValue == null || !isCacheable(joinValue))
+      return;
+
+    final ORID rid = created.getIdentity();
+    if (rid.isPersistent())
+      cache.put(joinValue, rid.copy());
+    else
+      // THE RID CHANGES AT COMMIT TIME, LOOKUP IT AGAIN
+      cache.remove(joinValue);
+  }
+
+  @Override
+  public void end() {
+    if (cache != null)
+      log(Level.INFO, "lookup cache hits=%d misses=%d size=%d", cacheHits.sum(), cacheMisses.sum(), cache.size());
+    super.end();
+  }
+
+  private void init(final ODatabaseDocument db) {
+    if (sqlQuery == null && index == null) {
+      // ONLY THE FIRST TIME
+      if (lookup.toUpperCase(Locale.ENGLISH).startsWith("SELECT"))
+        sqlQuery = new OSQLSynchQuery<ODocument>(lookup);
+      else {
+        index = db.getMetadata().getIndexManager().getIndex(lookup);
+        if (index == null) {
+          OETLContextWrapper
+              .getInstance().getMessageHandler().warn(this, "WARNING: index %s not found. Lookups could be really slow", lookup);
+          final String[] parts = lookup.split("\\.");
+          sqlQuery = new OSQLSynchQuery<ODocument>("SELECT FROM " + parts[0] + " WHERE " + parts[1] + " = ?");
+        }
+      }
+    }
+  }
+
+  /**
+   * Keys returned by a multi-key index query can be matched back to join values only if the index is on a single field and does not
+   * change keys by collation.
+   */
+  private boolean isBatchable() {
+    if (index == null)
+      return false;
+
+    final OIndexDefinition definition = index.getDefinition();
+    return definition.getTypes().length == 1 && (definition.getCollate() == null || definition.getCollate() instanceof ODefaultCollate);
+  }
+
+  /**
+   * @return map of join values to lookup results in the cached form, contains only the values resolved by the index query
+   */
+  private Map<Object, Object> batchLookup(final List<Object> values) {
+    final OType idxFieldType = index.getDefinition().getTypes()[0];
+    final Map<Object, Object> results = new HashMap<Object, Object>();
+
+    final Map<Object, List<Object>> keys = new LinkedHashMap<Object, List<Object>>();
+    for (Object v : values) {
+      if (v == null || results.containsKey(v))
+        continue;
+
+      final boolean cacheable = cache != null && isCacheable(v);
+      if (cacheable) {
+        final Object cached = cache.get(v);
+        if (cached != null) {
+          cacheHits.increment();
+          results.put(v, cached == NOT_FOUND ? null : cached);
+          continue;
+        }
+        cacheMisses.increment();
+      }
+
+      final Object key = OType.convert(v, idxFieldType.getDefaultJavaType());
+      if (key == null)
+        continue;
+
+      List<Object> joinValues = keys.get(key);
+      if (joinValues == null) {
+        joinValues = new ArrayList<Object>(1);
+        keys.put(key, joinValues);
+      }
+      joinValues.add(v);
+    }
+
+    final List<Object> batch = new ArrayList<Object>(batchSize);
+    for (Object key : keys.keySet()) {
+      batch.add(key);
+      if (batch.size() == batchSize) {
+        resolveBatch(batch, keys, results);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty())
+      resolveBatch(batch, keys, results);
+
+    return results;
+  }
+
+  private void resolveBatch(final List<Object> batch, final Map<Object, List<Object>> keys, final Map<Object, Object> results) {
+    final Map<Object, List<ORID>> found = new HashMap<Object, List<ORID>>();
+    final OIndexCursor cursor = index.iterateEntries(batch, true);
+    Map.Entry<Object, OIdentifiable> entry;
+    while ((entry = cursor.nextEntry()) != null) {
+      List<ORID> rids = found.get(entry.getKey());
+      if (rids == null) {
+        rids = new ArrayList<ORID>(1);
+        found.put(entry.getKey(), rids);
+      }
+      rids.add(entry.getValue().getIdentity());
+    }
+
+    final boolean unique = index.isUnique();
+    for (Object key : batch) {
+      final List<ORID> rids = found.get(key);
+      final Object result = rids == null ? null : unique ? rids.get(0) : rids;
+
+      for (Object joinValue : keys.get(key)) {
+        results.put(joinValue, result);
+        if (cache != null && isCacheable(joinValue))
+          putInCache(joinValue, result);
+      }
+    }
+  }
+
+  private void putInCache(final Object joinValue, final Object result) {
+    if (result == null || (result instanceof Collection && ((Collection) result).isEmpty())) {
+      if (cacheUnresolved)
+        cache.put(joinValue, NOT_FOUND);
+    } else if (result instanceof OIdentifiable) {
+      final ORID rid = ((OIdentifiable) result).getIdentity();
+      if (rid.isPersistent())
+        cache.put(joinValue, rid.copy());
+    } else if (result instanceof Collection) {
+      final List<ORID> rids = new ArrayList<ORID>(((Collection) result).size());
+      for (Object o : (Collection) result) {
+        if (!(o instanceof OIdentifiable) || !((OIdentifiable) o).getIdentity().isPersistent())
+          // PROJECTIONS OR NEW RECORDS CANNOT BE CACHED AS RIDS
+          return;
+        rids.add(((OIdentifiable) o).getIdentity().copy());
+      }
+      cache.put(joinValue, Collections.unmodifiableList(rids));
+    }
+  }
+
+  private Object fromCache(final Object cached, final boolean iReturnRIDS) {
+    if (cached == NOT_FOUND)
+      return null;
+
+    if (cached instanceof ORID)
+      return iReturnRIDS ? cached : ((ORID) cached).getRecord();
+
+    final List<?> rids = (List<?>) cached;
+    if (iReturnRIDS)
+      return new ArrayList<Object>(rids);
+
+    final List<Object> records = new ArrayList<Object>(rids.size());
+    for (Object rid : rids)
+      records.add(((ORID) rid).getRecord());
+    return records;
+  }
+
+  /**
+   * Only immutable values are used as cache keys.
+   */
+  private static boolean isCacheable(final Object joinValue) {
+    return joinValue instanceof String || joinValue instanceof Number || joinValue instanceof Boolean
+        || joinValue instanceof Character || joinValue instanceof Enum;
+  }
+
   protected enum ACTION {
     NOTHING, WARNING, ERROR, HALT, SKIP, CREATE
   }
@@ -32,6 +32,7 @@ import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.etl.OETLProcessHaltedException;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
 
@@ -48,6 +49,7 @@ public class OETLEdgeTransformer extends OETLAbstractLookupTransformer {
         + "{joinValue:{optional:true,description:'value to use for join'}},"
         + "{joinFieldName:{optional:true,description:'field name containing the value to join'}},"
         + "{lookup:{optional:false,description:'<Class>.<property> or Query to execute'}},"
+        + getLookupConfigurationParameters() + ","
         + "{direction:{optional:true,description:'Direction between \'in\' and \'out\'. Default is \'out\''}},"
         + "{class:{optional:true,description:'Edge class name. Default is \'E\''}},"
         + "{targetVertexFields:{optional:true,description:'Map of fields to set in target vertex. Use ${$input.<field>} to get input field values'}},"
@@ -115,8 +117,9 @@ public class OETLEdgeTransformer extends OETLAbstractLookupTransformer {
 
       if (OMultiValue.isMultiValue(joinCurrentValue)) {
         // RESOLVE SINGLE JOINS
+        final Iterator<Object> lookupResults = lookupAll(db, joinCurrentValue, true).iterator();
         for (Object ob : OMultiValue.getMultiValueIterable(joinCurrentValue)) {
-          final Object r = lookup(db, ob, true);
+          final Object r = lookupResults.next();
           if (createEdge(db, vertex, ob, r) == null) {
             if (unresolvedLinkAction == ACTION.SKIP)
               // RETURN NULL ONLY IN CASE SKIP ACTION IS REQUESTED
@@ -160,6 +163,7 @@ public class OETLEdgeTransformer extends OETLAbstractLookupTransformer {
             log(Level.FINE, "created new vertex=" + linkedV.getRecord());
 
             result = linkedV.getIdentity();
+            onUnresolvedCreated(joinCurrentValue, linkedV);
           } else {
             throw new OConfigurationException("Cannot create linked document because target class is unknown. Use 'lookup' field");
           }
@@ -46,6 +46,7 @@ public class OETLLinkTransformer extends OETLAbstractLookupTransformer {
         + "{linkFieldName:{optional:false,description:'field name containing the link to set'}},"
         + "{linkFieldType:{optional:true,description:'field type containing the link to set. Use LINK for single link and LINKSET or LINKLIST for many'}},"
         + "{lookup:{optional:false,description:'<Class>.<property> or Query to execute'}},"
+        + getLookupConfigurationParameters() + ","
         + "{unresolvedLinkAction:{optional:true,description:'action when a unresolved link is found',values:" + stringArray2Json(
         ACTION.values()) + "}}]," + "input:['ODocument'],output:'ODocument'}");
   }
@@ -84,11 +85,7 @@ public class OETLLinkTransformer extends OETLAbstractLookupTransformer {
     Object result;
     if (OMultiValue.isMultiValue(joinRuntimeValue)) {
       // RESOLVE SINGLE JOINS
-      final Collection<Object> singleJoinsResult = new ArrayList<Object>();
-      for (Object o : OMultiValue.getMultiValueIterable(joinRuntimeValue)) {
-        singleJoinsResult.add(lookup(db, o, true));
-      }
-      result = singleJoinsResult;
+      result = lookupAll(db, joinRuntimeValue, true);
     } else
       result = lookup(db, joinRuntimeValue, true);
 
@@ -128,6 +125,7 @@ public class OETLLinkTransformer extends OETLAbstractLookupTransformer {
             final ODocument linkedDoc = new ODocument(lookupParts[0]);
             linkedDoc.field(lookupParts[1], joinRuntimeValue);
             linkedDoc.save();
+            onUnresolvedCreated(joinRuntimeValue, linkedDoc);
 
             log(Level.FINE, "created new document=%s", linkedDoc.getRecord());
 
@@ -34,6 +34,7 @@ public class OETLLoadTransformer extends OETLAbstractLookupTransformer {
     return new ODocument().fromJSON(
         "{parameters:[" + getCommonConfigurationParameters() + "," + "{joinFieldName:{optional:false,description:'field name containing the value to join'}},"
             + "{lookup:{optional:false,description:'<Class>.<property> or Query to execute'}},"
+            + getLookupConfigurationParameters() + ","
             + "{unresolvedLinkAction:{optional:true,description:'action when a unresolved link is found',values:" + stringArray2Json(ACTION.values()) + "}}],"
             + "input:['ODocument'],output:'ODocument'}");
   }
@@ -11,7 +11,9 @@ import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.*;
@@ -535,4 +537,49 @@ public class OETLCSVExtractorTest extends OETLBaseTest {
     assertThat(doc.<String>field("value")).isEqualTo("myvalue");
   }
 
+
+  @Test
+  public void testParallelParsingKeepsOrder() {
+    StringBuilder content = new StringBuilder("id,name,note");
+    for (int i = 0; i < 1000; ++i) {
+      content.append("\n").append(i).append(",").append(names[i % names.length]);
+      content.append(i % 10 == 0 ? ",\"multi\nline, note\"" : ",plain");
+      if (i % 100 == 0)
+        content.append("\n# comment with a \" quote");
+    }
+    configure("{source: { content: { value: '" + content + "' } }, "
+        + "extractor : { csv: {parallelParsing: true, parsingThreads: 4, chunkSize: 100} }, loader: { test: {} } }");
+    proc.execute();
+
+    List<ODocument> res = getResult();
+    assertThat(res).hasSize(1000);
+    for (int i = 0; i < res.size(); ++i) {
+      ODocument doc = res.get(i);
+      assertThat(doc.<Integer>field("id")).isEqualTo(i);
+      assertThat(doc.<String>field("name")).isEqualTo(names[i % names.length]);
+      assertThat(doc.<String>field("note")).isEqualTo(i % 10 == 0 ? "multi\nline, note" : "plain");
+    }
+  }
+
+  @Test
+  public void testParallelParsingWithColumnsWithoutOrder() {
+    StringBuilder content = new StringBuilder("num,name");
+    for (int i = 0; i < 500; ++i)
+      content.append("\n").append(i).append(",").append(names[i % names.length]);
+    configure("{source: { content: { value: '" + content + "' } }, "
+        + "extractor : { csv: {parallelParsing: true, chunkSize: 64, keepOrder: false, columns: ['num:INTEGER','name:STRING']} }, "
+        + "loader: { test: {} } }");
+    proc.execute();
+
+    List<ODocument> res = getResult();
+    assertThat(res).hasSize(500);
+    Set<Integer> nums = new HashSet<Integer>();
+    for (ODocument doc : res) {
+      int num = doc.<Integer>field("num");
+      assertThat(doc.<String>field("name")).isEqualTo(names[num % names.length]);
+      nums.add(num);
+    }
+    assertThat(nums).hasSize(500);
+  }
+
 }
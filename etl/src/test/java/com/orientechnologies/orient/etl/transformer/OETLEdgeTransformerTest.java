@@ -35,6 +35,7 @@ import org.junit.Test;
 
 import java.io.File;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.*;
@@ -127,6 +128,69 @@ public class OETLEdgeTransformerTest extends OETLBaseTest {
 
   }
 
+  @Test
+  public void testCachedLookupWithCreate() {
+    configure("{source: { content: { value: 'name,friend\nJay,Mark\nBob,Mark\nAnn,Luca\nTom,Mark' } }, extractor : { csv: {} },"
+        + " transformers: [{vertex: {class:'V1'}}, {edge:{class:'Friend',joinFieldName:'friend',lookup:'V2.name',"
+        + "unresolvedLinkAction:'CREATE',cacheSize:100,cacheUnresolved:true}},"
+        + "], loader: { orientdb: { dbURL: 'memory:" + name.getMethodName() + "', dbType:'graph', useLightweightEdges:false } } }");
+
+    OETLLoader loader = proc.getLoader();
+    ODatabasePool pool = loader.getPool();
+    ODatabaseDocument db = pool.acquire();
+    createClasses(db);
+    db.close();
+
+    proc.execute();
+    db = pool.acquire();
+
+    assertEquals(4, db.countClass("V1"));
+    // THE UNRESOLVED VERTEX IS CREATED ONLY ONCE
+    assertEquals(2, db.countClass("V2"));
+    assertEquals(4, db.countClass("Friend"));
+
+    OResultSet resultSet = db.query("SELECT in('Friend').size() as friends FROM V2 WHERE name = 'Mark'");
+    assertEquals(3, (int) resultSet.next().<Integer>getProperty("friends"));
+    resultSet.close();
+    db.close();
+  }
+
+  @Test
+  public void testBatchedLookupMultipleValues() {
+    configure("{source: { content: { value: 'name,friends\nJay,Luca;Mark;Ann\nBob,Mark' } }, extractor : { csv: {} },"
+        + " transformers: [{vertex: {class:'V1'}}, {field:{fieldName:'friends',expression:\"friends.split(';')\"}},"
+        + "{edge:{class:'Friend',joinFieldName:'friends',lookup:'V2.name',batchSize:2,cacheSize:100}},"
+        + "], loader: { orientdb: { dbURL: 'memory:" + name.getMethodName() + "', dbType:'graph', useLightweightEdges:false } } }");
+
+    OETLLoader loader = proc.getLoader();
+    ODatabasePool pool = loader.getPool();
+    ODatabaseDocument db = pool.acquire();
+    createClasses(db);
+    db.getClass("V2").createProperty("name", OType.STRING);
+    db.getClass("V2").createIndex("V2.name", OClass.INDEX_TYPE.NOTUNIQUE, "name");
+
+    OVertex vertex = db.newVertex("V2");
+    vertex.setProperty("name", "Mark");
+    db.save(vertex);
+    db.commit();
+    db.close();
+
+    proc.execute();
+    db = pool.acquire();
+
+    assertEquals(2, db.countClass("V1"));
+    assertEquals(2, db.countClass("V2"));
+    assertEquals(3, db.countClass("Friend"));
+
+    OResultSet resultSet = db.query("SELECT out('Friend').name as friends FROM V1 WHERE name = 'Jay'");
+    final List<String> friends = resultSet.next().getProperty("friends");
+    assertEquals(2, friends.size());
+    assertTrue(friends.contains("Luca"));
+    assertTrue(friends.contains("Mark"));
+    resultSet.close();
+    db.close();
+  }
+
   @Test
   public void testEdgeWithProperties() {
     configure(
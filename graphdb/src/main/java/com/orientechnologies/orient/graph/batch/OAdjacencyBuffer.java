@@ -0,0 +1,423 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.graph.batch;
+
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.io.OIOException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Buffer of <code>(key, value)</code> pairs of longs, used to collect the adjacency lists of a graph without boxing. Pairs are kept
+ * in direct memory, when the buffer reaches its maximum capacity they are sorted and spilled to a temporary file as a sorted run.
+ * Once all pairs are added, {@link #cursor(int)} merges the runs, so values are read grouped by key in one sequential pass.
+ * <p>
+ * Keys are split in partitions by <code>key % partitions</code>, every partition is sorted and read independently, so several
+ * threads may read different partitions at once.
+ * <p>
+ * Buffer has to be closed to release direct memory and to delete temporary files.
+ *
+ * @since 19.10.26
+ */
+final class OAdjacencyBuffer {
+  private static final int PAIR_SIZE        = 16;
+  private static final int MIN_CAPACITY     = 1024;
+  private static final int MAX_CAPACITY     = Integer.MAX_VALUE / PAIR_SIZE;
+  private static final int READ_BUFFER_SIZE = 16 * 1024;
+  private static final int INSERTION_SORT   = 16;
+
+  private final ODirectMemoryAllocator allocator = ODirectMemoryAllocator.instance();
+  private final int                    partitions;
+  private final int                    initialCapacity;
+  private final int                    maxCapacity;
+  private final Path                   tempDirectory;
+  private final List<Run>              runs      = new ArrayList<Run>();
+
+  private OPointer   pointer;
+  private ByteBuffer buffer;
+  private int        capacity;
+  private int        size;
+  private boolean    finished;
+
+  /**
+   * @param partitions      number of partitions keys are split in
+   * @param initialCapacity initial number of pairs kept in memory, the buffer grows up to <code>maxCapacity</code>
+   * @param maxCapacity     maximum number of pairs kept in memory, further pairs spill sorted runs to disk
+   * @param tempDirectory   directory of the spilled runs, null for the default temporary directory
+   */
+  OAdjacencyBuffer(final int partitions, final int initialCapacity, final int maxCapacity, final Path tempDirectory) {
+    this.partitions = partitions;
+    this.maxCapacity = Math.max(MIN_CAPACITY, Math.min(maxCapacity, MAX_CAPACITY));
+    this.initialCapacity = Math.max(MIN_CAPACITY, Math.min(initialCapacity, this.maxCapacity));
+    this.tempDirectory = tempDirectory;
+  }
+
+  void add(final long key, final long value) {
+    if (finished)
+      throw new IllegalStateException("Adjacency buffer is already complete");
+
+    if (size == capacity) {
+      if (capacity < maxCapacity)
+        resize(buffer == null ? initialCapacity : (int) Math.min((long) capacity << 1, maxCapacity));
+      else
+        spill();
+    }
+
+    final int offset = size * PAIR_SIZE;
+    buffer.putLong(offset, key);
+    buffer.putLong(offset + 8, value);
+    size++;
+  }
+
+  /**
+   * Completes the buffer, no pairs can be added after this call. If nothing was spilled the pairs are sorted in memory, otherwise
+   * the rest of the pairs is spilled as the last run.
+   */
+  void finish() {
+    if (finished)
+      return;
+    finished = true;
+
+    if (size == 0)
+      return;
+
+    if (runs.isEmpty()) {
+      sort(0, size - 1);
+      runs.add(new Run(null, partitionStarts()));
+    } else
+      spill();
+  }
+
+  /**
+   * @return cursor over the pairs of the partition ordered by key, has to be closed after use
+   */
+  Cursor cursor(final int partition) {
+    if (!finished)
+      throw new IllegalStateException("Adjacency buffer is not complete");
+
+    final Cursor cursor = new Cursor();
+    try {
+      for (Run run : runs) {
+        final long from = run.starts[partition];
+        final long to = run.starts[partition + 1];
+        if (from < to)
+          cursor.add(run.open(from, to));
+      }
+    } catch (IOException e) {
+      cursor.close();
+      throw OException.wrapException(new OIOException("Cannot read adjacency run"), e);
+    }
+    return cursor;
+  }
+
+  /**
+   * @return number of runs spilled to disk
+   */
+  int getSpilledRuns() {
+    int spilled = 0;
+    for (Run run : runs)
+      if (run.path != null)
+        spilled++;
+    return spilled;
+  }
+
+  void close() {
+    if (pointer != null) {
+      allocator.deallocate(pointer);
+      pointer = null;
+      buffer = null;
+      capacity = 0;
+      size = 0;
+    }
+
+    for (Run run : runs) {
+      if (run.path != null)
+        try {
+          Files.deleteIfExists(run.path);
+        } catch (IOException e) {
+          // THE FILE IS IN THE TEMPORARY DIRECTORY ANYWAY
+        }
+    }
+    runs.clear();
+  }
+
+  private void resize(final int newCapacity) {
+    final OPointer newPointer = allocator.allocate(newCapacity * PAIR_SIZE, -1);
+    final ByteBuffer newBuffer = newPointer.getNativeByteBuffer();
+    if (buffer != null) {
+      final ByteBuffer content = buffer.duplicate();
+      content.position(0);
+      content.limit(size * PAIR_SIZE);
+      final ByteBuffer target = newBuffer.duplicate();
+      target.position(0);
+      target.put(content);
+      allocator.deallocate(pointer);
+    }
+
+    pointer = newPointer;
+    buffer = newBuffer;
+    capacity = newCapacity;
+  }
+
+  private void spill() {
+    sort(0, size - 1);
+    final long[] starts = partitionStarts();
+
+    Path path = null;
+    try {
+      path = tempDirectory != null ?
+          Files.createTempFile(tempDirectory, "orientdb-batch-", ".run") :
+          Files.createTempFile("orientdb-batch-", ".run");
+      runs.add(new Run(path, starts));
+
+      final ByteBuffer content = buffer.duplicate();
+      content.position(0);
+      content.limit(size * PAIR_SIZE);
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        while (content.hasRemaining())
+          channel.write(content);
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(new OIOException("Cannot spill adjacency run to " + path), e);
+    }
+
+    size = 0;
+  }
+
+  /**
+   * @return index of the first pair of every partition in the sorted buffer, last item is the amount of pairs
+   */
+  private long[] partitionStarts() {
+    final long[] starts = new long[partitions + 1];
+    int partition = 0;
+    for (int i = 0; i < size; i++) {
+      final int current = partition(key(i));
+      while (partition < current)
+        starts[++partition] = i;
+    }
+    while (partition < partitions)
+      starts[++partition] = size;
+    return starts;
+  }
+
+  private int partition(final long key) {
+    return (int) (key % partitions);
+  }
+
+  private long key(final int index) {
+    return buffer.getLong(index * PAIR_SIZE);
+  }
+
+  private int compare(final long key1, final long key2) {
+    final int partition1 = partition(key1);
+    final int partition2 = partition(key2);
+    if (partition1 != partition2)
+      return partition1 < partition2 ? -1 : 1;
+    return Long.compare(key1, key2);
+  }
+
+  private void swap(final int i, final int j) {
+    final int offsetI = i * PAIR_SIZE;
+    final int offsetJ = j * PAIR_SIZE;
+    final long key = buffer.getLong(offsetI);
+    final long value = buffer.getLong(offsetI + 8);
+    buffer.putLong(offsetI, buffer.getLong(offsetJ));
+    buffer.putLong(offsetI + 8, buffer.getLong(offsetJ + 8));
+    buffer.putLong(offsetJ, key);
+    buffer.putLong(offsetJ + 8, value);
+  }
+
+  /**
+   * Quick sort with three way partitioning, high degree vertices produce long sequences of equal keys.
+   */
+  private void sort(int low, int high) {
+    while (high - low >= INSERTION_SORT) {
+      final int middle = (low + high) >>> 1;
+      if (compare(key(middle), key(low)) < 0)
+        swap(middle, low);
+      if (compare(key(high), key(low)) < 0)
+        swap(high, low);
+      if (compare(key(high), key(middle)) < 0)
+        swap(high, middle);
+      final long pivot = key(middle);
+
+      int lt = low;
+      int gt = high;
+      int i = low;
+      while (i <= gt) {
+        final int cmp = compare(key(i), pivot);
+        if (cmp < 0)
+          swap(lt++, i++);
+        else if (cmp > 0)
+          swap(i, gt--);
+        else
+          i++;
+      }
+
+      // RECURSE ON THE SMALLER PART TO BOUND THE STACK DEPTH
+      if (lt - low < high - gt) {
+        sort(low, lt - 1);
+        low = gt + 1;
+      } else {
+        sort(gt + 1, high);
+        high = lt - 1;
+      }
+    }
+
+    for (int i = low + 1; i <= high; i++)
+      for (int j = i; j > low && compare(key(j), key(j - 1)) < 0; j--)
+        swap(j, j - 1);
+  }
+
+  private final class Run {
+    private final Path   path;
+    private final long[] starts;
+
+    private Run(final Path path, final long[] starts) {
+      this.path = path;
+      this.starts = starts;
+    }
+
+    private RunReader open(final long from, final long to) throws IOException {
+      if (path == null) {
+        final ByteBuffer content = buffer.duplicate().order(buffer.order());
+        content.limit((int) to * PAIR_SIZE);
+        content.position((int) from * PAIR_SIZE);
+        return new RunReader(null, content, 0, 0);
+      }
+
+      final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE).order(buffer.order());
+      readBuffer.limit(0);
+      return new RunReader(FileChannel.open(path, StandardOpenOption.READ), readBuffer, from * PAIR_SIZE, to * PAIR_SIZE);
+    }
+  }
+
+  private static final class RunReader {
+    private final FileChannel channel;
+    private final ByteBuffer  data;
+    private final long        end;
+    private       long        position;
+
+    private long key;
+    private long value;
+
+    private RunReader(final FileChannel channel, final ByteBuffer data, final long position, final long end) {
+      this.channel = channel;
+      this.data = data;
+      this.position = position;
+      this.end = end;
+    }
+
+    /**
+     * @return false if the run is exhausted
+     */
+    private boolean next() throws IOException {
+      if (!data.hasRemaining() && !fill())
+        return false;
+
+      key = data.getLong();
+      value = data.getLong();
+      return true;
+    }
+
+    private boolean fill() throws IOException {
+      if (channel == null || position >= end)
+        return false;
+
+      data.clear();
+      if (end - position < data.capacity())
+        data.limit((int) (end - position));
+
+      while (data.hasRemaining()) {
+        final int read = channel.read(data, position);
+        if (read < 0)
+          throw new IOException("Unexpected end of adjacency run");
+        position += read;
+      }
+
+      data.flip();
+      return true;
+    }
+
+    private void close() {
+      if (channel != null)
+        try {
+          channel.close();
+        } catch (IOException e) {
+          // NOTHING TO RELEASE
+        }
+    }
+  }
+
+  /**
+   * Merges the runs of a partition, pairs are returned ordered by key.
+   */
+  static final class Cursor {
+    private final PriorityQueue<RunReader> queue   = new PriorityQueue<RunReader>(16, (r1, r2) -> Long.compare(r1.key, r2.key));
+    private final List<RunReader>          readers = new ArrayList<RunReader>();
+
+    private void add(final RunReader reader) throws IOException {
+      readers.add(reader);
+      if (reader.next())
+        queue.add(reader);
+    }
+
+    boolean hasCurrent() {
+      return !queue.isEmpty();
+    }
+
+    long key() {
+      return queue.peek().key;
+    }
+
+    long value() {
+      return queue.peek().value;
+    }
+
+    void next() {
+      final RunReader reader = queue.poll();
+      try {
+        if (reader.next())
+          queue.add(reader);
+      } catch (IOException e) {
+        throw OException.wrapException(new OIOException("Cannot read adjacency run"), e);
+      }
+    }
+
+    void close() {
+      for (RunReader reader : readers)
+        reader.close();
+      readers.clear();
+      queue.clear();
+    }
+  }
+}
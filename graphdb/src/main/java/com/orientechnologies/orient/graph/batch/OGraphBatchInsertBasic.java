@@ -13,10 +13,7 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.tinkerpop.blueprints.impls.orient.OrientEdgeType;
 import com.tinkerpop.blueprints.impls.orient.OrientVertexType;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.file.Paths;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -52,6 +49,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * batch.createVertex() is needed only if you want to create unconnected vertices.
  *
+ * The topology is buffered as pairs of primitive longs in direct memory. When more than {@link #setEdgeBufferSize(int)} edges are
+ * created, they are sorted and spilled to temporary files, which are merged when {@link #end()} is called, so graphs with billions
+ * of edges can be imported with a modest heap.
+ *
  * @since 2.0 M3
  * @author Luigi Dell'Aquila (l.dellaquila-(at)-orientdb.com) (l.dellaquila-at-orientdb.com)
  */
@@ -60,8 +61,10 @@ public class OGraphBatchInsertBasic {
   private final String              userName;
   private final String              dbUrl;
   private final String              password;
-  Map<Long, List<Long>>             out                      = new HashMap<Long, List<Long>>();
-  Map<Long, List<Long>>             in                       = new HashMap<Long, List<Long>>();
+  private static final long         NO_EDGE                  = -1;
+
+  OAdjacencyBuffer                  out;
+  OAdjacencyBuffer                  in;
   private String                    idPropertyName           = "uid";
   private String                    edgeClass                = OrientEdgeType.CLASS_NAME;
   private String                    vertexClass              = OrientVertexType.CLASS_NAME;
@@ -74,6 +77,9 @@ public class OGraphBatchInsertBasic {
   private long                      last                     = 0;
   private boolean                   walActive;
 
+  private int                       edgeBufferSize           = 4 * 1024 * 1024;
+  private String                    tempDirectory;
+
   private int                       parallel                 = 4;
   private AtomicInteger             runningThreads;
 
@@ -89,6 +95,8 @@ public class OGraphBatchInsertBasic {
 
     @Override
     public void run() {
+      OAdjacencyBuffer.Cursor outCursor = null;
+      OAdjacencyBuffer.Cursor inCursor = null;
       try {
         ODatabaseDocumentInternal db = new ODatabaseDocumentTx(dbUrl);
         db.open(userName, password);
@@ -101,34 +109,32 @@ public class OGraphBatchInsertBasic {
         String clusterName = db.getStorage().getClusterById(clusterId).getName();
         // long firstAvailableClusterPosition = lastClusterPositions[mod] + 1;
 
+        outCursor = out.cursor(mod);
+        inCursor = in.cursor(mod);
         for (long i = mod; i <= last; i += parallel) {
-          final List<Long> outIds = out.get(i);
-          final List<Long> inIds = in.get(i);
+          final ORidBag outBag = readBag(outCursor, i);
+          final ORidBag inBag = readBag(inCursor, i);
           final ODocument doc = new ODocument(vClass);
-          if (outIds == null && inIds == null) {
+          if (outBag == null && inBag == null) {
             db.save(doc, clusterName).delete();
           } else {
             doc.field(idPropertyName, i);
-            if (outIds != null) {
-              final ORidBag outBag = new ORidBag();
-              for (Long l : outIds) {
-                final ORecordId rid = new ORecordId(getClusterId(l), getClusterPosition(l));
-                outBag.add(rid);
-              }
+            if (outBag != null) {
               doc.field(outField, outBag);
             }
-            if (inIds != null) {
-              final ORidBag inBag = new ORidBag();
-              for (Long l : inIds) {
-                final ORecordId rid = new ORecordId(getClusterId(l), getClusterPosition(l));
-                inBag.add(rid);
-              }
+            if (inBag != null) {
               doc.field(inField, inBag);
             }
             db.save(doc, clusterName);
           }
         }
       } finally {
+        if (outCursor != null) {
+          outCursor.close();
+        }
+        if (inCursor != null) {
+          inCursor.close();
+        }
         runningThreads.decrementAndGet();
         synchronized (runningThreads) {
           runningThreads.notifyAll();
@@ -138,6 +144,24 @@ public class OGraphBatchInsertBasic {
         db.close();
       }
     }
+
+    /**
+     * @return the adjacency of the vertex read from the cursor positioned on it, null if the vertex has no entries
+     */
+    private ORidBag readBag(final OAdjacencyBuffer.Cursor cursor, final long vertex) {
+      ORidBag bag = null;
+      while (cursor.hasCurrent() && cursor.key() == vertex) {
+        if (bag == null) {
+          bag = new ORidBag();
+        }
+        final long other = cursor.value();
+        if (other != NO_EDGE) {
+          bag.add(new ORecordId(getClusterId(other), getClusterPosition(other)));
+        }
+        cursor.next();
+      }
+      return bag;
+    }
   }
 
   /**
@@ -191,8 +215,8 @@ public class OGraphBatchInsertBasic {
     }
     createBaseSchema();
 
-    out = estimatedEntries > 0 ? new HashMap<Long, List<Long>>(estimatedEntries) : new HashMap<Long, List<Long>>();
-    in = estimatedEntries > 0 ? new HashMap<Long, List<Long>>(estimatedEntries) : new HashMap<Long, List<Long>>();
+    out = createAdjacencyBuffer();
+    in = createAdjacencyBuffer();
 
     OClass vClass = db.getMetadata().getSchema().getClass(this.vertexClass);
     int[] existingClusters = vClass.getClusterIds();
@@ -220,6 +244,8 @@ public class OGraphBatchInsertBasic {
     final OClass vClass = db.getMetadata().getSchema().getClass(vertexClass);
 
     try {
+      out.finish();
+      in.finish();
 
       runningThreads = new AtomicInteger(parallel);
       for (int i = 0; i < parallel - 1; i++) {
@@ -241,6 +267,8 @@ public class OGraphBatchInsertBasic {
       }
 
     } finally {
+      out.close();
+      in.close();
       db.activateOnCurrentThread();
       db.declareIntent(null);
       db.close();
@@ -256,11 +284,11 @@ public class OGraphBatchInsertBasic {
    *          the vertex ID
    */
   public void createVertex(final Long v) {
-    last = last < v ? v : last;
-    final List<Long> outList = out.get(v);
-    if (outList == null) {
-      out.put(v, new ArrayList<Long>(averageEdgeNumberPerNode <= 0 ? 4 : averageEdgeNumberPerNode));
+    if (v < 0) {
+      throw new IllegalArgumentException(" Invalid vertex id: " + v);
     }
+    last = last < v ? v : last;
+    out.add(v, NO_EDGE);
   }
 
   /**
@@ -280,8 +308,8 @@ public class OGraphBatchInsertBasic {
     }
     last = last < from ? from : last;
     last = last < to ? to : last;
-    putInList(from, out, to);
-    putInList(to, in, from);
+    out.add(from, to);
+    in.add(to, from);
   }
 
   /**
@@ -377,13 +405,49 @@ public class OGraphBatchInsertBasic {
 
   /**
    * Sets the estimated number of entries, 0 for auto-resize (default). This pre-allocate in memory structure avoiding resizing of
-   * them at run-time.
+   * them at run-time. The in memory structure does not grow beyond {@link #getEdgeBufferSize()}.
    *
    */
   public void setEstimatedEntries(final int estimatedEntries) {
     this.estimatedEntries = estimatedEntries;
   }
 
+  /**
+   * @return the maximum number of edges buffered in memory (for each direction) before they are spilled to disk
+   */
+  public int getEdgeBufferSize() {
+    return edgeBufferSize;
+  }
+
+  /**
+   * Sets the maximum number of edges buffered in memory before they are sorted and spilled to a temporary file, every edge takes
+   * 16 bytes of direct memory for each direction (default 4M edges). Use it before calling begin()
+   *
+   * @param edgeBufferSize
+   *          maximum number of buffered edges
+   */
+  public void setEdgeBufferSize(final int edgeBufferSize) {
+    this.edgeBufferSize = edgeBufferSize;
+  }
+
+  /**
+   * @return the directory of the temporary files with spilled edges, null for the default temporary directory
+   */
+  public String getTempDirectory() {
+    return tempDirectory;
+  }
+
+  /**
+   * Sets the directory of the temporary files with spilled edges (default is the system temporary directory). Use it before
+   * calling begin()
+   *
+   * @param tempDirectory
+   *          path of the directory
+   */
+  public void setTempDirectory(final String tempDirectory) {
+    this.tempDirectory = tempDirectory;
+  }
+
   /**
    *
    * @return number of parallel threads used for batch import
@@ -402,13 +466,8 @@ public class OGraphBatchInsertBasic {
     this.parallel = parallel;
   }
 
-  private void putInList(final Long key, final Map<Long, List<Long>> out, final Long value) {
-    List<Long> list = out.get(key);
-    if (list == null) {
-      list = new ArrayList<Long>(averageEdgeNumberPerNode <= 0 ? 4 : averageEdgeNumberPerNode);
-      out.put(key, list);
-    }
-    list.add(value);
+  private OAdjacencyBuffer createAdjacencyBuffer() {
+    return new OAdjacencyBuffer(parallel, estimatedEntries, edgeBufferSize, tempDirectory != null ? Paths.get(tempDirectory) : null);
   }
 
   private void createBaseSchema() {
@@ -0,0 +1,492 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.graph.graphml;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.db.tool.ODatabaseImportException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Imports a stream of vertices and edges in two parallel phases, used by {@link OGraphMLReader} and {@link OGraphSONReader} when
+ * more than one thread is configured.
+ * <p>
+ * In the first phase vertices are created in batches by a pool of threads while the input is still being parsed, the RIDs of the
+ * created vertices are recorded in a {@link OVertexIdMap} by their external id. Edges found in the input are spooled to temporary
+ * files, partitioned by the external id of their source vertex. Once the input is over, the second phase creates the edges: every
+ * thread takes a partition, so all the edges of a source vertex are created by the same thread, and edges are grouped by source
+ * vertex in chunks to update every source vertex once per chunk. Vertices referred by edges but not found in the input are created
+ * when the edges are.
+ * <p>
+ * A vertex whose external id was already found in the input is not created again, as in the sequential import its properties
+ * update the vertex created first. Such updates are applied in input order after the first phase, so the result does not depend on
+ * the order in which threads create the vertices.
+ * <p>
+ * Every thread works on its own non transactional copy of the graph.
+ *
+ * @since 19.10.26
+ */
+class OGraphImportPipeline {
+  private static final String CLASS_PREFIX = "class:";
+
+  /**
+   * RID of the vertices which are parsed but not created yet.
+   */
+  private static final ORID NOT_CREATED = new ORecordId();
+
+  private final OrientBaseGraph                graph;
+  private final int                            parallel;
+  private final int                            batchSize;
+  private final OCommandOutputListener         output;
+  private final OVertexIdMap                   vertexIds        = new OVertexIdMap();
+  private final BlockingQueue<OrientGraphNoTx> workerGraphs;
+  private final ExecutorService                executor;
+  private final Semaphore                      pendingBatches;
+  private final Set<String>                    vertexClasses    = new HashSet<String>();
+  private final Set<String>                    edgeClasses      = new HashSet<String>();
+  private final AtomicLong                     importedVertices = new AtomicLong();
+  private final AtomicLong                     importedEdges    = new AtomicLong();
+
+  private final Path[]             edgeFiles;
+  private final DataOutputStream[] edgeOutputs;
+
+  private          List<PendingVertex> vertexBatch;
+  private final    List<PendingVertex> vertexUpdates = new ArrayList<PendingVertex>();
+  private volatile Throwable           failure;
+
+  /**
+   * @param graph     graph to import to
+   * @param parallel  number of threads
+   * @param batchSize number of vertices created by a thread at once, and number of edges grouped by source vertex
+   * @param output    listener of the progress messages, may be null
+   */
+  OGraphImportPipeline(final OrientBaseGraph graph, final int parallel, final int batchSize, final OCommandOutputListener output) {
+    this.graph = graph;
+    this.parallel = parallel;
+    this.batchSize = Math.max(1, batchSize);
+    this.output = output;
+    this.workerGraphs = new ArrayBlockingQueue<OrientGraphNoTx>(parallel);
+    this.pendingBatches = new Semaphore(parallel * 2);
+    this.edgeFiles = new Path[parallel];
+    this.edgeOutputs = new DataOutputStream[parallel];
+    this.vertexBatch = new ArrayList<PendingVertex>(this.batchSize);
+
+    try {
+      for (int i = 0; i < parallel; i++) {
+        edgeFiles[i] = Files.createTempFile("orientdb-import-edges-", ".bin");
+        edgeOutputs[i] = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(edgeFiles[i].toFile()), 64 * 1024));
+      }
+
+      for (int i = 0; i < parallel; i++)
+        workerGraphs.add(createWorkerGraph());
+    } catch (IOException e) {
+      close();
+      throw OException.wrapException(new ODatabaseImportException("Cannot create temporary files of imported edges"), e);
+    } finally {
+      graph.makeActive();
+    }
+
+    this.executor = Executors.newFixedThreadPool(parallel);
+  }
+
+  /**
+   * Schedules the creation of a vertex.
+   *
+   * @param externalId id of the vertex in the imported file, null if the vertex is not referred by edges
+   * @param vertexId   Blueprints id passed to {@link OrientBaseGraph#addVertex(Object, Object...)}, can contain the class name
+   * @param properties properties of the vertex
+   */
+  void addVertex(final String externalId, final Object vertexId, final Map<String, Object> properties) {
+    checkFailure();
+
+    if (externalId != null && !vertexIds.putIfAbsent(externalId, NOT_CREATED)) {
+      vertexUpdates.add(new PendingVertex(externalId, vertexId, properties));
+      return;
+    }
+
+    if (vertexId instanceof String)
+      for (String part : ((String) vertexId).split(","))
+        if (part.startsWith(CLASS_PREFIX) && vertexClasses.add(part)) {
+          // CREATE CLASSES BEFORE THE WORKERS USE THEM, SO THEY DO NOT TRY TO CREATE THE SAME CLASS AT ONCE
+          final String className = part.substring(CLASS_PREFIX.length());
+          if (graph.getVertexType(className) == null)
+            graph.createVertexType(className);
+        }
+
+    vertexBatch.add(new PendingVertex(externalId, vertexId, properties));
+    if (vertexBatch.size() >= batchSize)
+      flushVertices();
+  }
+
+  /**
+   * Spools an edge, edges are created by {@link #complete()}.
+   *
+   * @param outId      external id of the source vertex
+   * @param inId       external id of the destination vertex
+   * @param label      label of the edge
+   * @param properties properties of the edge, may be null
+   */
+  void addEdge(final String outId, final String inId, final String label, final Map<String, Object> properties) {
+    checkFailure();
+
+    if (label != null && graph.isUseClassForEdgeLabel() && edgeClasses.add(label)) {
+      final String className = OrientBaseGraph.encodeClassName(label);
+      if (graph.getEdgeType(className) == null)
+        graph.createEdgeType(className);
+    }
+
+    final DataOutputStream out = edgeOutputs[partition(outId)];
+    try {
+      writeString(out, outId);
+      writeString(out, inId);
+      writeString(out, label);
+      if (properties == null || properties.isEmpty())
+        out.writeInt(-1);
+      else {
+        final byte[] content = new ODocument().fromMap(properties).toStream();
+        out.writeInt(content.length);
+        out.write(content);
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(new ODatabaseImportException("Cannot spool imported edge"), e);
+    }
+  }
+
+  /**
+   * Waits for the creation of all the vertices, then creates the edges.
+   */
+  void complete() {
+    flushVertices();
+    awaitVertices();
+    updateVertices();
+
+    try {
+      for (DataOutputStream out : edgeOutputs)
+        out.close();
+    } catch (IOException e) {
+      throw OException.wrapException(new ODatabaseImportException("Cannot spool imported edges"), e);
+    }
+
+    final List<Future<?>> futures = new ArrayList<Future<?>>(parallel);
+    for (int i = 0; i < parallel; i++) {
+      final Path edgeFile = edgeFiles[i];
+      futures.add(executor.submit(() -> {
+        final OrientGraphNoTx workerGraph = workerGraphs.take();
+        try {
+          workerGraph.makeActive();
+          createEdges(workerGraph, edgeFile);
+        } finally {
+          workerGraphs.add(workerGraph);
+        }
+        return null;
+      }));
+    }
+
+    for (Future<?> future : futures)
+      try {
+        future.get();
+      } catch (Exception e) {
+        throw OException.wrapException(new ODatabaseImportException("Error on importing edges"), e);
+      }
+
+    graph.makeActive();
+  }
+
+  long getImportedVertices() {
+    return importedVertices.get();
+  }
+
+  long getImportedEdges() {
+    return importedEdges.get();
+  }
+
+  /**
+   * Stops the threads, closes the graph copies and deletes the temporary files.
+   */
+  void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      try {
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    OrientGraphNoTx workerGraph;
+    while ((workerGraph = workerGraphs.poll()) != null)
+      workerGraph.shutdown(false, false);
+
+    for (int i = 0; i < parallel; i++) {
+      try {
+        if (edgeOutputs[i] != null)
+          edgeOutputs[i].close();
+        if (edgeFiles[i] != null)
+          Files.deleteIfExists(edgeFiles[i]);
+      } catch (IOException e) {
+        // THE FILE IS IN THE TEMPORARY DIRECTORY ANYWAY
+      }
+    }
+
+    graph.makeActive();
+  }
+
+  private OrientGraphNoTx createWorkerGraph() {
+    final OrientGraphNoTx workerGraph = new OrientGraphNoTx(graph.getRawGraph().copy());
+    workerGraph.setUseLightweightEdges(graph.isUseLightweightEdges());
+    workerGraph.setUseClassForEdgeLabel(graph.isUseClassForEdgeLabel());
+    workerGraph.setUseClassForVertexLabel(graph.isUseClassForVertexLabel());
+    workerGraph.setUseVertexFieldsForEdgeLabels(graph.isUseVertexFieldsForEdgeLabels());
+    workerGraph.setSaveOriginalIds(graph.isSaveOriginalIds());
+    workerGraph.setStandardElementConstraints(graph.isStandardElementConstraints());
+    workerGraph.setMaxRetries(graph.getMaxRetries());
+    return workerGraph;
+  }
+
+  private void flushVertices() {
+    if (vertexBatch.isEmpty())
+      return;
+
+    final List<PendingVertex> batch = vertexBatch;
+    vertexBatch = new ArrayList<PendingVertex>(batchSize);
+
+    try {
+      // LIMIT THE PARSED VERTICES KEPT IN MEMORY
+      pendingBatches.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ODatabaseImportException("Import interrupted");
+    }
+
+    executor.submit(() -> {
+      OrientGraphNoTx workerGraph = null;
+      try {
+        workerGraph = workerGraphs.take();
+        workerGraph.makeActive();
+        createVertices(workerGraph, batch);
+      } catch (Throwable t) {
+        if (failure == null)
+          failure = t;
+      } finally {
+        if (workerGraph != null)
+          workerGraphs.add(workerGraph);
+        pendingBatches.release();
+      }
+    });
+  }
+
+  private void awaitVertices() {
+    try {
+      pendingBatches.acquire(parallel * 2);
+      pendingBatches.release(parallel * 2);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ODatabaseImportException("Import interrupted");
+    }
+    checkFailure();
+  }
+
+  private void checkFailure() {
+    final Throwable t = failure;
+    if (t != null)
+      throw OException.wrapException(new ODatabaseImportException("Error on importing vertices"), t);
+  }
+
+  private void createVertices(final OrientGraphNoTx workerGraph, final List<PendingVertex> batch) {
+    for (PendingVertex pending : batch) {
+      final OrientVertex vertex = workerGraph.addVertex(pending.vertexId, pending.properties);
+      if (pending.externalId != null)
+        vertexIds.put(pending.externalId, vertex.getIdentity());
+
+      printStatus(importedVertices.incrementAndGet(), importedEdges.get());
+    }
+    workerGraph.getRawGraph().getLocalCache().invalidate();
+  }
+
+  /**
+   * Applies the properties of the vertices found more than once in the input to the vertices created for their first occurrence.
+   */
+  private void updateVertices() {
+    for (PendingVertex pending : vertexUpdates)
+      graph.getVertex(vertexIds.get(pending.externalId)).setProperties(pending.properties);
+    vertexUpdates.clear();
+  }
+
+  private void createEdges(final OrientGraphNoTx workerGraph, final Path edgeFile) throws IOException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(edgeFile.toFile()), 64 * 1024))) {
+      final List<PendingEdge> chunk = new ArrayList<PendingEdge>(batchSize);
+      while (readEdges(in, chunk)) {
+        // GROUP BY SOURCE VERTEX, SO EVERY SOURCE VERTEX IS LOADED AND UPDATED ONCE IN THE CHUNK
+        chunk.sort((e1, e2) -> e1.outId.compareTo(e2.outId));
+
+        String currentOutId = null;
+        OrientVertex outVertex = null;
+        for (PendingEdge edge : chunk) {
+          if (!edge.outId.equals(currentOutId)) {
+            currentOutId = edge.outId;
+            outVertex = resolveVertex(workerGraph, edge.outId);
+          }
+          final OrientVertex inVertex = resolveVertex(workerGraph, edge.inId);
+
+          outVertex.addEdge(null, inVertex, edge.label, null, edge.properties);
+          printStatus(importedVertices.get(), importedEdges.incrementAndGet());
+        }
+
+        chunk.clear();
+        workerGraph.getRawGraph().getLocalCache().invalidate();
+      }
+    }
+  }
+
+  private boolean readEdges(final DataInputStream in, final List<PendingEdge> chunk) throws IOException {
+    while (chunk.size() < batchSize) {
+      final String outId;
+      try {
+        outId = readString(in);
+      } catch (EOFException e) {
+        break;
+      }
+      final String inId = readString(in);
+      final String label = readString(in);
+
+      final Map<String, Object> properties = new HashMap<String, Object>();
+      final int length = in.readInt();
+      if (length >= 0) {
+        final byte[] content = new byte[length];
+        in.readFully(content);
+
+        final ODocument document = new ODocument().fromStream(content);
+        for (String fieldName : document.fieldNames())
+          properties.put(fieldName, document.field(fieldName));
+      }
+
+      chunk.add(new PendingEdge(outId, inId, label, properties));
+    }
+    return !chunk.isEmpty();
+  }
+
+  /**
+   * @return the vertex with passed in external id, created if it was not found in the input
+   */
+  private OrientVertex resolveVertex(final OrientGraphNoTx workerGraph, final String externalId) {
+    ORID rid = vertexIds.get(externalId);
+    if (rid == null) {
+      synchronized (vertexIds) {
+        rid = vertexIds.get(externalId);
+        if (rid == null) {
+          final OrientVertex vertex = workerGraph.addVertex(null);
+          vertexIds.putIfAbsent(externalId, vertex.getIdentity());
+          printStatus(importedVertices.incrementAndGet(), importedEdges.get());
+          return vertex;
+        }
+      }
+    }
+    return workerGraph.getVertex(rid);
+  }
+
+  private int partition(final String externalId) {
+    return (externalId.hashCode() & Integer.MAX_VALUE) % parallel;
+  }
+
+  private void printStatus(final long vertices, final long edges) {
+    if (output != null && (vertices + edges) % 50000 == 0)
+      synchronized (output) {
+        output.onMessage(
+            String.format("Imported %d graph elements: %d vertices and %d edges", vertices + edges, vertices, edges));
+      }
+  }
+
+  private static void writeString(final DataOutputStream out, final String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(final DataInputStream in) throws IOException {
+    final int length = in.readInt();
+    if (length < 0)
+      return null;
+    final byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static final class PendingVertex {
+    private final String              externalId;
+    private final Object              vertexId;
+    private final Map<String, Object> properties;
+
+    private PendingVertex(final String externalId, final Object vertexId, final Map<String, Object> properties) {
+      this.externalId = externalId;
+      this.vertexId = vertexId;
+      this.properties = properties;
+    }
+  }
+
+  private static final class PendingEdge {
+    private final String              outId;
+    private final String              inId;
+    private final String              label;
+    private final Map<String, Object> properties;
+
+    private PendingEdge(final String outId, final String inId, final String label, final Map<String, Object> properties) {
+      this.outId = outId;
+      this.inId = inId;
+      this.label = label;
+      this.properties = properties;
+    }
+  }
+}
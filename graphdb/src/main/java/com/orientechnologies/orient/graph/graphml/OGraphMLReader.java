@@ -60,6 +60,7 @@ public class OGraphMLReader {
   private String                              edgeLabelKey        = GraphMLTokens.LABEL;
   private boolean                             storeVertexIds      = false;
   private int                                 batchSize           = 1000;
+  private int                                 parallel            = 1;
   private Map<String, OGraphMLImportStrategy> vertexPropsStrategy = new HashMap<String, OGraphMLImportStrategy>();
   private Map<String, OGraphMLImportStrategy> edgePropsStrategy   = new HashMap<String, OGraphMLImportStrategy>();
   private OCommandOutputListener              output;
@@ -177,6 +178,7 @@ public class OGraphMLReader {
 
     XMLInputFactory inputFactory = XMLInputFactory.newInstance();
 
+    OGraphImportPipeline pipeline = null;
     try {
       XMLStreamReader reader = inputFactory.createXMLStreamReader(graphMLInputStream);
 
@@ -185,6 +187,10 @@ public class OGraphMLReader {
       if (storeVertexIds)
         graph.setSaveOriginalIds(storeVertexIds);
 
+      if (parallel > 1 && vertexIdKey != null)
+        // EDGES REFER TO VERTICES BY ID, SO THEY CAN BE CREATED AFTER ALL THE VERTICES
+        pipeline = new OGraphImportPipeline(graph, parallel, bufferSize, output);
+
       Map<String, String> keyIdMap = new HashMap<String, String>();
       Map<String, String> keyTypesMaps = new HashMap<String, String>();
       // <Mapped ID String, ID Object>
@@ -202,6 +208,7 @@ public class OGraphMLReader {
       String edgeLabel = null;
       String vertexLabel = null;
       Vertex[] edgeEndVertices = null; // [0] = outVertex , [1] = inVertex
+      String[] edgeEndIds = null;
       Map<String, Object> edgeProps = null;
       boolean inEdge = false;
 
@@ -250,8 +257,9 @@ public class OGraphMLReader {
             vertexIds[0] = reader.getAttributeValue(null, GraphMLTokens.SOURCE);
             vertexIds[1] = reader.getAttributeValue(null, GraphMLTokens.TARGET);
             edgeEndVertices = new Vertex[2];
+            edgeEndIds = vertexIds;
 
-            for (int i = 0; i < 2; i++) { // i=0 => outVertex, i=1 => inVertex
+            for (int i = 0; pipeline == null && i < 2; i++) { // i=0 => outVertex, i=1 => inVertex
               if (vertexIdKey == null) {
                 edgeEndVertices[i] = null;
               } else {
@@ -328,7 +336,10 @@ public class OGraphMLReader {
             if (vertexIdKey != null)
               currentVertex = vertexMappedIdMap.get(vertexId);
 
-            if (currentVertex == null) {
+            if (pipeline != null) {
+              pipeline.addVertex(vertexId, vertexLabel, vertexProps);
+
+            } else if (currentVertex == null) {
               final OrientVertex v = graph.addVertex(vertexLabel, vertexProps);
               if (vertexIdKey != null)
                 mapId(vertexMappedIdMap, vertexId, v.getIdentity());
@@ -348,16 +359,21 @@ public class OGraphMLReader {
             vertexProps = null;
             inVertex = false;
           } else if (elementName.equals(GraphMLTokens.EDGE)) {
-            Edge currentEdge = ((OrientVertex) edgeEndVertices[0]).addEdge(null, (OrientVertex) edgeEndVertices[1], edgeLabel, null,
-                edgeProps);
-            bufferCounter++;
+            if (pipeline != null) {
+              pipeline.addEdge(edgeEndIds[0], edgeEndIds[1], edgeLabel, edgeProps);
+            } else {
+              Edge currentEdge = ((OrientVertex) edgeEndVertices[0]).addEdge(null, (OrientVertex) edgeEndVertices[1], edgeLabel,
+                  null, edgeProps);
+              bufferCounter++;
 
-            importedEdges++;
-            printStatus(reader, importedVertices, importedEdges);
+              importedEdges++;
+              printStatus(reader, importedVertices, importedEdges);
+            }
 
             edgeId = null;
             edgeLabel = null;
             edgeEndVertices = null;
+            edgeEndIds = null;
             edgeProps = null;
             inEdge = false;
           }
@@ -372,10 +388,16 @@ public class OGraphMLReader {
 
       reader.close();
 
+      if (pipeline != null)
+        pipeline.complete();
+
       graph.commit();
 
     } catch (Exception xse) {
       throw OException.wrapException(new ODatabaseImportException("Error on importing GraphML"), xse);
+    } finally {
+      if (pipeline != null)
+        pipeline.close();
     }
 
     return this;
@@ -479,6 +501,8 @@ public class OGraphMLReader {
         storeVertexIds = Boolean.parseBoolean(opt.getValue().get(0));
       } else if (opt.getKey().equalsIgnoreCase("batchSize")) {
         batchSize = Integer.parseInt(opt.getValue().get(0));
+      } else if (opt.getKey().equalsIgnoreCase("parallel")) {
+        parallel = Integer.parseInt(opt.getValue().get(0));
       }
     }
     return this;
@@ -492,6 +516,22 @@ public class OGraphMLReader {
     this.batchSize = batchSize;
   }
 
+  public int getParallel() {
+    return parallel;
+  }
+
+  /**
+   * Sets the number of threads used to import the graph. With more than one thread vertices are imported in batches while the input
+   * is parsed, edges are created after all the vertices and grouped by source vertex. Every thread works on a non transactional
+   * copy of the graph. Parallel import needs a vertex id key, as edges refer to vertices by their id.
+   *
+   * @param parallel
+   *          number of threads (default 1)
+   */
+  public void setParallel(final int parallel) {
+    this.parallel = parallel;
+  }
+
   protected void mapId(final Map<String, ORID> vertexMappedIdMap, final String vertexId, final ORID rid) {
     if (vertexMappedIdMap.containsKey(vertexId))
       throw new IllegalArgumentException("Vertex with id '" + vertexId + "' has been already loaded");
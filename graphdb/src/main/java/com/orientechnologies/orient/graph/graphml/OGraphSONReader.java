@@ -12,6 +12,7 @@ import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.tool.ODatabaseImportException;
 import com.tinkerpop.blueprints.Graph;
 import com.tinkerpop.blueprints.Vertex;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.util.io.graphson.ElementFactory;
 import com.tinkerpop.blueprints.util.io.graphson.GraphElementFactory;
 import com.tinkerpop.blueprints.util.io.graphson.GraphSONMode;
@@ -35,6 +36,7 @@ public class OGraphSONReader {
   private final Graph              graph;
   private OCommandOutputListener   output;
   private long                     inputSize;
+  private int                      parallel    = 1;
 
   /**
    * @param graph
@@ -113,6 +115,10 @@ public class OGraphSONReader {
    */
   public void inputGraph(final InputStream jsonInputStream, int bufferSize, final Set<String> edgePropertyKeys,
       final Set<String> vertexPropertyKeys) throws IOException {
+    if (parallel > 1 && graph instanceof OrientBaseGraph) {
+      inputGraphParallel(jsonInputStream, bufferSize, edgePropertyKeys, vertexPropertyKeys);
+      return;
+    }
 
     final JsonParser jp = jsonFactory.createJsonParser(jsonInputStream);
 
@@ -163,6 +169,72 @@ public class OGraphSONReader {
     batchGraph.commit();
   }
 
+  private void inputGraphParallel(final InputStream jsonInputStream, int bufferSize, final Set<String> edgePropertyKeys,
+      final Set<String> vertexPropertyKeys) throws IOException {
+
+    final JsonParser jp = jsonFactory.createJsonParser(jsonInputStream);
+
+    final OrientBaseGraph orientGraph = (OrientBaseGraph) graph;
+    final ElementFactory elementFactory = new GraphElementFactory(orientGraph);
+    OGraphSONUtility graphson = new OGraphSONUtility(GraphSONMode.NORMAL, elementFactory, vertexPropertyKeys, edgePropertyKeys);
+
+    final OGraphImportPipeline pipeline = new OGraphImportPipeline(orientGraph, parallel, bufferSize, output);
+    try {
+      while (jp.nextToken() != JsonToken.END_OBJECT) {
+        final String fieldname = jp.getCurrentName() == null ? "" : jp.getCurrentName();
+        if (fieldname.equals(GraphSONTokens.MODE)) {
+          jp.nextToken();
+          final GraphSONMode mode = GraphSONMode.valueOf(jp.getText());
+          graphson = new OGraphSONUtility(mode, elementFactory, vertexPropertyKeys, edgePropertyKeys);
+        } else if (fieldname.equals(GraphSONTokens.VERTICES)) {
+          jp.nextToken();
+          while (jp.nextToken() != JsonToken.END_ARRAY) {
+            final JsonNode node = jp.readValueAsTree();
+            final Object vertexId = OGraphSONUtility.getTypedValueFromJsonNode(node.get(GraphSONTokens._ID));
+            pipeline.addVertex(vertexId != null ? vertexId.toString() : null, null, graphson.vertexPropertiesFromJson(node));
+          }
+        } else if (fieldname.equals(GraphSONTokens.EDGES)) {
+          jp.nextToken();
+          while (jp.nextToken() != JsonToken.END_ARRAY) {
+            final JsonNode node = jp.readValueAsTree();
+            final Object inV = OGraphSONUtility.getTypedValueFromJsonNode(node.get(GraphSONTokens._IN_V));
+            final Object outV = OGraphSONUtility.getTypedValueFromJsonNode(node.get(GraphSONTokens._OUT_V));
+            pipeline.addEdge(String.valueOf(outV), String.valueOf(inV), OGraphSONUtility.edgeLabelFromJson(node),
+                graphson.edgePropertiesFromJson(node));
+          }
+        }
+      }
+
+      jp.close();
+
+      pipeline.complete();
+    } finally {
+      pipeline.close();
+    }
+
+    orientGraph.commit();
+  }
+
+  /**
+   * @return number of threads used to import vertices and edges
+   */
+  public int getParallel() {
+    return parallel;
+  }
+
+  /**
+   * Sets the number of threads used to import the graph, with more than one thread vertices are imported in batches of
+   * <code>bufferSize</code> while the input is parsed and edges are created after all the vertices, grouped by source vertex.
+   * Only OrientDB graphs are imported in parallel, every thread works on a non transactional copy of the graph.
+   *
+   * @param parallel
+   *          number of threads (default 1)
+   */
+  public OGraphSONReader setParallel(final int parallel) {
+    this.parallel = parallel;
+    return this;
+  }
+
   public OCommandOutputListener getOutput() {
     return output;
   }
@@ -122,21 +122,25 @@ public class OGraphSONUtility {
    * Creates a vertex from GraphSON using settings supplied in the constructor.
    */
   public Vertex vertexFromJson(final JsonNode json) throws IOException {
-    final Map<String, Object> props = readProperties(json, true, this.hasEmbeddedTypes);
-
     final Object vertexId = getTypedValueFromJsonNode(json.get(GraphSONTokens._ID));
     final Vertex v = factory.createVertex(vertexId);
 
-    for (Map.Entry<String, Object> entry : props.entrySet()) {
-      // if (this.vertexPropertyKeys == null || vertexPropertyKeys.contains(entry.getKey())) {
-      if (includeKey(entry.getKey(), vertexPropertyKeys, this.vertexPropertiesRule)) {
-        v.setProperty(entry.getKey(), entry.getValue());
-      }
+    for (Map.Entry<String, Object> entry : vertexPropertiesFromJson(json).entrySet()) {
+      v.setProperty(entry.getKey(), entry.getValue());
     }
 
     return v;
   }
 
+  /**
+   * Reads the properties of a vertex from GraphSON, filtered by the settings supplied in the constructor.
+   */
+  public Map<String, Object> vertexPropertiesFromJson(final JsonNode json) throws IOException {
+    final Map<String, Object> props = readProperties(json, true, this.hasEmbeddedTypes);
+    props.keySet().removeIf(key -> !includeKey(key, vertexPropertyKeys, this.vertexPropertiesRule));
+    return props;
+  }
+
   /**
    * Creates an edge from GraphSON using settings supplied in the constructor.
    */
@@ -166,28 +170,38 @@ public class OGraphSONUtility {
    * Creates an edge from GraphSON using settings supplied in the constructor.
    */
   public Edge edgeFromJson(final JsonNode json, final Vertex out, final Vertex in) throws IOException {
-    final Map<String, Object> props = OGraphSONUtility.readProperties(json, true, this.hasEmbeddedTypes);
-
     final Object edgeId = getTypedValueFromJsonNode(json.get(GraphSONTokens._ID));
-    final JsonNode nodeLabel = json.get(GraphSONTokens._LABEL);
 
-    // assigned an empty string edge label in cases where one does not exist. this gets around the requirement
-    // that blueprints graphs have a non-null label while ensuring that GraphSON can stay flexible in parsing
-    // partial bits from the JSON. Not sure if there is any gotchas developing out of this.
-    final String label = nodeLabel == null ? EMPTY_STRING : nodeLabel.textValue();
-
-    final Edge e = factory.createEdge(edgeId, out, in, label);
+    final Edge e = factory.createEdge(edgeId, out, in, edgeLabelFromJson(json));
 
-    for (Map.Entry<String, Object> entry : props.entrySet()) {
-      // if (this.edgePropertyKeys == null || this.edgePropertyKeys.contains(entry.getKey())) {
-      if (includeKey(entry.getKey(), edgePropertyKeys, this.edgePropertiesRule)) {
-        e.setProperty(entry.getKey(), entry.getValue());
-      }
+    for (Map.Entry<String, Object> entry : edgePropertiesFromJson(json).entrySet()) {
+      e.setProperty(entry.getKey(), entry.getValue());
     }
 
     return e;
   }
 
+  /**
+   * Reads the properties of an edge from GraphSON, filtered by the settings supplied in the constructor.
+   */
+  public Map<String, Object> edgePropertiesFromJson(final JsonNode json) throws IOException {
+    final Map<String, Object> props = readProperties(json, true, this.hasEmbeddedTypes);
+    props.keySet().removeIf(key -> !includeKey(key, edgePropertyKeys, this.edgePropertiesRule));
+    return props;
+  }
+
+  /**
+   * Reads the label of an edge from GraphSON.
+   */
+  public static String edgeLabelFromJson(final JsonNode json) {
+    final JsonNode nodeLabel = json.get(GraphSONTokens._LABEL);
+
+    // assigned an empty string edge label in cases where one does not exist. this gets around the requirement
+    // that blueprints graphs have a non-null label while ensuring that GraphSON can stay flexible in parsing
+    // partial bits from the JSON. Not sure if there is any gotchas developing out of this.
+    return nodeLabel == null ? EMPTY_STRING : nodeLabel.textValue();
+  }
+
   /**
    * Creates GraphSON for a single graph element.
    */
@@ -0,0 +1,199 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.graph.graphml;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Map of external vertex ids, as found in the imported file, to RIDs of the imported vertices. Entries are kept in an open
+ * addressing hash table made of primitive arrays and the ids are stored as UTF-8 bytes in big pages, so the map does not allocate
+ * objects per entry.
+ *
+ * @since 19.10.26
+ */
+final class OVertexIdMap {
+  private static final int MIN_CAPACITY = 1024;
+  private static final int PAGE_SIZE    = 1 << 20;
+  private static final int FREE         = -1;
+
+  private final List<byte[]> pages = new ArrayList<byte[]>();
+  private       int          pagePosition;
+
+  private int[]  hashes;
+  private long[] keys;
+  private int[]  lengths;
+  private int[]  clusterIds;
+  private long[] clusterPositions;
+  private int    size;
+
+  OVertexIdMap() {
+    allocate(MIN_CAPACITY);
+  }
+
+  /**
+   * @return false if the id is already mapped, in that case the map is not changed
+   */
+  synchronized boolean putIfAbsent(final String id, final ORID rid) {
+    if (size >= hashes.length - (hashes.length >>> 2))
+      resize(hashes.length << 1);
+
+    final byte[] key = id.getBytes(StandardCharsets.UTF_8);
+    final int hash = hash(key);
+    final int slot = find(key, hash);
+    if (lengths[slot] != FREE)
+      return false;
+
+    insert(slot, key, hash, rid);
+    return true;
+  }
+
+  /**
+   * Maps the id to the RID, replacing the RID the id is already mapped to.
+   */
+  synchronized void put(final String id, final ORID rid) {
+    if (size >= hashes.length - (hashes.length >>> 2))
+      resize(hashes.length << 1);
+
+    final byte[] key = id.getBytes(StandardCharsets.UTF_8);
+    final int hash = hash(key);
+    final int slot = find(key, hash);
+    if (lengths[slot] == FREE)
+      insert(slot, key, hash, rid);
+    else {
+      clusterIds[slot] = rid.getClusterId();
+      clusterPositions[slot] = rid.getClusterPosition();
+    }
+  }
+
+  /**
+   * @return RID of the vertex or null if the id is not mapped
+   */
+  synchronized ORID get(final String id) {
+    final byte[] key = id.getBytes(StandardCharsets.UTF_8);
+    final int slot = find(key, hash(key));
+    if (lengths[slot] == FREE)
+      return null;
+    return new ORecordId(clusterIds[slot], clusterPositions[slot]);
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  private void insert(final int slot, final byte[] key, final int hash, final ORID rid) {
+    hashes[slot] = hash;
+    keys[slot] = store(key);
+    lengths[slot] = key.length;
+    clusterIds[slot] = rid.getClusterId();
+    clusterPositions[slot] = rid.getClusterPosition();
+    size++;
+  }
+
+  private static int hash(final byte[] key) {
+    int h = 1;
+    for (byte b : key)
+      h = 31 * h + b;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * @return slot which contains passed in key or free slot where it should be inserted
+   */
+  private int find(final byte[] key, final int hash) {
+    final int mask = hashes.length - 1;
+    int slot = hash & mask;
+    while (lengths[slot] != FREE) {
+      if (hashes[slot] == hash && equals(slot, key))
+        return slot;
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private boolean equals(final int slot, final byte[] key) {
+    if (lengths[slot] != key.length)
+      return false;
+
+    final byte[] page = pages.get((int) (keys[slot] >>> 32));
+    final int offset = (int) keys[slot];
+    for (int i = 0; i < key.length; i++)
+      if (page[offset + i] != key[i])
+        return false;
+    return true;
+  }
+
+  /**
+   * @return reference of the stored key, index of the page in high 32 bits and offset in the page in low 32 bits
+   */
+  private long store(final byte[] key) {
+    if (pages.isEmpty() || pagePosition + key.length > pages.get(pages.size() - 1).length) {
+      pages.add(new byte[Math.max(PAGE_SIZE, key.length)]);
+      pagePosition = 0;
+    }
+
+    final int page = pages.size() - 1;
+    final int offset = pagePosition;
+    System.arraycopy(key, 0, pages.get(page), offset, key.length);
+    pagePosition += key.length;
+    return ((long) page << 32) | offset;
+  }
+
+  private void allocate(final int capacity) {
+    hashes = new int[capacity];
+    keys = new long[capacity];
+    lengths = new int[capacity];
+    clusterIds = new int[capacity];
+    clusterPositions = new long[capacity];
+    Arrays.fill(lengths, FREE);
+  }
+
+  private void resize(final int capacity) {
+    final int[] oldHashes = hashes;
+    final long[] oldKeys = keys;
+    final int[] oldLengths = lengths;
+    final int[] oldClusterIds = clusterIds;
+    final long[] oldClusterPositions = clusterPositions;
+
+    allocate(capacity);
+
+    final int mask = capacity - 1;
+    for (int i = 0; i < oldHashes.length; i++) {
+      if (oldLengths[i] == FREE)
+        continue;
+
+      int slot = oldHashes[i] & mask;
+      while (lengths[slot] != FREE)
+        slot = (slot + 1) & mask;
+
+      hashes[slot] = oldHashes[i];
+      keys[slot] = oldKeys[i];
+      lengths[slot] = oldLengths[i];
+      clusterIds[slot] = oldClusterIds[i];
+      clusterPositions[slot] = oldClusterPositions[i];
+    }
+  }
+}
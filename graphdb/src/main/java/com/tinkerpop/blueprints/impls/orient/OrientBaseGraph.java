@@ -49,6 +49,7 @@ import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OExpressionIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexManager;
@@ -853,6 +854,10 @@ public abstract class OrientBaseGraph extends OrientConfigurableGraph implements
       if ("lucene".equalsIgnoreCase(index.getAlgorithm())) {
         continue;
       }
+      if (indexDef.getFilter() != null) {
+        // partial index, it does not contain all the vertices of the class
+        continue;
+      }
       List<String> indexedFields = indexDef.getFields();
       if (indexedFields != null && indexedFields.size() > 0 && indexedFields.get(0).equals(key)) {
         idx = index;
@@ -861,6 +866,9 @@ public abstract class OrientBaseGraph extends OrientConfigurableGraph implements
     }
     if (idx == null) {
       idx = getDatabase().getMetadata().getIndexManager().getIndex(iKey);
+      if (idx != null && idx.getDefinition() != null && idx.getDefinition().getFilter() != null) {
+        idx = null;
+      }
     }
 
     if (idx != null) {
@@ -939,6 +947,14 @@ public abstract class OrientBaseGraph extends OrientConfigurableGraph implements
           if ("lucene".equalsIgnoreCase(idx.getAlgorithm())) {
             continue;
           }
+          if (idx.getDefinition().getFilter() != null) {
+            // partial index, it does not contain all the vertices of the class
+            continue;
+          }
+          if (idx.getDefinition() instanceof OExpressionIndexDefinition) {
+            // the keys are values of the expression, not of the properties
+            continue;
+          }
           Object[] sortedParams = new Object[iValue.length];
           List<String> indexFields = idx.getDefinition().getFields();
           for (int i = 0; i < iKey.length; i++) {
@@ -1053,7 +1069,8 @@ public abstract class OrientBaseGraph extends OrientConfigurableGraph implements
     }
 
     final OIndex<?> idx = getDatabase().getMetadata().getIndexManager().getIndex(indexName);
-    if (idx != null) {
+    // partial indexes do not contain all the edges of the class
+    if (idx != null && (idx.getDefinition() == null || idx.getDefinition().getFilter() == null)) {
       iValue = convertKey(idx, iValue);
 
       Object indexValue = idx.get(iValue);
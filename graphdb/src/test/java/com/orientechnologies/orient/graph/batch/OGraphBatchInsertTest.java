@@ -36,6 +36,35 @@ public class OGraphBatchInsertTest extends TestCase {
     db.close();
   }
 
+  @Test
+  public void testSpilledEdges() {
+    String dbUrl = "memory:batchinsert_spilled";
+    OGraphBatchInsertBasic batch = new OGraphBatchInsertBasic(dbUrl, "admin", "admin");
+    batch.setEdgeBufferSize(1000);
+    batch.begin();
+
+    // 5000 EDGES DO NOT FIT IN THE BUFFER, THEY ARE SPILLED IN SEVERAL RUNS
+    for (long i = 0; i < 5000; i++) {
+      batch.createEdge(i % 100, 100 + i % 7);
+    }
+    batch.createVertex(200L);
+    assertTrue(batch.out.getSpilledRuns() > 0);
+    batch.end();
+
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx(dbUrl);
+    db.open("admin", "admin");
+    assertEquals(108, db.query(new OSQLSynchQuery<Object>("select from V")).size());
+
+    List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>("select out().size() as out from V where uid = 5"));
+    assertEquals(50, (int) result.get(0).<Integer>field("out"));
+    result = db.query(new OSQLSynchQuery<ODocument>("select in().size() as in from V where uid = 103"));
+    assertEquals(714, (int) result.get(0).<Integer>field("in"));
+    result = db.query(new OSQLSynchQuery<ODocument>("select uid from V where uid = 200"));
+    assertEquals(1, result.size());
+
+    db.close();
+  }
+
   @Test
   public void test2() {
     String dbUrl = "memory:batchinsert_test2";
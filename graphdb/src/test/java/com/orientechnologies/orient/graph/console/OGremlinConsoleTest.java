@@ -30,6 +30,7 @@ import com.orientechnologies.orient.graph.graphml.OGraphMLReader;
 import com.orientechnologies.orient.graph.graphml.OGraphSONReader;
 import com.orientechnologies.orient.graph.graphml.OIgnoreGraphMLImportStrategy;
 import com.orientechnologies.orient.graph.graphml.ORenameGraphMLImportStrategy;
+import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
@@ -299,6 +300,105 @@ public class OGremlinConsoleTest {
     }
   }
 
+  @Test
+  public void testGraphMLImportParallel() throws IOException {
+    final String INPUT_FILE = "src/test/resources/graph-example-fromexport.xml";
+    String dbUrl1 = "memory:testGraphMLImportParallel1";
+    String dbUrl2 = "memory:testGraphMLImportParallel2";
+
+    final OrientGraphNoTx g1 = new OrientGraphNoTx(dbUrl1);
+    new OGraphMLReader(g1).inputGraph(INPUT_FILE);
+
+    final OrientGraphNoTx g2 = new OrientGraphNoTx(dbUrl2);
+    final OGraphMLReader reader = new OGraphMLReader(g2);
+    reader.setParallel(4);
+    reader.inputGraph(INPUT_FILE, 2);
+
+    assertSameTopology(g1, g2);
+    g1.shutdown();
+    g2.shutdown();
+  }
+
+  @Test
+  public void testGraphMLImportParallelDuplicateIds() throws IOException {
+    final byte[] input = ("<?xml version='1.0' encoding='UTF-8'?>\n"
+        + "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n"
+        + "  <key id=\"name\" for=\"node\" attr.name=\"name\" attr.type=\"string\"/>\n"
+        + "  <graph id=\"G\" edgedefault=\"directed\">\n"
+        + "    <node id=\"1\"><data key=\"name\">first</data></node>\n"
+        + "    <node id=\"2\"><data key=\"name\">second</data></node>\n"
+        + "    <node id=\"1\"><data key=\"name\">updated</data></node>\n"
+        + "    <node id=\"3\"><data key=\"name\">third</data></node>\n"
+        + "    <node id=\"1\"><data key=\"name\">last</data></node>\n"
+        + "    <edge id=\"0\" source=\"1\" target=\"2\" label=\"knows\"/>\n"
+        + "    <edge id=\"1\" source=\"3\" target=\"1\" label=\"knows\"/>\n"
+        + "  </graph>\n"
+        + "</graphml>").getBytes("UTF-8");
+    String dbUrl1 = "memory:testGraphMLImportParallelDuplicateIds1";
+    String dbUrl2 = "memory:testGraphMLImportParallelDuplicateIds2";
+
+    final OrientGraphNoTx g1 = new OrientGraphNoTx(dbUrl1);
+    new OGraphMLReader(g1).inputGraph(new ByteArrayInputStream(input));
+
+    final OrientGraphNoTx g2 = new OrientGraphNoTx(dbUrl2);
+    final OGraphMLReader reader = new OGraphMLReader(g2);
+    reader.setParallel(4);
+    reader.inputGraph(new ByteArrayInputStream(input), 1);
+
+    // DUPLICATE NODES UPDATE THE VERTEX CREATED FIRST IN BOTH PATHS
+    assertSameTopology(g1, g2);
+    for (OrientGraphNoTx g : new OrientGraphNoTx[] { g1, g2 }) {
+      g.makeActive();
+      Assert.assertEquals(3, g.countVertices());
+      final Iterator<Vertex> vertices = g.getVertices("name", "last").iterator();
+      Assert.assertTrue(vertices.hasNext());
+      final Vertex vertex = vertices.next();
+      Assert.assertFalse(vertices.hasNext());
+      Assert.assertEquals("second", vertex.getVertices(Direction.OUT).iterator().next().getProperty("name"));
+      Assert.assertEquals("third", vertex.getVertices(Direction.IN).iterator().next().getProperty("name"));
+    }
+
+    g1.shutdown();
+    g2.shutdown();
+  }
+
+  @Test
+  public void testGraphSONImportParallel() throws IOException {
+    final String INPUT_FILE = "src/test/resources/graph-example-fromexport.xml";
+    String dbUrl1 = "memory:testGraphSONImportParallel1";
+    String dbUrl2 = "memory:testGraphSONImportParallel2";
+
+    final OrientGraphNoTx g1 = new OrientGraphNoTx(dbUrl1);
+    new OGraphMLReader(g1).inputGraph(INPUT_FILE);
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new GraphSONWriter(g1).outputGraph(output, null, null, GraphSONMode.NORMAL);
+
+    final OrientGraphNoTx g2 = new OrientGraphNoTx(dbUrl2);
+    new OGraphSONReader(g2).setParallel(3).inputGraph(new ByteArrayInputStream(output.toByteArray()), 2, null, null);
+
+    assertSameTopology(g1, g2);
+    g1.shutdown();
+    g2.shutdown();
+  }
+
+  private void assertSameTopology(final OrientGraphNoTx expected, final OrientGraphNoTx actual) {
+    final String query = "select count(*) as vertices, sum(out().size()) as outEdges, sum(in().size()) as inEdges from V";
+
+    expected.makeActive();
+    final ODocument expectedCounts = (ODocument) expected.getRawGraph().query(new OSQLSynchQuery<ODocument>(query)).get(0);
+    final List<ODocument> expectedEdges = expected.getRawGraph().query(new OSQLSynchQuery<ODocument>("select from E"));
+
+    actual.makeActive();
+    final ODocument actualCounts = (ODocument) actual.getRawGraph().query(new OSQLSynchQuery<ODocument>(query)).get(0);
+    final List<ODocument> actualEdges = actual.getRawGraph().query(new OSQLSynchQuery<ODocument>("select from E"));
+
+    Assert.assertEquals(((Number) expectedCounts.field("vertices")).longValue(), ((Number) actualCounts.field("vertices")).longValue());
+    Assert.assertEquals(((Number) expectedCounts.field("outEdges")).longValue(), ((Number) actualCounts.field("outEdges")).longValue());
+    Assert.assertEquals(((Number) expectedCounts.field("inEdges")).longValue(), ((Number) actualCounts.field("inEdges")).longValue());
+    Assert.assertEquals(expectedEdges.size(), actualEdges.size());
+  }
+
   @Test
   public void testGraphSONImport() throws IOException {
     final String INPUT_FILE = "src/test/resources/graph-example-fromexport.xml";
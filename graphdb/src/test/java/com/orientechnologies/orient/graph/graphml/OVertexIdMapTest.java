@@ -0,0 +1,35 @@
+package com.orientechnologies.orient.graph.graphml;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OVertexIdMapTest {
+
+  @Test
+  public void testPutAndGet() {
+    final OVertexIdMap map = new OVertexIdMap();
+    for (int i = 0; i < 10000; i++) {
+      Assert.assertTrue(map.putIfAbsent("n" + i, new ORecordId(9, i)));
+    }
+
+    Assert.assertEquals(10000, map.size());
+    Assert.assertFalse(map.putIfAbsent("n42", new ORecordId(10, 0)));
+
+    for (int i = 0; i < 10000; i++) {
+      Assert.assertEquals(new ORecordId(9, i), map.get("n" + i));
+    }
+    Assert.assertNull(map.get("n10000"));
+    Assert.assertNull(map.get(""));
+  }
+
+  @Test
+  public void testNonAsciiIds() {
+    final OVertexIdMap map = new OVertexIdMap();
+    Assert.assertTrue(map.putIfAbsent("vértice", new ORecordId(9, 1)));
+    Assert.assertTrue(map.putIfAbsent("vertice", new ORecordId(9, 2)));
+
+    Assert.assertEquals(new ORecordId(9, 1), map.get("vértice"));
+    Assert.assertEquals(new ORecordId(9, 2), map.get("vertice"));
+  }
+}
@@ -180,11 +180,11 @@ public class OrientJdbcConnection implements Connection {
   }
 
   public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
-    return new OrientJdbcStatement(this);
+    return new OrientJdbcStatement(this, resultSetType, resultSetConcurrency);
   }
 
   public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
-    return new OrientJdbcStatement(this);
+    return new OrientJdbcStatement(this, resultSetType, resultSetConcurrency, resultSetHoldability);
   }
 
   public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
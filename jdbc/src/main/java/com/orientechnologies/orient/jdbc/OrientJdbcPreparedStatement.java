@@ -16,11 +16,17 @@ package com.orientechnologies.orient.jdbc;
 
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.exception.OQueryParsingException;
 import com.orientechnologies.orient.core.record.impl.ORecordBytes;
+import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.sql.parser.ODDLStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatementCache;
 import com.orientechnologies.orient.jdbc.OrientJdbcParameterMetadata.ParameterDefinition;
 
 import java.io.IOException;
@@ -29,8 +35,11 @@ import java.io.Reader;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -40,7 +49,8 @@ import java.util.Map;
  */
 public class OrientJdbcPreparedStatement extends OrientJdbcStatement implements PreparedStatement {
 
-  protected final Map<Integer, Object> params;
+  protected final Map<Integer, Object>       params;
+  protected final List<Map<Integer, Object>> batchParams;
 
   public OrientJdbcPreparedStatement(OrientJdbcConnection iConnection, String sql) {
     this(iConnection, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, sql);
@@ -56,6 +66,7 @@ public class OrientJdbcPreparedStatement extends OrientJdbcStatement implements
     super(iConnection, resultSetType, resultSetConcurrency, resultSetHoldability);
     this.sql = sql;
     params = new HashMap<>();
+    batchParams = new ArrayList<>();
   }
 
   @SuppressWarnings("unchecked")
@@ -63,6 +74,7 @@ public class OrientJdbcPreparedStatement extends OrientJdbcStatement implements
 
     //    return super.executeQuery(sql);
     sql = mayCleanForSpark(sql);
+    closeResultSet();
 
     if (sql.equalsIgnoreCase("select 1")) {
       // OPTIMIZATION
@@ -190,9 +202,88 @@ public class OrientJdbcPreparedStatement extends OrientJdbcStatement implements
   }
 
   public void addBatch() throws SQLException {
+    batchParams.add(new HashMap<>(params));
+  }
 
-    //    batches.add(sql);
-    throw new UnsupportedOperationException();
+  @Override
+  public void addBatch(final String sql) throws SQLException {
+    throw new SQLException("SQL statements cannot be added to the batch of a prepared statement, use addBatch() instead");
+  }
+
+  @Override
+  public void clearBatch() throws SQLException {
+    super.clearBatch();
+    batchParams.clear();
+  }
+
+  /**
+   * Executes the statement once for each parameter set added by {@link #addBatch()}. The statement is parsed only once, then all
+   * the parameter sets are executed in a single transaction, unless a transaction is already active or the statement changes the
+   * schema. The transaction is rolled back if any parameter set fails, in that case all the update counts reported by the thrown
+   * {@link BatchUpdateException} are {@link #EXECUTE_FAILED}.
+   */
+  @Override
+  public int[] executeBatch() throws SQLException {
+    try {
+      if (batchParams.isEmpty())
+        return new int[0];
+
+      database.activateOnCurrentThread();
+      final boolean newTransaction = !isSchemaChange() && !database.getTransaction().isActive();
+      if (newTransaction)
+        database.begin();
+
+      boolean committed = false;
+      try {
+        final int[] results = executeBatch(batchParams.size(), i -> executeUpdate(batchParams.get(i)));
+        if (newTransaction) {
+          database.commit();
+          committed = true;
+        }
+        return results;
+      } catch (BatchUpdateException e) {
+        if (!newTransaction)
+          throw e;
+        // THE ITEMS EXECUTED BEFORE THE FAILING ONE ARE ROLLED BACK WITH IT
+        throw new BatchUpdateException(e.getMessage(), failedUpdateCounts(), e.getCause());
+      } catch (OException e) {
+        // NOTHING OF THE BATCH IS APPLIED IF THE COMMIT FAILS
+        throw new BatchUpdateException("Error while committing batch", failedUpdateCounts(), e);
+      } finally {
+        if (newTransaction && !committed && database.getTransaction().isActive())
+          database.rollback();
+      }
+    } finally {
+      batchParams.clear();
+    }
+  }
+
+  private int[] failedUpdateCounts() {
+    final int[] results = new int[batchParams.size()];
+    Arrays.fill(results, EXECUTE_FAILED);
+    return results;
+  }
+
+  private int executeUpdate(final Map<Integer, Object> batchParams) throws SQLException {
+    try (OResultSet rs = database.command(sql, batchParams.values().toArray())) {
+      return getUpdateCount(rs);
+    } catch (OException e) {
+      throw new SQLException("Error while executing command", e);
+    }
+  }
+
+  /**
+   * Schema cannot be changed inside a transaction. Parsing goes through the statement cache of the database, so batch items do not
+   * parse the statement again.
+   */
+  private boolean isSchemaChange() throws SQLException {
+    try {
+      final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) database;
+      final OStatement statement = db.getStorage().isRemote() ? OStatementCache.get(sql, null) : OSQLEngine.parse(sql, db);
+      return statement instanceof ODDLStatement;
+    } catch (OCommandSQLParsingException e) {
+      throw new SQLSyntaxErrorException("Error while parsing command", e);
+    }
   }
 
   public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
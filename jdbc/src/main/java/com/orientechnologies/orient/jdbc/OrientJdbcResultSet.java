@@ -61,18 +61,32 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
+ * Result set of a query.
+ * <p>
+ * A {@link ResultSet#TYPE_FORWARD_ONLY} result set streams the rows from the underlying {@link OResultSet}: only the current page
+ * of at most {@link #getFetchSize()} rows is kept in memory and the next page is pulled when the cursor moves past it, so moving
+ * back is possible only inside the current page. Scrollable result sets load all the rows on creation.
+ *
  * @author Roberto Franchini (CELI srl - franchin--at--celi.it)
  * @author Salvatore Piccione (TXT e-solutions SpA - salvo.picci--at--gmail.com)
  */
 public class OrientJdbcResultSet implements ResultSet {
+  /**
+   * Fetch size used when it is not set on the statement.
+   */
+  public static final int DEFAULT_FETCH_SIZE = 100;
+
   private final OrientJdbcResultSetMetaData resultSetMetaData;
   private final List<String>                fieldNames;
   private       List<OResult>               records;
+  private       OResultSet                  oResultSet;
   private       OrientJdbcStatement         statement;
   private       OResult                     result;
 
-  private int cursor   = -1;
-  private int rowCount = 0;
+  private int cursor    = -1;
+  private int rowCount  = 0;
+  private int pageStart = 0;
+  private int fetchSize;
   private int type;
   private int concurrency;
   private int holdability;
@@ -83,42 +97,58 @@ public class OrientJdbcResultSet implements ResultSet {
       final int concurrency, int holdability) throws SQLException {
 
     this.statement = statement;
-    try {
-      records = oResultSet.stream().collect(Collectors.toList());
-    } catch (Exception e) {
-      throw new SQLException("Error occourred while mapping results ", e);
-    }
-    oResultSet.close();
-    rowCount = records.size();
-
-    if (records.size() >= 1) {
-      result = records.get(0);
-    } else {
-      result = new OResultInternal();
-    }
-
-    fieldNames = extractFieldNames(statement);
-
-    activateDatabaseOnCurrentThread();
     if (type == TYPE_FORWARD_ONLY || type == TYPE_SCROLL_INSENSITIVE || type == TYPE_SCROLL_SENSITIVE)
       this.type = type;
-    else
+    else {
+      oResultSet.close();
       throw new SQLException("Bad ResultSet type: " + type + " instead of one of the following values: " + TYPE_FORWARD_ONLY + ", "
           + TYPE_SCROLL_INSENSITIVE + " or" + TYPE_SCROLL_SENSITIVE);
+    }
 
     if (concurrency == CONCUR_READ_ONLY || concurrency == CONCUR_UPDATABLE)
       this.concurrency = concurrency;
-    else
+    else {
+      oResultSet.close();
       throw new SQLException(
           "Bad ResultSet Concurrency type: " + concurrency + " instead of one of the following values: " + CONCUR_READ_ONLY + " or"
               + CONCUR_UPDATABLE);
+    }
 
     if (holdability == HOLD_CURSORS_OVER_COMMIT || holdability == CLOSE_CURSORS_AT_COMMIT)
       this.holdability = holdability;
-    else
+    else {
+      oResultSet.close();
       throw new SQLException(
           "Bad ResultSet Holdability type: " + holdability + " instead of one of the following values: " + HOLD_CURSORS_OVER_COMMIT
               + " or" + CLOSE_CURSORS_AT_COMMIT);
+    }
+
+    this.fetchSize = statement.fetchSize > 0 ? statement.fetchSize : DEFAULT_FETCH_SIZE;
+
+    if (type == TYPE_FORWARD_ONLY) {
+      this.oResultSet = oResultSet;
+      records = new ArrayList<>();
+      fetchPage();
+    } else {
+      try {
+        records = oResultSet.stream().collect(Collectors.toList());
+      } catch (Exception e) {
+        throw new SQLException("Error occourred while mapping results ", e);
+      } finally {
+        oResultSet.close();
+      }
+      rowCount = records.size();
+    }
+
+    if (records.size() >= 1) {
+      result = records.get(0);
+    } else {
+      result = new OResultInternal();
+    }
+
+    fieldNames = extractFieldNames(statement);
+
+    activateDatabaseOnCurrentThread();
 
     resultSetMetaData = new OrientJdbcResultSetMetaData(this, fieldNames);
   }
@@ -168,9 +198,63 @@ public class OrientJdbcResultSet implements ResultSet {
     statement.database.activateOnCurrentThread();
   }
 
+  /**
+   * Pulls the next page of rows from the underlying result set, the current page is kept if there are no more rows.
+   *
+   * @return true if a new page was loaded
+   */
+  private boolean fetchPage() throws SQLException {
+    if (oResultSet == null)
+      return false;
+
+    activateDatabaseOnCurrentThread();
+    final List<OResult> page = new ArrayList<>(Math.min(fetchSize, DEFAULT_FETCH_SIZE));
+    try {
+      while (page.size() < fetchSize && oResultSet.hasNext())
+        page.add(oResultSet.next());
+    } catch (Exception e) {
+      closeSource();
+      throw new SQLException("Error occourred while mapping results ", e);
+    }
+
+    if (page.size() < fetchSize)
+      closeSource();
+
+    if (page.isEmpty())
+      return false;
+
+    pageStart = rowCount;
+    records = page;
+    rowCount += page.size();
+    return true;
+  }
+
+  private boolean hasMoreRows() {
+    if (oResultSet == null)
+      return false;
+
+    activateDatabaseOnCurrentThread();
+    return oResultSet.hasNext();
+  }
+
+  private void fetchAll() throws SQLException {
+    while (fetchPage()) {
+      // ONLY THE LAST PAGE IS KEPT
+    }
+  }
+
+  private void closeSource() {
+    if (oResultSet != null) {
+      oResultSet.close();
+      oResultSet = null;
+    }
+  }
+
   public void close() throws SQLException {
+    closeSource();
     cursor = 0;
     rowCount = 0;
+    pageStart = 0;
     records = null;
   }
 
@@ -179,23 +263,26 @@ public class OrientJdbcResultSet implements ResultSet {
   }
 
   public boolean last() throws SQLException {
+    fetchAll();
     return absolute(rowCount - 1);
   }
 
   public boolean next() throws SQLException {
-    return absolute(++cursor);
+    return absolute(cursor + 1);
   }
 
   public boolean previous() throws SQLException {
-    return absolute(++cursor);
+    return absolute(cursor - 1);
   }
 
   public void afterLast() throws SQLException {
+    fetchAll();
     // OUT OF LAST ITEM
     cursor = rowCount;
   }
 
   public void beforeFirst() throws SQLException {
+    checkRowAvailable(-1);
     // OUT OF FIRST ITEM
     cursor = -1;
   }
@@ -205,6 +292,11 @@ public class OrientJdbcResultSet implements ResultSet {
   }
 
   public boolean absolute(int iRowNumber) throws SQLException {
+    checkRowAvailable(iRowNumber);
+    while (iRowNumber > rowCount - 1 && fetchPage()) {
+      // SKIP PAGES BEFORE THE REQUESTED ROW
+    }
+
     if (iRowNumber > rowCount - 1) {
       // OUT OF LAST ITEM
       cursor = rowCount;
@@ -216,12 +308,21 @@ public class OrientJdbcResultSet implements ResultSet {
     }
 
     cursor = iRowNumber;
-    result = records.get(cursor);
+    result = records.get(cursor - pageStart);
     return true;
   }
 
+  /**
+   * Rows of previous pages are already discarded by forward only result sets.
+   */
+  private void checkRowAvailable(final int iRowNumber) throws SQLException {
+    if (iRowNumber < pageStart && pageStart > 0)
+      throw new SQLException(
+          "Cannot move to row " + iRowNumber + " of a TYPE_FORWARD_ONLY ResultSet, rows before " + pageStart + " are already discarded");
+  }
+
   public boolean isAfterLast() throws SQLException {
-    return cursor >= rowCount - 1;
+    return cursor >= rowCount - 1 && !hasMoreRows();
   }
 
   public boolean isBeforeFirst() throws SQLException {
@@ -237,7 +338,7 @@ public class OrientJdbcResultSet implements ResultSet {
   }
 
   public boolean isLast() throws SQLException {
-    return cursor == rowCount - 1;
+    return cursor == rowCount - 1 && !hasMoreRows();
   }
 
   public Statement getStatement() throws SQLException {
@@ -538,11 +639,16 @@ public class OrientJdbcResultSet implements ResultSet {
   }
 
   public int getFetchSize() throws SQLException {
-    return rowCount;
+    return fetchSize;
   }
 
+  /**
+   * Sets the size of the next pages pulled by a forward only result set, 0 restores the default size.
+   */
   public void setFetchSize(int rows) throws SQLException {
-
+    if (rows < 0)
+      throw new SQLException("Fetch size cannot be negative: " + rows);
+    fetchSize = rows > 0 ? rows : DEFAULT_FETCH_SIZE;
   }
 
   public float getFloat(int columnIndex) throws SQLException {
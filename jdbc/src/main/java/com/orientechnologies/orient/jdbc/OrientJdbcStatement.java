@@ -25,6 +25,7 @@ import com.orientechnologies.orient.core.sql.executor.OResultSet;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
@@ -50,6 +51,7 @@ public class OrientJdbcStatement implements Statement {
   protected       boolean              closed;
   protected       OResultSet           oResultSet;
   protected       OrientJdbcResultSet  resultSet;
+  protected       int                  fetchSize;
 
   public OrientJdbcStatement(final OrientJdbcConnection iConnection) {
     this(iConnection, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
@@ -63,7 +65,7 @@ public class OrientJdbcStatement implements Statement {
    * @throws SQLException
    */
   public OrientJdbcStatement(OrientJdbcConnection iConnection, int resultSetType, int resultSetConcurrency) {
-    this(iConnection, resultSetType, resultSetConcurrency, resultSetType);
+    this(iConnection, resultSetType, resultSetConcurrency, ResultSet.HOLD_CURSORS_OVER_COMMIT);
   }
 
   /**
@@ -92,6 +94,7 @@ public class OrientJdbcStatement implements Statement {
       return false;
 
     sql = mayCleanForSpark(sqlCommand);
+    closeResultSet();
 
     if (sql.equalsIgnoreCase("select 1")) {
       OResultInternal element = new OResultInternal();
@@ -129,22 +132,26 @@ public class OrientJdbcStatement implements Statement {
     try {
       oResultSet = executeCommand(sql);
 
-      Optional<OResult> res = oResultSet.stream().findFirst();
-
-      if (res.isPresent()) {
-        if (res.get().getProperty("count") != null) {
-          return Math.toIntExact((Long) res.get().getProperty("count"));
-        } else
-          return 1;
-      } else {
-        return 0;
-      }
+      return getUpdateCount(oResultSet);
     } finally {
       oResultSet.close();
     }
 
   }
 
+  protected static int getUpdateCount(final OResultSet resultSet) {
+    Optional<OResult> res = resultSet.stream().findFirst();
+
+    if (res.isPresent()) {
+      if (res.get().getProperty("count") != null) {
+        return Math.toIntExact((Long) res.get().getProperty("count"));
+      } else
+        return 1;
+    } else {
+      return 0;
+    }
+  }
+
   protected OResultSet executeCommand(String query) throws SQLException {
 
     try {
@@ -174,9 +181,20 @@ public class OrientJdbcStatement implements Statement {
   }
 
   public void close() throws SQLException {
+    closeResultSet();
     closed = true;
   }
 
+  /**
+   * Closes the current result set, so a forward only result set releases the underlying query.
+   */
+  protected void closeResultSet() throws SQLException {
+    if (resultSet != null) {
+      resultSet.close();
+      resultSet = null;
+    }
+  }
+
   public boolean execute(final String sql, int autoGeneratedKeys) throws SQLException {
     return false;
   }
@@ -204,14 +222,36 @@ public class OrientJdbcStatement implements Statement {
   }
 
   public int[] executeBatch() throws SQLException {
-    int[] results = new int[batches.size()];
-    int i = 0;
-    for (String sql : batches) {
-      results[i++] = executeUpdate(sql);
+    try {
+      return executeBatch(batches.size(), i -> executeUpdate(batches.get(i)));
+    } finally {
+      batches.clear();
+    }
+  }
+
+  /**
+   * Executes the items of a batch in order and collects their update counts. Execution stops at the first failing item, update
+   * counts of the items executed before it are reported by the thrown {@link BatchUpdateException}.
+   */
+  protected int[] executeBatch(final int size, final BatchItem item) throws SQLException {
+    final int[] results = new int[size];
+    for (int i = 0; i < size; i++) {
+      try {
+        results[i] = item.execute(i);
+      } catch (SQLException e) {
+        throw new BatchUpdateException("Error while executing item " + i + " of the batch", Arrays.copyOf(results, i), e);
+      }
     }
     return results;
   }
 
+  protected interface BatchItem {
+    /**
+     * @return update count of the item
+     */
+    int execute(int index) throws SQLException;
+  }
+
   public int getFetchDirection() throws SQLException {
 
     return 0;
@@ -223,11 +263,17 @@ public class OrientJdbcStatement implements Statement {
 
   public int getFetchSize() throws SQLException {
 
-    return 0;
+    return fetchSize;
   }
 
+  /**
+   * Sets the amount of rows kept in memory by forward only result sets created by this statement, 0 means the default
+   * {@link OrientJdbcResultSet#DEFAULT_FETCH_SIZE}.
+   */
   public void setFetchSize(final int rows) throws SQLException {
-
+    if (rows < 0)
+      throw new SQLException("Fetch size cannot be negative: " + rows);
+    fetchSize = rows;
   }
 
   public ResultSet getGeneratedKeys() throws SQLException {
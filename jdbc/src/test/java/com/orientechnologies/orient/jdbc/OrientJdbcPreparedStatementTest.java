@@ -19,13 +19,16 @@ package com.orientechnologies.orient.jdbc;
 
 import org.junit.Test;
 
+import java.sql.BatchUpdateException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import static java.sql.ResultSet.CONCUR_READ_ONLY;
 import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 public class OrientJdbcPreparedStatementTest extends OrientJdbcDbPerMethodTemplateTest {
 
@@ -84,6 +87,89 @@ public class OrientJdbcPreparedStatementTest extends OrientJdbcDbPerMethodTempla
     assertThat(rowsInserted).isEqualTo(2);
   }
 
+  @Test
+  public void testExecuteBatchReturnsUpdateCountOfEachParameterSet() throws Exception {
+    conn.createStatement().executeQuery("CREATE CLASS Insertable ");
+
+    PreparedStatement insert = conn.prepareStatement("INSERT INTO Insertable ( id, name ) VALUES (?, ?)");
+    for (int i = 0; i < 10; i++) {
+      insert.setInt(1, i);
+      insert.setString(2, "name" + i);
+      insert.addBatch();
+    }
+    assertThat(insert.executeBatch()).containsOnly(1).hasSize(10);
+    assertThat(insert.executeBatch()).isEmpty();
+
+    PreparedStatement update = conn.prepareStatement("UPDATE Insertable SET name = ? WHERE id < ?");
+    update.setString(1, "first");
+    update.setInt(2, 3);
+    update.addBatch();
+    update.setString(1, "none");
+    update.setInt(2, -1);
+    update.addBatch();
+    assertThat(update.executeBatch()).containsExactly(3, 0);
+
+    ResultSet rs = conn.createStatement().executeQuery("SELECT count(*) FROM Insertable WHERE name = 'first'");
+    assertThat(rs.next()).isTrue();
+    assertThat(rs.getLong(1)).isEqualTo(3);
+  }
+
+  @Test
+  public void testFailedBatchIsRolledBack() throws Exception {
+    conn.createStatement().executeQuery("CREATE CLASS Insertable ");
+    conn.createStatement().executeQuery("CREATE PROPERTY Insertable.id INTEGER");
+    conn.createStatement().executeQuery("CREATE INDEX Insertable.id UNIQUE");
+
+    PreparedStatement insert = conn.prepareStatement("INSERT INTO Insertable ( id ) VALUES (?)");
+    insert.setInt(1, 1);
+    insert.addBatch();
+    insert.setInt(1, 2);
+    insert.addBatch();
+    insert.setInt(1, 1);
+    insert.addBatch();
+
+    try {
+      insert.executeBatch();
+      fail("duplicated key should fail the batch");
+    } catch (BatchUpdateException e) {
+      // the duplicate is detected on commit, which fails the whole batch
+      assertThat(e.getUpdateCounts()).containsOnly(Statement.EXECUTE_FAILED).hasSize(3);
+    }
+
+    ResultSet rs = conn.createStatement().executeQuery("SELECT count(*) FROM Insertable");
+    assertThat(rs.next()).isTrue();
+    assertThat(rs.getLong(1)).isEqualTo(0);
+  }
+
+  @Test
+  public void testBatchWithFailingItemIsRolledBack() throws Exception {
+    conn.createStatement().executeQuery("CREATE CLASS Insertable ");
+    conn.createStatement().executeQuery("CREATE PROPERTY Insertable.id INTEGER");
+    conn.createStatement().executeQuery("ALTER PROPERTY Insertable.id MAX 10");
+
+    PreparedStatement insert = conn.prepareStatement("INSERT INTO Insertable ( id ) VALUES (?)");
+    insert.setInt(1, 1);
+    insert.addBatch();
+    insert.setInt(1, 2);
+    insert.addBatch();
+    insert.setInt(1, 100);
+    insert.addBatch();
+    insert.setInt(1, 3);
+    insert.addBatch();
+
+    try {
+      insert.executeBatch();
+      fail("invalid value should fail the batch");
+    } catch (BatchUpdateException e) {
+      // the items executed before the failing one are rolled back too, so none of them is reported as updated
+      assertThat(e.getUpdateCounts()).containsOnly(Statement.EXECUTE_FAILED).hasSize(4);
+    }
+
+    ResultSet rs = conn.createStatement().executeQuery("SELECT count(*) FROM Insertable");
+    assertThat(rs.next()).isTrue();
+    assertThat(rs.getLong(1)).isEqualTo(0);
+  }
+
   @Test
   public void testInsertRIDReturning() throws Exception {
     conn.createStatement().executeQuery("CREATE CLASS Insertable ");
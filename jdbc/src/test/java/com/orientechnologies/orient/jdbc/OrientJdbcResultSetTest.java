@@ -19,6 +19,7 @@ import org.junit.Test;
 import java.sql.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
 
@@ -28,7 +29,7 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     assertThat(conn.isClosed()).isFalse();
     Statement stmt = conn.createStatement();
     ResultSet rs = stmt.executeQuery("SELECT * FROM Item");
-    assertThat(rs.getFetchSize()).isEqualTo(20);
+    assertThat(rs.getFetchSize()).isEqualTo(OrientJdbcResultSet.DEFAULT_FETCH_SIZE);
 
     assertThat(rs.isBeforeFirst()).isTrue();
 
@@ -55,6 +56,81 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     assertThat(stmt.isClosed()).isTrue();
   }
 
+  @Test
+  public void shouldStreamForwardOnlyResultSetInPages() throws Exception {
+
+    Statement stmt = conn.createStatement();
+    stmt.setFetchSize(3);
+    assertThat(stmt.getFetchSize()).isEqualTo(3);
+
+    ResultSet rs = stmt.executeQuery("SELECT stringKey FROM Item");
+    assertThat(rs.getType()).isEqualTo(ResultSet.TYPE_FORWARD_ONLY);
+    assertThat(rs.getFetchSize()).isEqualTo(3);
+
+    int rows = 0;
+    while (rs.next()) {
+      assertThat(rs.getRow()).isEqualTo(rows);
+      assertThat(rs.getString("stringKey")).isNotNull();
+      rows++;
+    }
+    assertThat(rows).isEqualTo(20);
+    assertThat(rs.isAfterLast()).isTrue();
+
+    try {
+      rs.first();
+      fail("rows of previous pages should be discarded");
+    } catch (SQLException e) {
+      // expected
+    }
+
+    stmt.close();
+    assertThat(rs.isClosed()).isTrue();
+  }
+
+  @Test
+  public void shouldChangeFetchSizeWhileStreaming() throws Exception {
+
+    Statement stmt = conn.createStatement();
+    stmt.setFetchSize(5);
+    ResultSet rs = stmt.executeQuery("SELECT FROM Item");
+
+    assertThat(rs.next()).isTrue();
+    assertThat(rs.first()).isTrue();
+    rs.setFetchSize(7);
+
+    assertThat(rs.absolute(12)).isTrue();
+    assertThat(rs.getRow()).isEqualTo(12);
+    assertThat(rs.isLast()).isFalse();
+
+    assertThat(rs.last()).isTrue();
+    assertThat(rs.getRow()).isEqualTo(19);
+    assertThat(rs.isLast()).isTrue();
+    assertThat(rs.next()).isFalse();
+  }
+
+  @Test
+  public void shouldScrollScrollableResultSet() throws Exception {
+
+    Statement stmt = conn.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+    stmt.setFetchSize(3);
+    ResultSet rs = stmt.executeQuery("SELECT stringKey FROM Item ORDER BY intKey");
+
+    assertThat(rs.last()).isTrue();
+    assertThat(rs.getRow()).isEqualTo(19);
+    final String last = rs.getString("stringKey");
+
+    assertThat(rs.first()).isTrue();
+    final String first = rs.getString("stringKey");
+    assertThat(first).isNotEqualTo(last);
+
+    assertThat(rs.absolute(10)).isTrue();
+    assertThat(rs.previous()).isTrue();
+    assertThat(rs.getRow()).isEqualTo(9);
+
+    assertThat(rs.absolute(19)).isTrue();
+    assertThat(rs.getString("stringKey")).isEqualTo(last);
+  }
+
   @Test
   public void shouldReturnEmptyResultSet() throws Exception {
 
@@ -73,7 +149,7 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     assertThat(stmt.execute("SELECT stringKey, intKey, text, length, date FROM Item")).isTrue();
     ResultSet rs = stmt.getResultSet();
     assertThat(rs).isNotNull();
-    assertThat(rs.getFetchSize()).isEqualTo(20);
+    assertThat(rs.getFetchSize()).isEqualTo(OrientJdbcResultSet.DEFAULT_FETCH_SIZE);
 
     final ResultSetMetaData metaData = rs.getMetaData();
 
@@ -111,7 +187,7 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     ResultSet rs = stmt.getResultSet();
     assertThat(rs).isNotNull();
 
-    assertThat(rs.getFetchSize()).isEqualTo(1);
+    assertThat(rs.getFetchSize()).isEqualTo(OrientJdbcResultSet.DEFAULT_FETCH_SIZE);
 
     rs.getLong("uuid");
     rs.getDate(2);
@@ -132,7 +208,7 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     ResultSet rs = stmt.getResultSet();
     assertThat(rs).isNotNull();
 
-    assertThat(rs.getFetchSize()).isEqualTo(1);
+    assertThat(rs.getFetchSize()).isEqualTo(OrientJdbcResultSet.DEFAULT_FETCH_SIZE);
 
     assertThat(rs.getLong(1)).isEqualTo(1234567);
     assertThat(rs.getLong("uuid")).isEqualTo(1234567);
@@ -149,7 +225,7 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     ResultSet rs = stmt.getResultSet();
     assertThat(rs).isNotNull();
 
-    assertThat(rs.getFetchSize()).isEqualTo(2);
+    assertThat(rs.getFetchSize()).isEqualTo(OrientJdbcResultSet.DEFAULT_FETCH_SIZE);
 
     assertThat(rs.getBoolean(1)).isEqualTo(true);
     assertThat(rs.getBoolean("pub")).isEqualTo(true);
@@ -166,7 +242,7 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     ResultSet rs = stmt.getResultSet();
     assertThat(rs).isNotNull();
 
-    assertThat(rs.getFetchSize()).isEqualTo(1);
+    assertThat(rs.getFetchSize()).isEqualTo(OrientJdbcResultSet.DEFAULT_FETCH_SIZE);
 
     assertThat(rs.getBigDecimal(1).intValue()).isEqualTo(3438);
     assertThat(rs.getBigDecimal("totalScore").intValue()).isEqualTo(3438);
@@ -180,7 +256,7 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     rs = stmt.getResultSet();
     assertThat(rs).isNotNull();
 
-    assertThat(rs.getFetchSize()).isEqualTo(1);
+    assertThat(rs.getFetchSize()).isEqualTo(OrientJdbcResultSet.DEFAULT_FETCH_SIZE);
 
     assertThat(rs.getBigDecimal(1).intValue()).isEqualTo(3438);
     assertThat(rs.getBigDecimal("totalScore").intValue()).isEqualTo(3438);
@@ -197,7 +273,7 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     ResultSet rs = stmt.getResultSet();
     assertThat(rs).isNotNull();
 
-    assertThat(rs.getFetchSize()).isEqualTo(1);
+    assertThat(rs.getFetchSize()).isEqualTo(OrientJdbcResultSet.DEFAULT_FETCH_SIZE);
 
     assertThat(rs.getLong(1)).isEqualTo(20);
     assertThat(rs.getLong("count(*)")).isEqualTo(20);
@@ -212,7 +288,7 @@ public class OrientJdbcResultSetTest extends OrientJdbcDbPerMethodTemplateTest {
     rs = stmt.getResultSet();
     assertThat(rs).isNotNull();
 
-    assertThat(rs.getFetchSize()).isEqualTo(1);
+    assertThat(rs.getFetchSize()).isEqualTo(OrientJdbcResultSet.DEFAULT_FETCH_SIZE);
 
     assertThat(rs.getLong(1)).isEqualTo(20);
     assertThat(rs.getLong("COUNT(*)")).isEqualTo(20);
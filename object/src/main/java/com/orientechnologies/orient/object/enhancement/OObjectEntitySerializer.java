@@ -96,21 +96,22 @@ public class OObjectEntitySerializer {
   public static final String SIMPLE_NAME = OObjectEntitySerializedSchema.class.getSimpleName();
 
   public static class OObjectEntitySerializedSchema {
-    public final Set<Class<?>>                           classes             = new HashSet<Class<?>>();
-    public final HashMap<Class<?>, List<String>>         allFields           = new HashMap<Class<?>, List<String>>();
-    public final HashMap<Class<?>, List<String>>         embeddedFields      = new HashMap<Class<?>, List<String>>();
-    public final HashMap<Class<?>, List<String>>         directAccessFields  = new HashMap<Class<?>, List<String>>();
-    public final HashMap<Class<?>, Field>                boundDocumentFields = new HashMap<Class<?>, Field>();
-    public final HashMap<Class<?>, List<String>>         transientFields     = new HashMap<Class<?>, List<String>>();
-    public final HashMap<Class<?>, List<String>>         cascadeDeleteFields = new HashMap<Class<?>, List<String>>();
-    public final HashMap<Class<?>, List<String>>         fetchLazyFields     = new HashMap<Class<?>, List<String>>();
-    public final HashMap<Class<?>, Map<Field, Class<?>>> serializedFields    = new HashMap<Class<?>, Map<Field, Class<?>>>();
-    public final HashMap<Class<?>, Field>                fieldIds            = new HashMap<Class<?>, Field>();
-    public final HashMap<Class<?>, Field>                fieldVersions       = new HashMap<Class<?>, Field>();
-    public final HashMap<String, List<Method>>           callbacks           = new HashMap<String, List<Method>>();
-    public final HashMap<Class<?>, Field[]>              declaredFields      = new HashMap<Class<?>, Field[]>();
-    public final HashMap<Class<?>, Annotation[]>         declaredAnnotations = new HashMap<Class<?>, Annotation[]>();
-    public final HashMap<Class<?>, Class<?>>             enclosingClasses    = new HashMap<Class<?>, Class<?>>();
+    public final Set<Class<?>>                             classes             = new HashSet<Class<?>>();
+    public final HashMap<Class<?>, List<String>>           allFields           = new HashMap<Class<?>, List<String>>();
+    public final HashMap<Class<?>, List<String>>           embeddedFields      = new HashMap<Class<?>, List<String>>();
+    public final HashMap<Class<?>, List<String>>           directAccessFields  = new HashMap<Class<?>, List<String>>();
+    public final HashMap<Class<?>, Field>                  boundDocumentFields = new HashMap<Class<?>, Field>();
+    public final HashMap<Class<?>, List<String>>           transientFields     = new HashMap<Class<?>, List<String>>();
+    public final HashMap<Class<?>, List<String>>           cascadeDeleteFields = new HashMap<Class<?>, List<String>>();
+    public final HashMap<Class<?>, List<String>>           fetchLazyFields     = new HashMap<Class<?>, List<String>>();
+    public final HashMap<Class<?>, Map<Field, Class<?>>>   serializedFields    = new HashMap<Class<?>, Map<Field, Class<?>>>();
+    public final HashMap<Class<?>, Field>                  fieldIds            = new HashMap<Class<?>, Field>();
+    public final HashMap<Class<?>, Field>                  fieldVersions       = new HashMap<Class<?>, Field>();
+    public final HashMap<String, List<Method>>             callbacks           = new HashMap<String, List<Method>>();
+    public final HashMap<Class<?>, Field[]>                declaredFields      = new HashMap<Class<?>, Field[]>();
+    public final HashMap<Class<?>, OObjectFieldAccessor[]> fieldAccessors      = new HashMap<Class<?>, OObjectFieldAccessor[]>();
+    public final HashMap<Class<?>, Annotation[]>           declaredAnnotations = new HashMap<Class<?>, Annotation[]>();
+    public final HashMap<Class<?>, Class<?>>               enclosingClasses    = new HashMap<Class<?>, Class<?>>();
   }
 
   protected static OObjectEntitySerializedSchema getCurrentSerializedSchema() {
@@ -626,6 +627,7 @@ public class OObjectEntitySerializer {
 
         }
 
+        getFieldAccessors(currentClass);
         registerCallbacks(currentClass);
 
       }
@@ -969,18 +971,12 @@ public class OObjectEntitySerializer {
   }
 
   public static Object getFieldValue(Field iField, Object iInstance) throws IllegalArgumentException, IllegalAccessException {
-    if (!iField.isAccessible()) {
-      iField.setAccessible(true);
-    }
-    return iField.get(iInstance);
+    return OObjectFieldAccessor.of(iField).get(iInstance);
   }
 
   public static void setFieldValue(Field iField, Object iInstance, Object iValue)
       throws IllegalArgumentException, IllegalAccessException {
-    if (!iField.isAccessible()) {
-      iField.setAccessible(true);
-    }
-    iField.set(iInstance, iValue);
+    OObjectFieldAccessor.of(iField).set(iInstance, iValue);
   }
 
   public static void invokeBeforeSerializationCallbacks(Class<?> iClass, Object iInstance, ODocument iDocument) {
@@ -1184,7 +1180,10 @@ public class OObjectEntitySerializer {
 
     OObjectEntitySerializedSchema serializedSchema = getCurrentSerializedSchema();
     while (!currentClass.equals(Object.class) && serializedSchema.classes.contains(pojoClass)) {
-      for (Field p : getDeclaredFields(currentClass)) {
+      final Field[] declaredFields = getDeclaredFields(currentClass);
+      final OObjectFieldAccessor[] fieldAccessors = getFieldAccessors(currentClass);
+      for (int i = 0; i < declaredFields.length; i++) {
+        final Field p = declaredFields[i];
         if (Modifier.isStatic(p.getModifiers()) || Modifier.isNative(p.getModifiers()) || Modifier.isTransient(p.getModifiers())
             || p.getType().isAnonymousClass())
           continue;
@@ -1197,7 +1196,7 @@ public class OObjectEntitySerializer {
             || (classTransientFields != null && classTransientFields.contains(fieldName))))
           continue;
 
-        fieldValue = getFieldValue(p, iPojo);
+        fieldValue = fieldAccessors[i].get(iPojo);
         if (fieldValue != null && fieldValue.getClass().isAnonymousClass())
           continue;
 
@@ -1431,6 +1430,26 @@ public class OObjectEntitySerializer {
     return fields;
   }
 
+  /**
+   * Retrieves and returns the accessors of all declared {@link Field}s from the given class.
+   *
+   * @param clazz
+   *          The class type.
+   * @return Accessors in the same order as the fields returned by {@link #getDeclaredFields(Class)}.
+   */
+  public static OObjectFieldAccessor[] getFieldAccessors(Class<?> clazz) {
+    final OObjectEntitySerializedSchema serializedSchema = getCurrentSerializedSchema();
+    OObjectFieldAccessor[] accessors = serializedSchema.fieldAccessors.get(clazz);
+    if (accessors == null) {
+      final Field[] fields = getDeclaredFields(clazz);
+      accessors = new OObjectFieldAccessor[fields.length];
+      for (int i = 0; i < fields.length; i++)
+        accessors[i] = OObjectFieldAccessor.of(fields[i]);
+      serializedSchema.fieldAccessors.put(clazz, accessors);
+    }
+    return accessors;
+  }
+
   /**
    * Retrieves and returns all declared {@link Field}s from the given class.
    *
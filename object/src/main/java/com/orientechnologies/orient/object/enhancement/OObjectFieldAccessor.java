@@ -0,0 +1,214 @@
+/*
+ *
+ * Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.orientechnologies.orient.object.enhancement;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OSerializationException;
+
+/**
+ * Reads and writes a field or a bean property of POJOs through {@link MethodHandle}s resolved once, instead of looking up and
+ * calling {@link Field} and {@link Method} reflectively on every access. Handles are adapted to the <code>(Object)Object</code> and
+ * <code>(Object,Object)void</code> types and invoked exactly, so every access is a direct call the JIT can inline.
+ * <p>
+ * Field accessors are cached per declaring class and are created when the class is registered, see
+ * {@link OObjectEntitySerializer#getFieldAccessors(Class)}.
+ *
+ * @since 19.10.26
+ */
+public final class OObjectFieldAccessor {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<ConcurrentMap<String, OObjectFieldAccessor>> FIELD_ACCESSORS = new ClassValue<ConcurrentMap<String, OObjectFieldAccessor>>() {
+    @Override
+    protected ConcurrentMap<String, OObjectFieldAccessor> computeValue(final Class<?> type) {
+      return new ConcurrentHashMap<String, OObjectFieldAccessor>();
+    }
+  };
+
+  private final String       name;
+  private final Class<?>     type;
+  private final boolean      method;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+
+  private OObjectFieldAccessor(final String name, final Class<?> type, final boolean method, final MethodHandle getter,
+      final MethodHandle setter) {
+    this.name = name;
+    this.type = type;
+    this.method = method;
+    this.getter = getter;
+    this.setter = setter;
+  }
+
+  /**
+   * @return the cached accessor of the field, created on first request
+   */
+  public static OObjectFieldAccessor of(final Field iField) {
+    final ConcurrentMap<String, OObjectFieldAccessor> accessors = FIELD_ACCESSORS.get(iField.getDeclaringClass());
+    OObjectFieldAccessor accessor = accessors.get(iField.getName());
+    if (accessor == null) {
+      accessor = create(iField);
+      final OObjectFieldAccessor previous = accessors.putIfAbsent(iField.getName(), accessor);
+      if (previous != null)
+        accessor = previous;
+    }
+    return accessor;
+  }
+
+  /**
+   * @return accessor which reads the property by calling the getter method
+   */
+  public static OObjectFieldAccessor ofGetter(final Method iGetter) {
+    return new OObjectFieldAccessor(iGetter.getName(), iGetter.getReturnType(), true, unreflect(iGetter).asType(GETTER_TYPE), null);
+  }
+
+  /**
+   * @return accessor which writes the property by calling the setter method
+   */
+  public static OObjectFieldAccessor ofSetter(final Method iSetter) {
+    return new OObjectFieldAccessor(iSetter.getName(), iSetter.getParameterTypes()[0], true, null,
+        unreflect(iSetter).asType(SETTER_TYPE));
+  }
+
+  private static OObjectFieldAccessor create(final Field iField) {
+    if (!iField.isAccessible())
+      iField.setAccessible(true);
+
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodHandle getter;
+    MethodHandle setter;
+    try {
+      getter = lookup.unreflectGetter(iField);
+    } catch (IllegalAccessException e) {
+      throw OException.wrapException(new OSerializationException("Cannot access field " + iField), e);
+    }
+    final int modifiers = iField.getModifiers();
+    if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers))
+      // NEVER WRITABLE, AS BY Field.set()
+      setter = null;
+    else
+      try {
+        setter = lookup.unreflectSetter(iField);
+      } catch (IllegalAccessException e) {
+        throw OException.wrapException(new OSerializationException("Cannot access field " + iField), e);
+      }
+
+    if (Modifier.isStatic(modifiers)) {
+      // THE INSTANCE IS IGNORED, AS BY Field.get()/Field.set()
+      getter = MethodHandles.dropArguments(getter, 0, Object.class);
+      if (setter != null)
+        setter = MethodHandles.dropArguments(setter, 0, Object.class);
+    }
+
+    return new OObjectFieldAccessor(iField.getName(), iField.getType(), false, getter.asType(GETTER_TYPE),
+        setter != null ? setter.asType(SETTER_TYPE) : null);
+  }
+
+  private static MethodHandle unreflect(final Method iMethod) {
+    if (!iMethod.isAccessible())
+      iMethod.setAccessible(true);
+
+    try {
+      return MethodHandles.lookup().unreflect(iMethod);
+    } catch (IllegalAccessException e) {
+      throw OException.wrapException(new OSerializationException("Cannot access method " + iMethod), e);
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return type of the field, or of the property for accessors of getter and setter methods
+   */
+  public Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * @return true if the property is accessed through a getter or setter method
+   */
+  public boolean isMethod() {
+    return method;
+  }
+
+  public Object get(final Object iInstance) {
+    if (getter == null)
+      throw new UnsupportedOperationException("Property '" + name + "' cannot be read by this accessor");
+
+    try {
+      return (Object) getter.invokeExact(iInstance);
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException("Cannot read '" + name + "' from an instance of " + instanceType(iInstance), e);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw OException.wrapException(new OSerializationException("Cannot read '" + name + "' from an instance of " + instanceType(
+          iInstance)), t);
+    }
+  }
+
+  /**
+   * Writes the value, primitive fields accept wrappers of the same or of a narrower type, as {@link Field#set(Object, Object)}
+   * does.
+   *
+   * @throws IllegalAccessException if the field is static and final
+   */
+  public void set(final Object iInstance, final Object iValue) throws IllegalAccessException {
+    if (setter == null) {
+      if (method)
+        throw new UnsupportedOperationException("Property '" + name + "' cannot be written by this accessor");
+      throw new IllegalAccessException("Cannot set static final field '" + name + "'");
+    }
+
+    try {
+      setter.invokeExact(iInstance, iValue);
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException(
+          "Cannot set '" + name + "' of type " + type.getName() + " to " + (iValue != null ? iValue.getClass().getName() : null)
+              + " in an instance of " + instanceType(iInstance), e);
+    } catch (NullPointerException e) {
+      if (iInstance == null || iValue != null || !type.isPrimitive())
+        throw e;
+      throw new IllegalArgumentException("Cannot set primitive '" + name + "' of type " + type.getName() + " to null", e);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw OException.wrapException(new OSerializationException("Cannot write '" + name + "' to an instance of " + instanceType(
+          iInstance)), t);
+    }
+  }
+
+  private static String instanceType(final Object iInstance) {
+    return iInstance != null ? iInstance.getClass().getName() : null;
+  }
+}
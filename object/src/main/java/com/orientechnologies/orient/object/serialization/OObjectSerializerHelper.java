@@ -45,6 +45,7 @@ import com.orientechnologies.orient.core.tx.OTransactionOptimistic;
 import com.orientechnologies.orient.object.db.OObjectLazyList;
 import com.orientechnologies.orient.object.db.OObjectLazyMap;
 import com.orientechnologies.orient.object.db.OObjectNotDetachedException;
+import com.orientechnologies.orient.object.enhancement.OObjectFieldAccessor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
@@ -60,34 +61,34 @@ import java.util.Map.Entry;
  * @author Jacques Desodt
  */
 public class OObjectSerializerHelper {
-  public static final Class<?>[]                            callbackAnnotationClasses = new Class[] { OBeforeDeserialization.class,
+  public static final Class<?>[]                             callbackAnnotationClasses = new Class[] { OBeforeDeserialization.class,
       OAfterDeserialization.class, OBeforeSerialization.class, OAfterSerialization.class };
-  private static final Class<?>[]                           NO_ARGS                   = new Class<?>[] {};
-  private static final HashMap<String, List<Field>>         classes                   = new HashMap<String, List<Field>>();
-  private static final HashMap<String, Method>              callbacks                 = new HashMap<String, Method>();
-  private static final HashMap<String, Object>              getters                   = new HashMap<String, Object>();
-  private static final HashMap<String, Object>              setters                   = new HashMap<String, Object>();
-  private static final HashMap<Class<?>, Field>             boundDocumentFields       = new HashMap<Class<?>, Field>();
-  private static final HashMap<Class<?>, Field>             fieldIds                  = new HashMap<Class<?>, Field>();
-  private static final HashMap<Class<?>, Field>             fieldVersions             = new HashMap<Class<?>, Field>();
-  private static final HashMap<Class<?>, List<String>>      embeddedFields            = new HashMap<Class<?>, List<String>>();
-  public static HashMap<Class<?>, OObjectSerializerContext> serializerContexts        = new LinkedHashMap<Class<?>, OObjectSerializerContext>();
+  private static final Class<?>[]                            NO_ARGS                   = new Class<?>[] {};
+  private static final HashMap<String, List<Field>>          classes                   = new HashMap<String, List<Field>>();
+  private static final HashMap<String, Method>               callbacks                 = new HashMap<String, Method>();
+  private static final HashMap<String, OObjectFieldAccessor> getters                   = new HashMap<String, OObjectFieldAccessor>();
+  private static final HashMap<String, OObjectFieldAccessor> setters                   = new HashMap<String, OObjectFieldAccessor>();
+  private static final HashMap<Class<?>, Field>              boundDocumentFields       = new HashMap<Class<?>, Field>();
+  private static final HashMap<Class<?>, Field>              fieldIds                  = new HashMap<Class<?>, Field>();
+  private static final HashMap<Class<?>, Field>              fieldVersions             = new HashMap<Class<?>, Field>();
+  private static final HashMap<Class<?>, List<String>>       embeddedFields            = new HashMap<Class<?>, List<String>>();
+  public static HashMap<Class<?>, OObjectSerializerContext>  serializerContexts        = new LinkedHashMap<Class<?>, OObjectSerializerContext>();
   @SuppressWarnings("rawtypes")
-  public static Class                                       jpaIdClass;
+  public static Class                                        jpaIdClass;
   @SuppressWarnings("rawtypes")
-  public static Class                                       jpaVersionClass;
+  public static Class                                        jpaVersionClass;
   @SuppressWarnings("rawtypes")
-  public static Class                                       jpaAccessClass;
+  public static Class                                        jpaAccessClass;
   @SuppressWarnings("rawtypes")
-  public static Class                                       jpaEmbeddedClass;
+  public static Class                                        jpaEmbeddedClass;
   @SuppressWarnings("rawtypes")
-  public static Class                                       jpaTransientClass;
+  public static Class                                        jpaTransientClass;
   @SuppressWarnings("rawtypes")
-  public static Class                                       jpaOneToOneClass;
+  public static Class                                        jpaOneToOneClass;
   @SuppressWarnings("rawtypes")
-  public static Class                                       jpaOneToManyClass;
+  public static Class                                        jpaOneToManyClass;
   @SuppressWarnings("rawtypes")
-  public static Class                                       jpaManyToManyClass;
+  public static Class                                        jpaManyToManyClass;
 
   static {
     try {
@@ -129,14 +130,12 @@ public class OObjectSerializerHelper {
     getClassFields(c);
 
     try {
-      final Object o = getters.get(className + "." + iProperty);
+      final OObjectFieldAccessor o = getters.get(className + "." + iProperty);
 
       if (o == null)
         return null;
-      else if (o instanceof Field)
-        return ((Field) o).getType();
       else
-        return ((Method) o).getReturnType();
+        return o.getType();
     } catch (Exception e) {
       throw OException.wrapException(new OSchemaException("Cannot get the value of the property: " + iProperty), e);
     }
@@ -160,12 +159,10 @@ public class OObjectSerializerHelper {
     getClassFields(c);
 
     try {
-      Object o = getters.get(className + "." + iProperty);
+      final OObjectFieldAccessor o = getters.get(className + "." + iProperty);
 
-      if (o instanceof Method)
-        return ((Method) o).invoke(iPojo);
-      else if (o instanceof Field)
-        return ((Field) o).get(iPojo);
+      if (o != null)
+        return o.get(iPojo);
       return null;
     } catch (Exception e) {
       throw OException.wrapException(new OSchemaException("Cannot get the value of the property: " + iProperty), e);
@@ -179,13 +176,13 @@ public class OObjectSerializerHelper {
     getClassFields(c);
 
     try {
-      Object o = setters.get(className + "." + iProperty);
+      final OObjectFieldAccessor o = setters.get(className + "." + iProperty);
 
-      if (o instanceof Method) {
-        ((Method) o).invoke(iPojo,
-            OObjectSerializerHelper.convertInObject(iPojo, iProperty, iValue, ((Method) o).getParameterTypes()[0]));
-      } else if (o instanceof Field) {
-        ((Field) o).set(iPojo, OType.convert(iValue, ((Field) o).getType()));
+      if (o != null) {
+        if (o.isMethod())
+          o.set(iPojo, OObjectSerializerHelper.convertInObject(iPojo, iProperty, iValue, o.getType()));
+        else
+          o.set(iPojo, OType.convert(iValue, o.getType()));
       }
 
     } catch (Exception e) {
@@ -792,7 +789,7 @@ public class OObjectSerializerHelper {
           try {
             String getterName = "get" + OUtils.camelCase(fieldName);
             Method m = currentClass.getMethod(getterName, NO_ARGS);
-            getters.put(iClass.getName() + "." + fieldName, m);
+            getters.put(iClass.getName() + "." + fieldName, OObjectFieldAccessor.ofGetter(m));
           } catch (Exception e) {
             registerFieldGetter(iClass, fieldName, f);
           }
@@ -804,7 +801,7 @@ public class OObjectSerializerHelper {
           try {
             String getterName = "set" + OUtils.camelCase(fieldName);
             Method m = currentClass.getMethod(getterName, f.getType());
-            setters.put(iClass.getName() + "." + fieldName, m);
+            setters.put(iClass.getName() + "." + fieldName, OObjectFieldAccessor.ofSetter(m));
           } catch (Exception e) {
             registerFieldSetter(iClass, fieldName, f);
           }
@@ -838,18 +835,12 @@ public class OObjectSerializerHelper {
 
   private static void registerFieldSetter(final Class<?> iClass, String fieldName, Field f) {
     // TRY TO GET THE VALUE BY ACCESSING DIRECTLY TO THE PROPERTY
-    if (!f.isAccessible())
-      f.setAccessible(true);
-
-    setters.put(iClass.getName() + "." + fieldName, f);
+    setters.put(iClass.getName() + "." + fieldName, OObjectFieldAccessor.of(f));
   }
 
   private static void registerFieldGetter(final Class<?> iClass, String fieldName, Field f) {
     // TRY TO GET THE VALUE BY ACCESSING DIRECTLY TO THE PROPERTY
-    if (!f.isAccessible())
-      f.setAccessible(true);
-
-    getters.put(iClass.getName() + "." + fieldName, f);
+    getters.put(iClass.getName() + "." + fieldName, OObjectFieldAccessor.of(f));
   }
 
   private static boolean isEmbeddedObject(final Class<?> iPojoClass, final Class<?> iFieldClass, final String iFieldName,
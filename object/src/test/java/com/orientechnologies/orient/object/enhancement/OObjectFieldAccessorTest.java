@@ -0,0 +1,87 @@
+package com.orientechnologies.orient.object.enhancement;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class OObjectFieldAccessorTest {
+
+  @SuppressWarnings("unused")
+  private static class Bean {
+    private static       String shared;
+    private static final String CONSTANT = "constant";
+
+    private String name;
+    private long   counter;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  @Test
+  public void testPrivateField() throws Exception {
+    OObjectFieldAccessor accessor = OObjectFieldAccessor.of(Bean.class.getDeclaredField("name"));
+    assertSame(accessor, OObjectFieldAccessor.of(Bean.class.getDeclaredField("name")));
+    assertEquals(String.class, accessor.getType());
+    assertFalse(accessor.isMethod());
+
+    Bean bean = new Bean();
+    accessor.set(bean, "foo");
+    assertEquals("foo", bean.name);
+    assertEquals("foo", accessor.get(bean));
+  }
+
+  @Test
+  public void testPrimitiveWidening() throws Exception {
+    OObjectFieldAccessor accessor = OObjectFieldAccessor.of(Bean.class.getDeclaredField("counter"));
+
+    Bean bean = new Bean();
+    accessor.set(bean, 10);
+    assertEquals(10L, bean.counter);
+    assertEquals(10L, accessor.get(bean));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullToPrimitive() throws Exception {
+    OObjectFieldAccessor.of(Bean.class.getDeclaredField("counter")).set(new Bean(), null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongValueType() throws Exception {
+    OObjectFieldAccessor.of(Bean.class.getDeclaredField("name")).set(new Bean(), 10);
+  }
+
+  @Test
+  public void testStaticField() throws Exception {
+    OObjectFieldAccessor accessor = OObjectFieldAccessor.of(Bean.class.getDeclaredField("shared"));
+    accessor.set(null, "bar");
+    assertEquals("bar", Bean.shared);
+    assertEquals("bar", accessor.get(new Bean()));
+
+    OObjectFieldAccessor constant = OObjectFieldAccessor.of(Bean.class.getDeclaredField("CONSTANT"));
+    assertEquals("constant", constant.get(null));
+    try {
+      constant.set(null, "other");
+      fail();
+    } catch (IllegalAccessException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testMethods() throws Exception {
+    OObjectFieldAccessor getter = OObjectFieldAccessor.ofGetter(Bean.class.getMethod("getName"));
+    OObjectFieldAccessor setter = OObjectFieldAccessor.ofSetter(Bean.class.getMethod("setName", String.class));
+    assertTrue(getter.isMethod());
+    assertEquals(String.class, setter.getType());
+
+    Bean bean = new Bean();
+    setter.set(bean, "baz");
+    assertEquals("baz", getter.get(bean));
+  }
+}